@@ -0,0 +1,126 @@
+package com.bbthechange.inviter.benchmark;
+
+import com.bbthechange.inviter.model.BaseItem;
+import com.bbthechange.inviter.model.HangoutPointer;
+import com.bbthechange.inviter.model.InterestLevel;
+import com.bbthechange.inviter.model.MomentumCategory;
+import com.bbthechange.inviter.model.Poll;
+import com.bbthechange.inviter.model.PollOption;
+import com.bbthechange.inviter.model.SeriesPointer;
+import com.bbthechange.inviter.model.Vote;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Synthetic group feed data for benchmarks.
+ *
+ * Produces a deterministic mix (fixed seed) of standalone hangouts, floating ideas without a
+ * time, and series with denormalized parts, each carrying polls, votes and interest levels
+ * roughly in the proportions seen in real groups.
+ */
+public final class FeedFixtures {
+
+    public static final String GROUP_ID = "00000000-0000-0000-0000-00000000feed";
+    public static final String REQUESTING_USER_ID = "00000000-0000-0000-0000-000000000001";
+
+    private static final int MEMBERS = 12;
+    private static final int PARTS_PER_SERIES = 3;
+    private static final long DAY_SECONDS = 24 * 3600L;
+
+    private FeedFixtures() {
+    }
+
+    /**
+     * Build a group feed page of {@code size} pointers: roughly one series per ten items,
+     * one in five hangouts floating (no start time), the rest spread over the next ten weeks.
+     */
+    public static List<BaseItem> groupFeed(int size, long nowSeconds) {
+        Random random = new Random(size);
+        List<BaseItem> items = new ArrayList<>(size);
+
+        int seriesCount = Math.max(1, size / 10);
+        for (int i = 0; i < seriesCount; i++) {
+            items.add(series(random, i, nowSeconds));
+        }
+        for (int i = items.size(); i < size; i++) {
+            boolean floating = random.nextInt(5) == 0;
+            Long start = floating ? null : nowSeconds + random.nextInt(70) * DAY_SECONDS + random.nextInt(86_400);
+            items.add(hangout(random, "Hangout " + i, start));
+        }
+        return items;
+    }
+
+    public static HangoutPointer hangout(Random random, String title, Long startTimestamp) {
+        String hangoutId = uuid(random);
+        HangoutPointer pointer = new HangoutPointer(GROUP_ID, hangoutId, title);
+        pointer.setStartTimestamp(startTimestamp);
+        if (startTimestamp != null) {
+            pointer.setEndTimestamp(startTimestamp + 3 * 3600L);
+        }
+        pointer.setMomentumCategory(MomentumCategory.values()[random.nextInt(MomentumCategory.values().length)]);
+        pointer.setMomentumScore(random.nextInt(100));
+        pointer.setSuggestedBy(member(random.nextInt(MEMBERS)));
+        pointer.setParticipantCount(random.nextInt(MEMBERS));
+
+        List<Poll> polls = new ArrayList<>();
+        List<PollOption> options = new ArrayList<>();
+        List<Vote> votes = new ArrayList<>();
+        int pollCount = random.nextInt(3);
+        for (int p = 0; p < pollCount; p++) {
+            Poll poll = new Poll(hangoutId, "Poll " + p, null, random.nextBoolean());
+            polls.add(poll);
+            for (int o = 0; o < 4; o++) {
+                PollOption option = new PollOption(hangoutId, poll.getPollId(), "Option " + o);
+                options.add(option);
+                for (int m = 0; m < MEMBERS; m++) {
+                    if (random.nextInt(4) == 0) {
+                        votes.add(new Vote(hangoutId, poll.getPollId(), option.getOptionId(), member(m), "YES"));
+                    }
+                }
+            }
+        }
+        pointer.setPolls(polls);
+        pointer.setPollOptions(options);
+        pointer.setVotes(votes);
+
+        List<InterestLevel> interest = new ArrayList<>();
+        for (int m = 0; m < MEMBERS; m++) {
+            if (random.nextInt(3) == 0) {
+                interest.add(new InterestLevel(hangoutId, member(m), "Member " + m,
+                        random.nextBoolean() ? "GOING" : "INTERESTED"));
+            }
+        }
+        pointer.setInterestLevels(interest);
+        return pointer;
+    }
+
+    private static SeriesPointer series(Random random, int index, long nowSeconds) {
+        SeriesPointer series = new SeriesPointer(GROUP_ID, uuid(random), "Series " + index);
+        List<HangoutPointer> parts = new ArrayList<>();
+        List<String> hangoutIds = new ArrayList<>();
+        long start = nowSeconds + random.nextInt(60) * DAY_SECONDS;
+        for (int p = 0; p < PARTS_PER_SERIES; p++) {
+            HangoutPointer part = hangout(random, "Series " + index + " part " + p, start + p * DAY_SECONDS);
+            part.setSeriesId(series.getSeriesId());
+            parts.add(part);
+            hangoutIds.add(part.getHangoutId());
+        }
+        series.setParts(parts);
+        series.setHangoutIds(hangoutIds);
+        series.setPrimaryEventId(hangoutIds.get(0));
+        series.setStartTimestamp(start);
+        series.setEndTimestamp(start + PARTS_PER_SERIES * DAY_SECONDS);
+        return series;
+    }
+
+    private static String member(int index) {
+        return String.format("00000000-0000-0000-0000-%012d", index + 1);
+    }
+
+    private static String uuid(Random random) {
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+}
@@ -0,0 +1,71 @@
+package com.bbthechange.inviter.benchmark;
+
+import com.bbthechange.inviter.model.BaseItem;
+import com.bbthechange.inviter.model.HangoutPointer;
+import com.bbthechange.inviter.model.SeriesPointer;
+import com.bbthechange.inviter.util.HangoutDataTransformer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the per-hangout transforms applied to every pointer (including series parts)
+ * in a group feed: poll nesting with vote counting and the attendance compatibility rewrite.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HangoutDataTransformerBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int pointers;
+
+    private List<HangoutPointer> hangouts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        hangouts = new ArrayList<>();
+        for (BaseItem item : FeedFixtures.groupFeed(pointers, Instant.now().getEpochSecond())) {
+            if (item instanceof HangoutPointer hangout) {
+                hangouts.add(hangout);
+            } else if (item instanceof SeriesPointer series) {
+                hangouts.addAll(series.getParts());
+            }
+        }
+    }
+
+    @Benchmark
+    public void transformPollData(Blackhole blackhole) {
+        for (HangoutPointer hangout : hangouts) {
+            blackhole.consume(HangoutDataTransformer.transformPollData(
+                    hangout.getPolls(), hangout.getPollOptions(), hangout.getVotes(),
+                    FeedFixtures.REQUESTING_USER_ID, true));
+        }
+    }
+
+    @Benchmark
+    public void transformAttendance(Blackhole blackhole) {
+        for (HangoutPointer hangout : hangouts) {
+            blackhole.consume(HangoutDataTransformer.transformAttendanceForBackwardCompatibility(
+                    hangout.getInterestLevels(), true));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.bbthechange.inviter.benchmark;
+
+import com.bbthechange.inviter.dto.PollOptionDTO;
+import com.bbthechange.inviter.dto.PollWithOptionsDTO;
+import com.bbthechange.inviter.dto.VoteDTO;
+import com.bbthechange.inviter.model.Poll;
+import com.bbthechange.inviter.model.PollOption;
+import com.bbthechange.inviter.model.Vote;
+import com.bbthechange.inviter.util.HangoutDataTransformer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Poll rendering for hangouts with large polls: the single-pass tally behind
+ * {@link HangoutDataTransformer#transformPollData} with and without embedded votes, against
+ * the previous nested groupingBy implementation kept here as a baseline.
+ *
+ * Run with {@code ./gradlew jmh -Pjmh.include=PollTallyBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PollTallyBenchmark {
+
+    private static final String HANGOUT_ID = "00000000-0000-0000-0000-0000000000aa";
+    private static final int POLLS = 3;
+    private static final int OPTIONS_PER_POLL = 12;
+
+    @Param({"1000", "5000", "20000"})
+    public int votes;
+
+    private List<Poll> polls;
+    private List<PollOption> options;
+    private List<Vote> allVotes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(votes);
+        polls = new ArrayList<>();
+        options = new ArrayList<>();
+        for (int p = 0; p < POLLS; p++) {
+            Poll poll = new Poll(HANGOUT_ID, "Poll " + p, null, true);
+            polls.add(poll);
+            for (int o = 0; o < OPTIONS_PER_POLL; o++) {
+                options.add(new PollOption(HANGOUT_ID, poll.getPollId(), "Option " + o));
+            }
+        }
+        allVotes = new ArrayList<>(votes);
+        for (int v = 0; v < votes; v++) {
+            PollOption option = options.get(random.nextInt(options.size()));
+            String userId = v % 97 == 0
+                    ? FeedFixtures.REQUESTING_USER_ID
+                    : String.format("00000000-0000-0000-0001-%012d", v);
+            allVotes.add(new Vote(HANGOUT_ID, option.getPollId(), option.getOptionId(), userId, "YES"));
+        }
+    }
+
+    @Benchmark
+    public List<PollWithOptionsDTO> tallyWithEmbeddedVotes() {
+        return HangoutDataTransformer.transformPollData(polls, options, allVotes,
+                FeedFixtures.REQUESTING_USER_ID, true);
+    }
+
+    @Benchmark
+    public List<PollWithOptionsDTO> tallyCountsOnly() {
+        return HangoutDataTransformer.transformPollData(polls, options, allVotes,
+                FeedFixtures.REQUESTING_USER_ID, false);
+    }
+
+    @Benchmark
+    public List<PollWithOptionsDTO> groupingByWithEmbeddedVotes() {
+        return groupingBy(polls, options, allVotes, FeedFixtures.REQUESTING_USER_ID, true);
+    }
+
+    @Benchmark
+    public List<PollWithOptionsDTO> groupingByCountsOnly() {
+        return groupingBy(polls, options, allVotes, FeedFixtures.REQUESTING_USER_ID, false);
+    }
+
+    /**
+     * The transform as it was before the tally: options and votes grouped per poll, votes
+     * regrouped per option, and a stream per option for the user's own vote.
+     */
+    private static List<PollWithOptionsDTO> groupingBy(List<Poll> polls, List<PollOption> allOptions,
+                                                       List<Vote> allVotes, String requestingUserId,
+                                                       boolean includeEmbeddedVotes) {
+        Map<String, List<PollOption>> optionsByPoll = allOptions.stream()
+                .collect(Collectors.groupingBy(PollOption::getPollId));
+        Map<String, List<Vote>> votesByPoll = allVotes.stream()
+                .collect(Collectors.groupingBy(Vote::getPollId));
+
+        return polls.stream()
+                .map(poll -> {
+                    List<PollOption> pollOptions = optionsByPoll.getOrDefault(poll.getPollId(), List.of());
+                    List<Vote> pollVotes = votesByPoll.getOrDefault(poll.getPollId(), List.of());
+                    Map<String, List<Vote>> votesByOption = pollVotes.stream()
+                            .collect(Collectors.groupingBy(Vote::getOptionId));
+
+                    List<PollOptionDTO> optionDTOs = pollOptions.stream()
+                            .map(option -> {
+                                List<Vote> optionVotes = votesByOption.getOrDefault(option.getOptionId(), List.of());
+                                boolean userVoted = optionVotes.stream()
+                                        .anyMatch(vote -> vote.getUserId().equals(requestingUserId));
+                                PollOptionDTO optionDTO = new PollOptionDTO(option.getOptionId(), option.getText(),
+                                        optionVotes.size(), userVoted,
+                                        option.getCreatedBy(), option.getStructuredValue());
+                                if (includeEmbeddedVotes) {
+                                    optionDTO.setVotes(optionVotes.stream()
+                                            .map(VoteDTO::new)
+                                            .collect(Collectors.toList()));
+                                }
+                                optionDTO.setTimeInput(option.getTimeInput());
+                                return optionDTO;
+                            })
+                            .collect(Collectors.toList());
+
+                    return new PollWithOptionsDTO(poll, optionDTOs, pollVotes.size());
+                })
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,160 @@
+package com.bbthechange.inviter.benchmark;
+
+import com.bbthechange.inviter.util.InviterKeyFactory;
+import com.bbthechange.inviter.util.SortKeyCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Cost of sorting a hangout partition's items by sort key, as the detail loader does for every
+ * item it reads: the previous chain of {@code startsWith}/{@code contains} checks against one
+ * {@link SortKeyCodec} decode. Also compares UUID validation by regex with the hand-rolled check
+ * now behind every {@link InviterKeyFactory} key builder.
+ *
+ * Run with {@code ./gradlew jmh -Pjmh.include=SortKeyCodecBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SortKeyCodecBenchmark {
+
+    // The chained checks the detail loader ran before the codec, kept here as the baseline
+    private static final Pattern UUID_PATTERN = Pattern.compile(
+            "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}", Pattern.CASE_INSENSITIVE);
+
+    @Param({"2000"})
+    public int items;
+
+    private List<String> sortKeys;
+    private List<String[]> voteIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        sortKeys = new ArrayList<>(items);
+        voteIds = new ArrayList<>();
+        sortKeys.add(InviterKeyFactory.getMetadataSk());
+
+        // A busy hangout: a few polls with many votes, attendance, carpool and tickets
+        List<String> pollIds = new ArrayList<>();
+        List<String> optionIds = new ArrayList<>();
+        for (int p = 0; p < 8; p++) {
+            String pollId = uuid(random);
+            pollIds.add(pollId);
+            sortKeys.add(InviterKeyFactory.getPollSk(pollId));
+            for (int o = 0; o < 5; o++) {
+                String optionId = uuid(random);
+                optionIds.add(optionId);
+                sortKeys.add(InviterKeyFactory.getPollOptionSk(pollId, optionId));
+            }
+        }
+        List<String> driverIds = new ArrayList<>();
+        while (sortKeys.size() < items) {
+            int kind = random.nextInt(20);
+            if (kind < 10) {
+                String[] ids = {pollIds.get(random.nextInt(pollIds.size())), uuid(random),
+                        optionIds.get(random.nextInt(optionIds.size()))};
+                voteIds.add(ids);
+                sortKeys.add(InviterKeyFactory.getVoteSk(ids[0], ids[1], ids[2]));
+            } else if (kind < 15) {
+                sortKeys.add(InviterKeyFactory.getAttendanceSk(uuid(random)));
+            } else if (kind < 16) {
+                String driverId = uuid(random);
+                driverIds.add(driverId);
+                sortKeys.add(InviterKeyFactory.getCarSk(driverId));
+            } else if (kind < 18 && !driverIds.isEmpty()) {
+                sortKeys.add(InviterKeyFactory.getCarRiderSk(driverIds.get(random.nextInt(driverIds.size())), uuid(random)));
+            } else if (kind < 19) {
+                sortKeys.add(InviterKeyFactory.getParticipationSk(uuid(random)));
+            } else {
+                sortKeys.add(InviterKeyFactory.getReservationOfferSk(uuid(random)));
+            }
+        }
+        // Query results come back in sort key order
+        Collections.sort(sortKeys);
+    }
+
+    @Benchmark
+    public void chainedClassification(Blackhole blackhole) {
+        for (String sk : sortKeys) {
+            blackhole.consume(chainedType(sk));
+        }
+    }
+
+    @Benchmark
+    public void codecClassification(Blackhole blackhole) {
+        for (String sk : sortKeys) {
+            blackhole.consume(SortKeyCodec.typeOf(sk));
+        }
+    }
+
+    @Benchmark
+    public void regexVoteKeys(Blackhole blackhole) {
+        for (String[] ids : voteIds) {
+            for (String id : ids) {
+                if (!UUID_PATTERN.matcher(id).matches()) {
+                    throw new IllegalStateException(id);
+                }
+            }
+            blackhole.consume(String.join("#", "POLL", ids[0], "VOTE", ids[1], "OPTION", ids[2]));
+        }
+    }
+
+    @Benchmark
+    public void factoryVoteKeys(Blackhole blackhole) {
+        for (String[] ids : voteIds) {
+            blackhole.consume(InviterKeyFactory.getVoteSk(ids[0], ids[1], ids[2]));
+        }
+    }
+
+    private static SortKeyCodec.Type chainedType(String sk) {
+        if (sk.startsWith("POLL#") && !sk.contains("#OPTION#") && !sk.contains("#VOTE#")) {
+            return SortKeyCodec.Type.POLL;
+        } else if (sk.contains("#OPTION#") && !sk.contains("#VOTE#")) {
+            return SortKeyCodec.Type.POLL_OPTION;
+        } else if (sk.startsWith("CAR#") && !sk.contains("#RIDER#")) {
+            return SortKeyCodec.Type.CAR;
+        } else if (sk.contains("#VOTE#")) {
+            return SortKeyCodec.Type.VOTE;
+        } else if (sk.startsWith("ATTENDANCE#")) {
+            return SortKeyCodec.Type.ATTENDANCE;
+        } else if (sk.contains("#RIDER#")) {
+            return SortKeyCodec.Type.CAR_RIDER;
+        } else if (sk.startsWith("NEEDS_RIDE#")) {
+            return SortKeyCodec.Type.NEEDS_RIDE;
+        } else if (sk.startsWith("PARTICIPATION#")) {
+            return SortKeyCodec.Type.PARTICIPATION;
+        } else if (sk.startsWith("RESERVEOFFER#")) {
+            return SortKeyCodec.Type.RESERVATION_OFFER;
+        } else if ("METADATA".equals(sk)) {
+            return SortKeyCodec.Type.METADATA;
+        }
+        return SortKeyCodec.Type.UNKNOWN;
+    }
+
+    private static String uuid(Random random) {
+        return new UUID(random.nextLong(), random.nextLong()).toString();
+    }
+}
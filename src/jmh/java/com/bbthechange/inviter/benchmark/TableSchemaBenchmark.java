@@ -0,0 +1,97 @@
+package com.bbthechange.inviter.benchmark;
+
+import com.bbthechange.inviter.model.HangoutPointer;
+import com.bbthechange.inviter.model.Vote;
+import com.bbthechange.inviter.util.InviterTableSchemas;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-item mapping latency of the bean schemas against the hand-wired schemas in
+ * {@link InviterTableSchemas}, for a feed pointer with nested polls, votes and attendance
+ * and for a single vote item. Allocation per item comes from the GC profiler the jmh task
+ * enables ({@code gc.alloc.rate.norm}).
+ *
+ * Run with {@code ./gradlew jmh -Pjmh.include=TableSchemaBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TableSchemaBenchmark {
+
+    private TableSchema<HangoutPointer> beanPointerSchema;
+    private TableSchema<HangoutPointer> staticPointerSchema;
+    private TableSchema<Vote> beanVoteSchema;
+    private TableSchema<Vote> staticVoteSchema;
+
+    private HangoutPointer pointer;
+    private Map<String, AttributeValue> pointerItem;
+    private Vote vote;
+    private Map<String, AttributeValue> voteItem;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        beanPointerSchema = TableSchema.fromBean(HangoutPointer.class);
+        staticPointerSchema = InviterTableSchemas.forClass(HangoutPointer.class);
+        beanVoteSchema = TableSchema.fromBean(Vote.class);
+        staticVoteSchema = InviterTableSchemas.forClass(Vote.class);
+
+        // Keep drawing until the pointer carries polls, so the nested lists are exercised
+        Random random = new Random(7);
+        do {
+            pointer = FeedFixtures.hangout(random, "Trivia night", Instant.now().getEpochSecond());
+        } while (pointer.getVotes().isEmpty());
+        pointerItem = beanPointerSchema.itemToMap(pointer, true);
+        vote = pointer.getVotes().get(0);
+        voteItem = beanVoteSchema.itemToMap(vote, true);
+    }
+
+    @Benchmark
+    public HangoutPointer beanPointerMapToItem() {
+        return beanPointerSchema.mapToItem(pointerItem);
+    }
+
+    @Benchmark
+    public HangoutPointer staticPointerMapToItem() {
+        return staticPointerSchema.mapToItem(pointerItem);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> beanPointerItemToMap() {
+        return beanPointerSchema.itemToMap(pointer, true);
+    }
+
+    @Benchmark
+    public Map<String, AttributeValue> staticPointerItemToMap() {
+        return staticPointerSchema.itemToMap(pointer, true);
+    }
+
+    @Benchmark
+    public Vote beanVoteMapToItem() {
+        return beanVoteSchema.mapToItem(voteItem);
+    }
+
+    @Benchmark
+    public Vote staticVoteMapToItem() {
+        return staticVoteSchema.mapToItem(voteItem);
+    }
+}
@@ -0,0 +1,99 @@
+package com.bbthechange.inviter.service.impl;
+
+import com.bbthechange.inviter.benchmark.FeedFixtures;
+import com.bbthechange.inviter.config.MomentumTuningProperties;
+import com.bbthechange.inviter.dto.FeedItem;
+import com.bbthechange.inviter.dto.HangoutSummaryDTO;
+import com.bbthechange.inviter.model.BaseItem;
+import com.bbthechange.inviter.service.HangoutService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the CPU-bound stages of a group feed request: hydrating pointers into DTOs,
+ * momentum sorting, and forward-fill week coverage. Repository access is not involved.
+ *
+ * Run with {@code ./gradlew jmh -Pjmh.include=GroupFeedBenchmark}; the task enables the GC
+ * profiler, so allocation per operation is reported alongside throughput.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GroupFeedBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int pointers;
+
+    private GroupServiceImpl groupService;
+    private FeedSortingService feedSortingService;
+    private WeekCoverageCalculator weekCoverageCalculator;
+
+    private long nowSeconds;
+    private List<BaseItem> items;
+    private List<FeedItem> withDay;
+    private List<HangoutSummaryDTO> needsDay;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        MomentumTuningProperties tuning = new MomentumTuningProperties();
+        feedSortingService = new FeedSortingService(tuning);
+        weekCoverageCalculator = new WeekCoverageCalculator(tuning);
+
+        // Only the collaborators hydrateFeed touches are real; host enrichment is a no-op
+        // because the fixtures have no host-at-place users.
+        HangoutService hangoutService = (HangoutService) Proxy.newProxyInstance(
+                HangoutService.class.getClassLoader(), new Class<?>[] {HangoutService.class},
+                (proxy, method, args) -> null);
+        groupService = new GroupServiceImpl(null, null, null, null, null, null, hangoutService,
+                null, null, "https://bench.invalid", feedSortingService, null,
+                new AttributeSuggestionServiceImpl(null, null, null), new NudgeServiceImpl(), null, null, null, null);
+
+        nowSeconds = Instant.now().getEpochSecond();
+        items = FeedFixtures.groupFeed(pointers, nowSeconds);
+
+        withDay = new ArrayList<>();
+        needsDay = new ArrayList<>();
+        for (FeedItem item : groupService.hydrateFeed(items, FeedFixtures.REQUESTING_USER_ID, null)) {
+            if (item instanceof HangoutSummaryDTO hangout && hangout.getStartTimestamp() == null) {
+                needsDay.add(hangout);
+            } else {
+                withDay.add(item);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<FeedItem> hydrateFeed() {
+        return groupService.hydrateFeed(items, FeedFixtures.REQUESTING_USER_ID, null);
+    }
+
+    @Benchmark
+    public FeedSortingService.SortResult sortFeed() {
+        // sortFeed sorts into new lists; the surface reasons it sets on the DTOs are the same every call
+        return feedSortingService.sortFeed(withDay, needsDay, nowSeconds);
+    }
+
+    @Benchmark
+    public int countEmptyWeeks() {
+        return weekCoverageCalculator.countEmptyWeeks(items, nowSeconds);
+    }
+}
@@ -0,0 +1,208 @@
+package com.bbthechange.inviter.config;
+
+import com.bbthechange.inviter.util.QueryPerformanceTracker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactGetItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * DynamoDB client interceptor that asks every call for its consumed capacity and reports it
+ * to {@link QueryPerformanceTracker}, attributed to the partition keys the call addressed.
+ * Sitting on the client covers repositories, the enhanced client and direct calls alike.
+ *
+ * Query partition keys are read from the key condition and prefixed with the index name,
+ * since a hot GSI partition throttles independently of the base table.
+ */
+public class ConsumedCapacityInterceptor implements ExecutionInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConsumedCapacityInterceptor.class);
+    private static final String PARTITION_KEY = "pk";
+    // The partition key equality, e.g. "gsi1pk = :pk" or "#AMZN_MAPPED_pk = :AMZN_MAPPED_pk"
+    private static final Pattern KEY_EQUALITY = Pattern.compile("[#\\w]+\\s*=\\s*(:\\w+)");
+
+    private final QueryPerformanceTracker performanceTracker;
+
+    public ConsumedCapacityInterceptor(QueryPerformanceTracker performanceTracker) {
+        this.performanceTracker = performanceTracker;
+    }
+
+    @Override
+    public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
+        SdkRequest request = context.request();
+        ReturnConsumedCapacity total = ReturnConsumedCapacity.TOTAL;
+        if (request instanceof GetItemRequest get && get.returnConsumedCapacity() == null) {
+            return get.toBuilder().returnConsumedCapacity(total).build();
+        } else if (request instanceof PutItemRequest put && put.returnConsumedCapacity() == null) {
+            return put.toBuilder().returnConsumedCapacity(total).build();
+        } else if (request instanceof UpdateItemRequest update && update.returnConsumedCapacity() == null) {
+            return update.toBuilder().returnConsumedCapacity(total).build();
+        } else if (request instanceof DeleteItemRequest delete && delete.returnConsumedCapacity() == null) {
+            return delete.toBuilder().returnConsumedCapacity(total).build();
+        } else if (request instanceof QueryRequest query && query.returnConsumedCapacity() == null) {
+            return query.toBuilder().returnConsumedCapacity(total).build();
+        } else if (request instanceof ScanRequest scan && scan.returnConsumedCapacity() == null) {
+            return scan.toBuilder().returnConsumedCapacity(total).build();
+        } else if (request instanceof BatchGetItemRequest batch && batch.returnConsumedCapacity() == null) {
+            return batch.toBuilder().returnConsumedCapacity(total).build();
+        } else if (request instanceof BatchWriteItemRequest batch && batch.returnConsumedCapacity() == null) {
+            return batch.toBuilder().returnConsumedCapacity(total).build();
+        } else if (request instanceof TransactGetItemsRequest transaction && transaction.returnConsumedCapacity() == null) {
+            return transaction.toBuilder().returnConsumedCapacity(total).build();
+        } else if (request instanceof TransactWriteItemsRequest transaction && transaction.returnConsumedCapacity() == null) {
+            return transaction.toBuilder().returnConsumedCapacity(total).build();
+        }
+        return request;
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        String operation = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        try {
+            record(operation, context.request(), context.response());
+        } catch (RuntimeException e) {
+            // Accounting must never fail the call it is observing
+            logger.debug("Failed to record consumed capacity for {}: {}", operation, e.getMessage());
+        }
+    }
+
+    private void record(String operation, SdkRequest request, SdkResponse response) {
+        if (request instanceof GetItemRequest get && response instanceof GetItemResponse result) {
+            recordSingle(operation, false, result.consumedCapacity(), partitionKey(get.key()));
+        } else if (request instanceof PutItemRequest put && response instanceof PutItemResponse result) {
+            recordSingle(operation, true, result.consumedCapacity(), partitionKey(put.item()));
+        } else if (request instanceof UpdateItemRequest update && response instanceof UpdateItemResponse result) {
+            recordSingle(operation, true, result.consumedCapacity(), partitionKey(update.key()));
+        } else if (request instanceof DeleteItemRequest delete && response instanceof DeleteItemResponse result) {
+            recordSingle(operation, true, result.consumedCapacity(), partitionKey(delete.key()));
+        } else if (request instanceof QueryRequest query && response instanceof QueryResponse result) {
+            recordSingle(operation, false, result.consumedCapacity(), partitionKey(query));
+        } else if (request instanceof ScanRequest && response instanceof ScanResponse result) {
+            recordSingle(operation, false, result.consumedCapacity(), null);
+        } else if (request instanceof BatchGetItemRequest batch && response instanceof BatchGetItemResponse result) {
+            Map<String, List<String>> keysByTable = new HashMap<>();
+            for (Map.Entry<String, KeysAndAttributes> entry : batch.requestItems().entrySet()) {
+                for (Map<String, AttributeValue> key : entry.getValue().keys()) {
+                    addKey(keysByTable, entry.getKey(), partitionKey(key));
+                }
+            }
+            recordPerTable(operation, false, result.consumedCapacity(), keysByTable);
+        } else if (request instanceof BatchWriteItemRequest batch && response instanceof BatchWriteItemResponse result) {
+            Map<String, List<String>> keysByTable = new HashMap<>();
+            for (Map.Entry<String, List<WriteRequest>> entry : batch.requestItems().entrySet()) {
+                for (WriteRequest write : entry.getValue()) {
+                    if (write.putRequest() != null) {
+                        addKey(keysByTable, entry.getKey(), partitionKey(write.putRequest().item()));
+                    } else if (write.deleteRequest() != null) {
+                        addKey(keysByTable, entry.getKey(), partitionKey(write.deleteRequest().key()));
+                    }
+                }
+            }
+            recordPerTable(operation, true, result.consumedCapacity(), keysByTable);
+        } else if (request instanceof TransactGetItemsRequest transaction && response instanceof TransactGetItemsResponse result) {
+            Map<String, List<String>> keysByTable = new HashMap<>();
+            for (TransactGetItem item : transaction.transactItems()) {
+                if (item.get() != null) {
+                    addKey(keysByTable, item.get().tableName(), partitionKey(item.get().key()));
+                }
+            }
+            recordPerTable(operation, false, result.consumedCapacity(), keysByTable);
+        } else if (request instanceof TransactWriteItemsRequest transaction && response instanceof TransactWriteItemsResponse result) {
+            Map<String, List<String>> keysByTable = new HashMap<>();
+            for (TransactWriteItem item : transaction.transactItems()) {
+                if (item.put() != null) {
+                    addKey(keysByTable, item.put().tableName(), partitionKey(item.put().item()));
+                } else if (item.update() != null) {
+                    addKey(keysByTable, item.update().tableName(), partitionKey(item.update().key()));
+                } else if (item.delete() != null) {
+                    addKey(keysByTable, item.delete().tableName(), partitionKey(item.delete().key()));
+                } else if (item.conditionCheck() != null) {
+                    addKey(keysByTable, item.conditionCheck().tableName(), partitionKey(item.conditionCheck().key()));
+                }
+            }
+            recordPerTable(operation, true, result.consumedCapacity(), keysByTable);
+        }
+    }
+
+    private void recordSingle(String operation, boolean write, ConsumedCapacity capacity, String partitionKey) {
+        if (capacity == null || capacity.capacityUnits() == null) {
+            return;
+        }
+        performanceTracker.recordConsumedCapacity(operation, capacity.tableName(), write,
+                capacity.capacityUnits(), partitionKey != null ? List.of(partitionKey) : List.of());
+    }
+
+    private void recordPerTable(String operation, boolean write, List<ConsumedCapacity> capacities,
+                                Map<String, List<String>> keysByTable) {
+        for (ConsumedCapacity capacity : capacities) {
+            if (capacity.capacityUnits() != null) {
+                performanceTracker.recordConsumedCapacity(operation, capacity.tableName(), write,
+                        capacity.capacityUnits(), keysByTable.getOrDefault(capacity.tableName(), List.of()));
+            }
+        }
+    }
+
+    private static void addKey(Map<String, List<String>> keysByTable, String table, String partitionKey) {
+        if (partitionKey != null) {
+            keysByTable.computeIfAbsent(table, t -> new ArrayList<>()).add(partitionKey);
+        }
+    }
+
+    private static String partitionKey(Map<String, AttributeValue> key) {
+        AttributeValue pk = key.get(PARTITION_KEY);
+        return pk != null ? pk.s() : null;
+    }
+
+    private static String partitionKey(QueryRequest query) {
+        if (query.keyConditionExpression() == null) {
+            return null;
+        }
+        Matcher matcher = KEY_EQUALITY.matcher(query.keyConditionExpression());
+        if (!matcher.find()) {
+            return null;
+        }
+        AttributeValue value = query.expressionAttributeValues().get(matcher.group(1));
+        if (value == null || value.s() == null) {
+            return null;
+        }
+        return query.indexName() != null ? query.indexName() + ":" + value.s() : value.s();
+    }
+}
@@ -0,0 +1,99 @@
+package com.bbthechange.inviter.config;
+
+import com.amazonaws.xray.AWSXRay;
+import com.amazonaws.xray.AWSXRayRecorder;
+import com.amazonaws.xray.entities.Entity;
+import com.bbthechange.inviter.util.DynamoCallLedger;
+import org.slf4j.MDC;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ExecutorService decorator that runs each task with the submitting thread's logging MDC,
+ * X-Ray trace entity and {@link DynamoCallLedger}, so fanned-out DynamoDB calls log with the
+ * request's client info, show up as subsegments of the request trace instead of orphaned
+ * segments, and count towards the request's DynamoDB call budget.
+ *
+ * Context is captured per task at submission time and restored on the worker afterwards,
+ * which matters with CallerRunsPolicy: a rejected task runs on the request thread itself.
+ */
+public class ContextPropagatingExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+
+    public ContextPropagatingExecutorService(ExecutorService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(wrap(command));
+    }
+
+    static Runnable wrap(Runnable command) {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        AWSXRayRecorder recorder = AWSXRay.getGlobalRecorder();
+        Entity traceEntity = recorder.getTraceEntity();
+        DynamoCallLedger ledger = DynamoCallLedger.current();
+
+        return () -> {
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+            Entity previousEntity = traceEntity == null ? null : recorder.getTraceEntity();
+            setMdc(mdc);
+            if (traceEntity != null) {
+                recorder.setTraceEntity(traceEntity);
+            }
+            DynamoCallLedger previousLedger = DynamoCallLedger.attach(ledger);
+            try {
+                command.run();
+            } finally {
+                DynamoCallLedger.attach(previousLedger);
+                setMdc(previousMdc);
+                if (traceEntity != null) {
+                    if (previousEntity != null) {
+                        recorder.setTraceEntity(previousEntity);
+                    } else {
+                        recorder.clearTraceEntity();
+                    }
+                }
+            }
+        };
+    }
+
+    private static void setMdc(Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,25 @@
+package com.bbthechange.inviter.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares how many DynamoDB calls one request to a controller endpoint may make.
+ *
+ * Exceeding the budget is logged and counted in production. With
+ * {@code dynamodb.call-budget.record-violations=true}, as in the integration profile,
+ * violations are also kept so the test suite fails on an N+1 regression.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DynamoCallBudget {
+
+    /**
+     * Maximum DynamoDB calls per request, fanned-out calls included.
+     */
+    int maxCalls();
+}
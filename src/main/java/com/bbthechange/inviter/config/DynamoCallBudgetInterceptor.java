@@ -0,0 +1,125 @@
+package com.bbthechange.inviter.config;
+
+import com.bbthechange.inviter.util.DynamoCallLedger;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Opens a {@link DynamoCallLedger} around each controller call and, when it completes:
+ * records {@code dynamodb_request_calls{endpoint}}, warns about key shapes repeated
+ * {@code dynamodb.call-budget.repeat-threshold} or more times, and checks the endpoint's
+ * {@link DynamoCallBudget}.
+ *
+ * For async handlers the ledger is detached from the container thread when concurrent handling
+ * starts and re-attached on the async dispatch, so one ledger covers the whole request and no
+ * ledger is left behind on a pooled thread.
+ */
+@Component
+public class DynamoCallBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(DynamoCallBudgetInterceptor.class);
+    private static final String LEDGER_ATTRIBUTE = DynamoCallBudgetInterceptor.class.getName() + ".ledger";
+
+    private final MeterRegistry meterRegistry;
+    private final int repeatThreshold;
+    private final boolean recordViolations;
+    private final List<String> violations = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    public DynamoCallBudgetInterceptor(@Autowired(required = false) MeterRegistry meterRegistry,
+                                       @Value("${dynamodb.call-budget.repeat-threshold:5}") int repeatThreshold,
+                                       @Value("${dynamodb.call-budget.record-violations:false}") boolean recordViolations) {
+        this.meterRegistry = meterRegistry;
+        this.repeatThreshold = repeatThreshold;
+        this.recordViolations = recordViolations;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(LEDGER_ATTRIBUTE) instanceof DynamoCallLedger ledger) {
+            // Async dispatch: keep counting against the ledger opened for the first dispatch
+            DynamoCallLedger.attach(ledger);
+        } else if (handler instanceof HandlerMethod) {
+            DynamoCallLedger ledger = DynamoCallLedger.begin();
+            if (ledger != null) {
+                request.setAttribute(LEDGER_ATTRIBUTE, ledger);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // The container thread is released without afterCompletion; the ledger stays on the request
+        DynamoCallLedger.end();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(LEDGER_ATTRIBUTE) instanceof DynamoCallLedger ledger)) {
+            return;
+        }
+        DynamoCallLedger.end();
+        request.removeAttribute(LEDGER_ATTRIBUTE);
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (pattern != null ? pattern : "unmapped");
+        int calls = ledger.calls();
+
+        if (meterRegistry != null) {
+            DistributionSummary.builder("dynamodb_request_calls")
+                    .description("DynamoDB calls made while serving one HTTP request")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry)
+                    .record(calls);
+        }
+
+        for (Map.Entry<String, Integer> shape : ledger.callsByKeyShape().entrySet()) {
+            if (shape.getValue() >= repeatThreshold) {
+                logger.warn("Possible N+1 on {}: {} calls of {}", endpoint, shape.getValue(), shape.getKey());
+                if (meterRegistry != null) {
+                    meterRegistry.counter("dynamodb_repeated_key_shape_total", "endpoint", endpoint).increment();
+                }
+            }
+        }
+
+        DynamoCallBudget budget = handler instanceof HandlerMethod method
+                ? method.getMethodAnnotation(DynamoCallBudget.class)
+                : null;
+        if (budget != null && calls > budget.maxCalls()) {
+            String violation = String.format("%s made %d DynamoDB calls, budget is %d: %s",
+                    endpoint, calls, budget.maxCalls(), ledger.callsByOperation());
+            logger.warn("DynamoDB call budget exceeded: {}", violation);
+            if (meterRegistry != null) {
+                meterRegistry.counter("dynamodb_call_budget_exceeded_total", "endpoint", endpoint).increment();
+            }
+            if (recordViolations) {
+                violations.add(violation);
+            }
+        }
+    }
+
+    /**
+     * Budget violations recorded since the last call, when recording is enabled.
+     */
+    public List<String> drainViolations() {
+        List<String> drained = new ArrayList<>(violations);
+        violations.removeAll(drained);
+        return drained;
+    }
+}
@@ -0,0 +1,101 @@
+package com.bbthechange.inviter.config;
+
+import com.bbthechange.inviter.util.DynamoCallLedger;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * DynamoDB client interceptor that records each call against the request's
+ * {@link DynamoCallLedger}, if one is open. A no-op outside HTTP requests.
+ *
+ * The key shape masks IDs so that loading twenty different groups' metadata one at a time
+ * shows up as twenty calls of {@code GetItem InviterTable GROUP#* / METADATA}.
+ */
+public class DynamoCallCountingInterceptor implements ExecutionInterceptor {
+
+    private static final Pattern ID = Pattern.compile(
+            "[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|\\d+");
+    // The partition key equality of a key condition, e.g. "gsi1pk = :pk"
+    private static final Pattern KEY_EQUALITY = Pattern.compile("[#\\w]+\\s*=\\s*(:\\w+)");
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        DynamoCallLedger ledger = DynamoCallLedger.current();
+        if (ledger == null) {
+            return;
+        }
+
+        String sdkOperation = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        String repositoryOperation = DynamoCallLedger.currentOperation();
+        ledger.record(repositoryOperation != null ? repositoryOperation : sdkOperation,
+                sdkOperation + " " + keyShape(context.request()));
+    }
+
+    static String keyShape(SdkRequest request) {
+        if (request instanceof GetItemRequest get) {
+            return get.tableName() + " " + itemKeyShape(get.key());
+        } else if (request instanceof PutItemRequest put) {
+            return put.tableName() + " " + itemKeyShape(put.item());
+        } else if (request instanceof UpdateItemRequest update) {
+            return update.tableName() + " " + itemKeyShape(update.key());
+        } else if (request instanceof DeleteItemRequest delete) {
+            return delete.tableName() + " " + itemKeyShape(delete.key());
+        } else if (request instanceof QueryRequest query) {
+            String table = query.indexName() != null ? query.tableName() + "." + query.indexName() : query.tableName();
+            return table + " " + queryKeyShape(query);
+        } else if (request instanceof ScanRequest scan) {
+            return scan.tableName();
+        } else if (request instanceof BatchGetItemRequest batch) {
+            return String.join(",", new TreeSet<>(batch.requestItems().keySet()));
+        } else if (request instanceof BatchWriteItemRequest batch) {
+            return String.join(",", new TreeSet<>(batch.requestItems().keySet()));
+        }
+        return "";
+    }
+
+    private static String itemKeyShape(Map<String, AttributeValue> key) {
+        String pk = mask(key.get("pk"));
+        String sk = mask(key.get("sk"));
+        if (pk == null) {
+            // Tables keyed on something other than pk/sk, e.g. Users or Devices
+            return "*";
+        }
+        return sk == null ? pk : pk + " / " + sk;
+    }
+
+    private static String queryKeyShape(QueryRequest query) {
+        if (query.keyConditionExpression() == null) {
+            return "*";
+        }
+        Matcher matcher = KEY_EQUALITY.matcher(query.keyConditionExpression());
+        if (!matcher.find()) {
+            return "*";
+        }
+        String pk = mask(query.expressionAttributeValues().get(matcher.group(1)));
+        return pk != null ? pk : "*";
+    }
+
+    private static String mask(AttributeValue value) {
+        if (value == null || value.s() == null) {
+            return null;
+        }
+        return ID.matcher(value.s()).replaceAll("*");
+    }
+}
@@ -1,12 +1,15 @@
 package com.bbthechange.inviter.config;
 
 import com.amazonaws.xray.interceptors.TracingInterceptor;
+import com.bbthechange.inviter.util.QueryPerformanceTracker;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
@@ -25,6 +28,12 @@ public class DynamoDBConfig {
     @Value("${xray.enabled:false}")
     private boolean xrayEnabled;
 
+    @Value("${dynamodb.consumed-capacity.enabled:true}")
+    private boolean consumedCapacityEnabled;
+
+    @Autowired(required = false)
+    private QueryPerformanceTracker performanceTracker;
+
     @Bean
     public DynamoDbClient dynamoDbClient() {
         var builder = DynamoDbClient.builder()
@@ -41,12 +50,24 @@ public class DynamoDBConfig {
             builder.credentialsProvider(DefaultCredentialsProvider.create());
         }
 
+        // Drop request-scoped cached reads for any partition we write to
+        ClientOverrideConfiguration.Builder overrides = ClientOverrideConfiguration.builder()
+                .addExecutionInterceptor(new RequestReadCacheInvalidator());
+
+        // Per-request call counts for the N+1 detector and endpoint call budgets
+        overrides.addExecutionInterceptor(new DynamoCallCountingInterceptor());
+
+        // Per-operation RCU/WCU and hot partition keys
+        if (consumedCapacityEnabled && performanceTracker != null) {
+            overrides.addExecutionInterceptor(new ConsumedCapacityInterceptor(performanceTracker));
+        }
+
         // Add X-Ray tracing if enabled
         if (xrayEnabled) {
-            builder.overrideConfiguration(c -> c.addExecutionInterceptor(new TracingInterceptor()));
+            overrides.addExecutionInterceptor(new TracingInterceptor());
         }
 
-        return builder.build();
+        return builder.overrideConfiguration(overrides.build()).build();
     }
     
     @Bean
@@ -112,7 +112,8 @@ public class DynamoDBTableInitializer implements ApplicationRunner {
                     createGSI("UserGroupIndex"),
                     createGSI("EntityTimeIndex"),
                     createGSI("TokenHashIndex"),  // Add new GSI for refresh token lookups
-                    createGSI("InviteCodeIndex")  // Add new GSI for group invite code lookups
+                    createGSI("InviteCodeIndex"),  // Add new GSI for group invite code lookups
+                    createGSI("RegistryIndex")     // Sparse GSI listing tracked seasons and watch party series
                 );
                 break;
             case "PasswordResetRequest":
@@ -0,0 +1,32 @@
+package com.bbthechange.inviter.config;
+
+import com.bbthechange.inviter.util.HotPartitionTracker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * Actuator endpoint listing the partition keys consuming the most DynamoDB capacity over
+ * the hot-key window. Served at {@code /actuator/dynamo-hotkeys} through a path mapping,
+ * since endpoint IDs can't contain dashes.
+ */
+@Component
+@Endpoint(id = "dynamohotkeys")
+public class DynamoHotKeysEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final HotPartitionTracker hotPartitionTracker;
+
+    @Autowired
+    public DynamoHotKeysEndpoint(HotPartitionTracker hotPartitionTracker) {
+        this.hotPartitionTracker = hotPartitionTracker;
+    }
+
+    @ReadOperation
+    public HotPartitionTracker.Snapshot hotKeys(@Nullable Integer limit) {
+        return hotPartitionTracker.snapshot(limit != null && limit > 0 ? limit : DEFAULT_LIMIT);
+    }
+}
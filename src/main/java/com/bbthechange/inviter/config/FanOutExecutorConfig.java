@@ -0,0 +1,130 @@
+package com.bbthechange.inviter.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executors used to fan out work from a single request or message: independent DynamoDB reads
+ * (one query per hangout, etc.), push notification broadcasts and watch party episode processing.
+ * Also hosts the pool that keeps BCrypt password hashing off the request threads.
+ *
+ * The pools are bounded so a large group can't flood DynamoDB or spawn unbounded threads.
+ * When a queue is full the submitting request thread runs the task itself, which
+ * degrades to the old sequential behavior instead of rejecting the request.
+ *
+ * Callers bound each fanned-out call with {@code repository.fanout.call-timeout-ms} so one
+ * slow partition can't hold a request thread indefinitely.
+ */
+@Configuration
+public class FanOutExecutorConfig {
+
+    @Value("${repository.fanout.max-threads:16}")
+    private int maxThreads;
+
+    @Value("${repository.fanout.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${notification.executor.max-threads:8}")
+    private int notificationMaxThreads;
+
+    @Value("${notification.executor.queue-capacity:500}")
+    private int notificationQueueCapacity;
+
+    @Value("${watchparty.background.max-threads:8}")
+    private int watchPartyMaxThreads;
+
+    @Value("${watchparty.background.queue-capacity:100}")
+    private int watchPartyQueueCapacity;
+
+    // 0 sizes the pool to the available processors
+    @Value("${auth.hashing.max-threads:0}")
+    private int hashingMaxThreads;
+
+    @Value("${auth.hashing.queue-capacity:64}")
+    private int hashingQueueCapacity;
+
+    /**
+     * Shared by every service that issues independent DynamoDB reads in parallel. Tasks run
+     * with the submitting request's MDC and X-Ray context, and the pool is exported as
+     * executor_* metrics under name="repositoryFanOut".
+     */
+    @Bean(name = "repositoryFanOutExecutor", destroyMethod = "shutdown")
+    public ExecutorService repositoryFanOutExecutor(MeterRegistry meterRegistry) {
+        ThreadFactory threadFactory = Thread.ofVirtual().name("repo-fanout-", 0).factory();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                maxThreads, maxThreads,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return new ContextPropagatingExecutorService(
+                ExecutorServiceMetrics.monitor(meterRegistry, executor, "repositoryFanOut"));
+    }
+
+    /**
+     * Runs {@code @Async("notificationExecutor")} broadcasts so hangout and carpool writes
+     * don't wait on device lookups and APNs/FCM round trips.
+     */
+    @Bean(name = "notificationExecutor", destroyMethod = "shutdown")
+    public ExecutorService notificationExecutor() {
+        ThreadFactory threadFactory = Thread.ofVirtual().name("notify-", 0).factory();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                notificationMaxThreads, notificationMaxThreads,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(notificationQueueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Processes the series watching a show in parallel when a new episode arrives. Bounded
+     * separately from the request-path pools so a popular show can't starve them.
+     */
+    @Bean(name = "watchPartyExecutor", destroyMethod = "shutdown")
+    public ExecutorService watchPartyExecutor(MeterRegistry meterRegistry) {
+        ThreadFactory threadFactory = Thread.ofVirtual().name("watchparty-", 0).factory();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                watchPartyMaxThreads, watchPartyMaxThreads,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(watchPartyQueueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return new ContextPropagatingExecutorService(
+                ExecutorServiceMetrics.monitor(meterRegistry, executor, "watchParty"));
+    }
+
+    /**
+     * Runs BCrypt password checks and hashes for the auth endpoints. The work is CPU-bound, so
+     * the pool uses platform threads sized to the CPU count. Unlike the pools above, a full
+     * queue rejects the task instead of running it on the caller: a login burst is shed with
+     * 503s rather than tying up request threads. Exported as executor_* metrics under
+     * name="passwordHashing" (executor_queued_tasks is the queue depth).
+     */
+    @Bean(name = "passwordHashingExecutor", destroyMethod = "shutdown")
+    public ExecutorService passwordHashingExecutor(MeterRegistry meterRegistry) {
+        int threads = hashingMaxThreads > 0 ? hashingMaxThreads : Runtime.getRuntime().availableProcessors();
+        ThreadFactory threadFactory = Thread.ofPlatform().name("password-hash-", 0).daemon(true).factory();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads, threads,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(hashingQueueCapacity),
+                threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return new ContextPropagatingExecutorService(
+                ExecutorServiceMetrics.monitor(meterRegistry, executor, "passwordHashing"));
+    }
+}
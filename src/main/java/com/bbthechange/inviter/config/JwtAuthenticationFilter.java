@@ -3,6 +3,7 @@ package com.bbthechange.inviter.config;
 import com.amazonaws.xray.AWSXRay;
 import com.amazonaws.xray.entities.Subsegment;
 import com.bbthechange.inviter.service.JwtService;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,6 +18,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Optional;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -49,12 +51,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
                 Subsegment validationSubsegment = xrayAvailable ? AWSXRay.beginSubsegment("JWT Validation") : null;
                 try {
-                    if (jwtService.isTokenValid(token)) {
+                    // One parse both validates the token and yields the user ID
+                    Optional<Claims> claims = jwtService.verifyAccessToken(token);
+                    if (claims.isPresent()) {
                         if (validationSubsegment != null) {
                             validationSubsegment.putAnnotation("valid", true);
                         }
 
-                        String userId = jwtService.extractUserId(token);
+                        String userId = claims.get().getSubject();
 
                         UsernamePasswordAuthenticationToken authentication =
                             new UsernamePasswordAuthenticationToken(userId, null, new ArrayList<>());
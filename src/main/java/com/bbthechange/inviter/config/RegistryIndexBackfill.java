@@ -0,0 +1,161 @@
+package com.bbthechange.inviter.config;
+
+import com.bbthechange.inviter.util.InviterKeyFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+/**
+ * One-off migration that adds RegistryIndex keys (gsi4pk/gsi4sk) to Season and Watch Party
+ * EventSeries items written before the index existed.
+ *
+ * Runs a parallel segmented scan over InviterTable, one segment per thread, and patches each
+ * matching item with an UpdateItem. Items that already have the keys are filtered out, so the
+ * job can be re-run safely until it reports nothing left to update. New items get their keys
+ * from the models and don't need it.
+ *
+ * Enable for a single deploy with {@code dynamodb.registry-backfill.enabled=true}. Once it
+ * reports nothing left to update, set {@code dynamodb.registry-index.enabled=true} so the
+ * repositories query the index instead of scanning (see README).
+ */
+@Component
+@ConditionalOnProperty(name = "dynamodb.registry-backfill.enabled", havingValue = "true")
+public class RegistryIndexBackfill implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(RegistryIndexBackfill.class);
+    private static final String TABLE_NAME = "InviterTable";
+
+    private final DynamoDbClient dynamoDbClient;
+    private final MeterRegistry meterRegistry;
+    private final int segments;
+
+    public RegistryIndexBackfill(DynamoDbClient dynamoDbClient,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${dynamodb.registry-backfill.segments:4}") int segments) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.meterRegistry = meterRegistry;
+        this.segments = Math.max(1, segments);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            backfill();
+        } catch (Exception e) {
+            // Safe to retry on the next start; don't block the application from serving
+            logger.error("RegistryIndex backfill failed", e);
+        }
+    }
+
+    /**
+     * Scan all segments in parallel and add missing registry keys.
+     *
+     * @return Number of items updated
+     */
+    public int backfill() {
+        long start = System.currentTimeMillis();
+        ExecutorService executor = Executors.newFixedThreadPool(segments,
+                Thread.ofVirtual().name("registry-backfill-", 0).factory());
+        try {
+            List<CompletableFuture<Integer>> futures = IntStream.range(0, segments)
+                    .mapToObj(segment -> CompletableFuture.supplyAsync(() -> backfillSegment(segment), executor))
+                    .toList();
+            int updated = futures.stream().mapToInt(CompletableFuture::join).sum();
+            logger.info("RegistryIndex backfill updated {} items across {} segments in {}ms",
+                    updated, segments, System.currentTimeMillis() - start);
+            return updated;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private int backfillSegment(int segment) {
+        int updated = 0;
+        Map<String, AttributeValue> lastKey = null;
+
+        do {
+            ScanRequest.Builder requestBuilder = ScanRequest.builder()
+                .tableName(TABLE_NAME)
+                .segment(segment)
+                .totalSegments(segments)
+                .filterExpression("attribute_not_exists(gsi4pk) AND "
+                    + "(itemType = :season OR (itemType = :series AND eventSeriesType = :watchParty))")
+                .expressionAttributeValues(Map.of(
+                    ":season", AttributeValue.builder().s("SEASON").build(),
+                    ":series", AttributeValue.builder().s("EVENT_SERIES").build(),
+                    ":watchParty", AttributeValue.builder().s("WATCH_PARTY").build()
+                ))
+                .projectionExpression("pk, sk, itemType, showId, seasonNumber");
+
+            if (lastKey != null && !lastKey.isEmpty()) {
+                requestBuilder.exclusiveStartKey(lastKey);
+            }
+
+            ScanResponse response = dynamoDbClient.scan(requestBuilder.build());
+            for (Map<String, AttributeValue> item : response.items()) {
+                if (addRegistryKeys(item)) {
+                    updated++;
+                }
+            }
+
+            lastKey = response.lastEvaluatedKey();
+        } while (lastKey != null && !lastKey.isEmpty());
+
+        logger.debug("RegistryIndex backfill segment {} updated {} items", segment, updated);
+        return updated;
+    }
+
+    private boolean addRegistryKeys(Map<String, AttributeValue> item) {
+        String itemType = item.get("itemType").s();
+        String registryPk;
+        String registrySk;
+        try {
+            if ("SEASON".equals(itemType)) {
+                registryPk = InviterKeyFactory.getSeasonRegistryPk();
+                registrySk = InviterKeyFactory.getSeasonReference(
+                    Integer.valueOf(item.get("showId").n()), Integer.valueOf(item.get("seasonNumber").n()));
+            } else {
+                registryPk = InviterKeyFactory.getWatchPartySeriesRegistryPk();
+                registrySk = item.get("pk").s();
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Skipping {} item {} without usable registry fields: {}",
+                itemType, item.get("pk").s(), e.getMessage());
+            meterRegistry.counter("registry_backfill_items_total", "status", "skipped").increment();
+            return false;
+        }
+
+        try {
+            dynamoDbClient.updateItem(UpdateItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(Map.of("pk", item.get("pk"), "sk", item.get("sk")))
+                .updateExpression("SET gsi4pk = :registryPk, gsi4sk = :registrySk")
+                .conditionExpression("attribute_exists(pk)")
+                .expressionAttributeValues(Map.of(
+                    ":registryPk", AttributeValue.builder().s(registryPk).build(),
+                    ":registrySk", AttributeValue.builder().s(registrySk).build()
+                ))
+                .build());
+            meterRegistry.counter("registry_backfill_items_total", "status", "updated").increment();
+            return true;
+        } catch (ConditionalCheckFailedException e) {
+            // Deleted since the scan read it; don't recreate it as a key-only item
+            meterRegistry.counter("registry_backfill_items_total", "status", "skipped").increment();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.bbthechange.inviter.config;
+
+import com.bbthechange.inviter.util.RequestReadCache;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Opens a {@link RequestReadCache} scope for each HTTP request and records how many
+ * DynamoDB reads it saved.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class RequestReadCacheFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestReadCacheFilter.class);
+
+    private final DistributionSummary readsSavedSummary;
+
+    @Autowired
+    public RequestReadCacheFilter(@Autowired(required = false) MeterRegistry meterRegistry) {
+        this.readsSavedSummary = meterRegistry == null ? null : DistributionSummary
+                .builder("dynamodb_request_reads_saved")
+                .description("DynamoDB reads per HTTP request served from the request-scoped read cache")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        boolean opened = RequestReadCache.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (opened) {
+                int readsSaved = RequestReadCache.end();
+                if (readsSavedSummary != null) {
+                    readsSavedSummary.record(readsSaved);
+                }
+                if (readsSaved > 0) {
+                    logger.debug("Request {} {} reused {} DynamoDB reads",
+                            request.getMethod(), request.getRequestURI(), readsSaved);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.bbthechange.inviter.config;
+
+import com.bbthechange.inviter.util.RequestReadCache;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DynamoDB client interceptor that drops request-scoped cached reads for every partition
+ * a write touches. Covers repositories, the enhanced client and direct client calls alike,
+ * so no write path has to remember to invalidate {@link RequestReadCache} itself.
+ */
+public class RequestReadCacheInvalidator implements ExecutionInterceptor {
+
+    private static final String PARTITION_KEY = "pk";
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        if (!RequestReadCache.isActive()) {
+            return;
+        }
+
+        SdkRequest request = context.request();
+        if (request instanceof PutItemRequest put) {
+            invalidate(put.item());
+        } else if (request instanceof UpdateItemRequest update) {
+            invalidate(update.key());
+        } else if (request instanceof DeleteItemRequest delete) {
+            invalidate(delete.key());
+        } else if (request instanceof TransactWriteItemsRequest transaction) {
+            for (TransactWriteItem item : transaction.transactItems()) {
+                if (item.put() != null) {
+                    invalidate(item.put().item());
+                } else if (item.update() != null) {
+                    invalidate(item.update().key());
+                } else if (item.delete() != null) {
+                    invalidate(item.delete().key());
+                }
+            }
+        } else if (request instanceof BatchWriteItemRequest batch) {
+            for (List<WriteRequest> writes : batch.requestItems().values()) {
+                for (WriteRequest write : writes) {
+                    if (write.putRequest() != null) {
+                        invalidate(write.putRequest().item());
+                    } else if (write.deleteRequest() != null) {
+                        invalidate(write.deleteRequest().key());
+                    }
+                }
+            }
+        }
+    }
+
+    private void invalidate(Map<String, AttributeValue> key) {
+        AttributeValue pk = key.get(PARTITION_KEY);
+        if (pk != null && pk.s() != null) {
+            RequestReadCache.invalidatePartition(pk.s());
+        }
+    }
+}
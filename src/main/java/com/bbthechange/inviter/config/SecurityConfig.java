@@ -49,7 +49,7 @@ public class SecurityConfig {
                 .requestMatchers("/groups/invite/**").permitAll() // Allow public group invite preview
                 .requestMatchers("/internal/**").permitAll() // Internal API (authenticated by API key filter)
                 .requestMatchers("/swagger-ui.html", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
-                .requestMatchers("/actuator/prometheus").access((authentication, context) ->
+                .requestMatchers("/actuator/prometheus", "/actuator/dynamo-hotkeys").access((authentication, context) ->
                     new AuthorizationDecision("127.0.0.1".equals(context.getRequest().getRemoteAddr())))
                 .anyRequest().authenticated()
             )
@@ -0,0 +1,22 @@
+package com.bbthechange.inviter.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final DynamoCallBudgetInterceptor dynamoCallBudgetInterceptor;
+
+    @Autowired
+    public WebMvcConfig(DynamoCallBudgetInterceptor dynamoCallBudgetInterceptor) {
+        this.dynamoCallBudgetInterceptor = dynamoCallBudgetInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(dynamoCallBudgetInterceptor);
+    }
+}
@@ -30,9 +30,9 @@ import com.bbthechange.inviter.service.PasswordResetService;
 import com.bbthechange.inviter.config.ClientInfo;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseCookie;
@@ -42,10 +42,13 @@ import org.springframework.web.bind.annotation.*;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/auth")
-@RequiredArgsConstructor
 public class AuthController {
     
     private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
@@ -60,6 +63,31 @@ public class AuthController {
     private final AccountService accountService;
     private final RateLimitingService rateLimitingService;
     private final PasswordResetService passwordResetService;
+    private final Executor loginExecutor;
+
+    public AuthController(JwtService jwtService,
+                          UserRepository userRepository,
+                          PasswordService passwordService,
+                          RefreshTokenHashingService hashingService,
+                          RefreshTokenCookieService cookieService,
+                          RefreshTokenRotationService rotationService,
+                          RefreshTokenRepository refreshTokenRepository,
+                          AccountService accountService,
+                          RateLimitingService rateLimitingService,
+                          PasswordResetService passwordResetService,
+                          @Qualifier("repositoryFanOutExecutor") Executor loginExecutor) {
+        this.jwtService = jwtService;
+        this.userRepository = userRepository;
+        this.passwordService = passwordService;
+        this.hashingService = hashingService;
+        this.cookieService = cookieService;
+        this.rotationService = rotationService;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.accountService = accountService;
+        this.rateLimitingService = rateLimitingService;
+        this.passwordResetService = passwordResetService;
+        this.loginExecutor = loginExecutor;
+    }
     
     @PostMapping("/register")
     public ResponseEntity<Map<String, String>> register(@RequestBody User user) {
@@ -121,24 +149,51 @@ public class AuthController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
     
+    /**
+     * Only the BCrypt check runs on the bounded password hashing executor, so a burst of logins
+     * can't occupy every request thread. The rest of the login (tokens and the refresh token
+     * write) finishes on the repository fan-out executor, keeping hashing slots free of I/O.
+     * When the hashing executor is saturated the login is refused with 503 and a Retry-After hint.
+     */
     @PostMapping("/login")
-    public ResponseEntity<Map<String, Object>> login(
+    public CompletableFuture<ResponseEntity<Map<String, Object>>> login(
             @RequestBody LoginRequest loginRequest, 
-            HttpServletRequest request,
-            HttpServletResponse response) {
+            HttpServletRequest request) {
         
         // Authenticate user (existing logic)
         Optional<User> userOpt = userRepository.findByPhoneNumber(loginRequest.getPhoneNumber());
-        if (userOpt.isEmpty() || userOpt.get().getPassword() == null || 
-            !passwordService.matches(loginRequest.getPassword(), userOpt.get().getPassword())) {
-            
-            Map<String, Object> error = new HashMap<>();
-            error.put("error", "Invalid credentials");
-            return new ResponseEntity<>(error, HttpStatus.UNAUTHORIZED);
+        if (userOpt.isEmpty() || userOpt.get().getPassword() == null) {
+            return CompletableFuture.completedFuture(invalidCredentials());
         }
         
         User user = userOpt.get();
-        
+
+        // Read everything needed from the request before leaving the request thread
+        String deviceId = extractDeviceId(request);
+        String ipAddress = extractClientIP(request);
+        ClientInfo clientInfo = ClientInfo.fromRequestAttribute(request);
+        boolean isMobile = clientInfo != null && clientInfo.isMobile();
+
+        return passwordService.matchesAsync(loginRequest.getPassword(), user.getPassword())
+            .handleAsync((matched, failure) -> {
+                if (failure != null) {
+                    Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                        ? failure.getCause() : failure;
+                    if (cause instanceof RejectedExecutionException) {
+                        logger.warn("Password hashing executor saturated, refusing login");
+                        return serviceBusy();
+                    }
+                    throw failure instanceof CompletionException ce ? ce : new CompletionException(cause);
+                }
+                if (!matched) {
+                    return invalidCredentials();
+                }
+                return completeLogin(user, deviceId, ipAddress, isMobile);
+            }, loginExecutor);
+    }
+
+    private ResponseEntity<Map<String, Object>> completeLogin(User user, String deviceId, String ipAddress,
+                                                              boolean isMobile) {
         // Check account verification status
         AccountStatus status = user.getAccountStatus();
         if (status == null) {
@@ -156,10 +211,6 @@ public class AuthController {
         String accessToken = jwtService.generateToken(user.getId().toString());
         String refreshToken = hashingService.generateRefreshToken();
         
-        // Create refresh token record
-        String deviceId = extractDeviceId(request);
-        String ipAddress = extractClientIP(request);
-        
         // Generate hashes for the refresh token
         String tokenHash = hashingService.generateLookupHash(refreshToken);
         String securityHash = hashingService.generateSecurityHash(refreshToken);
@@ -173,10 +224,6 @@ public class AuthController {
             ipAddress
         );
         refreshTokenRepository.save(refreshTokenRecord);
-        
-        // Check client type (supports "mobile", "ios", and "android")
-        ClientInfo clientInfo = ClientInfo.fromRequestAttribute(request);
-        boolean isMobile = clientInfo != null && clientInfo.isMobile();
 
         Map<String, Object> responseBody = new HashMap<>();
         responseBody.put("accessToken", accessToken);
@@ -199,13 +246,15 @@ public class AuthController {
         if (isMobile) {
             // Mobile: Return refresh token in JSON
             responseBody.put("refreshToken", refreshToken);
-        } else {
-            // Web: Set refresh token as HttpOnly cookie
-            ResponseCookie refreshCookie = cookieService.createRefreshTokenCookie(refreshToken);
-            response.addHeader(HttpHeaders.SET_COOKIE, refreshCookie.toString());
+            return new ResponseEntity<>(responseBody, HttpStatus.OK);
         }
 
-        return new ResponseEntity<>(responseBody, HttpStatus.OK);
+        // Web: Set refresh token as HttpOnly cookie. It travels on the ResponseEntity because
+        // this runs after the request thread has been released.
+        ResponseCookie refreshCookie = cookieService.createRefreshTokenCookie(refreshToken);
+        return ResponseEntity.ok()
+            .header(HttpHeaders.SET_COOKIE, refreshCookie.toString())
+            .body(responseBody);
     }
     
     @PostMapping("/refresh")
@@ -397,6 +446,21 @@ public class AuthController {
     }
     
     // Helper methods
+    private static ResponseEntity<Map<String, Object>> invalidCredentials() {
+        Map<String, Object> error = new HashMap<>();
+        error.put("error", "Invalid credentials");
+        return new ResponseEntity<>(error, HttpStatus.UNAUTHORIZED);
+    }
+
+    private static ResponseEntity<Map<String, Object>> serviceBusy() {
+        Map<String, Object> error = new HashMap<>();
+        error.put("error", "SERVICE_BUSY");
+        error.put("message", "Too many sign-in attempts are being processed. Please try again shortly.");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(error);
+    }
+
     private String extractClientIP(HttpServletRequest request) {
         String xfHeader = request.getHeader("X-Forwarded-For");
         if (xfHeader == null) {
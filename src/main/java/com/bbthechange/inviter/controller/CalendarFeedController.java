@@ -8,6 +8,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -24,10 +25,13 @@ public class CalendarFeedController extends BaseController {
     private static final Logger logger = LoggerFactory.getLogger(CalendarFeedController.class);
 
     private final CalendarSubscriptionService subscriptionService;
+    private final boolean gzipFeeds;
 
     @Autowired
-    public CalendarFeedController(CalendarSubscriptionService subscriptionService) {
+    public CalendarFeedController(CalendarSubscriptionService subscriptionService,
+                                  @Value("${calendar.feed-cache.gzip:false}") boolean gzipFeeds) {
         this.subscriptionService = subscriptionService;
+        this.gzipFeeds = gzipFeeds;
     }
 
     /**
@@ -91,16 +95,22 @@ public class CalendarFeedController extends BaseController {
      *
      * Implements HTTP caching with ETags and Cache-Control headers.
      * CloudFront-ready: uses public caching, stable URLs, and proper headers.
+     * When calendar.feed-cache.gzip is enabled, clients accepting gzip get the pre-compressed body
+     * under its own ETag. Every 200 and 304 carries Vary: Accept-Encoding.
      */
     @GetMapping(value = "/feed/{groupId}/{token}",
                 produces = "text/calendar; charset=utf-8")
-    public ResponseEntity<String> getCalendarFeed(
+    public ResponseEntity<?> getCalendarFeed(
             @PathVariable String groupId,
             @PathVariable String token,
-            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch,
+            @RequestHeader(value = "Accept-Encoding", required = false) String acceptEncoding) {
 
         logger.debug("Calendar feed requested for group {} with token {}", groupId, token.substring(0, 8) + "...");
 
+        if (gzipFeeds && acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip")) {
+            return subscriptionService.getGzippedCalendarFeed(groupId, token, ifNoneMatch);
+        }
         return subscriptionService.getCalendarFeed(groupId, token, ifNoneMatch);
     }
 
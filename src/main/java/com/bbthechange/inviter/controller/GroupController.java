@@ -1,6 +1,7 @@
 package com.bbthechange.inviter.controller;
 
 import com.bbthechange.inviter.config.ClientInfo;
+import com.bbthechange.inviter.config.DynamoCallBudget;
 import com.bbthechange.inviter.config.MomentumTuningProperties;
 import com.bbthechange.inviter.service.GroupService;
 import com.bbthechange.inviter.service.GroupFeedService;
@@ -65,6 +66,7 @@ public class GroupController extends BaseController {
         return ResponseEntity.status(HttpStatus.CREATED).body(group);
     }
     
+    @DynamoCallBudget(maxCalls = 5)
     @GetMapping
     public ResponseEntity<List<GroupDTO>> getUserGroups(HttpServletRequest httpRequest) {
         String userId = extractUserId(httpRequest);
@@ -159,6 +161,7 @@ public class GroupController extends BaseController {
         return ResponseEntity.noContent().build();
     }
 
+    @DynamoCallBudget(maxCalls = 6)
     @GetMapping("/{groupId}/members")
     public ResponseEntity<List<GroupMemberDTO>> getGroupMembers(
             @PathVariable @Pattern(regexp = "[0-9a-f-]{36}", message = "Invalid group ID format") String groupId,
@@ -172,6 +175,7 @@ public class GroupController extends BaseController {
         return ResponseEntity.ok(members);
     }
     
+    @DynamoCallBudget(maxCalls = 30)
     @GetMapping("/{groupId}/feed")
     public ResponseEntity<GroupFeedDTO> getGroupFeed(
             @PathVariable @Pattern(regexp = "[0-9a-f-]{36}", message = "Invalid group ID format") String groupId,
@@ -240,6 +244,7 @@ public class GroupController extends BaseController {
             bucket);
     }
     
+    @DynamoCallBudget(maxCalls = 20)
     @GetMapping("/{groupId}/feed-items")
     public ResponseEntity<GroupFeedItemsResponse> getGroupFeedItems(
             @PathVariable @Pattern(regexp = "[0-9a-f-]{36}", message = "Invalid group ID format") String groupId,
@@ -1,6 +1,7 @@
 package com.bbthechange.inviter.controller;
 
 import com.bbthechange.inviter.config.ClientInfo;
+import com.bbthechange.inviter.config.DynamoCallBudget;
 import com.bbthechange.inviter.service.HangoutService;
 import com.bbthechange.inviter.dto.*;
 import com.bbthechange.inviter.model.Hangout;
@@ -49,6 +50,7 @@ public class HangoutController extends BaseController {
         return ResponseEntity.status(HttpStatus.CREATED).body(hangout);
     }
     
+    @DynamoCallBudget(maxCalls = 15)
     @GetMapping("/hangouts/{hangoutId}")
     public ResponseEntity<HangoutDetailDTO> getHangout(
             @PathVariable @Pattern(regexp = "[0-9a-f-]{36}", message = "Invalid hangout ID format") String hangoutId,
@@ -0,0 +1,43 @@
+package com.bbthechange.inviter.dto;
+
+import com.bbthechange.inviter.util.InviterKeyFactory;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Item groups within a hangout's EVENT# partition that can be loaded into {@link HangoutDetailData}.
+ *
+ * Each section maps to a sort key prefix, so a caller that only needs some sections can have
+ * them read with {@code begins_with(sk, prefix)} instead of reading the whole partition.
+ */
+public enum HangoutDetailSection {
+
+    /** The hangout item itself (sk = METADATA). */
+    METADATA(InviterKeyFactory.METADATA_SUFFIX),
+    /** Polls, poll options and votes. */
+    POLLS(InviterKeyFactory.POLL_PREFIX + "#"),
+    /** Cars and their riders. */
+    CARPOOL(InviterKeyFactory.CAR_PREFIX + "#"),
+    NEEDS_RIDE(InviterKeyFactory.NEEDS_RIDE_PREFIX + "#"),
+    ATTENDANCE(InviterKeyFactory.ATTENDANCE_PREFIX + "#"),
+    PARTICIPATIONS(InviterKeyFactory.PARTICIPATION_PREFIX + "#"),
+    RESERVATION_OFFERS(InviterKeyFactory.RESERVEOFFER_PREFIX + "#");
+
+    private final String sortKeyPrefix;
+
+    HangoutDetailSection(String sortKeyPrefix) {
+        this.sortKeyPrefix = sortKeyPrefix;
+    }
+
+    public String getSortKeyPrefix() {
+        return sortKeyPrefix;
+    }
+
+    /**
+     * Every section - equivalent to a full detail load.
+     */
+    public static Set<HangoutDetailSection> all() {
+        return EnumSet.allOf(HangoutDetailSection.class);
+    }
+}
@@ -21,6 +21,8 @@ public abstract class BaseItem {
     private String gsi2sk;      // GSI2 Sort Key (reserved for future use)
     private String gsi3pk;      // GSI3 Partition Key (for InviteCodeIndex)
     private String gsi3sk;      // GSI3 Sort Key (reserved for future use)
+    private String gsi4pk;      // GSI4 Partition Key (for sparse RegistryIndex)
+    private String gsi4sk;      // GSI4 Sort Key (for sparse RegistryIndex)
     private String itemType;    // Type discriminator for polymorphic deserialization
     private Instant createdAt;
     private Instant updatedAt;
@@ -106,6 +108,26 @@ public abstract class BaseItem {
         this.gsi3sk = gsi3sk;
     }
 
+    @JsonIgnore
+    @DynamoDbSecondaryPartitionKey(indexNames = "RegistryIndex")
+    public String getGsi4pk() {
+        return gsi4pk;
+    }
+
+    public void setGsi4pk(String gsi4pk) {
+        this.gsi4pk = gsi4pk;
+    }
+
+    @JsonIgnore
+    @DynamoDbSecondarySortKey(indexNames = "RegistryIndex")
+    public String getGsi4sk() {
+        return gsi4sk;
+    }
+
+    public void setGsi4sk(String gsi4sk) {
+        this.gsi4sk = gsi4sk;
+    }
+
     @DynamoDbAttribute("itemType")
     public String getItemType() {
         return itemType;
@@ -81,6 +81,7 @@ public class EventSeries extends BaseItem {
     
     public void setSeriesId(String seriesId) {
         this.seriesId = seriesId;
+        updateRegistryKeys();
     }
     
     public String getSeriesTitle() {
@@ -261,6 +262,7 @@ public class EventSeries extends BaseItem {
 
     public void setEventSeriesType(String eventSeriesType) {
         this.eventSeriesType = eventSeriesType;
+        updateRegistryKeys();
         touch();
     }
 
@@ -333,6 +335,21 @@ public class EventSeries extends BaseItem {
         return "WATCH_PARTY".equals(eventSeriesType);
     }
 
+    /**
+     * Keep the sparse RegistryIndex keys in step with the series type, so Watch Party
+     * series can be listed with a Query instead of a table scan. Legacy items pick the
+     * keys up the next time they are saved, or from the registry backfill.
+     */
+    private void updateRegistryKeys() {
+        if (isWatchParty() && seriesId != null) {
+            setGsi4pk(InviterKeyFactory.getWatchPartySeriesRegistryPk());
+            setGsi4sk(InviterKeyFactory.getSeriesPk(seriesId));
+        } else {
+            setGsi4pk(null);
+            setGsi4sk(null);
+        }
+    }
+
     /**
      * Add an episode ID to the deleted set.
      *
@@ -23,6 +23,8 @@ public class PollOption extends BaseItem {
     private String createdBy;        // nullable: userId who suggested this option
     private String structuredValue;  // nullable: JSON string for location data
     private TimeInfo timeInput;      // nullable: structured time data for TIME-type polls
+    private Long voteCount;          // nullable: maintained with atomic ADD; null on options created before counting
+    private Boolean countInitialized; // nullable: true once voteCount covers every vote on the option
 
     // Default constructor for DynamoDB
     public PollOption() {
@@ -40,6 +42,8 @@ public class PollOption extends BaseItem {
         this.pollId = pollId;
         this.optionId = UUID.randomUUID().toString();
         this.text = text;
+        this.voteCount = 0L;
+        this.countInitialized = true;
         
         // Set keys using InviterKeyFactory
         setPk(InviterKeyFactory.getEventPk(eventId));
@@ -95,6 +99,37 @@ public class PollOption extends BaseItem {
         this.structuredValue = structuredValue;
     }
 
+    /**
+     * Number of votes on this option, kept in step with the vote items by the vote
+     * transactions. Only trustworthy when {@link #hasVoteCount()}; see {@link #getCountInitialized()}.
+     */
+    public Long getVoteCount() {
+        return voteCount;
+    }
+
+    public void setVoteCount(Long voteCount) {
+        this.voteCount = voteCount;
+    }
+
+    /**
+     * True once voteCount has been seeded from the option's vote items. Options created before
+     * counting may already hold deltas from later votes, but not the votes cast before them.
+     */
+    public Boolean getCountInitialized() {
+        return countInitialized;
+    }
+
+    public void setCountInitialized(Boolean countInitialized) {
+        this.countInitialized = countInitialized;
+    }
+
+    /**
+     * Whether voteCount can be shown as is; otherwise count the option's votes instead.
+     */
+    public boolean hasVoteCount() {
+        return Boolean.TRUE.equals(countInitialized) && voteCount != null;
+    }
+
     @DynamoDbAttribute("timeInput")
     public TimeInfo getTimeInput() {
         return timeInput;
@@ -15,6 +15,7 @@ import java.util.Optional;
  *
  * Key Pattern: PK = TVMAZE#SHOW#{showId}, SK = SEASON#{seasonNumber}
  * GSI: ExternalIdIndex with externalId = showId, externalSource = "TVMAZE" for querying all seasons of a show
+ * GSI: RegistryIndex with gsi4pk = REGISTRY#SEASON, gsi4sk = season reference for listing all tracked seasons
  */
 @DynamoDbBean
 public class Season extends BaseItem {
@@ -58,6 +59,8 @@ public class Season extends BaseItem {
         // Set GSI keys for ExternalIdIndex (allows querying all seasons for a show)
         this.externalId = showId.toString();
         this.externalSource = EXTERNAL_SOURCE;
+
+        updateRegistryKeys();
     }
 
     public Integer getShowId() {
@@ -66,6 +69,7 @@ public class Season extends BaseItem {
 
     public void setShowId(Integer showId) {
         this.showId = showId;
+        updateRegistryKeys();
     }
 
     public Integer getSeasonNumber() {
@@ -74,6 +78,7 @@ public class Season extends BaseItem {
 
     public void setSeasonNumber(Integer seasonNumber) {
         this.seasonNumber = seasonNumber;
+        updateRegistryKeys();
     }
 
     public String getShowName() {
@@ -218,4 +223,15 @@ public class Season extends BaseItem {
     public String getSeasonReference() {
         return InviterKeyFactory.getSeasonReference(showId, seasonNumber);
     }
+
+    /**
+     * Set the sparse RegistryIndex keys once the season is identified, so tracked shows
+     * can be listed with a Query instead of a table scan.
+     */
+    private void updateRegistryKeys() {
+        if (showId != null && seasonNumber != null) {
+            setGsi4pk(InviterKeyFactory.getSeasonRegistryPk());
+            setGsi4sk(InviterKeyFactory.getSeasonReference(showId, seasonNumber));
+        }
+    }
 }
@@ -89,8 +89,8 @@ public interface EventSeriesRepository {
 
     /**
      * Find all Watch Party EventSeries.
-     * Performs a scan with filter on eventSeriesType = "WATCH_PARTY".
-     * Use sparingly as scans are expensive operations.
+     * Queries the sparse RegistryIndex, so the cost scales with the number of
+     * Watch Party series rather than the size of the table.
      *
      * @return List of all Watch Party EventSeries
      */
@@ -1,8 +1,10 @@
 package com.bbthechange.inviter.repository;
 
 import com.bbthechange.inviter.model.*;
+import com.bbthechange.inviter.util.HangoutPointerPatch;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -92,4 +94,20 @@ public interface GroupRepository {
      * Uses DynamoDB atomic ADD operation to safely increment/decrement.
      */
     void atomicallyUpdateParticipantCount(String groupId, String hangoutId, int delta);
+
+    /**
+     * Overwrite only the pointer attributes named by the patch (plus updatedAt and version)
+     * with a single UpdateItem - no read, and no rewrite of the other denormalized fields.
+     *
+     * @return true if the pointer was updated, false if it does not exist
+     */
+    boolean patchHangoutPointer(String groupId, String hangoutId, HangoutPointerPatch patch);
+
+    /**
+     * Move a group's lastHangoutModified forward to the given timestamp with a single conditional
+     * UpdateItem - no read, and never moves the timestamp backwards.
+     *
+     * @return true if the group was updated, false if it does not exist or already has a newer timestamp
+     */
+    boolean advanceLastHangoutModified(String groupId, Instant timestamp);
 }
\ No newline at end of file
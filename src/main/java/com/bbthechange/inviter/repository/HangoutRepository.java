@@ -1,6 +1,7 @@
 package com.bbthechange.inviter.repository;
 
 import com.bbthechange.inviter.dto.HangoutDetailData;
+import com.bbthechange.inviter.dto.HangoutDetailSection;
 import com.bbthechange.inviter.model.*;
 import com.bbthechange.inviter.util.PaginatedResult;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
@@ -8,6 +9,7 @@ import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 
 /**
@@ -22,10 +24,27 @@ public interface HangoutRepository {
      * This is the power pattern - one query gets event + polls + cars + votes + attendance!
      */
     HangoutDetailData getHangoutDetailData(String eventId);
+
+    /**
+     * Get only the requested sections of a hangout's item collection.
+     * Each section is read with a begins_with(sk) query, so callers that need e.g. just
+     * attendance don't pay for votes and polls. Sections not requested are left empty;
+     * the hangout is only required (and returned) when METADATA is requested.
+     */
+    HangoutDetailData getHangoutDetailData(String eventId, Set<HangoutDetailSection> sections);
     
     // New Hangout CRUD operations for InviterTable
     Hangout createHangout(Hangout hangout);
     Hangout createHangoutWithAttributes(Hangout hangout, List<HangoutPointer> pointers, List<HangoutAttribute> attributes, List<Poll> polls, List<PollOption> pollOptions);
+
+    /**
+     * Create a hangout and its group pointer in one transaction, unless a hangout with the
+     * same ID already exists. Lets background jobs that derive the hangout ID from their
+     * input be retried without creating duplicates.
+     *
+     * @return true if created, false if the hangout already existed (nothing was written)
+     */
+    boolean createHangoutIfAbsent(Hangout hangout, HangoutPointer pointer);
     Optional<Hangout> findHangoutById(String hangoutId);
     void updateHangoutMetadata(String hangoutId, Map<String, AttributeValue> updates);
     void deleteHangout(String hangoutId);
@@ -54,15 +73,89 @@ public interface HangoutRepository {
     // Query methods for poll data retrieval
     List<BaseItem> getAllPollData(String eventId);
     List<BaseItem> getSpecificPollData(String eventId, String pollId);
+
+    /**
+     * Polls and their options for an event, without votes. Each poll's votes are skipped over
+     * rather than read, so the cost doesn't grow with the number of votes cast.
+     */
+    List<BaseItem> getPollsAndOptions(String eventId);
+
+    /**
+     * Count a poll's votes per option from its vote items, for options whose counter isn't
+     * seeded yet. Read-only; counters are seeded by the next vote written to the option.
+     *
+     * @return the votes counted for each of {@code optionIds}
+     */
+    Map<String, Long> countVotes(String eventId, String pollId, Set<String> optionIds);
     
     Car saveCar(Car car);
     void deleteCar(String eventId, String driverId);
     
     CarRider saveCarRider(CarRider carRider);
     void deleteCarRider(String eventId, String driverId, String riderId);
+    Optional<CarRider> findCarRider(String eventId, String driverId, String riderId);
+
+    /**
+     * Reserve a seat in one transaction, without reading the partition first: take the rider's
+     * seats from the car only if enough remain, create the CarRider only if the rider has no
+     * reservation with this driver, and delete the rider's NeedsRide request.
+     *
+     * @throws com.bbthechange.inviter.exception.CarNotFoundException if the car doesn't exist
+     * @throws com.bbthechange.inviter.exception.NoAvailableSeatsException if too few seats remain
+     * @throws com.bbthechange.inviter.exception.ValidationException if the rider already has a reservation
+     */
+    CarRider reserveSeatAtomically(CarRider carRider);
+
+    /**
+     * Delete a reservation and give its seats back to the car in one transaction.
+     *
+     * @throws com.bbthechange.inviter.exception.ValidationException if the reservation is already gone
+     * @throws com.bbthechange.inviter.exception.CarNotFoundException if the car doesn't exist
+     */
+    void releaseSeatAtomically(CarRider carRider);
+
+    /**
+     * Delete a car offer and all of its riders in one transaction. The car delete is conditioned
+     * on its seat count being unchanged, so a reservation made meanwhile cancels the transaction
+     * instead of leaving an orphaned rider.
+     *
+     * @return number of rider records removed
+     */
+    int cancelCarOfferAtomically(String eventId, String driverId);
     
     Vote saveVote(Vote vote);
     void deleteVote(String eventId, String pollId, String userId, String optionId);
+
+    /**
+     * Find a poll item by key, without its options or votes.
+     */
+    Optional<Poll> findPollById(String eventId, String pollId);
+
+    /**
+     * Find one user's votes on a poll with a sort key prefix query, without reading other users' votes.
+     */
+    List<Vote> findUserVotes(String eventId, String pollId, String userId);
+
+    /**
+     * Find one user's votes on the given options, across polls, with BatchGetItem on the vote
+     * keys rather than a query per poll.
+     */
+    List<Vote> findUserVotesOnOptions(String eventId, String userId, List<PollOption> options);
+
+    /**
+     * Save a vote, delete the votes it replaces, and adjust the affected options' vote counters,
+     * all in one transaction. Idempotent: a vote that already exists or a replaced vote that is
+     * already gone is skipped rather than failing the write.
+     *
+     * @param replaced votes to delete in the same transaction (single-choice re-votes); may be empty
+     */
+    Vote castVote(Vote vote, List<Vote> replaced);
+
+    /**
+     * Delete votes and decrement their options' vote counters in one transaction.
+     * Votes that are already gone are skipped.
+     */
+    void retractVotes(List<Vote> votes);
     
     InterestLevel saveInterestLevel(InterestLevel interestLevel);
     void deleteInterestLevel(String eventId, String userId);
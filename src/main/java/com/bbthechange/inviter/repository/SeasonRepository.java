@@ -61,6 +61,7 @@ public interface SeasonRepository {
     /**
      * Get all distinct show IDs that have at least one Season record.
      * Used for polling TVMaze for updates to tracked shows.
+     * Queries the sparse RegistryIndex rather than scanning the table.
      *
      * @return Set of TVMaze show IDs we're tracking
      */
@@ -8,19 +8,29 @@ import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.ReadBatch;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public class UserRepository {
-    
+
+    // BatchGetItem accepts at most 100 keys per request
+    private static final int BATCH_GET_LIMIT = 100;
+
+    private final DynamoDbEnhancedClient dynamoDbEnhancedClient;
     private final DynamoDbTable<User> userTable;
     private final DynamoDbIndex<User> phoneNumberIndex;
     
     @Autowired
     public UserRepository(DynamoDbEnhancedClient dynamoDbEnhancedClient) {
+        this.dynamoDbEnhancedClient = dynamoDbEnhancedClient;
         this.userTable = dynamoDbEnhancedClient.table("Users", TableSchema.fromBean(User.class));
         this.phoneNumberIndex = userTable.index("PhoneNumberIndex");
     }
@@ -40,6 +50,30 @@ public class UserRepository {
         return Optional.ofNullable(user);
     }
     
+    /**
+     * Load many users with BatchGetItem, 100 keys per request. Keys DynamoDB leaves
+     * unprocessed are retried by the enhanced client's result paging.
+     *
+     * @return The users that exist, in no particular order
+     */
+    public List<User> findByIds(Collection<UUID> ids) {
+        List<String> keys = ids.stream().map(UUID::toString).distinct().toList();
+        List<User> users = new ArrayList<>(keys.size());
+
+        for (int start = 0; start < keys.size(); start += BATCH_GET_LIMIT) {
+            ReadBatch.Builder<User> batch = ReadBatch.builder(User.class).mappedTableResource(userTable);
+            for (String id : keys.subList(start, Math.min(start + BATCH_GET_LIMIT, keys.size()))) {
+                batch.addGetItem(Key.builder().partitionValue(id).build());
+            }
+            dynamoDbEnhancedClient.batchGetItem(BatchGetItemEnhancedRequest.builder()
+                    .readBatches(batch.build())
+                    .build())
+                    .resultsForTable(userTable)
+                    .forEach(users::add);
+        }
+        return users;
+    }
+
     public Optional<User> findByPhoneNumber(String phoneNumber) {
         return phoneNumberIndex.query(QueryConditional.keyEqualTo(Key.builder()
                 .partitionValue(phoneNumber)
@@ -5,8 +5,10 @@ import com.bbthechange.inviter.repository.EventSeriesRepository;
 import com.bbthechange.inviter.exception.RepositoryException;
 import com.bbthechange.inviter.util.QueryPerformanceTracker;
 import com.bbthechange.inviter.util.InviterKeyFactory;
+import com.bbthechange.inviter.util.InviterTableSchemas;
 import org.springframework.stereotype.Repository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import software.amazon.awssdk.enhanced.dynamodb.*;
 import software.amazon.awssdk.enhanced.dynamodb.model.*;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
@@ -31,16 +33,24 @@ public class EventSeriesRepositoryImpl implements EventSeriesRepository {
     private static final String TABLE_NAME = "InviterTable";
     private final TableSchema<EventSeries> eventSeriesSchema;
     private final QueryPerformanceTracker performanceTracker;
+    private final boolean registryIndexEnabled;
     
+    /**
+     * @param registryIndexEnabled Read Watch Party series from RegistryIndex instead of scanning
+     *                             the table. Only turn on once the index exists and
+     *                             RegistryIndexBackfill has finished, or older series are missed.
+     */
     @Autowired
     public EventSeriesRepositoryImpl(
             DynamoDbClient dynamoDbClient,
             DynamoDbEnhancedClient dynamoDbEnhancedClient,
-            QueryPerformanceTracker performanceTracker) {
+            QueryPerformanceTracker performanceTracker,
+            @Value("${dynamodb.registry-index.enabled:false}") boolean registryIndexEnabled) {
         this.dynamoDbClient = dynamoDbClient;
-        this.eventSeriesTable = dynamoDbEnhancedClient.table(TABLE_NAME, TableSchema.fromBean(EventSeries.class));
-        this.eventSeriesSchema = TableSchema.fromBean(EventSeries.class);
+        this.eventSeriesTable = dynamoDbEnhancedClient.table(TABLE_NAME, InviterTableSchemas.forClass(EventSeries.class));
+        this.eventSeriesSchema = InviterTableSchemas.forClass(EventSeries.class);
         this.performanceTracker = performanceTracker;
+        this.registryIndexEnabled = registryIndexEnabled;
     }
     
     @Override
@@ -287,27 +297,46 @@ public class EventSeriesRepositoryImpl implements EventSeriesRepository {
 
     @Override
     public List<EventSeries> findAllWatchPartySeries() {
-        return performanceTracker.trackQuery("findAllWatchPartySeries", TABLE_NAME, () -> {
+        String source = registryIndexEnabled ? "RegistryIndex" : TABLE_NAME;
+        return performanceTracker.trackQuery("findAllWatchPartySeries", source, () -> {
             try {
                 List<EventSeries> result = new ArrayList<>();
                 Map<String, AttributeValue> lastKey = null;
 
                 do {
-                    ScanRequest.Builder requestBuilder = ScanRequest.builder()
-                        .tableName(TABLE_NAME)
-                        .filterExpression("itemType = :itemType AND eventSeriesType = :seriesType")
-                        .expressionAttributeValues(Map.of(
-                            ":itemType", AttributeValue.builder().s("EVENT_SERIES").build(),
-                            ":seriesType", AttributeValue.builder().s("WATCH_PARTY").build()
-                        ));
-
-                    if (lastKey != null && !lastKey.isEmpty()) {
-                        requestBuilder.exclusiveStartKey(lastKey);
+                    List<Map<String, AttributeValue>> items;
+                    if (registryIndexEnabled) {
+                        QueryRequest.Builder requestBuilder = QueryRequest.builder()
+                            .tableName(TABLE_NAME)
+                            .indexName("RegistryIndex")
+                            .keyConditionExpression("gsi4pk = :registry")
+                            .expressionAttributeValues(Map.of(
+                                ":registry", AttributeValue.builder().s(InviterKeyFactory.getWatchPartySeriesRegistryPk()).build()
+                            ));
+                        if (lastKey != null && !lastKey.isEmpty()) {
+                            requestBuilder.exclusiveStartKey(lastKey);
+                        }
+                        QueryResponse response = dynamoDbClient.query(requestBuilder.build());
+                        items = response.items();
+                        lastKey = response.lastEvaluatedKey();
+                    } else {
+                        // Until the registry is backfilled, scan for Watch Party series
+                        ScanRequest.Builder requestBuilder = ScanRequest.builder()
+                            .tableName(TABLE_NAME)
+                            .filterExpression("itemType = :itemType AND eventSeriesType = :seriesType")
+                            .expressionAttributeValues(Map.of(
+                                ":itemType", AttributeValue.builder().s("EVENT_SERIES").build(),
+                                ":seriesType", AttributeValue.builder().s("WATCH_PARTY").build()
+                            ));
+                        if (lastKey != null && !lastKey.isEmpty()) {
+                            requestBuilder.exclusiveStartKey(lastKey);
+                        }
+                        ScanResponse response = dynamoDbClient.scan(requestBuilder.build());
+                        items = response.items();
+                        lastKey = response.lastEvaluatedKey();
                     }
 
-                    ScanResponse response = dynamoDbClient.scan(requestBuilder.build());
-
-                    for (Map<String, AttributeValue> item : response.items()) {
+                    for (Map<String, AttributeValue> item : items) {
                         try {
                             EventSeries series = eventSeriesSchema.mapToItem(item);
                             result.add(series);
@@ -315,16 +344,14 @@ public class EventSeriesRepositoryImpl implements EventSeriesRepository {
                             logger.warn("Failed to map EventSeries item: {}", e.getMessage());
                         }
                     }
-
-                    lastKey = response.lastEvaluatedKey();
                 } while (lastKey != null && !lastKey.isEmpty());
 
                 logger.debug("Found {} Watch Party EventSeries", result.size());
                 return result;
 
             } catch (DynamoDbException e) {
-                logger.error("Failed to scan for Watch Party EventSeries", e);
-                throw new RepositoryException("Failed to scan for Watch Party EventSeries", e);
+                logger.error("Failed to read Watch Party EventSeries from {}", source, e);
+                throw new RepositoryException("Failed to find Watch Party EventSeries", e);
             }
         });
     }
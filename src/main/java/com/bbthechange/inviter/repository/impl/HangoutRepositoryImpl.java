@@ -1,15 +1,22 @@
 package com.bbthechange.inviter.repository.impl;
 
 import com.bbthechange.inviter.dto.HangoutDetailData;
+import com.bbthechange.inviter.dto.HangoutDetailSection;
 import com.bbthechange.inviter.repository.HangoutRepository;
 import com.bbthechange.inviter.repository.EventRepository;
 import com.bbthechange.inviter.model.*;
 import com.bbthechange.inviter.model.EventSeries;
+import com.bbthechange.inviter.exception.CarNotFoundException;
+import com.bbthechange.inviter.exception.NoAvailableSeatsException;
 import com.bbthechange.inviter.exception.RepositoryException;
 import com.bbthechange.inviter.exception.ResourceNotFoundException;
+import com.bbthechange.inviter.exception.ValidationException;
 import com.bbthechange.inviter.util.QueryPerformanceTracker;
 import com.bbthechange.inviter.util.InviterKeyFactory;
+import com.bbthechange.inviter.util.SortKeyCodec;
 import com.bbthechange.inviter.util.PaginatedResult;
+import com.bbthechange.inviter.util.RequestReadCache;
+import com.bbthechange.inviter.util.InviterTableSchemas;
 import org.springframework.stereotype.Repository;
 import org.springframework.beans.factory.annotation.Autowired;
 import software.amazon.awssdk.enhanced.dynamodb.*;
@@ -36,6 +43,13 @@ public class HangoutRepositoryImpl implements HangoutRepository {
     private final DynamoDbClient dynamoDbClient;
     private final DynamoDbTable<HangoutAttribute> inviterTable;
     private static final String TABLE_NAME = "InviterTable";
+    private static final int MAX_VOTES_PER_TRANSACTION = 50;
+    // Bounds how many vote items getPollsAndOptions reads before skipping past a poll's votes
+    private static final int POLL_SKIP_PAGE_SIZE = 25;
+    // Rounds seedVoteCounts retries while concurrent votes keep moving a counter
+    private static final int MAX_SEED_ATTEMPTS = 3;
+    // BatchGetItem accepts at most 100 keys per request
+    private static final int BATCH_GET_LIMIT = 100;
     private final TableSchema<Hangout> hangoutSchema;
     private final TableSchema<Poll> pollSchema;
     private final TableSchema<PollOption> pollOptionSchema;
@@ -60,21 +74,21 @@ public class HangoutRepositoryImpl implements HangoutRepository {
             QueryPerformanceTracker performanceTracker,
             EventRepository eventRepository) {
         this.dynamoDbClient = dynamoDbClient;
-        this.inviterTable = dynamoDbEnhancedClient.table(TABLE_NAME, TableSchema.fromBean(HangoutAttribute.class));
-        this.hangoutSchema = TableSchema.fromBean(Hangout.class);
-        this.pollSchema = TableSchema.fromBean(Poll.class);
-        this.pollOptionSchema = TableSchema.fromBean(PollOption.class);
-        this.carSchema = TableSchema.fromBean(Car.class);
-        this.voteSchema = TableSchema.fromBean(Vote.class);
-        this.interestLevelSchema = TableSchema.fromBean(InterestLevel.class);
-        this.carRiderSchema = TableSchema.fromBean(CarRider.class);
-        this.hangoutPointerSchema = TableSchema.fromBean(HangoutPointer.class);
-        this.seriesPointerSchema = TableSchema.fromBean(SeriesPointer.class);
-        this.hangoutAttributeSchema = TableSchema.fromBean(HangoutAttribute.class);
-        this.needsRideSchema = TableSchema.fromBean(NeedsRide.class);
-        this.eventSeriesSchema = TableSchema.fromBean(EventSeries.class);
-        this.participationSchema = TableSchema.fromBean(Participation.class);
-        this.reservationOfferSchema = TableSchema.fromBean(ReservationOffer.class);
+        this.inviterTable = dynamoDbEnhancedClient.table(TABLE_NAME, InviterTableSchemas.forClass(HangoutAttribute.class));
+        this.hangoutSchema = InviterTableSchemas.forClass(Hangout.class);
+        this.pollSchema = InviterTableSchemas.forClass(Poll.class);
+        this.pollOptionSchema = InviterTableSchemas.forClass(PollOption.class);
+        this.carSchema = InviterTableSchemas.forClass(Car.class);
+        this.voteSchema = InviterTableSchemas.forClass(Vote.class);
+        this.interestLevelSchema = InviterTableSchemas.forClass(InterestLevel.class);
+        this.carRiderSchema = InviterTableSchemas.forClass(CarRider.class);
+        this.hangoutPointerSchema = InviterTableSchemas.forClass(HangoutPointer.class);
+        this.seriesPointerSchema = InviterTableSchemas.forClass(SeriesPointer.class);
+        this.hangoutAttributeSchema = InviterTableSchemas.forClass(HangoutAttribute.class);
+        this.needsRideSchema = InviterTableSchemas.forClass(NeedsRide.class);
+        this.eventSeriesSchema = InviterTableSchemas.forClass(EventSeries.class);
+        this.participationSchema = InviterTableSchemas.forClass(Participation.class);
+        this.reservationOfferSchema = InviterTableSchemas.forClass(ReservationOffer.class);
         this.performanceTracker = performanceTracker;
         this.eventRepository = eventRepository;
     }
@@ -88,33 +102,21 @@ public class HangoutRepositoryImpl implements HangoutRepository {
             // Fallback to SK pattern matching for backward compatibility
             AttributeValue skAttr = itemMap.get("sk");
             if (skAttr != null) {
-                String sk = skAttr.s();
-                if (InviterKeyFactory.isMetadata(sk)) {
-                    return hangoutSchema.mapToItem(itemMap);
-                } else if (InviterKeyFactory.isPollItem(sk)) {
-                    return pollSchema.mapToItem(itemMap);
-                } else if (InviterKeyFactory.isPollOption(sk)) {
-                    return pollOptionSchema.mapToItem(itemMap);
-                } else if (InviterKeyFactory.isCarItem(sk)) {
-                    return carSchema.mapToItem(itemMap);
-                } else if (InviterKeyFactory.isVoteItem(sk)) {
-                    return voteSchema.mapToItem(itemMap);
-                } else if (InviterKeyFactory.isAttendanceItem(sk)) {
-                    return interestLevelSchema.mapToItem(itemMap);
-                } else if (InviterKeyFactory.isCarRiderItem(sk)) {
-                    return carRiderSchema.mapToItem(itemMap);
-                } else if (InviterKeyFactory.isNeedsRideItem(sk)) {
-                    return needsRideSchema.mapToItem(itemMap);
-                } else if (InviterKeyFactory.isAttributeItem(sk)) {
-                    return hangoutAttributeSchema.mapToItem(itemMap);
-                } else if (InviterKeyFactory.isHangoutPointer(sk)) {
-                    return hangoutPointerSchema.mapToItem(itemMap);
-                } else if (InviterKeyFactory.isSeriesPointer(sk)) {
-                    return seriesPointerSchema.mapToItem(itemMap);
-                } else if (InviterKeyFactory.isParticipation(sk)) {
-                    return participationSchema.mapToItem(itemMap);
-                } else if (InviterKeyFactory.isReservationOffer(sk)) {
-                    return reservationOfferSchema.mapToItem(itemMap);
+                switch (SortKeyCodec.typeOf(skAttr.s())) {
+                    case METADATA: return hangoutSchema.mapToItem(itemMap);
+                    case POLL: return pollSchema.mapToItem(itemMap);
+                    case POLL_OPTION: return pollOptionSchema.mapToItem(itemMap);
+                    case CAR: return carSchema.mapToItem(itemMap);
+                    case VOTE: return voteSchema.mapToItem(itemMap);
+                    case ATTENDANCE: return interestLevelSchema.mapToItem(itemMap);
+                    case CAR_RIDER: return carRiderSchema.mapToItem(itemMap);
+                    case NEEDS_RIDE: return needsRideSchema.mapToItem(itemMap);
+                    case ATTRIBUTE: return hangoutAttributeSchema.mapToItem(itemMap);
+                    case HANGOUT_POINTER: return hangoutPointerSchema.mapToItem(itemMap);
+                    case SERIES_POINTER: return seriesPointerSchema.mapToItem(itemMap);
+                    case PARTICIPATION: return participationSchema.mapToItem(itemMap);
+                    case RESERVATION_OFFER: return reservationOfferSchema.mapToItem(itemMap);
+                    default: break;
                 }
             }
             throw new IllegalStateException("Missing itemType discriminator and unable to determine type from SK");
@@ -157,83 +159,141 @@ public class HangoutRepositoryImpl implements HangoutRepository {
 
 
     public HangoutDetailData getHangoutDetailData(String eventId) {
+        // Several services load the same hangout within one request; reuse the first read.
+        // Writes to the partition invalidate it (see RequestReadCacheInvalidator).
+        return RequestReadCache.getOrLoad("getHangoutDetailData", InviterKeyFactory.getEventPk(eventId),
+                () -> queryHangoutDetailData(eventId));
+    }
+
+    @Override
+    public HangoutDetailData getHangoutDetailData(String eventId, Set<HangoutDetailSection> sections) {
+        if (sections.containsAll(HangoutDetailSection.all())) {
+            return getHangoutDetailData(eventId);
+        }
+        Set<HangoutDetailSection> requested = EnumSet.noneOf(HangoutDetailSection.class);
+        requested.addAll(sections);
+        return RequestReadCache.getOrLoad("getHangoutDetailData" + requested, InviterKeyFactory.getEventPk(eventId),
+                () -> querySectionsOfHangoutDetailData(eventId, requested));
+    }
+
+    private HangoutDetailData queryHangoutDetailData(String eventId) {
         return performanceTracker.trackQuery("getHangoutDetailData", "InviterTable", () -> {
             try {
-                // Single query gets ALL event data - the power pattern!
-                QueryRequest request = QueryRequest.builder()
-                        .tableName(TABLE_NAME)
+                // Single item collection query gets ALL event data - the power pattern!
+                // Paged, since votes/attendance/participations can push the partition past 1 MB.
+                DetailDataCollector collector = new DetailDataCollector();
+                queryPartition(eventId, null, collector);
+                return collector.build(eventId, true);
+
+            } catch (Exception e) {
+                logger.error("Failed to get event detail data for event {}", eventId, e);
+                throw new RepositoryException("Failed to retrieve hangout details", e);
+            }
+        });
+    }
+
+    private HangoutDetailData querySectionsOfHangoutDetailData(String eventId, Set<HangoutDetailSection> sections) {
+        return performanceTracker.trackQuery("getHangoutDetailDataSections", "InviterTable", () -> {
+            try {
+                // One begins_with query per section so unrequested items (e.g. votes) are never read
+                DetailDataCollector collector = new DetailDataCollector();
+                for (HangoutDetailSection section : sections) {
+                    queryPartition(eventId, section.getSortKeyPrefix(), collector);
+                }
+                return collector.build(eventId, sections.contains(HangoutDetailSection.METADATA));
+
+            } catch (Exception e) {
+                logger.error("Failed to get event detail data sections {} for event {}", sections, eventId, e);
+                throw new RepositoryException("Failed to retrieve hangout details", e);
+            }
+        });
+    }
+
+    /**
+     * Page through the EVENT# partition (optionally restricted to a sort key prefix),
+     * handing each page's items to the collector as it arrives.
+     */
+    private void queryPartition(String eventId, String sortKeyPrefix, DetailDataCollector collector) {
+        Map<String, AttributeValue> lastEvaluatedKey = null;
+
+        do {
+            QueryRequest.Builder requestBuilder = QueryRequest.builder()
+                    .tableName(TABLE_NAME)
+                    .scanIndexForward(true);
+
+            if (sortKeyPrefix == null) {
+                requestBuilder
                         .keyConditionExpression("pk = :pk")
                         .expressionAttributeValues(Map.of(
                                 ":pk", AttributeValue.builder().s(InviterKeyFactory.getEventPk(eventId)).build()
-                        ))
-                        .scanIndexForward(true)
-                        .build();
+                        ));
+            } else {
+                requestBuilder
+                        .keyConditionExpression("pk = :pk AND begins_with(sk, :skPrefix)")
+                        .expressionAttributeValues(Map.of(
+                                ":pk", AttributeValue.builder().s(InviterKeyFactory.getEventPk(eventId)).build(),
+                                ":skPrefix", AttributeValue.builder().s(sortKeyPrefix).build()
+                        ));
+            }
 
-                QueryResponse response = dynamoDbClient.query(request);
+            if (lastEvaluatedKey != null) {
+                requestBuilder.exclusiveStartKey(lastEvaluatedKey);
+            }
 
-                List<BaseItem> allItems = response.items().stream()
-                        .map(item -> {
-                            try {
-                                return deserializeItem(item);
-                            } catch (Exception e) {
-                                logger.warn("Failed to deserialize item with pk={}, sk={}: {}", 
-                                    item.get("pk"), item.get("sk"), e.getMessage());
-                                return null;
-                            }
-                        })
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toList());
+            QueryResponse response = dynamoDbClient.query(requestBuilder.build());
 
-                // Sort by sort key patterns in memory (efficient - documented contract)
-                List<Poll> polls = new ArrayList<>();
-                List<PollOption> pollOptions = new ArrayList<>();
-                List<Car> cars = new ArrayList<>();
-                List<Vote> votes = new ArrayList<>();
-                List<InterestLevel> attendance = new ArrayList<>();
-                List<CarRider> carRiders = new ArrayList<>();
-                List<NeedsRide> needsRideList = new ArrayList<>();
-                List<Participation> participations = new ArrayList<>();
-                List<ReservationOffer> reservationOffers = new ArrayList<>();
-                Optional<Hangout> hangoutOption = Optional.empty();
-
-                for (BaseItem item : allItems) {
-                    String sk = item.getSk();
-
-                    // Use key patterns to safely identify types (documented contract)
-                    if (InviterKeyFactory.isPollItem(sk)) {
-                        polls.add((Poll) item); // Safe - key pattern guarantees Poll
-                    } else if (InviterKeyFactory.isPollOption(sk)) {
-                        pollOptions.add((PollOption) item); // Safe - key pattern guarantees PollOption
-                    } else if (InviterKeyFactory.isCarItem(sk)) {
-                        cars.add((Car) item); // Safe - key pattern guarantees Car
-                    } else if (InviterKeyFactory.isVoteItem(sk)) {
-                        votes.add((Vote) item); // Safe - key pattern guarantees Vote
-                    } else if (InviterKeyFactory.isAttendanceItem(sk)) {
-                        attendance.add((InterestLevel) item); // Safe - key pattern guarantees InterestLevel
-                    } else if (InviterKeyFactory.isCarRiderItem(sk)) {
-                        carRiders.add((CarRider) item); // Safe - key pattern guarantees CarRider
-                    } else if (InviterKeyFactory.isNeedsRideItem(sk)) {
-                        needsRideList.add((NeedsRide) item); // Safe - key pattern guarantees NeedsRide
-                    } else if (InviterKeyFactory.isParticipation(sk)) {
-                        participations.add((Participation) item); // Safe - key pattern guarantees Participation
-                    } else if (InviterKeyFactory.isReservationOffer(sk)) {
-                        reservationOffers.add((ReservationOffer) item); // Safe - key pattern guarantees ReservationOffer
-                    } else if (InviterKeyFactory.isMetadata(sk)) {
-                        hangoutOption = Optional.of((Hangout) item);
-                    }
+            for (Map<String, AttributeValue> item : response.items()) {
+                try {
+                    collector.accept(deserializeItem(item));
+                } catch (Exception e) {
+                    logger.warn("Failed to deserialize item with pk={}, sk={}: {}",
+                        item.get("pk"), item.get("sk"), e.getMessage());
                 }
+            }
 
-                Hangout hangout = hangoutOption
-                        .orElseThrow(() -> new ResourceNotFoundException("Event not found: " + eventId));
+            lastEvaluatedKey = response.lastEvaluatedKey();
+        } while (lastEvaluatedKey != null && !lastEvaluatedKey.isEmpty());
+    }
 
-                return new HangoutDetailData(hangout, polls, pollOptions, cars, votes, attendance,
-                    carRiders, needsRideList, participations, reservationOffers);
+    /**
+     * Sorts partition items into the typed HangoutDetailData lists by sort key type.
+     */
+    private static class DetailDataCollector {
+        private final List<Poll> polls = new ArrayList<>();
+        private final List<PollOption> pollOptions = new ArrayList<>();
+        private final List<Car> cars = new ArrayList<>();
+        private final List<Vote> votes = new ArrayList<>();
+        private final List<InterestLevel> attendance = new ArrayList<>();
+        private final List<CarRider> carRiders = new ArrayList<>();
+        private final List<NeedsRide> needsRideList = new ArrayList<>();
+        private final List<Participation> participations = new ArrayList<>();
+        private final List<ReservationOffer> reservationOffers = new ArrayList<>();
+        private Hangout hangout;
+
+        void accept(BaseItem item) {
+            // One parse of the sort key picks the list; the key layout guarantees the cast
+            switch (SortKeyCodec.typeOf(item.getSk())) {
+                case POLL -> polls.add((Poll) item);
+                case POLL_OPTION -> pollOptions.add((PollOption) item);
+                case CAR -> cars.add((Car) item);
+                case VOTE -> votes.add((Vote) item);
+                case ATTENDANCE -> attendance.add((InterestLevel) item);
+                case CAR_RIDER -> carRiders.add((CarRider) item);
+                case NEEDS_RIDE -> needsRideList.add((NeedsRide) item);
+                case PARTICIPATION -> participations.add((Participation) item);
+                case RESERVATION_OFFER -> reservationOffers.add((ReservationOffer) item);
+                case METADATA -> hangout = (Hangout) item;
+                default -> { }
+            }
+        }
 
-            } catch (Exception e) {
-                logger.error("Failed to get event detail data for event {}", eventId, e);
-                throw new RepositoryException("Failed to retrieve hangout details", e);
+        HangoutDetailData build(String eventId, boolean requireHangout) {
+            if (requireHangout && hangout == null) {
+                throw new ResourceNotFoundException("Event not found: " + eventId);
             }
-        });
+            return new HangoutDetailData(hangout, polls, pollOptions, cars, votes, attendance,
+                carRiders, needsRideList, participations, reservationOffers);
+        }
     }
 
     
@@ -329,6 +389,46 @@ public class HangoutRepositoryImpl implements HangoutRepository {
         });
     }
     
+    @Override
+    public boolean createHangoutIfAbsent(Hangout hangout, HangoutPointer pointer) {
+        return performanceTracker.trackQuery("createHangoutIfAbsent", TABLE_NAME, () -> {
+            try {
+                hangout.touch();
+                pointer.touch();
+
+                TransactWriteItemsRequest request = TransactWriteItemsRequest.builder()
+                    .transactItems(
+                        TransactWriteItem.builder()
+                            .put(Put.builder()
+                                .tableName(TABLE_NAME)
+                                .item(hangoutSchema.itemToMap(hangout, true))
+                                .conditionExpression("attribute_not_exists(pk)")
+                                .build())
+                            .build(),
+                        TransactWriteItem.builder()
+                            .put(Put.builder()
+                                .tableName(TABLE_NAME)
+                                .item(hangoutPointerSchema.itemToMap(pointer, true))
+                                .build())
+                            .build())
+                    .build();
+
+                dynamoDbClient.transactWriteItems(request);
+                return true;
+            } catch (TransactionCanceledException e) {
+                if (isConditionFailure(e.cancellationReasons(), 0)) {
+                    logger.debug("Hangout {} already exists, skipping create", hangout.getHangoutId());
+                    return false;
+                }
+                throw e;
+            } catch (DynamoDbException e) {
+                logger.error("Failed to create hangout {} with pointer for group {}",
+                    hangout.getHangoutId(), pointer.getGroupId(), e);
+                throw new RepositoryException("Failed to create hangout with pointer", e);
+            }
+        });
+    }
+
     @Override
     public Hangout save(Hangout hangout) {
         return performanceTracker.trackQuery("PutItem", TABLE_NAME, () -> {
@@ -622,6 +722,229 @@ public class HangoutRepositoryImpl implements HangoutRepository {
             }
         });
     }
+
+    @Override
+    public Optional<CarRider> findCarRider(String eventId, String driverId, String riderId) {
+        return performanceTracker.trackQuery("GetItem", TABLE_NAME, () -> {
+            try {
+                GetItemRequest request = GetItemRequest.builder()
+                    .tableName(TABLE_NAME)
+                    .key(Map.of(
+                        "pk", AttributeValue.builder().s(InviterKeyFactory.getEventPk(eventId)).build(),
+                        "sk", AttributeValue.builder().s(InviterKeyFactory.getCarRiderSk(driverId, riderId)).build()
+                    ))
+                    .build();
+
+                GetItemResponse response = dynamoDbClient.getItem(request);
+                if (!response.hasItem()) {
+                    return Optional.empty();
+                }
+                return Optional.of(carRiderSchema.mapToItem(response.item()));
+            } catch (DynamoDbException e) {
+                logger.error("Failed to find car rider {} for driver {} in event {}", riderId, driverId, eventId, e);
+                throw new RepositoryException("Failed to retrieve car rider", e);
+            }
+        });
+    }
+
+    @Override
+    public CarRider reserveSeatAtomically(CarRider carRider) {
+        return performanceTracker.trackQuery("reserveSeatAtomically", TABLE_NAME, () -> {
+            String eventId = carRider.getEventId();
+            String driverId = carRider.getDriverId();
+            int seatsNeeded = carRider.getTotalSeatsNeeded();
+            carRider.touch();
+
+            List<TransactWriteItem> transactItems = new ArrayList<>();
+
+            // 0: Take the seats only if enough remain
+            transactItems.add(TransactWriteItem.builder()
+                .update(Update.builder()
+                    .tableName(TABLE_NAME)
+                    .key(carKey(eventId, driverId))
+                    .updateExpression("SET availableSeats = availableSeats - :seats, updatedAt = :now")
+                    .conditionExpression("attribute_exists(pk) AND availableSeats >= :seats")
+                    .expressionAttributeValues(Map.of(
+                        ":seats", AttributeValue.builder().n(String.valueOf(seatsNeeded)).build(),
+                        ":now", AttributeValue.builder().n(String.valueOf(Instant.now().toEpochMilli())).build()
+                    ))
+                    .returnValuesOnConditionCheckFailure(ReturnValuesOnConditionCheckFailure.ALL_OLD)
+                    .build())
+                .build());
+
+            // 1: One reservation per rider per car
+            transactItems.add(TransactWriteItem.builder()
+                .put(Put.builder()
+                    .tableName(TABLE_NAME)
+                    .item(carRiderSchema.itemToMap(carRider, true))
+                    .conditionExpression("attribute_not_exists(pk)")
+                    .build())
+                .build());
+
+            // 2: A rider with a seat no longer needs a ride
+            transactItems.add(TransactWriteItem.builder()
+                .delete(Delete.builder()
+                    .tableName(TABLE_NAME)
+                    .key(Map.of(
+                        "pk", AttributeValue.builder().s(InviterKeyFactory.getEventPk(eventId)).build(),
+                        "sk", AttributeValue.builder().s(InviterKeyFactory.getNeedsRideSk(carRider.getRiderId())).build()
+                    ))
+                    .build())
+                .build());
+
+            try {
+                dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                    .transactItems(transactItems)
+                    .build());
+                return carRider;
+            } catch (TransactionCanceledException e) {
+                List<CancellationReason> reasons = e.cancellationReasons();
+                if (isConditionFailure(reasons, 0)) {
+                    if (!reasons.get(0).hasItem()) {
+                        throw new CarNotFoundException("Car offer not found for driver: " + driverId);
+                    }
+                    AttributeValue available = reasons.get(0).item().get("availableSeats");
+                    throw new NoAvailableSeatsException("Not enough available seats: need " + seatsNeeded
+                        + " but only " + (available != null ? available.n() : "0") + " available");
+                }
+                if (isConditionFailure(reasons, 1)) {
+                    throw new ValidationException("User already has a reservation with this driver");
+                }
+                // Lost a race with another transaction on the same items; surfaces as a 409 to retry
+                throw e;
+            } catch (DynamoDbException e) {
+                logger.error("Failed to reserve seat for rider {} with driver {} in event {}",
+                    carRider.getRiderId(), driverId, eventId, e);
+                throw new RepositoryException("Failed to reserve seat", e);
+            }
+        });
+    }
+
+    @Override
+    public void releaseSeatAtomically(CarRider carRider) {
+        performanceTracker.trackQuery("releaseSeatAtomically", TABLE_NAME, () -> {
+            String eventId = carRider.getEventId();
+            String driverId = carRider.getDriverId();
+
+            List<TransactWriteItem> transactItems = new ArrayList<>();
+
+            // 0: Remove the reservation, once
+            transactItems.add(TransactWriteItem.builder()
+                .delete(Delete.builder()
+                    .tableName(TABLE_NAME)
+                    .key(Map.of(
+                        "pk", AttributeValue.builder().s(InviterKeyFactory.getEventPk(eventId)).build(),
+                        "sk", AttributeValue.builder().s(InviterKeyFactory.getCarRiderSk(driverId, carRider.getRiderId())).build()
+                    ))
+                    .conditionExpression("attribute_exists(pk)")
+                    .build())
+                .build());
+
+            // 1: Give its seats back
+            transactItems.add(TransactWriteItem.builder()
+                .update(Update.builder()
+                    .tableName(TABLE_NAME)
+                    .key(carKey(eventId, driverId))
+                    .updateExpression("SET availableSeats = availableSeats + :seats, updatedAt = :now")
+                    .conditionExpression("attribute_exists(pk)")
+                    .expressionAttributeValues(Map.of(
+                        ":seats", AttributeValue.builder().n(String.valueOf(carRider.getTotalSeatsNeeded())).build(),
+                        ":now", AttributeValue.builder().n(String.valueOf(Instant.now().toEpochMilli())).build()
+                    ))
+                    .build())
+                .build());
+
+            try {
+                dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                    .transactItems(transactItems)
+                    .build());
+                return null;
+            } catch (TransactionCanceledException e) {
+                List<CancellationReason> reasons = e.cancellationReasons();
+                if (isConditionFailure(reasons, 0)) {
+                    throw new ValidationException("User does not have a reservation with this driver");
+                }
+                if (isConditionFailure(reasons, 1)) {
+                    throw new CarNotFoundException("Car offer not found for driver: " + driverId);
+                }
+                throw e;
+            } catch (DynamoDbException e) {
+                logger.error("Failed to release seat for rider {} from driver {} in event {}",
+                    carRider.getRiderId(), driverId, eventId, e);
+                throw new RepositoryException("Failed to release seat", e);
+            }
+        });
+    }
+
+    @Override
+    public int cancelCarOfferAtomically(String eventId, String driverId) {
+        return performanceTracker.trackQuery("cancelCarOfferAtomically", TABLE_NAME, () -> {
+            String carSk = InviterKeyFactory.getCarSk(driverId);
+            try {
+                // The car and its riders share the CAR#{driverId} sort key prefix
+                QueryRequest query = QueryRequest.builder()
+                    .tableName(TABLE_NAME)
+                    .keyConditionExpression("pk = :pk AND begins_with(sk, :carSk)")
+                    .expressionAttributeValues(Map.of(
+                        ":pk", AttributeValue.builder().s(InviterKeyFactory.getEventPk(eventId)).build(),
+                        ":carSk", AttributeValue.builder().s(carSk).build()
+                    ))
+                    .consistentRead(true)
+                    .build();
+                List<Map<String, AttributeValue>> items = dynamoDbClient.query(query).items();
+
+                List<TransactWriteItem> transactItems = new ArrayList<>();
+                int riders = 0;
+                for (Map<String, AttributeValue> item : items) {
+                    String sk = item.get("sk").s();
+                    Delete.Builder delete = Delete.builder()
+                        .tableName(TABLE_NAME)
+                        .key(Map.of("pk", item.get("pk"), "sk", item.get("sk")));
+                    if (sk.equals(carSk)) {
+                        // Fails if a seat was reserved or released since the query
+                        AttributeValue seen = item.get("availableSeats");
+                        if (seen != null) {
+                            delete.conditionExpression("availableSeats = :seen")
+                                .expressionAttributeValues(Map.of(":seen", seen));
+                        }
+                    } else if (InviterKeyFactory.isCarRiderItem(sk) && sk.startsWith(carSk + "#")) {
+                        riders++;
+                    } else {
+                        continue;
+                    }
+                    transactItems.add(TransactWriteItem.builder().delete(delete.build()).build());
+                }
+
+                if (transactItems.isEmpty()) {
+                    return 0;
+                }
+
+                dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                    .transactItems(transactItems)
+                    .build());
+                return riders;
+            } catch (TransactionCanceledException e) {
+                logger.warn("Car offer cancel for driver {} in event {} raced a seat change: {}",
+                    driverId, eventId, e.cancellationReasons());
+                throw e;
+            } catch (DynamoDbException e) {
+                logger.error("Failed to cancel car offer for driver {} in event {}", driverId, eventId, e);
+                throw new RepositoryException("Failed to cancel car offer", e);
+            }
+        });
+    }
+
+    private static Map<String, AttributeValue> carKey(String eventId, String driverId) {
+        return Map.of(
+            "pk", AttributeValue.builder().s(InviterKeyFactory.getEventPk(eventId)).build(),
+            "sk", AttributeValue.builder().s(InviterKeyFactory.getCarSk(driverId)).build()
+        );
+    }
+
+    private static boolean isConditionFailure(List<CancellationReason> reasons, int index) {
+        return reasons != null && reasons.size() > index
+            && "ConditionalCheckFailed".equals(reasons.get(index).code());
+    }
     
     @Override
     public Vote saveVote(Vote vote) {
@@ -665,6 +988,402 @@ public class HangoutRepositoryImpl implements HangoutRepository {
         });
     }
     
+    @Override
+    public Optional<Poll> findPollById(String eventId, String pollId) {
+        return performanceTracker.trackQuery("GetItem", TABLE_NAME, () -> {
+            try {
+                GetItemRequest request = GetItemRequest.builder()
+                    .tableName(TABLE_NAME)
+                    .key(Map.of(
+                        "pk", AttributeValue.builder().s(InviterKeyFactory.getEventPk(eventId)).build(),
+                        "sk", AttributeValue.builder().s(InviterKeyFactory.getPollSk(pollId)).build()
+                    ))
+                    .build();
+
+                GetItemResponse response = dynamoDbClient.getItem(request);
+                if (!response.hasItem()) {
+                    return Optional.empty();
+                }
+                return Optional.of(pollSchema.mapToItem(response.item()));
+            } catch (DynamoDbException e) {
+                logger.error("Failed to find poll {} in event {}", pollId, eventId, e);
+                throw new RepositoryException("Failed to retrieve poll", e);
+            }
+        });
+    }
+
+    @Override
+    public List<Vote> findUserVotes(String eventId, String pollId, String userId) {
+        return performanceTracker.trackQuery("findUserVotes", TABLE_NAME, () -> {
+            try {
+                QueryRequest request = QueryRequest.builder()
+                    .tableName(TABLE_NAME)
+                    .keyConditionExpression("pk = :pk AND begins_with(sk, :sk_prefix)")
+                    .expressionAttributeValues(Map.of(
+                        ":pk", AttributeValue.builder().s(InviterKeyFactory.getEventPk(eventId)).build(),
+                        ":sk_prefix", AttributeValue.builder().s(InviterKeyFactory.getUserVotePrefix(pollId, userId)).build()
+                    ))
+                    .build();
+
+                return dynamoDbClient.query(request).items().stream()
+                    .map(voteSchema::mapToItem)
+                    .collect(Collectors.toList());
+            } catch (DynamoDbException e) {
+                logger.error("Failed to find votes for user {} on poll {} in event {}", userId, pollId, eventId, e);
+                throw new RepositoryException("Failed to retrieve user votes", e);
+            }
+        });
+    }
+
+    @Override
+    public List<Vote> findUserVotesOnOptions(String eventId, String userId, List<PollOption> options) {
+        return performanceTracker.trackQuery("findUserVotesOnOptions", TABLE_NAME, () -> {
+            String eventPk = InviterKeyFactory.getEventPk(eventId);
+            List<Map<String, AttributeValue>> keys = options.stream()
+                .map(option -> Map.of(
+                    "pk", AttributeValue.builder().s(eventPk).build(),
+                    "sk", AttributeValue.builder().s(InviterKeyFactory.getVoteSk(
+                        option.getPollId(), userId, option.getOptionId())).build()))
+                .collect(Collectors.toList());
+            List<Vote> votes = new ArrayList<>();
+            try {
+                for (int start = 0; start < keys.size(); start += BATCH_GET_LIMIT) {
+                    Map<String, KeysAndAttributes> request = Map.of(TABLE_NAME, KeysAndAttributes.builder()
+                        .keys(keys.subList(start, Math.min(start + BATCH_GET_LIMIT, keys.size())))
+                        .build());
+                    // Keys DynamoDB leaves unprocessed (throttling, 16 MB limit) are requested again
+                    while (!request.isEmpty()) {
+                        BatchGetItemResponse response = dynamoDbClient.batchGetItem(BatchGetItemRequest.builder()
+                            .requestItems(request)
+                            .build());
+                        response.responses().getOrDefault(TABLE_NAME, List.of()).stream()
+                            .map(voteSchema::mapToItem)
+                            .forEach(votes::add);
+                        request = response.hasUnprocessedKeys() ? response.unprocessedKeys() : Map.of();
+                    }
+                }
+                return votes;
+            } catch (DynamoDbException e) {
+                logger.error("Failed to find votes for user {} in event {}", userId, eventId, e);
+                throw new RepositoryException("Failed to retrieve user votes", e);
+            }
+        });
+    }
+
+    @Override
+    public Vote castVote(Vote vote, List<Vote> replaced) {
+        return performanceTracker.trackQuery("castVote", TABLE_NAME, () -> {
+            writeVotes(List.of(vote), replaced);
+            return vote;
+        });
+    }
+
+    @Override
+    public void retractVotes(List<Vote> votes) {
+        performanceTracker.trackQuery("retractVotes", TABLE_NAME, () -> {
+            // Each vote is a delete plus at most one counter update; stay under the 100 item limit
+            for (int i = 0; i < votes.size(); i += MAX_VOTES_PER_TRANSACTION) {
+                writeVotes(List.of(), votes.subList(i, Math.min(i + MAX_VOTES_PER_TRANSACTION, votes.size())));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Put and delete votes of one event in a single transaction together with ADD updates to
+     * their options' voteCount. Every delta is applied, so a counter never misses a vote;
+     * options whose counter hasn't been seeded yet are seeded after the write (see
+     * {@link #seedVoteCounts}).
+     *
+     * When conditions fail the transaction is retried without the offending items: votes that
+     * already exist (puts) or are already gone (deletes) are dropped, and a counter update that
+     * finds no seeded counter is retried against any existing option, then dropped if the
+     * option itself is gone. Every retry relaxes or drops at least one item.
+     */
+    private void writeVotes(List<Vote> puts, List<Vote> deletes) {
+        List<Vote> toPut = new ArrayList<>(puts);
+        List<Vote> toDelete = new ArrayList<>(deletes);
+        Set<String> unseededOptions = new HashSet<>();
+        Set<String> missingOptions = new HashSet<>();
+        Map<String, Vote> votesByOptionSk = new HashMap<>();
+
+        while (!toPut.isEmpty() || !toDelete.isEmpty()) {
+            String eventPk = InviterKeyFactory.getEventPk(
+                (!toPut.isEmpty() ? toPut.get(0) : toDelete.get(0)).getEventId());
+            List<TransactWriteItem> transactItems = new ArrayList<>();
+            Map<String, Long> counterDeltas = new LinkedHashMap<>();
+
+            for (Vote vote : toPut) {
+                vote.touch();
+                transactItems.add(TransactWriteItem.builder()
+                    .put(Put.builder()
+                        .tableName(TABLE_NAME)
+                        .item(voteSchema.itemToMap(vote, true))
+                        .conditionExpression("attribute_not_exists(pk)")
+                        .build())
+                    .build());
+                String optionSk = InviterKeyFactory.getPollOptionSk(vote.getPollId(), vote.getOptionId());
+                counterDeltas.merge(optionSk, 1L, Long::sum);
+                votesByOptionSk.putIfAbsent(optionSk, vote);
+            }
+            for (Vote vote : toDelete) {
+                transactItems.add(TransactWriteItem.builder()
+                    .delete(Delete.builder()
+                        .tableName(TABLE_NAME)
+                        .key(Map.of(
+                            "pk", AttributeValue.builder().s(eventPk).build(),
+                            "sk", AttributeValue.builder().s(InviterKeyFactory.getVoteSk(
+                                vote.getPollId(), vote.getUserId(), vote.getOptionId())).build()
+                        ))
+                        .conditionExpression("attribute_exists(pk)")
+                        .build())
+                    .build());
+                String optionSk = InviterKeyFactory.getPollOptionSk(vote.getPollId(), vote.getOptionId());
+                counterDeltas.merge(optionSk, -1L, Long::sum);
+                votesByOptionSk.putIfAbsent(optionSk, vote);
+            }
+
+            counterDeltas.values().removeIf(delta -> delta == 0);
+            counterDeltas.keySet().removeAll(missingOptions);
+            List<String> countedOptions = new ArrayList<>(counterDeltas.keySet());
+            for (String optionSk : countedOptions) {
+                // Unseeded counters still take the delta; seeding later replaces it with a full count
+                String condition = unseededOptions.contains(optionSk)
+                    ? "attribute_exists(pk)"
+                    : "attribute_exists(countInitialized)";
+                transactItems.add(TransactWriteItem.builder()
+                    .update(Update.builder()
+                        .tableName(TABLE_NAME)
+                        .key(Map.of(
+                            "pk", AttributeValue.builder().s(eventPk).build(),
+                            "sk", AttributeValue.builder().s(optionSk).build()
+                        ))
+                        .updateExpression("ADD voteCount :delta")
+                        .conditionExpression(condition)
+                        .expressionAttributeValues(Map.of(
+                            ":delta", AttributeValue.builder().n(String.valueOf(counterDeltas.get(optionSk))).build()
+                        ))
+                        .build())
+                    .build());
+            }
+
+            try {
+                dynamoDbClient.transactWriteItems(TransactWriteItemsRequest.builder()
+                    .transactItems(transactItems)
+                    .build());
+                unseededOptions.removeAll(missingOptions);
+                seedUnseededOptions(unseededOptions, votesByOptionSk);
+                return;
+            } catch (TransactionCanceledException e) {
+                List<CancellationReason> reasons = e.cancellationReasons();
+                int putCount = toPut.size();
+                int voteItems = putCount + toDelete.size();
+                boolean dropped = false;
+                for (int i = countedOptions.size() - 1; i >= 0; i--) {
+                    if (isConditionFailure(reasons, voteItems + i)) {
+                        String optionSk = countedOptions.get(i);
+                        if (!unseededOptions.add(optionSk)) {
+                            // Already retried against any existing option: the option is gone
+                            missingOptions.add(optionSk);
+                        }
+                        dropped = true;
+                    }
+                }
+                for (int i = toDelete.size() - 1; i >= 0; i--) {
+                    if (isConditionFailure(reasons, putCount + i)) {
+                        toDelete.remove(i);
+                        dropped = true;
+                    }
+                }
+                for (int i = putCount - 1; i >= 0; i--) {
+                    if (isConditionFailure(reasons, i)) {
+                        toPut.remove(i);
+                        dropped = true;
+                    }
+                }
+                if (!dropped) {
+                    // Conflicting concurrent write on the same items; surfaces as a 409 to retry
+                    throw e;
+                }
+                logger.debug("Retrying vote write without already-applied items or seeded-counter conditions: {}", reasons);
+            } catch (DynamoDbException e) {
+                logger.error("Failed to write votes in event {}", eventPk, e);
+                throw new RepositoryException("Failed to write votes", e);
+            }
+        }
+    }
+
+    /**
+     * Seed the counters a vote write found unseeded. The votes and their deltas are already
+     * written, so a failure here is logged rather than failing the vote; the next write to the
+     * option tries again.
+     */
+    private void seedUnseededOptions(Set<String> unseededOptions, Map<String, Vote> votesByOptionSk) {
+        if (unseededOptions.isEmpty()) {
+            return;
+        }
+        Map<String, Set<String>> optionIdsByPoll = new LinkedHashMap<>();
+        String eventId = null;
+        for (String optionSk : unseededOptions) {
+            Vote vote = votesByOptionSk.get(optionSk);
+            eventId = vote.getEventId();
+            optionIdsByPoll.computeIfAbsent(vote.getPollId(), id -> new HashSet<>()).add(vote.getOptionId());
+        }
+        for (Map.Entry<String, Set<String>> poll : optionIdsByPoll.entrySet()) {
+            try {
+                seedVoteCounts(eventId, poll.getKey(), poll.getValue());
+            } catch (RepositoryException e) {
+                logger.warn("Failed to seed vote counts for poll {} in event {}", poll.getKey(), eventId, e);
+            }
+        }
+    }
+
+    /**
+     * Replace the unseeded counters of {@code optionIds} with a full count of their votes and
+     * mark them initialized.
+     *
+     * Vote writes ADD to a counter whether or not it is seeded, so the seed is optimistic: it
+     * reads each option's current voteCount, counts the votes, and sets the count only if
+     * voteCount is still what it read. A vote written in between moves the counter, fails the
+     * condition and sends the option round again; a vote written before the read is in both
+     * the counter and the count, and the count replaces the counter. Gives up after
+     * {@link #MAX_SEED_ATTEMPTS} contended rounds, leaving the option for the next write.
+     */
+    private void seedVoteCounts(String eventId, String pollId, Set<String> optionIds) {
+        String eventPk = InviterKeyFactory.getEventPk(eventId);
+        try {
+            for (int attempt = 0; attempt < MAX_SEED_ATTEMPTS; attempt++) {
+                Map<String, AttributeValue> unseeded = findUnseededCounters(eventPk, pollId, optionIds);
+                if (unseeded.isEmpty()) {
+                    return;
+                }
+                Map<String, Long> counts = countVoteItems(eventPk, pollId, unseeded.keySet(), true);
+
+                boolean contended = false;
+                for (Map.Entry<String, Long> count : counts.entrySet()) {
+                    AttributeValue seen = unseeded.get(count.getKey());
+                    Map<String, AttributeValue> values = new HashMap<>();
+                    values.put(":count", AttributeValue.builder().n(String.valueOf(count.getValue())).build());
+                    values.put(":initialized", AttributeValue.builder().bool(true).build());
+                    String unchanged = "attribute_not_exists(voteCount)";
+                    if (seen != null) {
+                        values.put(":seen", seen);
+                        unchanged = "voteCount = :seen";
+                    }
+                    try {
+                        dynamoDbClient.updateItem(UpdateItemRequest.builder()
+                            .tableName(TABLE_NAME)
+                            .key(Map.of(
+                                "pk", AttributeValue.builder().s(eventPk).build(),
+                                "sk", AttributeValue.builder().s(InviterKeyFactory.getPollOptionSk(pollId, count.getKey())).build()
+                            ))
+                            .updateExpression("SET voteCount = :count, countInitialized = :initialized")
+                            .conditionExpression("attribute_exists(pk) AND attribute_not_exists(countInitialized) AND " + unchanged)
+                            .expressionAttributeValues(values)
+                            .build());
+                    } catch (ConditionalCheckFailedException e) {
+                        // Seeded by another request, deleted, or moved by a vote; the next round tells which
+                        contended = true;
+                    }
+                }
+                if (!contended) {
+                    return;
+                }
+            }
+            logger.debug("Gave up seeding vote counts for poll {} in event {} after {} attempts",
+                pollId, eventId, MAX_SEED_ATTEMPTS);
+        } catch (DynamoDbException e) {
+            logger.error("Failed to seed vote counts for poll {} in event {}", pollId, eventId, e);
+            throw new RepositoryException("Failed to seed vote counts", e);
+        }
+    }
+
+    /**
+     * The options among {@code optionIds} whose counter is not seeded yet, mapped to their
+     * current voteCount (null when they have none). Strongly consistent, so the value can
+     * guard the seed.
+     */
+    private Map<String, AttributeValue> findUnseededCounters(String eventPk, String pollId, Set<String> optionIds) {
+        Map<String, AttributeValue> unseeded = new HashMap<>();
+        Map<String, AttributeValue> lastEvaluatedKey = null;
+        do {
+            QueryRequest.Builder requestBuilder = QueryRequest.builder()
+                .tableName(TABLE_NAME)
+                .keyConditionExpression("pk = :pk AND begins_with(sk, :sk_prefix)")
+                .expressionAttributeValues(Map.of(
+                    ":pk", AttributeValue.builder().s(eventPk).build(),
+                    ":sk_prefix", AttributeValue.builder().s(InviterKeyFactory.getPollOptionPrefix(pollId)).build()
+                ))
+                .projectionExpression("optionId, voteCount, countInitialized")
+                .consistentRead(true);
+            if (lastEvaluatedKey != null) {
+                requestBuilder.exclusiveStartKey(lastEvaluatedKey);
+            }
+
+            QueryResponse response = dynamoDbClient.query(requestBuilder.build());
+            for (Map<String, AttributeValue> item : response.items()) {
+                AttributeValue optionId = item.get("optionId");
+                AttributeValue initialized = item.get("countInitialized");
+                if (optionId != null && optionIds.contains(optionId.s())
+                        && (initialized == null || !Boolean.TRUE.equals(initialized.bool()))) {
+                    unseeded.put(optionId.s(), item.get("voteCount"));
+                }
+            }
+            lastEvaluatedKey = response.lastEvaluatedKey();
+        } while (lastEvaluatedKey != null && !lastEvaluatedKey.isEmpty());
+        return unseeded;
+    }
+
+    @Override
+    public Map<String, Long> countVotes(String eventId, String pollId, Set<String> optionIds) {
+        return performanceTracker.trackQuery("countVotes", TABLE_NAME, () -> {
+            try {
+                return countVoteItems(InviterKeyFactory.getEventPk(eventId), pollId, optionIds, false);
+            } catch (DynamoDbException e) {
+                logger.error("Failed to count votes for poll {} in event {}", pollId, eventId, e);
+                throw new RepositoryException("Failed to count votes", e);
+            }
+        });
+    }
+
+    /**
+     * Count the poll's votes per option in {@code optionIds}, reading only their optionId.
+     */
+    private Map<String, Long> countVoteItems(String eventPk, String pollId, Set<String> optionIds,
+                                             boolean consistentRead) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        if (optionIds.isEmpty()) {
+            return counts;
+        }
+        optionIds.forEach(optionId -> counts.put(optionId, 0L));
+
+        Map<String, AttributeValue> lastEvaluatedKey = null;
+        do {
+            QueryRequest.Builder requestBuilder = QueryRequest.builder()
+                .tableName(TABLE_NAME)
+                .keyConditionExpression("pk = :pk AND begins_with(sk, :sk_prefix)")
+                .expressionAttributeValues(Map.of(
+                    ":pk", AttributeValue.builder().s(eventPk).build(),
+                    ":sk_prefix", AttributeValue.builder().s(InviterKeyFactory.getPollVotePrefix(pollId)).build()
+                ))
+                .projectionExpression("optionId")
+                .consistentRead(consistentRead);
+            if (lastEvaluatedKey != null) {
+                requestBuilder.exclusiveStartKey(lastEvaluatedKey);
+            }
+
+            QueryResponse response = dynamoDbClient.query(requestBuilder.build());
+            for (Map<String, AttributeValue> item : response.items()) {
+                AttributeValue optionId = item.get("optionId");
+                if (optionId != null) {
+                    counts.computeIfPresent(optionId.s(), (id, count) -> count + 1);
+                }
+            }
+            lastEvaluatedKey = response.lastEvaluatedKey();
+        } while (lastEvaluatedKey != null && !lastEvaluatedKey.isEmpty());
+        return counts;
+    }
+
     @Override
     public InterestLevel saveInterestLevel(InterestLevel interestLevel) {
         return performanceTracker.trackQuery("saveInterestLevel", "InviterTable", () -> {
@@ -1076,6 +1795,57 @@ public class HangoutRepositoryImpl implements HangoutRepository {
             }
         });
     }
+
+    @Override
+    public List<BaseItem> getPollsAndOptions(String eventId) {
+        return performanceTracker.trackQuery("getPollsAndOptions", TABLE_NAME, () -> {
+            try {
+                // Each poll sorts as POLL#id, its OPTION# items, then its VOTE# items. Read small
+                // pages and, on reaching a poll's votes, restart the range just past them.
+                List<BaseItem> items = new ArrayList<>();
+                String from = InviterKeyFactory.POLL_PREFIX + "#";
+                Map<String, AttributeValue> lastEvaluatedKey = null;
+                while (true) {
+                    QueryRequest.Builder requestBuilder = QueryRequest.builder()
+                        .tableName(TABLE_NAME)
+                        .keyConditionExpression("pk = :pk AND sk BETWEEN :from AND :to")
+                        .expressionAttributeValues(Map.of(
+                            ":pk", AttributeValue.builder().s(InviterKeyFactory.getEventPk(eventId)).build(),
+                            ":from", AttributeValue.builder().s(from).build(),
+                            ":to", AttributeValue.builder().s(InviterKeyFactory.POLL_PREFIX + "$").build()
+                        ))
+                        .limit(POLL_SKIP_PAGE_SIZE);
+                    if (lastEvaluatedKey != null) {
+                        requestBuilder.exclusiveStartKey(lastEvaluatedKey);
+                    }
+
+                    QueryResponse response = dynamoDbClient.query(requestBuilder.build());
+                    String skipTo = null;
+                    for (Map<String, AttributeValue> item : response.items()) {
+                        String sk = item.get("sk").s();
+                        long descriptor = SortKeyCodec.decode(sk);
+                        if (SortKeyCodec.type(descriptor) == SortKeyCodec.Type.VOTE) {
+                            skipTo = InviterKeyFactory.getPollVotesEnd(SortKeyCodec.id(sk, descriptor, 0));
+                            break;
+                        }
+                        items.add(deserializeItem(item));
+                    }
+
+                    if (skipTo != null) {
+                        from = skipTo;
+                        lastEvaluatedKey = null;
+                    } else if (response.lastEvaluatedKey() != null && !response.lastEvaluatedKey().isEmpty()) {
+                        lastEvaluatedKey = response.lastEvaluatedKey();
+                    } else {
+                        return items;
+                    }
+                }
+            } catch (DynamoDbException e) {
+                logger.error("Failed to get polls and options for event {}", eventId, e);
+                throw new RepositoryException("Failed to retrieve poll data", e);
+            }
+        });
+    }
     
     @Override
     public void deletePollOptionTransaction(String eventId, String pollId, String optionId) {
@@ -7,6 +7,7 @@ import com.bbthechange.inviter.model.IdeaListMember;
 import com.bbthechange.inviter.repository.IdeaListRepository;
 import com.bbthechange.inviter.util.InviterKeyFactory;
 import com.bbthechange.inviter.util.QueryPerformanceTracker;
+import com.bbthechange.inviter.util.InviterTableSchemas;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -38,8 +39,8 @@ public class IdeaListRepositoryImpl implements IdeaListRepository {
     public IdeaListRepositoryImpl(DynamoDbClient dynamoDbClient, QueryPerformanceTracker queryTracker) {
         this.dynamoDbClient = dynamoDbClient;
         this.queryTracker = queryTracker;
-        this.ideaListSchema = TableSchema.fromBean(IdeaList.class);
-        this.ideaMemberSchema = TableSchema.fromBean(IdeaListMember.class);
+        this.ideaListSchema = InviterTableSchemas.forClass(IdeaList.class);
+        this.ideaMemberSchema = InviterTableSchemas.forClass(IdeaListMember.class);
     }
     
     @Override
@@ -7,8 +7,12 @@ import com.bbthechange.inviter.model.GroupMembership;
 import com.bbthechange.inviter.model.HangoutPointer;
 import com.bbthechange.inviter.model.SeriesPointer;
 import com.bbthechange.inviter.repository.GroupRepository;
+import com.bbthechange.inviter.util.DynamoItemSize;
+import com.bbthechange.inviter.util.HangoutPointerPatch;
 import com.bbthechange.inviter.util.InviterKeyFactory;
+import com.bbthechange.inviter.util.SortKeyCodec;
 import com.bbthechange.inviter.util.QueryPerformanceTracker;
+import com.bbthechange.inviter.util.InviterTableSchemas;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -44,10 +48,10 @@ public class PolymorphicGroupRepositoryImpl implements GroupRepository {
     public PolymorphicGroupRepositoryImpl(DynamoDbClient dynamoDbClient, QueryPerformanceTracker queryTracker) {
         this.dynamoDbClient = dynamoDbClient;
         this.queryTracker = queryTracker;
-        this.groupSchema = TableSchema.fromBean(Group.class);
-        this.membershipSchema = TableSchema.fromBean(GroupMembership.class);
-        this.hangoutSchema = TableSchema.fromBean(HangoutPointer.class);
-        this.seriesSchema = TableSchema.fromBean(SeriesPointer.class);
+        this.groupSchema = InviterTableSchemas.forClass(Group.class);
+        this.membershipSchema = InviterTableSchemas.forClass(GroupMembership.class);
+        this.hangoutSchema = InviterTableSchemas.forClass(HangoutPointer.class);
+        this.seriesSchema = InviterTableSchemas.forClass(SeriesPointer.class);
     }
     
     /**
@@ -59,15 +63,12 @@ public class PolymorphicGroupRepositoryImpl implements GroupRepository {
             // Fallback to SK pattern matching for backward compatibility
             AttributeValue skAttr = itemMap.get("sk");
             if (skAttr != null) {
-                String sk = skAttr.s();
-                if (InviterKeyFactory.isMetadata(sk)) {
-                    return groupSchema.mapToItem(itemMap);
-                } else if (InviterKeyFactory.isGroupMembership(sk)) {
-                    return membershipSchema.mapToItem(itemMap);
-                } else if (InviterKeyFactory.isHangoutPointer(sk)) {
-                    return hangoutSchema.mapToItem(itemMap);
-                } else if (InviterKeyFactory.isSeriesPointer(sk)) {
-                    return seriesSchema.mapToItem(itemMap);
+                switch (SortKeyCodec.typeOf(skAttr.s())) {
+                    case METADATA: return groupSchema.mapToItem(itemMap);
+                    case GROUP_MEMBERSHIP: return membershipSchema.mapToItem(itemMap);
+                    case HANGOUT_POINTER: return hangoutSchema.mapToItem(itemMap);
+                    case SERIES_POINTER: return seriesSchema.mapToItem(itemMap);
+                    default: break;
                 }
             }
             throw new IllegalStateException("Missing itemType discriminator and unable to determine type from SK");
@@ -429,6 +430,7 @@ public class PolymorphicGroupRepositoryImpl implements GroupRepository {
                     .build();
                 
                 dynamoDbClient.putItem(request);
+                queryTracker.recordWriteBytes("PutItem", "HangoutPointer", DynamoItemSize.of(itemMap));
                 
             } catch (DynamoDbException e) {
                 logger.error("Failed to save hangout pointer {} for group {}", 
@@ -689,6 +691,106 @@ public class PolymorphicGroupRepositoryImpl implements GroupRepository {
         });
     }
 
+    @Override
+    public boolean patchHangoutPointer(String groupId, String hangoutId, HangoutPointerPatch patch) {
+        return queryTracker.trackQuery("UpdateItem", TABLE_NAME, () -> {
+            try {
+                Map<String, AttributeValue> key = Map.of(
+                    "pk", AttributeValue.builder().s(InviterKeyFactory.getGroupPk(groupId)).build(),
+                    "sk", AttributeValue.builder().s(InviterKeyFactory.getHangoutSk(hangoutId)).build()
+                );
+
+                // Encode the patched fields exactly as a full save would, via the bean schema
+                HangoutPointer values = new HangoutPointer();
+                patch.applyTo(values);
+                values.touch();
+
+                List<String> attributes = new ArrayList<>(patch.attributeNames());
+                attributes.add("updatedAt");
+
+                Map<String, String> names = new HashMap<>();
+                Map<String, AttributeValue> expressionValues = new HashMap<>();
+                List<String> sets = new ArrayList<>();
+                List<String> removes = new ArrayList<>();
+                for (int i = 0; i < attributes.size(); i++) {
+                    String name = "#a" + i;
+                    names.put(name, attributes.get(i));
+                    AttributeValue value = hangoutSchema.attributeValue(values, attributes.get(i));
+                    if (value == null || Boolean.TRUE.equals(value.nul())) {
+                        removes.add(name);
+                    } else {
+                        expressionValues.put(":v" + i, value);
+                        sets.add(name + " = :v" + i);
+                    }
+                }
+                names.put("#version", "version");
+                expressionValues.put(":one", AttributeValue.builder().n("1").build());
+
+                StringBuilder updateExpression = new StringBuilder("SET ").append(String.join(", ", sets));
+                if (!removes.isEmpty()) {
+                    updateExpression.append(" REMOVE ").append(String.join(", ", removes));
+                }
+                updateExpression.append(" ADD #version :one");
+
+                UpdateItemRequest request = UpdateItemRequest.builder()
+                    .tableName(TABLE_NAME)
+                    .key(key)
+                    .updateExpression(updateExpression.toString())
+                    .conditionExpression("attribute_exists(pk)")
+                    .expressionAttributeNames(names)
+                    .expressionAttributeValues(expressionValues)
+                    .build();
+
+                dynamoDbClient.updateItem(request);
+                queryTracker.recordWriteBytes("UpdateItem", "HangoutPointer", DynamoItemSize.of(expressionValues));
+                logger.debug("Patched {} on pointer for group {} and hangout {}", patch, groupId, hangoutId);
+                return true;
+
+            } catch (ConditionalCheckFailedException e) {
+                return false;
+            } catch (DynamoDbException e) {
+                logger.error("Failed to patch hangout pointer {} for group {}", hangoutId, groupId, e);
+                throw new RepositoryException("Failed to patch hangout pointer", e);
+            }
+        });
+    }
+
+    @Override
+    public boolean advanceLastHangoutModified(String groupId, Instant timestamp) {
+        return queryTracker.trackQuery("UpdateItem", TABLE_NAME, () -> {
+            try {
+                Map<String, AttributeValue> key = Map.of(
+                    "pk", AttributeValue.builder().s(InviterKeyFactory.getGroupPk(groupId)).build(),
+                    "sk", AttributeValue.builder().s(InviterKeyFactory.getMetadataSk()).build()
+                );
+
+                // Both attributes use InstantAsLongAttributeConverter, so write epoch millis as numbers
+                String value = String.valueOf(timestamp.toEpochMilli());
+                UpdateItemRequest request = UpdateItemRequest.builder()
+                    .tableName(TABLE_NAME)
+                    .key(key)
+                    .updateExpression("SET lastHangoutModified = :ts, updatedAt = :ts")
+                    .conditionExpression("attribute_exists(pk) AND " +
+                        "(attribute_not_exists(lastHangoutModified) OR lastHangoutModified < :ts)")
+                    .expressionAttributeValues(Map.of(
+                        ":ts", AttributeValue.builder().n(value).build()
+                    ))
+                    .build();
+
+                dynamoDbClient.updateItem(request);
+                logger.debug("Advanced lastHangoutModified for group {} to {}", groupId, value);
+                return true;
+
+            } catch (ConditionalCheckFailedException e) {
+                logger.debug("Skipped lastHangoutModified for group {}: missing or already newer", groupId);
+                return false;
+            } catch (DynamoDbException e) {
+                logger.error("Failed to advance lastHangoutModified for group {}", groupId, e);
+                throw new RepositoryException("Failed to update group timestamp", e);
+            }
+        });
+    }
+
     @Override
     public void updateMembershipGroupNames(String groupId, String newGroupName) {
         queryTracker.trackQuery("UpdateMembershipGroupNames", TABLE_NAME, () -> {
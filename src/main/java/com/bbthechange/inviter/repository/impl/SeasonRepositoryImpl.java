@@ -7,6 +7,7 @@ import com.bbthechange.inviter.util.QueryPerformanceTracker;
 import com.bbthechange.inviter.util.InviterKeyFactory;
 import org.springframework.stereotype.Repository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import software.amazon.awssdk.enhanced.dynamodb.*;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.*;
@@ -31,16 +32,24 @@ public class SeasonRepositoryImpl implements SeasonRepository {
     private static final String TABLE_NAME = "InviterTable";
     private final TableSchema<Season> seasonSchema;
     private final QueryPerformanceTracker performanceTracker;
+    private final boolean registryIndexEnabled;
 
+    /**
+     * @param registryIndexEnabled Read tracked seasons from RegistryIndex instead of scanning the
+     *                             table. Only turn on once the index exists and
+     *                             RegistryIndexBackfill has finished, or older seasons are missed.
+     */
     @Autowired
     public SeasonRepositoryImpl(
             DynamoDbClient dynamoDbClient,
             DynamoDbEnhancedClient dynamoDbEnhancedClient,
-            QueryPerformanceTracker performanceTracker) {
+            QueryPerformanceTracker performanceTracker,
+            @Value("${dynamodb.registry-index.enabled:false}") boolean registryIndexEnabled) {
         this.dynamoDbClient = dynamoDbClient;
         this.seasonTable = dynamoDbEnhancedClient.table(TABLE_NAME, TableSchema.fromBean(Season.class));
         this.seasonSchema = TableSchema.fromBean(Season.class);
         this.performanceTracker = performanceTracker;
+        this.registryIndexEnabled = registryIndexEnabled;
     }
 
     @Override
@@ -189,47 +198,65 @@ public class SeasonRepositoryImpl implements SeasonRepository {
 
     @Override
     public Set<Integer> findAllDistinctShowIds() {
-        return performanceTracker.trackQuery("findAllDistinctShowIds", TABLE_NAME, () -> {
+        String source = registryIndexEnabled ? "RegistryIndex" : TABLE_NAME;
+        return performanceTracker.trackQuery("findAllDistinctShowIds", source, () -> {
             try {
                 Set<Integer> showIds = new HashSet<>();
                 Map<String, AttributeValue> lastEvaluatedKey = null;
 
                 do {
-                    // Scan for SEASON items, projecting only showId to minimize reads
-                    ScanRequest.Builder requestBuilder = ScanRequest.builder()
-                        .tableName(TABLE_NAME)
-                        .filterExpression("itemType = :itemType")
-                        .expressionAttributeValues(Map.of(
-                            ":itemType", AttributeValue.builder().s("SEASON").build()
-                        ))
-                        .projectionExpression("showId");
-
-                    if (lastEvaluatedKey != null) {
-                        requestBuilder.exclusiveStartKey(lastEvaluatedKey);
+                    List<Map<String, AttributeValue>> items;
+                    if (registryIndexEnabled) {
+                        // Only Season items carry the season registry key, so this reads one
+                        // index entry per tracked season regardless of the table size
+                        QueryRequest.Builder requestBuilder = QueryRequest.builder()
+                            .tableName(TABLE_NAME)
+                            .indexName("RegistryIndex")
+                            .keyConditionExpression("gsi4pk = :registry")
+                            .expressionAttributeValues(Map.of(
+                                ":registry", AttributeValue.builder().s(InviterKeyFactory.getSeasonRegistryPk()).build()
+                            ))
+                            .projectionExpression("showId");
+                        if (lastEvaluatedKey != null) {
+                            requestBuilder.exclusiveStartKey(lastEvaluatedKey);
+                        }
+                        QueryResponse response = dynamoDbClient.query(requestBuilder.build());
+                        items = response.items();
+                        lastEvaluatedKey = response.lastEvaluatedKey();
+                    } else {
+                        // Until the registry is backfilled, scan for SEASON items, projecting only showId
+                        ScanRequest.Builder requestBuilder = ScanRequest.builder()
+                            .tableName(TABLE_NAME)
+                            .filterExpression("itemType = :itemType")
+                            .expressionAttributeValues(Map.of(
+                                ":itemType", AttributeValue.builder().s("SEASON").build()
+                            ))
+                            .projectionExpression("showId");
+                        if (lastEvaluatedKey != null) {
+                            requestBuilder.exclusiveStartKey(lastEvaluatedKey);
+                        }
+                        ScanResponse response = dynamoDbClient.scan(requestBuilder.build());
+                        items = response.items();
+                        lastEvaluatedKey = response.lastEvaluatedKey();
                     }
 
-                    ScanResponse response = dynamoDbClient.scan(requestBuilder.build());
-
-                    // Extract showIds from scan results
-                    for (Map<String, AttributeValue> item : response.items()) {
+                    for (Map<String, AttributeValue> item : items) {
                         AttributeValue showIdAttr = item.get("showId");
                         if (showIdAttr != null && showIdAttr.n() != null) {
                             try {
                                 showIds.add(Integer.parseInt(showIdAttr.n()));
                             } catch (NumberFormatException e) {
-                                logger.warn("Invalid showId in scan result: {}", showIdAttr.n());
+                                logger.warn("Invalid showId for season: {}", showIdAttr.n());
                             }
                         }
                     }
-
-                    lastEvaluatedKey = response.lastEvaluatedKey();
                 } while (lastEvaluatedKey != null && !lastEvaluatedKey.isEmpty());
 
                 logger.debug("Found {} distinct show IDs", showIds.size());
                 return showIds;
 
             } catch (DynamoDbException e) {
-                logger.error("Failed to scan for distinct show IDs", e);
+                logger.error("Failed to read distinct show IDs from {}", source, e);
                 throw new RepositoryException("Failed to find distinct show IDs", e);
             }
         });
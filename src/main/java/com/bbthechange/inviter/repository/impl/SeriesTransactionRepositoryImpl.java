@@ -8,6 +8,7 @@ import com.bbthechange.inviter.repository.SeriesTransactionRepository;
 import com.bbthechange.inviter.exception.RepositoryException;
 import com.bbthechange.inviter.util.QueryPerformanceTracker;
 import com.bbthechange.inviter.util.InviterKeyFactory;
+import com.bbthechange.inviter.util.InviterTableSchemas;
 import org.springframework.stereotype.Repository;
 import org.springframework.beans.factory.annotation.Autowired;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
@@ -48,10 +49,10 @@ public class SeriesTransactionRepositoryImpl implements SeriesTransactionReposit
         this.performanceTracker = performanceTracker;
         
         // Initialize table schemas
-        this.eventSeriesSchema = TableSchema.fromBean(EventSeries.class);
-        this.hangoutSchema = TableSchema.fromBean(Hangout.class);
-        this.hangoutPointerSchema = TableSchema.fromBean(HangoutPointer.class);
-        this.seriesPointerSchema = TableSchema.fromBean(SeriesPointer.class);
+        this.eventSeriesSchema = InviterTableSchemas.forClass(EventSeries.class);
+        this.hangoutSchema = InviterTableSchemas.forClass(Hangout.class);
+        this.hangoutPointerSchema = InviterTableSchemas.forClass(HangoutPointer.class);
+        this.seriesPointerSchema = InviterTableSchemas.forClass(SeriesPointer.class);
     }
     
     @Override
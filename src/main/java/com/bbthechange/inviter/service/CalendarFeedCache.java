@@ -0,0 +1,152 @@
+package com.bbthechange.inviter.service;
+
+import com.bbthechange.inviter.model.GroupMembership;
+import com.bbthechange.inviter.repository.GroupRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * In-memory caches behind the public ICS feed endpoint.
+ *
+ * Rendered feeds are keyed by groupId + ETag + group name, so one render serves every
+ * subscriber of a group until its lastHangoutModified changes or the group is renamed (renames
+ * don't bump lastHangoutModified, and the name is rendered into the calendar). Concurrent misses for the same key wait on a
+ * single render. Subscription tokens are cached briefly so polling calendar clients don't hit
+ * the CalendarTokenIndex on every request; only valid tokens are cached.
+ */
+@Service
+public class CalendarFeedCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CalendarFeedCache.class);
+    private static final String KEY_SEPARATOR = "|";
+
+    private final GroupRepository groupRepository;
+    private final Cache<String, GroupMembership> tokens;
+    private final Cache<String, RenderedFeed> feeds;
+    private final Timer renderTimer;
+
+    @Autowired
+    public CalendarFeedCache(GroupRepository groupRepository, MeterRegistry meterRegistry,
+                             @Value("${calendar.feed-cache.ttl-minutes:30}") long feedTtlMinutes,
+                             @Value("${calendar.feed-cache.max-bytes:67108864}") long maxBytes,
+                             @Value("${calendar.token-cache.ttl-seconds:60}") long tokenTtlSeconds,
+                             @Value("${calendar.token-cache.max-size:10000}") long maxTokens) {
+        this.groupRepository = groupRepository;
+        this.tokens = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(tokenTtlSeconds))
+                .maximumSize(maxTokens)
+                .recordStats()
+                .build();
+        this.feeds = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(feedTtlMinutes))
+                .maximumWeight(maxBytes)
+                .weigher((String key, RenderedFeed feed) -> feed.weight())
+                .recordStats()
+                .build();
+        this.renderTimer = Timer.builder("calendar_feed_render_duration")
+                .description("Time to query hangouts and render an ICS feed on a cache miss")
+                .register(meterRegistry);
+        // Exposes cache_gets_total{cache="calendarFeed|calendarToken",result="hit|miss"} among others
+        CaffeineCacheMetrics.monitor(meterRegistry, feeds, "calendarFeed");
+        CaffeineCacheMetrics.monitor(meterRegistry, tokens, "calendarToken");
+    }
+
+    /**
+     * Look up the membership owning a calendar token, serving recently validated tokens from memory.
+     */
+    public Optional<GroupMembership> findMembershipByToken(String token) {
+        GroupMembership cached = tokens.getIfPresent(token);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<GroupMembership> membership = groupRepository.findMembershipByToken(token);
+        membership.ifPresent(m -> tokens.put(token, m));
+        return membership;
+    }
+
+    /**
+     * Drop a cached token. Call after a subscription is deleted.
+     */
+    public void invalidateToken(String token) {
+        if (token != null) {
+            tokens.invalidate(token);
+        }
+    }
+
+    /**
+     * Return the rendered feed for this version of a group, rendering it at most once.
+     *
+     * @param groupName The group name rendered into the feed, part of the key since renames
+     *                  leave the ETag unchanged
+     * @param renderer  Produces the ICS body; only invoked on a miss
+     */
+    public RenderedFeed getOrRender(String groupId, String etag, String groupName, Supplier<String> renderer) {
+        return feeds.get(groupId + KEY_SEPARATOR + etag + KEY_SEPARATOR + groupName, key -> {
+            Timer.Sample sample = Timer.start();
+            String body = renderer.get();
+            sample.stop(renderTimer);
+            logger.debug("Rendered calendar feed for group {} ({} chars)", groupId, body.length());
+            return new RenderedFeed(body);
+        });
+    }
+
+    /**
+     * An ICS body plus its gzip encoding, compressed once on first use.
+     */
+    public static final class RenderedFeed {
+
+        private final String body;
+        private volatile byte[] gzippedBody;
+
+        RenderedFeed(String body) {
+            this.body = body;
+        }
+
+        public String getBody() {
+            return body;
+        }
+
+        public byte[] getGzippedBody() {
+            byte[] gzipped = gzippedBody;
+            if (gzipped == null) {
+                // Racing threads may both compress; either result is identical
+                gzipped = gzip(body);
+                gzippedBody = gzipped;
+            }
+            return gzipped;
+        }
+
+        int weight() {
+            // Chars plus an allowance for the compressed copy
+            return body.length() * 2;
+        }
+
+        private static byte[] gzip(String body) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length() / 4));
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(body.getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -52,4 +52,13 @@ public interface CalendarSubscriptionService {
      * @throws com.bbthechange.inviter.exception.ForbiddenException if group not found
      */
     ResponseEntity<String> getCalendarFeed(String groupId, String token, String ifNoneMatch);
+
+    /**
+     * Same as {@link #getCalendarFeed} but returns the feed gzip-encoded, compressed once per
+     * group version rather than per request. The ETag carries a {@code -gzip} suffix so it
+     * never validates the identity representation, and vice versa.
+     *
+     * @return ResponseEntity with gzipped ICS content (Content-Encoding: gzip) or 304 Not Modified
+     */
+    ResponseEntity<byte[]> getGzippedCalendarFeed(String groupId, String token, String ifNoneMatch);
 }
@@ -1,39 +1,92 @@
 package com.bbthechange.inviter.service;
 
 import com.bbthechange.inviter.model.Device;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.services.dynamodb.model.ReturnValue;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
+/**
+ * Device registry backed by the Devices table.
+ *
+ * Active device lists are cached per user for a short TTL so notification fan-outs don't
+ * query the UserIndex once per recipient on every send. Writes through this service
+ * invalidate the affected users; other writers are picked up when the entry expires.
+ */
 @Service
 public class DeviceService {
-    
+
+    private static final Logger logger = LoggerFactory.getLogger(DeviceService.class);
+
     private final DynamoDbTable<Device> deviceTable;
     private final DynamoDbIndex<Device> userIndex;
-    
+    private final Executor lookupExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Cache<UUID, List<Device>> activeDevicesByUser;
+
     @Autowired
-    public DeviceService(DynamoDbEnhancedClient dynamoDbClient) {
+    public DeviceService(DynamoDbEnhancedClient dynamoDbClient,
+                         @Qualifier("repositoryFanOutExecutor") Executor lookupExecutor,
+                         MeterRegistry meterRegistry,
+                         @Value("${devices.cache.ttl-seconds:60}") long cacheTtlSeconds,
+                         @Value("${devices.cache.max-size:50000}") long cacheMaxSize) {
         this.deviceTable = dynamoDbClient.table("Devices", TableSchema.fromBean(Device.class));
         this.userIndex = deviceTable.index("UserIndex");
+        this.lookupExecutor = lookupExecutor;
+        this.meterRegistry = meterRegistry;
+        this.activeDevicesByUser = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .maximumSize(cacheMaxSize)
+                .recordStats()
+                .build();
+        // Exposes cache_gets_total{cache="activeDevices",result="hit|miss"} among others
+        CaffeineCacheMetrics.monitor(meterRegistry, activeDevicesByUser, "activeDevices");
     }
-    
+
     public Device registerDevice(String token, UUID userId, Device.Platform platform) {
         Device device = new Device(token, userId, platform);
-        deviceTable.putItem(device);
+        PutItemEnhancedResponse<Device> response = deviceTable.putItemWithResponse(
+                PutItemEnhancedRequest.builder(Device.class)
+                        .item(device)
+                        .returnValues(ReturnValue.ALL_OLD)
+                        .build());
+        // A token re-registered by another account must stop reaching the previous owner
+        if (response != null && response.attributes() != null) {
+            invalidate(response.attributes().getUserId());
+        }
+        invalidate(userId);
         return device;
     }
-    
+
     public void deactivateDevice(String token) {
         Optional<Device> existingDevice = getDeviceByToken(token);
         if (existingDevice.isPresent()) {
@@ -41,16 +94,38 @@ public class DeviceService {
             device.setActive(false);
             device.setUpdatedAt(Instant.now());
             deviceTable.putItem(device);
+            invalidate(device.getUserId());
         }
     }
-    
+
     public void deleteDevice(String token) {
         Key key = Key.builder()
                 .partitionValue(token)
                 .build();
-        deviceTable.deleteItem(key);
+        Device deleted = deviceTable.deleteItem(key);
+        if (deleted != null) {
+            invalidate(deleted.getUserId());
+        }
+    }
+
+    /**
+     * Delete a device whose token APNs or FCM reported as no longer registered.
+     * Runs in the background so the push callback or multicast loop isn't held up.
+     */
+    public void pruneUnregisteredToken(String token) {
+        String tokenPrefix = token.substring(0, Math.min(8, token.length())) + "...";
+        CompletableFuture.runAsync(() -> deleteDevice(token), lookupExecutor)
+                .whenComplete((ignored, cause) -> {
+                    if (cause != null) {
+                        logger.error("Failed to prune unregistered device {}: {}", tokenPrefix, cause.getMessage());
+                        meterRegistry.counter("device_prune_total", "status", "error").increment();
+                    } else {
+                        logger.info("Pruned unregistered device {}", tokenPrefix);
+                        meterRegistry.counter("device_prune_total", "status", "success").increment();
+                    }
+                });
     }
-    
+
     public Optional<Device> getDeviceByToken(String token) {
         Key key = Key.builder()
                 .partitionValue(token)
@@ -58,23 +133,68 @@ public class DeviceService {
         Device device = deviceTable.getItem(key);
         return Optional.ofNullable(device);
     }
-    
+
     public List<Device> getActiveDevicesForUser(UUID userId) {
+        return activeDevicesByUser.get(userId, this::queryActiveDevices);
+    }
+
+    /**
+     * Resolve active devices for many users at once. Cached users are served from memory;
+     * the rest are queried on the UserIndex concurrently.
+     *
+     * Users whose lookup fails are left out of the result rather than failing the batch,
+     * so a notification still reaches everyone else.
+     *
+     * @return Active devices keyed by user ID, for every user that could be resolved
+     */
+    public Map<UUID, List<Device>> getActiveDevicesForUsers(Collection<UUID> userIds) {
+        Map<UUID, List<Device>> devicesByUser = new HashMap<>();
+        Map<UUID, CompletableFuture<List<Device>>> lookups = new LinkedHashMap<>();
+
+        for (UUID userId : new LinkedHashSet<>(userIds)) {
+            List<Device> cached = activeDevicesByUser.getIfPresent(userId);
+            if (cached != null) {
+                devicesByUser.put(userId, cached);
+            } else {
+                lookups.put(userId, CompletableFuture.supplyAsync(
+                        () -> getActiveDevicesForUser(userId), lookupExecutor));
+            }
+        }
+
+        lookups.forEach((userId, lookup) -> {
+            try {
+                devicesByUser.put(userId, lookup.join());
+            } catch (Exception e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                logger.warn("Failed to load devices for user {}: {}", userId, cause.getMessage());
+            }
+        });
+
+        return devicesByUser;
+    }
+
+    public List<Device> getAllDevicesForUser(UUID userId) {
         return userIndex.query(QueryConditional.keyEqualTo(Key.builder()
                 .partitionValue(userId.toString())
                 .build()))
                 .stream()
                 .flatMap(page -> page.items().stream())
-                .filter(Device::isActive)
                 .collect(Collectors.toList());
     }
-    
-    public List<Device> getAllDevicesForUser(UUID userId) {
+
+    private List<Device> queryActiveDevices(UUID userId) {
         return userIndex.query(QueryConditional.keyEqualTo(Key.builder()
                 .partitionValue(userId.toString())
                 .build()))
                 .stream()
                 .flatMap(page -> page.items().stream())
-                .collect(Collectors.toList());
+                .filter(Device::isActive)
+                .toList();
+    }
+
+    private void invalidate(UUID userId) {
+        if (userId != null) {
+            activeDevicesByUser.invalidate(userId);
+        }
     }
-}
\ No newline at end of file
+}
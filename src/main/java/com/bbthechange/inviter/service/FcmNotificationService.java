@@ -2,17 +2,22 @@ package com.bbthechange.inviter.service;
 
 import com.bbthechange.inviter.model.Hangout;
 import com.google.firebase.FirebaseApp;
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
 import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * Firebase Cloud Messaging service for Android push notifications.
  *
@@ -28,6 +33,9 @@ public class FcmNotificationService {
 
     private static final Logger logger = LoggerFactory.getLogger(FcmNotificationService.class);
 
+    /** FCM rejects multicast requests with more than 500 tokens. */
+    static final int MULTICAST_BATCH_SIZE = 500;
+
     private final FirebaseApp firebaseApp;
     private final NotificationTextGenerator textGenerator;
     private final DeviceService deviceService;
@@ -45,6 +53,70 @@ public class FcmNotificationService {
         this.meterRegistry = meterRegistry;
     }
 
+    /**
+     * Send the same notification to many Android devices using multicast requests of up to
+     * {@value #MULTICAST_BATCH_SIZE} tokens, instead of one HTTP call per device.
+     * Per-token failures go through the same error handling as single sends, so
+     * unregistered tokens are still removed (in the background).
+     */
+    public PushDeliveryResult sendBulk(PushMessage message, List<String> deviceTokens) {
+        if (deviceTokens.isEmpty()) {
+            return PushDeliveryResult.empty();
+        }
+        if (firebaseApp == null) {
+            logger.info("FCM not configured - skipping {} push notifications of type {}",
+                    deviceTokens.size(), message.getType());
+            return PushDeliveryResult.empty();
+        }
+
+        PushDeliveryResult result = PushDeliveryResult.empty();
+        for (int start = 0; start < deviceTokens.size(); start += MULTICAST_BATCH_SIZE) {
+            List<String> batch = deviceTokens.subList(start, Math.min(start + MULTICAST_BATCH_SIZE, deviceTokens.size()));
+            result = result.plus(sendMulticastBatch(message, batch));
+        }
+        return result;
+    }
+
+    private PushDeliveryResult sendMulticastBatch(PushMessage message, List<String> batch) {
+        MulticastMessage multicast = MulticastMessage.builder()
+                .addAllTokens(batch)
+                .setNotification(Notification.builder()
+                        .setTitle(message.getTitle())
+                        .setBody(message.getBody())
+                        .build())
+                .putAllData(message.getData())
+                .build();
+
+        try {
+            BatchResponse response = FirebaseMessaging.getInstance(firebaseApp).sendEachForMulticast(multicast);
+            List<SendResponse> responses = response.getResponses();
+            for (int i = 0; i < responses.size(); i++) {
+                SendResponse sendResponse = responses.get(i);
+                if (sendResponse.isSuccessful()) {
+                    meterRegistry.counter("fcm_notification_total", "status", "success", "type", message.getType()).increment();
+                } else {
+                    String deviceToken = batch.get(i);
+                    String tokenPrefix = deviceToken.substring(0, Math.min(8, deviceToken.length())) + "...";
+                    handleFcmError(sendResponse.getException(), deviceToken, tokenPrefix);
+                }
+            }
+            logger.info("FCM multicast of type {} sent to {} devices: {} succeeded, {} failed",
+                    message.getType(), batch.size(), response.getSuccessCount(), response.getFailureCount());
+            return new PushDeliveryResult(response.getSuccessCount(), response.getFailureCount());
+
+        } catch (FirebaseMessagingException e) {
+            // The whole request failed (auth, network) - no per-token results to inspect
+            logger.error("FCM multicast of type {} to {} devices failed: {}",
+                    message.getType(), batch.size(), e.getMessage());
+            meterRegistry.counter("fcm_notification_total",
+                    "status", "error",
+                    "error_code", e.getMessagingErrorCode() != null ? e.getMessagingErrorCode().name() : "unknown",
+                    "category", "batch"
+            ).increment(batch.size());
+            return PushDeliveryResult.allFailed(batch.size());
+        }
+    }
+
     public void sendNewHangoutNotification(String deviceToken, String hangoutId, String groupId,
                                            String hangoutTitle, String groupName, String creatorName) {
         if (firebaseApp == null) {
@@ -379,11 +451,7 @@ public class FcmNotificationService {
             // Token is invalid (expired, app uninstalled) - remove device from database
             category = "expected";
             logger.warn("FCM token unregistered, removing device: {}", tokenPrefix);
-            try {
-                deviceService.deleteDevice(deviceToken);
-            } catch (Exception deleteEx) {
-                logger.error("Failed to delete unregistered device {}: {}", tokenPrefix, deleteEx.getMessage());
-            }
+            deviceService.pruneUnregisteredToken(deviceToken);
         } else if (errorCode == MessagingErrorCode.QUOTA_EXCEEDED ||
                    errorCode == MessagingErrorCode.UNAVAILABLE ||
                    errorCode == MessagingErrorCode.INTERNAL) {
@@ -0,0 +1,170 @@
+package com.bbthechange.inviter.service;
+
+import com.bbthechange.inviter.model.BaseItem;
+import com.bbthechange.inviter.model.HangoutPointer;
+import com.bbthechange.inviter.util.HangoutPointerPatch;
+import com.bbthechange.inviter.util.PaginatedResult;
+import com.bbthechange.inviter.util.InviterTableSchemas;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+/**
+ * In-memory snapshot of the pointer set behind a group's first feed page - the future,
+ * in-progress and floating query results - shared by every member who opens the group.
+ *
+ * A snapshot is served only while the group's lastHangoutModified still equals the version it
+ * was built at, and for at most the configured TTL so time-driven moves between the future,
+ * in-progress and past windows are picked up. Pointer writes made through
+ * {@link com.bbthechange.inviter.service.impl.PointerUpdateService} patch cached snapshots in
+ * place; any other change is caught by the version check.
+ *
+ * Snapshots are immutable; patches replace them. Items inside are shared between requests and
+ * must only be read.
+ */
+@Service
+public class GroupFeedSnapshotCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupFeedSnapshotCache.class);
+    private static final String KEY_SEPARATOR = "|";
+    private static final TableSchema<HangoutPointer> POINTER_SCHEMA = InviterTableSchemas.forClass(HangoutPointer.class);
+
+    private final Cache<String, GroupFeedSnapshot> snapshots;
+
+    @Autowired
+    public GroupFeedSnapshotCache(MeterRegistry meterRegistry,
+                                  @Value("${group-feed.snapshot.ttl-seconds:60}") long ttlSeconds,
+                                  @Value("${group-feed.snapshot.max-size:5000}") long maxSize) {
+        this.snapshots = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        // Exposes cache_gets_total{cache="groupFeedSnapshot",result="hit|miss"} among others
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, "groupFeedSnapshot");
+    }
+
+    /**
+     * Snapshot for a group's first page, if one exists for exactly this group version.
+     *
+     * @param limit   Page size the snapshot was built with (null for the repository default)
+     * @param version The group's current lastHangoutModified
+     */
+    public Optional<GroupFeedSnapshot> get(String groupId, Integer limit, Instant version) {
+        GroupFeedSnapshot snapshot = snapshots.getIfPresent(key(groupId, limit));
+        if (snapshot == null) {
+            return Optional.empty();
+        }
+        if (!Objects.equals(snapshot.version(), version)) {
+            snapshots.invalidate(key(groupId, limit));
+            return Optional.empty();
+        }
+        return Optional.of(snapshot);
+    }
+
+    public void put(String groupId, Integer limit, GroupFeedSnapshot snapshot) {
+        snapshots.put(key(groupId, limit), snapshot);
+    }
+
+    /**
+     * Replace a pointer in every cached snapshot of its group. A pointer that isn't in a
+     * snapshot may belong on a page boundary or in a different window, so that snapshot is
+     * dropped instead.
+     */
+    public void applyPointerUpdate(HangoutPointer pointer) {
+        if (pointer.getGroupId() == null) {
+            return;
+        }
+        update(pointer.getGroupId(), pointer.getHangoutId(), existing -> pointer);
+    }
+
+    /**
+     * Apply a field-level patch to a copy of the cached pointer in every snapshot of the group.
+     * Cached pointers are never modified in place since other requests may be reading them.
+     */
+    public void applyPatch(String groupId, String hangoutId, HangoutPointerPatch patch) {
+        update(groupId, hangoutId, existing -> {
+            HangoutPointer copy = POINTER_SCHEMA.mapToItem(POINTER_SCHEMA.itemToMap(existing, true));
+            patch.applyTo(copy);
+            return copy;
+        });
+    }
+
+    private void update(String groupId, String hangoutId, UnaryOperator<HangoutPointer> replacement) {
+        String prefix = groupId + KEY_SEPARATOR;
+        for (String key : new ArrayList<>(snapshots.asMap().keySet())) {
+            if (key.startsWith(prefix)) {
+                snapshots.asMap().computeIfPresent(key, (k, snapshot) -> snapshot.withPointer(hangoutId, replacement));
+            }
+        }
+        logger.debug("Patched feed snapshots for group {} with hangout {}", groupId, hangoutId);
+    }
+
+    private static String key(String groupId, Integer limit) {
+        return groupId + KEY_SEPARATOR + (limit == null ? "default" : limit);
+    }
+
+    /**
+     * The three first-page query results for one version of a group.
+     */
+    public record GroupFeedSnapshot(Instant version,
+                                    PaginatedResult<BaseItem> futureEvents,
+                                    PaginatedResult<BaseItem> inProgressEvents,
+                                    PaginatedResult<BaseItem> floatingEvents) {
+
+        public static GroupFeedSnapshot of(Instant version,
+                                           PaginatedResult<BaseItem> futureEvents,
+                                           PaginatedResult<BaseItem> inProgressEvents,
+                                           PaginatedResult<BaseItem> floatingEvents) {
+            return new GroupFeedSnapshot(version, freeze(futureEvents), freeze(inProgressEvents), freeze(floatingEvents));
+        }
+
+        /**
+         * Copy with the hangout's pointer replaced, or null (dropping the snapshot) if it isn't present.
+         */
+        GroupFeedSnapshot withPointer(String hangoutId, UnaryOperator<HangoutPointer> replacement) {
+            PaginatedResult<BaseItem> future = replace(futureEvents, hangoutId, replacement);
+            PaginatedResult<BaseItem> inProgress = replace(inProgressEvents, hangoutId, replacement);
+            PaginatedResult<BaseItem> floating = replace(floatingEvents, hangoutId, replacement);
+            if (future == futureEvents && inProgress == inProgressEvents && floating == floatingEvents) {
+                return null;
+            }
+            return new GroupFeedSnapshot(version, future, inProgress, floating);
+        }
+
+        private static PaginatedResult<BaseItem> freeze(PaginatedResult<BaseItem> page) {
+            return new PaginatedResult<>(List.copyOf(page.getResults()), page.getNextToken());
+        }
+
+        /**
+         * Same page instance when the pointer isn't in it, so callers can tell a no-op apart.
+         */
+        private static PaginatedResult<BaseItem> replace(PaginatedResult<BaseItem> page, String hangoutId,
+                                                         UnaryOperator<HangoutPointer> replacement) {
+            List<BaseItem> items = page.getResults();
+            for (int i = 0; i < items.size(); i++) {
+                if (items.get(i) instanceof HangoutPointer existing && existing.getHangoutId().equals(hangoutId)) {
+                    List<BaseItem> updated = new ArrayList<>(items);
+                    updated.set(i, replacement.apply(existing));
+                    return new PaginatedResult<>(List.copyOf(updated), page.getNextToken());
+                }
+            }
+            return page;
+        }
+    }
+}
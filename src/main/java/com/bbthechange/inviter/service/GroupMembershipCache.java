@@ -0,0 +1,98 @@
+package com.bbthechange.inviter.service;
+
+import com.bbthechange.inviter.repository.GroupRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory cache of confirmed (groupId, userId) memberships used by authorization checks.
+ *
+ * Only positive results are cached. A miss falls through to a single-item
+ * {@link GroupRepository#findMembership} point lookup, so a user who just joined is never
+ * locked out by a stale negative entry on another instance.
+ *
+ * Removals are invalidated locally by GroupServiceImpl, and an invalidation that races a
+ * load always wins (see {@link #isMember}). Other instances are not told: a removed member
+ * keeps access there until their cached entry expires, at most
+ * {@code inviter.membership-cache.ttl-seconds} (60s by default) after it was loaded.
+ */
+@Service
+public class GroupMembershipCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupMembershipCache.class);
+    private static final String KEY_SEPARATOR = "|";
+
+    private final GroupRepository groupRepository;
+    private final Cache<String, Boolean> memberships;
+    // Bumped by invalidateGroup, so a load it couldn't see yet is dropped afterwards
+    private final AtomicLong groupInvalidations = new AtomicLong();
+
+    @Autowired
+    public GroupMembershipCache(GroupRepository groupRepository, MeterRegistry meterRegistry,
+                                @Value("${inviter.membership-cache.ttl-seconds:60}") long ttlSeconds,
+                                @Value("${inviter.membership-cache.max-size:50000}") long maxSize) {
+        this.groupRepository = groupRepository;
+        this.memberships = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        // Exposes cache_gets_total{cache="groupMembership",result="hit|miss"} among others
+        CaffeineCacheMetrics.monitor(meterRegistry, memberships, "groupMembership");
+    }
+
+    /**
+     * Check whether a user is a member of a group, serving confirmed memberships from memory.
+     *
+     * The lookup runs inside the cache's atomic compute rather than being put afterwards:
+     * {@link #invalidate} on the same key waits for an in-flight load and then removes its
+     * result, so a removal during the lookup can't be overwritten by a stale positive.
+     */
+    public boolean isMember(String groupId, String userId) {
+        if (groupId == null || userId == null) {
+            return false;
+        }
+
+        String key = key(groupId, userId);
+        long invalidationsBefore = groupInvalidations.get();
+        Boolean member = memberships.get(key,
+                k -> groupRepository.findMembership(groupId, userId).isPresent() ? Boolean.TRUE : null);
+
+        if (member != null && groupInvalidations.get() != invalidationsBefore) {
+            // invalidateGroup ran during the load and may have missed this entry
+            memberships.invalidate(key);
+        }
+        return member != null;
+    }
+
+    /**
+     * Drop a single cached membership. Call after a member is added or removed.
+     */
+    public void invalidate(String groupId, String userId) {
+        memberships.invalidate(key(groupId, userId));
+    }
+
+    /**
+     * Drop every cached membership for a group. Call after a group is deleted.
+     */
+    public void invalidateGroup(String groupId) {
+        String prefix = groupId + KEY_SEPARATOR;
+        groupInvalidations.incrementAndGet();
+        memberships.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+        logger.debug("Invalidated cached memberships for group {}", groupId);
+    }
+
+    private static String key(String groupId, String userId) {
+        return groupId + KEY_SEPARATOR + userId;
+    }
+}
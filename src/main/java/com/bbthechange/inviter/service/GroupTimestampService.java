@@ -1,5 +1,6 @@
 package com.bbthechange.inviter.service;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -15,4 +16,13 @@ public interface GroupTimestampService {
      * @param groupIds List of group IDs to update (can be null or empty)
      */
     void updateGroupTimestamps(List<String> groupIds);
+
+    /**
+     * Latest bump for a group that has been accepted but not yet written, or null if none is pending.
+     * Lets ETag checks on this instance see a change before the write-behind flush lands.
+     *
+     * @param groupId Group ID
+     * @return Pending lastHangoutModified, or null
+     */
+    Instant getPendingTimestamp(String groupId);
 }
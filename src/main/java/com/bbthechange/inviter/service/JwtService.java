@@ -1,10 +1,19 @@
 package com.bbthechange.inviter.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -12,7 +21,17 @@ import jakarta.annotation.PostConstruct;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Issues and verifies the app's HMAC-signed JWTs.
+ *
+ * Access tokens are verified on every authenticated request, so {@link #verifyAccessToken}
+ * parses each token once with a prebuilt parser and remembers tokens it has already verified.
+ * A cached entry never outlives the token's own {@code exp}, and is also capped at
+ * {@code jwt.verified-cache.max-ttl-seconds}. Only valid tokens are cached.
+ */
 @Service
 public class JwtService {
     
@@ -32,7 +51,19 @@ public class JwtService {
     private static final long ACCESS_TOKEN_EXPIRATION = 1800000; // 30 minutes
     private static final long PASSWORD_RESET_TOKEN_EXPIRATION = 900000; // 15 minutes
 
+    @Value("${jwt.verified-cache.max-size:10000}")
+    private long verifiedCacheMaxSize = 10_000;
+
+    @Value("${jwt.verified-cache.max-ttl-seconds:300}")
+    private long verifiedCacheMaxTtlSeconds = 300;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
     private SecretKey key;
+    private JwtParser parser;
+    private Cache<String, Claims> verifiedTokens;
+    private Timer verificationTimer;
     
     @PostConstruct
     public void init() {
@@ -41,6 +72,22 @@ public class JwtService {
             throw new IllegalArgumentException("JWT secret key must be at least 32 characters (was " + secretKey.length() + ")");
         }
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        // JwtParser is immutable and thread-safe, so one instance serves every request
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new ExpireAtTokenExpiry(TimeUnit.SECONDS.toNanos(verifiedCacheMaxTtlSeconds)))
+                .recordStats()
+                .build();
+
+        MeterRegistry registry = meterRegistry != null ? meterRegistry : new SimpleMeterRegistry();
+        this.verificationTimer = Timer.builder("jwt_verification_duration")
+                .description("Time to parse and verify the signature of an access token not found in the cache")
+                .register(registry);
+        // Exposes cache_gets_total{cache="verifiedJwt",result="hit|miss"} among others
+        CaffeineCacheMetrics.monitor(registry, verifiedTokens, "verifiedJwt");
     }
     
     public String generateToken(String userId) {
@@ -55,26 +102,55 @@ public class JwtService {
     public String extractUserId(String token) {
         return extractClaims(token).getSubject();
     }
-    
-    public boolean isTokenValid(String token) {
+
+    /**
+     * Verify an access token and return its claims, or empty if the token is malformed,
+     * wrongly signed or expired. Replaces {@link #isTokenValid} followed by
+     * {@link #extractUserId}, which parsed and verified the token twice.
+     *
+     * @param token The compact JWT from the Authorization header
+     * @return The verified claims
+     */
+    public Optional<Claims> verifyAccessToken(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        Claims cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            // The entry expires with the token, but a read can race the eviction
+            return isExpired(cached) ? Optional.empty() : Optional.of(cached);
+        }
+
+        Timer.Sample sample = Timer.start();
         try {
             Claims claims = extractClaims(token);
-            return !claims.getExpiration().before(new Date());
+            if (isExpired(claims)) {
+                return Optional.empty();
+            }
+            verifiedTokens.put(token, claims);
+            return Optional.of(claims);
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
+        } finally {
+            sample.stop(verificationTimer);
         }
     }
     
+    public boolean isTokenValid(String token) {
+        return verifyAccessToken(token).isPresent();
+    }
+    
     public int getAccessTokenExpirationSeconds() {
         return (int) (ACCESS_TOKEN_EXPIRATION / 1000);
     }
 
     private Claims extractClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private static boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration == null || expiration.before(new Date());
     }
 
     /**
@@ -128,4 +204,32 @@ public class JwtService {
         }
         return extractClaims(token).getSubject();
     }
-}
\ No newline at end of file
+
+    /**
+     * Expires a verified token at the earlier of its {@code exp} claim and the cache's TTL cap.
+     */
+    private static final class ExpireAtTokenExpiry implements Expiry<String, Claims> {
+
+        private final long maxTtlNanos;
+
+        ExpireAtTokenExpiry(long maxTtlNanos) {
+            this.maxTtlNanos = maxTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+            return Math.max(0, Math.min(maxTtlNanos, TimeUnit.MILLISECONDS.toNanos(remainingMillis)));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
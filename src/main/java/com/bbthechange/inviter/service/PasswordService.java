@@ -1,18 +1,50 @@
 package com.bbthechange.inviter.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
 @Service
 public class PasswordService {
-    
+
     private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
-    
+    private final ExecutorService hashingExecutor;
+    private final MeterRegistry meterRegistry;
+
+    public PasswordService(@Qualifier("passwordHashingExecutor") ExecutorService hashingExecutor,
+                           @Autowired(required = false) MeterRegistry meterRegistry) {
+        this.hashingExecutor = hashingExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
     public String encryptPassword(String plainPassword) {
         return passwordEncoder.encode(plainPassword);
     }
-    
+
     public boolean matches(String plainPassword, String hashedPassword) {
         return passwordEncoder.matches(plainPassword, hashedPassword);
     }
-}
\ No newline at end of file
+
+    /**
+     * {@link #matches} on the bounded password hashing executor, so the calling request
+     * thread is free while BCrypt runs. When the executor's queue is full the future fails
+     * with {@link RejectedExecutionException}; callers should answer 503.
+     */
+    public CompletableFuture<Boolean> matchesAsync(String plainPassword, String hashedPassword) {
+        try {
+            return CompletableFuture.supplyAsync(() -> passwordEncoder.matches(plainPassword, hashedPassword),
+                    hashingExecutor);
+        } catch (RejectedExecutionException e) {
+            if (meterRegistry != null) {
+                meterRegistry.counter("password_hashing_rejected_total").increment();
+            }
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
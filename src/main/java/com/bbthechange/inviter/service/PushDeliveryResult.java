@@ -0,0 +1,37 @@
+package com.bbthechange.inviter.service;
+
+/**
+ * Per-device delivery counts for one bulk push send.
+ */
+public final class PushDeliveryResult {
+
+    private static final PushDeliveryResult EMPTY = new PushDeliveryResult(0, 0);
+
+    private final int accepted;
+    private final int failed;
+
+    public PushDeliveryResult(int accepted, int failed) {
+        this.accepted = accepted;
+        this.failed = failed;
+    }
+
+    public static PushDeliveryResult empty() {
+        return EMPTY;
+    }
+
+    public static PushDeliveryResult allFailed(int attempted) {
+        return new PushDeliveryResult(0, attempted);
+    }
+
+    public PushDeliveryResult plus(PushDeliveryResult other) {
+        return new PushDeliveryResult(accepted + other.accepted, failed + other.failed);
+    }
+
+    public int getAccepted() {
+        return accepted;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+}
@@ -0,0 +1,53 @@
+package com.bbthechange.inviter.service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Platform-neutral push notification content sent identically to many devices.
+ *
+ * The {@code type} is always included in the data payload (clients route on it) and is
+ * used as the metric tag for delivery counts. Null data values are dropped so callers
+ * can pass optional ids such as groupId without branching.
+ */
+public final class PushMessage {
+
+    private final String type;
+    private final String title;
+    private final String body;
+    private final Map<String, String> data = new LinkedHashMap<>();
+
+    public PushMessage(String type, String title, String body) {
+        this.type = type;
+        this.title = title;
+        this.body = body;
+        this.data.put("type", type);
+    }
+
+    /**
+     * Add a custom data entry, ignoring null values.
+     */
+    public PushMessage withData(String key, String value) {
+        if (value != null) {
+            data.put(key, value);
+        }
+        return this;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public Map<String, String> getData() {
+        return Collections.unmodifiableMap(data);
+    }
+}
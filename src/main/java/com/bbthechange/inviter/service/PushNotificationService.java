@@ -13,9 +13,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 public class PushNotificationService {
@@ -25,15 +30,113 @@ public class PushNotificationService {
     @Autowired(required = false)
     private ApnsClient apnsClient;
 
-    @Autowired
-    private NotificationTextGenerator textGenerator;
-
-    @Autowired
-    private MeterRegistry meterRegistry;
+    private final NotificationTextGenerator textGenerator;
+    private final MeterRegistry meterRegistry;
+    private final DeviceService deviceService;
 
     @Value("${apns.bundle-id:}")
     private String bundleId;
 
+    // Caps notifications awaiting an APNs response across all concurrent bulk sends
+    private final Semaphore inFlightPermits;
+
+    @Autowired
+    public PushNotificationService(NotificationTextGenerator textGenerator,
+                                   MeterRegistry meterRegistry,
+                                   DeviceService deviceService,
+                                   @Value("${apns.max-in-flight:100}") int maxInFlight) {
+        this.textGenerator = textGenerator;
+        this.meterRegistry = meterRegistry;
+        this.deviceService = deviceService;
+        this.inFlightPermits = new Semaphore(maxInFlight);
+    }
+
+    /**
+     * Send the same notification to many iOS devices without blocking on each response.
+     *
+     * Uses Pushy's async futures; at most {@code apns.max-in-flight} notifications are
+     * outstanding at once, so this call blocks only while waiting for a permit. The returned
+     * future completes once every device has been accepted, rejected or failed.
+     */
+    public CompletableFuture<PushDeliveryResult> sendBulk(PushMessage message, List<String> deviceTokens) {
+        if (deviceTokens.isEmpty()) {
+            return CompletableFuture.completedFuture(PushDeliveryResult.empty());
+        }
+        if (apnsClient == null) {
+            logger.info("APNs not configured - skipping {} push notifications of type {}",
+                    deviceTokens.size(), message.getType());
+            return CompletableFuture.completedFuture(PushDeliveryResult.empty());
+        }
+
+        SimpleApnsPayloadBuilder payloadBuilder = new SimpleApnsPayloadBuilder();
+        payloadBuilder.setAlertTitle(message.getTitle());
+        payloadBuilder.setAlertBody(message.getBody());
+        payloadBuilder.setBadgeNumber(1);
+        payloadBuilder.setSound("default");
+        for (Map.Entry<String, String> entry : message.getData().entrySet()) {
+            payloadBuilder.addCustomProperty(entry.getKey(), entry.getValue());
+        }
+        String payload = payloadBuilder.build();
+        String type = message.getType();
+
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        List<CompletableFuture<?>> sends = new ArrayList<>(deviceTokens.size());
+
+        for (int i = 0; i < deviceTokens.size(); i++) {
+            String deviceToken = deviceTokens.get(i);
+            try {
+                inFlightPermits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                int remaining = deviceTokens.size() - i;
+                failed.addAndGet(remaining);
+                logger.warn("Interrupted while sending {} notifications, {} not sent", type, remaining);
+                break;
+            }
+
+            String tokenPrefix = deviceToken.substring(0, Math.min(8, deviceToken.length())) + "...";
+            try {
+                SimpleApnsPushNotification pushNotification = new SimpleApnsPushNotification(
+                        TokenUtil.sanitizeTokenString(deviceToken), bundleId, payload);
+                sends.add(apnsClient.sendNotification(pushNotification).whenComplete((response, cause) -> {
+                    inFlightPermits.release();
+                    if (cause != null) {
+                        failed.incrementAndGet();
+                        logger.error("Error sending {} notification to device: {}", type, tokenPrefix, cause);
+                        meterRegistry.counter("apns_notification_total",
+                                "status", "error", "type", type,
+                                "error_type", "execution", "category", "transient").increment();
+                    } else if (response.isAccepted()) {
+                        accepted.incrementAndGet();
+                        meterRegistry.counter("apns_notification_total", "status", "success", "type", type).increment();
+                    } else {
+                        failed.incrementAndGet();
+                        String reason = response.getRejectionReason().orElse("unknown");
+                        logger.error("{} notification failed for device: {}. Reason: {}", type, tokenPrefix, reason);
+                        meterRegistry.counter("apns_notification_total",
+                                "status", "rejected", "type", type,
+                                "reason", reason, "category", categorizeApnsRejection(reason)).increment();
+                        if ("Unregistered".equals(reason)) {
+                            // App uninstalled or token rotated; APNs will keep rejecting it
+                            deviceService.pruneUnregisteredToken(deviceToken);
+                        }
+                    }
+                }));
+            } catch (Exception e) {
+                inFlightPermits.release();
+                failed.incrementAndGet();
+                logger.error("Unexpected error sending {} notification to device: {}", type, tokenPrefix, e);
+                meterRegistry.counter("apns_notification_total",
+                        "status", "error", "type", type,
+                        "error_type", "unexpected", "category", "unexpected").increment();
+            }
+        }
+
+        return CompletableFuture.allOf(sends.toArray(new CompletableFuture[0]))
+                .handle((ignored, cause) -> new PushDeliveryResult(accepted.get(), failed.get()));
+    }
+
     public void sendInviteNotification(String deviceToken, String eventTitle, String hostName) {
         if (apnsClient == null) {
             logger.info("APNs not configured - skipping push notification for invite to '{}'", eventTitle);
@@ -67,6 +67,14 @@ public class RefreshTokenHashingService {
         }
     }
 
+    /**
+     * True if a stored security hash uses the legacy BCrypt scheme and should be replaced with
+     * {@link #generateSecurityHash} the next time the raw token is presented.
+     */
+    public boolean needsRehash(String securityHash) {
+        return securityHash != null && isBCryptHash(securityHash);
+    }
+
     /**
      * Detect BCrypt hash format
      * BCrypt hashes always start with $2a$, $2b$, $2y$
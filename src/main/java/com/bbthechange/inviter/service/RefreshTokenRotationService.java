@@ -6,9 +6,11 @@ import com.bbthechange.inviter.model.RefreshToken;
 import com.bbthechange.inviter.model.User;
 import com.bbthechange.inviter.repository.RefreshTokenRepository;
 import com.bbthechange.inviter.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -30,6 +32,9 @@ public class RefreshTokenRotationService {
     private final RefreshTokenHashingService hashingService;
     private final JwtService jwtService;
     private final UserRepository userRepository;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
     
     /**
      * Main refresh operation with dual-layer validation and conditional token rotation.
@@ -95,11 +100,25 @@ public class RefreshTokenRotationService {
             // Stage 6: Calculate token age for audit logging
             long tokenAgeMinutes = ChronoUnit.MINUTES.between(existingToken.getCreatedAt(), Instant.now());
 
+            // Stage 6b: Move a legacy BCrypt hash to SHA-256 now that the raw token is at hand,
+            // so later refreshes of this token skip the ~334ms BCrypt check. Mobile saves here;
+            // web saves the superseded token below anyway.
+            boolean rehashed = hashingService.needsRehash(existingToken.getSecurityHash());
+            if (rehashed) {
+                existingToken.setSecurityHash(hashingService.generateSecurityHash(rawRefreshToken));
+                if (meterRegistry != null) {
+                    meterRegistry.counter("refresh_token_legacy_rehash_total", "client", clientType).increment();
+                }
+            }
+
             // Stage 7: Generate new access token
             String newAccessToken = jwtService.generateToken(existingToken.getUserId());
 
             if (isMobile) {
                 // MOBILE: No rotation - return same refresh token with new access token
+                if (rehashed) {
+                    refreshTokenRepository.save(existingToken);
+                }
                 log.info("Token refresh: user={} clientType={} ip={} tokenAge={}min success=true",
                     existingToken.getUserId(), clientType, ipAddress, tokenAgeMinutes);
                 return new RefreshTokenPair(newAccessToken, rawRefreshToken);
@@ -8,6 +8,7 @@ import com.bbthechange.inviter.model.Vote;
 import com.bbthechange.inviter.repository.HangoutRepository;
 import com.bbthechange.inviter.service.impl.PointerUpdateService;
 import com.bbthechange.inviter.util.HangoutPointerFactory;
+import com.bbthechange.inviter.util.HangoutPointerPatch;
 import com.bbthechange.inviter.util.InviterKeyFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -336,13 +337,8 @@ public class TimePollService {
             .map(item -> (Vote) item)
             .collect(Collectors.toList());
 
-        for (String groupId : groups) {
-            pointerUpdateService.updatePointerWithRetry(groupId, hangoutId, pointer -> {
-                pointer.setPolls(new ArrayList<>(polls));
-                pointer.setPollOptions(new ArrayList<>(options));
-                pointer.setVotes(new ArrayList<>(votes));
-            }, "time-poll-pointer-sync");
-        }
+        pointerUpdateService.patchPointers(groups, hangoutId,
+            HangoutPointerPatch.pollData(polls, options, votes), "time-poll-pointer-sync");
         groupTimestampService.updateGroupTimestamps(groups);
     }
 }
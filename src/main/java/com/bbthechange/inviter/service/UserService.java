@@ -11,21 +11,30 @@ import com.bbthechange.inviter.repository.InviteRepository;
 import com.bbthechange.inviter.repository.UserRepository;
 import com.bbthechange.inviter.repository.GroupRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class UserService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
+    private static final String FRIENDLY_NAMES = "friendlyNames";
 
     @Autowired
     private UserRepository userRepository;
@@ -48,6 +57,12 @@ public class UserService {
     @Autowired
     private S3Service s3Service;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    // Summary loads in progress, so concurrent misses on one user share a single read
+    private final Map<UUID, CompletableFuture<Optional<UserSummaryDTO>>> summaryLoads = new ConcurrentHashMap<>();
+
     @CacheEvict(value = "friendlyNames", key = "#userId.toString()")
     public User updateProfile(UUID userId, UpdateProfileRequest request) {
         Optional<User> userOpt = userRepository.findById(userId);
@@ -135,14 +150,82 @@ public class UserService {
      * @param userId The user's unique identifier
      * @return Optional containing UserSummaryDTO if user exists, empty otherwise
      */
-    @Cacheable(value = "friendlyNames", key = "#userId.toString()")
     public Optional<UserSummaryDTO> getUserSummary(UUID userId) {
-        return userRepository.findById(userId)
-                .map(user -> new UserSummaryDTO(
+        return Optional.ofNullable(getUserSummaries(List.of(userId)).get(userId));
+    }
+
+    /**
+     * Retrieves summaries for many users at once. Hits are served from the "friendlyNames"
+     * cache and the misses are read with one BatchGetItem per 100 users. A user already
+     * being loaded by another request is waited on rather than read again.
+     *
+     * @param userIds The users to resolve; duplicates are ignored
+     * @return Summaries keyed by user ID, for the users that exist
+     */
+    public Map<UUID, UserSummaryDTO> getUserSummaries(Collection<UUID> userIds) {
+        Cache cache = cacheManager.getCache(FRIENDLY_NAMES);
+        Map<UUID, UserSummaryDTO> summaries = new HashMap<>();
+        Map<UUID, CompletableFuture<Optional<UserSummaryDTO>>> ownLoads = new HashMap<>();
+        Map<UUID, CompletableFuture<Optional<UserSummaryDTO>>> sharedLoads = new HashMap<>();
+
+        for (UUID userId : new LinkedHashSet<>(userIds)) {
+            Cache.ValueWrapper cached = cache.get(userId.toString());
+            if (cached != null) {
+                // A cached null records a user that doesn't exist
+                if (cached.get() instanceof UserSummaryDTO summary) {
+                    summaries.put(userId, summary);
+                }
+                continue;
+            }
+            CompletableFuture<Optional<UserSummaryDTO>> load = new CompletableFuture<>();
+            CompletableFuture<Optional<UserSummaryDTO>> inFlight = summaryLoads.putIfAbsent(userId, load);
+            if (inFlight == null) {
+                ownLoads.put(userId, load);
+            } else {
+                sharedLoads.put(userId, inFlight);
+            }
+        }
+
+        if (!ownLoads.isEmpty()) {
+            loadSummaries(cache, ownLoads);
+        }
+
+        Map<UUID, CompletableFuture<Optional<UserSummaryDTO>>> pending = new HashMap<>(ownLoads);
+        pending.putAll(sharedLoads);
+        pending.forEach((userId, load) -> {
+            try {
+                load.join().ifPresent(summary -> summaries.put(userId, summary));
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        });
+
+        return summaries;
+    }
+
+    private void loadSummaries(Cache cache, Map<UUID, CompletableFuture<Optional<UserSummaryDTO>>> loads) {
+        try {
+            Map<UUID, UserSummaryDTO> loaded = new HashMap<>();
+            for (User user : userRepository.findByIds(loads.keySet())) {
+                loaded.put(user.getId(), new UserSummaryDTO(
                     user.getId(),
                     user.getDisplayName(),
                     user.getMainImagePath()
                 ));
+            }
+            loads.forEach((userId, load) -> {
+                UserSummaryDTO summary = loaded.get(userId);
+                cache.put(userId.toString(), summary);
+                load.complete(Optional.ofNullable(summary));
+            });
+        } catch (RuntimeException e) {
+            loads.values().forEach(load -> load.completeExceptionally(e));
+        } finally {
+            loads.forEach(summaryLoads::remove);
+        }
     }
     
     @CacheEvict(value = "friendlyNames", key = "#userId.toString()")
@@ -7,6 +7,7 @@ import com.bbthechange.inviter.model.*;
 import com.bbthechange.inviter.repository.HangoutRepository;
 import com.bbthechange.inviter.service.AttributeSuggestionService;
 import com.bbthechange.inviter.service.GroupTimestampService;
+import com.bbthechange.inviter.util.HangoutPointerPatch;
 import com.bbthechange.inviter.util.InviterKeyFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -176,13 +177,8 @@ public class AttributeSuggestionServiceImpl implements AttributeSuggestionServic
             .map(item -> (Vote) item)
             .collect(Collectors.toList());
 
-        for (String groupId : associatedGroups) {
-            pointerUpdateService.updatePointerWithRetry(groupId, hangoutId, pointer -> {
-                pointer.setPolls(new ArrayList<>(polls));
-                pointer.setPollOptions(new ArrayList<>(pollOptions));
-                pointer.setVotes(new ArrayList<>(votes));
-            }, "poll supersession");
-        }
+        pointerUpdateService.patchPointers(associatedGroups, hangoutId,
+            HangoutPointerPatch.pollData(polls, pollOptions, votes), "poll supersession");
 
         groupTimestampService.updateGroupTimestamps(associatedGroups);
     }
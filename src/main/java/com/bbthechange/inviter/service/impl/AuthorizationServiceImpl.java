@@ -1,10 +1,9 @@
 package com.bbthechange.inviter.service.impl;
 
 import com.bbthechange.inviter.service.AuthorizationService;
-import com.bbthechange.inviter.repository.GroupRepository;
+import com.bbthechange.inviter.service.GroupMembershipCache;
 import com.bbthechange.inviter.model.Event;
 import com.bbthechange.inviter.model.Hangout;
-import com.bbthechange.inviter.model.GroupMembership;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
@@ -21,11 +20,11 @@ public class AuthorizationServiceImpl implements AuthorizationService {
     
     private static final Logger logger = LoggerFactory.getLogger(AuthorizationServiceImpl.class);
     
-    private final GroupRepository groupRepository;
+    private final GroupMembershipCache groupMembershipCache;
     
     @Autowired
-    public AuthorizationServiceImpl(GroupRepository groupRepository) {
-        this.groupRepository = groupRepository;
+    public AuthorizationServiceImpl(GroupMembershipCache groupMembershipCache) {
+        this.groupMembershipCache = groupMembershipCache;
     }
     
     
@@ -48,9 +47,7 @@ public class AuthorizationServiceImpl implements AuthorizationService {
     
     private boolean isUserInGroup(String userId, String groupId) {
         try {
-            List<GroupMembership> memberships = groupRepository.findMembersByGroupId(groupId);
-            return memberships.stream()
-                .anyMatch(membership -> membership.getUserId().equals(userId));
+            return groupMembershipCache.isMember(groupId, userId);
         } catch (Exception e) {
             logger.warn("Error checking group membership for user {} in group {}: {}", 
                        userId, groupId, e.getMessage());
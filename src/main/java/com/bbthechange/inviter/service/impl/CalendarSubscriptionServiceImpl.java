@@ -11,6 +11,8 @@ import com.bbthechange.inviter.model.GroupMembership;
 import com.bbthechange.inviter.model.HangoutPointer;
 import com.bbthechange.inviter.repository.GroupRepository;
 import com.bbthechange.inviter.repository.HangoutRepository;
+import com.bbthechange.inviter.service.CalendarFeedCache;
+import com.bbthechange.inviter.service.CalendarFeedCache.RenderedFeed;
 import com.bbthechange.inviter.service.CalendarSubscriptionService;
 import com.bbthechange.inviter.service.ICalendarService;
 import com.bbthechange.inviter.util.PaginatedResult;
@@ -19,6 +21,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -40,20 +43,24 @@ public class CalendarSubscriptionServiceImpl implements CalendarSubscriptionServ
 
     private static final Logger logger = LoggerFactory.getLogger(CalendarSubscriptionServiceImpl.class);
     public static final int MAX_CACHE_MINUTES = 30;
+    private static final String GZIP_ETAG_SUFFIX = "-gzip";
 
     private final GroupRepository groupRepository;
     private final HangoutRepository hangoutRepository;
     private final ICalendarService iCalendarService;
+    private final CalendarFeedCache feedCache;
     private final String baseUrl;
 
     @Autowired
     public CalendarSubscriptionServiceImpl(GroupRepository groupRepository,
                                          HangoutRepository hangoutRepository,
                                          ICalendarService iCalendarService,
+                                         CalendarFeedCache feedCache,
                                          @Value("${calendar.base-url:https://api.inviter.app}") String baseUrl) {
         this.groupRepository = groupRepository;
         this.hangoutRepository = hangoutRepository;
         this.iCalendarService = iCalendarService;
+        this.feedCache = feedCache;
         this.baseUrl = baseUrl;
     }
 
@@ -116,19 +123,66 @@ public class CalendarSubscriptionServiceImpl implements CalendarSubscriptionServ
         }
 
         // Clear token
+        String token = membership.getCalendarToken();
         membership.setCalendarToken(null);
 
         // Save updated membership
         groupRepository.addMember(membership);
+        feedCache.invalidateToken(token);
 
         logger.info("Deleted calendar subscription for user {} in group {}", userId, groupId);
     }
 
     @Override
     public ResponseEntity<String> getCalendarFeed(String groupId, String token, String ifNoneMatch) {
+        FeedVersion version = resolveFeedVersion(groupId, token);
+
+        // Return 304 Not Modified if client has current version
+        if (version.etag().equals(ifNoneMatch)) {
+            logger.debug("Calendar feed for group {} not modified (ETag match)", groupId);
+            return notModified(version.etag());
+        }
+
+        RenderedFeed feed = renderedFeed(version);
+
+        // Return with caching headers (CloudFront-ready)
+        return ResponseEntity.ok()
+            .eTag(version.etag())
+            .cacheControl(feedCacheControl())
+            .varyBy(HttpHeaders.ACCEPT_ENCODING)
+            .contentType(MediaType.parseMediaType("text/calendar; charset=utf-8"))
+            .body(feed.getBody());
+    }
+
+    @Override
+    public ResponseEntity<byte[]> getGzippedCalendarFeed(String groupId, String token, String ifNoneMatch) {
+        FeedVersion version = resolveFeedVersion(groupId, token);
+        // The compressed bytes are a different representation, so they get their own validator
+        String gzipEtag = gzipEtag(version.etag());
+
+        if (gzipEtag.equals(ifNoneMatch)) {
+            logger.debug("Gzipped calendar feed for group {} not modified (ETag match)", groupId);
+            return notModified(gzipEtag);
+        }
+
+        RenderedFeed feed = renderedFeed(version);
+
+        return ResponseEntity.ok()
+            .eTag(gzipEtag)
+            .cacheControl(feedCacheControl())
+            .varyBy(HttpHeaders.ACCEPT_ENCODING)
+            .contentType(MediaType.parseMediaType("text/calendar; charset=utf-8"))
+            .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+            .body(feed.getGzippedBody());
+    }
+
+    /**
+     * Validate the token and compute the feed's current ETag.
+     */
+    private FeedVersion resolveFeedVersion(String groupId, String token) {
         logger.debug("Calendar feed requested for group {} with token {}", groupId, token.substring(0, 8) + "...");
 
-        // 1. Validate token and check membership (single query via CalendarTokenIndex)
+        // 1. Validate token and check membership (cached briefly, otherwise one CalendarTokenIndex query)
         validateTokenAndMembership(token, groupId);
 
         // 2. Get group metadata for ETag calculation
@@ -141,35 +195,42 @@ public class CalendarSubscriptionServiceImpl implements CalendarSubscriptionServ
             groupId,
             lastModified != null ? lastModified.toEpochMilli() : 0);
 
-        // 4. Return 304 Not Modified if client has current version
-        if (etag.equals(ifNoneMatch)) {
-            logger.debug("Calendar feed for group {} not modified (ETag match)", groupId);
-            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
-                .eTag(etag)
-                .cacheControl(CacheControl
-                    .maxAge(MAX_CACHE_MINUTES, TimeUnit.MINUTES)
-                    .cachePublic()
-                    .mustRevalidate())
-                .build();
-        }
-
-        // 5. Query relevant hangouts (past 30 days + future) using EntityTimeIndex GSI
-        List<HangoutPointer> hangouts = queryFutureHangouts(groupId);
+        return new FeedVersion(groupId, group, etag);
+    }
 
-        logger.debug("Generating ICS feed for group {} with {} hangouts", groupId, hangouts.size());
+    /**
+     * Rendered ICS for this group version; hangouts are only queried and rendered on a cache miss.
+     */
+    private RenderedFeed renderedFeed(FeedVersion version) {
+        String groupId = version.groupId();
+        return feedCache.getOrRender(groupId, version.etag(), version.group().getGroupName(), () -> {
+            // Query relevant hangouts (past 30 days + future) using EntityTimeIndex GSI
+            List<HangoutPointer> hangouts = queryFutureHangouts(groupId);
+            logger.debug("Generating ICS feed for group {} with {} hangouts", groupId, hangouts.size());
+            return iCalendarService.generateICS(version.group(), hangouts);
+        });
+    }
 
-        // 6. Generate ICS content
-        String icsContent = iCalendarService.generateICS(group, hangouts);
+    /**
+     * ETag of the gzip representation: the identity ETag with a {@code -gzip} suffix inside the quotes.
+     */
+    private static String gzipEtag(String etag) {
+        return etag.substring(0, etag.length() - 1) + GZIP_ETAG_SUFFIX + "\"";
+    }
 
-        // 7. Return with caching headers (CloudFront-ready)
-        return ResponseEntity.ok()
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
             .eTag(etag)
-            .cacheControl(CacheControl
-                .maxAge(MAX_CACHE_MINUTES, TimeUnit.MINUTES)
-                .cachePublic()                 // Allow CDN caching
-                .mustRevalidate())             // Check ETag after expiry
-            .contentType(MediaType.parseMediaType("text/calendar; charset=utf-8"))
-            .body(icsContent);
+            .cacheControl(feedCacheControl())
+            .varyBy(HttpHeaders.ACCEPT_ENCODING)
+            .build();
+    }
+
+    private static CacheControl feedCacheControl() {
+        return CacheControl
+            .maxAge(MAX_CACHE_MINUTES, TimeUnit.MINUTES)
+            .cachePublic()                 // Allow CDN caching
+            .mustRevalidate();             // Check ETag after expiry
     }
 
     /**
@@ -184,7 +245,7 @@ public class CalendarSubscriptionServiceImpl implements CalendarSubscriptionServ
      */
     private GroupMembership validateTokenAndMembership(String token, String groupId) {
         // Query CalendarTokenIndex GSI to find membership by token
-        GroupMembership membership = groupRepository.findMembershipByToken(token)
+        GroupMembership membership = feedCache.findMembershipByToken(token)
             .orElseThrow(() -> new UnauthorizedException("Invalid subscription token"));
 
         // Verify groupId matches (prevent token reuse across groups)
@@ -257,4 +318,7 @@ public class CalendarSubscriptionServiceImpl implements CalendarSubscriptionServ
             membership.getCreatedAt()
         );
     }
+
+    private record FeedVersion(String groupId, Group group, String etag) {
+    }
 }
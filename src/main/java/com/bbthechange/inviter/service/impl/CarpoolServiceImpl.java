@@ -10,6 +10,9 @@ import com.bbthechange.inviter.model.*;
 import com.bbthechange.inviter.repository.HangoutRepository;
 import com.bbthechange.inviter.repository.GroupRepository;
 import com.bbthechange.inviter.exception.*;
+import com.bbthechange.inviter.util.HangoutPointerPatch;
+import com.bbthechange.inviter.util.InviterKeyFactory;
+import com.bbthechange.inviter.util.RequestReadCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +21,7 @@ import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedExce
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -34,6 +38,7 @@ public class CarpoolServiceImpl implements CarpoolService {
     private final HangoutService hangoutService;
     private final UserService userService;
     private final PointerUpdateService pointerUpdateService;
+    private final PointerDenormalizer pointerDenormalizer;
     private final GroupTimestampService groupTimestampService;
     private final NotificationService notificationService;
 
@@ -41,6 +46,7 @@ public class CarpoolServiceImpl implements CarpoolService {
     public CarpoolServiceImpl(HangoutRepository hangoutRepository, GroupRepository groupRepository,
                              HangoutService hangoutService, UserService userService,
                              PointerUpdateService pointerUpdateService,
+                             PointerDenormalizer pointerDenormalizer,
                              GroupTimestampService groupTimestampService,
                              NotificationService notificationService) {
         this.hangoutRepository = hangoutRepository;
@@ -48,6 +54,7 @@ public class CarpoolServiceImpl implements CarpoolService {
         this.hangoutService = hangoutService;
         this.userService = userService;
         this.pointerUpdateService = pointerUpdateService;
+        this.pointerDenormalizer = pointerDenormalizer;
         this.groupTimestampService = groupTimestampService;
         this.notificationService = notificationService;
     }
@@ -115,6 +122,12 @@ public class CarpoolServiceImpl implements CarpoolService {
         List<Car> cars = hangoutData.getCars();
         List<CarRider> allRiders = hangoutData.getCarRiders();
         
+        // Resolve every driver's and rider's profile in one cached batch lookup
+        List<UUID> userIds = new ArrayList<>();
+        cars.forEach(car -> userIds.add(UUID.fromString(car.getDriverId())));
+        allRiders.forEach(rider -> userIds.add(UUID.fromString(rider.getRiderId())));
+        Map<UUID, UserSummaryDTO> users = userService.getUserSummaries(userIds);
+
         // Build CarWithRidersDTO by grouping riders by driver, enriching with profile images
         return cars.stream()
             .map(car -> {
@@ -125,12 +138,12 @@ public class CarpoolServiceImpl implements CarpoolService {
                 CarWithRidersDTO dto = new CarWithRidersDTO(car, carRiders);
 
                 // Enrich driver image
-                userService.getUserSummary(UUID.fromString(car.getDriverId()))
+                Optional.ofNullable(users.get(UUID.fromString(car.getDriverId())))
                     .ifPresent(u -> dto.setDriverImagePath(u.getMainImagePath()));
 
                 // Enrich rider images
                 dto.getRiders().forEach(riderDto ->
-                    userService.getUserSummary(UUID.fromString(riderDto.getRiderId()))
+                    Optional.ofNullable(users.get(UUID.fromString(riderDto.getRiderId())))
                         .ifPresent(u -> riderDto.setRiderImagePath(u.getMainImagePath())));
 
                 return dto;
@@ -170,13 +183,18 @@ public class CarpoolServiceImpl implements CarpoolService {
         
         CarDetailDTO dto = new CarDetailDTO(car, riders, userIsDriver, userHasReservation);
 
+        List<UUID> userIds = new ArrayList<>();
+        userIds.add(UUID.fromString(car.getDriverId()));
+        riders.forEach(rider -> userIds.add(UUID.fromString(rider.getRiderId())));
+        Map<UUID, UserSummaryDTO> users = userService.getUserSummaries(userIds);
+
         // Enrich driver image
-        userService.getUserSummary(UUID.fromString(car.getDriverId()))
+        Optional.ofNullable(users.get(UUID.fromString(car.getDriverId())))
             .ifPresent(u -> dto.setDriverImagePath(u.getMainImagePath()));
 
         // Enrich rider images
         dto.getRiders().forEach(riderDto ->
-            userService.getUserSummary(UUID.fromString(riderDto.getRiderId()))
+            Optional.ofNullable(users.get(UUID.fromString(riderDto.getRiderId())))
                 .ifPresent(u -> riderDto.setRiderImagePath(u.getMainImagePath())));
 
         return dto;
@@ -189,7 +207,6 @@ public class CarpoolServiceImpl implements CarpoolService {
         // Extract notes and plusOneCount from request (null-safe)
         String notes = request != null ? request.getNotes() : null;
         int effectivePlusOneCount = (request != null && request.getPlusOneCount() != null) ? request.getPlusOneCount() : 0;
-        int seatsNeeded = 1 + effectivePlusOneCount;
 
         // Determine effective rider: if riderId is specified, reserve on behalf of that user
         String effectiveRiderId = (request != null && request.getRiderId() != null) ? request.getRiderId() : userId;
@@ -199,13 +216,8 @@ public class CarpoolServiceImpl implements CarpoolService {
             throw new UnauthorizedException("Only the driver can reserve a seat on behalf of another rider");
         }
 
-        // Get hangout and verify caller can view it
-        HangoutDetailData hangoutData = hangoutRepository.getHangoutDetailData(eventId);
-        if (hangoutData.getHangout() == null) {
-            throw new EventNotFoundException("Event not found: " + eventId);
-        }
-
-        Hangout hangout = hangoutData.getHangout();
+        // Authorize against the hangout metadata only; the seat check happens in the write
+        Hangout hangout = findHangoutForCarpool(eventId);
         if (!hangoutService.canUserViewHangout(userId, hangout)) {
             throw new UnauthorizedException("Cannot reserve seats for this event");
         }
@@ -215,26 +227,6 @@ public class CarpoolServiceImpl implements CarpoolService {
             throw new UnauthorizedException("Rider does not have access to this event");
         }
 
-        // Find the car
-        Car car = hangoutData.getCars().stream()
-            .filter(c -> c.getDriverId().equals(driverId))
-            .findFirst()
-            .orElseThrow(() -> new CarNotFoundException("Car offer not found for driver: " + driverId));
-
-        if (car.getAvailableSeats() < seatsNeeded) {
-            throw new NoAvailableSeatsException(
-                "Not enough available seats: need " + seatsNeeded + " but only " + car.getAvailableSeats() + " available");
-        }
-
-        // Check if rider already has a reservation
-        List<CarRider> existingRiders = hangoutData.getCarRiders().stream()
-            .filter(rider -> rider.getDriverId().equals(driverId) && rider.getRiderId().equals(effectiveRiderId))
-            .toList();
-
-        if (!existingRiders.isEmpty()) {
-            throw new ValidationException("User already has a reservation with this driver");
-        }
-
         // Get rider display name for denormalization
         User riderUser = userService.getUserById(UUID.fromString(effectiveRiderId))
             .orElseThrow(() -> new UserNotFoundException("User not found: " + effectiveRiderId));
@@ -244,21 +236,10 @@ public class CarpoolServiceImpl implements CarpoolService {
         CarRider carRider = new CarRider(eventId, driverId, effectiveRiderId, riderName);
         carRider.setNotes(notes);
         carRider.setPlusOneCount(effectivePlusOneCount);
-        CarRider savedRider = hangoutRepository.saveCarRider(carRider);
-
-        // Update car available seats (decrease by seatsNeeded)
-        car.setAvailableSeats(car.getAvailableSeats() - seatsNeeded);
-        hangoutRepository.saveCar(car);
 
-        // Auto-delete any existing ride request for the rider
-        try {
-            hangoutRepository.deleteNeedsRide(eventId, effectiveRiderId);
-            logger.info("Automatically deleted 'needs ride' request for user {} after seat reservation.", effectiveRiderId);
-        } catch (Exception e) {
-            // Log this, but do not fail the transaction. The user has a seat,
-            // which is the most important state. A dangling request is a minor issue.
-            logger.warn("Failed to auto-delete 'needs ride' request for user {}.", effectiveRiderId, e);
-        }
+        // Take the seats, create the reservation and clear any ride request in one transaction.
+        // Throws if the car is gone, too few seats remain, or the rider already has a seat.
+        CarRider savedRider = hangoutRepository.reserveSeatAtomically(carRider);
 
         // Update pointer records with new rider data
         updatePointersWithCarpoolData(eventId);
@@ -266,8 +247,12 @@ public class CarpoolServiceImpl implements CarpoolService {
         // Notify rider if a driver added them on their behalf
         if (!effectiveRiderId.equals(userId)) {
             try {
+                // The caller is the driver here
+                String driverName = userService.getUserSummary(UUID.fromString(driverId))
+                        .map(UserSummaryDTO::getDisplayName)
+                        .orElse(null);
                 notificationService.notifyCarpoolRiderAdded(eventId, hangout.getTitle(),
-                        hangout.getAssociatedGroups(), car.getDriverName(), effectiveRiderId);
+                        hangout.getAssociatedGroups(), driverName, effectiveRiderId);
             } catch (Exception e) {
                 logger.warn("Failed to send carpool rider added notification: {}", e.getMessage());
             }
@@ -281,40 +266,18 @@ public class CarpoolServiceImpl implements CarpoolService {
     public void releaseSeat(String eventId, String driverId, String userId) {
         logger.info("User {} releasing seat with driver {} for event {}", userId, driverId, eventId);
         
-        // Get hangout and verify user can view it
-        HangoutDetailData hangoutData = hangoutRepository.getHangoutDetailData(eventId);
-        if (hangoutData.getHangout() == null) {
-            throw new EventNotFoundException("Event not found: " + eventId);
-        }
-        
-        Hangout hangout = hangoutData.getHangout();
+        // Verify user can view the hangout
+        Hangout hangout = findHangoutForCarpool(eventId);
         if (!hangoutService.canUserViewHangout(userId, hangout)) {
             throw new UnauthorizedException("Cannot modify reservations for this event");
         }
-        
-        // Find the car
-        Car car = hangoutData.getCars().stream()
-            .filter(c -> c.getDriverId().equals(driverId))
-            .findFirst()
-            .orElseThrow(() -> new CarNotFoundException("Car offer not found for driver: " + driverId));
-        
-        // Check if user has a reservation
-        List<CarRider> userRiders = hangoutData.getCarRiders().stream()
-            .filter(rider -> rider.getDriverId().equals(driverId) && rider.getRiderId().equals(userId))
-            .toList();
-        
-        if (userRiders.isEmpty()) {
-            throw new ValidationException("User does not have a reservation with this driver");
-        }
-
-        CarRider riderToRelease = userRiders.get(0);
 
-        // Remove CarRider record
-        hangoutRepository.deleteCarRider(eventId, driverId, userId);
+        // The reservation says how many seats to give back (rider + plus ones)
+        CarRider riderToRelease = hangoutRepository.findCarRider(eventId, driverId, userId)
+            .orElseThrow(() -> new ValidationException("User does not have a reservation with this driver"));
 
-        // Update car available seats (restore rider + plus ones)
-        car.setAvailableSeats(car.getAvailableSeats() + riderToRelease.getTotalSeatsNeeded());
-        hangoutRepository.saveCar(car);
+        // Remove the reservation and restore the car's seats in one transaction
+        hangoutRepository.releaseSeatAtomically(riderToRelease);
 
         // Update pointer records with updated rider data
         updatePointersWithCarpoolData(eventId);
@@ -383,35 +346,20 @@ public class CarpoolServiceImpl implements CarpoolService {
             throw new UnauthorizedException("Only the driver can cancel their car offer");
         }
         
-        // Get hangout and verify user can view it
-        HangoutDetailData hangoutData = hangoutRepository.getHangoutDetailData(eventId);
-        if (hangoutData.getHangout() == null) {
-            throw new EventNotFoundException("Event not found: " + eventId);
-        }
-        
-        Hangout hangout = hangoutData.getHangout();
+        // Verify user can view the hangout
+        Hangout hangout = findHangoutForCarpool(eventId);
         if (!hangoutService.canUserViewHangout(userId, hangout)) {
             throw new UnauthorizedException("Cannot cancel car offers for this event");
         }
-        
-        // Remove all rider records for this car
-        List<CarRider> ridersToRemove = hangoutData.getCarRiders().stream()
-            .filter(rider -> rider.getDriverId().equals(driverId))
-            .toList();
-        
-        for (CarRider rider : ridersToRemove) {
-            hangoutRepository.deleteCarRider(eventId, driverId, rider.getRiderId());
-            logger.debug("Removed rider {} from canceled car offer by driver {}", rider.getRiderId(), driverId);
-        }
-        
-        // Remove car offer
-        hangoutRepository.deleteCar(eventId, driverId);
+
+        // Remove the car offer and all of its riders in one transaction
+        int ridersRemoved = hangoutRepository.cancelCarOfferAtomically(eventId, driverId);
 
         // Update pointer records with updated car data (car now removed)
         updatePointersWithCarpoolData(eventId);
 
         logger.info("Successfully canceled car offer for driver {} in event {} (removed {} riders)",
-                   driverId, eventId, ridersToRemove.size());
+                   driverId, eventId, ridersRemoved);
     }
 
     @Override
@@ -429,11 +377,13 @@ public class CarpoolServiceImpl implements CarpoolService {
             throw new UnauthorizedException("Cannot view ride requests for this event");
         }
         List<NeedsRide> needsRideList = hangoutData.getNeedsRide();
+        Map<UUID, UserSummaryDTO> users = userService.getUserSummaries(needsRideList.stream()
+                .map(nr -> UUID.fromString(nr.getUserId()))
+                .toList());
 
         return needsRideList.stream()
                 .map(nr -> {
-                    UserSummaryDTO user = userService.getUserSummary(UUID.fromString(nr.getUserId()))
-                        .orElse(null);
+                    UserSummaryDTO user = users.get(UUID.fromString(nr.getUserId()));
                     return new NeedsRideDTO(nr,
                         user != null ? user.getDisplayName() : null,
                         user != null ? user.getMainImagePath() : null);
@@ -504,12 +454,26 @@ public class CarpoolServiceImpl implements CarpoolService {
     // ============================================================================
 
     /**
-     * Update all pointer records with the current carpool data from the canonical hangout.
+     * Hangout metadata for authorization, read at most once per request. Seat changes
+     * only need the hangout item, not the whole partition.
+     */
+    private Hangout findHangoutForCarpool(String eventId) {
+        Optional<Hangout> hangout = RequestReadCache.getOrLoad("findHangoutById",
+            InviterKeyFactory.getEventPk(eventId), () -> hangoutRepository.findHangoutById(eventId));
+        return hangout.orElseThrow(() -> new EventNotFoundException("Event not found: " + eventId));
+    }
+
+    /**
+     * Queue a rebuild of all pointer records' carpool data from the canonical hangout.
      * This method should be called after any car/rider/needsRide create/update/delete operation.
      *
-     * Uses optimistic locking with retry to handle concurrent pointer updates.
+     * The rebuild is debounced per hangout, so a burst of seat changes patches the pointers once.
      */
     private void updatePointersWithCarpoolData(String hangoutId) {
+        pointerDenormalizer.schedule(hangoutId, "carpool", () -> syncPointersWithCarpoolData(hangoutId));
+    }
+
+    private void syncPointersWithCarpoolData(String hangoutId) {
         // Get hangout to find associated groups
         Optional<Hangout> hangoutOpt = hangoutRepository.findHangoutById(hangoutId);
         if (hangoutOpt.isEmpty()) {
@@ -531,14 +495,9 @@ public class CarpoolServiceImpl implements CarpoolService {
         List<CarRider> carRiders = hangoutData.getCarRiders();
         List<NeedsRide> needsRide = hangoutData.getNeedsRide();
 
-        // Update each group's pointer with optimistic locking retry
-        for (String groupId : associatedGroups) {
-            pointerUpdateService.updatePointerWithRetry(groupId, hangoutId, pointer -> {
-                pointer.setCars(new ArrayList<>(cars));
-                pointer.setCarRiders(new ArrayList<>(carRiders));
-                pointer.setNeedsRide(new ArrayList<>(needsRide));
-            }, "carpool data");
-        }
+        // Overwrite just the carpool fields on every group's pointer
+        pointerUpdateService.patchPointers(associatedGroups, hangoutId,
+            HangoutPointerPatch.carpoolData(cars, carRiders, needsRide), "carpool data");
 
         // Update group timestamps for ETag invalidation
         groupTimestampService.updateGroupTimestamps(associatedGroups);
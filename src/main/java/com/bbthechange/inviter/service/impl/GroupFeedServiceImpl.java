@@ -10,18 +10,30 @@ import com.bbthechange.inviter.service.GroupService;
 import com.bbthechange.inviter.util.GroupFeedPaginationToken;
 import com.bbthechange.inviter.util.InviterKeyFactory;
 import com.bbthechange.inviter.util.PaginatedResult;
+import com.bbthechange.inviter.util.PollTally;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of GroupFeedService using the backend loop aggregator pattern.
  * Loops through upcoming events in a group to find actionable items (polls, undecided attributes).
+ * The per-event poll and attribute queries for each page of events are issued concurrently on the
+ * shared repository fan-out executor, then consumed in page order so limit semantics are unchanged.
  */
 @Service
 public class GroupFeedServiceImpl implements GroupFeedService {
@@ -31,11 +43,20 @@ public class GroupFeedServiceImpl implements GroupFeedService {
     
     private final HangoutRepository hangoutRepository;
     private final GroupService groupService;
+    private final Executor fanOutExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${repository.fanout.call-timeout-ms:5000}")
+    private long fanOutCallTimeoutMs;
     
     @Autowired
-    public GroupFeedServiceImpl(HangoutRepository hangoutRepository, GroupService groupService) {
+    public GroupFeedServiceImpl(HangoutRepository hangoutRepository, GroupService groupService,
+                                @Qualifier("repositoryFanOutExecutor") Executor fanOutExecutor,
+                                MeterRegistry meterRegistry) {
         this.hangoutRepository = hangoutRepository;
         this.groupService = groupService;
+        this.fanOutExecutor = fanOutExecutor;
+        this.meterRegistry = meterRegistry;
     }
     
     @Override
@@ -50,6 +71,7 @@ public class GroupFeedServiceImpl implements GroupFeedService {
         List<FeedItemDTO> feedItems = new ArrayList<>();
         String nextEventPageToken = startToken;
         boolean hasMoreEvents = true;
+        int eventsFannedOut = 0;
         
         // Build participant key for GSI query (following existing pattern from HangoutServiceImpl)
         String participantKey = "GROUP#" + groupId;
@@ -66,15 +88,15 @@ public class GroupFeedServiceImpl implements GroupFeedService {
             logger.debug("Retrieved {} events in this page (hasMore: {})", 
                 eventPage.size(), eventPage.hasMore());
             
-            // Process only the events in this small page
-            for (HangoutPointer pointer : eventPage.getResults()) {
-                String eventId = pointer.getHangoutId();
-                String eventTitle = pointer.getTitle();
-                
-                logger.debug("Processing event {} ({})", eventId, eventTitle);
-                
-                // Get actionable items for this event
-                List<FeedItemDTO> eventFeedItems = getActionableItemsForEvent(eventId, eventTitle);
+            // Load actionable items for the whole page concurrently; results keep page order
+            List<HangoutPointer> events = eventPage.getResults();
+            List<List<FeedItemDTO>> itemsByEvent = loadActionableItems(events);
+            eventsFannedOut += events.size();
+            
+            // Consume events in order so the limit cuts off at the same event as before
+            for (int i = 0; i < events.size(); i++) {
+                String eventId = events.get(i).getHangoutId();
+                List<FeedItemDTO> eventFeedItems = itemsByEvent.get(i);
                 feedItems.addAll(eventFeedItems);
                 
                 logger.debug("Found {} actionable items for event {} (total feed items: {})", 
@@ -107,6 +129,11 @@ public class GroupFeedServiceImpl implements GroupFeedService {
             logger.debug("Generated next page token for continuation");
         }
         
+        DistributionSummary.builder("group_feed_fanout_events")
+            .description("Hangouts whose actionable items were loaded per feed-items request")
+            .register(meterRegistry)
+            .record(eventsFannedOut);
+        
         logger.info("Returning {} feed items for group {} (requested limit: {}, hasMore: {})", 
             feedItems.size(), groupId, limit, nextPageToken != null);
         
@@ -114,110 +141,155 @@ public class GroupFeedServiceImpl implements GroupFeedService {
     }
     
     /**
-     * Get actionable items (polls and undecided attributes) for a specific event.
+     * Load actionable items for a page of events, issuing each event's poll and attribute
+     * queries concurrently. The returned list is index-aligned with {@code events}.
      */
-    private List<FeedItemDTO> getActionableItemsForEvent(String eventId, String eventTitle) {
-        List<FeedItemDTO> items = new ArrayList<>();
+    private List<List<FeedItemDTO>> loadActionableItems(List<HangoutPointer> events) {
+        if (events.isEmpty()) {
+            return List.of();
+        }
         
-        FeedItemEventInfo eventInfo = new FeedItemEventInfo(eventId, eventTitle);
-        
-        try {
-            // Get active polls for the event with full details (options and votes)
-            List<BaseItem> pollData = hangoutRepository.getAllPollData(eventId);
-            
-            // Group poll data by poll ID
-            Map<String, List<BaseItem>> pollDataByPollId = pollData.stream()
-                .collect(Collectors.groupingBy(item -> {
-                    if (item instanceof Poll) {
-                        return ((Poll) item).getPollId();
-                    } else if (item instanceof PollOption) {
-                        return ((PollOption) item).getPollId();
-                    } else if (item instanceof Vote) {
-                        return ((Vote) item).getPollId();
-                    }
-                    return "unknown";
-                }));
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<CompletableFuture<List<FeedItemDTO>>> futures = new ArrayList<>(events.size());
+        
+        for (HangoutPointer pointer : events) {
+            String eventId = pointer.getHangoutId();
+            FeedItemEventInfo eventInfo = new FeedItemEventInfo(eventId, pointer.getTitle());
+            logger.debug("Processing event {} ({})", eventId, pointer.getTitle());
             
-            // Process each poll with its options and votes
-            for (Map.Entry<String, List<BaseItem>> entry : pollDataByPollId.entrySet()) {
-                String pollId = entry.getKey();
-                if ("unknown".equals(pollId)) continue;
-                
-                List<BaseItem> pollItems = entry.getValue();
-                
-                // Find the poll
-                Poll poll = pollItems.stream()
-                    .filter(item -> item instanceof Poll)
-                    .map(item -> (Poll) item)
-                    .filter(Poll::isActive)
-                    .findFirst().orElse(null);
-                
-                if (poll == null) continue; // Skip inactive polls
-                
-                // Get options for this poll
-                List<PollOption> options = pollItems.stream()
-                    .filter(item -> item instanceof PollOption)
-                    .map(item -> (PollOption) item)
-                    .collect(Collectors.toList());
-                
-                // Get votes for this poll
-                List<Vote> votes = pollItems.stream()
-                    .filter(item -> item instanceof Vote)
-                    .map(item -> (Vote) item)
-                    .collect(Collectors.toList());
-                
-                // Build poll data with options and vote counts
-                Map<String, Object> pollDataMap = new HashMap<>();
-                pollDataMap.put("pollId", poll.getPollId());
-                pollDataMap.put("question", poll.getTitle());
-                pollDataMap.put("description", poll.getDescription());
-                pollDataMap.put("multipleChoice", poll.isMultipleChoice());
-                
-                // Add options with voter information
-                List<Map<String, Object>> optionsList = new ArrayList<>();
-                
-                for (PollOption option : options) {
-                    Map<String, Object> optionMap = new HashMap<>();
-                    optionMap.put("optionId", option.getOptionId());
-                    optionMap.put("text", option.getText());
-                    
-                    // Get user IDs who voted for this option
-                    List<String> voterUserIds = votes.stream()
-                        .filter(vote -> vote.getOptionId().equals(option.getOptionId()))
-                        .map(Vote::getUserId)
-                        .collect(Collectors.toList());
-                    
-                    optionMap.put("voters", voterUserIds);
-                    optionsList.add(optionMap);
+            CompletableFuture<List<BaseItem>> pollFuture = withFanOutTimeout(CompletableFuture.supplyAsync(
+                () -> hangoutRepository.getAllPollData(eventId), fanOutExecutor));
+            CompletableFuture<List<HangoutAttribute>> attributeFuture = withFanOutTimeout(CompletableFuture.supplyAsync(
+                () -> hangoutRepository.findAttributesByHangoutId(eventId), fanOutExecutor));
+            
+            futures.add(pollFuture
+                .thenCombine(attributeFuture, (pollData, attributes) ->
+                    buildActionableItems(eventInfo, pollData, attributes))
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    logger.warn("Failed to get actionable items for event {}: {}", eventId, cause.getMessage());
+                    // Continue processing other events even if one fails
+                    return List.of();
+                }));
+        }
+        
+        List<List<FeedItemDTO>> results = futures.stream()
+            .map(CompletableFuture::join)
+            .collect(Collectors.toList());
+        
+        sample.stop(Timer.builder("group_feed_fanout_duration")
+            .description("Wall-clock time to load actionable items for one page of events")
+            .register(meterRegistry));
+        
+        return results;
+    }
+    
+    /**
+     * Fail a fanned-out call that hasn't completed within the configured timeout; the event is
+     * then skipped like any other failed lookup.
+     */
+    private <T> CompletableFuture<T> withFanOutTimeout(CompletableFuture<T> future) {
+        return fanOutCallTimeoutMs > 0 ? future.orTimeout(fanOutCallTimeoutMs, TimeUnit.MILLISECONDS) : future;
+    }
+
+    /**
+     * Build actionable items (polls and undecided attributes) for a specific event.
+     */
+    private List<FeedItemDTO> buildActionableItems(FeedItemEventInfo eventInfo, List<BaseItem> pollData,
+                                                   List<HangoutAttribute> attributes) {
+        List<FeedItemDTO> items = new ArrayList<>();
+        
+        // Group poll data by poll ID
+        Map<String, List<BaseItem>> pollDataByPollId = pollData.stream()
+            .collect(Collectors.groupingBy(item -> {
+                if (item instanceof Poll) {
+                    return ((Poll) item).getPollId();
+                } else if (item instanceof PollOption) {
+                    return ((PollOption) item).getPollId();
+                } else if (item instanceof Vote) {
+                    return ((Vote) item).getPollId();
                 }
-                
-                pollDataMap.put("options", optionsList);
-                
-                FeedItemDTO pollItem = new FeedItemDTO(POLL, eventInfo, pollDataMap);
-                items.add(pollItem);
+                return "unknown";
+            }));
+
+        // Voters per option for every poll, in one pass over the votes
+        List<Vote> allVotes = new ArrayList<>();
+        for (BaseItem item : pollData) {
+            if (item instanceof Vote vote) {
+                allVotes.add(vote);
             }
+        }
+        PollTally tally = PollTally.of(allVotes, null, true);
+        
+        // Process each poll with its options and votes
+        for (Map.Entry<String, List<BaseItem>> entry : pollDataByPollId.entrySet()) {
+            String pollId = entry.getKey();
+            if ("unknown".equals(pollId)) continue;
             
-            // Get undecided attributes for the event
-            List<HangoutAttribute> attributes = hangoutRepository.findAttributesByHangoutId(eventId);
-            List<HangoutAttribute> undecidedAttributes = attributes.stream()
-                .filter(attr -> attr.getStringValue() == null || attr.getStringValue().trim().isEmpty())
+            List<BaseItem> pollItems = entry.getValue();
+            
+            // Find the poll
+            Poll poll = pollItems.stream()
+                .filter(item -> item instanceof Poll)
+                .map(item -> (Poll) item)
+                .filter(Poll::isActive)
+                .findFirst().orElse(null);
+            
+            if (poll == null) continue; // Skip inactive polls
+            
+            // Get options for this poll
+            List<PollOption> options = pollItems.stream()
+                .filter(item -> item instanceof PollOption)
+                .map(item -> (PollOption) item)
                 .collect(Collectors.toList());
             
-            for (HangoutAttribute attribute : undecidedAttributes) {
-                Map<String, Object> attributeDataMap = new HashMap<>();
-                attributeDataMap.put("attributeId", attribute.getAttributeId());
-                attributeDataMap.put("name", attribute.getAttributeName());
-                attributeDataMap.put("isDecided", false);
+            // Build poll data with options and vote counts
+            Map<String, Object> pollDataMap = new HashMap<>();
+            pollDataMap.put("pollId", poll.getPollId());
+            pollDataMap.put("question", poll.getTitle());
+            pollDataMap.put("description", poll.getDescription());
+            pollDataMap.put("multipleChoice", poll.isMultipleChoice());
+            
+            // Add options with voter information
+            List<Map<String, Object>> optionsList = new ArrayList<>();
+            
+            for (PollOption option : options) {
+                Map<String, Object> optionMap = new HashMap<>();
+                optionMap.put("optionId", option.getOptionId());
+                optionMap.put("text", option.getText());
+                
+                // Get user IDs who voted for this option
+                List<Vote> optionVotes = tally.votes(pollId, option.getOptionId());
+                List<String> voterUserIds = new ArrayList<>(optionVotes.size());
+                for (Vote vote : optionVotes) {
+                    voterUserIds.add(vote.getUserId());
+                }
                 
-                FeedItemDTO attributeItem = new FeedItemDTO(ATTRIBUTE, eventInfo, attributeDataMap);
-                items.add(attributeItem);
+                optionMap.put("voters", voterUserIds);
+                optionsList.add(optionMap);
             }
             
-        } catch (Exception e) {
-            logger.warn("Failed to get actionable items for event {}: {}", eventId, e.getMessage());
-            // Continue processing other events even if one fails
+            pollDataMap.put("options", optionsList);
+            
+            FeedItemDTO pollItem = new FeedItemDTO(POLL, eventInfo, pollDataMap);
+            items.add(pollItem);
+        }
+        
+        // Get undecided attributes for the event
+        List<HangoutAttribute> undecidedAttributes = attributes.stream()
+            .filter(attr -> attr.getStringValue() == null || attr.getStringValue().trim().isEmpty())
+            .collect(Collectors.toList());
+        
+        for (HangoutAttribute attribute : undecidedAttributes) {
+            Map<String, Object> attributeDataMap = new HashMap<>();
+            attributeDataMap.put("attributeId", attribute.getAttributeId());
+            attributeDataMap.put("name", attribute.getAttributeName());
+            attributeDataMap.put("isDecided", false);
+            
+            FeedItemDTO attributeItem = new FeedItemDTO(ATTRIBUTE, eventInfo, attributeDataMap);
+            items.add(attributeItem);
         }
         
         return items;
     }
-}
\ No newline at end of file
+}
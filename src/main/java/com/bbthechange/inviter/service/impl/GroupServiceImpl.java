@@ -12,22 +12,31 @@ import com.bbthechange.inviter.model.*;
 import com.bbthechange.inviter.dto.*;
 import com.bbthechange.inviter.exception.*;
 import com.bbthechange.inviter.service.ForwardFillSuggestionService;
+import com.bbthechange.inviter.service.GroupFeedSnapshotCache;
+import com.bbthechange.inviter.service.GroupMembershipCache;
+import com.bbthechange.inviter.service.GroupTimestampService;
 import com.bbthechange.inviter.service.InviteService;
 import com.bbthechange.inviter.service.NotificationService;
 import com.bbthechange.inviter.service.UserService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Lazy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Instant;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.ArrayList;
 import java.util.Set;
 import java.util.HashSet;
@@ -38,6 +47,9 @@ import com.bbthechange.inviter.util.GroupFeedPaginationToken;
 import com.bbthechange.inviter.util.RepositoryTokenData;
 import com.bbthechange.inviter.util.InviteCodeGenerator;
 import com.bbthechange.inviter.util.HangoutDataTransformer;
+import com.bbthechange.inviter.util.InviterKeyFactory;
+import com.bbthechange.inviter.util.InviterTableSchemas;
+import com.bbthechange.inviter.util.RequestReadCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Value;
 
@@ -78,10 +90,17 @@ public class GroupServiceImpl implements GroupService {
     private final ForwardFillSuggestionService forwardFillSuggestionService;
     private final com.bbthechange.inviter.service.AttributeSuggestionService attributeSuggestionService;
     private final com.bbthechange.inviter.service.NudgeService nudgeService;
+    private final GroupMembershipCache groupMembershipCache;
+    private final GroupTimestampService groupTimestampService;
+    private final GroupFeedSnapshotCache groupFeedSnapshotCache;
+    private final Executor fanOutExecutor;
 
     @Value("${inviter.attendance.backward-compat-interested:true}")
     private boolean attendanceBackwardCompatEnabled;
 
+    @Value("${repository.fanout.call-timeout-ms:5000}")
+    private long fanOutCallTimeoutMs;
+
     @Autowired
     public GroupServiceImpl(GroupRepository groupRepository, HangoutRepository hangoutRepository,
                            UserRepository userRepository, UserService userService, InviteService inviteService,
@@ -91,7 +110,11 @@ public class GroupServiceImpl implements GroupService {
                            FeedSortingService feedSortingService,
                            ForwardFillSuggestionService forwardFillSuggestionService,
                            com.bbthechange.inviter.service.AttributeSuggestionService attributeSuggestionService,
-                           com.bbthechange.inviter.service.NudgeService nudgeService) {
+                           com.bbthechange.inviter.service.NudgeService nudgeService,
+                           GroupMembershipCache groupMembershipCache,
+                           GroupTimestampService groupTimestampService,
+                           GroupFeedSnapshotCache groupFeedSnapshotCache,
+                           @Qualifier("repositoryFanOutExecutor") Executor fanOutExecutor) {
         this.groupRepository = groupRepository;
         this.hangoutRepository = hangoutRepository;
         this.userRepository = userRepository;
@@ -106,6 +129,10 @@ public class GroupServiceImpl implements GroupService {
         this.forwardFillSuggestionService = forwardFillSuggestionService;
         this.attributeSuggestionService = attributeSuggestionService;
         this.nudgeService = nudgeService;
+        this.groupMembershipCache = groupMembershipCache;
+        this.groupTimestampService = groupTimestampService;
+        this.groupFeedSnapshotCache = groupFeedSnapshotCache;
+        this.fanOutExecutor = fanOutExecutor;
     }
     
     @Override
@@ -256,6 +283,7 @@ public class GroupServiceImpl implements GroupService {
         
         // Repository handles complete deletion: group metadata, all members, and hangout pointers
         groupRepository.delete(groupId);
+        groupMembershipCache.invalidateGroup(groupId);
         logger.info("Deleted group {} by user {}", groupId, requestingUserId);
     }
     
@@ -305,6 +333,7 @@ public class GroupServiceImpl implements GroupService {
         membership.setUserMainImagePath(userToAdd.getMainImagePath());
 
         groupRepository.addMember(membership);
+        groupMembershipCache.invalidate(groupId, userId);
 
         // Send notification to the added user
         notificationService.notifyGroupMemberAdded(groupId, group.getGroupName(), finalUserId, addedBy);
@@ -325,6 +354,7 @@ public class GroupServiceImpl implements GroupService {
         }
 
         groupRepository.removeMember(groupId, userId);
+        groupMembershipCache.invalidate(groupId, userId);
         logger.info("Removed member {} from group {} by {}", userId, groupId, removedBy);
     }
 
@@ -340,10 +370,12 @@ public class GroupServiceImpl implements GroupService {
         if (allMembers.size() <= 1) {
             // Last member leaving - delete the entire group to clean up orphaned data
             groupRepository.delete(groupId);
+            groupMembershipCache.invalidateGroup(groupId);
             logger.info("User {} left group {} as the last member - group deleted", userId, groupId);
         } else {
             // Normal leave - just remove the user
             groupRepository.removeMember(groupId, userId);
+            groupMembershipCache.invalidate(groupId, userId);
             logger.info("User {} left group {}", userId, groupId);
         }
     }
@@ -358,12 +390,15 @@ public class GroupServiceImpl implements GroupService {
         // Get all memberships for this group
         List<GroupMembership> memberships = groupRepository.findMembersByGroupId(groupId);
         
+        // Current display names and profile images for every member in one cached batch lookup
+        Map<UUID, UserSummaryDTO> users = userService.getUserSummaries(memberships.stream()
+            .map(membership -> UUID.fromString(membership.getUserId()))
+            .toList());
+
         // Convert to DTOs (need to get current user info)
         return memberships.stream()
             .map(membership -> {
-                // Get user details for current display name and profile image
-                UserSummaryDTO user = userService.getUserSummary(UUID.fromString(membership.getUserId()))
-                    .orElse(null);
+                UserSummaryDTO user = users.get(UUID.fromString(membership.getUserId()));
                 String userName = user != null ? user.getDisplayName() : "Unknown User";
                 String mainImagePath = user != null ? user.getMainImagePath() : null;
 
@@ -461,29 +496,57 @@ public class GroupServiceImpl implements GroupService {
     private GroupFeedDTO getCurrentAndFutureEvents(String groupId, long nowTimestamp,
                                                   Integer limit, String startingAfter, String requestingUserId, ClientInfo clientInfo) {
         try {
-            // Parallel queries for maximum efficiency
-            CompletableFuture<PaginatedResult<BaseItem>> futureEventsFuture = 
-                CompletableFuture.supplyAsync(() -> 
-                    hangoutRepository.getFutureEventsPage(groupId, nowTimestamp, limit, startingAfter));
-                    
-            CompletableFuture<PaginatedResult<BaseItem>> inProgressEventsFuture =
-                CompletableFuture.supplyAsync(() ->
-                    hangoutRepository.getInProgressEventsPage(groupId, nowTimestamp, limit, startingAfter));
-
-            CompletableFuture<PaginatedResult<BaseItem>> floatingEventsFuture =
-                CompletableFuture.supplyAsync(() -> {
-                    try {
-                        return hangoutRepository.getFloatingHangoutsPage(groupId, null);
-                    } catch (RepositoryException e) {
-                        logger.warn("Failed to query floating hangouts for group {}, degrading gracefully", groupId, e);
-                        return new PaginatedResult<>(List.of(), null);
-                    }
-                });
-
-            // Wait for all queries to complete
-            PaginatedResult<BaseItem> futureEvents = futureEventsFuture.get();
-            PaginatedResult<BaseItem> inProgressEvents = inProgressEventsFuture.get();
-            PaginatedResult<BaseItem> floatingEvents = floatingEventsFuture.get();
+            // The first page is shared by every member, so reuse the last query results for
+            // this group version when we have them
+            Instant feedVersion = startingAfter == null ? findFeedVersion(groupId) : null;
+            Optional<GroupFeedSnapshotCache.GroupFeedSnapshot> snapshot = feedVersion == null
+                    ? Optional.empty()
+                    : groupFeedSnapshotCache.get(groupId, limit, feedVersion);
+
+            PaginatedResult<BaseItem> futureEvents;
+            PaginatedResult<BaseItem> inProgressEvents;
+            PaginatedResult<BaseItem> floatingEvents;
+            if (snapshot.isPresent()) {
+                futureEvents = snapshot.get().futureEvents();
+                inProgressEvents = snapshot.get().inProgressEvents();
+                floatingEvents = snapshot.get().floatingEvents();
+            } else {
+                // Parallel queries on the shared repository fan-out pool, each bounded by the call timeout
+                CompletableFuture<PaginatedResult<BaseItem>> futureEventsFuture = withFanOutTimeout(
+                    CompletableFuture.supplyAsync(() ->
+                        hangoutRepository.getFutureEventsPage(groupId, nowTimestamp, limit, startingAfter), fanOutExecutor));
+
+                CompletableFuture<PaginatedResult<BaseItem>> inProgressEventsFuture = withFanOutTimeout(
+                    CompletableFuture.supplyAsync(() ->
+                        hangoutRepository.getInProgressEventsPage(groupId, nowTimestamp, limit, startingAfter), fanOutExecutor));
+
+                CompletableFuture<PaginatedResult<BaseItem>> floatingEventsFuture = withFanOutTimeout(
+                    CompletableFuture.supplyAsync(() -> {
+                        try {
+                            return hangoutRepository.getFloatingHangoutsPage(groupId, null);
+                        } catch (RepositoryException e) {
+                            logger.warn("Failed to query floating hangouts for group {}, degrading gracefully", groupId, e);
+                            return new PaginatedResult<>(List.of(), null);
+                        }
+                    }, fanOutExecutor))
+                    .exceptionally(e -> {
+                        if (e instanceof TimeoutException || e.getCause() instanceof TimeoutException) {
+                            logger.warn("Floating hangouts query for group {} timed out, degrading gracefully", groupId);
+                            return new PaginatedResult<>(List.of(), null);
+                        }
+                        throw e instanceof CompletionException ce ? ce : new CompletionException(e);
+                    });
+
+                // Wait for all queries to complete
+                futureEvents = futureEventsFuture.get();
+                inProgressEvents = inProgressEventsFuture.get();
+                floatingEvents = floatingEventsFuture.get();
+
+                if (feedVersion != null) {
+                    groupFeedSnapshotCache.put(groupId, limit, GroupFeedSnapshotCache.GroupFeedSnapshot.of(
+                            feedVersion, futureEvents, inProgressEvents, floatingEvents));
+                }
+            }
 
             // Merge results
             List<BaseItem> allItems = new ArrayList<>();
@@ -560,6 +623,14 @@ public class GroupServiceImpl implements GroupService {
         }
     }
     
+    /**
+     * Fail a fanned-out repository call that hasn't completed within the configured timeout.
+     * The underlying DynamoDB call is not interrupted; only the waiting request gives up.
+     */
+    private <T> CompletableFuture<T> withFanOutTimeout(CompletableFuture<T> future) {
+        return fanOutCallTimeoutMs > 0 ? future.orTimeout(fanOutCallTimeoutMs, TimeUnit.MILLISECONDS) : future;
+    }
+
     /**
      * Count dateless hangout suggestions in {@code needsDay}. Every item in that list
      * occupies a suggestion slot in the user's view without covering a specific ISO
@@ -887,11 +958,44 @@ public class GroupServiceImpl implements GroupService {
             throw new ForbiddenException("User is not a member of this group");
         }
 
-        // Return group metadata (1 RCU)
-        return groupRepository.findById(groupId)
+        // Return group metadata (1 RCU, reused by the feed query in the same request)
+        return findGroupWithPendingTimestamp(groupId)
                 .orElseThrow(() -> new NotFoundException("Group not found"));
     }
 
+    /**
+     * Load group metadata with lastHangoutModified advanced to any newer bump still waiting in
+     * the timestamp write-behind buffer on this instance.
+     */
+    private Optional<Group> findGroupWithPendingTimestamp(String groupId) {
+        Optional<Group> group = RequestReadCache.getOrLoad("findGroupById", InviterKeyFactory.getGroupPk(groupId),
+                () -> groupRepository.findById(groupId));
+
+        Instant pending = groupTimestampService.getPendingTimestamp(groupId);
+        if (pending == null) {
+            return group;
+        }
+        // The cached Group is shared with the rest of the request; advance a copy instead
+        return group.map(g -> {
+            if (g.getLastHangoutModified() != null && !pending.isAfter(g.getLastHangoutModified())) {
+                return g;
+            }
+            Group advanced = InviterTableSchemas.copyOf(g);
+            advanced.setLastHangoutModified(pending);
+            return advanced;
+        });
+    }
+
+    /**
+     * Version used to key the group's feed snapshot, or null when the group has never
+     * recorded a hangout change (the snapshot is then bypassed).
+     */
+    private Instant findFeedVersion(String groupId) {
+        return findGroupWithPendingTimestamp(groupId)
+                .map(Group::getLastHangoutModified)
+                .orElse(null);
+    }
+
     @Override
     public InviteCodeResponse generateInviteCode(String groupId, String requestingUserId) {
         // Verify group exists
@@ -985,6 +1089,7 @@ public class GroupServiceImpl implements GroupService {
         membership.setUserMainImagePath(user.getMainImagePath());
 
         groupRepository.addMember(membership);
+        groupMembershipCache.invalidate(group.getGroupId(), userId);
 
         // Record usage on invite code
         inviteCode.recordUsage(userId);
@@ -1,20 +1,35 @@
 package com.bbthechange.inviter.service.impl;
 
-import com.bbthechange.inviter.model.Group;
 import com.bbthechange.inviter.repository.GroupRepository;
 import com.bbthechange.inviter.service.GroupTimestampService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Implementation of GroupTimestampService.
  * Handles updating Group.lastHangoutModified timestamps for ETag support and cache invalidation.
+ *
+ * Bumps are buffered per group and written behind on a short interval, so a burst of edits
+ * (e.g. poll votes) becomes one conditional UpdateItem per group carrying the latest timestamp
+ * instead of a read-modify-write per edit. Pending bumps are flushed on shutdown.
  */
 @Service
 public class GroupTimestampServiceImpl implements GroupTimestampService {
@@ -22,10 +37,43 @@ public class GroupTimestampServiceImpl implements GroupTimestampService {
     private static final Logger logger = LoggerFactory.getLogger(GroupTimestampServiceImpl.class);
 
     private final GroupRepository groupRepository;
+    private final ConcurrentHashMap<String, PendingBump> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher;
+
+    private final Counter bumpCounter;
+    private final Counter writtenCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+    private final DistributionSummary coalescedBumps;
+    private final Timer flushLag;
 
     @Autowired
-    public GroupTimestampServiceImpl(GroupRepository groupRepository) {
+    public GroupTimestampServiceImpl(GroupRepository groupRepository,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${group-timestamp.flush-interval-ms:500}") long flushIntervalMs) {
         this.groupRepository = groupRepository;
+
+        this.bumpCounter = meterRegistry.counter("group_timestamp_bump_total");
+        this.writtenCounter = meterRegistry.counter("group_timestamp_write_total", "status", "success");
+        this.skippedCounter = meterRegistry.counter("group_timestamp_write_total", "status", "skipped");
+        this.failedCounter = meterRegistry.counter("group_timestamp_write_total", "status", "failure");
+        this.coalescedBumps = DistributionSummary.builder("group_timestamp_coalesced_bumps")
+                .description("Timestamp bumps folded into each group UpdateItem")
+                .register(meterRegistry);
+        this.flushLag = Timer.builder("group_timestamp_flush_lag_duration")
+                .description("Time from the first buffered bump to its group being written")
+                .register(meterRegistry);
+
+        if (flushIntervalMs > 0) {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "group-timestamp-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.flusher = null;
+        }
     }
 
     @Override
@@ -34,26 +82,115 @@ public class GroupTimestampServiceImpl implements GroupTimestampService {
             return;
         }
 
-        Instant now = Instant.now();
+        // Stored as epoch millis, so truncate: the pending and stored versions then compare equal
+        Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        long enqueuedNanos = System.nanoTime();
 
         for (String groupId : groupIds) {
-            try {
-                // Read group metadata
-                Optional<Group> groupOpt = groupRepository.findById(groupId);
-                if (groupOpt.isEmpty()) {
-                    logger.warn("Cannot update lastHangoutModified for non-existent group: {}", groupId);
-                    continue;
-                }
+            if (groupId == null) {
+                continue;
+            }
+            bumpCounter.increment();
+            pending.merge(groupId, new PendingBump(now, enqueuedNanos, 1), PendingBump::merge);
+        }
 
-                Group group = groupOpt.get();
-                group.setLastHangoutModified(now);
-                groupRepository.save(group);
+        if (flusher == null) {
+            flush();
+        }
+    }
 
-                logger.debug("Updated lastHangoutModified for group {} to {}", groupId, now);
+    @Override
+    public Instant getPendingTimestamp(String groupId) {
+        PendingBump bump = pending.get(groupId);
+        return bump == null ? null : bump.latest();
+    }
+
+    /**
+     * Write every buffered bump. A group stays in the buffer until its write succeeds, so
+     * {@link #getPendingTimestamp} never goes blank mid-write and failed writes are retried by
+     * the next flush. Bumps that arrive during a write stay buffered for the next flush.
+     */
+    void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<String> groupIds = new ArrayList<>(pending.keySet());
+        for (String groupId : groupIds) {
+            PendingBump bump = pending.get(groupId);
+            if (bump == null) {
+                continue;
+            }
+            long writeStartNanos = System.nanoTime();
+            try {
+                boolean written = groupRepository.advanceLastHangoutModified(groupId, bump.latest());
+                if (written) {
+                    writtenCounter.increment();
+                    logger.debug("Updated lastHangoutModified for group {} to {} ({} bumps)",
+                            groupId, bump.latest(), bump.count());
+                } else {
+                    // Group is gone, or a newer timestamp was already written
+                    skippedCounter.increment();
+                }
+                coalescedBumps.record(bump.count());
+                flushLag.record(Duration.ofNanos(System.nanoTime() - bump.firstEnqueuedNanos()));
+                pending.computeIfPresent(groupId, (id, current) -> current.without(bump, writeStartNanos));
             } catch (Exception e) {
+                failedCounter.increment();
                 logger.error("Failed to update lastHangoutModified for group {}: {}", groupId, e.getMessage());
-                // Continue with other groups - don't fail the whole operation
+                // Left in the buffer so the next flush retries
+            }
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            // Never let an exception cancel the scheduled flush
+            logger.error("Group timestamp flush failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                if (!flusher.awaitTermination(5, TimeUnit.SECONDS)) {
+                    flusher.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                flusher.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+        // One last pass; failures here are not retried
+        if (!pending.isEmpty()) {
+            logger.info("Flushing {} pending group timestamp updates on shutdown", pending.size());
+            flush();
+            pending.clear();
+        }
+    }
+
+    private record PendingBump(Instant latest, long firstEnqueuedNanos, int count) {
+
+        PendingBump merge(PendingBump other) {
+            return new PendingBump(
+                    latest.isAfter(other.latest) ? latest : other.latest,
+                    Math.min(firstEnqueuedNanos, other.firstEnqueuedNanos),
+                    count + other.count);
+        }
+
+        /**
+         * What is left to write once {@code written} has been persisted: nothing if no bump
+         * arrived meanwhile, otherwise the newer bumps, counted from when the write started.
+         */
+        PendingBump without(PendingBump written, long writeStartNanos) {
+            if (this == written) {
+                return null;
             }
+            return new PendingBump(latest, writeStartNanos, Math.max(1, count - written.count));
         }
     }
 }
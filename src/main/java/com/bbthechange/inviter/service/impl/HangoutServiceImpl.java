@@ -20,6 +20,8 @@ import com.bbthechange.inviter.dto.*;
 import com.bbthechange.inviter.exception.*;
 import com.bbthechange.inviter.util.HangoutDataTransformer;
 import com.bbthechange.inviter.util.HangoutPointerFactory;
+import com.bbthechange.inviter.util.HangoutPointerPatch;
+import com.bbthechange.inviter.util.InviterTableSchemas;
 import com.bbthechange.inviter.exception.RepositoryException;
 import org.springframework.stereotype.Service;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -51,6 +53,7 @@ public class HangoutServiceImpl implements HangoutService {
     private final EventSeriesService eventSeriesService;
     private final NotificationService notificationService;
     private final PointerUpdateService pointerUpdateService;
+    private final PointerDenormalizer pointerDenormalizer;
     private final S3Service s3Service;
     private final GroupTimestampService groupTimestampService;
     private final HangoutSchedulerService hangoutSchedulerService;
@@ -68,6 +71,7 @@ public class HangoutServiceImpl implements HangoutService {
                               @Lazy EventSeriesService eventSeriesService,
                               NotificationService notificationService,
                               PointerUpdateService pointerUpdateService,
+                              PointerDenormalizer pointerDenormalizer,
                               S3Service s3Service,
                               GroupTimestampService groupTimestampService,
                               HangoutSchedulerService hangoutSchedulerService,
@@ -82,6 +86,7 @@ public class HangoutServiceImpl implements HangoutService {
         this.eventSeriesService = eventSeriesService;
         this.notificationService = notificationService;
         this.pointerUpdateService = pointerUpdateService;
+        this.pointerDenormalizer = pointerDenormalizer;
         this.s3Service = s3Service;
         this.groupTimestampService = groupTimestampService;
         this.hangoutSchedulerService = hangoutSchedulerService;
@@ -312,38 +317,65 @@ public class HangoutServiceImpl implements HangoutService {
             !(clientInfo != null && clientInfo.isIosVersionInRange("2.1.0", "2.2.0"));
         List<PollWithOptionsDTO> pollsWithOptions = transformPollData(hangoutDetail, requestingUserId, includeEmbeddedVotes);
         
+        // Resolve every user the detail shows in one cached batch lookup
+        Set<String> referencedUserIds = new HashSet<>();
+        for (PollWithOptionsDTO poll : pollsWithOptions) {
+            for (PollOptionDTO option : poll.getOptions()) {
+                if (option.getVotes() != null) {
+                    option.getVotes().forEach(vote -> referencedUserIds.add(vote.getUserId()));
+                }
+            }
+        }
+        hangoutDetail.getCars().forEach(car -> referencedUserIds.add(car.getDriverId()));
+        hangoutDetail.getCarRiders().forEach(rider -> referencedUserIds.add(rider.getRiderId()));
+        hangoutDetail.getNeedsRide().forEach(nr -> referencedUserIds.add(nr.getUserId()));
+        hangoutDetail.getParticipations().forEach(p -> referencedUserIds.add(p.getUserId()));
+        hangoutDetail.getReservationOffers().forEach(o -> referencedUserIds.add(o.getUserId()));
+        if (hangout.getHostAtPlaceUserId() != null) {
+            referencedUserIds.add(hangout.getHostAtPlaceUserId());
+        }
+        Map<UUID, UserSummaryDTO> users = userService.getUserSummaries(
+            referencedUserIds.stream().map(UUID::fromString).toList());
+
         // Enrich poll voter display names from username cache
         for (PollWithOptionsDTO poll : pollsWithOptions) {
             for (PollOptionDTO option : poll.getOptions()) {
                 if (option.getVotes() != null) {
                     for (VoteDTO vote : option.getVotes()) {
-                        userService.getUserSummary(UUID.fromString(vote.getUserId()))
+                        Optional.ofNullable(users.get(UUID.fromString(vote.getUserId())))
                             .ifPresent(u -> vote.setDisplayName(u.getDisplayName()));
                     }
                 }
             }
         }
 
-        // Transform to DTO with formatted timeInfo
-        TimeInfo timeInfo = formatTimeInfoForResponse(hangout.getTimeInput());
-        hangout.setTimeInput(timeInfo);
+        // hangoutDetail is shared with the rest of the request through RequestReadCache, so the
+        // response gets its own copies of the items it changes
+        Hangout responseHangout = InviterTableSchemas.copyOf(hangout);
+        responseHangout.setTimeInput(formatTimeInfoForResponse(hangout.getTimeInput()));
+
         // Enrich car driver images from username cache
+        List<Car> cars = new ArrayList<>(hangoutDetail.getCars().size());
         for (Car car : hangoutDetail.getCars()) {
-            userService.getUserSummary(UUID.fromString(car.getDriverId()))
-                .ifPresent(u -> car.setDriverImagePath(u.getMainImagePath()));
+            Car responseCar = InviterTableSchemas.copyOf(car);
+            Optional.ofNullable(users.get(UUID.fromString(car.getDriverId())))
+                .ifPresent(u -> responseCar.setDriverImagePath(u.getMainImagePath()));
+            cars.add(responseCar);
         }
 
         // Enrich car rider images from username cache
+        List<CarRider> carRiders = new ArrayList<>(hangoutDetail.getCarRiders().size());
         for (CarRider rider : hangoutDetail.getCarRiders()) {
-            userService.getUserSummary(UUID.fromString(rider.getRiderId()))
-                .ifPresent(u -> rider.setRiderImagePath(u.getMainImagePath()));
+            CarRider responseRider = InviterTableSchemas.copyOf(rider);
+            Optional.ofNullable(users.get(UUID.fromString(rider.getRiderId())))
+                .ifPresent(u -> responseRider.setRiderImagePath(u.getMainImagePath()));
+            carRiders.add(responseRider);
         }
 
         // Transform needs ride data to DTOs with enriched display names and images
         List<NeedsRideDTO> needsRideDTOs = hangoutDetail.getNeedsRide().stream()
             .map(nr -> {
-                UserSummaryDTO user = userService.getUserSummary(UUID.fromString(nr.getUserId()))
-                    .orElse(null);
+                UserSummaryDTO user = users.get(UUID.fromString(nr.getUserId()));
                 return new NeedsRideDTO(nr,
                     user != null ? user.getDisplayName() : null,
                     user != null ? user.getMainImagePath() : null);
@@ -353,8 +385,7 @@ public class HangoutServiceImpl implements HangoutService {
         // Convert participations and offers to DTOs with denormalized user info
         List<ParticipationDTO> participationDTOs = hangoutDetail.getParticipations().stream()
             .map(p -> {
-                UserSummaryDTO user = userService.getUserSummary(UUID.fromString(p.getUserId()))
-                    .orElse(null);
+                UserSummaryDTO user = users.get(UUID.fromString(p.getUserId()));
                 if (user == null) {
                     logger.warn("User not found for participation: {}", p.getUserId());
                     return null;
@@ -366,8 +397,7 @@ public class HangoutServiceImpl implements HangoutService {
 
         List<ReservationOfferDTO> offerDTOs = hangoutDetail.getReservationOffers().stream()
             .map(o -> {
-                UserSummaryDTO user = userService.getUserSummary(UUID.fromString(o.getUserId()))
-                    .orElse(null);
+                UserSummaryDTO user = users.get(UUID.fromString(o.getUserId()));
                 if (user == null) {
                     logger.warn("User not found for offer: {}", o.getUserId());
                     return null;
@@ -408,13 +438,13 @@ public class HangoutServiceImpl implements HangoutService {
 
         // Build the DTO
         HangoutDetailDTO.HangoutDetailDTOBuilder dtoBuilder = HangoutDetailDTO.builder()
-                .withHangout(hangout)
+                .withHangout(responseHangout)
                 .withAttributes(attributeDTOs)
                 .withPolls(pollsWithOptions)
-                .withCars(hangoutDetail.getCars())
+                .withCars(cars)
                 .withVotes(hangoutDetail.getVotes())
                 .withAttendance(attendance)
-                .withCarRiders(hangoutDetail.getCarRiders())
+                .withCarRiders(carRiders)
                 .withNeedsRide(needsRideDTOs)
                 .withParticipations(participationDTOs)
                 .withReservationOffers(offerDTOs)
@@ -424,7 +454,7 @@ public class HangoutServiceImpl implements HangoutService {
 
         // Resolve host at place display name and image
         if (hangout.getHostAtPlaceUserId() != null) {
-            userService.getUserSummary(UUID.fromString(hangout.getHostAtPlaceUserId()))
+            Optional.ofNullable(users.get(UUID.fromString(hangout.getHostAtPlaceUserId())))
                 .ifPresent(user -> {
                     dtoBuilder.withHostAtPlaceDisplayName(user.getDisplayName());
                     dtoBuilder.withHostAtPlaceImagePath(user.getMainImagePath());
@@ -1129,15 +1159,7 @@ public class HangoutServiceImpl implements HangoutService {
             updateParticipantCounts(hangoutId, oldStatus, request.getStatus(), associatedGroups);
 
             // Denormalize updated interest levels to all group pointers
-            List<InterestLevel> updatedInterestLevels = hangoutRepository.getHangoutDetailData(hangoutId).getAttendance();
-            for (String groupId : associatedGroups) {
-                pointerUpdateService.updatePointerWithRetry(groupId, hangoutId, pointer -> {
-                    pointer.setInterestLevels(new ArrayList<>(updatedInterestLevels));
-                }, "interest levels");
-            }
-
-            // Update group timestamps for ETag invalidation
-            groupTimestampService.updateGroupTimestamps(associatedGroups);
+            updatePointersWithInterestLevels(hangoutId);
         }
 
         logger.info("Set interest {} for user {} on hangout {}", request.getStatus(), requestingUserId, hangoutId);
@@ -1173,20 +1195,41 @@ public class HangoutServiceImpl implements HangoutService {
             updateParticipantCounts(hangoutId, oldStatus, null, associatedGroups);
 
             // Denormalize updated interest levels to all group pointers
-            List<InterestLevel> updatedInterestLevels = hangoutRepository.getHangoutDetailData(hangoutId).getAttendance();
-            for (String groupId : associatedGroups) {
-                pointerUpdateService.updatePointerWithRetry(groupId, hangoutId, pointer -> {
-                    pointer.setInterestLevels(new ArrayList<>(updatedInterestLevels));
-                }, "interest levels");
-            }
-
-            // Update group timestamps for ETag invalidation
-            groupTimestampService.updateGroupTimestamps(associatedGroups);
+            updatePointersWithInterestLevels(hangoutId);
         }
 
         logger.info("Removed interest for user {} on hangout {}", requestingUserId, hangoutId);
     }
 
+    /**
+     * Queue a rebuild of the interest levels on every group pointer. Debounced per hangout,
+     * so an RSVP storm re-reads attendance and patches the pointers once per window.
+     */
+    private void updatePointersWithInterestLevels(String hangoutId) {
+        pointerDenormalizer.schedule(hangoutId, "interest", () -> syncPointersWithInterestLevels(hangoutId));
+    }
+
+    private void syncPointersWithInterestLevels(String hangoutId) {
+        // Groups and attendance as of the rebuild, not as of the request that queued it
+        HangoutDetailData data = hangoutRepository.getHangoutDetailData(hangoutId);
+        if (data.getHangout() == null) {
+            logger.warn("Cannot update pointers for non-existent hangout: {}", hangoutId);
+            return;
+        }
+
+        List<String> associatedGroups = data.getHangout().getAssociatedGroups();
+        if (associatedGroups == null || associatedGroups.isEmpty()) {
+            logger.debug("No associated groups for hangout {}, skipping pointer update", hangoutId);
+            return;
+        }
+
+        pointerUpdateService.patchPointers(associatedGroups, hangoutId,
+            HangoutPointerPatch.interestLevels(data.getAttendance()), "interest levels");
+
+        // Update group timestamps for ETag invalidation
+        groupTimestampService.updateGroupTimestamps(associatedGroups);
+    }
+
     private void updateParticipantCounts(String hangoutId, String oldStatus, String newStatus,
                                        List<String> associatedGroups) {
         List<String> interested = Arrays.asList("GOING","INTERESTED");
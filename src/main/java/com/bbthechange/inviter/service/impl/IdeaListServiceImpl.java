@@ -466,11 +466,12 @@ public class IdeaListServiceImpl implements IdeaListService {
     private IdeaListDTO convertToDTO(IdeaList ideaList) {
         IdeaListDTO dto = new IdeaListDTO(ideaList);
 
-        // Convert members and populate interest data
+        // Convert members and populate interest data, resolving every user in one lookup
+        Map<UUID, UserSummaryDTO> users = resolveUsers(ideaList.getMembers());
         List<IdeaDTO> ideaDTOs = ideaList.getMembers().stream()
                 .map(member -> {
                     IdeaDTO ideaDTO = new IdeaDTO(member);
-                    populateEnrichedData(ideaDTO, member);
+                    populateEnrichedData(ideaDTO, member, users);
                     return ideaDTO;
                 })
                 // Sort by interestCount desc, then addedTime desc
@@ -483,29 +484,60 @@ public class IdeaListServiceImpl implements IdeaListService {
     }
 
     private void populateEnrichedData(IdeaDTO dto, IdeaListMember member) {
+        populateEnrichedData(dto, member, resolveUsers(List.of(member)));
+    }
+
+    private void populateEnrichedData(IdeaDTO dto, IdeaListMember member, Map<UUID, UserSummaryDTO> users) {
         // Resolve creator display info
-        resolveCreatorInfo(dto, member);
+        resolveCreatorInfo(dto, member, users);
         // Resolve interest data
-        List<InterestedUserDTO> interestedUsers = resolveInterestedUsers(member);
+        List<InterestedUserDTO> interestedUsers = resolveInterestedUsers(member, users);
         dto.setInterestedUsers(interestedUsers);
         dto.setInterestCount(interestedUsers.size() + 1); // explicit + 1 (implicit creator)
     }
 
-    private void resolveCreatorInfo(IdeaDTO dto, IdeaListMember member) {
-        if (member.getAddedBy() != null) {
-            try {
-                userService.getUserSummary(UUID.fromString(member.getAddedBy()))
-                        .ifPresent(summary -> {
-                            dto.setAddedByName(summary.getDisplayName());
-                            dto.setAddedByImagePath(summary.getMainImagePath());
-                        });
-            } catch (Exception e) {
-                logger.warn("Failed to resolve creator info for userId: {}", member.getAddedBy(), e);
+    /**
+     * Look up creators and interested users of the given ideas in one cached batch.
+     */
+    private Map<UUID, UserSummaryDTO> resolveUsers(Collection<IdeaListMember> members) {
+        Set<UUID> userIds = new HashSet<>();
+        for (IdeaListMember member : members) {
+            addUserId(userIds, member.getAddedBy());
+            if (member.getInterestedUserIds() != null) {
+                member.getInterestedUserIds().forEach(userId -> addUserId(userIds, userId));
             }
         }
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return userService.getUserSummaries(userIds);
+        } catch (Exception e) {
+            logger.warn("Failed to resolve user summaries for {} idea users", userIds.size(), e);
+            return Map.of();
+        }
     }
 
-    private List<InterestedUserDTO> resolveInterestedUsers(IdeaListMember member) {
+    private void addUserId(Set<UUID> userIds, String userId) {
+        if (userId == null) {
+            return;
+        }
+        try {
+            userIds.add(UUID.fromString(userId));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Skipping malformed idea userId: {}", userId);
+        }
+    }
+
+    private void resolveCreatorInfo(IdeaDTO dto, IdeaListMember member, Map<UUID, UserSummaryDTO> users) {
+        UserSummaryDTO summary = summaryFor(member.getAddedBy(), users);
+        if (summary != null) {
+            dto.setAddedByName(summary.getDisplayName());
+            dto.setAddedByImagePath(summary.getMainImagePath());
+        }
+    }
+
+    private List<InterestedUserDTO> resolveInterestedUsers(IdeaListMember member, Map<UUID, UserSummaryDTO> users) {
         Set<String> userIds = member.getInterestedUserIds();
         if (userIds == null || userIds.isEmpty()) {
             return new ArrayList<>();
@@ -513,19 +545,23 @@ public class IdeaListServiceImpl implements IdeaListService {
 
         return userIds.stream()
                 .map(userId -> {
-                    try {
-                        return userService.getUserSummary(UUID.fromString(userId))
-                                .map(summary -> new InterestedUserDTO(
-                                        userId,
-                                        summary.getDisplayName(),
-                                        summary.getMainImagePath()))
-                                .orElse(null);
-                    } catch (Exception e) {
-                        logger.warn("Failed to resolve user summary for interest userId: {}", userId, e);
-                        return null;
-                    }
+                    UserSummaryDTO summary = summaryFor(userId, users);
+                    return summary != null
+                            ? new InterestedUserDTO(userId, summary.getDisplayName(), summary.getMainImagePath())
+                            : null;
                 })
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
+
+    private UserSummaryDTO summaryFor(String userId, Map<UUID, UserSummaryDTO> users) {
+        if (userId == null) {
+            return null;
+        }
+        try {
+            return users.get(UUID.fromString(userId));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.bbthechange.inviter.service.impl;
 
+import com.bbthechange.inviter.dto.HangoutDetailSection;
 import com.bbthechange.inviter.dto.MomentumDTO;
 import com.bbthechange.inviter.model.*;
 import com.bbthechange.inviter.repository.GroupRepository;
@@ -9,6 +10,7 @@ import com.bbthechange.inviter.service.NotificationTextGenerator;
 import com.bbthechange.inviter.service.MomentumService;
 import com.bbthechange.inviter.service.NotificationService;
 import com.bbthechange.inviter.service.UserService;
+import com.bbthechange.inviter.util.HangoutPointerPatch;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import org.slf4j.Logger;
@@ -18,6 +20,7 @@ import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -66,6 +69,10 @@ public class MomentumServiceImpl implements MomentumService {
     // Confirmed-by value for system/auto promotion
     private static final String SYSTEM_CONFIRMED_BY = "SYSTEM";
 
+    // Scoring only looks at interest levels and ticket purchases; the hangout is loaded separately
+    private static final Set<HangoutDetailSection> MOMENTUM_SECTIONS =
+            EnumSet.of(HangoutDetailSection.ATTENDANCE, HangoutDetailSection.PARTICIPATIONS);
+
     private final HangoutRepository hangoutRepository;
     private final GroupRepository groupRepository;
     private final PointerUpdateService pointerUpdateService;
@@ -145,7 +152,7 @@ public class MomentumServiceImpl implements MomentumService {
         // Step 2: Capture the previous category before any changes
         MomentumCategory previousCategory = hangout.getMomentumCategory();
 
-        // Step 3: Load all hangout detail data in a single query (attendance + car riders)
+        // Step 3: Load attendance and participations (ticket purchases)
         com.bbthechange.inviter.dto.HangoutDetailData detailData = loadDetailData(hangoutId);
         List<InterestLevel> interestLevels = detailData.getAttendance();
 
@@ -292,11 +299,11 @@ public class MomentumServiceImpl implements MomentumService {
     // ============================================================================
 
     /**
-     * Load full hangout detail data in a single query (attendance, cars, riders, etc.)
+     * Load the attendance and participation sections of the hangout's item collection.
      */
     private com.bbthechange.inviter.dto.HangoutDetailData loadDetailData(String hangoutId) {
         try {
-            return hangoutRepository.getHangoutDetailData(hangoutId);
+            return hangoutRepository.getHangoutDetailData(hangoutId, MOMENTUM_SECTIONS);
         } catch (Exception e) {
             logger.warn("Failed to load detail data for hangout {}: {}", hangoutId, e.getMessage());
             return com.bbthechange.inviter.dto.HangoutDetailData.builder().build();
@@ -441,22 +448,10 @@ public class MomentumServiceImpl implements MomentumService {
             return;
         }
 
-        final MomentumCategory category = hangout.getMomentumCategory();
-        final Integer score = hangout.getMomentumScore();
-        final Long confirmedAt = hangout.getConfirmedAt();
-        final String confirmedBy = hangout.getConfirmedBy();
-        final String suggestedBy = hangout.getSuggestedBy();
-        final String hangoutId = hangout.getHangoutId();
-
-        for (String groupId : groups) {
-            pointerUpdateService.updatePointerWithRetry(groupId, hangoutId, pointer -> {
-                pointer.setMomentumCategory(category);
-                pointer.setMomentumScore(score);
-                pointer.setConfirmedAt(confirmedAt);
-                pointer.setConfirmedBy(confirmedBy);
-                pointer.setSuggestedBy(suggestedBy);
-            }, "momentum");
-        }
+        pointerUpdateService.patchPointers(groups, hangout.getHangoutId(),
+            HangoutPointerPatch.momentum(hangout.getMomentumCategory(), hangout.getMomentumScore(),
+                hangout.getConfirmedAt(), hangout.getConfirmedBy(), hangout.getSuggestedBy()),
+            "momentum");
     }
 
     // ============================================================================
@@ -14,25 +14,40 @@ import com.bbthechange.inviter.service.DeviceService;
 import com.bbthechange.inviter.service.FcmNotificationService;
 import com.bbthechange.inviter.service.NotificationService;
 import com.bbthechange.inviter.service.NotificationTextGenerator;
+import com.bbthechange.inviter.service.PushDeliveryResult;
+import com.bbthechange.inviter.service.PushMessage;
 import com.bbthechange.inviter.service.PushNotificationService;
 import com.bbthechange.inviter.service.UserService;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
  * Implementation of NotificationService that handles user deduplication,
  * device resolution, and delegation to specific notification channels.
+ *
+ * Broadcasts to many users (new hangout, hangout updated, carpool new car, momentum change)
+ * run on the notification executor so the calling request returns immediately. They resolve
+ * every recipient's devices first and then send one bulk request per platform.
+ *
+ * Multi-recipient sends resolve devices with one {@link DeviceService#getActiveDevicesForUsers}
+ * call, which serves cached users from memory and queries the rest concurrently.
  */
 @Service
 public class NotificationServiceImpl implements NotificationService {
@@ -71,6 +86,7 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     @Override
+    @Async("notificationExecutor")
     public void notifyNewHangout(Hangout hangout, String creatorUserId, String creatorName) {
         List<String> groupIds = hangout.getAssociatedGroups();
         if (groupIds == null || groupIds.isEmpty()) {
@@ -93,26 +109,20 @@ public class NotificationServiceImpl implements NotificationService {
             logger.info("Sending new hangout notifications for {} to {} unique users",
                        hangout.getHangoutId(), uniqueUserIds.size());
 
-            // Send notifications to each unique user
-            int successCount = 0;
-            int failureCount = 0;
+            // Use first group for notification context (all groups share same hangout)
+            String primaryGroupId = groupIds.get(0);
+            String groupName = getGroupName(primaryGroupId);
 
-            for (String userId : uniqueUserIds) {
-                try {
-                    boolean sent = sendNewHangoutNotificationToUser(
-                        userId, hangout.getHangoutId(), hangout.getTitle(), groupIds, creatorName
-                    );
-                    if (sent) {
-                        successCount++;
-                    }
-                } catch (Exception e) {
-                    failureCount++;
-                    logger.warn("Failed to send notification to user {}: {}", userId, e.getMessage());
-                }
-            }
+            PushMessage message = new PushMessage("new_hangout",
+                    NotificationTextGenerator.NEW_HANGOUT_TITLE,
+                    textGenerator.getNewHangoutBody(creatorName, hangout.getTitle(), groupName))
+                    .withData("hangoutId", hangout.getHangoutId())
+                    .withData("groupId", primaryGroupId);
+
+            PushDeliveryResult result = fanOut(uniqueUserIds, message);
 
             logger.info("New hangout notification summary for {}: {} sent, {} failed",
-                       hangout.getHangoutId(), successCount, failureCount);
+                       hangout.getHangoutId(), result.getAccepted(), result.getFailed());
 
         } catch (Exception e) {
             // Log error but don't throw - notifications shouldn't break hangout creation
@@ -142,63 +152,97 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     /**
-     * Send new hangout notification to all active devices for a single user.
-     * Returns true if at least one notification was sent successfully.
+     * Deliver one message to every active device of the given users.
+     * Devices are resolved for all recipients up front; the iOS batch is then sent through
+     * Pushy's async futures while the Android batch goes out as FCM multicast requests.
      */
-    private boolean sendNewHangoutNotificationToUser(String userId, String hangoutId,
-                                                     String hangoutTitle, List<String> groupIds,
-                                                     String creatorName) {
-        try {
-            // Get all active devices for this user
-            List<Device> devices = deviceService.getActiveDevicesForUser(UUID.fromString(userId));
+    private PushDeliveryResult fanOut(Collection<String> userIds, PushMessage message) {
+        long startNanos = System.nanoTime();
+        List<String> iosTokens = new ArrayList<>();
+        List<String> androidTokens = new ArrayList<>();
 
-            if (devices.isEmpty()) {
-                logger.debug("No active devices for user {}", userId);
-                return false;
+        for (List<Device> devices : resolveDevices(userIds).values()) {
+            for (Device device : devices) {
+                if (device.getPlatform() == Device.Platform.IOS) {
+                    iosTokens.add(device.getToken());
+                } else if (device.getPlatform() == Device.Platform.ANDROID) {
+                    androidTokens.add(device.getToken());
+                }
             }
+        }
 
-            boolean anySent = false;
+        if (iosTokens.isEmpty() && androidTokens.isEmpty()) {
+            logger.debug("No active devices among {} recipients for {} notification", userIds.size(), message.getType());
+            return PushDeliveryResult.empty();
+        }
 
-            // Use first group for notification context (all groups share same hangout)
-            String primaryGroupId = groupIds.get(0);
-            String groupName = getGroupName(primaryGroupId);
+        CompletableFuture<PushDeliveryResult> iosFuture;
+        try {
+            iosFuture = iosTokens.isEmpty()
+                    ? CompletableFuture.completedFuture(PushDeliveryResult.empty())
+                    : pushNotificationService.sendBulk(message, iosTokens);
+        } catch (Exception e) {
+            logger.error("Failed to start APNs fan-out for {} notification: {}", message.getType(), e.getMessage());
+            iosFuture = CompletableFuture.completedFuture(PushDeliveryResult.allFailed(iosTokens.size()));
+        }
 
-            // Send notification to each device
-            for (Device device : devices) {
-                try {
-                    if (device.getPlatform() == Device.Platform.IOS) {
-                        pushNotificationService.sendNewHangoutNotification(
-                            device.getToken(),
-                            hangoutId,
-                            primaryGroupId,
-                            hangoutTitle,
-                            groupName,
-                            creatorName
-                        );
-                        anySent = true;
-                    } else if (device.getPlatform() == Device.Platform.ANDROID) {
-                        fcmNotificationService.sendNewHangoutNotification(
-                            device.getToken(),
-                            hangoutId,
-                            primaryGroupId,
-                            hangoutTitle,
-                            groupName,
-                            creatorName
-                        );
-                        anySent = true;
-                    }
-                } catch (Exception e) {
-                    logger.error("Failed to send notification to device {}: {}",
-                        device.getToken().substring(0, Math.min(8, device.getToken().length())),
-                        e.getMessage());
-                }
+        PushDeliveryResult androidResult;
+        try {
+            androidResult = androidTokens.isEmpty()
+                    ? PushDeliveryResult.empty()
+                    : fcmNotificationService.sendBulk(message, androidTokens);
+        } catch (Exception e) {
+            logger.error("FCM fan-out for {} notification failed: {}", message.getType(), e.getMessage());
+            androidResult = PushDeliveryResult.allFailed(androidTokens.size());
+        }
+
+        PushDeliveryResult iosResult;
+        try {
+            iosResult = iosFuture.join();
+        } catch (Exception e) {
+            logger.error("APNs fan-out for {} notification failed: {}", message.getType(), e.getMessage());
+            iosResult = PushDeliveryResult.allFailed(iosTokens.size());
+        }
+
+        recordFanOutResult(message.getType(), "ios", iosResult);
+        recordFanOutResult(message.getType(), "android", androidResult);
+        meterRegistry.timer("push_fanout_duration", "type", message.getType())
+                .record(Duration.ofNanos(System.nanoTime() - startNanos));
+
+        return iosResult.plus(androidResult);
+    }
+
+    /**
+     * Active devices for each recipient in one bulk lookup, keyed by the caller's user ID
+     * strings. Recipients with an unparseable ID or a failed lookup are absent.
+     */
+    private Map<String, List<Device>> resolveDevices(Collection<String> userIds) {
+        Map<UUID, String> idsByUuid = new HashMap<>();
+        for (String userId : userIds) {
+            try {
+                idsByUuid.put(UUID.fromString(userId), userId);
+            } catch (IllegalArgumentException e) {
+                logger.warn("Skipping notification recipient with invalid user ID {}", userId);
             }
+        }
+        if (idsByUuid.isEmpty()) {
+            return Map.of();
+        }
 
-            return anySent;
+        Map<String, List<Device>> devicesByUser = new HashMap<>();
+        deviceService.getActiveDevicesForUsers(idsByUuid.keySet())
+                .forEach((uuid, devices) -> devicesByUser.put(idsByUuid.get(uuid), devices));
+        return devicesByUser;
+    }
 
-        } catch (Exception e) {
-            logger.warn("Failed to send notifications to user {}: {}", userId, e.getMessage());
-            return false;
+    private void recordFanOutResult(String type, String platform, PushDeliveryResult result) {
+        if (result.getAccepted() > 0) {
+            meterRegistry.counter("push_fanout_total",
+                    "type", type, "platform", platform, "status", "success").increment(result.getAccepted());
+        }
+        if (result.getFailed() > 0) {
+            meterRegistry.counter("push_fanout_total",
+                    "type", type, "platform", platform, "status", "failure").increment(result.getFailed());
         }
     }
 
@@ -317,6 +361,7 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     @Override
+    @Async("notificationExecutor")
     public void notifyHangoutUpdated(String hangoutId, String hangoutTitle, List<String> groupIds,
                                       String changeType, String updatedByUserId, Set<String> interestedUserIds,
                                       String newLocationName) {
@@ -346,86 +391,23 @@ public class NotificationServiceImpl implements NotificationService {
             // Use first group for notification context
             String primaryGroupId = groupIds.get(0);
 
-            int successCount = 0;
-            int failureCount = 0;
+            PushMessage message = new PushMessage("hangout_updated",
+                    NotificationTextGenerator.HANGOUT_UPDATED_TITLE,
+                    textGenerator.getHangoutUpdatedBody(hangoutTitle, changeType, newLocationName))
+                    .withData("hangoutId", hangoutId)
+                    .withData("groupId", primaryGroupId)
+                    .withData("changeType", changeType);
 
-            for (String userId : usersToNotify) {
-                try {
-                    boolean sent = sendHangoutUpdatedNotificationToUser(
-                        userId, hangoutId, primaryGroupId, hangoutTitle, changeType, newLocationName
-                    );
-                    if (sent) {
-                        successCount++;
-                    }
-                } catch (Exception e) {
-                    failureCount++;
-                    logger.warn("Failed to send hangout update notification to user {}: {}", userId, e.getMessage());
-                }
-            }
+            PushDeliveryResult result = fanOut(usersToNotify, message);
 
             logger.info("Hangout update notification summary for {}: {} sent, {} failed",
-                       hangoutId, successCount, failureCount);
+                       hangoutId, result.getAccepted(), result.getFailed());
 
         } catch (Exception e) {
             logger.error("Error sending hangout update notifications for {}: {}", hangoutId, e.getMessage(), e);
         }
     }
 
-    /**
-     * Send hangout update notification to all active devices for a single user.
-     * Returns true if at least one notification was sent successfully.
-     */
-    private boolean sendHangoutUpdatedNotificationToUser(String userId, String hangoutId,
-                                                          String groupId, String hangoutTitle,
-                                                          String changeType, String newLocationName) {
-        try {
-            List<Device> devices = deviceService.getActiveDevicesForUser(UUID.fromString(userId));
-
-            if (devices.isEmpty()) {
-                logger.debug("No active devices for user {}", userId);
-                return false;
-            }
-
-            boolean anySent = false;
-
-            for (Device device : devices) {
-                try {
-                    if (device.getPlatform() == Device.Platform.IOS) {
-                        pushNotificationService.sendHangoutUpdatedNotification(
-                            device.getToken(),
-                            hangoutId,
-                            groupId,
-                            hangoutTitle,
-                            changeType,
-                            newLocationName
-                        );
-                        anySent = true;
-                    } else if (device.getPlatform() == Device.Platform.ANDROID) {
-                        fcmNotificationService.sendHangoutUpdatedNotification(
-                            device.getToken(),
-                            hangoutId,
-                            groupId,
-                            hangoutTitle,
-                            changeType,
-                            newLocationName
-                        );
-                        anySent = true;
-                    }
-                } catch (Exception e) {
-                    logger.error("Failed to send hangout update notification to device {}: {}",
-                        device.getToken().substring(0, Math.min(8, device.getToken().length())),
-                        e.getMessage());
-                }
-            }
-
-            return anySent;
-
-        } catch (Exception e) {
-            logger.warn("Failed to send hangout update notifications to user {}: {}", userId, e.getMessage());
-            return false;
-        }
-    }
-
     @Override
     public void sendHangoutReminder(Hangout hangout) {
         String hangoutId = hangout.getHangoutId();
@@ -465,10 +447,12 @@ public class NotificationServiceImpl implements NotificationService {
 
             int successCount = 0;
             int failureCount = 0;
+            Map<String, List<Device>> devicesByUser = resolveDevices(interestedUserIds);
 
             for (String userId : interestedUserIds) {
                 try {
-                    boolean sent = sendHangoutReminderToUser(userId, hangout, primaryGroupId);
+                    boolean sent = sendHangoutReminderToUser(userId,
+                            devicesByUser.getOrDefault(userId, List.of()), hangout, primaryGroupId);
                     if (sent) {
                         successCount++;
                     }
@@ -496,13 +480,11 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     /**
-     * Send hangout reminder notification to all active devices for a single user.
+     * Send hangout reminder notification to the given active devices of a single user.
      * Returns true if at least one notification was sent successfully.
      */
-    private boolean sendHangoutReminderToUser(String userId, Hangout hangout, String groupId) {
+    private boolean sendHangoutReminderToUser(String userId, List<Device> devices, Hangout hangout, String groupId) {
         try {
-            List<Device> devices = deviceService.getActiveDevicesForUser(UUID.fromString(userId));
-
             if (devices.isEmpty()) {
                 logger.debug("No active devices for user {}", userId);
                 return false;
@@ -564,10 +546,12 @@ public class NotificationServiceImpl implements NotificationService {
 
         int successCount = 0;
         int failureCount = 0;
+        Map<String, List<Device>> devicesByUser = resolveDevices(userIds);
 
         for (String userId : userIds) {
             try {
-                boolean sent = sendWatchPartyUpdateToUser(userId, seriesId, groupId, message);
+                boolean sent = sendWatchPartyUpdateToUser(userId,
+                        devicesByUser.getOrDefault(userId, List.of()), seriesId, groupId, message);
                 if (sent) {
                     successCount++;
                 }
@@ -591,13 +575,12 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     /**
-     * Send watch party update notification to all active devices for a single user.
+     * Send watch party update notification to the given active devices of a single user.
      * Returns true if at least one notification was sent successfully.
      */
-    private boolean sendWatchPartyUpdateToUser(String userId, String seriesId, String groupId, String message) {
+    private boolean sendWatchPartyUpdateToUser(String userId, List<Device> devices, String seriesId,
+                                               String groupId, String message) {
         try {
-            List<Device> devices = deviceService.getActiveDevicesForUser(UUID.fromString(userId));
-
             if (devices.isEmpty()) {
                 logger.debug("No active devices for user {}", userId);
                 return false;
@@ -640,6 +623,7 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     @Override
+    @Async("notificationExecutor")
     public void notifyCarpoolNewCar(String hangoutId, String hangoutTitle, List<String> groupIds,
                                      String driverUserId, String driverName, List<String> needsRideUserIds) {
         if (needsRideUserIds == null || needsRideUserIds.isEmpty()) {
@@ -661,60 +645,19 @@ public class NotificationServiceImpl implements NotificationService {
 
         logger.info("Sending carpool new car notifications for hangout {} to {} users", hangoutId, usersToNotify.size());
 
-        int successCount = 0;
-        int failureCount = 0;
-
-        for (String userId : usersToNotify) {
-            try {
-                boolean sent = sendCarpoolNewCarNotificationToUser(userId, hangoutId, primaryGroupId, hangoutTitle, driverName);
-                if (sent) {
-                    successCount++;
-                }
-            } catch (Exception e) {
-                failureCount++;
-                logger.warn("Failed to send carpool new car notification to user {}: {}", userId, e.getMessage());
-            }
-        }
-
-        logger.info("Carpool new car notification summary for hangout {}: {} sent, {} failed",
-                hangoutId, successCount, failureCount);
-    }
-
-    private boolean sendCarpoolNewCarNotificationToUser(String userId, String hangoutId,
-                                                         String groupId, String hangoutTitle, String driverName) {
         try {
-            List<Device> devices = deviceService.getActiveDevicesForUser(UUID.fromString(userId));
-
-            if (devices.isEmpty()) {
-                logger.debug("No active devices for user {}", userId);
-                return false;
-            }
-
-            boolean anySent = false;
-
-            for (Device device : devices) {
-                try {
-                    if (device.getPlatform() == Device.Platform.IOS) {
-                        pushNotificationService.sendCarpoolNewCarNotification(
-                            device.getToken(), hangoutId, groupId, hangoutTitle, driverName);
-                        anySent = true;
-                    } else if (device.getPlatform() == Device.Platform.ANDROID) {
-                        fcmNotificationService.sendCarpoolNewCarNotification(
-                            device.getToken(), hangoutId, groupId, hangoutTitle, driverName);
-                        anySent = true;
-                    }
-                } catch (Exception e) {
-                    logger.error("Failed to send carpool new car notification to device {}: {}",
-                        device.getToken().substring(0, Math.min(8, device.getToken().length())),
-                        e.getMessage());
-                }
-            }
+            PushMessage message = new PushMessage("carpool_new_car",
+                    NotificationTextGenerator.CARPOOL_NEW_CAR_TITLE,
+                    textGenerator.getCarpoolNewCarBody(driverName, hangoutTitle))
+                    .withData("hangoutId", hangoutId)
+                    .withData("groupId", primaryGroupId);
 
-            return anySent;
+            PushDeliveryResult result = fanOut(usersToNotify, message);
 
+            logger.info("Carpool new car notification summary for hangout {}: {} sent, {} failed",
+                    hangoutId, result.getAccepted(), result.getFailed());
         } catch (Exception e) {
-            logger.warn("Failed to send carpool new car notifications to user {}: {}", userId, e.getMessage());
-            return false;
+            logger.error("Error sending carpool new car notifications for hangout {}: {}", hangoutId, e.getMessage(), e);
         }
     }
 
@@ -771,6 +714,7 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     @Override
+    @Async("notificationExecutor")
     public void notifyMomentumChange(String hangoutId, String hangoutTitle, String primaryGroupId,
                                       Set<String> allGroupIds, String message, String signalType) {
         if (allGroupIds == null || allGroupIds.isEmpty()) {
@@ -789,32 +733,23 @@ public class NotificationServiceImpl implements NotificationService {
             logger.info("Sending momentum change notifications for hangout {} to {} unique users (signal={})",
                     hangoutId, uniqueUserIds.size(), signalType);
 
-            int successCount = 0;
-            int failureCount = 0;
+            PushMessage pushMessage = new PushMessage("momentum_change",
+                    NotificationTextGenerator.MOMENTUM_CHANGE_TITLE, message)
+                    .withData("hangoutId", hangoutId)
+                    .withData("groupId", primaryGroupId);
 
-            for (String userId : uniqueUserIds) {
-                try {
-                    boolean sent = sendMomentumChangeNotificationToUser(
-                            userId, hangoutId, primaryGroupId, hangoutTitle, message);
-                    if (sent) {
-                        successCount++;
-                    }
-                } catch (Exception e) {
-                    failureCount++;
-                    logger.warn("Failed to send momentum notification to user {}: {}", userId, e.getMessage());
-                }
-            }
+            PushDeliveryResult result = fanOut(uniqueUserIds, pushMessage);
 
             logger.info("Momentum notification summary for hangout {}: {} sent, {} failed",
-                    hangoutId, successCount, failureCount);
+                    hangoutId, result.getAccepted(), result.getFailed());
 
-            if (successCount > 0) {
+            if (result.getAccepted() > 0) {
                 meterRegistry.counter("momentum_notification_total",
-                        "status", "success", "signal_type", signalType).increment(successCount);
+                        "status", "success", "signal_type", signalType).increment(result.getAccepted());
             }
-            if (failureCount > 0) {
+            if (result.getFailed() > 0) {
                 meterRegistry.counter("momentum_notification_total",
-                        "status", "failure", "signal_type", signalType).increment(failureCount);
+                        "status", "failure", "signal_type", signalType).increment(result.getFailed());
             }
 
         } catch (Exception e) {
@@ -823,49 +758,6 @@ public class NotificationServiceImpl implements NotificationService {
         }
     }
 
-    /**
-     * Send a momentum change notification to all active devices for a single user.
-     * Returns true if at least one notification was sent.
-     */
-    private boolean sendMomentumChangeNotificationToUser(String userId, String hangoutId,
-                                                          String groupId, String hangoutTitle,
-                                                          String message) {
-        try {
-            List<Device> devices = deviceService.getActiveDevicesForUser(UUID.fromString(userId));
-
-            if (devices.isEmpty()) {
-                logger.debug("No active devices for user {}", userId);
-                return false;
-            }
-
-            boolean anySent = false;
-
-            for (Device device : devices) {
-                try {
-                    if (device.getPlatform() == Device.Platform.IOS) {
-                        pushNotificationService.sendMomentumChangeNotification(
-                                device.getToken(), hangoutId, groupId, hangoutTitle, message);
-                        anySent = true;
-                    } else if (device.getPlatform() == Device.Platform.ANDROID) {
-                        fcmNotificationService.sendMomentumChangeNotification(
-                                device.getToken(), hangoutId, groupId, hangoutTitle, message);
-                        anySent = true;
-                    }
-                } catch (Exception e) {
-                    logger.error("Failed to send momentum notification to device {}: {}",
-                            device.getToken().substring(0, Math.min(8, device.getToken().length())),
-                            e.getMessage());
-                }
-            }
-
-            return anySent;
-
-        } catch (Exception e) {
-            logger.warn("Failed to send momentum notification to user {}: {}", userId, e.getMessage());
-            return false;
-        }
-    }
-
     // ============================================================================
     // Idea List Notifications
     // ============================================================================
@@ -889,8 +781,10 @@ public class NotificationServiceImpl implements NotificationService {
             logger.info("Sending ideas added notification: group={}, list={}, recipients={}",
                     groupId, listId, recipientIds.size());
 
+            Map<String, List<Device>> devicesByUser = resolveDevices(recipientIds);
             for (String userId : recipientIds) {
-                sendIdeaListNotificationToUser(userId, groupId, listId, title, body, "ideas_added");
+                sendIdeaListNotificationToUser(userId, devicesByUser.getOrDefault(userId, List.of()),
+                        groupId, listId, title, body, "ideas_added");
             }
         } catch (Exception e) {
             logger.error("Error sending ideas added notifications: group={}, list={}", groupId, listId, e);
@@ -915,8 +809,10 @@ public class NotificationServiceImpl implements NotificationService {
             logger.info("Sending idea list created notification: group={}, list={}, recipients={}",
                     groupId, listId, recipientIds.size());
 
+            Map<String, List<Device>> devicesByUser = resolveDevices(recipientIds);
             for (String userId : recipientIds) {
-                sendIdeaListNotificationToUser(userId, groupId, listId, title, body, "idea_list_created");
+                sendIdeaListNotificationToUser(userId, devicesByUser.getOrDefault(userId, List.of()),
+                        groupId, listId, title, body, "idea_list_created");
             }
         } catch (Exception e) {
             logger.error("Error sending idea list created notifications: group={}, list={}", groupId, listId, e);
@@ -932,8 +828,10 @@ public class NotificationServiceImpl implements NotificationService {
             logger.info("Sending idea interest milestone notification: group={}, list={}, idea={}, recipients={}",
                     groupId, listId, ideaId, recipientUserIds.size());
 
+            Map<String, List<Device>> devicesByUser = resolveDevices(recipientUserIds);
             for (String userId : recipientUserIds) {
-                sendIdeaInterestNotificationToUser(userId, groupId, listId, ideaId, title, body);
+                sendIdeaInterestNotificationToUser(userId, devicesByUser.getOrDefault(userId, List.of()),
+                        groupId, listId, ideaId, title, body);
             }
         } catch (Exception e) {
             logger.error("Error sending idea interest milestone notifications: group={}, idea={}", groupId, ideaId, e);
@@ -941,12 +839,11 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     /**
-     * Send idea list notification (list created or ideas added) to all active devices for a user.
+     * Send idea list notification (list created or ideas added) to the given active devices of a user.
      */
-    private void sendIdeaListNotificationToUser(String userId, String groupId, String listId,
+    private void sendIdeaListNotificationToUser(String userId, List<Device> devices, String groupId, String listId,
                                                   String title, String body, String notificationType) {
         try {
-            List<Device> devices = deviceService.getActiveDevicesForUser(UUID.fromString(userId));
             if (devices.isEmpty()) return;
 
             for (Device device : devices) {
@@ -970,12 +867,11 @@ public class NotificationServiceImpl implements NotificationService {
     }
 
     /**
-     * Send idea interest milestone notification to all active devices for a user.
+     * Send idea interest milestone notification to the given active devices of a user.
      */
-    private void sendIdeaInterestNotificationToUser(String userId, String groupId, String listId,
-                                                      String ideaId, String title, String body) {
+    private void sendIdeaInterestNotificationToUser(String userId, List<Device> devices, String groupId,
+                                                      String listId, String ideaId, String title, String body) {
         try {
-            List<Device> devices = deviceService.getActiveDevicesForUser(UUID.fromString(userId));
             if (devices.isEmpty()) return;
 
             for (Device device : devices) {
@@ -0,0 +1,237 @@
+package com.bbthechange.inviter.service.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Debounces pointer denormalization off the request path.
+ *
+ * Votes, RSVPs and carpool changes only write their own item and call {@link #schedule};
+ * the rebuild (re-read the hangout's polls/cars/interest levels, patch every group pointer,
+ * bump group timestamps) runs on a background thread once per hangout and type per window.
+ * Thirty votes in a minute become a handful of rebuilds instead of thirty.
+ *
+ * The window is fixed from the first request rather than sliding, so a steady stream of
+ * mutations can't postpone the rebuild forever. A mutation is reflected on the pointers
+ * within the window plus at most two rebuild durations: one already in flight when it
+ * arrived, which may have read before it, and the one queued behind it. Rebuilds for the
+ * same key never overlap, so a slow older rebuild can't overwrite a newer one.
+ *
+ * Setting {@code pointer.denormalizer.window-ms} to 0 runs rebuilds inline on the caller.
+ *
+ * Queued rebuilds are drained in the {@link SmartLifecycle} stop phase. That runs after the
+ * web server has stopped taking requests and before any bean's {@code @PreDestroy}, so the
+ * timestamp bumps the rebuilds make still reach {@code GroupTimestampServiceImpl}'s final flush.
+ */
+@Service
+public class PointerDenormalizer implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(PointerDenormalizer.class);
+    private static final int MAX_ATTEMPTS = 3;
+    // Below the web server's graceful shutdown (DEFAULT_PHASE - 1024) and stop (DEFAULT_PHASE - 2048)
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final long windowMs;
+    private final ScheduledExecutorService scheduler;
+    private final MeterRegistry meterRegistry;
+    private final Timer lagTimer;
+
+    // type|hangoutId -> rebuild waiting for its window or currently running
+    private final Map<String, PendingRebuild> pending = new ConcurrentHashMap<>();
+    private volatile boolean running;
+
+    @Autowired
+    public PointerDenormalizer(MeterRegistry meterRegistry,
+                               @Value("${pointer.denormalizer.window-ms:500}") long windowMs,
+                               @Value("${pointer.denormalizer.threads:2}") int threads) {
+        this.windowMs = windowMs;
+        this.meterRegistry = meterRegistry;
+        this.scheduler = Executors.newScheduledThreadPool(threads,
+                Thread.ofVirtual().name("pointer-denormalizer-", 0).factory());
+        // Time from the first coalesced request to its rebuild finishing, i.e. pointer staleness
+        this.lagTimer = Timer.builder("pointer_denormalizer_lag")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("pointer_denormalizer_queue_depth", pending, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Request a pointer rebuild for a hangout. Requests for the same hangout and type made
+     * before the rebuild starts collapse into one run of the most recently supplied task.
+     *
+     * The task must read current state itself rather than capture it, since earlier
+     * requests' tasks are dropped. Requests-to-rebuilds is the coalescing ratio:
+     * {@code pointer_denormalizer_requests_total / pointer_denormalizer_rebuilds_total}.
+     *
+     * @param hangoutId The hangout whose pointers are stale
+     * @param type Which denormalized data the task rebuilds (polls, carpool, interest)
+     * @param rebuild Reads the canonical data and patches the pointers
+     */
+    public void schedule(String hangoutId, String type, Runnable rebuild) {
+        meterRegistry.counter("pointer_denormalizer_requests_total", "type", type).increment();
+
+        if (windowMs <= 0) {
+            runRebuild(type, rebuild, System.nanoTime());
+            return;
+        }
+
+        String key = type + "|" + hangoutId;
+        long now = System.nanoTime();
+        boolean[] newlyQueued = {false};
+        pending.compute(key, (k, entry) -> {
+            if (entry == null) {
+                newlyQueued[0] = true;
+                return new PendingRebuild(type, rebuild, now);
+            }
+            if (entry.running && !entry.dirty) {
+                // The in-flight rebuild may have read before this mutation; queue another
+                entry.dirty = true;
+                entry.firstRequestNanos = now;
+            }
+            entry.rebuild = rebuild;
+            return entry;
+        });
+
+        if (newlyQueued[0]) {
+            queue(key);
+        }
+    }
+
+    private void queue(String key) {
+        try {
+            scheduler.schedule(() -> run(key), windowMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shutting down - rebuild now rather than leave the pointers stale
+            run(key);
+        }
+    }
+
+    private void run(String key) {
+        PendingRebuild[] claimed = {null};
+        Runnable[] task = {null};
+        long[] since = {0};
+        pending.computeIfPresent(key, (k, entry) -> {
+            if (!entry.running) {
+                entry.running = true;
+                entry.dirty = false;
+                task[0] = entry.rebuild;
+                since[0] = entry.firstRequestNanos;
+                claimed[0] = entry;
+            }
+            return entry;
+        });
+        if (claimed[0] == null) {
+            return;
+        }
+
+        PendingRebuild entry = claimed[0];
+        boolean succeeded = runRebuild(entry.type, task[0], since[0]);
+
+        boolean[] requeue = {false};
+        pending.computeIfPresent(key, (k, current) -> {
+            if (!succeeded && !current.dirty && ++current.failedAttempts < MAX_ATTEMPTS) {
+                current.dirty = true;
+            }
+            if (current.dirty) {
+                current.running = false;
+                if (succeeded) {
+                    current.failedAttempts = 0;
+                }
+                requeue[0] = true;
+                return current;
+            }
+            return null;
+        });
+
+        if (requeue[0]) {
+            queue(key);
+        }
+    }
+
+    private boolean runRebuild(String type, Runnable rebuild, long firstRequestNanos) {
+        try {
+            rebuild.run();
+            meterRegistry.counter("pointer_denormalizer_rebuilds_total", "type", type, "status", "success").increment();
+            lagTimer.record(System.nanoTime() - firstRequestNanos, TimeUnit.NANOSECONDS);
+            return true;
+        } catch (Exception e) {
+            logger.error("Pointer {} rebuild failed: {}", type, e.getMessage(), e);
+            meterRegistry.counter("pointer_denormalizer_rebuilds_total", "type", type, "status", "error").increment();
+            return false;
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    /**
+     * Drains queued rebuilds while their dependencies are still running; see the class comment.
+     */
+    @Override
+    public void stop() {
+        try {
+            shutdown();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            running = false;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Runs queued rebuilds before the context closes so pointers aren't left stale by a deploy.
+     * Normally already done by {@link #stop()}; this covers contexts that never started.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // Already-delayed rebuilds still run after shutdown; requeues run inline
+        scheduler.shutdown();
+        if (!scheduler.awaitTermination(windowMs + 10_000, TimeUnit.MILLISECONDS)) {
+            logger.warn("{} pointer rebuilds still pending at shutdown", pending.size());
+        }
+    }
+
+    private static final class PendingRebuild {
+        private final String type;
+        private Runnable rebuild;
+        private long firstRequestNanos;
+        private boolean running;
+        private boolean dirty;
+        private int failedAttempts;
+
+        private PendingRebuild(String type, Runnable rebuild, long firstRequestNanos) {
+            this.type = type;
+            this.rebuild = rebuild;
+            this.firstRequestNanos = firstRequestNanos;
+        }
+    }
+}
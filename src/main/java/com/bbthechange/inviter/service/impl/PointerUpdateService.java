@@ -3,13 +3,19 @@ package com.bbthechange.inviter.service.impl;
 import com.bbthechange.inviter.model.Hangout;
 import com.bbthechange.inviter.model.HangoutPointer;
 import com.bbthechange.inviter.repository.GroupRepository;
+import com.bbthechange.inviter.service.GroupFeedSnapshotCache;
 import com.bbthechange.inviter.util.HangoutPointerFactory;
+import com.bbthechange.inviter.util.HangoutPointerPatch;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 /**
@@ -18,6 +24,10 @@ import java.util.function.Consumer;
  * This service provides a centralized implementation of the read-modify-write pattern
  * with automatic retry on version conflicts. All pointer updates should go through this
  * service to ensure consistent behavior and data integrity.
+ *
+ * When the new values for a fixed set of fields are already known (poll data, carpool data,
+ * interest levels, momentum), prefer {@link #patchPointers}: it writes only those fields
+ * with one UpdateItem per group, without reading the pointer or retrying.
  */
 @Service
 public class PointerUpdateService {
@@ -30,10 +40,59 @@ public class PointerUpdateService {
     private static final double RETRY_BACKOFF_MULTIPLIER = 2.0;
 
     private final GroupRepository groupRepository;
+    private final Executor fanOutExecutor;
+    private final GroupFeedSnapshotCache groupFeedSnapshotCache;
 
     @Autowired
-    public PointerUpdateService(GroupRepository groupRepository) {
+    public PointerUpdateService(GroupRepository groupRepository,
+                                @Qualifier("repositoryFanOutExecutor") Executor fanOutExecutor,
+                                @Autowired(required = false) GroupFeedSnapshotCache groupFeedSnapshotCache) {
         this.groupRepository = groupRepository;
+        this.fanOutExecutor = fanOutExecutor;
+        this.groupFeedSnapshotCache = groupFeedSnapshotCache;
+    }
+
+    /**
+     * Write a patch to the hangout's pointer in each group, in parallel across groups.
+     * Returns once every group has been attempted; failures are logged per group and
+     * don't stop the others, matching {@link #updatePointerWithRetry}.
+     *
+     * @param groupIds The groups whose pointers to patch
+     * @param hangoutId The hangout ID
+     * @param patch The fields to overwrite
+     * @param updateType Description of what's being updated (for logging)
+     */
+    public void patchPointers(List<String> groupIds, String hangoutId, HangoutPointerPatch patch, String updateType) {
+        if (groupIds == null || groupIds.isEmpty()) {
+            return;
+        }
+        if (groupIds.size() == 1) {
+            patchPointer(groupIds.get(0), hangoutId, patch, updateType);
+            return;
+        }
+
+        CompletableFuture.allOf(groupIds.stream()
+                .map(groupId -> CompletableFuture.runAsync(
+                    () -> patchPointer(groupId, hangoutId, patch, updateType), fanOutExecutor))
+                .toArray(CompletableFuture[]::new))
+            .join();
+    }
+
+    private void patchPointer(String groupId, String hangoutId, HangoutPointerPatch patch, String updateType) {
+        try {
+            if (!groupRepository.patchHangoutPointer(groupId, hangoutId, patch)) {
+                logger.warn("Pointer not found for group {} and hangout {} during {} update",
+                    groupId, hangoutId, updateType);
+                return;
+            }
+            if (groupFeedSnapshotCache != null) {
+                groupFeedSnapshotCache.applyPatch(groupId, hangoutId, patch);
+            }
+            logger.debug("Patched {} on pointer for group {} and hangout {}", updateType, groupId, hangoutId);
+        } catch (Exception e) {
+            logger.error("Failed to patch pointer {} for group {} and hangout {}: {}",
+                updateType, groupId, hangoutId, e.getMessage());
+        }
     }
 
     /**
@@ -74,6 +133,7 @@ public class PointerUpdateService {
 
                 // Save with optimistic locking (version checked automatically by DynamoDB)
                 groupRepository.saveHangoutPointer(pointer);
+                refreshFeedSnapshots(pointer);
 
                 logger.debug("Updated {} on pointer for group {} and hangout {} (attempt {})",
                     updateType, groupId, hangoutId, attempt + 1);
@@ -143,6 +203,7 @@ public class PointerUpdateService {
 
                 updateFunction.accept(pointer);
                 groupRepository.saveHangoutPointer(pointer);
+                refreshFeedSnapshots(pointer);
 
                 logger.debug("Upserted {} on pointer for group {} and hangout {} (attempt {})",
                     updateType, groupId, hangoutId, attempt + 1);
@@ -175,4 +236,14 @@ public class PointerUpdateService {
             }
         }
     }
+
+    /**
+     * Patch the saved pointer into cached group feed snapshots so pointer-only changes
+     * (attendance, polls, carpools) don't force the next feed read back to DynamoDB.
+     */
+    private void refreshFeedSnapshots(HangoutPointer pointer) {
+        if (groupFeedSnapshotCache != null) {
+            groupFeedSnapshotCache.applyPointerUpdate(pointer);
+        }
+    }
 }
@@ -14,7 +14,10 @@ import com.bbthechange.inviter.model.*;
 import com.bbthechange.inviter.repository.HangoutRepository;
 import com.bbthechange.inviter.repository.GroupRepository;
 import com.bbthechange.inviter.exception.*;
+import com.bbthechange.inviter.util.HangoutPointerPatch;
 import com.bbthechange.inviter.util.InviterKeyFactory;
+import com.bbthechange.inviter.util.SortKeyCodec;
+import com.bbthechange.inviter.util.RequestReadCache;
 import com.bbthechange.inviter.util.TimePollOptionTextGenerator;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
@@ -29,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -47,6 +51,7 @@ public class PollServiceImpl implements PollService {
     private final GroupRepository groupRepository;
     private final AuthorizationService authorizationService;
     private final PointerUpdateService pointerUpdateService;
+    private final PointerDenormalizer pointerDenormalizer;
     private final GroupTimestampService groupTimestampService;
     private final com.bbthechange.inviter.service.AttributeSuggestionService attributeSuggestionService;
     private final UserService userService;
@@ -58,6 +63,7 @@ public class PollServiceImpl implements PollService {
     public PollServiceImpl(HangoutRepository hangoutRepository, GroupRepository groupRepository,
                           AuthorizationService authorizationService,
                           PointerUpdateService pointerUpdateService,
+                          PointerDenormalizer pointerDenormalizer,
                           GroupTimestampService groupTimestampService,
                           @org.springframework.context.annotation.Lazy
                           com.bbthechange.inviter.service.AttributeSuggestionService attributeSuggestionService,
@@ -69,6 +75,7 @@ public class PollServiceImpl implements PollService {
         this.groupRepository = groupRepository;
         this.authorizationService = authorizationService;
         this.pointerUpdateService = pointerUpdateService;
+        this.pointerDenormalizer = pointerDenormalizer;
         this.groupTimestampService = groupTimestampService;
         this.attributeSuggestionService = attributeSuggestionService;
         this.userService = userService;
@@ -202,21 +209,17 @@ public class PollServiceImpl implements PollService {
     public List<PollWithOptionsDTO> getEventPolls(String eventId, String userId) {
         logger.debug("Getting polls for event {} for user {}", eventId, userId);
 
-        // Get hangout and verify user can view it
-        HangoutDetailData hangoutData = hangoutRepository.getHangoutDetailData(eventId);
-        if (hangoutData.getHangout() == null) {
-            throw new EventNotFoundException("Event not found: " + eventId);
-        }
-
-        Hangout hangout = hangoutData.getHangout();
+        // Verify user can view the hangout; only the hangout item is needed for that
+        Hangout hangout = findHangoutForPolls(eventId);
         if (!authorizationService.canUserViewHangout(userId, hangout)) {
             throw new UnauthorizedException("Cannot view event polls");
         }
 
-        // Get all poll data in one query using item collection pattern
-        List<BaseItem> allPollData = hangoutRepository.getAllPollData(eventId);
+        // Polls and options only: counts come from the option counters and the user's own
+        // votes are fetched by key, so nobody else's votes are read
+        List<BaseItem> pollsAndOptions = hangoutRepository.getPollsAndOptions(eventId);
 
-        return transformToPollWithOptionsDTO(allPollData, userId);
+        return transformToPollWithOptionsDTO(eventId, pollsAndOptions, userId);
     }
 
     @Override
@@ -244,34 +247,19 @@ public class PollServiceImpl implements PollService {
     public Vote voteOnPoll(String eventId, String pollId, VoteRequest request, String userId) {
         logger.info("User {} voting on poll {} option {}", userId, pollId, request.getOptionId());
 
-        // Get hangout and verify user can view it
-        HangoutDetailData hangoutData = hangoutRepository.getHangoutDetailData(eventId);
-        if (hangoutData.getHangout() == null) {
-            throw new EventNotFoundException("Event not found: " + eventId);
-        }
-
-        Hangout hangout = hangoutData.getHangout();
+        // Verify user can view the hangout; only the hangout item is needed for that
+        Hangout hangout = findHangoutForPolls(eventId);
         if (!authorizationService.canUserViewHangout(userId, hangout)) {
             throw new UnauthorizedException("Cannot vote on polls in this event");
         }
 
-        // Get poll data to check settings and existing votes
-        List<BaseItem> pollData = hangoutRepository.getSpecificPollData(eventId, pollId);
-        Poll poll = pollData.stream()
-            .filter(item -> InviterKeyFactory.isPollItem(item.getSk()))
-            .map(item -> (Poll) item)
-            .findFirst()
+        // Poll settings and this user's votes, without reading everyone else's
+        Poll poll = hangoutRepository.findPollById(eventId, pollId)
             .orElseThrow(() -> new IllegalArgumentException("Poll not found"));
+        List<Vote> existingVotes = hangoutRepository.findUserVotes(eventId, pollId, userId);
 
         String optionId = request.getOptionId();
 
-        // Get user's existing votes for this poll
-        List<Vote> existingVotes = pollData.stream()
-            .filter(item -> InviterKeyFactory.isVoteItem(item.getSk()))
-            .map(item -> (Vote) item)
-            .filter(vote -> vote.getUserId().equals(userId))
-            .collect(Collectors.toList());
-
         // Idempotent re-vote: if the user has already voted for this exact option, return the
         // existing vote unchanged. Applies to both single- and multiple-choice polls.
         for (Vote existing : existingVotes) {
@@ -282,16 +270,13 @@ public class PollServiceImpl implements PollService {
             }
         }
 
-        if (!poll.isMultipleChoice() && !existingVotes.isEmpty()) {
-            // SINGLE CHOICE: replace existing vote (different option than the one requested,
-            // since idempotent case handled above).
-            Vote existingVote = existingVotes.get(0);
-            hangoutRepository.deleteVote(eventId, pollId, userId, existingVote.getOptionId());
-        }
+        // SINGLE CHOICE: the new vote replaces the existing one (different option than the one
+        // requested, since idempotent case handled above). Multiple choice keeps them.
+        List<Vote> replaced = poll.isMultipleChoice() ? List.of() : existingVotes;
 
-        // Create the new vote
+        // Save the vote, delete the replaced one and move the option counters in one transaction
         Vote newVote = new Vote(eventId, pollId, optionId, userId, request.getVoteType());
-        Vote savedVote = hangoutRepository.saveVote(newVote);
+        Vote savedVote = hangoutRepository.castVote(newVote, replaced);
 
         // Update pointer records with new vote data
         updatePointersWithPolls(eventId);
@@ -303,41 +288,26 @@ public class PollServiceImpl implements PollService {
     public void removeVote(String eventId, String pollId, String optionId, String userId) {
         logger.info("User {} removing vote from poll {}", userId, pollId);
 
-        // Get hangout and verify user can view it
-        HangoutDetailData hangoutData = hangoutRepository.getHangoutDetailData(eventId);
-        if (hangoutData.getHangout() == null) {
-            throw new EventNotFoundException("Event not found: " + eventId);
-        }
-
-        Hangout hangout = hangoutData.getHangout();
+        // Verify user can view the hangout
+        Hangout hangout = findHangoutForPolls(eventId);
         if (!authorizationService.canUserViewHangout(userId, hangout)) {
             throw new UnauthorizedException("Cannot modify votes in this event");
         }
 
-        // Get poll data to find user's existing votes
-        List<BaseItem> pollData = hangoutRepository.getSpecificPollData(eventId, pollId);
-
         // Find user's existing votes for this poll
-        List<Vote> existingVotes = pollData.stream()
-            .filter(item -> InviterKeyFactory.isVoteItem(item.getSk()))
-            .map(item -> (Vote) item)
-            .filter(vote -> vote.getUserId().equals(userId))
+        List<Vote> existingVotes = hangoutRepository.findUserVotes(eventId, pollId, userId);
+
+        // If optionId is specified, remove only that vote, otherwise remove all user votes
+        List<Vote> votesToRemove = optionId == null ? existingVotes : existingVotes.stream()
+            .filter(vote -> vote.getOptionId().equals(optionId))
             .collect(Collectors.toList());
 
-        if (existingVotes.isEmpty()) {
+        if (votesToRemove.isEmpty()) {
             logger.warn("User {} has no votes to remove from poll {}", userId, pollId);
             return; // No votes to remove
         }
 
-        // If optionId is specified, remove only that vote, otherwise remove all user votes
-        if (optionId != null) {
-            hangoutRepository.deleteVote(eventId, pollId, userId, optionId);
-        } else {
-            // Remove all votes for this user on this poll (for single-choice polls)
-            for (Vote vote : existingVotes) {
-                hangoutRepository.deleteVote(eventId, pollId, userId, vote.getOptionId());
-            }
-        }
+        hangoutRepository.retractVotes(votesToRemove);
 
         // Update pointer records with updated vote data
         updatePointersWithPolls(eventId);
@@ -505,12 +475,16 @@ public class PollServiceImpl implements PollService {
     // ============================================================================
 
     /**
-     * Update all pointer records with the current poll data from the canonical hangout.
+     * Queue a rebuild of all pointer records' poll data from the canonical hangout.
      * This method should be called after any poll/option/vote create/update/delete operation.
      *
-     * Uses optimistic locking with retry to handle concurrent pointer updates.
+     * The rebuild is debounced per hangout, so a burst of votes patches the pointers once.
      */
     private void updatePointersWithPolls(String hangoutId) {
+        pointerDenormalizer.schedule(hangoutId, "polls", () -> syncPointersWithPolls(hangoutId));
+    }
+
+    private void syncPointersWithPolls(String hangoutId) {
         // Get hangout to find associated groups
         Optional<Hangout> hangoutOpt = hangoutRepository.findHangoutById(hangoutId);
         if (hangoutOpt.isEmpty()) {
@@ -529,41 +503,44 @@ public class PollServiceImpl implements PollService {
         // Get current poll data from canonical record (polls, options, votes)
         List<BaseItem> allPollData = hangoutRepository.getAllPollData(hangoutId);
 
-        // Separate into typed lists
-        List<Poll> polls = allPollData.stream()
-            .filter(item -> InviterKeyFactory.isPollItem(item.getSk()))
-            .map(item -> (Poll) item)
-            .collect(Collectors.toList());
-
-        List<PollOption> pollOptions = allPollData.stream()
-            .filter(item -> InviterKeyFactory.isPollOption(item.getSk()))
-            .map(item -> (PollOption) item)
-            .collect(Collectors.toList());
-
-        List<Vote> votes = allPollData.stream()
-            .filter(item -> InviterKeyFactory.isVoteItem(item.getSk()))
-            .map(item -> (Vote) item)
-            .collect(Collectors.toList());
-
-        // Update each group's pointer with optimistic locking retry
-        for (String groupId : associatedGroups) {
-            pointerUpdateService.updatePointerWithRetry(groupId, hangoutId, pointer -> {
-                pointer.setPolls(new ArrayList<>(polls));
-                pointer.setPollOptions(new ArrayList<>(pollOptions));
-                pointer.setVotes(new ArrayList<>(votes));
-            }, "poll data");
+        // Separate into typed lists in one pass over the partition's poll items
+        List<Poll> polls = new ArrayList<>();
+        List<PollOption> pollOptions = new ArrayList<>();
+        List<Vote> votes = new ArrayList<>();
+        for (BaseItem item : allPollData) {
+            switch (SortKeyCodec.typeOf(item.getSk())) {
+                case POLL -> polls.add((Poll) item);
+                case POLL_OPTION -> pollOptions.add((PollOption) item);
+                case VOTE -> votes.add((Vote) item);
+                default -> { }
+            }
         }
 
+        // Overwrite just the poll fields on every group's pointer
+        pointerUpdateService.patchPointers(associatedGroups, hangoutId,
+            HangoutPointerPatch.pollData(polls, pollOptions, votes), "poll data");
+
         // Update group timestamps for ETag invalidation
         groupTimestampService.updateGroupTimestamps(associatedGroups);
     }
 
+    /**
+     * Hangout metadata for authorization, read at most once per request. Votes only need
+     * the hangout item, not the whole partition.
+     */
+    private Hangout findHangoutForPolls(String eventId) {
+        Optional<Hangout> hangout = RequestReadCache.getOrLoad("findHangoutById",
+            InviterKeyFactory.getEventPk(eventId), () -> hangoutRepository.findHangoutById(eventId));
+        return hangout.orElseThrow(() -> new EventNotFoundException("Event not found: " + eventId));
+    }
+
     // ============================================================================
-    // DATA TRANSFORMATION METHODS (Runtime Vote Count Calculation)
+    // DATA TRANSFORMATION METHODS
     // ============================================================================
 
-    private List<PollWithOptionsDTO> transformToPollWithOptionsDTO(List<BaseItem> pollData, String userId) {
-        // Separate polls, options, and votes
+    private List<PollWithOptionsDTO> transformToPollWithOptionsDTO(String eventId, List<BaseItem> pollData,
+                                                                   String userId) {
+        // Separate polls and options
         List<Poll> polls = pollData.stream()
             .filter(item -> InviterKeyFactory.isPollItem(item.getSk()))
             .map(item -> (Poll) item)
@@ -574,42 +551,39 @@ public class PollServiceImpl implements PollService {
             .map(item -> (PollOption) item)
             .collect(Collectors.groupingBy(PollOption::getPollId));
 
-        Map<String, List<Vote>> votesByPoll = pollData.stream()
-            .filter(item -> InviterKeyFactory.isVoteItem(item.getSk()))
-            .map(item -> (Vote) item)
-            .collect(Collectors.groupingBy(Vote::getPollId));
-
         ClientInfo clientInfo = currentClientInfo();
 
+        // The user's votes on every option, in one batched lookup rather than a query per poll
+        List<PollOption> allOptions = optionsByPoll.values().stream()
+            .flatMap(List::stream)
+            .collect(Collectors.toList());
+        Set<String> votedOptionKeys = allOptions.isEmpty() ? Set.of()
+            : hangoutRepository.findUserVotesOnOptions(eventId, userId, allOptions).stream()
+                .map(vote -> vote.getPollId() + "#" + vote.getOptionId())
+                .collect(Collectors.toSet());
+
         // Build hierarchical DTOs
         return polls.stream()
             .map(poll -> {
                 List<PollOption> options = optionsByPoll.getOrDefault(poll.getPollId(), List.of());
-                List<Vote> allVotes = votesByPoll.getOrDefault(poll.getPollId(), List.of());
-
-                // Calculate vote counts by option at runtime
-                Map<String, Long> voteCountsByOption = allVotes.stream()
-                    .collect(Collectors.groupingBy(Vote::getOptionId, Collectors.counting()));
+                Map<String, Long> unseededCounts = countUnseededOptions(eventId, poll.getPollId(), options);
 
                 List<PollOptionDTO> optionDTOs = options.stream()
                     .map(option -> {
-                        // Runtime calculation - no denormalized count field needed
-                        int voteCount = voteCountsByOption.getOrDefault(option.getOptionId(), 0L).intValue();
-
-                        boolean userVoted = allVotes.stream()
-                            .anyMatch(vote -> vote.getOptionId().equals(option.getOptionId())
-                                           && vote.getUserId().equals(userId));
-
+                        int voteCount = option.hasVoteCount()
+                            ? option.getVoteCount().intValue()
+                            : unseededCounts.getOrDefault(option.getOptionId(), 0L).intValue();
                         PollOptionDTO dto = new PollOptionDTO(option.getOptionId(), option.getText(),
-                                               voteCount, userVoted,
+                                               voteCount,
+                                               votedOptionKeys.contains(poll.getPollId() + "#" + option.getOptionId()),
                                                option.getCreatedBy(), option.getStructuredValue());
                         dto.setTimeInput(option.getTimeInput());
                         return dto;
                     })
                     .collect(Collectors.toList());
 
-                // Total votes = sum of all votes for this poll
-                int totalVotes = allVotes.size();
+                // Total votes = sum of the option counts for this poll
+                int totalVotes = optionDTOs.stream().mapToInt(PollOptionDTO::getVoteCount).sum();
 
                 PollWithOptionsDTO dto = new PollWithOptionsDTO(poll, optionDTOs, totalVotes);
                 dto.setViewable(computeViewable(poll, clientInfo));
@@ -619,6 +593,21 @@ public class PollServiceImpl implements PollService {
             .collect(Collectors.toList());
     }
 
+    /**
+     * Options created before vote counting have no seeded counter yet; count their votes
+     * without writing anything. The next vote on such an option seeds its counter.
+     */
+    private Map<String, Long> countUnseededOptions(String eventId, String pollId, List<PollOption> options) {
+        Set<String> unseeded = options.stream()
+            .filter(option -> !option.hasVoteCount())
+            .map(PollOption::getOptionId)
+            .collect(Collectors.toSet());
+        if (unseeded.isEmpty()) {
+            return Map.of();
+        }
+        return hangoutRepository.countVotes(eventId, pollId, unseeded);
+    }
+
     /**
      * {@code viewable} is currently a pass-through stub that always returns {@code true}.
      * Future iterations will gate unknown attributeTypes behind a client version.
@@ -685,6 +674,14 @@ public class PollServiceImpl implements PollService {
         boolean includeEmbeddedVotes =
             !(clientInfo != null && clientInfo.isIosVersionInRange("2.1.0", "2.2.0"));
 
+        // Resolve voter names in one cached batch lookup
+        Map<UUID, UserSummaryDTO> voters = includeEmbeddedVotes
+            ? userService.getUserSummaries(votesByOption.values().stream()
+                .flatMap(List::stream)
+                .map(vote -> UUID.fromString(vote.getUserId()))
+                .toList())
+            : Map.of();
+
         // Build detailed option DTOs with vote details
         List<PollOptionDetailDTO> optionDTOs = options.stream()
             .map(option -> {
@@ -696,23 +693,27 @@ public class PollServiceImpl implements PollService {
                     ? optionVotes.stream()
                         .map(vote -> {
                             VoteDTO dto = new VoteDTO(vote);
-                            userService.getUserSummary(UUID.fromString(vote.getUserId()))
-                                .ifPresent(u -> dto.setDisplayName(u.getDisplayName()));
+                            UserSummaryDTO voter = voters.get(UUID.fromString(vote.getUserId()));
+                            if (voter != null) {
+                                dto.setDisplayName(voter.getDisplayName());
+                            }
                             return dto;
                         })
                         .collect(Collectors.toList())
                     : List.of();
 
-                // Runtime calculation - count the actual votes
-                int voteCount = optionVotes.size();
+                // The counter is what every other view shows; only uncounted options fall back to their votes
+                int voteCount = option.hasVoteCount()
+                    ? option.getVoteCount().intValue()
+                    : optionVotes.size();
 
                 return new PollOptionDetailDTO(option.getOptionId(), option.getText(),
                                              voteCount, userVoted, voteDTOs);
             })
             .collect(Collectors.toList());
 
-        // Total votes = total count of all vote records
-        int totalVotes = votesByOption.values().stream().mapToInt(List::size).sum();
+        // Total votes = sum of the option counts for this poll
+        int totalVotes = optionDTOs.stream().mapToInt(PollOptionDetailDTO::getVoteCount).sum();
 
         return new PollDetailDTO(poll, optionDTOs, totalVotes);
     }
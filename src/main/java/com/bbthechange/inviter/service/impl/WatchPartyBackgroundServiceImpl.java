@@ -12,13 +12,18 @@ import com.bbthechange.inviter.util.InviterKeyFactory;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAdjusters;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -33,6 +38,7 @@ public class WatchPartyBackgroundServiceImpl implements WatchPartyBackgroundServ
 
     private static final Logger logger = LoggerFactory.getLogger(WatchPartyBackgroundServiceImpl.class);
     private static final String TVMAZE_SOURCE = "TVMAZE";
+    private static final int MAX_SERIES_ATTEMPTS = 3;
 
     private final EventSeriesRepository eventSeriesRepository;
     private final HangoutRepository hangoutRepository;
@@ -42,6 +48,7 @@ public class WatchPartyBackgroundServiceImpl implements WatchPartyBackgroundServ
     private final NotificationService notificationService;
     private final MeterRegistry meterRegistry;
     private final PointerUpdateService pointerUpdateService;
+    private final Executor watchPartyExecutor;
 
     public WatchPartyBackgroundServiceImpl(
             EventSeriesRepository eventSeriesRepository,
@@ -51,7 +58,8 @@ public class WatchPartyBackgroundServiceImpl implements WatchPartyBackgroundServ
             GroupTimestampService groupTimestampService,
             NotificationService notificationService,
             MeterRegistry meterRegistry,
-            PointerUpdateService pointerUpdateService) {
+            PointerUpdateService pointerUpdateService,
+            @Qualifier("watchPartyExecutor") Executor watchPartyExecutor) {
         this.eventSeriesRepository = eventSeriesRepository;
         this.hangoutRepository = hangoutRepository;
         this.groupRepository = groupRepository;
@@ -60,12 +68,14 @@ public class WatchPartyBackgroundServiceImpl implements WatchPartyBackgroundServ
         this.notificationService = notificationService;
         this.meterRegistry = meterRegistry;
         this.pointerUpdateService = pointerUpdateService;
+        this.watchPartyExecutor = watchPartyExecutor;
     }
 
     @Override
     public void processNewEpisode(NewEpisodeMessage message) {
         logger.info("Processing new episode: seasonKey={}, episodeId={}",
                 message.getSeasonKey(), message.getEpisode().getEpisodeId());
+        long startNanos = System.nanoTime();
 
         try {
             // Parse seasonKey to get showId
@@ -87,39 +97,22 @@ public class WatchPartyBackgroundServiceImpl implements WatchPartyBackgroundServ
             }
 
             EpisodeData episode = message.getEpisode();
-            int hangoutsCreated = 0;
-            Set<String> groupsToUpdate = new HashSet<>();
-
-            for (EventSeries series : seriesList) {
-                // Check if episode was deleted by user
-                if (series.getDeletedEpisodeIds() != null &&
-                    series.getDeletedEpisodeIds().contains(episode.getEpisodeId().toString())) {
-                    logger.debug("Episode {} was deleted from series {}, skipping",
-                            episode.getEpisodeId(), series.getSeriesId());
-                    continue;
-                }
-
-                // Create hangout for this series
-                Hangout hangout = createHangoutFromEpisode(series, episode);
-                HangoutPointer pointer = HangoutPointerFactory.fromHangout(hangout, series.getGroupId());
 
-                // Save records
-                hangoutRepository.save(hangout);
-                groupRepository.saveHangoutPointer(pointer);
-
-                // Add hangout to series
-                series.addHangout(hangout.getHangoutId());
-                updateSeriesTimestamps(series, hangout);
-                eventSeriesRepository.save(series);
-
-                // Update SeriesPointer.parts with the new HangoutPointer
-                updateSeriesPointerWithNewPart(series, pointer);
+            // Each series belongs to one group and is independent of the others, so process them
+            // in parallel. A failing series is retried and counted on its own; it doesn't stop the rest.
+            List<CompletableFuture<SeriesOutcome>> futures = seriesList.stream()
+                    .map(series -> CompletableFuture.supplyAsync(
+                            () -> processSeriesWithRetry(series, episode), watchPartyExecutor))
+                    .collect(Collectors.toList());
 
-                hangoutsCreated++;
-                groupsToUpdate.add(series.getGroupId());
-
-                // Notify interested users
-                notifyInterestedUsers(series, "New episode: " + episode.getTitle());
+            Map<SeriesOutcome, Integer> outcomeCounts = new EnumMap<>(SeriesOutcome.class);
+            Set<String> groupsToUpdate = new HashSet<>();
+            for (int i = 0; i < futures.size(); i++) {
+                SeriesOutcome outcome = futures.get(i).join();
+                outcomeCounts.merge(outcome, 1, Integer::sum);
+                if (outcome == SeriesOutcome.CREATED) {
+                    groupsToUpdate.add(seriesList.get(i).getGroupId());
+                }
             }
 
             // Update group timestamps
@@ -127,8 +120,15 @@ public class WatchPartyBackgroundServiceImpl implements WatchPartyBackgroundServ
                 groupTimestampService.updateGroupTimestamps(new ArrayList<>(groupsToUpdate));
             }
 
-            logger.info("Created {} hangouts for new episode {}", hangoutsCreated, episode.getEpisodeId());
-            meterRegistry.counter("watchparty_background_total", "action", "new_episode", "status", "success").increment();
+            int created = outcomeCounts.getOrDefault(SeriesOutcome.CREATED, 0);
+            int failed = outcomeCounts.getOrDefault(SeriesOutcome.FAILED, 0);
+            recordEpisodeThroughput(seriesList.size(), outcomeCounts, startNanos);
+
+            logger.info("Created {} hangouts for new episode {} ({} series, {} skipped, {} failed)",
+                    created, episode.getEpisodeId(), seriesList.size(),
+                    outcomeCounts.getOrDefault(SeriesOutcome.SKIPPED, 0), failed);
+            String status = failed > 0 ? "partial_failure" : "success";
+            meterRegistry.counter("watchparty_background_total", "action", "new_episode", "status", status).increment();
 
         } catch (Exception e) {
             logger.error("Error processing new episode: {}", message, e);
@@ -304,6 +304,98 @@ public class WatchPartyBackgroundServiceImpl implements WatchPartyBackgroundServ
     // HELPER METHODS
     // ============================================================================
 
+    /**
+     * Run {@link #processSeriesForEpisode} up to {@value #MAX_SERIES_ATTEMPTS} times. Later
+     * attempts reload the series, since a failed attempt may have left the in-memory copy
+     * modified but unsaved.
+     */
+    private SeriesOutcome processSeriesWithRetry(EventSeries series, EpisodeData episode) {
+        EventSeries current = series;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return processSeriesForEpisode(current, episode);
+            } catch (Exception e) {
+                if (attempt >= MAX_SERIES_ATTEMPTS) {
+                    logger.error("Failed to add episode {} to series {} after {} attempts",
+                            episode.getEpisodeId(), series.getSeriesId(), attempt, e);
+                    return SeriesOutcome.FAILED;
+                }
+                logger.warn("Attempt {} to add episode {} to series {} failed: {}",
+                        attempt, episode.getEpisodeId(), series.getSeriesId(), e.getMessage());
+                Optional<EventSeries> reloaded = eventSeriesRepository.findById(series.getSeriesId());
+                if (reloaded.isEmpty()) {
+                    logger.info("Series {} was deleted while adding episode {}", series.getSeriesId(), episode.getEpisodeId());
+                    return SeriesOutcome.SKIPPED;
+                }
+                current = reloaded.get();
+            }
+        }
+    }
+
+    /**
+     * Create the episode's hangout and pointer for one series, add it to the series and its
+     * SeriesPointer, and notify interested users.
+     *
+     * Safe to repeat: the hangout ID is derived from the series and episode, the hangout is
+     * only created if absent, and a series that already lists the hangout is skipped.
+     */
+    private SeriesOutcome processSeriesForEpisode(EventSeries series, EpisodeData episode) {
+        // Check if episode was deleted by user
+        if (series.getDeletedEpisodeIds() != null &&
+            series.getDeletedEpisodeIds().contains(episode.getEpisodeId().toString())) {
+            logger.debug("Episode {} was deleted from series {}, skipping",
+                    episode.getEpisodeId(), series.getSeriesId());
+            return SeriesOutcome.SKIPPED;
+        }
+
+        String hangoutId = episodeHangoutId(series.getSeriesId(), episode.getEpisodeId());
+        if (series.getHangoutIds() != null && series.getHangoutIds().contains(hangoutId)) {
+            logger.debug("Episode {} already added to series {}, skipping", episode.getEpisodeId(), series.getSeriesId());
+            return SeriesOutcome.SKIPPED;
+        }
+
+        // Create hangout and its group pointer together
+        Hangout hangout = createHangoutFromEpisode(series, episode);
+        HangoutPointer pointer = HangoutPointerFactory.fromHangout(hangout, series.getGroupId());
+        if (!hangoutRepository.createHangoutIfAbsent(hangout, pointer)) {
+            logger.info("Hangout {} for episode {} already exists, finishing series {} update",
+                    hangoutId, episode.getEpisodeId(), series.getSeriesId());
+        }
+
+        // Add hangout to series
+        series.addHangout(hangoutId);
+        updateSeriesTimestamps(series, hangout);
+        eventSeriesRepository.save(series);
+
+        // Update SeriesPointer.parts with the new HangoutPointer
+        updateSeriesPointerWithNewPart(series, pointer);
+
+        // Notify interested users
+        notifyInterestedUsers(series, "New episode: " + episode.getTitle());
+        return SeriesOutcome.CREATED;
+    }
+
+    /**
+     * Hangout ID for an episode in a series, the same on every delivery of the message.
+     */
+    static String episodeHangoutId(String seriesId, Integer episodeId) {
+        return UUID.nameUUIDFromBytes(("watchparty:" + seriesId + ":" + episodeId)
+                .getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private void recordEpisodeThroughput(int seriesCount, Map<SeriesOutcome, Integer> outcomeCounts, long startNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        meterRegistry.timer("watchparty_new_episode_duration").record(elapsedNanos, TimeUnit.NANOSECONDS);
+        meterRegistry.summary("watchparty_new_episode_series").record(seriesCount);
+        outcomeCounts.forEach((outcome, count) -> meterRegistry.counter("watchparty_new_episode_series_total",
+                "status", outcome.name().toLowerCase()).increment(count));
+        logger.info("Processed {} series in {} ms ({} series/s)", seriesCount,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                String.format("%.1f", seriesCount * 1_000_000_000.0 / Math.max(elapsedNanos, 1)));
+    }
+
+    private enum SeriesOutcome { CREATED, SKIPPED, FAILED }
+
     private Integer parseShowIdFromSeasonKey(String seasonKey) {
         // Format: "TVMAZE#SHOW#{showId}|SEASON#{seasonNumber}"
         if (seasonKey == null) return null;
@@ -325,7 +417,7 @@ public class WatchPartyBackgroundServiceImpl implements WatchPartyBackgroundServ
 
     private Hangout createHangoutFromEpisode(EventSeries series, EpisodeData episode) {
         Hangout hangout = new Hangout();
-        hangout.setHangoutId(UUID.randomUUID().toString());
+        hangout.setHangoutId(episodeHangoutId(series.getSeriesId(), episode.getEpisodeId()));
         hangout.setTitle(episode.getTitle());
         hangout.setVisibility(EventVisibility.INVITE_ONLY);
         hangout.setSeriesId(series.getSeriesId());
@@ -0,0 +1,125 @@
+package com.bbthechange.inviter.util;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Request-scoped count of DynamoDB calls, used to spot N+1 access.
+ *
+ * While a ledger is open on the current thread, every call sent through the DynamoDB client
+ * is recorded against it (see {@code DynamoCallCountingInterceptor}), tagged with the
+ * repository method running at the time and with the call's key shape: the table, index and
+ * keys with IDs masked out. Many calls with one shape in a single request is the N+1 pattern.
+ *
+ * Ledgers are opened by {@code DynamoCallBudgetInterceptor} and follow fanned-out tasks
+ * through {@code ContextPropagatingExecutorService}, so the ledger itself is thread-safe.
+ */
+public final class DynamoCallLedger {
+
+    private static final ThreadLocal<DynamoCallLedger> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<String> CURRENT_OPERATION = new ThreadLocal<>();
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final Map<String, AtomicInteger> callsByOperation = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> callsByKeyShape = new ConcurrentHashMap<>();
+
+    private DynamoCallLedger() {
+    }
+
+    /**
+     * Open a ledger on the current thread.
+     *
+     * @return The new ledger, or null if one was already open
+     */
+    public static DynamoCallLedger begin() {
+        if (CURRENT.get() != null) {
+            return null;
+        }
+        DynamoCallLedger ledger = new DynamoCallLedger();
+        CURRENT.set(ledger);
+        return ledger;
+    }
+
+    /**
+     * Close the current thread's ledger.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static DynamoCallLedger current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Make {@code ledger} current on this thread, for tasks fanned out from a request.
+     *
+     * @return The ledger that was current before, to hand back to this method afterwards
+     */
+    public static DynamoCallLedger attach(DynamoCallLedger ledger) {
+        DynamoCallLedger previous = CURRENT.get();
+        if (ledger == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(ledger);
+        }
+        return previous;
+    }
+
+    /**
+     * Tag calls made on this thread with a repository method until {@link #exitOperation}.
+     *
+     * @return The enclosing operation, to restore on exit
+     */
+    public static String enterOperation(String operation) {
+        String previous = CURRENT_OPERATION.get();
+        CURRENT_OPERATION.set(operation);
+        return previous;
+    }
+
+    public static void exitOperation(String previous) {
+        if (previous == null) {
+            CURRENT_OPERATION.remove();
+        } else {
+            CURRENT_OPERATION.set(previous);
+        }
+    }
+
+    public static String currentOperation() {
+        return CURRENT_OPERATION.get();
+    }
+
+    /**
+     * Record one DynamoDB call.
+     *
+     * @param operation The repository method, or the SDK operation for untagged calls
+     * @param keyShape Table, index and masked keys of the call
+     */
+    public void record(String operation, String keyShape) {
+        calls.incrementAndGet();
+        callsByOperation.computeIfAbsent(operation, k -> new AtomicInteger()).incrementAndGet();
+        callsByKeyShape.computeIfAbsent(operation + " " + keyShape, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    public int calls() {
+        return calls.get();
+    }
+
+    public Map<String, Integer> callsByOperation() {
+        return snapshot(callsByOperation);
+    }
+
+    /**
+     * Calls per operation and key shape, e.g. {@code "findMembership GetItem InviterTable GROUP#* / USER#*" -> 12}.
+     */
+    public Map<String, Integer> callsByKeyShape() {
+        return snapshot(callsByKeyShape);
+    }
+
+    private static Map<String, Integer> snapshot(Map<String, AtomicInteger> counts) {
+        Map<String, Integer> copy = new ConcurrentHashMap<>();
+        counts.forEach((key, count) -> copy.put(key, count.get()));
+        return copy;
+    }
+}
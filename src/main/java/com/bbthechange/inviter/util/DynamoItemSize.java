@@ -0,0 +1,82 @@
+package com.bbthechange.inviter.util;
+
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Estimates the stored size of DynamoDB attributes using the published item size rules
+ * (UTF-8 names and strings, roughly one byte per two digits for numbers, 3 bytes of
+ * overhead per list or map plus one per element).
+ *
+ * Used for write-size metrics; it is not exact to the byte.
+ */
+public final class DynamoItemSize {
+
+    private DynamoItemSize() {
+    }
+
+    /**
+     * Size of a set of attributes, names included.
+     */
+    public static long of(Map<String, AttributeValue> attributes) {
+        long size = 0;
+        for (Map.Entry<String, AttributeValue> entry : attributes.entrySet()) {
+            size += utf8(entry.getKey()) + of(entry.getValue());
+        }
+        return size;
+    }
+
+    public static long of(AttributeValue value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value.s() != null) {
+            return utf8(value.s());
+        }
+        if (value.n() != null) {
+            return numberSize(value.n());
+        }
+        if (value.b() != null) {
+            return value.b().asByteArray().length;
+        }
+        if (value.bool() != null || value.nul() != null) {
+            return 1;
+        }
+        if (value.hasL()) {
+            long size = 3;
+            for (AttributeValue element : value.l()) {
+                size += 1 + of(element);
+            }
+            return size;
+        }
+        if (value.hasM()) {
+            long size = 3;
+            for (Map.Entry<String, AttributeValue> entry : value.m().entrySet()) {
+                size += 1 + utf8(entry.getKey()) + of(entry.getValue());
+            }
+            return size;
+        }
+        if (value.hasSs()) {
+            return value.ss().stream().mapToLong(DynamoItemSize::utf8).sum();
+        }
+        if (value.hasNs()) {
+            return value.ns().stream().mapToLong(DynamoItemSize::numberSize).sum();
+        }
+        if (value.hasBs()) {
+            return value.bs().stream().map(SdkBytes::asByteArray).mapToLong(bytes -> bytes.length).sum();
+        }
+        return 0;
+    }
+
+    private static long utf8(String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static long numberSize(String number) {
+        long digits = number.chars().filter(Character::isDigit).count();
+        return (digits + 1) / 2 + 1;
+    }
+}
@@ -4,6 +4,7 @@ import com.bbthechange.inviter.dto.*;
 import com.bbthechange.inviter.model.*;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -20,7 +21,7 @@ public class HangoutDataTransformer {
 
     /**
      * Transform raw poll data into nested PollWithOptionsDTO objects.
-     * Calculates vote counts at runtime and includes user-specific voting status.
+     * Takes vote counts from the option counters and includes user-specific voting status.
      *
      * Backward-compatible overload — emits the embedded per-option votes list.
      */
@@ -45,57 +46,63 @@ public class HangoutDataTransformer {
             List<Vote> allVotes,
             String requestingUserId,
             boolean includeEmbeddedVotes) {
+        if (polls.isEmpty()) {
+            return new ArrayList<>();
+        }
+        // Only keep per-option vote lists when they will be rendered
+        return transformPollData(polls, allOptions,
+                PollTally.of(allVotes, requestingUserId, includeEmbeddedVotes), includeEmbeddedVotes);
+    }
 
-        // Group options and votes by poll ID
-        Map<String, List<PollOption>> optionsByPoll = allOptions.stream()
-                .collect(Collectors.groupingBy(PollOption::getPollId));
-
-        Map<String, List<Vote>> votesByPoll = allVotes.stream()
-                .collect(Collectors.groupingBy(Vote::getPollId));
-
-        // Build hierarchical DTOs with runtime vote counting
-        return polls.stream()
-                .map(poll -> {
-                    List<PollOption> options = optionsByPoll.getOrDefault(poll.getPollId(), List.of());
-                    List<Vote> pollVotes = votesByPoll.getOrDefault(poll.getPollId(), List.of());
-
-                    // Group votes by option for efficient lookup
-                    Map<String, List<Vote>> votesByOption = pollVotes.stream()
-                            .collect(Collectors.groupingBy(Vote::getOptionId));
-
-                    List<PollOptionDTO> optionDTOs = options.stream()
-                            .map(option -> {
-                                List<Vote> optionVotes = votesByOption.getOrDefault(option.getOptionId(), List.of());
-
-                                // Runtime calculation - no denormalized count field needed
-                                int voteCount = optionVotes.size();
-
-                                boolean userVoted = optionVotes.stream()
-                                        .anyMatch(vote -> vote.getUserId().equals(requestingUserId));
-
-                                PollOptionDTO optionDTO = new PollOptionDTO(option.getOptionId(), option.getText(),
-                                        voteCount, userVoted,
-                                        option.getCreatedBy(), option.getStructuredValue());
-
-                                if (includeEmbeddedVotes) {
-                                    // Attach voter list (displayName enriched later by service layer)
-                                    List<VoteDTO> voteDTOs = optionVotes.stream()
-                                            .map(VoteDTO::new)
-                                            .collect(Collectors.toList());
-                                    optionDTO.setVotes(voteDTOs);
-                                }
-                                optionDTO.setTimeInput(option.getTimeInput());
+    private static List<PollWithOptionsDTO> transformPollData(
+            List<Poll> polls,
+            List<PollOption> allOptions,
+            PollTally tally,
+            boolean includeEmbeddedVotes) {
 
-                                return optionDTO;
-                            })
-                            .collect(Collectors.toList());
+        // Group options by poll ID
+        Map<String, List<PollOption>> optionsByPoll = new HashMap<>();
+        for (PollOption option : allOptions) {
+            optionsByPoll.computeIfAbsent(option.getPollId(), id -> new ArrayList<>()).add(option);
+        }
 
-                    // Total votes = sum of all votes for this poll
-                    int totalVotes = pollVotes.size();
+        // Build hierarchical DTOs
+        List<PollWithOptionsDTO> result = new ArrayList<>(polls.size());
+        for (Poll poll : polls) {
+            String pollId = poll.getPollId();
+            List<PollOption> options = optionsByPoll.getOrDefault(pollId, List.of());
+
+            List<PollOptionDTO> optionDTOs = new ArrayList<>(options.size());
+            int totalVotes = 0;
+            for (PollOption option : options) {
+                String optionId = option.getOptionId();
+
+                // Same counter the poll endpoints show; options created before counting fall back to their votes
+                int voteCount = option.hasVoteCount()
+                        ? option.getVoteCount().intValue()
+                        : tally.voteCount(pollId, optionId);
+                totalVotes += voteCount;
+                PollOptionDTO optionDTO = new PollOptionDTO(optionId, option.getText(),
+                        voteCount, tally.userVoted(pollId, optionId),
+                        option.getCreatedBy(), option.getStructuredValue());
+
+                if (includeEmbeddedVotes) {
+                    // Attach voter list (displayName enriched later by service layer)
+                    List<Vote> optionVotes = tally.votes(pollId, optionId);
+                    List<VoteDTO> voteDTOs = new ArrayList<>(optionVotes.size());
+                    for (Vote vote : optionVotes) {
+                        voteDTOs.add(new VoteDTO(vote));
+                    }
+                    optionDTO.setVotes(voteDTOs);
+                }
+                optionDTO.setTimeInput(option.getTimeInput());
+                optionDTOs.add(optionDTO);
+            }
 
-                    return new PollWithOptionsDTO(poll, optionDTOs, totalVotes);
-                })
-                .collect(Collectors.toList());
+            // Total votes = sum of the option counts for this poll
+            result.add(new PollWithOptionsDTO(poll, optionDTOs, totalVotes));
+        }
+        return result;
     }
 
     /**
@@ -0,0 +1,114 @@
+package com.bbthechange.inviter.util;
+
+import com.bbthechange.inviter.model.Car;
+import com.bbthechange.inviter.model.CarRider;
+import com.bbthechange.inviter.model.HangoutPointer;
+import com.bbthechange.inviter.model.InterestLevel;
+import com.bbthechange.inviter.model.MomentumCategory;
+import com.bbthechange.inviter.model.NeedsRide;
+import com.bbthechange.inviter.model.Poll;
+import com.bbthechange.inviter.model.PollOption;
+import com.bbthechange.inviter.model.Vote;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * A typed set of HangoutPointer fields to overwrite without reading the pointer first.
+ *
+ * The repository turns a patch into a single UpdateItem that SETs only the named attributes
+ * (REMOVE for null values), so a vote or RSVP no longer rewrites the pointer's other
+ * denormalized collections. Patches for different fields can be combined with {@link #and}.
+ *
+ * <pre>
+ * pointerUpdateService.patchPointers(groupIds, hangoutId,
+ *     HangoutPointerPatch.pollData(polls, options, votes), "poll data");
+ * </pre>
+ */
+public final class HangoutPointerPatch {
+
+    // Attribute name -> setter, in the order they were added
+    private final Map<String, Consumer<HangoutPointer>> setters;
+
+    private HangoutPointerPatch(Map<String, Consumer<HangoutPointer>> setters) {
+        this.setters = Collections.unmodifiableMap(setters);
+    }
+
+    public static HangoutPointerPatch pollData(List<Poll> polls, List<PollOption> pollOptions, List<Vote> votes) {
+        List<Poll> pollsCopy = copy(polls);
+        List<PollOption> optionsCopy = copy(pollOptions);
+        List<Vote> votesCopy = copy(votes);
+        Map<String, Consumer<HangoutPointer>> setters = new LinkedHashMap<>();
+        setters.put("polls", p -> p.setPolls(copy(pollsCopy)));
+        setters.put("pollOptions", p -> p.setPollOptions(copy(optionsCopy)));
+        setters.put("votes", p -> p.setVotes(copy(votesCopy)));
+        return new HangoutPointerPatch(setters);
+    }
+
+    public static HangoutPointerPatch carpoolData(List<Car> cars, List<CarRider> carRiders, List<NeedsRide> needsRide) {
+        List<Car> carsCopy = copy(cars);
+        List<CarRider> ridersCopy = copy(carRiders);
+        List<NeedsRide> needsRideCopy = copy(needsRide);
+        Map<String, Consumer<HangoutPointer>> setters = new LinkedHashMap<>();
+        setters.put("cars", p -> p.setCars(copy(carsCopy)));
+        setters.put("carRiders", p -> p.setCarRiders(copy(ridersCopy)));
+        setters.put("needsRide", p -> p.setNeedsRide(copy(needsRideCopy)));
+        return new HangoutPointerPatch(setters);
+    }
+
+    public static HangoutPointerPatch interestLevels(List<InterestLevel> interestLevels) {
+        List<InterestLevel> interestCopy = copy(interestLevels);
+        Map<String, Consumer<HangoutPointer>> setters = new LinkedHashMap<>();
+        setters.put("interestLevels", p -> p.setInterestLevels(copy(interestCopy)));
+        return new HangoutPointerPatch(setters);
+    }
+
+    public static HangoutPointerPatch momentum(MomentumCategory category, Integer score, Long confirmedAt,
+                                               String confirmedBy, String suggestedBy) {
+        Map<String, Consumer<HangoutPointer>> setters = new LinkedHashMap<>();
+        setters.put("momentumCategory", p -> p.setMomentumCategory(category));
+        setters.put("momentumScore", p -> p.setMomentumScore(score));
+        setters.put("confirmedAt", p -> p.setConfirmedAt(confirmedAt));
+        setters.put("confirmedBy", p -> p.setConfirmedBy(confirmedBy));
+        setters.put("suggestedBy", p -> p.setSuggestedBy(suggestedBy));
+        return new HangoutPointerPatch(setters);
+    }
+
+    /**
+     * A patch that writes both this patch's fields and {@code other}'s; {@code other} wins on overlap.
+     */
+    public HangoutPointerPatch and(HangoutPointerPatch other) {
+        Map<String, Consumer<HangoutPointer>> combined = new LinkedHashMap<>(setters);
+        combined.putAll(other.setters);
+        return new HangoutPointerPatch(combined);
+    }
+
+    /**
+     * DynamoDB attribute names this patch writes.
+     */
+    public Set<String> attributeNames() {
+        return setters.keySet();
+    }
+
+    /**
+     * Apply the patch to an in-memory pointer, e.g. to build the values for the update
+     * or to refresh a cached copy.
+     */
+    public void applyTo(HangoutPointer pointer) {
+        setters.values().forEach(setter -> setter.accept(pointer));
+    }
+
+    @Override
+    public String toString() {
+        return "HangoutPointerPatch" + setters.keySet();
+    }
+
+    private static <T> List<T> copy(List<T> list) {
+        return list == null ? null : new ArrayList<>(list);
+    }
+}
@@ -0,0 +1,303 @@
+package com.bbthechange.inviter.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * Sliding-window view of which partition keys consume the most DynamoDB capacity.
+ *
+ * The window is split into fixed buckets, each holding a space-saving top-K sketch, so
+ * memory stays bounded however many distinct keys are seen: a new key arriving at a full
+ * sketch replaces the smallest entry and inherits its count as error. Per-key figures are
+ * therefore upper bounds; the warning uses the guaranteed part (count minus error) so a
+ * churn of small keys can't trigger it.
+ *
+ * {@link #record} runs on every DynamoDB call, so nothing here takes a global lock. Each
+ * bucket's sketch is split into stripes by key hash, each with its own lock and its entries
+ * ordered by size, so finding the entry to replace is a log-time lookup rather than a scan.
+ * Stripes keep at least {@value #MIN_STRIPE_CAPACITY} entries so one stripe's heavy keys
+ * don't push each other out. Bucket totals are lock-free adders.
+ *
+ * A warning is logged when a single key's guaranteed share of the window's capacity
+ * exceeds {@code dynamodb.hotkeys.warn-share}, at most once per key per window, and only
+ * once the window has seen {@code dynamodb.hotkeys.min-window-units} in total.
+ */
+@Component
+public class HotPartitionTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(HotPartitionTracker.class);
+    private static final int BUCKETS = 6;
+    private static final int MAX_STRIPES = 16;
+    private static final int MIN_STRIPE_CAPACITY = 16;
+
+    private final Clock clock;
+    private final int stripes;
+    private final int stripeCapacity;
+    private final long bucketMillis;
+    private final double warnShare;
+    private final double minWindowUnits;
+    private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(BUCKETS);
+    // partition key -> when its last warning was logged
+    private final Map<String, Long> lastWarnedAt = new ConcurrentHashMap<>();
+
+    @Autowired
+    public HotPartitionTracker(@Value("${dynamodb.hotkeys.capacity:200}") int capacity,
+                               @Value("${dynamodb.hotkeys.window-seconds:60}") long windowSeconds,
+                               @Value("${dynamodb.hotkeys.warn-share:0.25}") double warnShare,
+                               @Value("${dynamodb.hotkeys.min-window-units:500}") double minWindowUnits) {
+        this(Clock.systemUTC(), capacity, windowSeconds, warnShare, minWindowUnits);
+    }
+
+    HotPartitionTracker(Clock clock, int capacity, long windowSeconds, double warnShare, double minWindowUnits) {
+        this.clock = clock;
+        this.stripes = Math.max(1, Math.min(MAX_STRIPES, capacity / MIN_STRIPE_CAPACITY));
+        this.stripeCapacity = Math.max(1, (capacity + stripes - 1) / stripes);
+        this.bucketMillis = Math.max(1, windowSeconds * 1000 / BUCKETS);
+        this.warnShare = warnShare;
+        this.minWindowUnits = minWindowUnits;
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, new Bucket(Long.MIN_VALUE, stripes));
+        }
+    }
+
+    /**
+     * Attribute consumed capacity to a partition key.
+     *
+     * @param partitionKey The pk value, prefixed with the index name for GSI reads
+     * @param readUnits Read capacity units consumed
+     * @param writeUnits Write capacity units consumed
+     */
+    public void record(String partitionKey, double readUnits, double writeUnits) {
+        double units = readUnits + writeUnits;
+        if (partitionKey == null || units <= 0) {
+            return;
+        }
+
+        long now = clock.millis();
+        int stripe = stripeOf(partitionKey);
+        Bucket current = current(now);
+        double keyUnits = current.add(stripe, partitionKey, readUnits, writeUnits, stripeCapacity);
+        double totalUnits = current.totalUnits();
+        for (Bucket bucket : liveBuckets(now)) {
+            if (bucket != current) {
+                totalUnits += bucket.totalUnits();
+                keyUnits += bucket.guaranteedUnits(stripe, partitionKey);
+            }
+        }
+
+        if (totalUnits < minWindowUnits || keyUnits / totalUnits <= warnShare) {
+            return;
+        }
+        long window = bucketMillis * BUCKETS;
+        boolean[] warn = {false};
+        lastWarnedAt.compute(partitionKey, (key, warnedAt) -> {
+            if (warnedAt != null && now - warnedAt < window) {
+                return warnedAt;
+            }
+            warn[0] = true;
+            return now;
+        });
+        if (!warn[0]) {
+            return;
+        }
+        lastWarnedAt.values().removeIf(at -> now - at >= window);
+
+        logger.warn("Hot DynamoDB partition: key={}, share={}%, units={}, windowUnits={}",
+                partitionKey, Math.round(keyUnits / totalUnits * 100), Math.round(keyUnits), Math.round(totalUnits));
+    }
+
+    /**
+     * The heaviest partition keys over the current window, largest first.
+     */
+    public Snapshot snapshot(int limit) {
+        long now = clock.millis();
+        Map<String, Entry> merged = new HashMap<>();
+        double totalRead = 0;
+        double totalWrite = 0;
+
+        for (Bucket bucket : liveBuckets(now)) {
+            totalRead += bucket.readUnits.sum();
+            totalWrite += bucket.writeUnits.sum();
+            bucket.copyEntriesInto(merged);
+        }
+
+        double totalUnits = totalRead + totalWrite;
+        List<HotKey> keys = merged.entrySet().stream()
+                .sorted(Comparator.comparingDouble((Map.Entry<String, Entry> e) -> e.getValue().units()).reversed())
+                .limit(limit)
+                .map(e -> new HotKey(e.getKey(), e.getValue().readUnits, e.getValue().writeUnits,
+                        e.getValue().error, totalUnits > 0 ? e.getValue().units() / totalUnits : 0))
+                .toList();
+
+        return new Snapshot(bucketMillis * BUCKETS / 1000, totalRead, totalWrite, keys);
+    }
+
+    private int stripeOf(String partitionKey) {
+        return Math.floorMod(partitionKey.hashCode(), stripes);
+    }
+
+    private Bucket current(long now) {
+        long epoch = now / bucketMillis;
+        int index = (int) (epoch % BUCKETS);
+        while (true) {
+            Bucket bucket = buckets.get(index);
+            if (bucket.epoch == epoch) {
+                return bucket;
+            }
+            // First caller in a new bucket period swaps in a fresh bucket; the others use it
+            Bucket fresh = new Bucket(epoch, stripes);
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private List<Bucket> liveBuckets(long now) {
+        long oldest = now / bucketMillis - BUCKETS + 1;
+        List<Bucket> live = new ArrayList<>(BUCKETS);
+        for (int i = 0; i < BUCKETS; i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket.epoch >= oldest) {
+                live.add(bucket);
+            }
+        }
+        return live;
+    }
+
+    public record Snapshot(long windowSeconds, double readUnits, double writeUnits, List<HotKey> keys) {
+    }
+
+    /**
+     * @param errorUnits How much of the key's total may belong to keys it displaced from the sketch
+     * @param share Fraction of the window's capacity attributed to this key
+     */
+    public record HotKey(String partitionKey, double readUnits, double writeUnits, double errorUnits, double share) {
+    }
+
+    private static final class Bucket {
+        private final long epoch;
+        private final DoubleAdder readUnits = new DoubleAdder();
+        private final DoubleAdder writeUnits = new DoubleAdder();
+        private final Stripe[] stripes;
+
+        private Bucket(long epoch, int stripeCount) {
+            this.epoch = epoch;
+            this.stripes = new Stripe[stripeCount];
+            for (int i = 0; i < stripeCount; i++) {
+                stripes[i] = new Stripe();
+            }
+        }
+
+        private double totalUnits() {
+            return readUnits.sum() + writeUnits.sum();
+        }
+
+        /**
+         * Add capacity for a key and return the key's guaranteed units in this bucket.
+         */
+        private double add(int stripe, String key, double read, double write, int capacity) {
+            readUnits.add(read);
+            writeUnits.add(write);
+            return stripes[stripe].add(key, read, write, capacity);
+        }
+
+        private double guaranteedUnits(int stripe, String key) {
+            return stripes[stripe].guaranteedUnits(key);
+        }
+
+        private void copyEntriesInto(Map<String, Entry> merged) {
+            for (Stripe stripe : stripes) {
+                stripe.copyEntriesInto(merged);
+            }
+        }
+    }
+
+    /**
+     * One lock's worth of a bucket's space-saving sketch. Entries are indexed by key and kept
+     * ordered by size, so the smallest is found without scanning.
+     */
+    private static final class Stripe {
+        private final Map<String, Entry> entries = new HashMap<>();
+        private final TreeSet<Entry> bySize = new TreeSet<>(
+                Comparator.comparingDouble(Entry::units).thenComparingLong(entry -> entry.sequence));
+        private long nextSequence;
+
+        private synchronized double add(String key, double read, double write, int capacity) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                entry = new Entry(key, nextSequence++);
+                if (entries.size() >= capacity) {
+                    // Space-saving: the newcomer takes over the smallest counter
+                    Entry smallest = bySize.pollFirst();
+                    entries.remove(smallest.key);
+                    entry.error = smallest.units();
+                    entry.readUnits = smallest.readUnits;
+                    entry.writeUnits = smallest.writeUnits;
+                }
+                entries.put(key, entry);
+            } else {
+                // The set is ordered by size, so take the entry out while its size changes
+                bySize.remove(entry);
+            }
+            entry.readUnits += read;
+            entry.writeUnits += write;
+            bySize.add(entry);
+            return entry.units() - entry.error;
+        }
+
+        private synchronized double guaranteedUnits(String key) {
+            Entry entry = entries.get(key);
+            return entry == null ? 0 : entry.units() - entry.error;
+        }
+
+        private synchronized void copyEntriesInto(Map<String, Entry> merged) {
+            entries.forEach((key, entry) -> merged.merge(key, entry.copy(), Entry::plus));
+        }
+    }
+
+    private static final class Entry {
+        private final String key;
+        private final long sequence;
+        private double readUnits;
+        private double writeUnits;
+        private double error;
+
+        private Entry(String key, long sequence) {
+            this.key = key;
+            this.sequence = sequence;
+        }
+
+        private double units() {
+            return readUnits + writeUnits;
+        }
+
+        private Entry copy() {
+            Entry copy = new Entry(key, sequence);
+            copy.readUnits = readUnits;
+            copy.writeUnits = writeUnits;
+            copy.error = error;
+            return copy;
+        }
+
+        private Entry plus(Entry other) {
+            readUnits += other.readUnits;
+            writeUnits += other.writeUnits;
+            error += other.error;
+            return this;
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.bbthechange.inviter.util;
 
 import com.bbthechange.inviter.exception.InvalidKeyException;
-import java.util.regex.Pattern;
+import com.bbthechange.inviter.util.SortKeyCodec.Type;
 
 /**
  * Type-safe key factory for DynamoDB single-table design.
@@ -9,10 +9,6 @@ import java.util.regex.Pattern;
  */
 public final class InviterKeyFactory {
     private static final String DELIMITER = "#";
-    private static final Pattern UUID_PATTERN = Pattern.compile(
-        "[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}", 
-        Pattern.CASE_INSENSITIVE
-    );
     
     // Constants for magic strings
     public static final String GROUP_PREFIX = "GROUP";
@@ -47,6 +43,10 @@ public final class InviterKeyFactory {
     public static final String SHOW_PREFIX = "SHOW";
     public static final String SEASON_PREFIX = "SEASON";
 
+    // RegistryIndex partitions (gsi4pk)
+    public static final String REGISTRY_PREFIX = "REGISTRY";
+    public static final String WATCH_PARTY_REGISTRY = "WATCH_PARTY";
+
     // Status constants
     public static final String STATUS_ACTIVE = "ACTIVE";
     public static final String STATUS_ARCHIVED = "ARCHIVED";
@@ -65,10 +65,28 @@ public final class InviterKeyFactory {
         if (id == null || id.trim().isEmpty()) {
             throw new InvalidKeyException(type + " ID cannot be null or empty");
         }
-        if (!UUID_PATTERN.matcher(id).matches()) {
+        if (!isUuid(id)) {
             throw new InvalidKeyException("Invalid " + type + " ID format: " + id);
         }
     }
+
+    // 8-4-4-4-12 hex digits, either case; every key built here goes through this check
+    static boolean isUuid(String id) {
+        if (id.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = id.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F'))) {
+                return false;
+            }
+        }
+        return true;
+    }
     
     // Group Keys with validation
     public static String getGroupPk(String groupId) {
@@ -165,6 +183,40 @@ public final class InviterKeyFactory {
         return POLL_PREFIX + DELIMITER + pollId;
     }
     
+    /**
+     * Prefix of one user's vote sort keys on a poll, for finding their votes without reading everyone's.
+     */
+    public static String getUserVotePrefix(String pollId, String userId) {
+        validateId(pollId, "Poll");
+        validateId(userId, "User");
+        return String.join(DELIMITER, POLL_PREFIX, pollId, VOTE_PREFIX, userId) + DELIMITER;
+    }
+    
+    /**
+     * Prefix of every option sort key on a poll.
+     */
+    public static String getPollOptionPrefix(String pollId) {
+        validateId(pollId, "Poll");
+        return String.join(DELIMITER, POLL_PREFIX, pollId, OPTION_PREFIX) + DELIMITER;
+    }
+    
+    /**
+     * Prefix of every vote sort key on a poll.
+     */
+    public static String getPollVotePrefix(String pollId) {
+        validateId(pollId, "Poll");
+        return String.join(DELIMITER, POLL_PREFIX, pollId, VOTE_PREFIX) + DELIMITER;
+    }
+    
+    /**
+     * Sort key just past every vote on a poll and before the next poll ('$' sorts right after
+     * the '#' delimiter), for queries that skip over a poll's votes.
+     */
+    public static String getPollVotesEnd(String pollId) {
+        validateId(pollId, "Poll");
+        return String.join(DELIMITER, POLL_PREFIX, pollId, VOTE_PREFIX) + "$";
+    }
+    
     public static String getCarPrefix(String driverId) {
         validateId(driverId, "Driver");
         return CAR_PREFIX + DELIMITER + driverId;
@@ -181,69 +233,66 @@ public final class InviterKeyFactory {
         return GROUP_PREFIX + DELIMITER + groupId;
     }
     
-    // Helper methods for type-safe filtering
+    // Helper methods for type-safe filtering. Each parses the key; code classifying many
+    // items should decode once with SortKeyCodec and switch on the type instead.
     public static boolean isPollItem(String sortKey) {
-        return sortKey.startsWith(POLL_PREFIX + DELIMITER) && 
-               !sortKey.contains(DELIMITER + OPTION_PREFIX + DELIMITER) && 
-               !sortKey.contains(DELIMITER + VOTE_PREFIX + DELIMITER);
+        return SortKeyCodec.typeOf(sortKey) == Type.POLL;
     }
     
     public static boolean isPollOption(String sortKey) {
-        return sortKey.contains(DELIMITER + OPTION_PREFIX + DELIMITER) &&
-               !sortKey.contains(DELIMITER + VOTE_PREFIX + DELIMITER);
+        return SortKeyCodec.typeOf(sortKey) == Type.POLL_OPTION;
     }
     
     public static boolean isCarItem(String sortKey) {
-        return sortKey.startsWith(CAR_PREFIX + DELIMITER) && 
-               !sortKey.contains(DELIMITER + RIDER_PREFIX + DELIMITER);
+        return SortKeyCodec.typeOf(sortKey) == Type.CAR;
     }
     
     public static boolean isCarRider(String sortKey) {
-        return sortKey.contains(DELIMITER + RIDER_PREFIX + DELIMITER);
+        return SortKeyCodec.typeOf(sortKey) == Type.CAR_RIDER;
     }
     
     public static boolean isCarRiderItem(String sortKey) {
-        return sortKey.contains(DELIMITER + RIDER_PREFIX + DELIMITER);
+        return SortKeyCodec.typeOf(sortKey) == Type.CAR_RIDER;
     }
     
     public static boolean isVoteItem(String sortKey) {
-        return sortKey.contains(DELIMITER + VOTE_PREFIX + DELIMITER);
+        return SortKeyCodec.typeOf(sortKey) == Type.VOTE;
     }
     
     public static boolean isAttendanceItem(String sortKey) {
-        return sortKey.startsWith(ATTENDANCE_PREFIX + DELIMITER);
+        return SortKeyCodec.typeOf(sortKey) == Type.ATTENDANCE;
     }
     
     public static boolean isInviteItem(String sortKey) {
-        return sortKey.startsWith(INVITE_PREFIX + DELIMITER);
+        return SortKeyCodec.typeOf(sortKey) == Type.INVITE;
     }
     
     public static boolean isNeedsRideItem(String sortKey) {
-        return sortKey.startsWith(NEEDS_RIDE_PREFIX + DELIMITER);
+        return SortKeyCodec.typeOf(sortKey) == Type.NEEDS_RIDE;
     }
     
     public static boolean isMetadata(String sortKey) {
-        return METADATA_SUFFIX.equals(sortKey);
+        return SortKeyCodec.typeOf(sortKey) == Type.METADATA;
     }
     
     public static boolean isHangoutPointer(String sortKey) {
-        return sortKey.startsWith(HANGOUT_PREFIX + DELIMITER);
+        return SortKeyCodec.typeOf(sortKey) == Type.HANGOUT_POINTER;
     }
     
     public static boolean isSeriesPointer(String sortKey) {
-        return sortKey != null && sortKey.startsWith(SERIES_PREFIX + DELIMITER);
+        return SortKeyCodec.typeOf(sortKey) == Type.SERIES_POINTER;
     }
     
     public static boolean isAttributeItem(String sortKey) {
-        return sortKey != null && sortKey.startsWith(ATTRIBUTE_PREFIX + DELIMITER);
+        return SortKeyCodec.typeOf(sortKey) == Type.ATTRIBUTE;
     }
     
     public static boolean isGroupMembership(String sortKey) {
-        return sortKey.startsWith(USER_PREFIX + DELIMITER);
+        return SortKeyCodec.typeOf(sortKey) == Type.GROUP_MEMBERSHIP;
     }
     
     public static boolean isSeriesItem(String sortKey) {
-        return sortKey != null && METADATA_SUFFIX.equals(sortKey);
+        return SortKeyCodec.typeOf(sortKey) == Type.METADATA;
     }
     
     // Idea List Keys
@@ -271,12 +320,11 @@ public final class InviterKeyFactory {
     
     // Helper methods for type-safe filtering
     public static boolean isIdeaList(String sortKey) {
-        return sortKey != null && sortKey.startsWith(IDEALIST_PREFIX + DELIMITER) &&
-               !sortKey.contains(DELIMITER + IDEA_PREFIX + DELIMITER);
+        return SortKeyCodec.typeOf(sortKey) == Type.IDEA_LIST;
     }
 
     public static boolean isIdeaListMember(String sortKey) {
-        return sortKey != null && sortKey.contains(DELIMITER + IDEA_PREFIX + DELIMITER);
+        return SortKeyCodec.typeOf(sortKey) == Type.IDEA_LIST_MEMBER;
     }
 
     // Place Keys
@@ -286,7 +334,7 @@ public final class InviterKeyFactory {
     }
 
     public static boolean isPlace(String sortKey) {
-        return sortKey != null && sortKey.startsWith(PLACE_PREFIX + DELIMITER);
+        return SortKeyCodec.typeOf(sortKey) == Type.PLACE;
     }
 
     // Participation Keys
@@ -296,7 +344,7 @@ public final class InviterKeyFactory {
     }
 
     public static boolean isParticipation(String sortKey) {
-        return sortKey != null && sortKey.startsWith(PARTICIPATION_PREFIX + DELIMITER);
+        return SortKeyCodec.typeOf(sortKey) == Type.PARTICIPATION;
     }
 
     // Reservation Offer Keys
@@ -306,7 +354,7 @@ public final class InviterKeyFactory {
     }
 
     public static boolean isReservationOffer(String sortKey) {
-        return sortKey != null && sortKey.startsWith(RESERVEOFFER_PREFIX + DELIMITER);
+        return SortKeyCodec.typeOf(sortKey) == Type.RESERVATION_OFFER;
     }
 
     // Invite Code Keys
@@ -330,7 +378,7 @@ public final class InviterKeyFactory {
     }
 
     public static boolean isInviteCode(String sortKey) {
-        return sortKey != null && METADATA_SUFFIX.equals(sortKey);
+        return SortKeyCodec.typeOf(sortKey) == Type.METADATA;
     }
 
     // ============================================================================
@@ -383,6 +431,26 @@ public final class InviterKeyFactory {
         return getSeasonPk(showId) + "|" + getSeasonSk(seasonNumber);
     }
 
+    // ============================================================================
+    // RegistryIndex Keys
+    // ============================================================================
+
+    /**
+     * RegistryIndex partition holding every tracked Season.
+     * Format: REGISTRY#SEASON, with {@link #getSeasonReference} as the sort key.
+     */
+    public static String getSeasonRegistryPk() {
+        return REGISTRY_PREFIX + DELIMITER + SEASON_PREFIX;
+    }
+
+    /**
+     * RegistryIndex partition holding every Watch Party EventSeries.
+     * Format: REGISTRY#WATCH_PARTY, with {@link #getSeriesPk} as the sort key.
+     */
+    public static String getWatchPartySeriesRegistryPk() {
+        return REGISTRY_PREFIX + DELIMITER + WATCH_PARTY_REGISTRY;
+    }
+
     /**
      * Check if a sort key represents a Season item.
      *
@@ -390,7 +458,7 @@ public final class InviterKeyFactory {
      * @return true if the sort key represents a Season item
      */
     public static boolean isSeasonItem(String sortKey) {
-        return sortKey != null && sortKey.startsWith(SEASON_PREFIX + DELIMITER);
+        return SortKeyCodec.typeOf(sortKey) == Type.SEASON;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,383 @@
+package com.bbthechange.inviter.util;
+
+import com.bbthechange.inviter.dto.Address;
+import com.bbthechange.inviter.dto.ParticipationSummaryDTO;
+import com.bbthechange.inviter.dto.TimeInfo;
+import com.bbthechange.inviter.model.BaseItem;
+import com.bbthechange.inviter.model.Car;
+import com.bbthechange.inviter.model.CarRider;
+import com.bbthechange.inviter.model.EventVisibility;
+import com.bbthechange.inviter.model.Hangout;
+import com.bbthechange.inviter.model.HangoutAttribute;
+import com.bbthechange.inviter.model.HangoutPointer;
+import com.bbthechange.inviter.model.InterestLevel;
+import com.bbthechange.inviter.model.MomentumCategory;
+import com.bbthechange.inviter.model.NeedsRide;
+import com.bbthechange.inviter.model.Poll;
+import com.bbthechange.inviter.model.PollOption;
+import com.bbthechange.inviter.model.SeriesPointer;
+import com.bbthechange.inviter.model.Vote;
+import software.amazon.awssdk.enhanced.dynamodb.EnhancedType;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static software.amazon.awssdk.enhanced.dynamodb.extensions.VersionedRecordExtension.AttributeTags.versionAttribute;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primarySortKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.secondaryPartitionKey;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.secondarySortKey;
+
+/**
+ * Registry of the TableSchemas used to map InviterTable items.
+ *
+ * The entity types read on every feed and detail request (hangouts, pointers and the vote,
+ * option and attendance items denormalized into them) have hand-wired StaticTableSchemas;
+ * everything else falls back to a cached bean schema. Repositories should take their schemas
+ * from {@link #forClass} rather than calling {@code TableSchema.fromBean} themselves.
+ *
+ * The static schemas must map exactly as the bean schemas do, which {@code InviterTableSchemasTest}
+ * checks. Attributes are declared in the bean schema's order (alphabetical by property name)
+ * because several setters call {@code touch()}, so the order decides what {@code updatedAt}
+ * holds after a read. When adding a property to one of these entities, add it here too.
+ */
+public final class InviterTableSchemas {
+
+    private static final InstantAsLongAttributeConverter INSTANT_AS_LONG = new InstantAsLongAttributeConverter();
+
+    // Nested documents of the hot types that are read far less often on their own
+    private static final TableSchema<Address> ADDRESS = TableSchema.fromBean(Address.class);
+    private static final TableSchema<TimeInfo> TIME_INFO = TableSchema.fromBean(TimeInfo.class);
+    private static final TableSchema<ParticipationSummaryDTO> PARTICIPATION_SUMMARY =
+            TableSchema.fromBean(ParticipationSummaryDTO.class);
+    private static final TableSchema<Poll> POLL = TableSchema.fromBean(Poll.class);
+    private static final TableSchema<Car> CAR = TableSchema.fromBean(Car.class);
+    private static final TableSchema<CarRider> CAR_RIDER = TableSchema.fromBean(CarRider.class);
+    private static final TableSchema<NeedsRide> NEEDS_RIDE = TableSchema.fromBean(NeedsRide.class);
+    private static final TableSchema<HangoutAttribute> HANGOUT_ATTRIBUTE = TableSchema.fromBean(HangoutAttribute.class);
+
+    public static final StaticTableSchema<Vote> VOTE = StaticTableSchema.builder(Vote.class)
+            .newItemSupplier(Vote::new)
+            .addAttribute(Instant.class, a -> a.name("createdAt").getter(Vote::getCreatedAt).setter(Vote::setCreatedAt)
+                    .attributeConverter(INSTANT_AS_LONG))
+            .addAttribute(String.class, a -> a.name("eventId").getter(Vote::getEventId).setter(Vote::setEventId))
+            .addAttribute(String.class, a -> a.name("gsi1pk").getter(Vote::getGsi1pk).setter(Vote::setGsi1pk)
+                    .tags(secondaryPartitionKey("UserGroupIndex")))
+            .addAttribute(String.class, a -> a.name("gsi1sk").getter(Vote::getGsi1sk).setter(Vote::setGsi1sk)
+                    .tags(secondarySortKey("UserGroupIndex")))
+            .addAttribute(String.class, a -> a.name("gsi2pk").getter(Vote::getGsi2pk).setter(Vote::setGsi2pk))
+            .addAttribute(String.class, a -> a.name("gsi2sk").getter(Vote::getGsi2sk).setter(Vote::setGsi2sk))
+            .addAttribute(String.class, a -> a.name("gsi3pk").getter(Vote::getGsi3pk).setter(Vote::setGsi3pk)
+                    .tags(secondaryPartitionKey("InviteCodeIndex")))
+            .addAttribute(String.class, a -> a.name("gsi3sk").getter(Vote::getGsi3sk).setter(Vote::setGsi3sk)
+                    .tags(secondarySortKey("InviteCodeIndex")))
+            .addAttribute(String.class, a -> a.name("gsi4pk").getter(Vote::getGsi4pk).setter(Vote::setGsi4pk)
+                    .tags(secondaryPartitionKey("RegistryIndex")))
+            .addAttribute(String.class, a -> a.name("gsi4sk").getter(Vote::getGsi4sk).setter(Vote::setGsi4sk)
+                    .tags(secondarySortKey("RegistryIndex")))
+            .addAttribute(String.class, a -> a.name("itemType").getter(Vote::getItemType).setter(Vote::setItemType))
+            .addAttribute(String.class, a -> a.name("optionId").getter(Vote::getOptionId).setter(Vote::setOptionId))
+            .addAttribute(String.class, a -> a.name("pk").getter(Vote::getPk).setter(Vote::setPk)
+                    .tags(primaryPartitionKey()))
+            .addAttribute(String.class, a -> a.name("pollId").getter(Vote::getPollId).setter(Vote::setPollId))
+            .addAttribute(String.class, a -> a.name("sk").getter(Vote::getSk).setter(Vote::setSk)
+                    .tags(primarySortKey()))
+            .addAttribute(Instant.class, a -> a.name("updatedAt").getter(Vote::getUpdatedAt).setter(Vote::setUpdatedAt)
+                    .attributeConverter(INSTANT_AS_LONG))
+            .addAttribute(String.class, a -> a.name("userId").getter(Vote::getUserId).setter(Vote::setUserId))
+            .addAttribute(String.class, a -> a.name("voteType").getter(Vote::getVoteType).setter(Vote::setVoteType))
+            .build();
+
+    public static final StaticTableSchema<InterestLevel> INTEREST_LEVEL = StaticTableSchema.builder(InterestLevel.class)
+            .newItemSupplier(InterestLevel::new)
+            .addAttribute(Instant.class, a -> a.name("createdAt").getter(InterestLevel::getCreatedAt).setter(InterestLevel::setCreatedAt)
+                    .attributeConverter(INSTANT_AS_LONG))
+            .addAttribute(String.class, a -> a.name("eventId").getter(InterestLevel::getEventId).setter(InterestLevel::setEventId))
+            .addAttribute(String.class, a -> a.name("gsi1pk").getter(InterestLevel::getGsi1pk).setter(InterestLevel::setGsi1pk)
+                    .tags(secondaryPartitionKey("UserGroupIndex")))
+            .addAttribute(String.class, a -> a.name("gsi1sk").getter(InterestLevel::getGsi1sk).setter(InterestLevel::setGsi1sk)
+                    .tags(secondarySortKey("UserGroupIndex")))
+            .addAttribute(String.class, a -> a.name("gsi2pk").getter(InterestLevel::getGsi2pk).setter(InterestLevel::setGsi2pk))
+            .addAttribute(String.class, a -> a.name("gsi2sk").getter(InterestLevel::getGsi2sk).setter(InterestLevel::setGsi2sk))
+            .addAttribute(String.class, a -> a.name("gsi3pk").getter(InterestLevel::getGsi3pk).setter(InterestLevel::setGsi3pk)
+                    .tags(secondaryPartitionKey("InviteCodeIndex")))
+            .addAttribute(String.class, a -> a.name("gsi3sk").getter(InterestLevel::getGsi3sk).setter(InterestLevel::setGsi3sk)
+                    .tags(secondarySortKey("InviteCodeIndex")))
+            .addAttribute(String.class, a -> a.name("gsi4pk").getter(InterestLevel::getGsi4pk).setter(InterestLevel::setGsi4pk)
+                    .tags(secondaryPartitionKey("RegistryIndex")))
+            .addAttribute(String.class, a -> a.name("gsi4sk").getter(InterestLevel::getGsi4sk).setter(InterestLevel::setGsi4sk)
+                    .tags(secondarySortKey("RegistryIndex")))
+            .addAttribute(String.class, a -> a.name("itemType").getter(InterestLevel::getItemType).setter(InterestLevel::setItemType))
+            .addAttribute(String.class, a -> a.name("mainImagePath").getter(InterestLevel::getMainImagePath).setter(InterestLevel::setMainImagePath))
+            .addAttribute(String.class, a -> a.name("notes").getter(InterestLevel::getNotes).setter(InterestLevel::setNotes))
+            .addAttribute(String.class, a -> a.name("pk").getter(InterestLevel::getPk).setter(InterestLevel::setPk)
+                    .tags(primaryPartitionKey()))
+            .addAttribute(String.class, a -> a.name("sk").getter(InterestLevel::getSk).setter(InterestLevel::setSk)
+                    .tags(primarySortKey()))
+            .addAttribute(String.class, a -> a.name("status").getter(InterestLevel::getStatus).setter(InterestLevel::setStatus))
+            .addAttribute(Instant.class, a -> a.name("updatedAt").getter(InterestLevel::getUpdatedAt).setter(InterestLevel::setUpdatedAt)
+                    .attributeConverter(INSTANT_AS_LONG))
+            .addAttribute(String.class, a -> a.name("userId").getter(InterestLevel::getUserId).setter(InterestLevel::setUserId))
+            .addAttribute(String.class, a -> a.name("userName").getter(InterestLevel::getUserName).setter(InterestLevel::setUserName))
+            .build();
+
+    public static final StaticTableSchema<PollOption> POLL_OPTION = StaticTableSchema.builder(PollOption.class)
+            .newItemSupplier(PollOption::new)
+            .addAttribute(Boolean.class, a -> a.name("countInitialized").getter(PollOption::getCountInitialized).setter(PollOption::setCountInitialized))
+            .addAttribute(Instant.class, a -> a.name("createdAt").getter(PollOption::getCreatedAt).setter(PollOption::setCreatedAt)
+                    .attributeConverter(INSTANT_AS_LONG))
+            .addAttribute(String.class, a -> a.name("createdBy").getter(PollOption::getCreatedBy).setter(PollOption::setCreatedBy))
+            .addAttribute(String.class, a -> a.name("eventId").getter(PollOption::getEventId).setter(PollOption::setEventId))
+            .addAttribute(String.class, a -> a.name("gsi1pk").getter(PollOption::getGsi1pk).setter(PollOption::setGsi1pk)
+                    .tags(secondaryPartitionKey("UserGroupIndex")))
+            .addAttribute(String.class, a -> a.name("gsi1sk").getter(PollOption::getGsi1sk).setter(PollOption::setGsi1sk)
+                    .tags(secondarySortKey("UserGroupIndex")))
+            .addAttribute(String.class, a -> a.name("gsi2pk").getter(PollOption::getGsi2pk).setter(PollOption::setGsi2pk))
+            .addAttribute(String.class, a -> a.name("gsi2sk").getter(PollOption::getGsi2sk).setter(PollOption::setGsi2sk))
+            .addAttribute(String.class, a -> a.name("gsi3pk").getter(PollOption::getGsi3pk).setter(PollOption::setGsi3pk)
+                    .tags(secondaryPartitionKey("InviteCodeIndex")))
+            .addAttribute(String.class, a -> a.name("gsi3sk").getter(PollOption::getGsi3sk).setter(PollOption::setGsi3sk)
+                    .tags(secondarySortKey("InviteCodeIndex")))
+            .addAttribute(String.class, a -> a.name("gsi4pk").getter(PollOption::getGsi4pk).setter(PollOption::setGsi4pk)
+                    .tags(secondaryPartitionKey("RegistryIndex")))
+            .addAttribute(String.class, a -> a.name("gsi4sk").getter(PollOption::getGsi4sk).setter(PollOption::setGsi4sk)
+                    .tags(secondarySortKey("RegistryIndex")))
+            .addAttribute(String.class, a -> a.name("itemType").getter(PollOption::getItemType).setter(PollOption::setItemType))
+            .addAttribute(String.class, a -> a.name("optionId").getter(PollOption::getOptionId).setter(PollOption::setOptionId))
+            .addAttribute(String.class, a -> a.name("pk").getter(PollOption::getPk).setter(PollOption::setPk)
+                    .tags(primaryPartitionKey()))
+            .addAttribute(String.class, a -> a.name("pollId").getter(PollOption::getPollId).setter(PollOption::setPollId))
+            .addAttribute(String.class, a -> a.name("sk").getter(PollOption::getSk).setter(PollOption::setSk)
+                    .tags(primarySortKey()))
+            .addAttribute(String.class, a -> a.name("structuredValue").getter(PollOption::getStructuredValue).setter(PollOption::setStructuredValue))
+            .addAttribute(String.class, a -> a.name("text").getter(PollOption::getText).setter(PollOption::setText))
+            .addAttribute(EnhancedType.documentOf(TimeInfo.class, TIME_INFO), a -> a.name("timeInput").getter(PollOption::getTimeInput).setter(PollOption::setTimeInput))
+            .addAttribute(Instant.class, a -> a.name("updatedAt").getter(PollOption::getUpdatedAt).setter(PollOption::setUpdatedAt)
+                    .attributeConverter(INSTANT_AS_LONG))
+            .addAttribute(Long.class, a -> a.name("voteCount").getter(PollOption::getVoteCount).setter(PollOption::setVoteCount))
+            .build();
+
+    public static final StaticTableSchema<Hangout> HANGOUT = StaticTableSchema.builder(Hangout.class)
+            .newItemSupplier(Hangout::new)
+            .addAttribute(EnhancedType.listOf(String.class), a -> a.name("associatedGroups").getter(Hangout::getAssociatedGroups).setter(Hangout::setAssociatedGroups))
+            .addAttribute(Boolean.class, a -> a.name("carpoolEnabled").getter(Hangout::isCarpoolEnabled).setter(Hangout::setCarpoolEnabled))
+            .addAttribute(EnhancedType.listOf(String.class), a -> a.name("combinedExternalIds").getter(Hangout::getCombinedExternalIds).setter(Hangout::setCombinedExternalIds))
+            .addAttribute(Long.class, a -> a.name("confirmedAt").getter(Hangout::getConfirmedAt).setter(Hangout::setConfirmedAt))
+            .addAttribute(String.class, a -> a.name("confirmedBy").getter(Hangout::getConfirmedBy).setter(Hangout::setConfirmedBy))
+            .addAttribute(Instant.class, a -> a.name("createdAt").getter(Hangout::getCreatedAt).setter(Hangout::setCreatedAt)
+                    .attributeConverter(INSTANT_AS_LONG))
+            .addAttribute(String.class, a -> a.name("createdBy").getter(Hangout::getCreatedBy).setter(Hangout::setCreatedBy))
+            .addAttribute(String.class, a -> a.name("description").getter(Hangout::getDescription).setter(Hangout::setDescription))
+            .addAttribute(String.class, a -> a.name("discountCode").getter(Hangout::getDiscountCode).setter(Hangout::setDiscountCode))
+            .addAttribute(LocalDateTime.class, a -> a.name("endTime").getter(Hangout::getEndTime).setter(Hangout::setEndTime))
+            .addAttribute(Long.class, a -> a.name("endTimestamp").getter(Hangout::getEndTimestamp).setter(Hangout::setEndTimestamp))
+            .addAttribute(String.class, a -> a.name("externalId").getter(Hangout::getExternalId).setter(Hangout::setExternalId)
+                    .tags(secondaryPartitionKey("ExternalIdIndex")))
+            .addAttribute(String.class, a -> a.name("externalSource").getter(Hangout::getExternalSource).setter(Hangout::setExternalSource)
+                    .tags(secondarySortKey("ExternalIdIndex")))
+            .addAttribute(String.class, a -> a.name("gsi1pk").getter(Hangout::getGsi1pk).setter(Hangout::setGsi1pk)
+                    .tags(secondaryPartitionKey("UserGroupIndex")))
+            .addAttribute(String.class, a -> a.name("gsi1sk").getter(Hangout::getGsi1sk).setter(Hangout::setGsi1sk)
+                    .tags(secondarySortKey("UserGroupIndex")))
+            .addAttribute(String.class, a -> a.name("gsi2pk").getter(Hangout::getGsi2pk).setter(Hangout::setGsi2pk))
+            .addAttribute(String.class, a -> a.name("gsi2sk").getter(Hangout::getGsi2sk).setter(Hangout::setGsi2sk))
+            .addAttribute(String.class, a -> a.name("gsi3pk").getter(Hangout::getGsi3pk).setter(Hangout::setGsi3pk)
+                    .tags(secondaryPartitionKey("InviteCodeIndex")))
+            .addAttribute(String.class, a -> a.name("gsi3sk").getter(Hangout::getGsi3sk).setter(Hangout::setGsi3sk)
+                    .tags(secondarySortKey("InviteCodeIndex")))
+            .addAttribute(String.class, a -> a.name("gsi4pk").getter(Hangout::getGsi4pk).setter(Hangout::setGsi4pk)
+                    .tags(secondaryPartitionKey("RegistryIndex")))
+            .addAttribute(String.class, a -> a.name("gsi4sk").getter(Hangout::getGsi4sk).setter(Hangout::setGsi4sk)
+                    .tags(secondarySortKey("RegistryIndex")))
+            .addAttribute(String.class, a -> a.name("hangoutId").getter(Hangout::getHangoutId).setter(Hangout::setHangoutId))
+            .addAttribute(String.class, a -> a.name("hostAtPlaceUserId").getter(Hangout::getHostAtPlaceUserId).setter(Hangout::setHostAtPlaceUserId))
+            .addAttribute(Boolean.class, a -> a.name("isGeneratedTitle").getter(Hangout::getIsGeneratedTitle).setter(Hangout::setIsGeneratedTitle))
+            .addAttribute(String.class, a -> a.name("itemType").getter(Hangout::getItemType).setter(Hangout::setItemType))
+            .addAttribute(EnhancedType.documentOf(Address.class, ADDRESS), a -> a.name("location").getter(Hangout::getLocation).setter(Hangout::setLocation))
+            .addAttribute(String.class, a -> a.name("mainImagePath").getter(Hangout::getMainImagePath).setter(Hangout::setMainImagePath))
+            .addAttribute(MomentumCategory.class, a -> a.name("momentumCategory").getter(Hangout::getMomentumCategory).setter(Hangout::setMomentumCategory))
+            .addAttribute(Integer.class, a -> a.name("momentumScore").getter(Hangout::getMomentumScore).setter(Hangout::setMomentumScore))
+            .addAttribute(String.class, a -> a.name("pk").getter(Hangout::getPk).setter(Hangout::setPk)
+                    .tags(primaryPartitionKey()))
+            .addAttribute(String.class, a -> a.name("placeCategory").getter(Hangout::getPlaceCategory).setter(Hangout::setPlaceCategory))
+            .addAttribute(String.class, a -> a.name("reminderScheduleName").getter(Hangout::getReminderScheduleName).setter(Hangout::setReminderScheduleName))
+            .addAttribute(Long.class, a -> a.name("reminderSentAt").getter(Hangout::getReminderSentAt).setter(Hangout::setReminderSentAt))
+            .addAttribute(String.class, a -> a.name("seriesId").getter(Hangout::getSeriesId).setter(Hangout::setSeriesId)
+                    .tags(secondaryPartitionKey("SeriesIndex")))
+            .addAttribute(String.class, a -> a.name("sk").getter(Hangout::getSk).setter(Hangout::setSk)
+                    .tags(primarySortKey()))
+            .addAttribute(String.class, a -> a.name("sourceIdeaId").getter(Hangout::getSourceIdeaId).setter(Hangout::setSourceIdeaId))
+            .addAttribute(String.class, a -> a.name("sourceIdeaListId").getter(Hangout::getSourceIdeaListId).setter(Hangout::setSourceIdeaListId))
+            .addAttribute(LocalDateTime.class, a -> a.name("startTime").getter(Hangout::getStartTime).setter(Hangout::setStartTime))
+            .addAttribute(Long.class, a -> a.name("startTimestamp").getter(Hangout::getStartTimestamp).setter(Hangout::setStartTimestamp)
+                    .tags(secondarySortKey("SeriesIndex")))
+            .addAttribute(String.class, a -> a.name("suggestedBy").getter(Hangout::getSuggestedBy).setter(Hangout::setSuggestedBy))
+            .addAttribute(String.class, a -> a.name("ticketLink").getter(Hangout::getTicketLink).setter(Hangout::setTicketLink))
+            .addAttribute(Boolean.class, a -> a.name("ticketsRequired").getter(Hangout::getTicketsRequired).setter(Hangout::setTicketsRequired))
+            .addAttribute(EnhancedType.documentOf(TimeInfo.class, TIME_INFO), a -> a.name("timeInput").getter(Hangout::getTimeInput).setter(Hangout::setTimeInput))
+            .addAttribute(String.class, a -> a.name("title").getter(Hangout::getTitle).setter(Hangout::setTitle))
+            .addAttribute(Boolean.class, a -> a.name("titleNotificationSent").getter(Hangout::getTitleNotificationSent).setter(Hangout::setTitleNotificationSent))
+            .addAttribute(Instant.class, a -> a.name("updatedAt").getter(Hangout::getUpdatedAt).setter(Hangout::setUpdatedAt)
+                    .attributeConverter(INSTANT_AS_LONG))
+            .addAttribute(Long.class, a -> a.name("version").getter(Hangout::getVersion).setter(Hangout::setVersion))
+            .addAttribute(EventVisibility.class, a -> a.name("visibility").getter(Hangout::getVisibility).setter(Hangout::setVisibility))
+            .build();
+
+    public static final StaticTableSchema<HangoutPointer> HANGOUT_POINTER = StaticTableSchema.builder(HangoutPointer.class)
+            .newItemSupplier(HangoutPointer::new)
+            .addAttribute(EnhancedType.listOf(EnhancedType.documentOf(HangoutAttribute.class, HANGOUT_ATTRIBUTE)), a -> a.name("attributes").getter(HangoutPointer::getAttributes).setter(HangoutPointer::setAttributes))
+            .addAttribute(EnhancedType.listOf(EnhancedType.documentOf(CarRider.class, CAR_RIDER)), a -> a.name("carRiders").getter(HangoutPointer::getCarRiders).setter(HangoutPointer::setCarRiders))
+            .addAttribute(Boolean.class, a -> a.name("carpoolEnabled").getter(HangoutPointer::isCarpoolEnabled).setter(HangoutPointer::setCarpoolEnabled))
+            .addAttribute(EnhancedType.listOf(EnhancedType.documentOf(Car.class, CAR)), a -> a.name("cars").getter(HangoutPointer::getCars).setter(HangoutPointer::setCars))
+            .addAttribute(Long.class, a -> a.name("confirmedAt").getter(HangoutPointer::getConfirmedAt).setter(HangoutPointer::setConfirmedAt))
+            .addAttribute(String.class, a -> a.name("confirmedBy").getter(HangoutPointer::getConfirmedBy).setter(HangoutPointer::setConfirmedBy))
+            .addAttribute(Instant.class, a -> a.name("createdAt").getter(HangoutPointer::getCreatedAt).setter(HangoutPointer::setCreatedAt)
+                    .attributeConverter(INSTANT_AS_LONG))
+            .addAttribute(String.class, a -> a.name("description").getter(HangoutPointer::getDescription).setter(HangoutPointer::setDescription))
+            .addAttribute(String.class, a -> a.name("discountCode").getter(HangoutPointer::getDiscountCode).setter(HangoutPointer::setDiscountCode))
+            .addAttribute(Long.class, a -> a.name("endTimestamp").getter(HangoutPointer::getEndTimestamp).setter(HangoutPointer::setEndTimestamp)
+                    .tags(secondarySortKey("EndTimestampIndex")))
+            .addAttribute(String.class, a -> a.name("externalId").getter(HangoutPointer::getExternalId).setter(HangoutPointer::setExternalId))
+            .addAttribute(String.class, a -> a.name("externalSource").getter(HangoutPointer::getExternalSource).setter(HangoutPointer::setExternalSource))
+            .addAttribute(String.class, a -> a.name("groupId").getter(HangoutPointer::getGroupId).setter(HangoutPointer::setGroupId))
+            .addAttribute(String.class, a -> a.name("gsi1pk").getter(HangoutPointer::getGsi1pk).setter(HangoutPointer::setGsi1pk)
+                    .tags(secondaryPartitionKey(List.of("UserGroupIndex", "EntityTimeIndex", "EndTimestampIndex"))))
+            .addAttribute(String.class, a -> a.name("gsi1sk").getter(HangoutPointer::getGsi1sk).setter(HangoutPointer::setGsi1sk)
+                    .tags(secondarySortKey("UserGroupIndex")))
+            .addAttribute(String.class, a -> a.name("gsi2pk").getter(HangoutPointer::getGsi2pk).setter(HangoutPointer::setGsi2pk))
+            .addAttribute(String.class, a -> a.name("gsi2sk").getter(HangoutPointer::getGsi2sk).setter(HangoutPointer::setGsi2sk))
+            .addAttribute(String.class, a -> a.name("gsi3pk").getter(HangoutPointer::getGsi3pk).setter(HangoutPointer::setGsi3pk)
+                    .tags(secondaryPartitionKey("InviteCodeIndex")))
+            .addAttribute(String.class, a -> a.name("gsi3sk").getter(HangoutPointer::getGsi3sk).setter(HangoutPointer::setGsi3sk)
+                    .tags(secondarySortKey("InviteCodeIndex")))
+            .addAttribute(String.class, a -> a.name("gsi4pk").getter(HangoutPointer::getGsi4pk).setter(HangoutPointer::setGsi4pk)
+                    .tags(secondaryPartitionKey("RegistryIndex")))
+            .addAttribute(String.class, a -> a.name("gsi4sk").getter(HangoutPointer::getGsi4sk).setter(HangoutPointer::setGsi4sk)
+                    .tags(secondarySortKey("RegistryIndex")))
+            .addAttribute(String.class, a -> a.name("hangoutId").getter(HangoutPointer::getHangoutId).setter(HangoutPointer::setHangoutId))
+            .addAttribute(Instant.class, a -> a.name("hangoutTime").getter(HangoutPointer::getHangoutTime).setter(HangoutPointer::setHangoutTime))
+            .addAttribute(String.class, a -> a.name("hostAtPlaceUserId").getter(HangoutPointer::getHostAtPlaceUserId).setter(HangoutPointer::setHostAtPlaceUserId))
+            .addAttribute(EnhancedType.listOf(EnhancedType.documentOf(InterestLevel.class, INTEREST_LEVEL)), a -> a.name("interestLevels").getter(HangoutPointer::getInterestLevels).setter(HangoutPointer::setInterestLevels))
+            .addAttribute(Boolean.class, a -> a.name("isGeneratedTitle").getter(HangoutPointer::getIsGeneratedTitle).setter(HangoutPointer::setIsGeneratedTitle))
+            .addAttribute(String.class, a -> a.name("itemType").getter(HangoutPointer::getItemType).setter(HangoutPointer::setItemType))
+            .addAttribute(EnhancedType.documentOf(Address.class, ADDRESS), a -> a.name("location").getter(HangoutPointer::getLocation).setter(HangoutPointer::setLocation))
+            .addAttribute(String.class, a -> a.name("mainImagePath").getter(HangoutPointer::getMainImagePath).setter(HangoutPointer::setMainImagePath))
+            .addAttribute(MomentumCategory.class, a -> a.name("momentumCategory").getter(HangoutPointer::getMomentumCategory).setter(HangoutPointer::setMomentumCategory))
+            .addAttribute(Integer.class, a -> a.name("momentumScore").getter(HangoutPointer::getMomentumScore).setter(HangoutPointer::setMomentumScore))
+            .addAttribute(EnhancedType.listOf(EnhancedType.documentOf(NeedsRide.class, NEEDS_RIDE)), a -> a.name("needsRide").getter(HangoutPointer::getNeedsRide).setter(HangoutPointer::setNeedsRide))
+            .addAttribute(Integer.class, a -> a.name("participantCount").getter(HangoutPointer::getParticipantCount).setter(HangoutPointer::setParticipantCount))
+            .addAttribute(EnhancedType.documentOf(ParticipationSummaryDTO.class, PARTICIPATION_SUMMARY), a -> a.name("participationSummary").getter(HangoutPointer::getParticipationSummary).setter(HangoutPointer::setParticipationSummary))
+            .addAttribute(String.class, a -> a.name("pk").getter(HangoutPointer::getPk).setter(HangoutPointer::setPk)
+                    .tags(primaryPartitionKey()))
+            .addAttribute(String.class, a -> a.name("placeCategory").getter(HangoutPointer::getPlaceCategory).setter(HangoutPointer::setPlaceCategory))
+            .addAttribute(EnhancedType.listOf(EnhancedType.documentOf(PollOption.class, POLL_OPTION)), a -> a.name("pollOptions").getter(HangoutPointer::getPollOptions).setter(HangoutPointer::setPollOptions))
+            .addAttribute(EnhancedType.listOf(EnhancedType.documentOf(Poll.class, POLL)), a -> a.name("polls").getter(HangoutPointer::getPolls).setter(HangoutPointer::setPolls))
+            .addAttribute(String.class, a -> a.name("seriesId").getter(HangoutPointer::getSeriesId).setter(HangoutPointer::setSeriesId))
+            .addAttribute(String.class, a -> a.name("sk").getter(HangoutPointer::getSk).setter(HangoutPointer::setSk)
+                    .tags(primarySortKey()))
+            .addAttribute(Long.class, a -> a.name("startTimestamp").getter(HangoutPointer::getStartTimestamp).setter(HangoutPointer::setStartTimestamp)
+                    .tags(secondarySortKey("EntityTimeIndex")))
+            .addAttribute(String.class, a -> a.name("status").getter(HangoutPointer::getStatus).setter(HangoutPointer::setStatus))
+            .addAttribute(String.class, a -> a.name("suggestedBy").getter(HangoutPointer::getSuggestedBy).setter(HangoutPointer::setSuggestedBy))
+            .addAttribute(String.class, a -> a.name("ticketLink").getter(HangoutPointer::getTicketLink).setter(HangoutPointer::setTicketLink))
+            .addAttribute(Boolean.class, a -> a.name("ticketsRequired").getter(HangoutPointer::getTicketsRequired).setter(HangoutPointer::setTicketsRequired))
+            .addAttribute(EnhancedType.documentOf(TimeInfo.class, TIME_INFO), a -> a.name("timeInput").getter(HangoutPointer::getTimeInput).setter(HangoutPointer::setTimeInput))
+            .addAttribute(String.class, a -> a.name("title").getter(HangoutPointer::getTitle).setter(HangoutPointer::setTitle))
+            .addAttribute(Instant.class, a -> a.name("updatedAt").getter(HangoutPointer::getUpdatedAt).setter(HangoutPointer::setUpdatedAt)
+                    .attributeConverter(INSTANT_AS_LONG))
+            .addAttribute(Long.class, a -> a.name("version").getter(HangoutPointer::getVersion).setter(HangoutPointer::setVersion)
+                    .tags(versionAttribute()))
+            .addAttribute(EventVisibility.class, a -> a.name("visibility").getter(HangoutPointer::getVisibility).setter(HangoutPointer::setVisibility))
+            .addAttribute(EnhancedType.listOf(EnhancedType.documentOf(Vote.class, VOTE)), a -> a.name("votes").getter(HangoutPointer::getVotes).setter(HangoutPointer::setVotes))
+            .build();
+
+    public static final StaticTableSchema<SeriesPointer> SERIES_POINTER = StaticTableSchema.builder(SeriesPointer.class)
+            .newItemSupplier(SeriesPointer::new)
+            .addAttribute(Instant.class, a -> a.name("createdAt").getter(SeriesPointer::getCreatedAt).setter(SeriesPointer::setCreatedAt)
+                    .attributeConverter(INSTANT_AS_LONG))
+            .addAttribute(Integer.class, a -> a.name("dayOverride").getter(SeriesPointer::getDayOverride).setter(SeriesPointer::setDayOverride))
+            .addAttribute(String.class, a -> a.name("defaultHostId").getter(SeriesPointer::getDefaultHostId).setter(SeriesPointer::setDefaultHostId))
+            .addAttribute(String.class, a -> a.name("defaultTime").getter(SeriesPointer::getDefaultTime).setter(SeriesPointer::setDefaultTime))
+            .addAttribute(Long.class, a -> a.name("endTimestamp").getter(SeriesPointer::getEndTimestamp).setter(SeriesPointer::setEndTimestamp)
+                    .tags(secondarySortKey("EndTimestampIndex")))
+            .addAttribute(String.class, a -> a.name("eventSeriesType").getter(SeriesPointer::getEventSeriesType).setter(SeriesPointer::setEventSeriesType))
+            .addAttribute(String.class, a -> a.name("externalId").getter(SeriesPointer::getExternalId).setter(SeriesPointer::setExternalId))
+            .addAttribute(String.class, a -> a.name("externalSource").getter(SeriesPointer::getExternalSource).setter(SeriesPointer::setExternalSource))
+            .addAttribute(String.class, a -> a.name("groupId").getter(SeriesPointer::getGroupId).setter(SeriesPointer::setGroupId))
+            .addAttribute(String.class, a -> a.name("gsi1pk").getter(SeriesPointer::getGsi1pk).setter(SeriesPointer::setGsi1pk)
+                    .tags(secondaryPartitionKey(List.of("UserGroupIndex", "EntityTimeIndex", "EndTimestampIndex"))))
+            .addAttribute(String.class, a -> a.name("gsi1sk").getter(SeriesPointer::getGsi1sk).setter(SeriesPointer::setGsi1sk)
+                    .tags(secondarySortKey("UserGroupIndex")))
+            .addAttribute(String.class, a -> a.name("gsi2pk").getter(SeriesPointer::getGsi2pk).setter(SeriesPointer::setGsi2pk))
+            .addAttribute(String.class, a -> a.name("gsi2sk").getter(SeriesPointer::getGsi2sk).setter(SeriesPointer::setGsi2sk))
+            .addAttribute(String.class, a -> a.name("gsi3pk").getter(SeriesPointer::getGsi3pk).setter(SeriesPointer::setGsi3pk)
+                    .tags(secondaryPartitionKey("InviteCodeIndex")))
+            .addAttribute(String.class, a -> a.name("gsi3sk").getter(SeriesPointer::getGsi3sk).setter(SeriesPointer::setGsi3sk)
+                    .tags(secondarySortKey("InviteCodeIndex")))
+            .addAttribute(String.class, a -> a.name("gsi4pk").getter(SeriesPointer::getGsi4pk).setter(SeriesPointer::setGsi4pk)
+                    .tags(secondaryPartitionKey("RegistryIndex")))
+            .addAttribute(String.class, a -> a.name("gsi4sk").getter(SeriesPointer::getGsi4sk).setter(SeriesPointer::setGsi4sk)
+                    .tags(secondarySortKey("RegistryIndex")))
+            .addAttribute(EnhancedType.listOf(String.class), a -> a.name("hangoutIds").getter(SeriesPointer::getHangoutIds).setter(SeriesPointer::setHangoutIds))
+            .addAttribute(EnhancedType.listOf(EnhancedType.documentOf(InterestLevel.class, INTEREST_LEVEL)), a -> a.name("interestLevels").getter(SeriesPointer::getInterestLevels).setter(SeriesPointer::setInterestLevels))
+            .addAttribute(Boolean.class, a -> a.name("isGeneratedTitle").getter(SeriesPointer::getIsGeneratedTitle).setter(SeriesPointer::setIsGeneratedTitle))
+            .addAttribute(String.class, a -> a.name("itemType").getter(SeriesPointer::getItemType).setter(SeriesPointer::setItemType))
+            .addAttribute(String.class, a -> a.name("mainImagePath").getter(SeriesPointer::getMainImagePath).setter(SeriesPointer::setMainImagePath))
+            .addAttribute(EnhancedType.listOf(EnhancedType.documentOf(HangoutPointer.class, HANGOUT_POINTER)), a -> a.name("parts").getter(SeriesPointer::getParts).setter(SeriesPointer::setParts))
+            .addAttribute(String.class, a -> a.name("pk").getter(SeriesPointer::getPk).setter(SeriesPointer::setPk)
+                    .tags(primaryPartitionKey()))
+            .addAttribute(String.class, a -> a.name("primaryEventId").getter(SeriesPointer::getPrimaryEventId).setter(SeriesPointer::setPrimaryEventId))
+            .addAttribute(String.class, a -> a.name("seasonId").getter(SeriesPointer::getSeasonId).setter(SeriesPointer::setSeasonId))
+            .addAttribute(String.class, a -> a.name("seriesDescription").getter(SeriesPointer::getSeriesDescription).setter(SeriesPointer::setSeriesDescription))
+            .addAttribute(String.class, a -> a.name("seriesId").getter(SeriesPointer::getSeriesId).setter(SeriesPointer::setSeriesId))
+            .addAttribute(String.class, a -> a.name("seriesTitle").getter(SeriesPointer::getSeriesTitle).setter(SeriesPointer::setSeriesTitle))
+            .addAttribute(String.class, a -> a.name("sk").getter(SeriesPointer::getSk).setter(SeriesPointer::setSk)
+                    .tags(primarySortKey()))
+            .addAttribute(Long.class, a -> a.name("startTimestamp").getter(SeriesPointer::getStartTimestamp).setter(SeriesPointer::setStartTimestamp)
+                    .tags(secondarySortKey("EntityTimeIndex")))
+            .addAttribute(String.class, a -> a.name("timezone").getter(SeriesPointer::getTimezone).setter(SeriesPointer::setTimezone))
+            .addAttribute(Instant.class, a -> a.name("updatedAt").getter(SeriesPointer::getUpdatedAt).setter(SeriesPointer::setUpdatedAt)
+                    .attributeConverter(INSTANT_AS_LONG))
+            .addAttribute(Long.class, a -> a.name("version").getter(SeriesPointer::getVersion).setter(SeriesPointer::setVersion))
+            .build();
+
+    private static final Map<Class<?>, TableSchema<?>> SCHEMAS = new ConcurrentHashMap<>(Map.of(
+            Vote.class, VOTE,
+            InterestLevel.class, INTEREST_LEVEL,
+            PollOption.class, POLL_OPTION,
+            Hangout.class, HANGOUT,
+            HangoutPointer.class, HANGOUT_POINTER,
+            SeriesPointer.class, SERIES_POINTER));
+
+    private InviterTableSchemas() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * The schema for {@code type}: hand-wired for the hot entity types, otherwise a bean
+     * schema built on first use. Bean schemas are expensive to build, so they are shared.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> TableSchema<T> forClass(Class<T> type) {
+        return (TableSchema<T>) SCHEMAS.computeIfAbsent(type, t -> TableSchema.fromBean(t));
+    }
+
+    /**
+     * A detached copy of a stored item, made by mapping it through its schema and back, for
+     * callers that need to change an item other code may still hold (such as a read shared
+     * through {@link RequestReadCache}). Only persisted attributes are copied. The setters
+     * that {@code touch()} run again during mapping, so {@code updatedAt} is restored after.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends BaseItem> T copyOf(T item) {
+        TableSchema<T> schema = forClass((Class<T>) item.getClass());
+        T copy = schema.mapToItem(schema.itemToMap(item, true));
+        copy.setUpdatedAt(item.getUpdatedAt());
+        return copy;
+    }
+}
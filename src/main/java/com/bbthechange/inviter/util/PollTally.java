@@ -0,0 +1,105 @@
+package com.bbthechange.inviter.util;
+
+import com.bbthechange.inviter.model.Vote;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Vote counts for a set of polls, built in one pass over their votes.
+ *
+ * {@link #of} walks the votes once and records, per poll, the total and, per option, the
+ * count, whether the requesting user voted for it and (only when asked) the votes themselves.
+ * Every lookup afterwards is two hash probes, so callers rendering options no longer re-scan
+ * a poll's votes for each option. Votes are grouped by poll and then option, so option IDs
+ * only need to be unique within a poll.
+ */
+public final class PollTally {
+
+    private static final PollTally EMPTY = new PollTally(Map.of());
+
+    private final Map<String, PollCounts> polls;
+
+    private PollTally(Map<String, PollCounts> polls) {
+        this.polls = polls;
+    }
+
+    /**
+     * Tally {@code votes} in a single pass.
+     *
+     * @param requestingUserId User whose own votes set {@link #userVoted}; may be null
+     * @param keepVotes        Whether to retain each option's votes for {@link #votes}. Leave
+     *                         false when only counts are rendered to skip the list building.
+     */
+    public static PollTally of(List<Vote> votes, String requestingUserId, boolean keepVotes) {
+        if (votes == null || votes.isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, PollCounts> polls = new HashMap<>();
+        for (Vote vote : votes) {
+            PollCounts poll = polls.computeIfAbsent(vote.getPollId(), id -> new PollCounts());
+            poll.total++;
+            OptionCounts option = poll.options.computeIfAbsent(vote.getOptionId(), id -> new OptionCounts());
+            option.count++;
+            if (requestingUserId != null && requestingUserId.equals(vote.getUserId())) {
+                option.userVoted = true;
+            }
+            if (keepVotes) {
+                if (option.votes == null) {
+                    option.votes = new ArrayList<>();
+                }
+                option.votes.add(vote);
+            }
+        }
+        return new PollTally(polls);
+    }
+
+    public static PollTally empty() {
+        return EMPTY;
+    }
+
+    /**
+     * All votes cast in the poll, including any for options no longer present.
+     */
+    public int totalVotes(String pollId) {
+        PollCounts poll = polls.get(pollId);
+        return poll == null ? 0 : poll.total;
+    }
+
+    public int voteCount(String pollId, String optionId) {
+        OptionCounts option = option(pollId, optionId);
+        return option == null ? 0 : option.count;
+    }
+
+    public boolean userVoted(String pollId, String optionId) {
+        OptionCounts option = option(pollId, optionId);
+        return option != null && option.userVoted;
+    }
+
+    /**
+     * The option's votes in their original order, or an empty list if there are none or the
+     * tally was built without {@code keepVotes}.
+     */
+    public List<Vote> votes(String pollId, String optionId) {
+        OptionCounts option = option(pollId, optionId);
+        return option == null || option.votes == null ? List.of() : option.votes;
+    }
+
+    private OptionCounts option(String pollId, String optionId) {
+        PollCounts poll = polls.get(pollId);
+        return poll == null ? null : poll.options.get(optionId);
+    }
+
+    private static final class PollCounts {
+        private int total;
+        private final Map<String, OptionCounts> options = new HashMap<>();
+    }
+
+    private static final class OptionCounts {
+        private int count;
+        private boolean userVoted;
+        private List<Vote> votes;
+    }
+}
@@ -1,5 +1,7 @@
 package com.bbthechange.inviter.util;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
@@ -7,11 +9,16 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.function.Supplier;
 
 /**
  * Utility for tracking DynamoDB query performance.
  * Logs slow queries and records metrics for monitoring.
+ *
+ * Also the sink for consumed capacity reported by every DynamoDB call, which is
+ * counted per operation and table and attributed to partition keys so hot
+ * partitions can be found (see {@link HotPartitionTracker}).
  */
 @Component
 public class QueryPerformanceTracker {
@@ -20,10 +27,16 @@ public class QueryPerformanceTracker {
     private static final long SLOW_QUERY_THRESHOLD_MS = 500L;
     
     private final MeterRegistry meterRegistry;
+    private final HotPartitionTracker hotPartitionTracker;
     
-    @Autowired
     public QueryPerformanceTracker(MeterRegistry meterRegistry) {
+        this(meterRegistry, null);
+    }
+
+    @Autowired
+    public QueryPerformanceTracker(MeterRegistry meterRegistry, HotPartitionTracker hotPartitionTracker) {
         this.meterRegistry = meterRegistry;
+        this.hotPartitionTracker = hotPartitionTracker;
     }
     
     /**
@@ -37,6 +50,8 @@ public class QueryPerformanceTracker {
     public <T> T trackQuery(String operation, String table, Supplier<T> queryOperation) {
         Timer.Sample sample = Timer.start(meterRegistry);
         long startTime = System.currentTimeMillis();
+        // Tag the DynamoDB calls this makes for the request's call ledger
+        String enclosingOperation = DynamoCallLedger.enterOperation(operation);
         
         try {
             T result = queryOperation.get();
@@ -60,6 +75,7 @@ public class QueryPerformanceTracker {
             throw e;
             
         } finally {
+            DynamoCallLedger.exitOperation(enclosingOperation);
             // Record metrics for monitoring dashboards
             sample.stop(Timer.builder("dynamodb.query.duration")
                 .tag("operation", operation)
@@ -67,4 +83,50 @@ public class QueryPerformanceTracker {
                 .register(meterRegistry));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Record the estimated size of the attributes a write sent to DynamoDB.
+     *
+     * @param operation The write operation (PutItem, UpdateItem)
+     * @param entity The item type written, e.g. HangoutPointer
+     * @param bytes Estimated bytes written, see {@link DynamoItemSize}
+     */
+    public void recordWriteBytes(String operation, String entity, long bytes) {
+        DistributionSummary.builder("dynamodb.write.bytes")
+            .description("Estimated attribute bytes sent per DynamoDB write")
+            .baseUnit("bytes")
+            .tag("operation", operation)
+            .tag("entity", entity)
+            .register(meterRegistry)
+            .record(bytes);
+    }
+
+    /**
+     * Record capacity a DynamoDB call consumed. Batch and transactional calls report one
+     * figure per table, so it is split evenly across the partition keys they touched.
+     *
+     * @param operation The SDK operation, e.g. Query or TransactWriteItems
+     * @param table The table (or table and index) that consumed the capacity
+     * @param write Whether the units are WCU rather than RCU
+     * @param units Capacity units consumed
+     * @param partitionKeys Partition keys the call addressed; empty for scans
+     */
+    public void recordConsumedCapacity(String operation, String table, boolean write,
+                                       double units, List<String> partitionKeys) {
+        Counter.builder("dynamodb.consumed.capacity")
+            .description("Capacity units consumed by DynamoDB calls")
+            .tag("operation", operation)
+            .tag("table", table)
+            .tag("type", write ? "write" : "read")
+            .register(meterRegistry)
+            .increment(units);
+
+        if (hotPartitionTracker == null || partitionKeys.isEmpty()) {
+            return;
+        }
+        double perKey = units / partitionKeys.size();
+        for (String partitionKey : partitionKeys) {
+            hotPartitionTracker.record(partitionKey, write ? 0 : perKey, write ? perKey : 0);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.bbthechange.inviter.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Request-scoped identity map for repository reads.
+ *
+ * A single HTTP request often loads the same hangout partition from several services
+ * (hangout detail, momentum, carpool, polls). While a scope is open on the current thread,
+ * {@link #getOrLoad} returns the result of the first identical read instead of querying
+ * DynamoDB again. Any write to a partition drops its cached reads; see
+ * {@code RequestReadCacheInvalidator}, which does this for every write sent through the
+ * DynamoDB client.
+ *
+ * Cached results are the same instances for every caller in the request, so treat them as
+ * read-only; take a copy with {@link InviterTableSchemas#copyOf} before changing an item.
+ *
+ * Scopes are opened by {@code RequestReadCacheFilter}. Code running outside a request
+ * (schedulers, SQS listeners, async executors) has no scope and always reads through.
+ */
+public final class RequestReadCache {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private RequestReadCache() {
+    }
+
+    /**
+     * Open a scope on the current thread.
+     *
+     * @return true if a new scope was opened, false if one was already active
+     */
+    public static boolean begin() {
+        if (CURRENT.get() != null) {
+            return false;
+        }
+        CURRENT.set(new Scope());
+        return true;
+    }
+
+    /**
+     * Close the current thread's scope and discard its cached reads.
+     *
+     * @return number of reads served from the scope instead of DynamoDB
+     */
+    public static int end() {
+        Scope scope = CURRENT.get();
+        CURRENT.remove();
+        return scope == null ? 0 : scope.readsSaved;
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Return the cached result of {@code operation} on {@code partitionKey}, loading it on first use.
+     * Without an active scope this simply calls the loader. Failed loads are not cached.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T getOrLoad(String operation, String partitionKey, Supplier<T> loader) {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            return loader.get();
+        }
+
+        Map<String, Object> reads = scope.readsByPartition.get(partitionKey);
+        if (reads != null && reads.containsKey(operation)) {
+            scope.readsSaved++;
+            return (T) reads.get(operation);
+        }
+
+        T value = loader.get();
+        scope.readsByPartition.computeIfAbsent(partitionKey, key -> new HashMap<>()).put(operation, value);
+        return value;
+    }
+
+    /**
+     * Drop every cached read for a partition. No-op without an active scope.
+     */
+    public static void invalidatePartition(String partitionKey) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.readsByPartition.remove(partitionKey);
+        }
+    }
+
+    /**
+     * Number of reads served from the current scope so far.
+     */
+    public static int readsSaved() {
+        Scope scope = CURRENT.get();
+        return scope == null ? 0 : scope.readsSaved;
+    }
+
+    private static final class Scope {
+        private final Map<String, Map<String, Object>> readsByPartition = new HashMap<>();
+        private int readsSaved;
+    }
+}
@@ -0,0 +1,193 @@
+package com.bbthechange.inviter.util;
+
+import static com.bbthechange.inviter.util.InviterKeyFactory.*;
+
+/**
+ * Single-pass parser for InviterTable sort keys.
+ *
+ * {@link #decode} reads a sort key once and packs what it found into a {@code long}: the
+ * {@link Type} in the low byte and the start offsets of up to three IDs in the next 16-bit
+ * fields. Decoding allocates nothing, so repositories can classify every item of a large
+ * partition and {@code switch} on the result instead of running a chain of
+ * {@code startsWith}/{@code contains} checks per item. IDs are only materialised on request
+ * through {@link #id}.
+ *
+ * Classification is structural and does not validate the IDs themselves; sort keys that
+ * match no known layout decode as {@link Type#UNKNOWN}.
+ */
+public final class SortKeyCodec {
+
+    public enum Type {
+        UNKNOWN,
+        METADATA,
+        POLL,               // POLL#{pollId}
+        POLL_OPTION,        // POLL#{pollId}#OPTION#{optionId}
+        VOTE,               // POLL#{pollId}#VOTE#{userId}#OPTION#{optionId}
+        CAR,                // CAR#{driverId}
+        CAR_RIDER,          // CAR#{driverId}#RIDER#{riderId}
+        NEEDS_RIDE,         // NEEDS_RIDE#{userId}
+        ATTENDANCE,         // ATTENDANCE#{userId}
+        INVITE,             // INVITE#{userId}
+        HANGOUT_POINTER,    // HANGOUT#{hangoutId}
+        SERIES_POINTER,     // SERIES#{seriesId}
+        ATTRIBUTE,          // ATTRIBUTE#{attributeId}
+        GROUP_MEMBERSHIP,   // USER#{userId}
+        IDEA_LIST,          // IDEALIST#{listId}
+        IDEA_LIST_MEMBER,   // IDEALIST#{listId}#IDEA#{ideaId}
+        PLACE,              // PLACE#{placeId}
+        PARTICIPATION,      // PARTICIPATION#{participationId}
+        RESERVATION_OFFER,  // RESERVEOFFER#{offerId}
+        SEASON              // SEASON#{seasonNumber}
+    }
+
+    private static final Type[] TYPES = Type.values();
+    private static final char DELIMITER = '#';
+    private static final int OFFSET_BITS = 16;
+    private static final int OFFSET_MASK = (1 << OFFSET_BITS) - 1;
+    private static final long UNKNOWN = encode(Type.UNKNOWN, -1, -1, -1);
+
+    private SortKeyCodec() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Parse a sort key into a packed descriptor; read it with {@link #type} and {@link #id}.
+     */
+    public static long decode(String sortKey) {
+        if (sortKey == null) {
+            return UNKNOWN;
+        }
+        int prefixEnd = sortKey.indexOf(DELIMITER);
+        if (prefixEnd < 0) {
+            return METADATA_SUFFIX.equals(sortKey) ? encode(Type.METADATA, -1, -1, -1) : UNKNOWN;
+        }
+
+        int id = prefixEnd + 1;
+        // Prefix lengths are nearly unique, so at most three comparisons pick the family
+        switch (prefixEnd) {
+            case 3:
+                if (isPrefix(sortKey, prefixEnd, CAR_PREFIX)) return decodeChild(sortKey, id, Type.CAR);
+                break;
+            case 4:
+                if (isPrefix(sortKey, prefixEnd, POLL_PREFIX)) return decodePoll(sortKey, id);
+                if (isPrefix(sortKey, prefixEnd, USER_PREFIX)) return encode(Type.GROUP_MEMBERSHIP, id, -1, -1);
+                break;
+            case 5:
+                if (isPrefix(sortKey, prefixEnd, PLACE_PREFIX)) return encode(Type.PLACE, id, -1, -1);
+                break;
+            case 6:
+                if (isPrefix(sortKey, prefixEnd, INVITE_PREFIX)) return encode(Type.INVITE, id, -1, -1);
+                if (isPrefix(sortKey, prefixEnd, SERIES_PREFIX)) return encode(Type.SERIES_POINTER, id, -1, -1);
+                if (isPrefix(sortKey, prefixEnd, SEASON_PREFIX)) return encode(Type.SEASON, id, -1, -1);
+                break;
+            case 7:
+                if (isPrefix(sortKey, prefixEnd, HANGOUT_PREFIX)) return encode(Type.HANGOUT_POINTER, id, -1, -1);
+                break;
+            case 8:
+                if (isPrefix(sortKey, prefixEnd, IDEALIST_PREFIX)) return decodeChild(sortKey, id, Type.IDEA_LIST);
+                break;
+            case 9:
+                if (isPrefix(sortKey, prefixEnd, ATTRIBUTE_PREFIX)) return encode(Type.ATTRIBUTE, id, -1, -1);
+                break;
+            case 10:
+                if (isPrefix(sortKey, prefixEnd, NEEDS_RIDE_PREFIX)) return encode(Type.NEEDS_RIDE, id, -1, -1);
+                if (isPrefix(sortKey, prefixEnd, ATTENDANCE_PREFIX)) return encode(Type.ATTENDANCE, id, -1, -1);
+                break;
+            case 12:
+                if (isPrefix(sortKey, prefixEnd, RESERVEOFFER_PREFIX)) return encode(Type.RESERVATION_OFFER, id, -1, -1);
+                break;
+            case 13:
+                if (isPrefix(sortKey, prefixEnd, PARTICIPATION_PREFIX)) return encode(Type.PARTICIPATION, id, -1, -1);
+                break;
+            default:
+                break;
+        }
+        return UNKNOWN;
+    }
+
+    public static Type type(long descriptor) {
+        return TYPES[(int) (descriptor & 0xFF)];
+    }
+
+    public static Type typeOf(String sortKey) {
+        return type(decode(sortKey));
+    }
+
+    /**
+     * Start offset of the {@code index}th ID (0-based) in the decoded sort key, or -1 if the
+     * layout has no such ID. For a vote, the IDs are poll, user and option in that order.
+     */
+    public static int idOffset(long descriptor, int index) {
+        int stored = (int) (descriptor >>> (8 + index * OFFSET_BITS)) & OFFSET_MASK;
+        return stored - 1;
+    }
+
+    /**
+     * The {@code index}th ID of {@code sortKey}, or null if its layout has no such ID.
+     */
+    public static String id(String sortKey, long descriptor, int index) {
+        int start = idOffset(descriptor, index);
+        if (start < 0) {
+            return null;
+        }
+        int end = sortKey.indexOf(DELIMITER, start);
+        return sortKey.substring(start, end < 0 ? sortKey.length() : end);
+    }
+
+    // POLL#{pollId}[#OPTION#{optionId} | #VOTE#{userId}#OPTION#{optionId}]
+    private static long decodePoll(String sortKey, int pollId) {
+        int childPrefix = sortKey.indexOf(DELIMITER, pollId) + 1;
+        if (childPrefix == 0) {
+            return encode(Type.POLL, pollId, -1, -1);
+        }
+        int childId = sortKey.indexOf(DELIMITER, childPrefix) + 1;
+        if (childId == 0) {
+            return UNKNOWN;
+        }
+        int childPrefixEnd = childId - 1;
+        if (isPrefix(sortKey, childPrefix, childPrefixEnd, OPTION_PREFIX)) {
+            return encode(Type.POLL_OPTION, pollId, childId, -1);
+        }
+        if (isPrefix(sortKey, childPrefix, childPrefixEnd, VOTE_PREFIX)) {
+            int optionPrefix = sortKey.indexOf(DELIMITER, childId) + 1;
+            int optionId = optionPrefix == 0 ? 0 : sortKey.indexOf(DELIMITER, optionPrefix) + 1;
+            return encode(Type.VOTE, pollId, childId, optionId == 0 ? -1 : optionId);
+        }
+        return UNKNOWN;
+    }
+
+    // CAR#{driverId}[#RIDER#{riderId}] and IDEALIST#{listId}[#IDEA#{ideaId}]
+    private static long decodeChild(String sortKey, int parentId, Type parent) {
+        int childPrefix = sortKey.indexOf(DELIMITER, parentId) + 1;
+        if (childPrefix == 0) {
+            return encode(parent, parentId, -1, -1);
+        }
+        int childId = sortKey.indexOf(DELIMITER, childPrefix) + 1;
+        if (childId == 0) {
+            return UNKNOWN;
+        }
+        if (parent == Type.CAR && isPrefix(sortKey, childPrefix, childId - 1, RIDER_PREFIX)) {
+            return encode(Type.CAR_RIDER, parentId, childId, -1);
+        }
+        if (parent == Type.IDEA_LIST && isPrefix(sortKey, childPrefix, childId - 1, IDEA_PREFIX)) {
+            return encode(Type.IDEA_LIST_MEMBER, parentId, childId, -1);
+        }
+        return UNKNOWN;
+    }
+
+    private static boolean isPrefix(String sortKey, int end, String prefix) {
+        return isPrefix(sortKey, 0, end, prefix);
+    }
+
+    private static boolean isPrefix(String sortKey, int start, int end, String prefix) {
+        return end - start == prefix.length() && sortKey.regionMatches(start, prefix, 0, prefix.length());
+    }
+
+    // Offsets are stored plus one so that zero means "absent"; sort keys are at most 1 KB
+    private static long encode(Type type, int first, int second, int third) {
+        return type.ordinal()
+                | ((long) (first + 1) & OFFSET_MASK) << 8
+                | ((long) (second + 1) & OFFSET_MASK) << (8 + OFFSET_BITS)
+                | ((long) (third + 1) & OFFSET_MASK) << (8 + 2 * OFFSET_BITS);
+    }
+}
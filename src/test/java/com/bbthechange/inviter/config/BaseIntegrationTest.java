@@ -13,6 +13,7 @@ import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.services.dynamodb.model.ResourceNotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -22,6 +23,9 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 import org.testcontainers.containers.localstack.LocalStackContainer;
@@ -33,8 +37,12 @@ import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
+import java.util.List;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.testcontainers.containers.localstack.LocalStackContainer.Service.DYNAMODB;
 
 /**
@@ -42,6 +50,7 @@ import static org.testcontainers.containers.localstack.LocalStackContainer.Servi
  * - TestContainers DynamoDB Local setup
  * - Spring Boot test configuration with real HTTP server
  * - JWT token generation for authenticated tests
+ * - Failing any test whose requests exceed an endpoint's @DynamoCallBudget
  * - Test data cleanup utilities
  */
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -84,6 +93,9 @@ public abstract class BaseIntegrationTest {
     @Autowired
     protected DynamoDbEnhancedClient dynamoDbEnhancedClient;
 
+    @Autowired
+    protected DynamoCallBudgetInterceptor dynamoCallBudgetInterceptor;
+
     protected String baseUrl;
 
     @DynamicPropertySource
@@ -101,6 +113,23 @@ public abstract class BaseIntegrationTest {
         cleanupTestData();
     }
 
+    @AfterEach
+    void assertDynamoCallBudgets() {
+        List<String> violations = dynamoCallBudgetInterceptor.drainViolations();
+        assertTrue(violations.isEmpty(), () -> "DynamoDB call budget exceeded: " + violations);
+    }
+
+    /**
+     * Perform a request whose handler completes asynchronously (e.g. POST /auth/login) and
+     * return the result of the async dispatch, so expectations apply to the final response.
+     */
+    protected ResultActions performAsync(RequestBuilder requestBuilder) throws Exception {
+        MvcResult started = mockMvc.perform(requestBuilder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
+
     /**
      * Clean up test data before each test
      */
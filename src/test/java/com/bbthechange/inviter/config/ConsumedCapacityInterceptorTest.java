@@ -0,0 +1,121 @@
+package com.bbthechange.inviter.config;
+
+import com.bbthechange.inviter.util.QueryPerformanceTracker;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ReturnConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConsumedCapacityInterceptorTest {
+
+    private final QueryPerformanceTracker performanceTracker = mock(QueryPerformanceTracker.class);
+    private final ConsumedCapacityInterceptor interceptor = new ConsumedCapacityInterceptor(performanceTracker);
+
+    private SdkRequest modify(SdkRequest request) {
+        Context.ModifyRequest context = mock(Context.ModifyRequest.class);
+        when(context.request()).thenReturn(request);
+        return interceptor.modifyRequest(context, new ExecutionAttributes());
+    }
+
+    private void complete(String operation, SdkRequest request, SdkResponse response) {
+        Context.AfterExecution context = mock(Context.AfterExecution.class);
+        when(context.request()).thenReturn(request);
+        when(context.response()).thenReturn(response);
+        ExecutionAttributes attributes = new ExecutionAttributes();
+        attributes.putAttribute(SdkExecutionAttribute.OPERATION_NAME, operation);
+        interceptor.afterExecution(context, attributes);
+    }
+
+    private static Map<String, AttributeValue> key(String pk) {
+        return Map.of("pk", AttributeValue.builder().s(pk).build(),
+                "sk", AttributeValue.builder().s("METADATA").build());
+    }
+
+    private static ConsumedCapacity capacity(double units) {
+        return ConsumedCapacity.builder().tableName("InviterTable").capacityUnits(units).build();
+    }
+
+    @Test
+    void modifyRequest_AsksForTotalCapacityUnlessCallerChoseALevel() {
+        // When
+        SdkRequest plain = modify(GetItemRequest.builder().tableName("InviterTable").key(key("GROUP#g1")).build());
+        SdkRequest explicit = modify(GetItemRequest.builder().tableName("InviterTable").key(key("GROUP#g1"))
+                .returnConsumedCapacity(ReturnConsumedCapacity.INDEXES).build());
+
+        // Then
+        assertThat(((GetItemRequest) plain).returnConsumedCapacity()).isEqualTo(ReturnConsumedCapacity.TOTAL);
+        assertThat(((GetItemRequest) explicit).returnConsumedCapacity()).isEqualTo(ReturnConsumedCapacity.INDEXES);
+    }
+
+    @Test
+    void afterExecution_IndexQuery_AttributesReadUnitsToIndexPartition() {
+        // Given
+        QueryRequest query = QueryRequest.builder()
+                .tableName("InviterTable")
+                .indexName("UserGroupIndex")
+                .keyConditionExpression("gsi1pk = :pk AND begins_with(gsi1sk, :sk)")
+                .expressionAttributeValues(Map.of(
+                        ":pk", AttributeValue.builder().s("USER#u1").build(),
+                        ":sk", AttributeValue.builder().s("GROUP#").build()))
+                .build();
+
+        // When
+        complete("Query", query, QueryResponse.builder().consumedCapacity(capacity(2.5)).build());
+
+        // Then
+        verify(performanceTracker).recordConsumedCapacity("Query", "InviterTable", false, 2.5,
+                List.of("UserGroupIndex:USER#u1"));
+    }
+
+    @Test
+    void afterExecution_TransactWrite_PassesEveryPartitionTouched() {
+        // Given
+        TransactWriteItemsRequest transaction = TransactWriteItemsRequest.builder().transactItems(List.of(
+                TransactWriteItem.builder().put(p -> p.tableName("InviterTable").item(key("EVENT#h1"))).build(),
+                TransactWriteItem.builder().update(u -> u.tableName("InviterTable").key(key("GROUP#g1"))).build()
+        )).build();
+
+        // When
+        complete("TransactWriteItems", transaction,
+                TransactWriteItemsResponse.builder().consumedCapacity(capacity(8.0)).build());
+
+        // Then
+        verify(performanceTracker).recordConsumedCapacity(eq("TransactWriteItems"), eq("InviterTable"), eq(true),
+                eq(8.0), eq(List.of("EVENT#h1", "GROUP#g1")));
+    }
+
+    @Test
+    void afterExecution_WithoutConsumedCapacity_RecordsNothing() {
+        // When
+        complete("Query", QueryRequest.builder().tableName("InviterTable").build(), QueryResponse.builder().build());
+
+        // Then
+        verify(performanceTracker, never()).recordConsumedCapacity(anyString(), anyString(), anyBoolean(),
+                anyDouble(), any());
+    }
+}
@@ -0,0 +1,68 @@
+package com.bbthechange.inviter.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContextPropagatingExecutorServiceTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ContextPropagatingExecutorService(Executors.newSingleThreadExecutor());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        MDC.clear();
+    }
+
+    @Test
+    void execute_CopiesSubmittingThreadMdcToWorker() throws Exception {
+        // Given
+        MDC.put("appVersion", "2.1.0");
+
+        // When
+        String seen = CompletableFuture.supplyAsync(() -> MDC.get("appVersion"), executor)
+                .get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(seen).isEqualTo("2.1.0");
+    }
+
+    @Test
+    void execute_RestoresWorkerMdcAfterTask() throws Exception {
+        // Given - first task leaves nothing behind for the next one
+        MDC.put("appVersion", "2.1.0");
+        executor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+        MDC.clear();
+
+        // When
+        String seen = CompletableFuture.supplyAsync(() -> MDC.get("appVersion"), executor)
+                .get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(seen).isNull();
+    }
+
+    @Test
+    void shutdown_DelegatesToWrappedExecutor() throws Exception {
+        // When
+        executor.shutdown();
+
+        // Then
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.isShutdown()).isTrue();
+        assertThat(executor.isTerminated()).isTrue();
+    }
+}
@@ -0,0 +1,119 @@
+package com.bbthechange.inviter.config;
+
+import com.bbthechange.inviter.util.DynamoCallLedger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DynamoCallBudgetInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DynamoCallBudgetInterceptor interceptor = new DynamoCallBudgetInterceptor(meterRegistry, 3, true);
+
+    @AfterEach
+    void tearDown() {
+        DynamoCallLedger.end();
+    }
+
+    static class Endpoints {
+        @DynamoCallBudget(maxCalls = 2)
+        public void budgeted() {
+        }
+
+        public void unbudgeted() {
+        }
+    }
+
+    private HandlerMethod handler(String name) throws Exception {
+        return new HandlerMethod(new Endpoints(), Endpoints.class.getMethod(name));
+    }
+
+    private void serve(HandlerMethod handler, int calls) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/groups/g1/feed");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/groups/{groupId}/feed");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, handler);
+        for (int i = 0; i < calls; i++) {
+            DynamoCallLedger.current().record("findMembership", "GetItem InviterTable GROUP#* / USER#*");
+        }
+        interceptor.afterCompletion(request, response, handler, null);
+    }
+
+    @Test
+    void afterCompletion_RecordsCallsPerEndpointAndClosesLedger() throws Exception {
+        // When
+        serve(handler("unbudgeted"), 2);
+
+        // Then
+        assertThat(meterRegistry.get("dynamodb_request_calls")
+                .tag("endpoint", "GET /groups/{groupId}/feed")
+                .summary().totalAmount()).isEqualTo(2.0);
+        assertThat(DynamoCallLedger.current()).isNull();
+        assertThat(interceptor.drainViolations()).isEmpty();
+    }
+
+    @Test
+    void afterCompletion_OverBudget_RecordsViolation() throws Exception {
+        // When
+        serve(handler("budgeted"), 3);
+
+        // Then
+        List<String> violations = interceptor.drainViolations();
+        assertThat(violations).hasSize(1);
+        assertThat(violations.get(0)).contains("GET /groups/{groupId}/feed made 3 DynamoDB calls, budget is 2");
+        assertThat(interceptor.drainViolations()).isEmpty();
+        assertThat(meterRegistry.counter("dynamodb_call_budget_exceeded_total",
+                "endpoint", "GET /groups/{groupId}/feed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void afterCompletion_RepeatedKeyShape_IsCounted() throws Exception {
+        // When
+        serve(handler("unbudgeted"), 3);
+
+        // Then
+        assertThat(meterRegistry.counter("dynamodb_repeated_key_shape_total",
+                "endpoint", "GET /groups/{groupId}/feed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void asyncRequest_ReleasesThreadAndCountsBothDispatchesOnOneLedger() throws Exception {
+        // Given
+        HandlerMethod handler = handler("budgeted");
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/auth/login");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/auth/login");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When - first dispatch starts async handling
+        interceptor.preHandle(request, response, handler);
+        DynamoCallLedger.current().record("findByPhoneNumber", "Query InviterTable PhoneNumberIndex");
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+
+        // Then - the container thread no longer holds the ledger
+        assertThat(DynamoCallLedger.current()).isNull();
+        assertThat(DynamoCallLedger.begin()).isNotNull();
+        DynamoCallLedger.end();
+
+        // When - async dispatch completes the request
+        interceptor.preHandle(request, response, handler);
+        DynamoCallLedger.current().record("save", "PutItem InviterTable USER#* / REFRESH_TOKEN#*");
+        DynamoCallLedger.current().record("save", "PutItem InviterTable USER#* / REFRESH_TOKEN#*");
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // Then
+        assertThat(meterRegistry.get("dynamodb_request_calls")
+                .tag("endpoint", "POST /auth/login")
+                .summary().totalAmount()).isEqualTo(3.0);
+        assertThat(interceptor.drainViolations()).hasSize(1);
+        assertThat(DynamoCallLedger.current()).isNull();
+    }
+}
@@ -0,0 +1,91 @@
+package com.bbthechange.inviter.config;
+
+import com.bbthechange.inviter.util.DynamoCallLedger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DynamoCallCountingInterceptorTest {
+
+    private final DynamoCallCountingInterceptor interceptor = new DynamoCallCountingInterceptor();
+
+    @AfterEach
+    void tearDown() {
+        DynamoCallLedger.end();
+    }
+
+    private void intercept(String operation, SdkRequest request) {
+        Context.BeforeExecution context = mock(Context.BeforeExecution.class);
+        when(context.request()).thenReturn(request);
+        ExecutionAttributes attributes = new ExecutionAttributes();
+        attributes.putAttribute(SdkExecutionAttribute.OPERATION_NAME, operation);
+        interceptor.beforeExecution(context, attributes);
+    }
+
+    private static GetItemRequest groupMetadata(String groupId) {
+        return GetItemRequest.builder()
+                .tableName("InviterTable")
+                .key(Map.of("pk", AttributeValue.builder().s("GROUP#" + groupId).build(),
+                        "sk", AttributeValue.builder().s("METADATA").build()))
+                .build();
+    }
+
+    @Test
+    void beforeExecution_SameShapeForDifferentIds_CountsAsOneShape() {
+        // Given
+        DynamoCallLedger ledger = DynamoCallLedger.begin();
+        String enclosing = DynamoCallLedger.enterOperation("findGroupById");
+
+        // When
+        intercept("GetItem", groupMetadata("11111111-1111-1111-1111-111111111111"));
+        intercept("GetItem", groupMetadata("22222222-2222-2222-2222-222222222222"));
+        DynamoCallLedger.exitOperation(enclosing);
+        intercept("GetItem", groupMetadata("33333333-3333-3333-3333-333333333333"));
+
+        // Then
+        assertThat(ledger.calls()).isEqualTo(3);
+        assertThat(ledger.callsByKeyShape())
+                .containsEntry("findGroupById GetItem InviterTable GROUP#* / METADATA", 2)
+                .containsEntry("GetItem GetItem InviterTable GROUP#* / METADATA", 1);
+        assertThat(ledger.callsByOperation()).containsEntry("findGroupById", 2);
+    }
+
+    @Test
+    void beforeExecution_IndexQuery_ShapesOnMaskedPartitionValue() {
+        // Given
+        DynamoCallLedger ledger = DynamoCallLedger.begin();
+
+        // When
+        intercept("Query", QueryRequest.builder()
+                .tableName("InviterTable")
+                .indexName("UserGroupIndex")
+                .keyConditionExpression("gsi1pk = :pk")
+                .expressionAttributeValues(Map.of(":pk",
+                        AttributeValue.builder().s("USER#11111111-1111-1111-1111-111111111111").build()))
+                .build());
+
+        // Then
+        assertThat(ledger.callsByKeyShape()).containsOnlyKeys("Query Query InviterTable.UserGroupIndex USER#*");
+    }
+
+    @Test
+    void beforeExecution_WithoutLedger_RecordsNothing() {
+        // When
+        intercept("GetItem", groupMetadata("11111111-1111-1111-1111-111111111111"));
+
+        // Then
+        assertThat(DynamoCallLedger.current()).isNull();
+    }
+}
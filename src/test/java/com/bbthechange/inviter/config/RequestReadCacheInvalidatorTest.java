@@ -0,0 +1,115 @@
+package com.bbthechange.inviter.config;
+
+import com.bbthechange.inviter.util.RequestReadCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.Delete;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.UpdateItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RequestReadCacheInvalidatorTest {
+
+    private static final String PK_1 = "EVENT#hangout-1";
+    private static final String PK_2 = "EVENT#hangout-2";
+
+    private final RequestReadCacheInvalidator invalidator = new RequestReadCacheInvalidator();
+
+    @BeforeEach
+    void setUp() {
+        RequestReadCache.begin();
+        RequestReadCache.getOrLoad("op", PK_1, () -> "cached-1");
+        RequestReadCache.getOrLoad("op", PK_2, () -> "cached-2");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestReadCache.end();
+    }
+
+    private void intercept(SdkRequest request) {
+        Context.BeforeExecution context = mock(Context.BeforeExecution.class);
+        when(context.request()).thenReturn(request);
+        invalidator.beforeExecution(context, new ExecutionAttributes());
+    }
+
+    private static Map<String, AttributeValue> key(String pk) {
+        return Map.of("pk", AttributeValue.builder().s(pk).build(),
+                "sk", AttributeValue.builder().s("METADATA").build());
+    }
+
+    private static boolean isCached(String pk) {
+        return RequestReadCache.getOrLoad("op", pk, () -> "reloaded").startsWith("cached");
+    }
+
+    @Test
+    void putItem_InvalidatesWrittenPartitionOnly() {
+        // When
+        intercept(PutItemRequest.builder().tableName("InviterTable").item(key(PK_1)).build());
+
+        // Then
+        assertThat(isCached(PK_1)).isFalse();
+        assertThat(isCached(PK_2)).isTrue();
+    }
+
+    @Test
+    void updateItem_InvalidatesPartition() {
+        // When
+        intercept(UpdateItemRequest.builder().tableName("InviterTable").key(key(PK_2)).build());
+
+        // Then
+        assertThat(isCached(PK_2)).isFalse();
+    }
+
+    @Test
+    void transactWrite_InvalidatesEveryPartitionInTransaction() {
+        // When
+        intercept(TransactWriteItemsRequest.builder().transactItems(List.of(
+                TransactWriteItem.builder().put(p -> p.tableName("InviterTable").item(key(PK_1))).build(),
+                TransactWriteItem.builder().delete(Delete.builder().tableName("InviterTable").key(key(PK_2)).build()).build()
+        )).build());
+
+        // Then
+        assertThat(isCached(PK_1)).isFalse();
+        assertThat(isCached(PK_2)).isFalse();
+    }
+
+    @Test
+    void batchWrite_InvalidatesPutPartitions() {
+        // When
+        intercept(BatchWriteItemRequest.builder().requestItems(Map.of("InviterTable", List.of(
+                WriteRequest.builder().putRequest(PutRequest.builder().item(key(PK_1)).build()).build()
+        ))).build());
+
+        // Then
+        assertThat(isCached(PK_1)).isFalse();
+        assertThat(isCached(PK_2)).isTrue();
+    }
+
+    @Test
+    void query_LeavesCacheUntouched() {
+        // When
+        intercept(QueryRequest.builder().tableName("InviterTable").build());
+
+        // Then
+        assertThat(isCached(PK_1)).isTrue();
+        assertThat(isCached(PK_2)).isTrue();
+    }
+}
@@ -26,12 +26,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.ResponseCookie;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -108,7 +113,8 @@ class AuthControllerTest {
             refreshTokenRepository,
             accountService,
             rateLimitingService,
-            passwordResetService
+            passwordResetService,
+            Runnable::run
         );
         
         testUserId = UUID.randomUUID();
@@ -401,7 +407,7 @@ class AuthControllerTest {
         void login_Success_ValidCredentials() {
             // Arrange
             when(userRepository.findByPhoneNumber("+1234567890")).thenReturn(Optional.of(existingUser));
-            when(passwordService.matches("password123", "hashedpassword")).thenReturn(true);
+            when(passwordService.matchesAsync("password123", "hashedpassword")).thenReturn(CompletableFuture.completedFuture(true));
             when(jwtService.generateToken(testUserId.toString())).thenReturn("jwt-token");
             when(hashingService.generateRefreshToken()).thenReturn("refresh-token");
             when(hashingService.generateLookupHash("refresh-token")).thenReturn("lookup-hash");
@@ -418,7 +424,7 @@ class AuthControllerTest {
             when(cookieService.createRefreshTokenCookie("refresh-token")).thenReturn(mockCookie);
 
             // Act
-            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request, mockResponse);
+            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request).join();
 
             // Assert
             assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -426,9 +432,10 @@ class AuthControllerTest {
             assertEquals("jwt-token", response.getBody().get("accessToken"));
             assertEquals(1800, response.getBody().get("expiresIn"));
             assertEquals("Bearer", response.getBody().get("tokenType"));
+            assertEquals(mockCookie.toString(), response.getHeaders().getFirst(HttpHeaders.SET_COOKIE));
             
             verify(userRepository).findByPhoneNumber("+1234567890");
-            verify(passwordService).matches("password123", "hashedpassword");
+            verify(passwordService).matchesAsync("password123", "hashedpassword");
             verify(jwtService).generateToken(testUserId.toString());
             verify(hashingService).generateRefreshToken();
             verify(hashingService).generateLookupHash("refresh-token");
@@ -444,7 +451,7 @@ class AuthControllerTest {
 
 
             // Act
-            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request, mockResponse);
+            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request).join();
 
             // Assert
             assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
@@ -452,7 +459,7 @@ class AuthControllerTest {
             assertEquals("Invalid credentials", response.getBody().get("error"));
             
             verify(userRepository).findByPhoneNumber("+1234567890");
-            verify(passwordService, never()).matches(any(), any());
+            verify(passwordService, never()).matchesAsync(any(), any());
             verify(jwtService, never()).generateToken(any());
         }
 
@@ -465,13 +472,13 @@ class AuthControllerTest {
 
 
             // Act
-            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request, mockResponse);
+            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request).join();
 
             // Assert
             assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
             assertEquals("Invalid credentials", response.getBody().get("error"));
             
-            verify(passwordService, never()).matches(any(), any());
+            verify(passwordService, never()).matchesAsync(any(), any());
             verify(jwtService, never()).generateToken(any());
         }
 
@@ -480,17 +487,17 @@ class AuthControllerTest {
         void login_Unauthorized_InvalidPassword() {
             // Arrange
             when(userRepository.findByPhoneNumber("+1234567890")).thenReturn(Optional.of(existingUser));
-            when(passwordService.matches("password123", "hashedpassword")).thenReturn(false);
+            when(passwordService.matchesAsync("password123", "hashedpassword")).thenReturn(CompletableFuture.completedFuture(false));
 
 
             // Act
-            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request, mockResponse);
+            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request).join();
 
             // Assert
             assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
             assertEquals("Invalid credentials", response.getBody().get("error"));
             
-            verify(passwordService).matches("password123", "hashedpassword");
+            verify(passwordService).matchesAsync("password123", "hashedpassword");
             verify(jwtService, never()).generateToken(any());
         }
 
@@ -503,7 +510,7 @@ class AuthControllerTest {
 
 
             // Act
-            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request, mockResponse);
+            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request).join();
 
             // Assert
             assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
@@ -516,11 +523,11 @@ class AuthControllerTest {
             // Arrange
             loginRequest.setPassword(null);
             when(userRepository.findByPhoneNumber("+1234567890")).thenReturn(Optional.of(existingUser));
-            when(passwordService.matches(null, "hashedpassword")).thenReturn(false);
+            when(passwordService.matchesAsync(null, "hashedpassword")).thenReturn(CompletableFuture.completedFuture(false));
 
 
             // Act
-            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request, mockResponse);
+            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request).join();
 
             // Assert
             assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
@@ -536,10 +543,10 @@ class AuthControllerTest {
             unverifiedUser.setAccountStatus(AccountStatus.UNVERIFIED);
             
             when(userRepository.findByPhoneNumber("+1234567890")).thenReturn(Optional.of(unverifiedUser));
-            when(passwordService.matches("password123", "hashedpassword")).thenReturn(true);
+            when(passwordService.matchesAsync("password123", "hashedpassword")).thenReturn(CompletableFuture.completedFuture(true));
 
             // Act
-            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request, mockResponse);
+            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request).join();
 
             // Assert
             assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
@@ -548,7 +555,7 @@ class AuthControllerTest {
             assertEquals("This account is not verified. Please complete the verification process.", response.getBody().get("message"));
             
             verify(userRepository).findByPhoneNumber("+1234567890");
-            verify(passwordService).matches("password123", "hashedpassword");
+            verify(passwordService).matchesAsync("password123", "hashedpassword");
             verify(jwtService, never()).generateToken(any());
             verify(hashingService, never()).generateRefreshToken();
         }
@@ -562,7 +569,7 @@ class AuthControllerTest {
             userWithNullStatus.setAccountStatus(null); // null status for backward compatibility
             
             when(userRepository.findByPhoneNumber("+1234567890")).thenReturn(Optional.of(userWithNullStatus));
-            when(passwordService.matches("password123", "hashedpassword")).thenReturn(true);
+            when(passwordService.matchesAsync("password123", "hashedpassword")).thenReturn(CompletableFuture.completedFuture(true));
             when(jwtService.generateToken(testUserId.toString())).thenReturn("jwt-token");
             when(hashingService.generateRefreshToken()).thenReturn("refresh-token");
             when(hashingService.generateLookupHash("refresh-token")).thenReturn("lookup-hash");
@@ -578,7 +585,7 @@ class AuthControllerTest {
             when(cookieService.createRefreshTokenCookie("refresh-token")).thenReturn(mockCookie);
 
             // Act
-            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request, mockResponse);
+            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request).join();
 
             // Assert
             assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -588,7 +595,7 @@ class AuthControllerTest {
             assertEquals("Bearer", response.getBody().get("tokenType"));
 
             verify(userRepository).findByPhoneNumber("+1234567890");
-            verify(passwordService).matches("password123", "hashedpassword");
+            verify(passwordService).matchesAsync("password123", "hashedpassword");
             verify(jwtService).generateToken(testUserId.toString());
             verify(hashingService).generateRefreshToken();
             verify(refreshTokenRepository).save(any(RefreshToken.class));
@@ -603,7 +610,7 @@ class AuthControllerTest {
             activeUser.setAccountStatus(AccountStatus.ACTIVE);
 
             when(userRepository.findByPhoneNumber("+1234567890")).thenReturn(Optional.of(activeUser));
-            when(passwordService.matches("password123", "hashedpassword")).thenReturn(true);
+            when(passwordService.matchesAsync("password123", "hashedpassword")).thenReturn(CompletableFuture.completedFuture(true));
             when(jwtService.generateToken(testUserId.toString())).thenReturn("jwt-token");
             when(hashingService.generateRefreshToken()).thenReturn("refresh-token");
             when(hashingService.generateLookupHash("refresh-token")).thenReturn("lookup-hash");
@@ -619,7 +626,7 @@ class AuthControllerTest {
             when(cookieService.createRefreshTokenCookie("refresh-token")).thenReturn(mockCookie);
 
             // Act
-            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request, mockResponse);
+            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request).join();
 
             // Assert
             assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -629,7 +636,7 @@ class AuthControllerTest {
             assertEquals("Bearer", response.getBody().get("tokenType"));
             
             verify(userRepository).findByPhoneNumber("+1234567890");
-            verify(passwordService).matches("password123", "hashedpassword");
+            verify(passwordService).matchesAsync("password123", "hashedpassword");
             verify(jwtService).generateToken(testUserId.toString());
             verify(hashingService).generateRefreshToken();
             verify(refreshTokenRepository).save(any(RefreshToken.class));
@@ -644,10 +651,10 @@ class AuthControllerTest {
             unverifiedUserWithWrongPassword.setAccountStatus(AccountStatus.UNVERIFIED);
             
             when(userRepository.findByPhoneNumber("+1234567890")).thenReturn(Optional.of(unverifiedUserWithWrongPassword));
-            when(passwordService.matches("password123", "hashedpassword")).thenReturn(false); // Wrong password
+            when(passwordService.matchesAsync("password123", "hashedpassword")).thenReturn(CompletableFuture.completedFuture(false)); // Wrong password
 
             // Act
-            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request, mockResponse);
+            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request).join();
 
             // Assert
             assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
@@ -655,7 +662,7 @@ class AuthControllerTest {
             assertEquals("Invalid credentials", response.getBody().get("error"));
             
             verify(userRepository).findByPhoneNumber("+1234567890");
-            verify(passwordService).matches("password123", "hashedpassword");
+            verify(passwordService).matchesAsync("password123", "hashedpassword");
             verify(jwtService, never()).generateToken(any());
             verify(hashingService, never()).generateRefreshToken();
         }
@@ -669,10 +676,10 @@ class AuthControllerTest {
             unverifiedUser.setAccountStatus(AccountStatus.UNVERIFIED);
             
             when(userRepository.findByPhoneNumber("+1234567890")).thenReturn(Optional.of(unverifiedUser));
-            when(passwordService.matches("password123", "hashedpassword")).thenReturn(true);
+            when(passwordService.matchesAsync("password123", "hashedpassword")).thenReturn(CompletableFuture.completedFuture(true));
 
             // Act
-            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request, mockResponse);
+            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request).join();
 
             // Assert
             assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
@@ -681,7 +688,7 @@ class AuthControllerTest {
             assertEquals("This account is not verified. Please complete the verification process.", response.getBody().get("message"));
             
             verify(userRepository).findByPhoneNumber("+1234567890");
-            verify(passwordService).matches("password123", "hashedpassword");
+            verify(passwordService).matchesAsync("password123", "hashedpassword");
             verify(jwtService, never()).generateToken(any());
             verify(hashingService, never()).generateRefreshToken();
             verify(refreshTokenRepository, never()).save(any());
@@ -696,10 +703,10 @@ class AuthControllerTest {
             unverifiedUser.setAccountStatus(AccountStatus.UNVERIFIED);
             
             when(userRepository.findByPhoneNumber("+1234567890")).thenReturn(Optional.of(unverifiedUser));
-            when(passwordService.matches("password123", "hashedpassword")).thenReturn(true);
+            when(passwordService.matchesAsync("password123", "hashedpassword")).thenReturn(CompletableFuture.completedFuture(true));
 
             // Act
-            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request, mockResponse);
+            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request).join();
 
             // Assert
             assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
@@ -718,6 +725,57 @@ class AuthControllerTest {
             assertFalse(responseBody.containsKey("tokenType"));
             assertFalse(responseBody.containsKey("userId"));
         }
+
+        @Test
+        @DisplayName("Should return SERVICE_UNAVAILABLE when the password hashing executor is saturated")
+        void login_ServiceUnavailable_HashingExecutorSaturated() {
+            // Arrange
+            when(userRepository.findByPhoneNumber("+1234567890")).thenReturn(Optional.of(existingUser));
+            when(passwordService.matchesAsync("password123", "hashedpassword"))
+                .thenReturn(CompletableFuture.failedFuture(new RejectedExecutionException("queue full")));
+
+            // Act
+            ResponseEntity<Map<String, Object>> response = authController.login(loginRequest, request).join();
+
+            // Assert
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+            assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+            assertEquals("SERVICE_BUSY", response.getBody().get("error"));
+            verify(jwtService, never()).generateToken(any());
+            verify(refreshTokenRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Should finish login on the login executor rather than the hashing executor")
+        void login_Success_CompletesOnLoginExecutor() {
+            // Arrange
+            List<Runnable> handedOff = new ArrayList<>();
+            AuthController controller = new AuthController(jwtService, userRepository, passwordService,
+                hashingService, cookieService, rotationService, refreshTokenRepository, accountService,
+                rateLimitingService, passwordResetService, handedOff::add);
+            when(userRepository.findByPhoneNumber("+1234567890")).thenReturn(Optional.of(existingUser));
+            when(passwordService.matchesAsync("password123", "hashedpassword")).thenReturn(CompletableFuture.completedFuture(true));
+            when(jwtService.generateToken(testUserId.toString())).thenReturn("jwt-token");
+            when(hashingService.generateRefreshToken()).thenReturn("refresh-token");
+            when(hashingService.generateLookupHash("refresh-token")).thenReturn("lookup-hash");
+            when(hashingService.generateSecurityHash("refresh-token")).thenReturn("security-hash");
+            when(cookieService.createRefreshTokenCookie("refresh-token"))
+                .thenReturn(ResponseCookie.from("refresh_token", "refresh-token").build());
+            when(request.getHeader("X-Device-ID")).thenReturn("device-123");
+            when(request.getRemoteAddr()).thenReturn("192.168.1.1");
+
+            // Act
+            CompletableFuture<ResponseEntity<Map<String, Object>>> future = controller.login(loginRequest, request);
+
+            // Assert - nothing past the password check has run yet
+            assertFalse(future.isDone());
+            verify(refreshTokenRepository, never()).save(any());
+
+            handedOff.forEach(Runnable::run);
+
+            assertEquals(HttpStatus.OK, future.join().getStatusCode());
+            verify(refreshTokenRepository).save(any(RefreshToken.class));
+        }
     }
 
     @Nested
@@ -17,6 +17,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.CacheControl;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.web.servlet.MockMvc;
@@ -64,7 +65,7 @@ class CalendarFeedControllerTest {
     @BeforeEach
     void setUp() {
         // Override extractUserId to return test user ID
-        controller = new CalendarFeedController(subscriptionService) {
+        controller = new CalendarFeedController(subscriptionService, true) {
             @Override
             protected String extractUserId(HttpServletRequest request) {
                 return TEST_USER_ID;
@@ -76,7 +77,8 @@ class CalendarFeedControllerTest {
         stringConverter.setWriteAcceptCharset(false);
 
         mockMvc = MockMvcBuilders.standaloneSetup(controller)
-                .setMessageConverters(new MappingJackson2HttpMessageConverter(), stringConverter)
+                .setMessageConverters(new MappingJackson2HttpMessageConverter(), stringConverter,
+                        new ByteArrayHttpMessageConverter())
                 .build();
         objectMapper = new ObjectMapper();
     }
@@ -293,5 +295,33 @@ class CalendarFeedControllerTest {
 
             verify(subscriptionService).getCalendarFeed(TEST_GROUP_ID, TEST_TOKEN, null);
         }
+
+        @Test
+        @DisplayName("Serves gzipped feed when client accepts gzip")
+        void getCalendarFeed_WithAcceptEncodingGzip_UsesGzippedFeed() throws Exception {
+            // Given
+            byte[] gzipped = new byte[] {0x1f, (byte) 0x8b, 0x08, 0x00};
+
+            ResponseEntity<byte[]> serviceResponse = ResponseEntity.ok()
+                .eTag("\"test-etag-gzip\"")
+                .varyBy("Accept-Encoding")
+                .contentType(MediaType.parseMediaType("text/calendar; charset=utf-8"))
+                .header("Content-Encoding", "gzip")
+                .body(gzipped);
+
+            when(subscriptionService.getGzippedCalendarFeed(TEST_GROUP_ID, TEST_TOKEN, null))
+                .thenReturn(serviceResponse);
+
+            // When/Then
+            mockMvc.perform(get("/calendar/feed/" + TEST_GROUP_ID + "/" + TEST_TOKEN)
+                    .header("Accept-Encoding", "gzip, deflate"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Encoding", "gzip"))
+                    .andExpect(header().string("ETag", "\"test-etag-gzip\""))
+                    .andExpect(header().string("Vary", "Accept-Encoding"))
+                    .andExpect(content().bytes(gzipped));
+
+            verify(subscriptionService, never()).getCalendarFeed(any(), any(), any());
+        }
     }
 }
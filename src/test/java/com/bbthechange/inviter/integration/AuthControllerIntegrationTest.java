@@ -109,7 +109,7 @@ public class AuthControllerIntegrationTest extends BaseIntegrationTest {
             loginRequest.setPassword("password123");
 
             // Act & Assert
-            MvcResult result = mockMvc.perform(post("/auth/login")
+            MvcResult result = performAsync(post("/auth/login")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(loginRequest)))
                     .andExpect(status().isOk())
@@ -154,7 +154,7 @@ public class AuthControllerIntegrationTest extends BaseIntegrationTest {
             loginRequest.setPassword("password123");
 
             // Act & Assert
-            mockMvc.perform(post("/auth/login")
+            performAsync(post("/auth/login")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(loginRequest)))
                     .andExpect(status().isUnauthorized())
@@ -175,7 +175,7 @@ public class AuthControllerIntegrationTest extends BaseIntegrationTest {
             loginRequest.setPassword("wrongpassword");
 
             // Act & Assert
-            mockMvc.perform(post("/auth/login")
+            performAsync(post("/auth/login")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(loginRequest)))
                     .andExpect(status().isUnauthorized())
@@ -225,7 +225,7 @@ public class AuthControllerIntegrationTest extends BaseIntegrationTest {
             loginRequest.setPhoneNumber("+1555000001");
             loginRequest.setPassword("testpassword");
             
-            MvcResult loginResult = mockMvc.perform(post("/auth/login")
+            MvcResult loginResult = performAsync(post("/auth/login")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(loginRequest)))
                     .andExpect(status().isOk())
@@ -175,7 +175,7 @@ public class ProfileControllerIntegrationTest extends BaseIntegrationTest {
                 "password", "newpassword123"
             );
 
-            mockMvc.perform(post("/auth/login")
+            performAsync(post("/auth/login")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(loginRequest)))
                     .andExpect(status().isOk())
@@ -207,7 +207,7 @@ public class ProfileControllerIntegrationTest extends BaseIntegrationTest {
                 "password", "correctpassword"
             );
 
-            mockMvc.perform(post("/auth/login")
+            performAsync(post("/auth/login")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(loginRequest)))
                     .andExpect(status().isOk())
@@ -312,7 +312,7 @@ public class ProfileControllerIntegrationTest extends BaseIntegrationTest {
                 "password", "newflowpassword"
             );
 
-            mockMvc.perform(post("/auth/login")
+            performAsync(post("/auth/login")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(loginWithNewPassword)))
                     .andExpect(status().isOk())
@@ -324,7 +324,7 @@ public class ProfileControllerIntegrationTest extends BaseIntegrationTest {
                 "password", "initialpassword"
             );
 
-            mockMvc.perform(post("/auth/login")
+            performAsync(post("/auth/login")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(loginWithOldPassword)))
                     .andExpect(status().isUnauthorized());
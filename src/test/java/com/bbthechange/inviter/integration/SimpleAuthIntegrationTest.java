@@ -105,7 +105,7 @@ public class SimpleAuthIntegrationTest {
         when(userRepository.findByPhoneNumber("+1234567890")).thenReturn(Optional.of(user));
 
         // Act & Assert
-        mockMvc.perform(post("/auth/login")
+        performAsync(post("/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(loginRequest)))
                 .andExpect(status().isOk())
@@ -126,7 +126,7 @@ public class SimpleAuthIntegrationTest {
         when(userRepository.findByPhoneNumber("+9999999999")).thenReturn(Optional.empty());
 
         // Act & Assert
-        mockMvc.perform(post("/auth/login")
+        performAsync(post("/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(loginRequest)))
                 .andExpect(status().isUnauthorized())
@@ -153,7 +153,7 @@ public class SimpleAuthIntegrationTest {
         when(userRepository.findByPhoneNumber("+1234567890")).thenReturn(Optional.of(user));
 
         // Act & Assert
-        mockMvc.perform(post("/auth/login")
+        performAsync(post("/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(loginRequest)))
                 .andExpect(status().isUnauthorized())
@@ -196,7 +196,7 @@ public class SimpleAuthIntegrationTest {
 
         when(userRepository.findByPhoneNumber("+1555000001")).thenReturn(Optional.of(savedUser));
 
-        mockMvc.perform(post("/auth/login")
+        performAsync(post("/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(loginRequest)))
                 .andExpect(status().isOk())
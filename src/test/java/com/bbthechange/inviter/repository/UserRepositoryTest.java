@@ -4,6 +4,7 @@ import com.bbthechange.inviter.model.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
@@ -11,10 +12,14 @@ import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPageIterable;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -128,4 +133,31 @@ class UserRepositoryTest {
 
         verify(userTable).deleteItem(user);
     }
-}
\ No newline at end of file
+
+    @Test
+    void findByIds_ShouldBatchGetInChunksOf100() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 150; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        User user = new User("1234567890", "testuser", "password");
+        user.setId(ids.get(0));
+        BatchGetResultPageIterable firstResults = mock(BatchGetResultPageIterable.class);
+        BatchGetResultPageIterable secondResults = mock(BatchGetResultPageIterable.class);
+
+        lenient().when(userTable.tableName()).thenReturn("Users");
+        lenient().when(userTable.tableSchema()).thenReturn(TableSchema.fromBean(User.class));
+        when(dynamoDbEnhancedClient.batchGetItem(any(BatchGetItemEnhancedRequest.class)))
+                .thenReturn(firstResults, secondResults);
+        when(firstResults.resultsForTable(userTable)).thenReturn(() -> List.of(user).iterator());
+        when(secondResults.resultsForTable(userTable)).thenReturn(() -> Collections.emptyIterator());
+
+        List<User> result = userRepository.findByIds(ids);
+
+        assertEquals(List.of(user), result);
+        ArgumentCaptor<BatchGetItemEnhancedRequest> captor = ArgumentCaptor.forClass(BatchGetItemEnhancedRequest.class);
+        verify(dynamoDbEnhancedClient, times(2)).batchGetItem(captor.capture());
+        assertEquals(100, captor.getAllValues().get(0).readBatches().get(0).keysAndAttributes().keys().size());
+        assertEquals(50, captor.getAllValues().get(1).readBatches().get(0).keysAndAttributes().keys().size());
+    }
+}
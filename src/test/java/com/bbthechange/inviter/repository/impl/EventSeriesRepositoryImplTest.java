@@ -52,7 +52,7 @@ class EventSeriesRepositoryImplTest {
             return result;
         });
 
-        repository = new EventSeriesRepositoryImpl(dynamoDbClient, dynamoDbEnhancedClient, performanceTracker);
+        repository = new EventSeriesRepositoryImpl(dynamoDbClient, dynamoDbEnhancedClient, performanceTracker, true);
         
         seriesId = UUID.randomUUID().toString();
         groupId = UUID.randomUUID().toString();
@@ -248,12 +248,12 @@ class EventSeriesRepositoryImplTest {
     @Test
     void findAllWatchPartySeries_WithNoWatchParties_ReturnsEmptyList() {
         // Given
-        ScanResponse mockResponse = ScanResponse.builder()
+        QueryResponse mockResponse = QueryResponse.builder()
             .items(Collections.emptyList())
             .lastEvaluatedKey(Collections.emptyMap())
             .build();
 
-        when(dynamoDbClient.scan(any(ScanRequest.class))).thenReturn(mockResponse);
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenReturn(mockResponse);
 
         // When
         List<EventSeries> result = repository.findAllWatchPartySeries();
@@ -262,14 +262,14 @@ class EventSeriesRepositoryImplTest {
         assertThat(result).isNotNull();
         assertThat(result).isEmpty();
 
-        ArgumentCaptor<ScanRequest> captor = ArgumentCaptor.forClass(ScanRequest.class);
-        verify(dynamoDbClient).scan(captor.capture());
+        ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient).query(captor.capture());
 
-        ScanRequest request = captor.getValue();
+        QueryRequest request = captor.getValue();
         assertThat(request.tableName()).isEqualTo("InviterTable");
-        assertThat(request.filterExpression()).isEqualTo("itemType = :itemType AND eventSeriesType = :seriesType");
-        assertThat(request.expressionAttributeValues().get(":itemType").s()).isEqualTo("EVENT_SERIES");
-        assertThat(request.expressionAttributeValues().get(":seriesType").s()).isEqualTo("WATCH_PARTY");
+        assertThat(request.indexName()).isEqualTo("RegistryIndex");
+        assertThat(request.keyConditionExpression()).isEqualTo("gsi4pk = :registry");
+        assertThat(request.expressionAttributeValues().get(":registry").s()).isEqualTo("REGISTRY#WATCH_PARTY");
     }
 
     @Test
@@ -285,12 +285,12 @@ class EventSeriesRepositoryImplTest {
             createMockWatchPartySeriesItem(series2Id, group2Id, "The Office Watch Party")
         );
 
-        ScanResponse mockResponse = ScanResponse.builder()
+        QueryResponse mockResponse = QueryResponse.builder()
             .items(mockItems)
             .lastEvaluatedKey(Collections.emptyMap())
             .build();
 
-        when(dynamoDbClient.scan(any(ScanRequest.class))).thenReturn(mockResponse);
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenReturn(mockResponse);
 
         // When
         List<EventSeries> result = repository.findAllWatchPartySeries();
@@ -299,7 +299,7 @@ class EventSeriesRepositoryImplTest {
         assertThat(result).isNotNull();
         assertThat(result).hasSize(2);
 
-        verify(dynamoDbClient, times(1)).scan(any(ScanRequest.class));
+        verify(dynamoDbClient, times(1)).query(any(QueryRequest.class));
     }
 
     @Test
@@ -318,7 +318,7 @@ class EventSeriesRepositoryImplTest {
             "pk", AttributeValue.builder().s("SERIES#" + series1Id).build(),
             "sk", AttributeValue.builder().s("METADATA").build()
         );
-        ScanResponse firstPageResponse = ScanResponse.builder()
+        QueryResponse firstPageResponse = QueryResponse.builder()
             .items(firstPageItems)
             .lastEvaluatedKey(lastKey)
             .build();
@@ -327,12 +327,12 @@ class EventSeriesRepositoryImplTest {
         List<Map<String, AttributeValue>> secondPageItems = Arrays.asList(
             createMockWatchPartySeriesItem(series2Id, group2Id, "The Office Watch Party")
         );
-        ScanResponse secondPageResponse = ScanResponse.builder()
+        QueryResponse secondPageResponse = QueryResponse.builder()
             .items(secondPageItems)
             .lastEvaluatedKey(Collections.emptyMap())
             .build();
 
-        when(dynamoDbClient.scan(any(ScanRequest.class)))
+        when(dynamoDbClient.query(any(QueryRequest.class)))
             .thenReturn(firstPageResponse)
             .thenReturn(secondPageResponse);
 
@@ -343,11 +343,11 @@ class EventSeriesRepositoryImplTest {
         assertThat(result).isNotNull();
         assertThat(result).hasSize(2);
 
-        // Verify scan was called twice (for both pages)
-        ArgumentCaptor<ScanRequest> captor = ArgumentCaptor.forClass(ScanRequest.class);
-        verify(dynamoDbClient, times(2)).scan(captor.capture());
+        // Verify query was called twice (for both pages)
+        ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient, times(2)).query(captor.capture());
 
-        List<ScanRequest> requests = captor.getAllValues();
+        List<QueryRequest> requests = captor.getAllValues();
 
         // First request should not have exclusiveStartKey
         assertThat(requests.get(0).exclusiveStartKey()).isNullOrEmpty();
@@ -357,14 +357,37 @@ class EventSeriesRepositoryImplTest {
         assertThat(requests.get(1).exclusiveStartKey().get("pk").s()).isEqualTo("SERIES#" + series1Id);
     }
 
+    @Test
+    void findAllWatchPartySeries_WithRegistryIndexDisabled_ScansTable() {
+        // Given - the index isn't backfilled yet, so the scan stays in place
+        EventSeriesRepositoryImpl scanningRepository =
+            new EventSeriesRepositoryImpl(dynamoDbClient, dynamoDbEnhancedClient, performanceTracker, false);
+        ScanResponse mockResponse = ScanResponse.builder()
+            .items(List.of(createMockWatchPartySeriesItem(UUID.randomUUID().toString(),
+                UUID.randomUUID().toString(), "Breaking Bad Watch Party")))
+            .build();
+        when(dynamoDbClient.scan(any(ScanRequest.class))).thenReturn(mockResponse);
+
+        // When
+        List<EventSeries> result = scanningRepository.findAllWatchPartySeries();
+
+        // Then
+        assertThat(result).hasSize(1);
+        ArgumentCaptor<ScanRequest> captor = ArgumentCaptor.forClass(ScanRequest.class);
+        verify(dynamoDbClient).scan(captor.capture());
+        assertThat(captor.getValue().filterExpression()).isEqualTo("itemType = :itemType AND eventSeriesType = :seriesType");
+        assertThat(captor.getValue().expressionAttributeValues().get(":seriesType").s()).isEqualTo("WATCH_PARTY");
+        verify(dynamoDbClient, never()).query(any(QueryRequest.class));
+    }
+
     @Test
     void findAllWatchPartySeries_WithDynamoDbException_ThrowsRepositoryException() {
         // Given
         DynamoDbException dynamoDbException = (DynamoDbException) DynamoDbException.builder()
-            .message("DynamoDB scan failed")
+            .message("DynamoDB query failed")
             .build();
 
-        when(dynamoDbClient.scan(any(ScanRequest.class))).thenThrow(dynamoDbException);
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenThrow(dynamoDbException);
 
         // When/Then
         // The performanceTracker mock wraps exceptions in RuntimeException,
@@ -379,10 +402,10 @@ class EventSeriesRepositoryImplTest {
             repository.findAllWatchPartySeries();
         } catch (RuntimeException e) {
             assertThat(e.getCause()).isInstanceOf(RepositoryException.class);
-            assertThat(e.getCause().getMessage()).isEqualTo("Failed to scan for Watch Party EventSeries");
+            assertThat(e.getCause().getMessage()).isEqualTo("Failed to find Watch Party EventSeries");
         }
 
-        verify(dynamoDbClient, times(2)).scan(any(ScanRequest.class));
+        verify(dynamoDbClient, times(2)).query(any(QueryRequest.class));
     }
 
     /**
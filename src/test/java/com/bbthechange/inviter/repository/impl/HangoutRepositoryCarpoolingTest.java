@@ -1,6 +1,9 @@
 package com.bbthechange.inviter.repository.impl;
 
+import com.bbthechange.inviter.exception.CarNotFoundException;
+import com.bbthechange.inviter.exception.NoAvailableSeatsException;
 import com.bbthechange.inviter.exception.RepositoryException;
+import com.bbthechange.inviter.exception.ValidationException;
 import com.bbthechange.inviter.model.*;
 import com.bbthechange.inviter.util.InviterKeyFactory;
 import org.junit.jupiter.api.Test;
@@ -20,6 +23,7 @@ import static org.mockito.Mockito.*;
  * - Needs ride requests (save, query, delete)
  * - Car management (save, delete, error handling)
  * - Car rider relationships (save, delete)
+ * - Atomic seat reservation and car offer cancellation
  */
 class HangoutRepositoryCarpoolingTest extends HangoutRepositoryTestBase {
 
@@ -355,4 +359,122 @@ class HangoutRepositoryCarpoolingTest extends HangoutRepositoryTestBase {
         assertThat(request.key().get("sk").s()).contains("CAR#");
         assertThat(request.key().get("sk").s()).contains("RIDER#");
     }
+
+    // ============================================================================
+    // ATOMIC SEAT RESERVATION TESTS
+    // ============================================================================
+
+    @Test
+    void reserveSeatAtomically_WritesCarRiderAndNeedsRideInOneTransaction() {
+        // Given
+        String driverId = UUID.randomUUID().toString();
+        CarRider rider = new CarRider(eventId, driverId, userId, "Rider");
+        rider.setPlusOneCount(1);
+        when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+            .thenReturn(TransactWriteItemsResponse.builder().build());
+
+        // When
+        CarRider result = repository.reserveSeatAtomically(rider);
+
+        // Then
+        assertThat(result).isSameAs(rider);
+        ArgumentCaptor<TransactWriteItemsRequest> captor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(dynamoDbClient).transactWriteItems(captor.capture());
+        verify(dynamoDbClient, never()).query(any(QueryRequest.class));
+
+        List<TransactWriteItem> items = captor.getValue().transactItems();
+        assertThat(items).hasSize(3);
+
+        Update seatUpdate = items.get(0).update();
+        assertThat(seatUpdate.key().get("sk").s()).isEqualTo(InviterKeyFactory.getCarSk(driverId));
+        assertThat(seatUpdate.conditionExpression()).contains("availableSeats >= :seats");
+        assertThat(seatUpdate.expressionAttributeValues().get(":seats").n()).isEqualTo("2");
+
+        assertThat(items.get(1).put().conditionExpression()).isEqualTo("attribute_not_exists(pk)");
+        assertThat(items.get(2).delete().key().get("sk").s()).isEqualTo(InviterKeyFactory.getNeedsRideSk(userId));
+    }
+
+    @Test
+    void reserveSeatAtomically_WhenSeatsTaken_ThrowsNoAvailableSeatsException() {
+        // Given
+        String driverId = UUID.randomUUID().toString();
+        CarRider rider = new CarRider(eventId, driverId, userId, "Rider");
+        when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+            .thenThrow(canceled(CancellationReason.builder()
+                .code("ConditionalCheckFailed")
+                .item(Map.of("availableSeats", AttributeValue.builder().n("0").build()))
+                .build()));
+
+        // When/Then
+        assertThatThrownBy(() -> repository.reserveSeatAtomically(rider))
+            .isInstanceOf(NoAvailableSeatsException.class)
+            .hasMessage("Not enough available seats: need 1 but only 0 available");
+    }
+
+    @Test
+    void reserveSeatAtomically_WhenCarMissing_ThrowsCarNotFoundException() {
+        // Given
+        String driverId = UUID.randomUUID().toString();
+        CarRider rider = new CarRider(eventId, driverId, userId, "Rider");
+        when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+            .thenThrow(canceled(CancellationReason.builder().code("ConditionalCheckFailed").build()));
+
+        // When/Then
+        assertThatThrownBy(() -> repository.reserveSeatAtomically(rider))
+            .isInstanceOf(CarNotFoundException.class);
+    }
+
+    @Test
+    void reserveSeatAtomically_WhenAlreadyReserved_ThrowsValidationException() {
+        // Given
+        String driverId = UUID.randomUUID().toString();
+        CarRider rider = new CarRider(eventId, driverId, userId, "Rider");
+        when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+            .thenThrow(canceled(
+                CancellationReason.builder().code("None").build(),
+                CancellationReason.builder().code("ConditionalCheckFailed").build()));
+
+        // When/Then
+        assertThatThrownBy(() -> repository.reserveSeatAtomically(rider))
+            .isInstanceOf(ValidationException.class)
+            .hasMessage("User already has a reservation with this driver");
+    }
+
+    @Test
+    void cancelCarOfferAtomically_DeletesCarAndItsRidersOnly() {
+        // Given
+        String driverId = UUID.randomUUID().toString();
+        String carSk = InviterKeyFactory.getCarSk(driverId);
+        Map<String, AttributeValue> car = Map.of(
+            "pk", AttributeValue.builder().s("EVENT#" + eventId).build(),
+            "sk", AttributeValue.builder().s(carSk).build(),
+            "availableSeats", AttributeValue.builder().n("2").build());
+        Map<String, AttributeValue> rider = Map.of(
+            "pk", AttributeValue.builder().s("EVENT#" + eventId).build(),
+            "sk", AttributeValue.builder().s(InviterKeyFactory.getCarRiderSk(driverId, userId)).build());
+        when(dynamoDbClient.query(any(QueryRequest.class)))
+            .thenReturn(QueryResponse.builder().items(car, rider).build());
+        when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+            .thenReturn(TransactWriteItemsResponse.builder().build());
+
+        // When
+        int removed = repository.cancelCarOfferAtomically(eventId, driverId);
+
+        // Then
+        assertThat(removed).isEqualTo(1);
+        ArgumentCaptor<QueryRequest> queryCaptor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient).query(queryCaptor.capture());
+        assertThat(queryCaptor.getValue().keyConditionExpression()).contains("begins_with");
+
+        ArgumentCaptor<TransactWriteItemsRequest> captor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(dynamoDbClient).transactWriteItems(captor.capture());
+        assertThat(captor.getValue().transactItems()).hasSize(2);
+    }
+
+    private static TransactionCanceledException canceled(CancellationReason... reasons) {
+        return TransactionCanceledException.builder()
+            .message("Transaction cancelled")
+            .cancellationReasons(reasons)
+            .build();
+    }
 }
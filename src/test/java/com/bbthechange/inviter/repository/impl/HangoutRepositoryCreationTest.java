@@ -20,9 +20,10 @@ import static org.mockito.Mockito.*;
  * - createHangout() - simple hangout creation
  * - createHangoutWithAttributes() - atomic creation with pointers, attributes, polls, and options
  * - saveHangoutAndPointersAtomically() - atomic save of hangout with pointers
+ * - createHangoutIfAbsent() - conditional creation of a hangout and its pointer
  * - Error handling and transaction validation
  *
- * Total tests: 10
+ * Total tests: 13
  */
 class HangoutRepositoryCreationTest extends HangoutRepositoryTestBase {
 
@@ -378,6 +379,48 @@ class HangoutRepositoryCreationTest extends HangoutRepositoryTestBase {
         assertThat(hasPollItem).isFalse();
     }
 
+    @Test
+    void createHangoutIfAbsent_WritesHangoutConditionallyWithPointer() {
+        // Given
+        Hangout hangout = createValidHangout();
+        HangoutPointer pointer = createValidHangoutPointer(eventId, UUID.randomUUID().toString());
+        when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+            .thenReturn(TransactWriteItemsResponse.builder().build());
+
+        // When
+        boolean created = repository.createHangoutIfAbsent(hangout, pointer);
+
+        // Then
+        assertThat(created).isTrue();
+        ArgumentCaptor<TransactWriteItemsRequest> captor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+        verify(dynamoDbClient).transactWriteItems(captor.capture());
+        List<TransactWriteItem> items = captor.getValue().transactItems();
+        assertThat(items).hasSize(2);
+        assertThat(items.get(0).put().conditionExpression()).isEqualTo("attribute_not_exists(pk)");
+        assertThat(items.get(0).put().item().get("pk").s()).isEqualTo(InviterKeyFactory.getEventPk(eventId));
+        assertThat(items.get(1).put().conditionExpression()).isNull();
+    }
+
+    @Test
+    void createHangoutIfAbsent_WhenHangoutExists_ReturnsFalse() {
+        // Given
+        Hangout hangout = createValidHangout();
+        HangoutPointer pointer = createValidHangoutPointer(eventId, UUID.randomUUID().toString());
+        when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+            .thenThrow(TransactionCanceledException.builder()
+                .message("Transaction cancelled")
+                .cancellationReasons(
+                    CancellationReason.builder().code("ConditionalCheckFailed").build(),
+                    CancellationReason.builder().code("None").build())
+                .build());
+
+        // When
+        boolean created = repository.createHangoutIfAbsent(hangout, pointer);
+
+        // Then
+        assertThat(created).isFalse();
+    }
+
     // ============================================================================
     // HELPER METHODS
     // ============================================================================
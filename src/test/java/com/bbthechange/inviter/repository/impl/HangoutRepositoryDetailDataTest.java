@@ -1,6 +1,7 @@
 package com.bbthechange.inviter.repository.impl;
 
 import com.bbthechange.inviter.dto.HangoutDetailData;
+import com.bbthechange.inviter.dto.HangoutDetailSection;
 import com.bbthechange.inviter.exception.ResourceNotFoundException;
 import com.bbthechange.inviter.exception.RepositoryException;
 import org.junit.jupiter.api.Test;
@@ -22,8 +23,8 @@ import static org.mockito.Mockito.*;
  * - Retrieval of complete hangout detail data with all entity types
  * - Error handling when hangout metadata is missing
  * - Resilience to deserialization errors (filtering bad items)
- *
- * Total tests: 3
+ * - Paging through partitions larger than one query page
+ * - Section-restricted loads using begins_with(sk) queries
  */
 class HangoutRepositoryDetailDataTest extends HangoutRepositoryTestBase {
 
@@ -222,6 +223,93 @@ class HangoutRepositoryDetailDataTest extends HangoutRepositoryTestBase {
         assertThat(result.getReservationOffers()).isNotNull().isEmpty();
     }
 
+    @Test
+    void getHangoutDetailData_WithMultiplePages_FollowsLastEvaluatedKey() {
+        // Given - partition split across two query pages
+        String eventId = UUID.randomUUID().toString();
+        String participationId = UUID.randomUUID().toString();
+        Map<String, AttributeValue> lastKey = Map.of(
+            "pk", AttributeValue.builder().s("EVENT#" + eventId).build(),
+            "sk", AttributeValue.builder().s("ATTENDANCE#" + userId).build());
+
+        QueryResponse firstPage = QueryResponse.builder()
+            .items(List.of(createMockInterestLevelItem(eventId, userId)))
+            .lastEvaluatedKey(lastKey)
+            .build();
+        QueryResponse secondPage = QueryResponse.builder()
+            .items(List.of(
+                createMockHangoutMetadataItem(eventId),
+                createMockParticipationItem(eventId, participationId, userId, "TICKET_PURCHASED")))
+            .build();
+
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenReturn(firstPage, secondPage);
+
+        // When
+        HangoutDetailData result = repository.getHangoutDetailData(eventId);
+
+        // Then - items from both pages are present
+        assertThat(result.getHangout()).isNotNull();
+        assertThat(result.getAttendance()).hasSize(1);
+        assertThat(result.getParticipations()).hasSize(1);
+
+        ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient, times(2)).query(captor.capture());
+        assertThat(captor.getAllValues().get(0).hasExclusiveStartKey()).isFalse();
+        assertThat(captor.getAllValues().get(1).exclusiveStartKey()).isEqualTo(lastKey);
+    }
+
+    @Test
+    void getHangoutDetailData_WithSections_QueriesEachSortKeyPrefix() {
+        // Given
+        String eventId = UUID.randomUUID().toString();
+        String participationId = UUID.randomUUID().toString();
+
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenAnswer(invocation -> {
+            QueryRequest request = invocation.getArgument(0);
+            String prefix = request.expressionAttributeValues().get(":skPrefix").s();
+            List<Map<String, AttributeValue>> items = prefix.equals("ATTENDANCE#")
+                ? List.of(createMockInterestLevelItem(eventId, userId))
+                : List.of(createMockParticipationItem(eventId, participationId, userId, "TICKET_PURCHASED"));
+            return QueryResponse.builder().items(items).build();
+        });
+
+        // When
+        HangoutDetailData result = repository.getHangoutDetailData(eventId,
+            EnumSet.of(HangoutDetailSection.ATTENDANCE, HangoutDetailSection.PARTICIPATIONS));
+
+        // Then - no metadata required, only requested sections populated
+        assertThat(result.getHangout()).isNull();
+        assertThat(result.getAttendance()).hasSize(1);
+        assertThat(result.getParticipations()).hasSize(1);
+        assertThat(result.getVotes()).isEmpty();
+
+        ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient, times(2)).query(captor.capture());
+        assertThat(captor.getAllValues())
+            .allSatisfy(request -> assertThat(request.keyConditionExpression())
+                .isEqualTo("pk = :pk AND begins_with(sk, :skPrefix)"))
+            .extracting(request -> request.expressionAttributeValues().get(":skPrefix").s())
+            .containsExactly("ATTENDANCE#", "PARTICIPATION#");
+    }
+
+    @Test
+    void getHangoutDetailData_WithAllSections_UsesSingleFullPartitionQuery() {
+        // Given
+        String eventId = UUID.randomUUID().toString();
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenReturn(QueryResponse.builder()
+            .items(List.of(createMockHangoutMetadataItem(eventId)))
+            .build());
+
+        // When
+        HangoutDetailData result = repository.getHangoutDetailData(eventId, HangoutDetailSection.all());
+
+        // Then
+        assertThat(result.getHangout()).isNotNull();
+        ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient).query(captor.capture());
+        assertThat(captor.getValue().keyConditionExpression()).isEqualTo("pk = :pk");
+    }
+
     // ============================================================================
     // HELPER METHODS
     // ============================================================================
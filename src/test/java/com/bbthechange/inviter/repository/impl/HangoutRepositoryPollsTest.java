@@ -17,10 +17,10 @@ import static org.mockito.Mockito.*;
  * Coverage:
  * - Poll CRUD operations (savePoll, deletePoll)
  * - Poll option CRUD operations
- * - Poll data queries (all polls, specific poll)
+ * - Poll data queries (all polls, specific poll, polls and options without votes)
  * - Poll option deletion with cascade vote cleanup
  *
- * Total tests: 10
+ * Total tests: 11
  */
 class HangoutRepositoryPollsTest extends HangoutRepositoryTestBase {
 
@@ -84,6 +84,38 @@ class HangoutRepositoryPollsTest extends HangoutRepositoryTestBase {
         assertThat(request.expressionAttributeValues().get(":sk_prefix").s()).isEqualTo("POLL#" + pollId);
     }
 
+    @Test
+    void getPollsAndOptions_WhenReachingAPollsVotes_SkipsPastThem() {
+        // Given - the first page runs into the poll's votes
+        String voterId = UUID.randomUUID().toString();
+        QueryResponse firstPage = QueryResponse.builder()
+                .items(pollItem(), optionItem(), voteItem(voterId))
+                .lastEvaluatedKey(Map.of("sk", AttributeValue.builder().s("POLL#" + pollId + "#VOTE#" + voterId).build()))
+                .build();
+        QueryResponse afterVotes = QueryResponse.builder()
+                .items(new ArrayList<>())
+                .build();
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenReturn(firstPage, afterVotes);
+
+        // When
+        List<BaseItem> result = repository.getPollsAndOptions(eventId);
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0)).isInstanceOf(Poll.class);
+        assertThat(result.get(1)).isInstanceOf(PollOption.class);
+
+        ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient, times(2)).query(captor.capture());
+        QueryRequest first = captor.getAllValues().get(0);
+        assertThat(first.keyConditionExpression()).isEqualTo("pk = :pk AND sk BETWEEN :from AND :to");
+        assertThat(first.expressionAttributeValues().get(":from").s()).isEqualTo("POLL#");
+        assertThat(first.expressionAttributeValues().get(":to").s()).isEqualTo("POLL$");
+        QueryRequest second = captor.getAllValues().get(1);
+        assertThat(second.expressionAttributeValues().get(":from").s()).isEqualTo("POLL#" + pollId + "#VOTE$");
+        assertThat(second.exclusiveStartKey()).isEmpty();
+    }
+
     @Test
     void deletePollOptionTransaction_WithVotes_ExecutesTransaction() {
         // Given
@@ -244,6 +276,29 @@ class HangoutRepositoryPollsTest extends HangoutRepositoryTestBase {
     // HELPER METHODS
     // ============================================================================
 
+    private Map<String, AttributeValue> pollItem() {
+        return Map.of(
+                "pk", AttributeValue.builder().s("EVENT#" + eventId).build(),
+                "sk", AttributeValue.builder().s("POLL#" + pollId).build(),
+                "itemType", AttributeValue.builder().s("POLL").build(),
+                "pollId", AttributeValue.builder().s(pollId).build());
+    }
+
+    private Map<String, AttributeValue> optionItem() {
+        return Map.of(
+                "pk", AttributeValue.builder().s("EVENT#" + eventId).build(),
+                "sk", AttributeValue.builder().s("POLL#" + pollId + "#OPTION#" + optionId).build(),
+                "itemType", AttributeValue.builder().s("POLL_OPTION").build(),
+                "optionId", AttributeValue.builder().s(optionId).build());
+    }
+
+    private Map<String, AttributeValue> voteItem(String voterId) {
+        return Map.of(
+                "pk", AttributeValue.builder().s("EVENT#" + eventId).build(),
+                "sk", AttributeValue.builder().s("POLL#" + pollId + "#VOTE#" + voterId + "#OPTION#" + optionId).build(),
+                "itemType", AttributeValue.builder().s("VOTE").build());
+    }
+
     private Poll createValidPoll(String title, boolean multipleChoice) {
         Poll poll = new Poll(eventId, title, null, multipleChoice);
         poll.setPollId(pollId);
@@ -1,5 +1,6 @@
 package com.bbthechange.inviter.repository.impl;
 
+import com.bbthechange.inviter.model.PollOption;
 import com.bbthechange.inviter.model.Vote;
 import com.bbthechange.inviter.exception.RepositoryException;
 import com.bbthechange.inviter.util.InviterKeyFactory;
@@ -24,8 +25,10 @@ import static org.mockito.Mockito.*;
  * Covers:
  * - saveVote(Vote) - create/update user's vote on a poll option
  * - deleteVote(eventId, pollId, userId, optionId) - remove user's vote
+ * - findUserVotes, findUserVotesOnOptions, castVote, retractVotes - vote engine used by PollServiceImpl
+ * - counter seeding for options created before vote counting, and read-only countVotes
  *
- * Total tests: 10
+ * Total tests: 18
  */
 class HangoutRepositoryVotesTest extends HangoutRepositoryTestBase {
 
@@ -216,10 +219,277 @@ class HangoutRepositoryVotesTest extends HangoutRepositoryTestBase {
         }
     }
 
+    @Nested
+    class VoteTransactions {
+
+        @Test
+        void findUserVotes_QueriesOnlyThatUsersVotePrefix() {
+            // Given
+            Vote vote = createValidVote("YES");
+            when(dynamoDbClient.query(any(QueryRequest.class))).thenReturn(QueryResponse.builder()
+                .items(Map.of(
+                    "pk", AttributeValue.builder().s(vote.getPk()).build(),
+                    "sk", AttributeValue.builder().s(vote.getSk()).build(),
+                    "optionId", AttributeValue.builder().s(optionId).build(),
+                    "userId", AttributeValue.builder().s(userId).build()))
+                .build());
+
+            // When
+            List<Vote> votes = repository.findUserVotes(eventId, pollId, userId);
+
+            // Then
+            assertThat(votes).extracting(Vote::getOptionId).containsExactly(optionId);
+            ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+            verify(dynamoDbClient).query(captor.capture());
+            assertThat(captor.getValue().expressionAttributeValues().get(":sk_prefix").s())
+                .isEqualTo("POLL#" + pollId + "#VOTE#" + userId + "#");
+        }
+
+        @Test
+        void findUserVotesOnOptions_BatchGetsTheUsersVoteKeysAndRetriesUnprocessedKeys() {
+            // Given
+            String otherPollId = UUID.randomUUID().toString();
+            PollOption option = new PollOption(eventId, pollId, "A");
+            PollOption otherOption = new PollOption(eventId, otherPollId, "B");
+            Map<String, AttributeValue> otherKey = Map.of(
+                "pk", AttributeValue.builder().s(InviterKeyFactory.getEventPk(eventId)).build(),
+                "sk", AttributeValue.builder().s(InviterKeyFactory.getVoteSk(otherPollId, userId, otherOption.getOptionId())).build());
+            when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenReturn(BatchGetItemResponse.builder()
+                    .responses(Map.of("InviterTable", List.of(voteItem(pollId, option.getOptionId()))))
+                    .unprocessedKeys(Map.of("InviterTable", KeysAndAttributes.builder().keys(otherKey).build()))
+                    .build())
+                .thenReturn(BatchGetItemResponse.builder()
+                    .responses(Map.of("InviterTable", List.of()))
+                    .build());
+
+            // When
+            List<Vote> votes = repository.findUserVotesOnOptions(eventId, userId, List.of(option, otherOption));
+
+            // Then
+            assertThat(votes).extracting(Vote::getOptionId).containsExactly(option.getOptionId());
+            ArgumentCaptor<BatchGetItemRequest> captor = ArgumentCaptor.forClass(BatchGetItemRequest.class);
+            verify(dynamoDbClient, times(2)).batchGetItem(captor.capture());
+            assertThat(captor.getAllValues().get(0).requestItems().get("InviterTable").keys())
+                .extracting(key -> key.get("sk").s())
+                .containsExactly(
+                    InviterKeyFactory.getVoteSk(pollId, userId, option.getOptionId()),
+                    InviterKeyFactory.getVoteSk(otherPollId, userId, otherOption.getOptionId()));
+            assertThat(captor.getAllValues().get(1).requestItems().get("InviterTable").keys()).containsExactly(otherKey);
+            verify(dynamoDbClient, never()).query(any(QueryRequest.class));
+        }
+
+        @Test
+        void castVote_ReplacingVote_PutsDeletesAndMovesCountersInOneTransaction() {
+            // Given
+            String oldOptionId = UUID.randomUUID().toString();
+            Vote vote = createValidVote("YES");
+            Vote replaced = new Vote(eventId, pollId, oldOptionId, userId, "YES");
+            when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenReturn(TransactWriteItemsResponse.builder().build());
+
+            // When
+            repository.castVote(vote, List.of(replaced));
+
+            // Then
+            ArgumentCaptor<TransactWriteItemsRequest> captor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+            verify(dynamoDbClient).transactWriteItems(captor.capture());
+            List<TransactWriteItem> items = captor.getValue().transactItems();
+            assertThat(items).hasSize(4);
+            assertThat(items.get(0).put().conditionExpression()).isEqualTo("attribute_not_exists(pk)");
+            assertThat(items.get(1).delete().key().get("sk").s())
+                .isEqualTo(InviterKeyFactory.getVoteSk(pollId, userId, oldOptionId));
+            assertThat(items.get(2).update().key().get("sk").s())
+                .isEqualTo(InviterKeyFactory.getPollOptionSk(pollId, optionId));
+            assertThat(items.get(2).update().updateExpression()).isEqualTo("ADD voteCount :delta");
+            assertThat(items.get(2).update().conditionExpression()).isEqualTo("attribute_exists(countInitialized)");
+            assertThat(items.get(2).update().expressionAttributeValues().get(":delta").n()).isEqualTo("1");
+            assertThat(items.get(3).update().expressionAttributeValues().get(":delta").n()).isEqualTo("-1");
+            verifyNoMoreInteractions(dynamoDbClient);
+        }
+
+        @Test
+        void castVote_WhenCounterUnseeded_StillAddsDeltaThenSeedsGuardedByTheCounterItRead() {
+            // Given - the legacy option already holds one delta from an earlier vote
+            Vote vote = createValidVote("YES");
+            when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenThrow(counterConditionFailed())
+                .thenReturn(TransactWriteItemsResponse.builder().build());
+            stubPollQueries(
+                List.of(optionItem(optionId, 2L, false)),
+                List.of(voteOptionItem(optionId), voteOptionItem(optionId), voteOptionItem(optionId)));
+
+            // When
+            Vote result = repository.castVote(vote, List.of());
+
+            // Then - the retry keeps the ADD, only relaxing its condition to "option exists"
+            assertThat(result).isSameAs(vote);
+            ArgumentCaptor<TransactWriteItemsRequest> captor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+            verify(dynamoDbClient, times(2)).transactWriteItems(captor.capture());
+            List<TransactWriteItem> retry = captor.getAllValues().get(1).transactItems();
+            assertThat(retry).hasSize(2);
+            assertThat(retry.get(1).update().updateExpression()).isEqualTo("ADD voteCount :delta");
+            assertThat(retry.get(1).update().conditionExpression()).isEqualTo("attribute_exists(pk)");
+
+            // The seed replaces the counter with the full count, but only if no vote moved it since it was read
+            ArgumentCaptor<UpdateItemRequest> update = ArgumentCaptor.forClass(UpdateItemRequest.class);
+            verify(dynamoDbClient).updateItem(update.capture());
+            UpdateItemRequest seed = update.getValue();
+            assertThat(seed.key().get("sk").s()).isEqualTo(InviterKeyFactory.getPollOptionSk(pollId, optionId));
+            assertThat(seed.updateExpression()).isEqualTo("SET voteCount = :count, countInitialized = :initialized");
+            assertThat(seed.conditionExpression())
+                .isEqualTo("attribute_exists(pk) AND attribute_not_exists(countInitialized) AND voteCount = :seen");
+            assertThat(seed.expressionAttributeValues().get(":seen").n()).isEqualTo("2");
+            assertThat(seed.expressionAttributeValues().get(":count").n()).isEqualTo("3");
+
+            ArgumentCaptor<QueryRequest> queries = ArgumentCaptor.forClass(QueryRequest.class);
+            verify(dynamoDbClient, times(2)).query(queries.capture());
+            assertThat(queries.getAllValues()).allMatch(QueryRequest::consistentRead);
+        }
+
+        @Test
+        void castVote_WhenOptionDeleted_WritesVoteWithoutCounterAndSkipsSeeding() {
+            // Given
+            Vote vote = createValidVote("YES");
+            when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenThrow(counterConditionFailed())
+                .thenThrow(counterConditionFailed())
+                .thenReturn(TransactWriteItemsResponse.builder().build());
+
+            // When
+            repository.castVote(vote, List.of());
+
+            // Then
+            ArgumentCaptor<TransactWriteItemsRequest> captor = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+            verify(dynamoDbClient, times(3)).transactWriteItems(captor.capture());
+            assertThat(captor.getAllValues().get(2).transactItems()).hasSize(1);
+            verify(dynamoDbClient, never()).query(any(QueryRequest.class));
+            verify(dynamoDbClient, never()).updateItem(any(UpdateItemRequest.class));
+        }
+
+        @Test
+        void castVote_WhenSeedLosesToConcurrentVote_RereadsAndStopsOnceSeeded() {
+            // Given - the first seed fails its guard; the next read finds the counter seeded
+            Vote vote = createValidVote("YES");
+            when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class)))
+                .thenThrow(counterConditionFailed())
+                .thenReturn(TransactWriteItemsResponse.builder().build());
+            when(dynamoDbClient.query(any(QueryRequest.class)))
+                .thenReturn(QueryResponse.builder().items(optionItem(optionId, null, false)).build())
+                .thenReturn(QueryResponse.builder().items(voteOptionItem(optionId)).build())
+                .thenReturn(QueryResponse.builder().items(optionItem(optionId, 2L, true)).build());
+            when(dynamoDbClient.updateItem(any(UpdateItemRequest.class)))
+                .thenThrow(ConditionalCheckFailedException.builder().message("counter moved").build());
+
+            // When
+            repository.castVote(vote, List.of());
+
+            // Then
+            ArgumentCaptor<UpdateItemRequest> update = ArgumentCaptor.forClass(UpdateItemRequest.class);
+            verify(dynamoDbClient, times(1)).updateItem(update.capture());
+            assertThat(update.getValue().conditionExpression())
+                .isEqualTo("attribute_exists(pk) AND attribute_not_exists(countInitialized) AND attribute_not_exists(voteCount)");
+            verify(dynamoDbClient, times(3)).query(any(QueryRequest.class));
+        }
+
+        @Test
+        void countVotes_CountsRequestedOptionsWithoutWriting() {
+            // Given
+            String otherOptionId = UUID.randomUUID().toString();
+            String deletedOptionId = UUID.randomUUID().toString();
+            when(dynamoDbClient.query(any(QueryRequest.class))).thenReturn(QueryResponse.builder()
+                .items(voteOptionItem(optionId), voteOptionItem(otherOptionId), voteOptionItem(optionId))
+                .build());
+
+            // When
+            Map<String, Long> counts = repository.countVotes(eventId, pollId,
+                new LinkedHashSet<>(List.of(optionId, deletedOptionId)));
+
+            // Then
+            assertThat(counts).containsExactly(entry(optionId, 2L), entry(deletedOptionId, 0L));
+            ArgumentCaptor<QueryRequest> query = ArgumentCaptor.forClass(QueryRequest.class);
+            verify(dynamoDbClient).query(query.capture());
+            assertThat(query.getValue().expressionAttributeValues().get(":sk_prefix").s())
+                .isEqualTo("POLL#" + pollId + "#VOTE#");
+            assertThat(query.getValue().projectionExpression()).isEqualTo("optionId");
+            assertThat(query.getValue().consistentRead()).isFalse();
+            verify(dynamoDbClient, never()).updateItem(any(UpdateItemRequest.class));
+        }
+
+        @Test
+        void retractVotes_WhenVoteAlreadyGone_DoesNothingMore() {
+            // Given
+            Vote vote = createValidVote("YES");
+            TransactionCanceledException canceled = TransactionCanceledException.builder()
+                .message("Transaction cancelled")
+                .cancellationReasons(
+                    CancellationReason.builder().code("ConditionalCheckFailed").build(),
+                    CancellationReason.builder().code("None").build())
+                .build();
+            when(dynamoDbClient.transactWriteItems(any(TransactWriteItemsRequest.class))).thenThrow(canceled);
+
+            // When
+            repository.retractVotes(List.of(vote));
+
+            // Then - the counter isn't decremented for a vote someone else already removed
+            verify(dynamoDbClient, times(1)).transactWriteItems(any(TransactWriteItemsRequest.class));
+        }
+    }
+
     // ============================================================================
     // HELPER METHODS
     // ============================================================================
 
+    private static Map<String, AttributeValue> voteOptionItem(String optionId) {
+        return Map.of("optionId", AttributeValue.builder().s(optionId).build());
+    }
+
+    private static Map<String, AttributeValue> optionItem(String optionId, Long voteCount, boolean initialized) {
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put("optionId", AttributeValue.builder().s(optionId).build());
+        if (voteCount != null) {
+            item.put("voteCount", AttributeValue.builder().n(String.valueOf(voteCount)).build());
+        }
+        if (initialized) {
+            item.put("countInitialized", AttributeValue.builder().bool(true).build());
+        }
+        return item;
+    }
+
+    private Map<String, AttributeValue> voteItem(String votePollId, String voteOptionId) {
+        return Map.of(
+            "pk", AttributeValue.builder().s(InviterKeyFactory.getEventPk(eventId)).build(),
+            "sk", AttributeValue.builder().s(InviterKeyFactory.getVoteSk(votePollId, userId, voteOptionId)).build(),
+            "pollId", AttributeValue.builder().s(votePollId).build(),
+            "optionId", AttributeValue.builder().s(voteOptionId).build(),
+            "userId", AttributeValue.builder().s(userId).build());
+    }
+
+    /**
+     * Answer option-prefix queries with {@code options} and vote-prefix queries with {@code votes}.
+     */
+    private void stubPollQueries(List<Map<String, AttributeValue>> options, List<Map<String, AttributeValue>> votes) {
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenAnswer(invocation -> {
+            QueryRequest request = invocation.getArgument(0);
+            String prefix = request.expressionAttributeValues().get(":sk_prefix").s();
+            return QueryResponse.builder()
+                .items(prefix.equals(InviterKeyFactory.getPollOptionPrefix(pollId)) ? options : votes)
+                .build();
+        });
+    }
+
+    /**
+     * Cancellation for a single put plus its counter update where only the counter's condition failed.
+     */
+    private static TransactionCanceledException counterConditionFailed() {
+        return TransactionCanceledException.builder()
+            .message("Transaction cancelled")
+            .cancellationReasons(
+                CancellationReason.builder().code("None").build(),
+                CancellationReason.builder().code("ConditionalCheckFailed").build())
+            .build();
+    }
+
     private Vote createValidVote(String voteType) {
         Vote vote = new Vote(eventId, pollId, optionId, userId, voteType);
         vote.setPk(InviterKeyFactory.getEventPk(eventId));
@@ -2,6 +2,7 @@ package com.bbthechange.inviter.repository.impl;
 
 import com.bbthechange.inviter.model.*;
 import com.bbthechange.inviter.exception.RepositoryException;
+import com.bbthechange.inviter.util.HangoutPointerPatch;
 import com.bbthechange.inviter.util.QueryPerformanceTracker;
 import com.bbthechange.inviter.util.InviterKeyFactory;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,9 +11,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.*;
 
+import java.time.Instant;
 import java.util.*;
 
 import static org.assertj.core.api.Assertions.*;
@@ -351,6 +354,114 @@ class PolymorphicGroupRepositoryImplUnitTest {
         assertThat(request.expressionAttributeValues().get(":delta").n()).isEqualTo("-3");
     }
 
+    @Test
+    void advanceLastHangoutModified_ConstructsConditionalUpdateWithoutRead() {
+        // Given
+        when(dynamoDbClient.updateItem(any(UpdateItemRequest.class))).thenReturn(UpdateItemResponse.builder().build());
+        Instant timestamp = Instant.parse("2026-01-02T03:04:05.120Z");
+
+        // When
+        boolean updated = repository.advanceLastHangoutModified(groupId, timestamp);
+
+        // Then
+        assertThat(updated).isTrue();
+        ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbClient).updateItem(captor.capture());
+        verify(dynamoDbClient, never()).getItem(any(GetItemRequest.class));
+
+        UpdateItemRequest request = captor.getValue();
+        assertThat(request.key().get("pk").s()).isEqualTo("GROUP#" + groupId);
+        assertThat(request.key().get("sk").s()).isEqualTo("METADATA");
+        assertThat(request.updateExpression()).isEqualTo("SET lastHangoutModified = :ts, updatedAt = :ts");
+        assertThat(request.conditionExpression()).contains("attribute_exists(pk)", "lastHangoutModified < :ts");
+        // Numeric epoch millis, matching InstantAsLongAttributeConverter on both attributes
+        assertThat(request.expressionAttributeValues().get(":ts").s()).isNull();
+        assertThat(request.expressionAttributeValues().get(":ts").n()).isEqualTo(String.valueOf(timestamp.toEpochMilli()));
+
+        // And the written value reads back through the Group schema
+        AttributeValue written = request.expressionAttributeValues().get(":ts");
+        Map<String, AttributeValue> stored = Map.of("lastHangoutModified", written, "updatedAt", written);
+        Group readBack = TableSchema.fromBean(Group.class).mapToItem(stored);
+        assertThat(readBack.getLastHangoutModified()).isEqualTo(timestamp);
+    }
+
+    @Test
+    void advanceLastHangoutModified_WhenConditionFails_ReturnsFalse() {
+        // Given
+        when(dynamoDbClient.updateItem(any(UpdateItemRequest.class)))
+            .thenThrow(ConditionalCheckFailedException.builder().message("newer").build());
+
+        // When
+        boolean updated = repository.advanceLastHangoutModified(groupId, Instant.now());
+
+        // Then
+        assertThat(updated).isFalse();
+    }
+
+    @Test
+    void patchHangoutPointer_SetsOnlyPatchedAttributesWithoutRead() {
+        // Given
+        when(dynamoDbClient.updateItem(any(UpdateItemRequest.class))).thenReturn(UpdateItemResponse.builder().build());
+        InterestLevel going = new InterestLevel(hangoutId, userId, "Alex", "GOING");
+
+        // When
+        boolean updated = repository.patchHangoutPointer(groupId, hangoutId,
+            HangoutPointerPatch.interestLevels(List.of(going)));
+
+        // Then
+        assertThat(updated).isTrue();
+        ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbClient).updateItem(captor.capture());
+        verify(dynamoDbClient, never()).getItem(any(GetItemRequest.class));
+
+        UpdateItemRequest request = captor.getValue();
+        assertThat(request.key().get("pk").s()).isEqualTo("GROUP#" + groupId);
+        assertThat(request.key().get("sk").s()).isEqualTo("HANGOUT#" + hangoutId);
+        assertThat(request.updateExpression()).isEqualTo("SET #a0 = :v0, #a1 = :v1 ADD #version :one");
+        assertThat(request.conditionExpression()).isEqualTo("attribute_exists(pk)");
+        assertThat(request.expressionAttributeNames())
+            .containsEntry("#a0", "interestLevels")
+            .containsEntry("#a1", "updatedAt")
+            .containsEntry("#version", "version");
+        assertThat(request.expressionAttributeValues().get(":v0").l()).hasSize(1);
+        verify(performanceTracker).recordWriteBytes(eq("UpdateItem"), eq("HangoutPointer"), anyLong());
+    }
+
+    @Test
+    void patchHangoutPointer_WithNullField_RemovesAttribute() {
+        // Given
+        when(dynamoDbClient.updateItem(any(UpdateItemRequest.class))).thenReturn(UpdateItemResponse.builder().build());
+
+        // When
+        repository.patchHangoutPointer(groupId, hangoutId,
+            HangoutPointerPatch.momentum(MomentumCategory.BUILDING, 4, null, null, userId));
+
+        // Then
+        ArgumentCaptor<UpdateItemRequest> captor = ArgumentCaptor.forClass(UpdateItemRequest.class);
+        verify(dynamoDbClient).updateItem(captor.capture());
+        UpdateItemRequest request = captor.getValue();
+        assertThat(request.updateExpression()).contains("REMOVE #a2, #a3");
+        assertThat(request.expressionAttributeNames())
+            .containsEntry("#a2", "confirmedAt")
+            .containsEntry("#a3", "confirmedBy");
+        assertThat(request.expressionAttributeValues().get(":v0").s()).isEqualTo("BUILDING");
+        assertThat(request.expressionAttributeValues()).doesNotContainKeys(":v2", ":v3");
+    }
+
+    @Test
+    void patchHangoutPointer_WhenPointerMissing_ReturnsFalse() {
+        // Given
+        when(dynamoDbClient.updateItem(any(UpdateItemRequest.class)))
+            .thenThrow(ConditionalCheckFailedException.builder().message("missing").build());
+
+        // When
+        boolean updated = repository.patchHangoutPointer(groupId, hangoutId,
+            HangoutPointerPatch.interestLevels(List.of()));
+
+        // Then
+        assertThat(updated).isFalse();
+    }
+
     // ============================================================================
     // HELPER METHODS FOR CREATING MOCK ITEMS
     // ============================================================================
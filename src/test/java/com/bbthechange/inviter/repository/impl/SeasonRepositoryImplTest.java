@@ -20,6 +20,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -55,7 +56,7 @@ class SeasonRepositoryImplTest {
             return result;
         });
 
-        repository = new SeasonRepositoryImpl(dynamoDbClient, dynamoDbEnhancedClient, performanceTracker);
+        repository = new SeasonRepositoryImpl(dynamoDbClient, dynamoDbEnhancedClient, performanceTracker, true);
 
         showId = 123;
         seasonNumber = 2;
@@ -206,6 +207,77 @@ class SeasonRepositoryImplTest {
         assertThat(request.expressionAttributeValues().get(":timestamp").n()).isEqualTo(timestamp.toString());
     }
 
+    @Test
+    void save_WithNewSeason_WritesRegistryIndexKeys() {
+        // Given
+        Season season = new Season(showId, seasonNumber, "Breaking Bad");
+        when(dynamoDbClient.putItem(any(PutItemRequest.class))).thenReturn(PutItemResponse.builder().build());
+
+        // When
+        repository.save(season);
+
+        // Then
+        ArgumentCaptor<PutItemRequest> captor = ArgumentCaptor.forClass(PutItemRequest.class);
+        verify(dynamoDbClient).putItem(captor.capture());
+        Map<String, AttributeValue> item = captor.getValue().item();
+        assertThat(item.get("gsi4pk").s()).isEqualTo("REGISTRY#SEASON");
+        assertThat(item.get("gsi4sk").s()).isEqualTo("TVMAZE#SHOW#123|SEASON#2");
+    }
+
+    @Test
+    void findAllDistinctShowIds_QueriesRegistryIndexAcrossPages() {
+        // Given
+        QueryResponse firstPage = QueryResponse.builder()
+            .items(List.of(
+                Map.of("showId", AttributeValue.builder().n("123").build()),
+                Map.of("showId", AttributeValue.builder().n("123").build())))
+            .lastEvaluatedKey(Map.of("gsi4pk", AttributeValue.builder().s("REGISTRY#SEASON").build()))
+            .build();
+        QueryResponse secondPage = QueryResponse.builder()
+            .items(List.of(Map.of("showId", AttributeValue.builder().n("456").build())))
+            .build();
+        when(dynamoDbClient.query(any(QueryRequest.class))).thenReturn(firstPage).thenReturn(secondPage);
+
+        // When
+        Set<Integer> showIds = repository.findAllDistinctShowIds();
+
+        // Then
+        assertThat(showIds).containsExactlyInAnyOrder(123, 456);
+
+        ArgumentCaptor<QueryRequest> captor = ArgumentCaptor.forClass(QueryRequest.class);
+        verify(dynamoDbClient, times(2)).query(captor.capture());
+        QueryRequest request = captor.getAllValues().get(0);
+        assertThat(request.indexName()).isEqualTo("RegistryIndex");
+        assertThat(request.keyConditionExpression()).isEqualTo("gsi4pk = :registry");
+        assertThat(request.expressionAttributeValues().get(":registry").s()).isEqualTo("REGISTRY#SEASON");
+        assertThat(captor.getAllValues().get(1).exclusiveStartKey()).isNotEmpty();
+        verify(dynamoDbClient, never()).scan(any(ScanRequest.class));
+    }
+
+    @Test
+    void findAllDistinctShowIds_WithRegistryIndexDisabled_ScansForSeasons() {
+        // Given - the index isn't backfilled yet, so the scan stays in place
+        SeasonRepositoryImpl scanningRepository =
+            new SeasonRepositoryImpl(dynamoDbClient, dynamoDbEnhancedClient, performanceTracker, false);
+        ScanResponse response = ScanResponse.builder()
+            .items(List.of(
+                Map.of("showId", AttributeValue.builder().n("123").build()),
+                Map.of("showId", AttributeValue.builder().n("456").build())))
+            .build();
+        when(dynamoDbClient.scan(any(ScanRequest.class))).thenReturn(response);
+
+        // When
+        Set<Integer> showIds = scanningRepository.findAllDistinctShowIds();
+
+        // Then
+        assertThat(showIds).containsExactlyInAnyOrder(123, 456);
+        ArgumentCaptor<ScanRequest> captor = ArgumentCaptor.forClass(ScanRequest.class);
+        verify(dynamoDbClient).scan(captor.capture());
+        assertThat(captor.getValue().filterExpression()).isEqualTo("itemType = :itemType");
+        assertThat(captor.getValue().projectionExpression()).isEqualTo("showId");
+        verify(dynamoDbClient, never()).query(any(QueryRequest.class));
+    }
+
     /**
      * Helper method to create mock Season items in DynamoDB attribute format.
      */
@@ -1,18 +1,26 @@
 package com.bbthechange.inviter.service;
 
 import com.bbthechange.inviter.model.Device;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -30,6 +38,9 @@ class DeviceServiceTest {
     @Mock
     private DynamoDbTable<Device> deviceTable;
 
+    @Mock
+    private DynamoDbIndex<Device> userIndex;
+
     // No ScanIterable mock needed
 
     private DeviceService deviceService;
@@ -37,8 +48,9 @@ class DeviceServiceTest {
     @BeforeEach
     void setUp() {
         when(dynamoDbClient.table(eq("Devices"), any(TableSchema.class))).thenReturn(deviceTable);
-        
-        deviceService = new DeviceService(dynamoDbClient);
+        when(deviceTable.index("UserIndex")).thenReturn(userIndex);
+
+        deviceService = new DeviceService(dynamoDbClient, Runnable::run, new SimpleMeterRegistry(), 60, 1000);
     }
 
     @Test
@@ -56,7 +68,7 @@ class DeviceServiceTest {
         assertTrue(result.isActive());
         assertNotNull(result.getUpdatedAt());
         
-        verify(deviceTable).putItem(any(Device.class));
+        verify(deviceTable).putItemWithResponse(any(PutItemEnhancedRequest.class));
     }
 
     @Test
@@ -122,6 +134,66 @@ class DeviceServiceTest {
         verify(deviceTable).getItem(any(Key.class));
     }
 
+    @Test
+    void getActiveDevicesForUsers_FiltersInactiveAndServesRepeatLookupsFromCache() {
+        UUID user1 = UUID.randomUUID();
+        UUID user2 = UUID.randomUUID();
+        Device active = new Device("token-1", user1, Device.Platform.IOS);
+        Device inactive = new Device("token-2", user1, Device.Platform.ANDROID);
+        inactive.setActive(false);
+        Device other = new Device("token-3", user2, Device.Platform.ANDROID);
+
+        when(userIndex.query(any(QueryConditional.class)))
+                .thenReturn(pages(active, inactive))
+                .thenReturn(pages(other));
+
+        Map<UUID, List<Device>> first = deviceService.getActiveDevicesForUsers(List.of(user1, user2));
+        Map<UUID, List<Device>> second = deviceService.getActiveDevicesForUsers(List.of(user1, user2));
+
+        assertEquals(List.of(active), first.get(user1));
+        assertEquals(List.of(other), first.get(user2));
+        assertEquals(first, second);
+        verify(userIndex, times(2)).query(any(QueryConditional.class));
+    }
+
+    @Test
+    void registerDevice_WhenTokenMovesBetweenUsers_InvalidatesPreviousOwner() {
+        UUID previousOwner = UUID.randomUUID();
+        Device previous = new Device("shared-token", previousOwner, Device.Platform.IOS);
+        when(userIndex.query(any(QueryConditional.class)))
+                .thenReturn(pages(previous))
+                .thenReturn(pages());
+        @SuppressWarnings("unchecked")
+        PutItemEnhancedResponse<Device> response = mock(PutItemEnhancedResponse.class);
+        when(response.attributes()).thenReturn(previous);
+        when(deviceTable.putItemWithResponse(any(PutItemEnhancedRequest.class))).thenReturn(response);
+
+        assertEquals(List.of(previous), deviceService.getActiveDevicesForUser(previousOwner));
+        deviceService.registerDevice("shared-token", UUID.randomUUID(), Device.Platform.IOS);
+
+        assertTrue(deviceService.getActiveDevicesForUser(previousOwner).isEmpty());
+    }
+
+    @Test
+    void pruneUnregisteredToken_DeletesDeviceAndInvalidatesOwner() {
+        UUID userId = UUID.randomUUID();
+        Device device = new Device("stale-token", userId, Device.Platform.ANDROID);
+        when(userIndex.query(any(QueryConditional.class)))
+                .thenReturn(pages(device))
+                .thenReturn(pages());
+        when(deviceTable.deleteItem(any(Key.class))).thenReturn(device);
+
+        deviceService.getActiveDevicesForUser(userId);
+        deviceService.pruneUnregisteredToken("stale-token");
+
+        assertTrue(deviceService.getActiveDevicesForUser(userId).isEmpty());
+        verify(deviceTable).deleteItem(any(Key.class));
+    }
+
+    private static SdkIterable<Page<Device>> pages(Device... devices) {
+        return () -> List.of(Page.create(List.of(devices))).iterator();
+    }
+
     // Scan-based tests removed due to complex DynamoDB mocking requirements
     // These would be better tested with integration tests
 }
\ No newline at end of file
@@ -2,10 +2,13 @@ package com.bbthechange.inviter.service;
 
 import com.bbthechange.inviter.model.Hangout;
 import com.google.firebase.FirebaseApp;
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
+import com.google.firebase.messaging.SendResponse;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +18,11 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
@@ -115,7 +123,7 @@ class FcmNotificationServiceTest {
                     TEST_HANGOUT_TITLE, TEST_GROUP_NAME, TEST_CREATOR_NAME);
 
             // Assert - device should be deleted
-            verify(deviceService).deleteDevice(TEST_DEVICE_TOKEN);
+            verify(deviceService).pruneUnregisteredToken(TEST_DEVICE_TOKEN);
         }
     }
 
@@ -246,7 +254,7 @@ class FcmNotificationServiceTest {
                     TEST_DEVICE_TOKEN, TEST_GROUP_ID, TEST_GROUP_NAME, TEST_ADDER_NAME);
 
             // Then - device should be deleted and error metric incremented
-            verify(deviceService).deleteDevice(TEST_DEVICE_TOKEN);
+            verify(deviceService).pruneUnregisteredToken(TEST_DEVICE_TOKEN);
             verify(meterRegistry).counter("fcm_notification_total",
                     "status", "error",
                     "error_code", "UNREGISTERED",
@@ -342,7 +350,7 @@ class FcmNotificationServiceTest {
             fcmNotificationService.sendHangoutReminderNotification(TEST_DEVICE_TOKEN, hangout, TEST_GROUP_ID);
 
             // Then - device should be deleted
-            verify(deviceService).deleteDevice(TEST_DEVICE_TOKEN);
+            verify(deviceService).pruneUnregisteredToken(TEST_DEVICE_TOKEN);
             verify(meterRegistry).counter("fcm_notification_total",
                     "status", "error",
                     "error_code", "UNREGISTERED",
@@ -501,4 +509,117 @@ class FcmNotificationServiceTest {
                     "category", "transient");
         }
     }
+
+    // ===== Bulk send tests =====
+
+    private BatchResponse allSuccessful(int size) {
+        SendResponse success = mock(SendResponse.class);
+        when(success.isSuccessful()).thenReturn(true);
+        List<SendResponse> responses = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            responses.add(success);
+        }
+        BatchResponse batchResponse = mock(BatchResponse.class);
+        when(batchResponse.getResponses()).thenReturn(responses);
+        when(batchResponse.getSuccessCount()).thenReturn(size);
+        when(batchResponse.getFailureCount()).thenReturn(0);
+        return batchResponse;
+    }
+
+    @Test
+    void sendBulk_FirebaseNotConfigured_SkipsNotifications() {
+        // Arrange
+        FcmNotificationService serviceWithoutFirebase = new FcmNotificationService(null, textGenerator, deviceService, meterRegistry);
+        PushMessage message = new PushMessage("new_hangout", "New Hangout", TEST_NOTIFICATION_BODY);
+
+        // Act
+        PushDeliveryResult result = serviceWithoutFirebase.sendBulk(message, List.of(TEST_DEVICE_TOKEN));
+
+        // Assert
+        assertThat(result.getAccepted()).isZero();
+        assertThat(result.getFailed()).isZero();
+        verifyNoInteractions(deviceService);
+    }
+
+    @Test
+    void sendBulk_MoreThanBatchLimit_SplitsIntoMulticastBatches() throws FirebaseMessagingException {
+        // Arrange
+        List<String> tokens = IntStream.range(0, FcmNotificationService.MULTICAST_BATCH_SIZE + 1)
+                .mapToObj(i -> "token-" + i)
+                .toList();
+        PushMessage message = new PushMessage("new_hangout", "New Hangout", TEST_NOTIFICATION_BODY)
+                .withData("hangoutId", TEST_HANGOUT_ID);
+        BatchResponse fullBatch = allSuccessful(FcmNotificationService.MULTICAST_BATCH_SIZE);
+        BatchResponse lastBatch = allSuccessful(1);
+
+        try (MockedStatic<FirebaseMessaging> mockedStatic = mockStatic(FirebaseMessaging.class)) {
+            mockedStatic.when(() -> FirebaseMessaging.getInstance(firebaseApp)).thenReturn(firebaseMessaging);
+            when(firebaseMessaging.sendEachForMulticast(any(MulticastMessage.class)))
+                    .thenReturn(fullBatch, lastBatch);
+
+            // Act
+            PushDeliveryResult result = fcmNotificationService.sendBulk(message, tokens);
+
+            // Assert
+            assertThat(result.getAccepted()).isEqualTo(FcmNotificationService.MULTICAST_BATCH_SIZE + 1);
+            assertThat(result.getFailed()).isZero();
+            verify(firebaseMessaging, times(2)).sendEachForMulticast(any(MulticastMessage.class));
+            verifyNoInteractions(deviceService);
+        }
+    }
+
+    @Test
+    void sendBulk_UnregisteredTokenInBatch_DeletesOnlyThatDevice() throws FirebaseMessagingException {
+        // Arrange
+        String staleToken = "stale_token_abcdef";
+        PushMessage message = new PushMessage("hangout_updated", "Hangout Updated", "Time changed");
+
+        FirebaseMessagingException unregisteredException = mock(FirebaseMessagingException.class);
+        when(unregisteredException.getMessagingErrorCode()).thenReturn(MessagingErrorCode.UNREGISTERED);
+        SendResponse success = mock(SendResponse.class);
+        when(success.isSuccessful()).thenReturn(true);
+        SendResponse failure = mock(SendResponse.class);
+        when(failure.isSuccessful()).thenReturn(false);
+        when(failure.getException()).thenReturn(unregisteredException);
+        BatchResponse batchResponse = mock(BatchResponse.class);
+        when(batchResponse.getResponses()).thenReturn(List.of(success, failure));
+        when(batchResponse.getSuccessCount()).thenReturn(1);
+        when(batchResponse.getFailureCount()).thenReturn(1);
+
+        try (MockedStatic<FirebaseMessaging> mockedStatic = mockStatic(FirebaseMessaging.class)) {
+            mockedStatic.when(() -> FirebaseMessaging.getInstance(firebaseApp)).thenReturn(firebaseMessaging);
+            when(firebaseMessaging.sendEachForMulticast(any(MulticastMessage.class))).thenReturn(batchResponse);
+
+            // Act
+            PushDeliveryResult result = fcmNotificationService.sendBulk(message, List.of(TEST_DEVICE_TOKEN, staleToken));
+
+            // Assert
+            assertThat(result.getAccepted()).isEqualTo(1);
+            assertThat(result.getFailed()).isEqualTo(1);
+            verify(deviceService).pruneUnregisteredToken(staleToken);
+            verify(deviceService, never()).pruneUnregisteredToken(TEST_DEVICE_TOKEN);
+        }
+    }
+
+    @Test
+    void sendBulk_WholeRequestFails_CountsEveryTokenAsFailed() throws FirebaseMessagingException {
+        // Arrange
+        PushMessage message = new PushMessage("carpool_new_car", "New Car", "Alice is driving");
+        FirebaseMessagingException authException = mock(FirebaseMessagingException.class);
+        when(authException.getMessagingErrorCode()).thenReturn(MessagingErrorCode.THIRD_PARTY_AUTH_ERROR);
+
+        try (MockedStatic<FirebaseMessaging> mockedStatic = mockStatic(FirebaseMessaging.class)) {
+            mockedStatic.when(() -> FirebaseMessaging.getInstance(firebaseApp)).thenReturn(firebaseMessaging);
+            when(firebaseMessaging.sendEachForMulticast(any(MulticastMessage.class))).thenThrow(authException);
+
+            // Act
+            PushDeliveryResult result = fcmNotificationService.sendBulk(message, List.of(TEST_DEVICE_TOKEN, "other_token"));
+
+            // Assert
+            assertThat(result.getAccepted()).isZero();
+            assertThat(result.getFailed()).isEqualTo(2);
+            verify(counter).increment(2.0);
+            verifyNoInteractions(deviceService);
+        }
+    }
 }
@@ -0,0 +1,142 @@
+package com.bbthechange.inviter.service;
+
+import com.bbthechange.inviter.model.BaseItem;
+import com.bbthechange.inviter.model.HangoutPointer;
+import com.bbthechange.inviter.service.GroupFeedSnapshotCache.GroupFeedSnapshot;
+import com.bbthechange.inviter.testutil.HangoutPointerTestBuilder;
+import com.bbthechange.inviter.util.HangoutPointerPatch;
+import com.bbthechange.inviter.util.PaginatedResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GroupFeedSnapshotCacheTest {
+
+    private static final String GROUP_ID = "11111111-1111-1111-1111-111111111111";
+    private static final String HANGOUT_ID = "22222222-2222-2222-2222-222222222222";
+    private static final Instant VERSION = Instant.parse("2026-01-01T00:00:00Z");
+
+    private GroupFeedSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new GroupFeedSnapshotCache(new SimpleMeterRegistry(), 60, 100);
+    }
+
+    @Test
+    void get_WithMatchingVersion_ReturnsSnapshot() {
+        // Given
+        cache.put(GROUP_ID, 20, snapshot(VERSION, pointer("Original")));
+
+        // When / Then
+        assertThat(cache.get(GROUP_ID, 20, VERSION)).isPresent();
+        assertThat(cache.get(GROUP_ID, null, VERSION)).isEmpty();
+        assertThat(cache.get("other-group", 20, VERSION)).isEmpty();
+    }
+
+    @Test
+    void get_WithNewerVersion_DropsSnapshot() {
+        // Given
+        cache.put(GROUP_ID, null, snapshot(VERSION, pointer("Original")));
+
+        // When
+        boolean hitAfterBump = cache.get(GROUP_ID, null, VERSION.plusSeconds(1)).isPresent();
+
+        // Then
+        assertThat(hitAfterBump).isFalse();
+        assertThat(cache.get(GROUP_ID, null, VERSION)).isEmpty();
+    }
+
+    @Test
+    void of_CopiesResultsSoLaterChangesToSourceListsAreNotVisible() {
+        // Given
+        List<BaseItem> items = new ArrayList<>(List.of(pointer("Original")));
+        GroupFeedSnapshot snapshot = GroupFeedSnapshot.of(VERSION, new PaginatedResult<>(items, "token"),
+                empty(), empty());
+
+        // When
+        items.clear();
+
+        // Then
+        assertThat(snapshot.futureEvents().getResults()).hasSize(1);
+        assertThat(snapshot.futureEvents().getNextToken()).isEqualTo("token");
+        assertThatThrownBy(() -> snapshot.futureEvents().getResults().clear())
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void applyPointerUpdate_WithPointerInSnapshot_ReplacesItInEveryPageSize() {
+        // Given
+        cache.put(GROUP_ID, null, snapshot(VERSION, pointer("Original")));
+        cache.put(GROUP_ID, 5, snapshot(VERSION, pointer("Original")));
+
+        // When
+        cache.applyPointerUpdate(pointer("Renamed"));
+
+        // Then
+        assertThat(titleOfFirstFutureEvent(null)).isEqualTo("Renamed");
+        assertThat(titleOfFirstFutureEvent(5)).isEqualTo("Renamed");
+    }
+
+    @Test
+    void applyPointerUpdate_WithPointerNotInSnapshot_DropsSnapshot() {
+        // Given
+        cache.put(GROUP_ID, null, snapshot(VERSION, pointer("Original")));
+        HangoutPointer newHangout = HangoutPointerTestBuilder.aPointer()
+                .forGroup(GROUP_ID)
+                .forHangout("33333333-3333-3333-3333-333333333333")
+                .withTitle("New")
+                .build();
+
+        // When
+        cache.applyPointerUpdate(newHangout);
+
+        // Then
+        assertThat(cache.get(GROUP_ID, null, VERSION)).isEmpty();
+    }
+
+    @Test
+    void applyPatch_UpdatesCopyAndLeavesOriginalPointerUntouched() {
+        // Given
+        HangoutPointer original = pointer("Original");
+        cache.put(GROUP_ID, null, snapshot(VERSION, original));
+
+        // When
+        cache.applyPatch(GROUP_ID, HANGOUT_ID, HangoutPointerPatch.interestLevels(List.of()));
+
+        // Then
+        HangoutPointer cached = (HangoutPointer) cache.get(GROUP_ID, null, VERSION).orElseThrow()
+                .futureEvents().getResults().get(0);
+        assertThat(cached).isNotSameAs(original);
+        assertThat(cached.getInterestLevels()).isEmpty();
+        assertThat(cached.getTitle()).isEqualTo("Original");
+    }
+
+    private String titleOfFirstFutureEvent(Integer limit) {
+        GroupFeedSnapshot snapshot = cache.get(GROUP_ID, limit, VERSION).orElseThrow();
+        return ((HangoutPointer) snapshot.futureEvents().getResults().get(0)).getTitle();
+    }
+
+    private static GroupFeedSnapshot snapshot(Instant version, BaseItem... futureEvents) {
+        return GroupFeedSnapshot.of(version, new PaginatedResult<>(List.of(futureEvents), null), empty(), empty());
+    }
+
+    private static PaginatedResult<BaseItem> empty() {
+        return new PaginatedResult<>(List.of(), null);
+    }
+
+    private static HangoutPointer pointer(String title) {
+        return HangoutPointerTestBuilder.aPointer()
+                .forGroup(GROUP_ID)
+                .forHangout(HANGOUT_ID)
+                .withTitle(title)
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package com.bbthechange.inviter.service;
+
+import com.bbthechange.inviter.model.GroupMembership;
+import com.bbthechange.inviter.repository.GroupRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GroupMembershipCache.
+ */
+@ExtendWith(MockitoExtension.class)
+class GroupMembershipCacheTest {
+
+    private static final String GROUP_ID = "12345678-1234-1234-1234-123456789012";
+    private static final String OTHER_GROUP_ID = "22222222-2222-2222-2222-222222222222";
+    private static final String USER_ID = "87654321-4321-4321-4321-210987654321";
+
+    @Mock
+    private GroupRepository groupRepository;
+
+    private MeterRegistry meterRegistry;
+    private GroupMembershipCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new GroupMembershipCache(groupRepository, meterRegistry, 300, 1000);
+    }
+
+    @Test
+    void isMember_RepeatedCheck_UsesSinglePointLookup() {
+        when(groupRepository.findMembership(GROUP_ID, USER_ID))
+            .thenReturn(Optional.of(new GroupMembership(GROUP_ID, USER_ID, "Group")));
+
+        assertThat(cache.isMember(GROUP_ID, USER_ID)).isTrue();
+        assertThat(cache.isMember(GROUP_ID, USER_ID)).isTrue();
+
+        verify(groupRepository, times(1)).findMembership(GROUP_ID, USER_ID);
+        verify(groupRepository, never()).findMembersByGroupId(any());
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "groupMembership").tag("result", "hit")
+            .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void isMember_NonMember_IsNotCached() {
+        when(groupRepository.findMembership(GROUP_ID, USER_ID)).thenReturn(Optional.empty());
+
+        assertThat(cache.isMember(GROUP_ID, USER_ID)).isFalse();
+        assertThat(cache.isMember(GROUP_ID, USER_ID)).isFalse();
+
+        verify(groupRepository, times(2)).findMembership(GROUP_ID, USER_ID);
+    }
+
+    @Test
+    void invalidate_AfterRemoval_ReloadsFromRepository() {
+        when(groupRepository.findMembership(GROUP_ID, USER_ID))
+            .thenReturn(Optional.of(new GroupMembership(GROUP_ID, USER_ID, "Group")))
+            .thenReturn(Optional.empty());
+
+        assertThat(cache.isMember(GROUP_ID, USER_ID)).isTrue();
+        cache.invalidate(GROUP_ID, USER_ID);
+
+        assertThat(cache.isMember(GROUP_ID, USER_ID)).isFalse();
+    }
+
+    @Test
+    void invalidateGroup_OnlyDropsEntriesForThatGroup() {
+        when(groupRepository.findMembership(any(), any()))
+            .thenAnswer(inv -> Optional.of(new GroupMembership(inv.getArgument(0), inv.getArgument(1), "Group")));
+        cache.isMember(GROUP_ID, USER_ID);
+        cache.isMember(OTHER_GROUP_ID, USER_ID);
+
+        cache.invalidateGroup(GROUP_ID);
+        cache.isMember(GROUP_ID, USER_ID);
+        cache.isMember(OTHER_GROUP_ID, USER_ID);
+
+        verify(groupRepository, times(2)).findMembership(GROUP_ID, USER_ID);
+        verify(groupRepository, times(1)).findMembership(OTHER_GROUP_ID, USER_ID);
+    }
+
+    @Test
+    void isMember_InvalidatedWhileLoading_DoesNotCacheStaleMembership() throws Exception {
+        // Given - the user is removed (and the entry invalidated) while the lookup is in flight
+        GroupMembership membership = new GroupMembership(GROUP_ID, USER_ID, "Group");
+        Thread[] remover = new Thread[1];
+        when(groupRepository.findMembership(GROUP_ID, USER_ID))
+            .thenAnswer(inv -> {
+                remover[0] = new Thread(() -> cache.invalidate(GROUP_ID, USER_ID));
+                remover[0].start();
+                awaitBlocked(remover[0]);
+                return Optional.of(membership);
+            })
+            .thenReturn(Optional.empty());
+
+        // When
+        boolean duringRemoval = cache.isMember(GROUP_ID, USER_ID);
+        remover[0].join(5000);
+        boolean afterRemoval = cache.isMember(GROUP_ID, USER_ID);
+
+        // Then
+        assertThat(duringRemoval).isTrue();
+        assertThat(afterRemoval).isFalse();
+        verify(groupRepository, times(2)).findMembership(GROUP_ID, USER_ID);
+    }
+
+    @Test
+    void isMember_GroupInvalidatedWhileLoading_DoesNotCacheStaleMembership() throws Exception {
+        // Given - invalidateGroup runs to completion while the lookup is in flight
+        GroupMembership membership = new GroupMembership(GROUP_ID, USER_ID, "Group");
+        when(groupRepository.findMembership(GROUP_ID, USER_ID))
+            .thenAnswer(inv -> {
+                Thread remover = new Thread(() -> cache.invalidateGroup(GROUP_ID));
+                remover.start();
+                remover.join(5000);
+                return Optional.of(membership);
+            })
+            .thenReturn(Optional.empty());
+
+        // When
+        boolean duringRemoval = cache.isMember(GROUP_ID, USER_ID);
+        boolean afterRemoval = cache.isMember(GROUP_ID, USER_ID);
+
+        // Then
+        assertThat(duringRemoval).isTrue();
+        assertThat(afterRemoval).isFalse();
+        verify(groupRepository, times(2)).findMembership(GROUP_ID, USER_ID);
+    }
+
+    @Test
+    void isMember_NullIds_ReturnsFalseWithoutLookup() {
+        assertThat(cache.isMember(null, USER_ID)).isFalse();
+        assertThat(cache.isMember(GROUP_ID, null)).isFalse();
+
+        verifyNoInteractions(groupRepository);
+    }
+
+    private static void awaitBlocked(Thread thread) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (thread.getState() == Thread.State.NEW || thread.getState() == Thread.State.RUNNABLE) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Invalidation never waited on the in-flight load");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
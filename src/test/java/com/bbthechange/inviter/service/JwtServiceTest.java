@@ -3,6 +3,7 @@ package com.bbthechange.inviter.service;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,6 +14,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -23,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * - generateToken - JWT token generation
  * - extractUserId - Extract user ID from token
  * - isTokenValid - Token validation
+ * - verifyAccessToken - Single-parse verification and verified-token cache
  * - Token expiration handling
  * - Invalid token scenarios
  */
@@ -361,6 +364,86 @@ class JwtServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("verifyAccessToken - Single-Parse Verification Tests")
+    class VerifyAccessTokenTests {
+
+        @Test
+        @DisplayName("Should return claims of a valid token")
+        void verifyAccessToken_ValidToken() {
+            // Act
+            Optional<Claims> claims = jwtService.verifyAccessToken(validToken);
+
+            // Assert
+            assertTrue(claims.isPresent());
+            assertEquals(testUserId, claims.get().getSubject());
+        }
+
+        @Test
+        @DisplayName("Should return empty for invalid tokens")
+        void verifyAccessToken_InvalidTokens() {
+            // Arrange
+            String expiredToken = Jwts.builder()
+                .subject(testUserId)
+                .issuedAt(new Date(System.currentTimeMillis() - 7200000))
+                .expiration(new Date(System.currentTimeMillis() - 3600000))
+                .signWith(key)
+                .compact();
+
+            // Act & Assert
+            assertTrue(jwtService.verifyAccessToken(expiredToken).isEmpty());
+            assertTrue(jwtService.verifyAccessToken("not-a-jwt-token").isEmpty());
+            assertTrue(jwtService.verifyAccessToken(null).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should verify the signature once and serve repeats from the cache")
+        void verifyAccessToken_RepeatedToken() throws Exception {
+            // Arrange
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            JwtService instrumented = new JwtService();
+            setField(instrumented, "secretKey", SECRET_KEY);
+            setField(instrumented, "meterRegistry", registry);
+            instrumented.init();
+
+            // Act
+            Optional<Claims> first = instrumented.verifyAccessToken(validToken);
+            Optional<Claims> second = instrumented.verifyAccessToken(validToken);
+
+            // Assert
+            assertEquals(first, second);
+            assertEquals(1, registry.get("jwt_verification_duration").timer().count());
+            assertEquals(1.0, registry.get("cache.gets").tag("cache", "verifiedJwt").tag("result", "hit")
+                .functionCounter().count());
+        }
+
+        @Test
+        @DisplayName("Should not cache tokens that fail verification")
+        void verifyAccessToken_InvalidTokenNotCached() throws Exception {
+            // Arrange
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            JwtService instrumented = new JwtService();
+            setField(instrumented, "secretKey", SECRET_KEY);
+            setField(instrumented, "meterRegistry", registry);
+            instrumented.init();
+
+            // Act
+            instrumented.verifyAccessToken("invalid.token.format");
+            instrumented.verifyAccessToken("invalid.token.format");
+
+            // Assert
+            assertEquals(2, registry.get("jwt_verification_duration").timer().count());
+            assertEquals(0.0, registry.get("cache.gets").tag("cache", "verifiedJwt").tag("result", "hit")
+                .functionCounter().count());
+        }
+
+        private void setField(JwtService target, String name, Object value) throws Exception {
+            java.lang.reflect.Field field = JwtService.class.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        }
+    }
+
     @Nested
     @DisplayName("Integration Tests")
     class IntegrationTests {
@@ -7,6 +7,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -400,4 +407,46 @@ class PasswordServiceTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("matchesAsync - Executor-Bound Verification Tests")
+    class MatchesAsyncTests {
+
+        @Test
+        @DisplayName("Should verify the password on the supplied executor")
+        void matchesAsync_RunsOnHashingExecutor() {
+            // Arrange
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            PasswordService asyncService = new PasswordService(executor, null);
+            try {
+                // Act
+                CompletableFuture<Boolean> correct = asyncService.matchesAsync(testPassword, encryptedPassword);
+                CompletableFuture<Boolean> wrong = asyncService.matchesAsync("wrongPassword", encryptedPassword);
+
+                // Assert
+                assertTrue(correct.join());
+                assertFalse(wrong.join());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("Should fail fast and count the rejection when the executor is saturated")
+        void matchesAsync_ExecutorSaturated() {
+            // Arrange
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            executor.shutdown(); // a shut-down executor rejects every task, like a full queue
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+            PasswordService asyncService = new PasswordService(executor, registry);
+
+            // Act
+            CompletableFuture<Boolean> result = asyncService.matchesAsync(testPassword, encryptedPassword);
+
+            // Assert
+            CompletionException thrown = assertThrows(CompletionException.class, result::join);
+            assertInstanceOf(RejectedExecutionException.class, thrown.getCause());
+            assertEquals(1.0, registry.counter("password_hashing_rejected_total").count());
+        }
+    }
+}
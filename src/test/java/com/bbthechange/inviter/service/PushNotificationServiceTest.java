@@ -10,14 +10,16 @@ import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
@@ -44,7 +46,9 @@ class PushNotificationServiceTest {
     @Mock
     private Counter counter;
 
-    @InjectMocks
+    @Mock
+    private DeviceService deviceService;
+
     private PushNotificationService pushNotificationService;
 
     private static final String TEST_DEVICE_TOKEN = "abcdef1234567890abcdef1234567890abcdef1234567890abcdef1234567890";
@@ -58,6 +62,7 @@ class PushNotificationServiceTest {
 
     @BeforeEach
     void setUp() {
+        pushNotificationService = new PushNotificationService(textGenerator, meterRegistry, deviceService, 100);
         lenient().when(meterRegistry.counter(anyString(), any(String[].class))).thenReturn(counter);
         ReflectionTestUtils.setField(pushNotificationService, "bundleId", TEST_BUNDLE_ID);
     }
@@ -201,6 +206,31 @@ class PushNotificationServiceTest {
         verify(meterRegistry).counter("apns_notification_total",
                 "status", "rejected", "type", "group_member_added",
                 "reason", "BadDeviceToken", "category", "expected");
+        verify(deviceService, never()).pruneUnregisteredToken(anyString());
+    }
+
+    @Test
+    void testSendBulk_UnregisteredToken_PrunesDevice() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(pushNotificationService, "apnsClient", apnsClient);
+        when(apnsClient.sendNotification(any(SimpleApnsPushNotification.class))).thenAnswer(invocation -> {
+            @SuppressWarnings("unchecked")
+            PushNotificationResponse<SimpleApnsPushNotification> response = mock(PushNotificationResponse.class);
+            when(response.isAccepted()).thenReturn(false);
+            when(response.getRejectionReason()).thenReturn(Optional.of("Unregistered"));
+            PushNotificationFuture<SimpleApnsPushNotification, PushNotificationResponse<SimpleApnsPushNotification>> future =
+                    new PushNotificationFuture<>(invocation.getArgument(0));
+            future.complete(response);
+            return future;
+        });
+        PushMessage message = new PushMessage("new_hangout", "New Hangout", "Body");
+
+        // Act
+        PushDeliveryResult result = pushNotificationService.sendBulk(message, List.of(TEST_DEVICE_TOKEN)).get();
+
+        // Assert
+        assertThat(result.getFailed()).isEqualTo(1);
+        verify(deviceService).pruneUnregisteredToken(TEST_DEVICE_TOKEN);
     }
 
     @Test
@@ -814,4 +844,81 @@ class PushNotificationServiceTest {
         verify(apnsClient).sendNotification(any(SimpleApnsPushNotification.class));
         verify(meterRegistry).counter("apns_notification_total", "status", "success", "type", "watch_party_update");
     }
-}
\ No newline at end of file
+
+    // ===== Bulk send tests =====
+
+    private PushNotificationFuture<SimpleApnsPushNotification, PushNotificationResponse<SimpleApnsPushNotification>> completedSend(
+            SimpleApnsPushNotification notification, boolean accepted) {
+        @SuppressWarnings("unchecked")
+        PushNotificationResponse<SimpleApnsPushNotification> response = mock(PushNotificationResponse.class);
+        lenient().when(response.isAccepted()).thenReturn(accepted);
+        lenient().when(response.getRejectionReason()).thenReturn(Optional.of("BadDeviceToken"));
+        PushNotificationFuture<SimpleApnsPushNotification, PushNotificationResponse<SimpleApnsPushNotification>> future =
+                new PushNotificationFuture<>(notification);
+        future.complete(response);
+        return future;
+    }
+
+    @Test
+    void testSendBulk_ApnsClientNull_SkipsNotifications() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(pushNotificationService, "apnsClient", null);
+        PushMessage message = new PushMessage("new_hangout", "New Hangout", "Body");
+
+        // Act
+        PushDeliveryResult result = pushNotificationService.sendBulk(message, List.of(TEST_DEVICE_TOKEN)).get();
+
+        // Assert
+        assertThat(result.getAccepted()).isZero();
+        assertThat(result.getFailed()).isZero();
+        verifyNoInteractions(apnsClient);
+    }
+
+    @Test
+    void testSendBulk_MixedResponses_CountsAcceptedAndRejected() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(pushNotificationService, "apnsClient", apnsClient);
+        String rejectedToken = "1111111111111111111111111111111111111111111111111111111111111111";
+        when(apnsClient.sendNotification(any(SimpleApnsPushNotification.class))).thenAnswer(invocation -> {
+            SimpleApnsPushNotification notification = invocation.getArgument(0);
+            return completedSend(notification, !notification.getToken().equals(rejectedToken));
+        });
+        PushMessage message = new PushMessage("hangout_updated", "Hangout Updated", "Time changed")
+                .withData("hangoutId", "hangout-1");
+
+        // Act
+        PushDeliveryResult result = pushNotificationService.sendBulk(
+                message, List.of(TEST_DEVICE_TOKEN, rejectedToken)).get();
+
+        // Assert
+        assertThat(result.getAccepted()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(1);
+        verify(apnsClient, times(2)).sendNotification(any(SimpleApnsPushNotification.class));
+        verify(meterRegistry).counter("apns_notification_total", "status", "success", "type", "hangout_updated");
+        verify(meterRegistry).counter("apns_notification_total", "status", "rejected", "type", "hangout_updated",
+                "reason", "BadDeviceToken", "category", "expected");
+    }
+
+    @Test
+    void testSendBulk_PayloadIncludesMessageData() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(pushNotificationService, "apnsClient", apnsClient);
+        when(apnsClient.sendNotification(any(SimpleApnsPushNotification.class)))
+                .thenAnswer(invocation -> completedSend(invocation.getArgument(0), true));
+        PushMessage message = new PushMessage("carpool_new_car", "New Car", "Alice is driving")
+                .withData("hangoutId", "hangout-1")
+                .withData("groupId", null);
+
+        // Act
+        pushNotificationService.sendBulk(message, List.of(TEST_DEVICE_TOKEN)).get();
+
+        // Assert
+        ArgumentCaptor<SimpleApnsPushNotification> captor = ArgumentCaptor.forClass(SimpleApnsPushNotification.class);
+        verify(apnsClient).sendNotification(captor.capture());
+        assertThat(captor.getValue().getPayload())
+                .contains("\"type\":\"carpool_new_car\"")
+                .contains("\"hangoutId\":\"hangout-1\"")
+                .doesNotContain("groupId");
+        assertThat(captor.getValue().getTopic()).isEqualTo(TEST_BUNDLE_ID);
+    }
+}
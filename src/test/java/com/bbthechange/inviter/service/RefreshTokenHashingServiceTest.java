@@ -229,4 +229,16 @@ class RefreshTokenHashingServiceTest {
         assertThat(hashingService.matches(bcryptToken, sha256Hash)).isFalse();
         assertThat(hashingService.matches(sha256Token, bcryptHash)).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    void needsRehash_ShouldFlagOnlyLegacyBCryptHashes() {
+        // Given
+        String bcryptHash = new BCryptPasswordEncoder(4).encode("legacy-token");
+        String sha256Hash = hashingService.generateSecurityHash("new-token");
+
+        // When/Then
+        assertThat(hashingService.needsRehash(bcryptHash)).isTrue();
+        assertThat(hashingService.needsRehash(sha256Hash)).isFalse();
+        assertThat(hashingService.needsRehash(null)).isFalse();
+    }
+}
@@ -110,6 +110,32 @@ class RefreshTokenRotationServiceTest {
         verify(hashingService, never()).generateRefreshToken(); // No new token generated
     }
     
+    @Test
+    void refreshTokens_MobileClientWithLegacyHash_ShouldRehashToSha256() {
+        // Given
+        String rawRefreshToken = "legacy-refresh-token";
+        String lookupHash = "lookup-hash";
+        String userId = "user-123";
+
+        RefreshToken existingToken = createValidRefreshToken(userId);
+        existingToken.setSecurityHash("$2a$12$legacyBCryptHash");
+
+        when(hashingService.generateLookupHash(rawRefreshToken)).thenReturn(lookupHash);
+        when(refreshTokenRepository.findByTokenHash(lookupHash)).thenReturn(Optional.of(existingToken));
+        when(hashingService.matches(rawRefreshToken, "$2a$12$legacyBCryptHash")).thenReturn(true);
+        when(hashingService.needsRehash("$2a$12$legacyBCryptHash")).thenReturn(true);
+        when(hashingService.generateSecurityHash(rawRefreshToken)).thenReturn("sha256-security-hash");
+        when(jwtService.generateToken(userId)).thenReturn("new-access-token");
+
+        // When
+        RefreshTokenPair result = rotationService.refreshTokens(rawRefreshToken, "127.0.0.1", "test-agent", true);
+
+        // Then - same token returned, now stored with the SHA-256 hash
+        assertThat(result.getRefreshToken()).isEqualTo(rawRefreshToken);
+        verify(refreshTokenRepository).save(argThat(token ->
+            "sha256-security-hash".equals(token.getSecurityHash()) && token.getSupersededAt() == null));
+    }
+
     @Test
     void refreshTokens_WithInvalidToken_ShouldThrowUnauthorizedException() {
         // Given
@@ -1,5 +1,6 @@
 package com.bbthechange.inviter.service;
 
+import com.bbthechange.inviter.dto.UserSummaryDTO;
 import com.bbthechange.inviter.model.Device;
 import com.bbthechange.inviter.model.Invite;
 import com.bbthechange.inviter.model.User;
@@ -14,11 +15,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -31,6 +41,7 @@ import static org.mockito.Mockito.*;
  * - updateDisplayName - Update user display name
  * - changePassword - Change user password with validation
  * - getUserById - Retrieve user by ID
+ * - getUserSummaries - Cached, batched and single-flight summary lookups
  * - Error handling and validation scenarios
  */
 @ExtendWith(MockitoExtension.class)
@@ -632,4 +643,88 @@ class UserServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getUserSummaries - Batched Summary Lookup Tests")
+    class GetUserSummariesTests {
+
+        private ConcurrentMapCacheManager cacheManager;
+
+        @BeforeEach
+        void setUpCache() {
+            cacheManager = new ConcurrentMapCacheManager("friendlyNames");
+            ReflectionTestUtils.setField(userService, "cacheManager", cacheManager);
+        }
+
+        @Test
+        @DisplayName("Should serve cached users and load only the misses in one batch")
+        void getUserSummaries_LoadsMissesInOneBatch() {
+            // Arrange
+            UUID cachedId = UUID.randomUUID();
+            UserSummaryDTO cached = new UserSummaryDTO(cachedId, "Cached", null);
+            cacheManager.getCache("friendlyNames").put(cachedId.toString(), cached);
+            UUID missingId = UUID.randomUUID();
+
+            when(userRepository.findByIds(anyCollection())).thenReturn(List.of(testUser));
+
+            // Act
+            Map<UUID, UserSummaryDTO> result = userService.getUserSummaries(List.of(cachedId, testUserId, missingId));
+
+            // Assert
+            assertEquals(2, result.size());
+            assertSame(cached, result.get(cachedId));
+            assertEquals("Test User", result.get(testUserId).getDisplayName());
+            verify(userRepository).findByIds(Set.of(testUserId, missingId));
+            verify(userRepository, never()).findById(any(UUID.class));
+        }
+
+        @Test
+        @DisplayName("Should cache users that don't exist so they aren't read again")
+        void getUserSummary_CachesMissingUser() {
+            // Arrange
+            UUID missingId = UUID.randomUUID();
+            when(userRepository.findByIds(anyCollection())).thenReturn(List.of());
+
+            // Act
+            Optional<UserSummaryDTO> first = userService.getUserSummary(missingId);
+            Optional<UserSummaryDTO> second = userService.getUserSummary(missingId);
+
+            // Assert
+            assertTrue(first.isEmpty());
+            assertTrue(second.isEmpty());
+            verify(userRepository, times(1)).findByIds(anyCollection());
+        }
+
+        @Test
+        @DisplayName("Should share one load between concurrent misses on the same user")
+        void getUserSummaries_ConcurrentMissesShareOneLoad() throws Exception {
+            // Arrange
+            CountDownLatch loading = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            when(userRepository.findByIds(anyCollection())).thenAnswer(invocation -> {
+                loading.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return List.of(testUser);
+            });
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+
+            try {
+                // Act
+                Future<Map<UUID, UserSummaryDTO>> first = executor.submit(
+                        () -> userService.getUserSummaries(List.of(testUserId)));
+                assertTrue(loading.await(5, TimeUnit.SECONDS));
+                Future<Optional<UserSummaryDTO>> second = executor.submit(
+                        () -> userService.getUserSummary(testUserId));
+                Thread.sleep(50);
+                release.countDown();
+
+                // Assert
+                assertEquals("Test User", first.get(5, TimeUnit.SECONDS).get(testUserId).getDisplayName());
+                assertEquals("Test User", second.get(5, TimeUnit.SECONDS).orElseThrow().getDisplayName());
+                verify(userRepository, times(1)).findByIds(anyCollection());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
 }
\ No newline at end of file
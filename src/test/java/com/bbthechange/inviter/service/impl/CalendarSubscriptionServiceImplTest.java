@@ -11,8 +11,10 @@ import com.bbthechange.inviter.model.GroupMembership;
 import com.bbthechange.inviter.model.HangoutPointer;
 import com.bbthechange.inviter.repository.GroupRepository;
 import com.bbthechange.inviter.repository.HangoutRepository;
+import com.bbthechange.inviter.service.CalendarFeedCache;
 import com.bbthechange.inviter.service.ICalendarService;
 import com.bbthechange.inviter.util.PaginatedResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -22,12 +24,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.zip.GZIPInputStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -53,6 +59,8 @@ class CalendarSubscriptionServiceImplTest {
     @Mock
     private ICalendarService iCalendarService;
 
+    private CalendarFeedCache feedCache;
+    private SimpleMeterRegistry meterRegistry;
     private CalendarSubscriptionServiceImpl subscriptionService;
 
     private static final String TEST_BASE_URL = "https://test.inviter.app";
@@ -63,10 +71,13 @@ class CalendarSubscriptionServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        feedCache = new CalendarFeedCache(groupRepository, meterRegistry, 30, 64 * 1024 * 1024, 60, 1000);
         subscriptionService = new CalendarSubscriptionServiceImpl(
             groupRepository,
             hangoutRepository,
             iCalendarService,
+            feedCache,
             TEST_BASE_URL
         );
     }
@@ -173,6 +184,7 @@ class CalendarSubscriptionServiceImplTest {
             groupRepository,
             hangoutRepository,
             iCalendarService,
+            feedCache,
             "http://test.inviter.app"
         );
         GroupMembership membership = createMembership(TEST_GROUP_ID, TEST_USER_ID, TEST_GROUP_NAME, null);
@@ -370,6 +382,7 @@ class CalendarSubscriptionServiceImplTest {
         assertThat(response.getHeaders().getCacheControl()).contains("max-age");
         assertThat(response.getHeaders().getCacheControl()).contains("public");
         assertThat(response.getHeaders().getCacheControl()).contains("must-revalidate");
+        assertThat(response.getHeaders().getVary()).contains("Accept-Encoding");
 
         verify(groupRepository).findMembershipByToken(token);
         verify(groupRepository).findById(groupId);
@@ -411,6 +424,7 @@ class CalendarSubscriptionServiceImplTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
         assertThat(response.getBody()).isNull();
         assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(response.getHeaders().getVary()).contains("Accept-Encoding");
 
         verify(groupRepository).findMembershipByToken(token);
         verify(groupRepository).findById(groupId);
@@ -546,6 +560,183 @@ class CalendarSubscriptionServiceImplTest {
         verify(groupRepository).findMembershipByToken(token);
     }
 
+    @Test
+    void getCalendarFeed_RepeatedRequestsForSameVersion_RenderOnceAndValidateTokenOnce() {
+        // Given - e.g. a calendar client that ignores ETags, polling twice
+        String groupId = "cd567890-1234-5678-9abc-def012345678";
+        String token = "valid-token-mno";
+        GroupMembership membership = createMembership(groupId, TEST_USER_ID, TEST_GROUP_NAME, token);
+        Group group = createGroup(groupId, Instant.ofEpochMilli(1234567890000L));
+        String icsContent = "BEGIN:VCALENDAR\nVERSION:2.0\nEND:VCALENDAR";
+
+        when(groupRepository.findMembershipByToken(token)).thenReturn(Optional.of(membership));
+        when(groupRepository.findById(groupId)).thenReturn(Optional.of(group));
+        when(hangoutRepository.getFutureEventsPage(eq(groupId), anyLong(), eq(100), isNull()))
+            .thenReturn(new PaginatedResult<>(castToBaseItems(createHangoutPointers(2)), null));
+        when(iCalendarService.generateICS(eq(group), anyList())).thenReturn(icsContent);
+
+        // When
+        ResponseEntity<String> first = subscriptionService.getCalendarFeed(groupId, token, null);
+        ResponseEntity<String> second = subscriptionService.getCalendarFeed(groupId, token, "\"stale-etag\"");
+
+        // Then
+        assertThat(first.getBody()).isEqualTo(icsContent);
+        assertThat(second.getBody()).isEqualTo(icsContent);
+        assertThat(second.getHeaders().getETag()).isEqualTo(first.getHeaders().getETag());
+        verify(groupRepository, times(1)).findMembershipByToken(token);
+        verify(hangoutRepository, times(1)).getFutureEventsPage(eq(groupId), anyLong(), eq(100), isNull());
+        verify(iCalendarService, times(1)).generateICS(eq(group), anyList());
+        assertThat(meterRegistry.timer("calendar_feed_render_duration").count()).isEqualTo(1);
+    }
+
+    @Test
+    void getCalendarFeed_AfterGroupChanges_RendersNewVersion() {
+        // Given
+        String groupId = "ef567890-1234-5678-9abc-def012345678";
+        String token = "valid-token-pqr";
+        GroupMembership membership = createMembership(groupId, TEST_USER_ID, TEST_GROUP_NAME, token);
+        Group before = createGroup(groupId, Instant.ofEpochMilli(1000L));
+        Group after = createGroup(groupId, Instant.ofEpochMilli(2000L));
+
+        when(groupRepository.findMembershipByToken(token)).thenReturn(Optional.of(membership));
+        when(groupRepository.findById(groupId)).thenReturn(Optional.of(before), Optional.of(after));
+        when(hangoutRepository.getFutureEventsPage(eq(groupId), anyLong(), eq(100), isNull()))
+            .thenReturn(new PaginatedResult<>(castToBaseItems(createHangoutPointers(1)), null));
+        when(iCalendarService.generateICS(any(Group.class), anyList())).thenReturn("v1", "v2");
+
+        // When
+        ResponseEntity<String> first = subscriptionService.getCalendarFeed(groupId, token, null);
+        ResponseEntity<String> second = subscriptionService.getCalendarFeed(groupId, token, null);
+
+        // Then
+        assertThat(first.getBody()).isEqualTo("v1");
+        assertThat(second.getBody()).isEqualTo("v2");
+        assertThat(second.getHeaders().getETag()).isEqualTo("\"" + groupId + "-2000\"");
+    }
+
+    @Test
+    void getCalendarFeed_AfterGroupRename_RendersNewNameForSameETag() {
+        // Given - a rename leaves lastHangoutModified, and so the ETag, unchanged
+        String groupId = "fa567890-1234-5678-9abc-def012345678";
+        String token = "valid-token-rst";
+        GroupMembership membership = createMembership(groupId, TEST_USER_ID, TEST_GROUP_NAME, token);
+        Group before = createGroup(groupId, Instant.ofEpochMilli(1000L));
+        Group renamed = createGroup(groupId, Instant.ofEpochMilli(1000L));
+        renamed.setGroupName("Renamed Group");
+
+        when(groupRepository.findMembershipByToken(token)).thenReturn(Optional.of(membership));
+        when(groupRepository.findById(groupId)).thenReturn(Optional.of(before), Optional.of(renamed));
+        when(hangoutRepository.getFutureEventsPage(eq(groupId), anyLong(), eq(100), isNull()))
+            .thenReturn(new PaginatedResult<>(castToBaseItems(createHangoutPointers(1)), null));
+        when(iCalendarService.generateICS(any(Group.class), anyList())).thenReturn("old name", "new name");
+
+        // When
+        ResponseEntity<String> first = subscriptionService.getCalendarFeed(groupId, token, null);
+        ResponseEntity<String> second = subscriptionService.getCalendarFeed(groupId, token, null);
+
+        // Then
+        assertThat(first.getBody()).isEqualTo("old name");
+        assertThat(second.getBody()).isEqualTo("new name");
+        assertThat(second.getHeaders().getETag()).isEqualTo(first.getHeaders().getETag());
+    }
+
+    @Test
+    void getGzippedCalendarFeed_ReturnsCompressedBodyWithEncodingHeaders() throws IOException {
+        // Given
+        String groupId = "0a567890-1234-5678-9abc-def012345678";
+        String token = "valid-token-stu";
+        GroupMembership membership = createMembership(groupId, TEST_USER_ID, TEST_GROUP_NAME, token);
+        Group group = createGroup(groupId, Instant.ofEpochMilli(1234567890000L));
+        String icsContent = "BEGIN:VCALENDAR\nVERSION:2.0\nEND:VCALENDAR";
+
+        when(groupRepository.findMembershipByToken(token)).thenReturn(Optional.of(membership));
+        when(groupRepository.findById(groupId)).thenReturn(Optional.of(group));
+        when(hangoutRepository.getFutureEventsPage(eq(groupId), anyLong(), eq(100), isNull()))
+            .thenReturn(new PaginatedResult<>(castToBaseItems(createHangoutPointers(1)), null));
+        when(iCalendarService.generateICS(eq(group), anyList())).thenReturn(icsContent);
+
+        // When
+        ResponseEntity<byte[]> response = subscriptionService.getGzippedCalendarFeed(groupId, token, null);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeaders().getVary()).contains("Accept-Encoding");
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"" + groupId + "-1234567890000-gzip\"");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getBody()))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(icsContent);
+        }
+    }
+
+    @Test
+    void getGzippedCalendarFeed_WithMatchingGzipETag_Returns304WithVary() {
+        // Given
+        String groupId = "0b567890-1234-5678-9abc-def012345678";
+        String token = "valid-token-gz1";
+        GroupMembership membership = createMembership(groupId, TEST_USER_ID, TEST_GROUP_NAME, token);
+        Group group = createGroup(groupId, Instant.ofEpochMilli(1234567890000L));
+        String gzipEtag = "\"" + groupId + "-1234567890000-gzip\"";
+
+        when(groupRepository.findMembershipByToken(token)).thenReturn(Optional.of(membership));
+        when(groupRepository.findById(groupId)).thenReturn(Optional.of(group));
+
+        // When
+        ResponseEntity<byte[]> response = subscriptionService.getGzippedCalendarFeed(groupId, token, gzipEtag);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        assertThat(response.getHeaders().getETag()).isEqualTo(gzipEtag);
+        assertThat(response.getHeaders().getVary()).contains("Accept-Encoding");
+        verify(iCalendarService, never()).generateICS(any(), anyList());
+    }
+
+    @Test
+    void getGzippedCalendarFeed_WithIdentityETag_ReturnsCompressedBody() {
+        // Given - the client's cached copy is the identity representation
+        String groupId = "0c567890-1234-5678-9abc-def012345678";
+        String token = "valid-token-gz2";
+        GroupMembership membership = createMembership(groupId, TEST_USER_ID, TEST_GROUP_NAME, token);
+        Group group = createGroup(groupId, Instant.ofEpochMilli(1234567890000L));
+        String identityEtag = "\"" + groupId + "-1234567890000\"";
+
+        when(groupRepository.findMembershipByToken(token)).thenReturn(Optional.of(membership));
+        when(groupRepository.findById(groupId)).thenReturn(Optional.of(group));
+        when(hangoutRepository.getFutureEventsPage(eq(groupId), anyLong(), eq(100), isNull()))
+            .thenReturn(new PaginatedResult<>(castToBaseItems(createHangoutPointers(1)), null));
+        when(iCalendarService.generateICS(eq(group), anyList())).thenReturn("BEGIN:VCALENDAR\nEND:VCALENDAR");
+
+        // When
+        ResponseEntity<byte[]> response = subscriptionService.getGzippedCalendarFeed(groupId, token, identityEtag);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(identityEtag);
+        assertThat(response.getBody()).isNotEmpty();
+    }
+
+    @Test
+    void deleteSubscription_InvalidatesCachedToken() {
+        // Given - token validated once and cached
+        String token = "valid-token-vwx";
+        GroupMembership membership = createMembership(TEST_GROUP_ID, TEST_USER_ID, TEST_GROUP_NAME, token);
+        when(groupRepository.findMembershipByToken(token))
+            .thenReturn(Optional.of(membership))
+            .thenReturn(Optional.empty());
+        when(groupRepository.findById(TEST_GROUP_ID)).thenReturn(Optional.empty());
+        assertThatThrownBy(() -> subscriptionService.getCalendarFeed(TEST_GROUP_ID, token, null))
+            .isInstanceOf(ForbiddenException.class);
+        when(groupRepository.findMembership(TEST_GROUP_ID, TEST_USER_ID)).thenReturn(Optional.of(membership));
+
+        // When
+        subscriptionService.deleteSubscription(TEST_GROUP_ID, TEST_USER_ID);
+
+        // Then - token is looked up again and rejected
+        assertThatThrownBy(() -> subscriptionService.getCalendarFeed(TEST_GROUP_ID, token, null))
+            .isInstanceOf(UnauthorizedException.class);
+        verify(groupRepository, times(2)).findMembershipByToken(token);
+    }
+
     // ===== HELPER METHODS =====
 
     /**
@@ -44,6 +44,9 @@ class CarpoolServiceImplTest {
     @Mock
     private PointerUpdateService pointerUpdateService;
 
+    @Mock
+    private PointerDenormalizer pointerDenormalizer;
+
     @Mock
     private GroupTimestampService groupTimestampService;
 
@@ -61,6 +64,12 @@ class CarpoolServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        // Debounced pointer rebuilds run inline so tests can verify the resulting writes
+        lenient().doAnswer(inv -> {
+            ((Runnable) inv.getArgument(2)).run();
+            return null;
+        }).when(pointerDenormalizer).schedule(anyString(), anyString(), any(Runnable.class));
+
         eventId = UUID.randomUUID().toString();
         userId = UUID.randomUUID().toString();
         driverId = UUID.randomUUID().toString();
@@ -70,6 +79,15 @@ class CarpoolServiceImplTest {
         hangout.setTitle("Test Hangout");
         
         hangoutData = HangoutDetailData.builder().withHangout(hangout).build();
+
+        // Batch summary lookups answer from the per-user stubs, leaving out users not found
+        lenient().when(userService.getUserSummaries(anyCollection())).thenAnswer(invocation -> {
+            Map<UUID, UserSummaryDTO> summaries = new HashMap<>();
+            for (UUID userId : invocation.<Collection<UUID>>getArgument(0)) {
+                userService.getUserSummary(userId).ifPresent(summary -> summaries.put(userId, summary));
+            }
+            return summaries;
+        });
     }
 
     // ============================================================================
@@ -467,27 +485,19 @@ class CarpoolServiceImplTest {
     }
 
     // ============================================================================
-    // RESERVE SEAT AUTO-DELETION TESTS
+    // RESERVE SEAT TRANSACTION TESTS
     // ============================================================================
 
     @Test
-    void reserveSeat_WithExistingNeedsRideRequest_AutoDeletesRequest() {
+    void reserveSeat_WithValidRequest_ReservesInOneTransactionWithoutPartitionRead() {
         // Given
-        Car car = new Car(eventId, driverId, "Test Driver", 4);
-        car.setNotes("Going to event");
-        car.setAvailableSeats(2);
-        HangoutDetailData dataWithCar = HangoutDetailData.builder().withHangout(hangout).withCars(List.of(car)).build();
-        
         User user = new User();
         user.setDisplayName("Test User");
-        CarRider carRider = new CarRider(eventId, driverId, userId, "Test User");
-        
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(dataWithCar);
+
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
         when(hangoutService.canUserViewHangout(userId, hangout)).thenReturn(true);
         when(userService.getUserById(UUID.fromString(userId))).thenReturn(Optional.of(user));
-        when(hangoutRepository.saveCarRider(any(CarRider.class))).thenReturn(carRider);
-        when(hangoutRepository.saveCar(any(Car.class))).thenReturn(car);
-        doNothing().when(hangoutRepository).deleteNeedsRide(eventId, userId);
+        when(hangoutRepository.reserveSeatAtomically(any(CarRider.class))).thenAnswer(inv -> inv.getArgument(0));
 
         // When
         CarRider result = carpoolService.reserveSeat(eventId, driverId, userId, null);
@@ -496,82 +506,64 @@ class CarpoolServiceImplTest {
         assertThat(result).isNotNull();
         assertThat(result.getRiderId()).isEqualTo(userId);
         assertThat(result.getDriverId()).isEqualTo(driverId);
-        
-        verify(hangoutRepository).deleteNeedsRide(eventId, userId);
-        verify(hangoutRepository).saveCarRider(any(CarRider.class));
-        verify(hangoutRepository).saveCar(any(Car.class));
+
+        verify(hangoutRepository).reserveSeatAtomically(any(CarRider.class));
+        verify(hangoutRepository, never()).getHangoutDetailData(anyString());
+        verify(hangoutRepository, never()).saveCarRider(any());
+        verify(hangoutRepository, never()).saveCar(any());
+        verify(hangoutRepository, never()).deleteNeedsRide(any(), any());
     }
 
     @Test
-    void reserveSeat_WithDeleteNeedsRideFailure_StillReservesSeat() {
+    void reserveSeat_WithNonExistentEvent_ThrowsEventNotFoundException() {
         // Given
-        Car car = new Car(eventId, driverId, "Test Driver", 4);
-        car.setNotes("Going to event");
-        car.setAvailableSeats(2);
-        HangoutDetailData dataWithCar = HangoutDetailData.builder().withHangout(hangout).withCars(List.of(car)).build();
-        
-        User user = new User();
-        user.setDisplayName("Test User");
-        CarRider carRider = new CarRider(eventId, driverId, userId, "Test User");
-        
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(dataWithCar);
-        when(hangoutService.canUserViewHangout(userId, hangout)).thenReturn(true);
-        when(userService.getUserById(UUID.fromString(userId))).thenReturn(Optional.of(user));
-        when(hangoutRepository.saveCarRider(any(CarRider.class))).thenReturn(carRider);
-        when(hangoutRepository.saveCar(any(Car.class))).thenReturn(car);
-        doThrow(new RuntimeException("Delete failed")).when(hangoutRepository).deleteNeedsRide(eventId, userId);
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.empty());
 
-        // When
-        CarRider result = carpoolService.reserveSeat(eventId, driverId, userId, null);
+        // When/Then
+        assertThatThrownBy(() -> carpoolService.reserveSeat(eventId, driverId, userId, null))
+                .isInstanceOf(EventNotFoundException.class);
 
-        // Then - Should still succeed despite deletion failure
-        assertThat(result).isNotNull();
-        assertThat(result.getRiderId()).isEqualTo(userId);
-        
-        verify(hangoutRepository).deleteNeedsRide(eventId, userId);
-        verify(hangoutRepository).saveCarRider(any(CarRider.class));
-        verify(hangoutRepository).saveCar(any(Car.class));
+        verify(hangoutRepository, never()).reserveSeatAtomically(any());
     }
 
     @Test
     void reserveSeat_WithNoAvailableSeats_ThrowsNoAvailableSeatsException() {
         // Given
-        Car car = new Car(eventId, driverId, "Test Driver", 4);
-        car.setNotes("Going to event");
-        car.setAvailableSeats(0); // No available seats
-        HangoutDetailData dataWithCar = HangoutDetailData.builder().withHangout(hangout).withCars(List.of(car)).build();
-        
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(dataWithCar);
+        User user = new User();
+        user.setDisplayName("Test User");
+
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
         when(hangoutService.canUserViewHangout(userId, hangout)).thenReturn(true);
+        when(userService.getUserById(UUID.fromString(userId))).thenReturn(Optional.of(user));
+        when(hangoutRepository.reserveSeatAtomically(any(CarRider.class)))
+                .thenThrow(new NoAvailableSeatsException("Not enough available seats: need 1 but only 0 available"));
 
         // When/Then
         assertThatThrownBy(() -> carpoolService.reserveSeat(eventId, driverId, userId, null))
                 .isInstanceOf(NoAvailableSeatsException.class)
                 .hasMessageContaining("Not enough available seats");
-        
-        verify(hangoutRepository, never()).deleteNeedsRide(any(), any());
-        verify(hangoutRepository, never()).saveCarRider(any());
+
+        verify(pointerDenormalizer, never()).schedule(anyString(), anyString(), any());
     }
 
     @Test
     void reserveSeat_WithExistingReservation_ThrowsValidationException() {
         // Given
-        Car car = new Car(eventId, driverId, "Test Driver", 4);
-        car.setNotes("Going to event");
-        car.setAvailableSeats(2);
-        CarRider existingRider = new CarRider(eventId, driverId, userId, "Test User");
-        HangoutDetailData dataWithCarAndRider = HangoutDetailData.builder().withHangout(hangout).withCars(List.of(car)).withCarRiders(List.of(existingRider)).build();
-        
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(dataWithCarAndRider);
+        User user = new User();
+        user.setDisplayName("Test User");
+
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
         when(hangoutService.canUserViewHangout(userId, hangout)).thenReturn(true);
+        when(userService.getUserById(UUID.fromString(userId))).thenReturn(Optional.of(user));
+        when(hangoutRepository.reserveSeatAtomically(any(CarRider.class)))
+                .thenThrow(new ValidationException("User already has a reservation with this driver"));
 
         // When/Then
         assertThatThrownBy(() -> carpoolService.reserveSeat(eventId, driverId, userId, null))
                 .isInstanceOf(ValidationException.class)
                 .hasMessage("User already has a reservation with this driver");
-        
-        verify(hangoutRepository, never()).deleteNeedsRide(any(), any());
-        verify(hangoutRepository, never()).saveCarRider(any());
+
+        verify(pointerDenormalizer, never()).schedule(anyString(), anyString(), any());
     }
 
     // ============================================================================
@@ -581,22 +573,15 @@ class CarpoolServiceImplTest {
     @Test
     void reserveSeat_WithNotes_SetsNotesOnRider() {
         // Given
-        Car car = new Car(eventId, driverId, "Test Driver", 4);
-        car.setAvailableSeats(3);
-        HangoutDetailData dataWithCar = HangoutDetailData.builder().withHangout(hangout).withCars(List.of(car)).build();
-
         User user = new User();
         user.setDisplayName("Test User");
-        CarRider carRider = new CarRider(eventId, driverId, userId, "Test User");
-        carRider.setNotes("Pick me up at corner");
 
         ReserveSeatRequest request = new ReserveSeatRequest("Pick me up at corner", null);
 
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(dataWithCar);
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
         when(hangoutService.canUserViewHangout(userId, hangout)).thenReturn(true);
         when(userService.getUserById(UUID.fromString(userId))).thenReturn(Optional.of(user));
-        when(hangoutRepository.saveCarRider(any(CarRider.class))).thenReturn(carRider);
-        when(hangoutRepository.saveCar(any(Car.class))).thenReturn(car);
+        when(hangoutRepository.reserveSeatAtomically(any(CarRider.class))).thenAnswer(inv -> inv.getArgument(0));
 
         // When
         CarRider result = carpoolService.reserveSeat(eventId, driverId, userId, request);
@@ -605,96 +590,56 @@ class CarpoolServiceImplTest {
         assertThat(result).isNotNull();
         assertThat(result.getNotes()).isEqualTo("Pick me up at corner");
 
-        // Verify the saved rider had notes set
+        // Verify the reserved rider had notes set
         org.mockito.ArgumentCaptor<CarRider> riderCaptor = org.mockito.ArgumentCaptor.forClass(CarRider.class);
-        verify(hangoutRepository).saveCarRider(riderCaptor.capture());
+        verify(hangoutRepository).reserveSeatAtomically(riderCaptor.capture());
         assertThat(riderCaptor.getValue().getNotes()).isEqualTo("Pick me up at corner");
         assertThat(riderCaptor.getValue().getPlusOneCount()).isEqualTo(0);
     }
 
     @Test
-    void reserveSeat_WithPlusOneCount_DecrementsCorrectSeats() {
+    void reserveSeat_WithPlusOneCount_ReservesSeatsForRiderAndPlusOnes() {
         // Given
-        Car car = new Car(eventId, driverId, "Test Driver", 4);
-        car.setAvailableSeats(4);
-        HangoutDetailData dataWithCar = HangoutDetailData.builder().withHangout(hangout).withCars(List.of(car)).build();
-
         User user = new User();
         user.setDisplayName("Test User");
-        CarRider carRider = new CarRider(eventId, driverId, userId, "Test User");
-        carRider.setPlusOneCount(2);
 
         ReserveSeatRequest request = new ReserveSeatRequest(null, 2);
 
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(dataWithCar);
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
         when(hangoutService.canUserViewHangout(userId, hangout)).thenReturn(true);
         when(userService.getUserById(UUID.fromString(userId))).thenReturn(Optional.of(user));
-        when(hangoutRepository.saveCarRider(any(CarRider.class))).thenReturn(carRider);
-        when(hangoutRepository.saveCar(any(Car.class))).thenReturn(car);
+        when(hangoutRepository.reserveSeatAtomically(any(CarRider.class))).thenAnswer(inv -> inv.getArgument(0));
 
         // When
         carpoolService.reserveSeat(eventId, driverId, userId, request);
 
-        // Then - Verify seats decremented by 3 (1 rider + 2 plus ones)
-        org.mockito.ArgumentCaptor<Car> carCaptor = org.mockito.ArgumentCaptor.forClass(Car.class);
-        verify(hangoutRepository).saveCar(carCaptor.capture());
-        assertThat(carCaptor.getValue().getAvailableSeats()).isEqualTo(1); // 4 - 3 = 1
-
+        // Then - the transaction takes 3 seats (1 rider + 2 plus ones)
         org.mockito.ArgumentCaptor<CarRider> riderCaptor = org.mockito.ArgumentCaptor.forClass(CarRider.class);
-        verify(hangoutRepository).saveCarRider(riderCaptor.capture());
+        verify(hangoutRepository).reserveSeatAtomically(riderCaptor.capture());
         assertThat(riderCaptor.getValue().getPlusOneCount()).isEqualTo(2);
+        assertThat(riderCaptor.getValue().getTotalSeatsNeeded()).isEqualTo(3);
     }
 
     @Test
     void reserveSeat_WithNoBody_DefaultsToNoNotesAndZeroPlusOne() {
         // Given
-        Car car = new Car(eventId, driverId, "Test Driver", 4);
-        car.setAvailableSeats(3);
-        HangoutDetailData dataWithCar = HangoutDetailData.builder().withHangout(hangout).withCars(List.of(car)).build();
-
         User user = new User();
         user.setDisplayName("Test User");
-        CarRider carRider = new CarRider(eventId, driverId, userId, "Test User");
 
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(dataWithCar);
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
         when(hangoutService.canUserViewHangout(userId, hangout)).thenReturn(true);
         when(userService.getUserById(UUID.fromString(userId))).thenReturn(Optional.of(user));
-        when(hangoutRepository.saveCarRider(any(CarRider.class))).thenReturn(carRider);
-        when(hangoutRepository.saveCar(any(Car.class))).thenReturn(car);
+        when(hangoutRepository.reserveSeatAtomically(any(CarRider.class))).thenAnswer(inv -> inv.getArgument(0));
 
         // When - pass null request (no body)
         carpoolService.reserveSeat(eventId, driverId, userId, null);
 
-        // Then - Verify rider has no notes and plusOneCount=0
+        // Then - Verify rider has no notes, plusOneCount=0 and takes one seat
         org.mockito.ArgumentCaptor<CarRider> riderCaptor = org.mockito.ArgumentCaptor.forClass(CarRider.class);
-        verify(hangoutRepository).saveCarRider(riderCaptor.capture());
+        verify(hangoutRepository).reserveSeatAtomically(riderCaptor.capture());
         assertThat(riderCaptor.getValue().getNotes()).isNull();
         assertThat(riderCaptor.getValue().getPlusOneCount()).isEqualTo(0);
-
-        // Verify seats decremented by 1
-        org.mockito.ArgumentCaptor<Car> carCaptor = org.mockito.ArgumentCaptor.forClass(Car.class);
-        verify(hangoutRepository).saveCar(carCaptor.capture());
-        assertThat(carCaptor.getValue().getAvailableSeats()).isEqualTo(2); // 3 - 1 = 2
-    }
-
-    @Test
-    void reserveSeat_WithPlusOneCountExceedingAvailableSeats_ThrowsException() {
-        // Given - car has 2 available seats, request needs 4 (1 + 3 plus ones)
-        Car car = new Car(eventId, driverId, "Test Driver", 4);
-        car.setAvailableSeats(2);
-        HangoutDetailData dataWithCar = HangoutDetailData.builder().withHangout(hangout).withCars(List.of(car)).build();
-
-        ReserveSeatRequest request = new ReserveSeatRequest(null, 3);
-
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(dataWithCar);
-        when(hangoutService.canUserViewHangout(userId, hangout)).thenReturn(true);
-
-        // When/Then
-        assertThatThrownBy(() -> carpoolService.reserveSeat(eventId, driverId, userId, request))
-                .isInstanceOf(NoAvailableSeatsException.class)
-                .hasMessageContaining("Not enough available seats");
-
-        verify(hangoutRepository, never()).saveCarRider(any());
+        assertThat(riderCaptor.getValue().getTotalSeatsNeeded()).isEqualTo(1);
     }
 
     // ============================================================================
@@ -702,46 +647,33 @@ class CarpoolServiceImplTest {
     // ============================================================================
 
     @Test
-    void reserveSeat_DriverReservesForRider_CreatesRiderWithRiderIdAndDeletesNeedsRide() {
+    void reserveSeat_DriverReservesForRider_CreatesRiderWithRiderId() {
         // Given - driver reserves a seat for a different rider
         String riderId = UUID.randomUUID().toString();
-        Car car = new Car(eventId, driverId, "Test Driver", 4);
-        car.setAvailableSeats(3);
-        HangoutDetailData dataWithCar = HangoutDetailData.builder().withHangout(hangout).withCars(List.of(car)).build();
 
         User riderUser = new User();
         riderUser.setDisplayName("Rider Name");
 
-        CarRider savedCarRider = new CarRider(eventId, driverId, riderId, "Rider Name");
-
         ReserveSeatRequest request = new ReserveSeatRequest(null, null, riderId);
 
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(dataWithCar);
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
         when(hangoutService.canUserViewHangout(driverId, hangout)).thenReturn(true);
         when(hangoutService.canUserViewHangout(riderId, hangout)).thenReturn(true);
         when(userService.getUserById(UUID.fromString(riderId))).thenReturn(Optional.of(riderUser));
-        when(hangoutRepository.saveCarRider(any(CarRider.class))).thenReturn(savedCarRider);
-        when(hangoutRepository.saveCar(any(Car.class))).thenReturn(car);
+        when(hangoutRepository.reserveSeatAtomically(any(CarRider.class))).thenAnswer(inv -> inv.getArgument(0));
 
         // When
         CarRider result = carpoolService.reserveSeat(eventId, driverId, driverId, request);
 
-        // Then
+        // Then - the reservation (and the NeedsRide delete in the same transaction) is for the rider
         assertThat(result.getRiderId()).isEqualTo(riderId);
         assertThat(result.getRiderName()).isEqualTo("Rider Name");
 
         org.mockito.ArgumentCaptor<CarRider> riderCaptor = org.mockito.ArgumentCaptor.forClass(CarRider.class);
-        verify(hangoutRepository).saveCarRider(riderCaptor.capture());
+        verify(hangoutRepository).reserveSeatAtomically(riderCaptor.capture());
         assertThat(riderCaptor.getValue().getRiderId()).isEqualTo(riderId);
+        assertThat(riderCaptor.getValue().getDriverId()).isEqualTo(driverId);
         assertThat(riderCaptor.getValue().getRiderName()).isEqualTo("Rider Name");
-
-        // Verify NeedsRide deleted for the rider, not the driver
-        verify(hangoutRepository).deleteNeedsRide(eventId, riderId);
-
-        // Verify seats decremented
-        org.mockito.ArgumentCaptor<Car> carCaptor = org.mockito.ArgumentCaptor.forClass(Car.class);
-        verify(hangoutRepository).saveCar(carCaptor.capture());
-        assertThat(carCaptor.getValue().getAvailableSeats()).isEqualTo(2); // 3 - 1
     }
 
     @Test
@@ -758,21 +690,18 @@ class CarpoolServiceImplTest {
                 .hasMessage("Only the driver can reserve a seat on behalf of another rider");
 
         // Verify no repository calls were made
-        verify(hangoutRepository, never()).getHangoutDetailData(any());
-        verify(hangoutRepository, never()).saveCarRider(any());
+        verify(hangoutRepository, never()).findHangoutById(any());
+        verify(hangoutRepository, never()).reserveSeatAtomically(any());
     }
 
     @Test
     void reserveSeat_DriverReservesForRiderNotInEvent_ThrowsUnauthorizedException() {
         // Given - driver tries to reserve for a rider who can't view the hangout
         String riderId = UUID.randomUUID().toString();
-        Car car = new Car(eventId, driverId, "Test Driver", 4);
-        car.setAvailableSeats(3);
-        HangoutDetailData dataWithCar = HangoutDetailData.builder().withHangout(hangout).withCars(List.of(car)).build();
 
         ReserveSeatRequest request = new ReserveSeatRequest(null, null, riderId);
 
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(dataWithCar);
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
         when(hangoutService.canUserViewHangout(driverId, hangout)).thenReturn(true);
         when(hangoutService.canUserViewHangout(riderId, hangout)).thenReturn(false);
 
@@ -781,28 +710,21 @@ class CarpoolServiceImplTest {
                 .isInstanceOf(UnauthorizedException.class)
                 .hasMessage("Rider does not have access to this event");
 
-        verify(hangoutRepository, never()).saveCarRider(any());
+        verify(hangoutRepository, never()).reserveSeatAtomically(any());
     }
 
     @Test
     void reserveSeat_NullRiderId_ReservesForAuthenticatedUser() {
         // Given - riderId is null, should behave like before (reserve for caller)
-        Car car = new Car(eventId, driverId, "Test Driver", 4);
-        car.setAvailableSeats(3);
-        HangoutDetailData dataWithCar = HangoutDetailData.builder().withHangout(hangout).withCars(List.of(car)).build();
-
         User user = new User();
         user.setDisplayName("Caller Name");
 
-        CarRider savedCarRider = new CarRider(eventId, driverId, userId, "Caller Name");
-
         ReserveSeatRequest request = new ReserveSeatRequest("my notes", null, null);
 
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(dataWithCar);
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
         when(hangoutService.canUserViewHangout(userId, hangout)).thenReturn(true);
         when(userService.getUserById(UUID.fromString(userId))).thenReturn(Optional.of(user));
-        when(hangoutRepository.saveCarRider(any(CarRider.class))).thenReturn(savedCarRider);
-        when(hangoutRepository.saveCar(any(Car.class))).thenReturn(car);
+        when(hangoutRepository.reserveSeatAtomically(any(CarRider.class))).thenAnswer(inv -> inv.getArgument(0));
 
         // When
         CarRider result = carpoolService.reserveSeat(eventId, driverId, userId, request);
@@ -811,108 +733,55 @@ class CarpoolServiceImplTest {
         assertThat(result.getRiderId()).isEqualTo(userId);
 
         org.mockito.ArgumentCaptor<CarRider> riderCaptor = org.mockito.ArgumentCaptor.forClass(CarRider.class);
-        verify(hangoutRepository).saveCarRider(riderCaptor.capture());
+        verify(hangoutRepository).reserveSeatAtomically(riderCaptor.capture());
         assertThat(riderCaptor.getValue().getRiderId()).isEqualTo(userId);
 
         // canUserViewHangout only called once (for caller, not for a separate rider)
         verify(hangoutService, times(1)).canUserViewHangout(anyString(), any());
     }
 
-    @Test
-    void reserveSeat_DriverReservesForRiderWithExistingReservation_ThrowsValidationException() {
-        // Given - driver calls reserveSeat with riderId set to a rider who already has a CarRider record
-        String riderId = UUID.randomUUID().toString();
-        Car car = new Car(eventId, driverId, "Test Driver", 4);
-        car.setAvailableSeats(3);
-        CarRider existingRider = new CarRider(eventId, driverId, riderId, "Existing Rider");
-        HangoutDetailData dataWithCarAndRider = HangoutDetailData.builder()
-            .withHangout(hangout)
-            .withCars(List.of(car))
-            .withCarRiders(List.of(existingRider))
-            .build();
-
-        ReserveSeatRequest request = new ReserveSeatRequest(null, null, riderId);
-
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(dataWithCarAndRider);
-        when(hangoutService.canUserViewHangout(driverId, hangout)).thenReturn(true);
-        when(hangoutService.canUserViewHangout(riderId, hangout)).thenReturn(true);
-
-        // When/Then
-        assertThatThrownBy(() -> carpoolService.reserveSeat(eventId, driverId, driverId, request))
-                .isInstanceOf(ValidationException.class)
-                .hasMessage("User already has a reservation with this driver");
-
-        // Verify no CarRider was saved
-        verify(hangoutRepository, never()).saveCarRider(any());
-    }
-
     @Test
     void reserveSeat_DriverReservesForRiderWithNotesAndPlusOne_SetsFieldsCorrectly() {
         // Given - driver calls reserveSeat with riderId, notes, and plusOneCount
         String riderId = UUID.randomUUID().toString();
-        Car car = new Car(eventId, driverId, "Test Driver", 5);
-        car.setAvailableSeats(4);
-        HangoutDetailData dataWithCar = HangoutDetailData.builder()
-            .withHangout(hangout)
-            .withCars(List.of(car))
-            .build();
 
         User riderUser = new User();
         riderUser.setDisplayName("Rider Name");
 
-        CarRider savedCarRider = new CarRider(eventId, driverId, riderId, "Rider Name");
-        savedCarRider.setNotes("Pick up at mall");
-        savedCarRider.setPlusOneCount(2);
-
         ReserveSeatRequest request = new ReserveSeatRequest("Pick up at mall", 2, riderId);
 
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(dataWithCar);
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
         when(hangoutService.canUserViewHangout(driverId, hangout)).thenReturn(true);
         when(hangoutService.canUserViewHangout(riderId, hangout)).thenReturn(true);
         when(userService.getUserById(UUID.fromString(riderId))).thenReturn(Optional.of(riderUser));
-        when(hangoutRepository.saveCarRider(any(CarRider.class))).thenReturn(savedCarRider);
-        when(hangoutRepository.saveCar(any(Car.class))).thenReturn(car);
+        when(hangoutRepository.reserveSeatAtomically(any(CarRider.class))).thenAnswer(inv -> inv.getArgument(0));
 
         // When
-        CarRider result = carpoolService.reserveSeat(eventId, driverId, driverId, request);
+        carpoolService.reserveSeat(eventId, driverId, driverId, request);
 
-        // Then - verify the saved CarRider has riderId (not driverId), notes, and plusOneCount
+        // Then - verify the reserved CarRider has riderId (not driverId), notes, and plusOneCount
         org.mockito.ArgumentCaptor<CarRider> riderCaptor = org.mockito.ArgumentCaptor.forClass(CarRider.class);
-        verify(hangoutRepository).saveCarRider(riderCaptor.capture());
+        verify(hangoutRepository).reserveSeatAtomically(riderCaptor.capture());
         CarRider capturedRider = riderCaptor.getValue();
         assertThat(capturedRider.getRiderId()).isEqualTo(riderId);
         assertThat(capturedRider.getNotes()).isEqualTo("Pick up at mall");
         assertThat(capturedRider.getPlusOneCount()).isEqualTo(2);
-
-        // Verify the saved Car has availableSeats = 1 (4 - 3 seats needed: 1 rider + 2 plus ones)
-        org.mockito.ArgumentCaptor<Car> carCaptor = org.mockito.ArgumentCaptor.forClass(Car.class);
-        verify(hangoutRepository).saveCar(carCaptor.capture());
-        assertThat(carCaptor.getValue().getAvailableSeats()).isEqualTo(1);
+        assertThat(capturedRider.getTotalSeatsNeeded()).isEqualTo(3);
     }
 
     @Test
     void reserveSeat_DriverReservesForSelf_NoExtraAuthCheck() {
         // Given - driver calls reserveSeat with riderId set to their own ID (same as userId)
-        Car car = new Car(eventId, driverId, "Test Driver", 4);
-        car.setAvailableSeats(3);
-        HangoutDetailData dataWithCar = HangoutDetailData.builder()
-            .withHangout(hangout)
-            .withCars(List.of(car))
-            .build();
-
         User driverUser = new User();
         driverUser.setDisplayName("Driver Name");
 
-        CarRider savedCarRider = new CarRider(eventId, driverId, driverId, "Driver Name");
-
         // riderId equals userId (driverId) -- should skip the extra canUserViewHangout call
         ReserveSeatRequest request = new ReserveSeatRequest(null, null, driverId);
 
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(dataWithCar);
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
         when(hangoutService.canUserViewHangout(driverId, hangout)).thenReturn(true);
         when(userService.getUserById(UUID.fromString(driverId))).thenReturn(Optional.of(driverUser));
-        when(hangoutRepository.saveCarRider(any(CarRider.class))).thenReturn(savedCarRider);
-        when(hangoutRepository.saveCar(any(Car.class))).thenReturn(car);
+        when(hangoutRepository.reserveSeatAtomically(any(CarRider.class))).thenAnswer(inv -> inv.getArgument(0));
 
         // When
         CarRider result = carpoolService.reserveSeat(eventId, driverId, driverId, request);
@@ -966,8 +835,9 @@ class CarpoolServiceImplTest {
         // Then
         assertThat(result).isNotNull();
         verify(hangoutRepository).saveCar(any(Car.class));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId1), eq(eventId), any(), eq("carpool data"));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId2), eq(eventId), any(), eq("carpool data"));
+        verify(pointerUpdateService).patchPointers(
+            argThat(groups -> groups.size() == 2 && groups.containsAll(List.of(groupId1, groupId2))),
+            eq(eventId), any(), eq("carpool data"));
     }
 
     @Test
@@ -994,7 +864,7 @@ class CarpoolServiceImplTest {
         // Then
         assertThat(result).isNotNull();
         verify(hangoutRepository).saveCar(any(Car.class));
-        verify(pointerUpdateService, never()).updatePointerWithRetry(anyString(), anyString(), any(), anyString());
+        verify(pointerUpdateService, never()).patchPointers(any(), any(), any(), any());
     }
 
     @Test
@@ -1003,8 +873,7 @@ class CarpoolServiceImplTest {
         String groupId = UUID.randomUUID().toString();
 
         Car car = new Car(eventId, driverId, "Test Driver", 4);
-        car.setAvailableSeats(2);
-        HangoutDetailData dataWithCar = HangoutDetailData.builder().withHangout(hangout).withCars(List.of(car)).build();
+        car.setAvailableSeats(1);
 
         User user = new User();
         user.setDisplayName("Test User");
@@ -1014,67 +883,43 @@ class CarpoolServiceImplTest {
         hangout.setAssociatedGroups(Arrays.asList(groupId));
         HangoutDetailData updatedData = HangoutDetailData.builder().withHangout(hangout).withCars(List.of(car)).withCarRiders(List.of(newRider)).build();
 
-        HangoutPointer pointer = HangoutPointerTestBuilder.aPointer()
-            .forGroup(groupId)
-            .forHangout(eventId)
-            .build();
-
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(dataWithCar).thenReturn(updatedData);
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
         when(hangoutService.canUserViewHangout(userId, hangout)).thenReturn(true);
         when(userService.getUserById(UUID.fromString(userId))).thenReturn(Optional.of(user));
-        when(hangoutRepository.saveCarRider(any(CarRider.class))).thenReturn(newRider);
-        when(hangoutRepository.saveCar(any(Car.class))).thenReturn(car);
-        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
+        when(hangoutRepository.reserveSeatAtomically(any(CarRider.class))).thenReturn(newRider);
+        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(updatedData);
 
         // When
         CarRider result = carpoolService.reserveSeat(eventId, driverId, userId, null);
 
-        // Then
+        // Then - the partition is read once, by the pointer rebuild, after the transaction
         assertThat(result).isNotNull();
-        verify(hangoutRepository).saveCarRider(any(CarRider.class));
-        verify(hangoutRepository).saveCar(any(Car.class));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId), eq(eventId), any(), eq("carpool data"));
+        verify(hangoutRepository).reserveSeatAtomically(any(CarRider.class));
+        verify(hangoutRepository, times(1)).getHangoutDetailData(eventId);
+        verify(pointerUpdateService).patchPointers(eq(List.of(groupId)), eq(eventId), any(), eq("carpool data"));
     }
 
     @Test
-    void reserveSeat_WhenAutoDeleteNeedsRideSucceeds_ShouldUpdatePointers() {
+    void reserveSeat_WhenTransactionFails_ShouldNotUpdatePointers() {
         // Given
         String groupId = UUID.randomUUID().toString();
-
-        Car car = new Car(eventId, driverId, "Test Driver", 4);
-        car.setAvailableSeats(2);
-        NeedsRide needsRide = new NeedsRide(eventId, userId, "Need a ride");
-        HangoutDetailData dataWithCarAndNeedsRide = HangoutDetailData.builder().withHangout(hangout).withCars(List.of(car)).withNeedsRide(List.of(needsRide)).build();
+        hangout.setAssociatedGroups(Arrays.asList(groupId));
 
         User user = new User();
         user.setDisplayName("Test User");
 
-        CarRider newRider = new CarRider(eventId, driverId, userId, "Test User");
-
-        hangout.setAssociatedGroups(Arrays.asList(groupId));
-        // After reservation, needsRide is removed
-        HangoutDetailData updatedData = HangoutDetailData.builder().withHangout(hangout).withCars(List.of(car)).withCarRiders(List.of(newRider)).build();
-
-        HangoutPointer pointer = HangoutPointerTestBuilder.aPointer()
-            .forGroup(groupId)
-            .forHangout(eventId)
-            .build();
-
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(dataWithCarAndNeedsRide).thenReturn(updatedData);
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
         when(hangoutService.canUserViewHangout(userId, hangout)).thenReturn(true);
         when(userService.getUserById(UUID.fromString(userId))).thenReturn(Optional.of(user));
-        when(hangoutRepository.saveCarRider(any(CarRider.class))).thenReturn(newRider);
-        when(hangoutRepository.saveCar(any(Car.class))).thenReturn(car);
-        doNothing().when(hangoutRepository).deleteNeedsRide(eventId, userId);
-        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
+        when(hangoutRepository.reserveSeatAtomically(any(CarRider.class)))
+            .thenThrow(new CarNotFoundException("Car offer not found for driver: " + driverId));
 
-        // When
-        CarRider result = carpoolService.reserveSeat(eventId, driverId, userId, null);
+        // When/Then
+        assertThatThrownBy(() -> carpoolService.reserveSeat(eventId, driverId, userId, null))
+            .isInstanceOf(CarNotFoundException.class);
 
-        // Then
-        assertThat(result).isNotNull();
-        verify(hangoutRepository).deleteNeedsRide(eventId, userId);
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId), eq(eventId), any(), eq("carpool data"));
+        verify(pointerUpdateService, never()).patchPointers(any(), any(), any(), any());
+        verify(groupTimestampService, never()).updateGroupTimestamps(any());
     }
 
     @Test
@@ -1085,41 +930,42 @@ class CarpoolServiceImplTest {
         String groupId3 = UUID.randomUUID().toString();
 
         Car car = new Car(eventId, driverId, "Test Driver", 4);
-        car.setAvailableSeats(2);
         CarRider existingRider = new CarRider(eventId, driverId, userId, "Test User");
-        HangoutDetailData dataWithCarAndRider = HangoutDetailData.builder().withHangout(hangout).withCars(List.of(car)).withCarRiders(List.of(existingRider)).build();
 
         hangout.setAssociatedGroups(Arrays.asList(groupId1, groupId2, groupId3));
         // After release, rider is removed
         HangoutDetailData updatedData = HangoutDetailData.builder().withHangout(hangout).withCars(List.of(car)).build();
 
-        HangoutPointer pointer1 = HangoutPointerTestBuilder.aPointer()
-            .forGroup(groupId1)
-            .forHangout(eventId)
-            .build();
-        HangoutPointer pointer2 = HangoutPointerTestBuilder.aPointer()
-            .forGroup(groupId2)
-            .forHangout(eventId)
-            .build();
-        HangoutPointer pointer3 = HangoutPointerTestBuilder.aPointer()
-            .forGroup(groupId3)
-            .forHangout(eventId)
-            .build();
-
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(dataWithCarAndRider).thenReturn(updatedData);
-        when(hangoutService.canUserViewHangout(userId, hangout)).thenReturn(true);
-        when(hangoutRepository.saveCar(any(Car.class))).thenReturn(car);
         when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
+        when(hangoutService.canUserViewHangout(userId, hangout)).thenReturn(true);
+        when(hangoutRepository.findCarRider(eventId, driverId, userId)).thenReturn(Optional.of(existingRider));
+        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(updatedData);
 
         // When
         carpoolService.releaseSeat(eventId, driverId, userId);
 
         // Then
-        verify(hangoutRepository).deleteCarRider(eventId, driverId, userId);
-        verify(hangoutRepository).saveCar(any(Car.class));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId1), eq(eventId), any(), eq("carpool data"));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId2), eq(eventId), any(), eq("carpool data"));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId3), eq(eventId), any(), eq("carpool data"));
+        verify(hangoutRepository).releaseSeatAtomically(existingRider);
+        verify(hangoutRepository, never()).deleteCarRider(anyString(), anyString(), anyString());
+        verify(hangoutRepository, never()).saveCar(any());
+        verify(pointerUpdateService).patchPointers(
+            argThat(groups -> groups.size() == 3 && groups.containsAll(List.of(groupId1, groupId2, groupId3))),
+            eq(eventId), any(), eq("carpool data"));
+    }
+
+    @Test
+    void releaseSeat_WithoutReservation_ThrowsValidationException() {
+        // Given
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
+        when(hangoutService.canUserViewHangout(userId, hangout)).thenReturn(true);
+        when(hangoutRepository.findCarRider(eventId, driverId, userId)).thenReturn(Optional.empty());
+
+        // When/Then
+        assertThatThrownBy(() -> carpoolService.releaseSeat(eventId, driverId, userId))
+            .isInstanceOf(ValidationException.class)
+            .hasMessage("User does not have a reservation with this driver");
+
+        verify(hangoutRepository, never()).releaseSeatAtomically(any());
     }
 
     @Test
@@ -1159,7 +1005,7 @@ class CarpoolServiceImplTest {
         Car savedCar = carCaptor.getValue();
         assertThat(savedCar.getTotalCapacity()).isEqualTo(6);
         assertThat(savedCar.getAvailableSeats()).isEqualTo(5); // 6 - 1 driver - 0 riders
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId), eq(eventId), any(), eq("carpool data"));
+        verify(pointerUpdateService).patchPointers(eq(List.of(groupId)), eq(eventId), any(), eq("carpool data"));
     }
 
     @Test
@@ -1270,8 +1116,9 @@ class CarpoolServiceImplTest {
         // Then
         assertThat(result).isNotNull();
         verify(hangoutRepository).saveCar(any(Car.class));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId1), eq(eventId), any(), eq("carpool data"));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId2), eq(eventId), any(), eq("carpool data"));
+        verify(pointerUpdateService).patchPointers(
+            argThat(groups -> groups.size() == 2 && groups.containsAll(List.of(groupId1, groupId2))),
+            eq(eventId), any(), eq("carpool data"));
     }
 
     @Test
@@ -1279,46 +1126,26 @@ class CarpoolServiceImplTest {
         // Given
         String groupId1 = UUID.randomUUID().toString();
         String groupId2 = UUID.randomUUID().toString();
-        String rider1Id = UUID.randomUUID().toString();
-        String rider2Id = UUID.randomUUID().toString();
-        String rider3Id = UUID.randomUUID().toString();
-
-        Car car = new Car(eventId, userId, "Test Driver", 4);
-        car.setAvailableSeats(1);
-        CarRider rider1 = new CarRider(eventId, userId, rider1Id, "Rider 1");
-        CarRider rider2 = new CarRider(eventId, userId, rider2Id, "Rider 2");
-        CarRider rider3 = new CarRider(eventId, userId, rider3Id, "Rider 3");
-        HangoutDetailData dataWithCarAndRiders = HangoutDetailData.builder()
-            .withHangout(hangout)
-            .withCars(List.of(car))
-            .withCarRiders(List.of(rider1, rider2, rider3))
-            .build();
 
         hangout.setAssociatedGroups(Arrays.asList(groupId1, groupId2));
         // After cancellation, car and riders are removed
         HangoutDetailData updatedData = HangoutDetailData.builder().withHangout(hangout).build();
 
-        HangoutPointer pointer1 = HangoutPointerTestBuilder.aPointer()
-            .forGroup(groupId1)
-            .forHangout(eventId)
-            .build();
-        HangoutPointer pointer2 = HangoutPointerTestBuilder.aPointer()
-            .forGroup(groupId2)
-            .forHangout(eventId)
-            .build();
-
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(dataWithCarAndRiders).thenReturn(updatedData);
-        when(hangoutService.canUserViewHangout(userId, hangout)).thenReturn(true);
         when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
+        when(hangoutService.canUserViewHangout(userId, hangout)).thenReturn(true);
+        when(hangoutRepository.cancelCarOfferAtomically(eventId, userId)).thenReturn(3);
+        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(updatedData);
 
         // When
         carpoolService.cancelCarOffer(eventId, userId, userId);
 
-        // Then
-        verify(hangoutRepository, times(3)).deleteCarRider(eq(eventId), eq(userId), anyString());
-        verify(hangoutRepository).deleteCar(eventId, userId);
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId1), eq(eventId), any(), eq("carpool data"));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId2), eq(eventId), any(), eq("carpool data"));
+        // Then - car and riders go in one transaction
+        verify(hangoutRepository).cancelCarOfferAtomically(eventId, userId);
+        verify(hangoutRepository, never()).deleteCarRider(anyString(), anyString(), anyString());
+        verify(hangoutRepository, never()).deleteCar(anyString(), anyString());
+        verify(pointerUpdateService).patchPointers(
+            argThat(groups -> groups.size() == 2 && groups.containsAll(List.of(groupId1, groupId2))),
+            eq(eventId), any(), eq("carpool data"));
     }
 
     @Test
@@ -1326,30 +1153,21 @@ class CarpoolServiceImplTest {
         // Given
         String groupId = UUID.randomUUID().toString();
 
-        Car car = new Car(eventId, userId, "Test Driver", 4);
-        car.setAvailableSeats(4);
-        HangoutDetailData dataWithCar = HangoutDetailData.builder().withHangout(hangout).withCars(List.of(car)).build();
-
         hangout.setAssociatedGroups(Arrays.asList(groupId));
         // After cancellation, car is removed
         HangoutDetailData updatedData = HangoutDetailData.builder().withHangout(hangout).build();
 
-        HangoutPointer pointer = HangoutPointerTestBuilder.aPointer()
-            .forGroup(groupId)
-            .forHangout(eventId)
-            .build();
-
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(dataWithCar).thenReturn(updatedData);
-        when(hangoutService.canUserViewHangout(userId, hangout)).thenReturn(true);
         when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
+        when(hangoutService.canUserViewHangout(userId, hangout)).thenReturn(true);
+        when(hangoutRepository.cancelCarOfferAtomically(eventId, userId)).thenReturn(0);
+        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(updatedData);
 
         // When
         carpoolService.cancelCarOffer(eventId, userId, userId);
 
         // Then
-        verify(hangoutRepository, never()).deleteCarRider(anyString(), anyString(), anyString());
-        verify(hangoutRepository).deleteCar(eventId, userId);
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId), eq(eventId), any(), eq("carpool data"));
+        verify(hangoutRepository).cancelCarOfferAtomically(eventId, userId);
+        verify(pointerUpdateService).patchPointers(eq(List.of(groupId)), eq(eventId), any(), eq("carpool data"));
     }
 
     @Test
@@ -1389,9 +1207,9 @@ class CarpoolServiceImplTest {
         // Then
         assertThat(result).isNotNull();
         verify(hangoutRepository).saveNeedsRide(any(NeedsRide.class));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId1), eq(eventId), any(), eq("carpool data"));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId2), eq(eventId), any(), eq("carpool data"));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId3), eq(eventId), any(), eq("carpool data"));
+        verify(pointerUpdateService).patchPointers(
+            argThat(groups -> groups.size() == 3 && groups.containsAll(List.of(groupId1, groupId2, groupId3))),
+            eq(eventId), any(), eq("carpool data"));
     }
 
     @Test
@@ -1426,8 +1244,9 @@ class CarpoolServiceImplTest {
         // Then
         assertThat(result).isNotNull();
         verify(hangoutRepository).saveNeedsRide(any(NeedsRide.class));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId1), eq(eventId), any(), eq("carpool data"));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId2), eq(eventId), any(), eq("carpool data"));
+        verify(pointerUpdateService).patchPointers(
+            argThat(groups -> groups.size() == 2 && groups.containsAll(List.of(groupId1, groupId2))),
+            eq(eventId), any(), eq("carpool data"));
     }
 
     @Test
@@ -1462,8 +1281,9 @@ class CarpoolServiceImplTest {
 
         // Then
         verify(hangoutRepository).deleteNeedsRide(eventId, userId);
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId1), eq(eventId), any(), eq("carpool data"));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId2), eq(eventId), any(), eq("carpool data"));
+        verify(pointerUpdateService).patchPointers(
+            argThat(groups -> groups.size() == 2 && groups.containsAll(List.of(groupId1, groupId2))),
+            eq(eventId), any(), eq("carpool data"));
     }
 
     @Test
@@ -1489,7 +1309,7 @@ class CarpoolServiceImplTest {
 
         // Then
         verify(hangoutRepository).deleteNeedsRide(eventId, userId);
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId), eq(eventId), any(), eq("carpool data"));
+        verify(pointerUpdateService).patchPointers(eq(List.of(groupId)), eq(eventId), any(), eq("carpool data"));
     }
 
     // ============================================================================
@@ -1542,9 +1362,9 @@ class CarpoolServiceImplTest {
             carpoolService.offerCar(eventId, request, userId);
 
             // Then - verify that PointerUpdateService is called for all groups
-            verify(pointerUpdateService).updatePointerWithRetry(eq(groupId1), eq(eventId), any(), eq("carpool data"));
-            verify(pointerUpdateService).updatePointerWithRetry(eq(groupId2), eq(eventId), any(), eq("carpool data"));
-            verify(pointerUpdateService).updatePointerWithRetry(eq(groupId3), eq(eventId), any(), eq("carpool data"));
+            verify(pointerUpdateService).patchPointers(
+                argThat(groups -> groups.size() == 3 && groups.containsAll(List.of(groupId1, groupId2, groupId3))),
+                eq(eventId), any(), eq("carpool data"));
 
             // Note: Retry behavior is now tested in PointerUpdateServiceTest, not here.
         }
@@ -1582,7 +1402,7 @@ class CarpoolServiceImplTest {
             carpoolService.offerCar(eventId, request, userId);
 
             // Then - verify that PointerUpdateService is called
-            verify(pointerUpdateService).updatePointerWithRetry(eq(groupId), eq(eventId), any(), eq("carpool data"));
+            verify(pointerUpdateService).patchPointers(eq(List.of(groupId)), eq(eventId), any(), eq("carpool data"));
 
             // Note: Exponential backoff retry behavior is now tested in PointerUpdateServiceTest.
         }
@@ -1620,7 +1440,7 @@ class CarpoolServiceImplTest {
             carpoolService.offerCar(eventId, request, userId);
 
             // Then - verify that PointerUpdateService is called
-            verify(pointerUpdateService).updatePointerWithRetry(eq(groupId), eq(eventId), any(), eq("carpool data"));
+            verify(pointerUpdateService).patchPointers(eq(List.of(groupId)), eq(eventId), any(), eq("carpool data"));
 
             // Note: Exception handling behavior is now tested in PointerUpdateServiceTest.
         }
@@ -1715,25 +1535,22 @@ class CarpoolServiceImplTest {
             String riderId = UUID.randomUUID().toString();
             String groupId = UUID.randomUUID().toString();
 
-            Car car = new Car(eventId, driverId, "Test Driver", 4);
-            car.setAvailableSeats(3);
             hangout.setAssociatedGroups(List.of(groupId));
-            HangoutDetailData dataWithCar = HangoutDetailData.builder()
-                .withHangout(hangout).withCars(List.of(car)).build();
+            HangoutDetailData updatedData = HangoutDetailData.builder().withHangout(hangout).build();
 
             User riderUser = new User();
             riderUser.setDisplayName("Rider Name");
 
-            CarRider savedCarRider = new CarRider(eventId, driverId, riderId, "Rider Name");
             ReserveSeatRequest request = new ReserveSeatRequest(null, null, riderId);
 
-            when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(dataWithCar);
+            when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
             when(hangoutService.canUserViewHangout(driverId, hangout)).thenReturn(true);
             when(hangoutService.canUserViewHangout(riderId, hangout)).thenReturn(true);
             when(userService.getUserById(UUID.fromString(riderId))).thenReturn(Optional.of(riderUser));
-            when(hangoutRepository.saveCarRider(any(CarRider.class))).thenReturn(savedCarRider);
-            when(hangoutRepository.saveCar(any(Car.class))).thenReturn(car);
-            when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
+            when(userService.getUserSummary(UUID.fromString(driverId)))
+                .thenReturn(Optional.of(new UserSummaryDTO(UUID.fromString(driverId), "Test Driver", null)));
+            when(hangoutRepository.reserveSeatAtomically(any(CarRider.class))).thenAnswer(inv -> inv.getArgument(0));
+            when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(updatedData);
 
             // When
             carpoolService.reserveSeat(eventId, driverId, driverId, request);
@@ -1751,22 +1568,13 @@ class CarpoolServiceImplTest {
         @Test
         void reserveSeat_SelfReserve_DoesNotCallNotifyCarpoolRiderAdded() {
             // Given
-            Car car = new Car(eventId, driverId, "Test Driver", 4);
-            car.setAvailableSeats(3);
-            HangoutDetailData dataWithCar = HangoutDetailData.builder()
-                .withHangout(hangout).withCars(List.of(car)).build();
-
             User user = new User();
             user.setDisplayName("Test User");
 
-            CarRider savedCarRider = new CarRider(eventId, driverId, userId, "Test User");
-
-            when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(dataWithCar);
+            when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
             when(hangoutService.canUserViewHangout(userId, hangout)).thenReturn(true);
             when(userService.getUserById(UUID.fromString(userId))).thenReturn(Optional.of(user));
-            when(hangoutRepository.saveCarRider(any(CarRider.class))).thenReturn(savedCarRider);
-            when(hangoutRepository.saveCar(any(Car.class))).thenReturn(car);
-            when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
+            when(hangoutRepository.reserveSeatAtomically(any(CarRider.class))).thenAnswer(inv -> inv.getArgument(0));
 
             // When
             carpoolService.reserveSeat(eventId, driverId, userId, null);
@@ -1782,25 +1590,22 @@ class CarpoolServiceImplTest {
             String riderId = UUID.randomUUID().toString();
             String groupId = UUID.randomUUID().toString();
 
-            Car car = new Car(eventId, driverId, "Test Driver", 4);
-            car.setAvailableSeats(3);
             hangout.setAssociatedGroups(List.of(groupId));
-            HangoutDetailData dataWithCar = HangoutDetailData.builder()
-                .withHangout(hangout).withCars(List.of(car)).build();
+            HangoutDetailData updatedData = HangoutDetailData.builder().withHangout(hangout).build();
 
             User riderUser = new User();
             riderUser.setDisplayName("Rider Name");
 
-            CarRider savedCarRider = new CarRider(eventId, driverId, riderId, "Rider Name");
             ReserveSeatRequest request = new ReserveSeatRequest(null, null, riderId);
 
-            when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(dataWithCar);
+            when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
             when(hangoutService.canUserViewHangout(driverId, hangout)).thenReturn(true);
             when(hangoutService.canUserViewHangout(riderId, hangout)).thenReturn(true);
             when(userService.getUserById(UUID.fromString(riderId))).thenReturn(Optional.of(riderUser));
-            when(hangoutRepository.saveCarRider(any(CarRider.class))).thenReturn(savedCarRider);
-            when(hangoutRepository.saveCar(any(Car.class))).thenReturn(car);
-            when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
+            when(userService.getUserSummary(UUID.fromString(driverId)))
+                .thenReturn(Optional.of(new UserSummaryDTO(UUID.fromString(driverId), "Test Driver", null)));
+            when(hangoutRepository.reserveSeatAtomically(any(CarRider.class))).thenAnswer(inv -> inv.getArgument(0));
+            when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(updatedData);
 
             doThrow(new RuntimeException("Notification failed"))
                 .when(notificationService).notifyCarpoolRiderAdded(
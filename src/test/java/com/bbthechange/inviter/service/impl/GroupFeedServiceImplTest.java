@@ -7,15 +7,22 @@ import com.bbthechange.inviter.repository.HangoutRepository;
 import com.bbthechange.inviter.service.GroupService;
 import com.bbthechange.inviter.util.GroupFeedPaginationToken;
 import com.bbthechange.inviter.util.PaginatedResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -40,8 +47,21 @@ class GroupFeedServiceImplTest {
     @Mock
     private GroupService groupService;
     
-    @InjectMocks
+    private ExecutorService fanOutExecutor;
+    private MeterRegistry meterRegistry;
     private GroupFeedServiceImpl groupFeedService;
+
+    @BeforeEach
+    void setUp() {
+        fanOutExecutor = Executors.newFixedThreadPool(4);
+        meterRegistry = new SimpleMeterRegistry();
+        groupFeedService = new GroupFeedServiceImpl(hangoutRepository, groupService, fanOutExecutor, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fanOutExecutor.shutdownNow();
+    }
     
     @Test
     void getFeedItems_WithValidGroup_ReturnsPollsAndAttributes() {
@@ -461,4 +481,69 @@ class GroupFeedServiceImplTest {
 
         return attributes;
     }
-}
\ No newline at end of file
+
+    @Test
+    void getFeedItems_SlowEarlierEvent_PreservesEventOrder() {
+        // Given - first event's poll query completes only after the second event's queries have run
+        when(groupService.isUserInGroup(USER_ID, GROUP_ID)).thenReturn(true);
+        PaginatedResult<HangoutPointer> firstPage = new PaginatedResult<>(createMockHangoutPointers(), null);
+        when(hangoutRepository.findUpcomingHangoutsPage("GROUP#" + GROUP_ID, "T#", 10, null))
+            .thenReturn(firstPage);
+
+        CountDownLatch secondEventLoaded = new CountDownLatch(1);
+        when(hangoutRepository.getAllPollData(EVENT_ID_1)).thenAnswer(invocation -> {
+            secondEventLoaded.await(5, TimeUnit.SECONDS);
+            return createMockPollData(EVENT_ID_1, POLL_ID_1);
+        });
+        when(hangoutRepository.findAttributesByHangoutId(EVENT_ID_1)).thenReturn(new ArrayList<>());
+        when(hangoutRepository.getAllPollData(EVENT_ID_2)).thenReturn(new ArrayList<>());
+        when(hangoutRepository.findAttributesByHangoutId(EVENT_ID_2)).thenAnswer(invocation -> {
+            secondEventLoaded.countDown();
+            return createMockUndecidedAttributes(EVENT_ID_2, ATTRIBUTE_ID_1);
+        });
+
+        // When
+        GroupFeedItemsResponse response = groupFeedService.getFeedItems(GROUP_ID, 10, null, USER_ID);
+
+        // Then - items still follow page order, not completion order
+        assertThat(response.getItems()).hasSize(2);
+        assertThat(response.getItems().get(0).getEventInfo().getEventId()).isEqualTo(EVENT_ID_1);
+        assertThat(response.getItems().get(1).getEventInfo().getEventId()).isEqualTo(EVENT_ID_2);
+    }
+
+    @Test
+    void getFeedItems_OneEventFails_ReturnsItemsFromOtherEvents() {
+        // Given
+        when(groupService.isUserInGroup(USER_ID, GROUP_ID)).thenReturn(true);
+        PaginatedResult<HangoutPointer> firstPage = new PaginatedResult<>(createMockHangoutPointers(), null);
+        when(hangoutRepository.findUpcomingHangoutsPage("GROUP#" + GROUP_ID, "T#", 10, null))
+            .thenReturn(firstPage);
+        when(hangoutRepository.getAllPollData(EVENT_ID_1)).thenThrow(new RuntimeException("DynamoDB unavailable"));
+        when(hangoutRepository.findAttributesByHangoutId(EVENT_ID_1)).thenReturn(new ArrayList<>());
+        when(hangoutRepository.getAllPollData(EVENT_ID_2)).thenReturn(createMockPollData(EVENT_ID_2, POLL_ID_1));
+        when(hangoutRepository.findAttributesByHangoutId(EVENT_ID_2)).thenReturn(new ArrayList<>());
+
+        // When
+        GroupFeedItemsResponse response = groupFeedService.getFeedItems(GROUP_ID, 10, null, USER_ID);
+
+        // Then
+        assertThat(response.getItems()).hasSize(1);
+        assertThat(response.getItems().get(0).getEventInfo().getEventId()).isEqualTo(EVENT_ID_2);
+    }
+
+    @Test
+    void getFeedItems_RecordsFanOutMetrics() {
+        // Given
+        when(groupService.isUserInGroup(USER_ID, GROUP_ID)).thenReturn(true);
+        PaginatedResult<HangoutPointer> firstPage = new PaginatedResult<>(createMockHangoutPointers(), null);
+        when(hangoutRepository.findUpcomingHangoutsPage("GROUP#" + GROUP_ID, "T#", 10, null))
+            .thenReturn(firstPage);
+
+        // When
+        groupFeedService.getFeedItems(GROUP_ID, 10, null, USER_ID);
+
+        // Then
+        assertThat(meterRegistry.get("group_feed_fanout_events").summary().totalAmount()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("group_feed_fanout_duration").timer().count()).isEqualTo(1L);
+    }
+}
@@ -78,6 +78,18 @@ class GroupServiceImplTest {
     @Mock
     private com.bbthechange.inviter.service.NudgeService nudgeService;
 
+    @Mock
+    private com.bbthechange.inviter.service.GroupMembershipCache groupMembershipCache;
+
+    @Mock
+    private com.bbthechange.inviter.service.GroupTimestampService groupTimestampService;
+
+    @Mock
+    private com.bbthechange.inviter.service.GroupFeedSnapshotCache groupFeedSnapshotCache;
+
+    @Mock
+    private java.util.concurrent.Executor fanOutExecutor;
+
     @InjectMocks
     private GroupServiceImpl groupService;
 
@@ -91,6 +103,11 @@ class GroupServiceImplTest {
         // ForwardFillSuggestionService returns empty result by default
         lenient().when(forwardFillSuggestionService.getForwardFill(any(), anyLong(), any(), any(), any(), anyInt()))
                 .thenReturn(ForwardFillSuggestionService.ForwardFillResult.empty());
+        // Fan-out queries run inline on the calling thread
+        lenient().doAnswer(inv -> {
+            ((Runnable) inv.getArgument(0)).run();
+            return null;
+        }).when(fanOutExecutor).execute(any(Runnable.class));
         // Floating hangouts query returns empty by default
         lenient().when(hangoutRepository.getFloatingHangoutsPage(any(), any()))
                 .thenReturn(new PaginatedResult<>(List.of(), null));
@@ -361,6 +378,7 @@ class GroupServiceImplTest {
         
         // Then
         verify(groupRepository).removeMember(groupId, userId);
+        verify(groupMembershipCache).invalidate(groupId, userId);
     }
     
     @Test
@@ -405,6 +423,7 @@ class GroupServiceImplTest {
         // Then
         verify(groupRepository).removeMember(groupId, userId);
         verify(groupRepository, never()).delete(groupId);
+        verify(groupMembershipCache).invalidate(groupId, userId);
     }
 
     @Test
@@ -2060,6 +2079,7 @@ class GroupServiceImplTest {
 
         Poll poll = new Poll(hangoutId, "Dinner?", null, false);
         PollOption option = new PollOption(hangoutId, poll.getPollId(), "Lasagna");
+        option.setVoteCount(1L);
         Vote vote = new Vote(hangoutId, poll.getPollId(), option.getOptionId(), USER_ID, "YES");
 
         pointer.setPolls(List.of(poll));
@@ -2362,4 +2382,95 @@ class GroupServiceImplTest {
         verify(attributeSuggestionService, never()).computeSuggestedAttributes(any(), eq(series.getParts().get(0).getPolls()));
     }
 
-}
\ No newline at end of file
+    @Test
+    void getGroupForEtagCheck_WithPendingTimestampBump_ReturnsNewerTimestamp() {
+        // Given: stored timestamp is older than a bump still waiting in the write-behind buffer
+        String groupId = "11111111-1111-1111-1111-111111111111";
+        Group group = new Group("Test Group", false);
+        java.time.Instant stored = java.time.Instant.parse("2026-01-01T00:00:00Z");
+        group.setLastHangoutModified(stored);
+        java.time.Instant pending = java.time.Instant.parse("2026-01-01T00:00:05Z");
+        when(groupRepository.findMembership(groupId, USER_ID)).thenReturn(Optional.of(new GroupMembership(groupId, USER_ID, "Test Group")));
+        when(groupRepository.findById(groupId)).thenReturn(Optional.of(group));
+        when(groupTimestampService.getPendingTimestamp(groupId)).thenReturn(pending);
+
+        // When
+        Group result = groupService.getGroupForEtagCheck(groupId, USER_ID);
+
+        // Then: the bump lands on a copy, not on the group shared through RequestReadCache
+        assertThat(result.getLastHangoutModified()).isEqualTo(pending);
+        assertThat(result.getGroupId()).isEqualTo(group.getGroupId());
+        assertThat(group.getLastHangoutModified()).isEqualTo(stored);
+    }
+
+    @Test
+    void getGroupForEtagCheck_WithoutPendingBump_KeepsStoredTimestamp() {
+        // Given
+        String groupId = "11111111-1111-1111-1111-111111111111";
+        Group group = new Group("Test Group", false);
+        java.time.Instant stored = java.time.Instant.parse("2026-01-01T00:00:00Z");
+        group.setLastHangoutModified(stored);
+        when(groupRepository.findMembership(groupId, USER_ID)).thenReturn(Optional.of(new GroupMembership(groupId, USER_ID, "Test Group")));
+        when(groupRepository.findById(groupId)).thenReturn(Optional.of(group));
+
+        // When
+        Group result = groupService.getGroupForEtagCheck(groupId, USER_ID);
+
+        // Then
+        assertThat(result.getLastHangoutModified()).isEqualTo(stored);
+    }
+
+    @Test
+    void getGroupFeed_WithSnapshotForCurrentVersion_SkipsHangoutQueries() {
+        // Given
+        String groupId = "11111111-1111-1111-1111-111111111111";
+        java.time.Instant version = java.time.Instant.parse("2026-01-01T00:00:00Z");
+        Group group = new Group("Test Group", false);
+        group.setLastHangoutModified(version);
+        HangoutPointer hangout = createHangoutPointer(groupId, "22222222-2222-2222-2222-222222222222",
+                "Cached Hangout", java.time.Instant.now().plusSeconds(3600));
+        com.bbthechange.inviter.service.GroupFeedSnapshotCache.GroupFeedSnapshot snapshot =
+                com.bbthechange.inviter.service.GroupFeedSnapshotCache.GroupFeedSnapshot.of(version,
+                        new PaginatedResult<>(List.of(hangout), null),
+                        new PaginatedResult<>(List.of(), null),
+                        new PaginatedResult<>(List.of(), null));
+        when(groupRepository.findMembership(groupId, USER_ID)).thenReturn(
+                Optional.of(createTestMembership(groupId, USER_ID, "Test Group", GroupRole.MEMBER)));
+        when(groupRepository.findById(groupId)).thenReturn(Optional.of(group));
+        when(groupFeedSnapshotCache.get(groupId, null, version)).thenReturn(Optional.of(snapshot));
+
+        // When
+        GroupFeedDTO result = groupService.getGroupFeed(groupId, USER_ID, null, null, null);
+
+        // Then
+        assertThat(result.getWithDay()).hasSize(1);
+        assertThat(((HangoutSummaryDTO) result.getWithDay().get(0)).getTitle()).isEqualTo("Cached Hangout");
+        verify(hangoutRepository, never()).getFutureEventsPage(any(), anyLong(), any(), any());
+        verify(hangoutRepository, never()).getInProgressEventsPage(any(), anyLong(), any(), any());
+        verify(hangoutRepository, never()).getFloatingHangoutsPage(any(), any());
+        verify(groupFeedSnapshotCache, never()).put(any(), any(), any());
+    }
+
+    @Test
+    void getGroupFeed_WithoutSnapshot_QueriesAndStoresSnapshot() {
+        // Given
+        String groupId = "11111111-1111-1111-1111-111111111111";
+        java.time.Instant version = java.time.Instant.parse("2026-01-01T00:00:00Z");
+        Group group = new Group("Test Group", false);
+        group.setLastHangoutModified(version);
+        when(groupRepository.findMembership(groupId, USER_ID)).thenReturn(
+                Optional.of(createTestMembership(groupId, USER_ID, "Test Group", GroupRole.MEMBER)));
+        when(groupRepository.findById(groupId)).thenReturn(Optional.of(group));
+        when(hangoutRepository.getFutureEventsPage(eq(groupId), anyLong(), isNull(), isNull()))
+                .thenReturn(new PaginatedResult<>(List.of(), null));
+        when(hangoutRepository.getInProgressEventsPage(eq(groupId), anyLong(), isNull(), isNull()))
+                .thenReturn(new PaginatedResult<>(List.of(), null));
+
+        // When
+        groupService.getGroupFeed(groupId, USER_ID, null, null, null);
+
+        // Then
+        verify(groupFeedSnapshotCache).put(eq(groupId), isNull(),
+                argThat(snapshot -> version.equals(snapshot.version())));
+    }
+}
@@ -83,6 +83,18 @@ class GroupServiceInviteCodeTest {
     @Mock
     private com.bbthechange.inviter.service.NudgeService nudgeService;
 
+    @Mock
+    private com.bbthechange.inviter.service.GroupMembershipCache groupMembershipCache;
+
+    @Mock
+    private com.bbthechange.inviter.service.GroupTimestampService groupTimestampService;
+
+    @Mock
+    private com.bbthechange.inviter.service.GroupFeedSnapshotCache groupFeedSnapshotCache;
+
+    @Mock
+    private java.util.concurrent.Executor fanOutExecutor;
+
     private GroupServiceImpl groupService;
 
     @BeforeEach
@@ -101,7 +113,11 @@ class GroupServiceInviteCodeTest {
             feedSortingService,
             forwardFillSuggestionService,
             attributeSuggestionService,
-            nudgeService
+            nudgeService,
+            groupMembershipCache,
+            groupTimestampService,
+            groupFeedSnapshotCache,
+            fanOutExecutor
         );
     }
 
@@ -82,6 +82,18 @@ class GroupServiceMomentumFeedTest {
     @Mock
     private com.bbthechange.inviter.service.NudgeService nudgeService;
 
+    @Mock
+    private com.bbthechange.inviter.service.GroupMembershipCache groupMembershipCache;
+
+    @Mock
+    private com.bbthechange.inviter.service.GroupTimestampService groupTimestampService;
+
+    @Mock
+    private com.bbthechange.inviter.service.GroupFeedSnapshotCache groupFeedSnapshotCache;
+
+    @Mock
+    private java.util.concurrent.Executor fanOutExecutor;
+
     @InjectMocks
     private GroupServiceImpl groupService;
 
@@ -96,6 +108,11 @@ class GroupServiceMomentumFeedTest {
         // ForwardFillSuggestionService returns empty result by default
         lenient().when(forwardFillSuggestionService.getForwardFill(any(), anyLong(), any(), any(), any(), anyInt()))
                 .thenReturn(ForwardFillSuggestionService.ForwardFillResult.empty());
+        // Fan-out queries run inline on the calling thread
+        lenient().doAnswer(inv -> {
+            ((Runnable) inv.getArgument(0)).run();
+            return null;
+        }).when(fanOutExecutor).execute(any(Runnable.class));
         // Floating hangouts query returns empty by default
         lenient().when(hangoutRepository.getFloatingHangoutsPage(any(), any()))
                 .thenReturn(new PaginatedResult<>(List.of(), null));
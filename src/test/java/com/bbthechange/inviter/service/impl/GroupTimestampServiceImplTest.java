@@ -1,22 +1,28 @@
 package com.bbthechange.inviter.service.impl;
 
-import com.bbthechange.inviter.model.Group;
+import com.bbthechange.inviter.exception.RepositoryException;
 import com.bbthechange.inviter.repository.GroupRepository;
+import com.bbthechange.inviter.service.GroupFeedSnapshotCache;
+import com.bbthechange.inviter.service.GroupFeedSnapshotCache.GroupFeedSnapshot;
+import com.bbthechange.inviter.util.PaginatedResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,98 +31,229 @@ class GroupTimestampServiceImplTest {
     @Mock
     private GroupRepository groupRepository;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
     private GroupTimestampServiceImpl groupTimestampService;
 
-    private Group testGroup;
     private static final String GROUP_ID = "group-123";
 
     @BeforeEach
     void setUp() {
-        testGroup = new Group();
-        testGroup.setGroupId(GROUP_ID);
-        testGroup.setGroupName("Test Group");
+        meterRegistry = new SimpleMeterRegistry();
+        // Long interval so tests drive flushes explicitly
+        groupTimestampService = new GroupTimestampServiceImpl(groupRepository, meterRegistry, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        groupTimestampService.shutdown();
     }
 
     @Test
     void updateGroupTimestamps_WithValidGroups_UpdatesLastHangoutModified() {
         // Given
-        List<String> groupIds = Arrays.asList(GROUP_ID);
-        when(groupRepository.findById(GROUP_ID)).thenReturn(Optional.of(testGroup));
-
+        when(groupRepository.advanceLastHangoutModified(eq(GROUP_ID), any())).thenReturn(true);
         Instant beforeCall = Instant.now();
 
         // When
-        groupTimestampService.updateGroupTimestamps(groupIds);
-
+        groupTimestampService.updateGroupTimestamps(List.of(GROUP_ID));
         Instant afterCall = Instant.now();
+        groupTimestampService.flush();
 
         // Then
-        ArgumentCaptor<Group> groupCaptor = ArgumentCaptor.forClass(Group.class);
-        verify(groupRepository).save(groupCaptor.capture());
+        ArgumentCaptor<Instant> timestampCaptor = ArgumentCaptor.forClass(Instant.class);
+        verify(groupRepository).advanceLastHangoutModified(eq(GROUP_ID), timestampCaptor.capture());
+        assertThat(timestampCaptor.getValue()).isBetween(beforeCall.truncatedTo(ChronoUnit.MILLIS), afterCall);
+        verify(groupRepository, never()).findById(any());
+        verify(groupRepository, never()).save(any());
+    }
+
+    @Test
+    void updateGroupTimestamps_BeforeFlush_DoesNotWrite() {
+        // When
+        groupTimestampService.updateGroupTimestamps(List.of(GROUP_ID));
 
-        Group savedGroup = groupCaptor.getValue();
-        assertThat(savedGroup.getLastHangoutModified()).isNotNull();
-        assertThat(savedGroup.getLastHangoutModified()).isBetween(beforeCall, afterCall);
+        // Then
+        verifyNoInteractions(groupRepository);
+    }
+
+    @Test
+    void updateGroupTimestamps_WithRepeatedBumps_CoalescesIntoOneWriteWithLatestTimestamp() throws InterruptedException {
+        // Given
+        when(groupRepository.advanceLastHangoutModified(eq(GROUP_ID), any())).thenReturn(true);
+        groupTimestampService.updateGroupTimestamps(List.of(GROUP_ID));
+        Thread.sleep(2);
+        Instant beforeLastBump = Instant.now();
+        groupTimestampService.updateGroupTimestamps(List.of(GROUP_ID));
+        groupTimestampService.updateGroupTimestamps(List.of(GROUP_ID));
+
+        // When
+        groupTimestampService.flush();
+
+        // Then
+        ArgumentCaptor<Instant> timestampCaptor = ArgumentCaptor.forClass(Instant.class);
+        verify(groupRepository, times(1)).advanceLastHangoutModified(eq(GROUP_ID), timestampCaptor.capture());
+        assertThat(timestampCaptor.getValue()).isAfterOrEqualTo(beforeLastBump.truncatedTo(ChronoUnit.MILLIS));
+        assertThat(meterRegistry.counter("group_timestamp_bump_total").count()).isEqualTo(3.0);
+        assertThat(meterRegistry.summary("group_timestamp_coalesced_bumps").totalAmount()).isEqualTo(3.0);
     }
 
     @Test
     void updateGroupTimestamps_WithMultipleGroups_UpdatesAll() {
         // Given
         String groupId2 = "group-456";
-        Group group2 = new Group();
-        group2.setGroupId(groupId2);
-
-        List<String> groupIds = Arrays.asList(GROUP_ID, groupId2);
-        when(groupRepository.findById(GROUP_ID)).thenReturn(Optional.of(testGroup));
-        when(groupRepository.findById(groupId2)).thenReturn(Optional.of(group2));
+        when(groupRepository.advanceLastHangoutModified(any(), any())).thenReturn(true);
 
         // When
-        groupTimestampService.updateGroupTimestamps(groupIds);
+        groupTimestampService.updateGroupTimestamps(Arrays.asList(GROUP_ID, groupId2));
+        groupTimestampService.flush();
 
         // Then
-        verify(groupRepository, times(2)).save(any(Group.class));
+        verify(groupRepository).advanceLastHangoutModified(eq(GROUP_ID), any());
+        verify(groupRepository).advanceLastHangoutModified(eq(groupId2), any());
+        assertThat(meterRegistry.counter("group_timestamp_write_total", "status", "success").count()).isEqualTo(2.0);
     }
 
     @Test
     void updateGroupTimestamps_WithNullList_DoesNothing() {
         // When
         groupTimestampService.updateGroupTimestamps(null);
+        groupTimestampService.flush();
 
         // Then
-        verify(groupRepository, never()).findById(any());
-        verify(groupRepository, never()).save(any());
+        verifyNoInteractions(groupRepository);
     }
 
     @Test
     void updateGroupTimestamps_WithEmptyList_DoesNothing() {
         // When
         groupTimestampService.updateGroupTimestamps(Arrays.asList());
+        groupTimestampService.flush();
 
         // Then
-        verify(groupRepository, never()).findById(any());
-        verify(groupRepository, never()).save(any());
+        verifyNoInteractions(groupRepository);
     }
 
     @Test
-    void updateGroupTimestamps_WithNonExistentGroup_ContinuesWithOthers() {
+    void flush_WhenConditionFails_CountsSkippedAndContinuesWithOthers() {
         // Given
         String validGroupId = "group-valid";
         String invalidGroupId = "group-invalid";
-        Group validGroup = new Group();
-        validGroup.setGroupId(validGroupId);
+        when(groupRepository.advanceLastHangoutModified(eq(invalidGroupId), any())).thenReturn(false);
+        when(groupRepository.advanceLastHangoutModified(eq(validGroupId), any())).thenReturn(true);
 
-        List<String> groupIds = Arrays.asList(invalidGroupId, validGroupId);
-        when(groupRepository.findById(invalidGroupId)).thenReturn(Optional.empty());
-        when(groupRepository.findById(validGroupId)).thenReturn(Optional.of(validGroup));
+        // When
+        groupTimestampService.updateGroupTimestamps(Arrays.asList(invalidGroupId, validGroupId));
+        groupTimestampService.flush();
+        groupTimestampService.flush();
+
+        // Then - skipped group is not retried
+        verify(groupRepository, times(1)).advanceLastHangoutModified(eq(invalidGroupId), any());
+        verify(groupRepository, times(1)).advanceLastHangoutModified(eq(validGroupId), any());
+        assertThat(meterRegistry.counter("group_timestamp_write_total", "status", "skipped").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void flush_WhenWriteFails_RetriesOnNextFlush() {
+        // Given
+        when(groupRepository.advanceLastHangoutModified(eq(GROUP_ID), any()))
+                .thenThrow(new RepositoryException("throttled"))
+                .thenReturn(true);
+        groupTimestampService.updateGroupTimestamps(List.of(GROUP_ID));
 
         // When
-        groupTimestampService.updateGroupTimestamps(groupIds);
+        groupTimestampService.flush();
+        groupTimestampService.flush();
 
         // Then
-        verify(groupRepository, times(1)).save(any(Group.class)); // Only valid group saved
-        ArgumentCaptor<Group> groupCaptor = ArgumentCaptor.forClass(Group.class);
-        verify(groupRepository).save(groupCaptor.capture());
-        assertThat(groupCaptor.getValue().getGroupId()).isEqualTo(validGroupId);
+        verify(groupRepository, times(2)).advanceLastHangoutModified(eq(GROUP_ID), any());
+        assertThat(meterRegistry.counter("group_timestamp_write_total", "status", "failure").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("group_timestamp_write_total", "status", "success").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void getPendingTimestamp_StaysUntilWriteSucceeds() {
+        // Given
+        when(groupRepository.advanceLastHangoutModified(eq(GROUP_ID), any()))
+                .thenThrow(new RepositoryException("throttled"))
+                .thenReturn(true);
+        groupTimestampService.updateGroupTimestamps(List.of(GROUP_ID));
+        Instant pending = groupTimestampService.getPendingTimestamp(GROUP_ID);
+
+        // When / Then - still visible after a failed write
+        assertThat(pending).isNotNull();
+        groupTimestampService.flush();
+        assertThat(groupTimestampService.getPendingTimestamp(GROUP_ID)).isEqualTo(pending);
+
+        // When / Then - cleared once written
+        groupTimestampService.flush();
+        assertThat(groupTimestampService.getPendingTimestamp(GROUP_ID)).isNull();
+        assertThat(groupTimestampService.getPendingTimestamp("other-group")).isNull();
+    }
+
+    @Test
+    void shutdown_FlushesPendingBumps() {
+        // Given
+        when(groupRepository.advanceLastHangoutModified(eq(GROUP_ID), any())).thenReturn(true);
+        groupTimestampService.updateGroupTimestamps(List.of(GROUP_ID));
+
+        // When
+        groupTimestampService.shutdown();
+
+        // Then
+        verify(groupRepository).advanceLastHangoutModified(eq(GROUP_ID), any());
+    }
+
+    @Test
+    void updateGroupTimestamps_WithWriteBehindDisabled_WritesImmediately() {
+        // Given
+        GroupTimestampServiceImpl synchronousService = new GroupTimestampServiceImpl(groupRepository, meterRegistry, 0);
+        when(groupRepository.advanceLastHangoutModified(eq(GROUP_ID), any())).thenReturn(true);
+
+        // When
+        synchronousService.updateGroupTimestamps(List.of(GROUP_ID));
+
+        // Then
+        verify(groupRepository).advanceLastHangoutModified(eq(GROUP_ID), any());
+    }
+
+    @Test
+    void updateGroupTimestamps_HangoutWrite_InvalidatesFeedSnapshotBeforeAndAfterFlush() {
+        // Given - a feed snapshot built at the group's stored version
+        Instant stored = Instant.parse("2026-01-01T00:00:00Z");
+        AtomicReference<Instant> storedVersion = new AtomicReference<>(stored);
+        when(groupRepository.advanceLastHangoutModified(eq(GROUP_ID), any())).thenAnswer(invocation -> {
+            // The repository's condition compares epoch millis numerically
+            Instant timestamp = invocation.getArgument(1);
+            if (timestamp.toEpochMilli() <= storedVersion.get().toEpochMilli()) {
+                return false;
+            }
+            storedVersion.set(Instant.ofEpochMilli(timestamp.toEpochMilli()));
+            return true;
+        });
+        GroupFeedSnapshotCache cache = new GroupFeedSnapshotCache(meterRegistry, 60, 100);
+        cache.put(GROUP_ID, null, emptySnapshot(stored));
+
+        // When - a hangout write bumps the group
+        groupTimestampService.updateGroupTimestamps(List.of(GROUP_ID));
+        Instant pending = groupTimestampService.getPendingTimestamp(GROUP_ID);
+
+        // Then - the buffered bump already moves the feed version past the snapshot
+        assertThat(pending).isAfter(stored);
+        assertThat(cache.get(GROUP_ID, null, pending)).isEmpty();
+        cache.put(GROUP_ID, null, emptySnapshot(pending));
+
+        // When - the bump is written
+        groupTimestampService.flush();
+
+        // Then - the stored version reads back equal to the pending one, so the rebuilt snapshot stays valid
+        assertThat(groupTimestampService.getPendingTimestamp(GROUP_ID)).isNull();
+        assertThat(storedVersion.get()).isEqualTo(pending);
+        assertThat(cache.get(GROUP_ID, null, storedVersion.get())).isPresent();
+        assertThat(meterRegistry.counter("group_timestamp_write_total", "status", "success").count()).isEqualTo(1.0);
+    }
+
+    private static GroupFeedSnapshot emptySnapshot(Instant version) {
+        return GroupFeedSnapshot.of(version, new PaginatedResult<>(List.of(), null),
+                new PaginatedResult<>(List.of(), null), new PaginatedResult<>(List.of(), null));
     }
 }
@@ -247,8 +247,39 @@ class HangoutServiceInterestLevelTest extends HangoutServiceTestBase {
         hangoutService.setUserInterest(hangoutId, request, userId);
 
         // Then - verify pointerUpdateService was called for both groups
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId1), eq(hangoutId), any(), eq("interest levels"));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId2), eq(hangoutId), any(), eq("interest levels"));
+        verify(pointerUpdateService).patchPointers(
+            argThat(groups -> groups.size() == 2 && groups.containsAll(List.of(groupId1, groupId2))),
+            eq(hangoutId), any(), eq("interest levels"));
+    }
+
+    @Test
+    void setUserInterest_WhenGroupsChangeBeforeRebuild_PatchesCurrentGroups() {
+        // Given - the hangout moves from group 1 to group 2 before the queued rebuild runs
+        String hangoutId = "12345678-1234-1234-1234-123456789012";
+        String userId = "87654321-4321-4321-4321-210987654321";
+        String groupId1 = "11111111-1111-1111-1111-111111111111";
+        String groupId2 = "22222222-2222-2222-2222-222222222222";
+        SetInterestRequest request = new SetInterestRequest("GOING", null);
+
+        Hangout hangout = createTestHangout(hangoutId);
+        hangout.setVisibility(EventVisibility.PUBLIC);
+        hangout.setAssociatedGroups(List.of(groupId1));
+        Hangout movedHangout = createTestHangout(hangoutId);
+        movedHangout.setVisibility(EventVisibility.PUBLIC);
+        movedHangout.setAssociatedGroups(List.of(groupId2));
+
+        when(hangoutRepository.getHangoutDetailData(hangoutId))
+            .thenReturn(HangoutDetailData.builder().withHangout(hangout).build())
+            .thenReturn(HangoutDetailData.builder().withHangout(movedHangout).build());
+        when(userService.getUserSummary(UUID.fromString(userId))).thenReturn(Optional.of(createTestUser(userId)));
+
+        // When
+        hangoutService.setUserInterest(hangoutId, request, userId);
+
+        // Then - pointers and timestamps follow the groups read by the rebuild itself
+        verify(pointerUpdateService).patchPointers(eq(List.of(groupId2)), eq(hangoutId), any(), eq("interest levels"));
+        verify(pointerUpdateService, never()).patchPointers(eq(List.of(groupId1)), any(), any(), any());
+        verify(groupTimestampService).updateGroupTimestamps(List.of(groupId2));
     }
 
     @Test
@@ -276,7 +307,7 @@ class HangoutServiceInterestLevelTest extends HangoutServiceTestBase {
 
         // Then - verify interest level was saved but pointers were not updated
         verify(hangoutRepository).saveInterestLevel(any(InterestLevel.class));
-        verify(pointerUpdateService, never()).updatePointerWithRetry(anyString(), anyString(), any(), anyString());
+        verify(pointerUpdateService, never()).patchPointers(any(), any(), any(), any());
     }
 
     @Test
@@ -417,8 +448,9 @@ class HangoutServiceInterestLevelTest extends HangoutServiceTestBase {
         hangoutService.removeUserInterest(hangoutId, userId);
 
         // Then - verify pointerUpdateService was called for both groups
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId1), eq(hangoutId), any(), eq("interest levels"));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId2), eq(hangoutId), any(), eq("interest levels"));
+        verify(pointerUpdateService).patchPointers(
+            argThat(groups -> groups.size() == 2 && groups.containsAll(List.of(groupId1, groupId2))),
+            eq(hangoutId), any(), eq("interest levels"));
     }
 
     @Test
@@ -448,6 +480,6 @@ class HangoutServiceInterestLevelTest extends HangoutServiceTestBase {
 
         // Then - verify interest level was deleted but pointers were not updated
         verify(hangoutRepository).deleteInterestLevel(hangoutId, userId);
-        verify(pointerUpdateService, never()).updatePointerWithRetry(anyString(), anyString(), any(), anyString());
+        verify(pointerUpdateService, never()).patchPointers(any(), any(), any(), any());
     }
 }
@@ -14,11 +14,22 @@ import com.bbthechange.inviter.service.NudgeService;
 import com.bbthechange.inviter.service.NotificationService;
 import com.bbthechange.inviter.service.TimePollService;
 import com.bbthechange.inviter.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+
 /**
  * Base class for HangoutServiceImpl tests.
  * Provides common mocks, setup, and test data generation methods.
@@ -49,6 +60,9 @@ abstract class HangoutServiceTestBase {
     @Mock
     protected PointerUpdateService pointerUpdateService;
 
+    @Mock
+    protected PointerDenormalizer pointerDenormalizer;
+
     @Mock
     protected com.bbthechange.inviter.service.S3Service s3Service;
 
@@ -73,6 +87,27 @@ abstract class HangoutServiceTestBase {
     @InjectMocks
     protected HangoutServiceImpl hangoutService;
 
+    @BeforeEach
+    void runPointerDenormalizationInline() {
+        // Debounced pointer rebuilds run inline so tests can verify the resulting writes
+        lenient().doAnswer(inv -> {
+            ((Runnable) inv.getArgument(2)).run();
+            return null;
+        }).when(pointerDenormalizer).schedule(anyString(), anyString(), any(Runnable.class));
+    }
+
+    @BeforeEach
+    void resolveUserSummariesThroughSingleLookups() {
+        // Batch summary lookups answer from the per-user stubs, leaving out users not found
+        lenient().when(userService.getUserSummaries(anyCollection())).thenAnswer(invocation -> {
+            Map<UUID, UserSummaryDTO> summaries = new HashMap<>();
+            for (UUID userId : invocation.<Collection<UUID>>getArgument(0)) {
+                userService.getUserSummary(userId).ifPresent(summary -> summaries.put(userId, summary));
+            }
+            return summaries;
+        });
+    }
+
     // ============================================================================
     // HELPER METHODS FOR TEST DATA CREATION
     // ============================================================================
@@ -54,6 +54,11 @@ class HangoutServiceTimeConversionTest extends HangoutServiceTestBase {
             assertThat(resultTimeInfo.getEndTime()).endsWith("Z");
             assertThat(resultTimeInfo.getPeriodGranularity()).isNull();
             assertThat(resultTimeInfo.getPeriodStart()).isNull();
+
+            // And - the loaded hangout, shared through RequestReadCache, keeps its stored timeInput
+            assertThat(result.getHangout()).isNotSameAs(hangout);
+            assertThat(hangout.getTimeInput()).isSameAs(timeInput);
+            assertThat(timeInput.getStartTime()).isEqualTo("2025-08-05T19:00:00-07:00");
         }
 
         @Test
@@ -23,6 +23,7 @@ import java.util.*;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -71,6 +72,15 @@ class IdeaListServiceImplTest {
         testListId = UUID.randomUUID().toString();
         testIdeaId = UUID.randomUUID().toString();
         ideaListService = new IdeaListServiceImpl(ideaListRepository, groupRepository, userService, s3Service, notificationService, ideaNotificationBatchService, ideaInterestMilestoneService, placeEnrichmentService);
+
+        // Batch summary lookups answer from the per-user stubs, leaving out users not found
+        lenient().when(userService.getUserSummaries(anyCollection())).thenAnswer(invocation -> {
+            Map<UUID, UserSummaryDTO> summaries = new HashMap<>();
+            for (UUID userId : invocation.<Collection<UUID>>getArgument(0)) {
+                userService.getUserSummary(userId).ifPresent(summary -> summaries.put(userId, summary));
+            }
+            return summaries;
+        });
     }
 
     // ===== AUTHORIZATION & SECURITY TESTS =====
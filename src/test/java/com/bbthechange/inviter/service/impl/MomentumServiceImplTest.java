@@ -2,6 +2,7 @@ package com.bbthechange.inviter.service.impl;
 
 import com.bbthechange.inviter.dto.Address;
 import com.bbthechange.inviter.dto.HangoutDetailData;
+import com.bbthechange.inviter.dto.HangoutDetailSection;
 import com.bbthechange.inviter.dto.MomentumDTO;
 import com.bbthechange.inviter.model.*;
 import com.bbthechange.inviter.repository.GroupRepository;
@@ -17,6 +18,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -41,6 +43,9 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class MomentumServiceImplTest {
 
+    private static final Set<HangoutDetailSection> MOMENTUM_SECTIONS =
+            EnumSet.of(HangoutDetailSection.ATTENDANCE, HangoutDetailSection.PARTICIPATIONS);
+
     @Mock
     private HangoutRepository hangoutRepository;
 
@@ -169,7 +174,7 @@ class MomentumServiceImplTest {
 
         momentumService.recomputeMomentum("h-confirmed");
 
-        verify(hangoutRepository, never()).getHangoutDetailData(any());
+        verify(hangoutRepository, never()).getHangoutDetailData(any(), anySet());
         verify(hangoutRepository, never()).save(any(Hangout.class));
     }
 
@@ -179,7 +184,7 @@ class MomentumServiceImplTest {
         when(hangoutRepository.findHangoutById("h-1")).thenReturn(Optional.of(hangout));
 
         List<InterestLevel> attendance = List.of(interestLevel("GOING", Instant.now().minusSeconds(3 * 86400)));
-        when(hangoutRepository.getHangoutDetailData("h-1")).thenReturn(detailData(attendance));
+        when(hangoutRepository.getHangoutDetailData(eq("h-1"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(attendance));
         mockFiveMembers(); // threshold = 2
 
         momentumService.recomputeMomentum("h-1");
@@ -195,7 +200,7 @@ class MomentumServiceImplTest {
         when(hangoutRepository.findHangoutById("h-2")).thenReturn(Optional.of(hangout));
 
         List<InterestLevel> attendance = List.of(interestLevel("INTERESTED", Instant.now().minusSeconds(3 * 86400)));
-        when(hangoutRepository.getHangoutDetailData("h-2")).thenReturn(detailData(attendance));
+        when(hangoutRepository.getHangoutDetailData(eq("h-2"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(attendance));
         mockFiveMembers(); // threshold = 2
 
         momentumService.recomputeMomentum("h-2");
@@ -213,7 +218,7 @@ class MomentumServiceImplTest {
         hangout.setLocation(new Address());
         when(hangoutRepository.findHangoutById("h-3")).thenReturn(Optional.of(hangout));
 
-        when(hangoutRepository.getHangoutDetailData("h-3")).thenReturn(detailData(List.of()));
+        when(hangoutRepository.getHangoutDetailData(eq("h-3"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(List.of()));
         mockFiveMembers(); // threshold = 2
 
         momentumService.recomputeMomentum("h-3");
@@ -234,7 +239,7 @@ class MomentumServiceImplTest {
                 interestLevel("GOING", Instant.now().minusSeconds(5 * 86400)),
                 interestLevel("GOING", Instant.now().minusSeconds(5 * 86400))
         );
-        when(hangoutRepository.getHangoutDetailData("h-4")).thenReturn(detailData(attendance));
+        when(hangoutRepository.getHangoutDetailData(eq("h-4"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(attendance));
         mockFiveMembers();
 
         momentumService.recomputeMomentum("h-4");
@@ -255,7 +260,7 @@ class MomentumServiceImplTest {
                 interestLevel("GOING", Instant.now().minusSeconds(5 * 86400)),
                 interestLevel("GOING", Instant.now().minusSeconds(5 * 86400))
         );
-        when(hangoutRepository.getHangoutDetailData("h-5")).thenReturn(detailData(attendance));
+        when(hangoutRepository.getHangoutDetailData(eq("h-5"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(attendance));
         mockFiveMembers();
 
         momentumService.recomputeMomentum("h-5");
@@ -275,7 +280,7 @@ class MomentumServiceImplTest {
                 interestLevel("GOING", Instant.now().minusSeconds(5 * 86400)),
                 interestLevel("GOING", Instant.now().minusSeconds(5 * 86400))
         );
-        when(hangoutRepository.getHangoutDetailData("h-5b")).thenReturn(detailData(attendance));
+        when(hangoutRepository.getHangoutDetailData(eq("h-5b"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(attendance));
         mockFiveMembers();
 
         momentumService.recomputeMomentum("h-5b");
@@ -294,7 +299,7 @@ class MomentumServiceImplTest {
         List<InterestLevel> attendance = List.of(
                 interestLevel("GOING", Instant.now().minusSeconds(5 * 86400))
         );
-        when(hangoutRepository.getHangoutDetailData("h-5c")).thenReturn(detailData(attendance));
+        when(hangoutRepository.getHangoutDetailData(eq("h-5c"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(attendance));
         mockFiveMembers();
 
         momentumService.recomputeMomentum("h-5c");
@@ -315,7 +320,7 @@ class MomentumServiceImplTest {
                 interestLevel("GOING", "user-dup", Instant.now().minusSeconds(5 * 86400)),
                 interestLevel("GOING", "user-dup", Instant.now().minusSeconds(5 * 86400))
         );
-        when(hangoutRepository.getHangoutDetailData("h-5d")).thenReturn(detailData(attendance));
+        when(hangoutRepository.getHangoutDetailData(eq("h-5d"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(attendance));
         mockFiveMembers();
 
         momentumService.recomputeMomentum("h-5d");
@@ -337,7 +342,7 @@ class MomentumServiceImplTest {
                 interestLevel("GOING", "user-valid", Instant.now().minusSeconds(5 * 86400)),
                 interestLevel("GOING", null, Instant.now().minusSeconds(5 * 86400))
         );
-        when(hangoutRepository.getHangoutDetailData("h-null-uid")).thenReturn(detailData(attendance));
+        when(hangoutRepository.getHangoutDetailData(eq("h-null-uid"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(attendance));
         mockFiveMembers();
 
         momentumService.recomputeMomentum("h-null-uid");
@@ -357,7 +362,7 @@ class MomentumServiceImplTest {
                 interestLevel("GOING", Instant.now().minusSeconds(5 * 86400)),
                 interestLevel("GOING", Instant.now().minusSeconds(5 * 86400))
         );
-        when(hangoutRepository.getHangoutDetailData("h-5e")).thenReturn(detailData(attendance));
+        when(hangoutRepository.getHangoutDetailData(eq("h-5e"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(attendance));
         mockFiveMembers();
 
         momentumService.recomputeMomentum("h-5e");
@@ -374,7 +379,7 @@ class MomentumServiceImplTest {
         Hangout hangout = buildHangout("h-6", MomentumCategory.BUILDING);
         when(hangoutRepository.findHangoutById("h-6")).thenReturn(Optional.of(hangout));
 
-        when(hangoutRepository.getHangoutDetailData("h-6")).thenReturn(detailData(List.of()));
+        when(hangoutRepository.getHangoutDetailData(eq("h-6"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(List.of()));
         mockFiveMembers(); // threshold = 2
 
         momentumService.recomputeMomentum("h-6");
@@ -386,7 +391,7 @@ class MomentumServiceImplTest {
     void recomputeMomentum_savesHangoutAfterScoreChange() {
         Hangout hangout = buildHangout("h-7", MomentumCategory.BUILDING);
         when(hangoutRepository.findHangoutById("h-7")).thenReturn(Optional.of(hangout));
-        when(hangoutRepository.getHangoutDetailData("h-7")).thenReturn(detailData(List.of()));
+        when(hangoutRepository.getHangoutDetailData(eq("h-7"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(List.of()));
         mockFiveMembers();
 
         momentumService.recomputeMomentum("h-7");
@@ -403,7 +408,7 @@ class MomentumServiceImplTest {
         Hangout hangout = buildHangout("h-8", MomentumCategory.BUILDING);
         hangout.setAssociatedGroups(List.of(groupA, groupB));
         when(hangoutRepository.findHangoutById("h-8")).thenReturn(Optional.of(hangout));
-        when(hangoutRepository.getHangoutDetailData("h-8")).thenReturn(detailData(List.of()));
+        when(hangoutRepository.getHangoutDetailData(eq("h-8"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(List.of()));
 
         List<GroupMembership> members = List.of(new GroupMembership(), new GroupMembership(),
                 new GroupMembership(), new GroupMembership(), new GroupMembership());
@@ -413,8 +418,8 @@ class MomentumServiceImplTest {
 
         momentumService.recomputeMomentum("h-8");
 
-        verify(pointerUpdateService, times(2)).updatePointerWithRetry(
-                anyString(), anyString(), any(), eq("momentum"));
+        verify(pointerUpdateService).patchPointers(
+                eq(List.of(groupA, groupB)), eq("h-8"), any(), eq("momentum"));
     }
 
     // ============================================================================
@@ -429,7 +434,7 @@ class MomentumServiceImplTest {
         // INTERESTED (score=1), updated 1h ago → recency multiplier 1.5x → round(1.5) = 2
         List<InterestLevel> attendance = List.of(
                 interestLevel("INTERESTED", Instant.now().minusSeconds(3600)));
-        when(hangoutRepository.getHangoutDetailData("h-rec1")).thenReturn(detailData(attendance));
+        when(hangoutRepository.getHangoutDetailData(eq("h-rec1"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(attendance));
         mockFiveMembers(); // threshold = 2
 
         momentumService.recomputeMomentum("h-rec1");
@@ -446,7 +451,7 @@ class MomentumServiceImplTest {
         // INTERESTED (score=1), updated 3 days ago → no recency multiplier → score stays 1
         List<InterestLevel> attendance = List.of(
                 interestLevel("INTERESTED", Instant.now().minusSeconds(3L * 86400)));
-        when(hangoutRepository.getHangoutDetailData("h-rec2")).thenReturn(detailData(attendance));
+        when(hangoutRepository.getHangoutDetailData(eq("h-rec2"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(attendance));
         mockFiveMembers();
 
         momentumService.recomputeMomentum("h-rec2");
@@ -466,7 +471,7 @@ class MomentumServiceImplTest {
         // Wait, score = base_rsvp(1) + time_bonus(1) = 2, then * 1.5 = round(3.0) = 3
         List<InterestLevel> attendance = List.of(
                 interestLevel("INTERESTED", Instant.now().minusSeconds(5 * 86400)));
-        when(hangoutRepository.getHangoutDetailData("h-prox1")).thenReturn(detailData(attendance));
+        when(hangoutRepository.getHangoutDetailData(eq("h-prox1"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(attendance));
         mockFiveMembers(); // threshold = 2
 
         momentumService.recomputeMomentum("h-prox1");
@@ -487,7 +492,7 @@ class MomentumServiceImplTest {
         List<InterestLevel> attendance = List.of(
                 interestLevel("GOING", Instant.now().minusSeconds(5 * 86400)),
                 interestLevel("INTERESTED", Instant.now().minusSeconds(5 * 86400)));
-        when(hangoutRepository.getHangoutDetailData("h-prox2")).thenReturn(detailData(attendance));
+        when(hangoutRepository.getHangoutDetailData(eq("h-prox2"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(attendance));
         mockFiveMembers();
 
         momentumService.recomputeMomentum("h-prox2");
@@ -506,7 +511,7 @@ class MomentumServiceImplTest {
         List<InterestLevel> attendance = List.of(
                 interestLevel("GOING", Instant.now().minusSeconds(5 * 86400)),
                 interestLevel("GOING", Instant.now().minusSeconds(5 * 86400)));
-        when(hangoutRepository.getHangoutDetailData("h-prox3")).thenReturn(detailData(attendance));
+        when(hangoutRepository.getHangoutDetailData(eq("h-prox3"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(attendance));
         mockFiveMembers();
 
         momentumService.recomputeMomentum("h-prox3");
@@ -525,7 +530,7 @@ class MomentumServiceImplTest {
         // 1 INTERESTED (score=1), updated 1h ago (within 48h → 1.5x recency)
         List<InterestLevel> attendance = List.of(
                 interestLevel("INTERESTED", Instant.now().minusSeconds(3600)));
-        when(hangoutRepository.getHangoutDetailData("h-both")).thenReturn(detailData(attendance));
+        when(hangoutRepository.getHangoutDetailData(eq("h-both"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(attendance));
         mockFiveMembers();
 
         momentumService.recomputeMomentum("h-both");
@@ -544,7 +549,7 @@ class MomentumServiceImplTest {
 
         List<InterestLevel> attendance = List.of(
                 interestLevel("GOING", Instant.now().minusSeconds(5 * 86400)));
-        when(hangoutRepository.getHangoutDetailData("h-past")).thenReturn(detailData(attendance));
+        when(hangoutRepository.getHangoutDetailData(eq("h-past"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(attendance));
         mockFiveMembers();
 
         momentumService.recomputeMomentum("h-past");
@@ -563,7 +568,7 @@ class MomentumServiceImplTest {
         hangout.setTicketsRequired(true);
         hangout.setTicketLink("https://tickets.com/event");
         when(hangoutRepository.findHangoutById("h-tickets")).thenReturn(Optional.of(hangout));
-        when(hangoutRepository.getHangoutDetailData("h-tickets")).thenReturn(detailData(List.of()));
+        when(hangoutRepository.getHangoutDetailData(eq("h-tickets"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(List.of()));
         mockFiveMembers();
 
         momentumService.recomputeMomentum("h-tickets");
@@ -584,7 +589,7 @@ class MomentumServiceImplTest {
                 .withAttendance(List.of())
                 .withParticipations(List.of(purchase))
                 .build();
-        when(hangoutRepository.getHangoutDetailData("h-purchased")).thenReturn(detail);
+        when(hangoutRepository.getHangoutDetailData(eq("h-purchased"), eq(MOMENTUM_SECTIONS))).thenReturn(detail);
 
         momentumService.recomputeMomentum("h-purchased");
 
@@ -604,7 +609,7 @@ class MomentumServiceImplTest {
                 .withAttendance(List.of())
                 .withParticipations(List.of(needed))
                 .build();
-        when(hangoutRepository.getHangoutDetailData("h-needed")).thenReturn(detail);
+        when(hangoutRepository.getHangoutDetailData(eq("h-needed"), eq(MOMENTUM_SECTIONS))).thenReturn(detail);
         mockFiveMembers();
 
         momentumService.recomputeMomentum("h-needed");
@@ -626,7 +631,7 @@ class MomentumServiceImplTest {
                 .withAttendance(List.of())
                 .withCarRiders(List.of(rider))
                 .build();
-        when(hangoutRepository.getHangoutDetailData("h-carpool")).thenReturn(detail);
+        when(hangoutRepository.getHangoutDetailData(eq("h-carpool"), eq(MOMENTUM_SECTIONS))).thenReturn(detail);
         mockFiveMembers();
 
         momentumService.recomputeMomentum("h-carpool");
@@ -644,7 +649,7 @@ class MomentumServiceImplTest {
                 .withAttendance(List.of())
                 .withCarRiders(List.of())
                 .build();
-        when(hangoutRepository.getHangoutDetailData("h-nocarpool")).thenReturn(detail);
+        when(hangoutRepository.getHangoutDetailData(eq("h-nocarpool"), eq(MOMENTUM_SECTIONS))).thenReturn(detail);
         mockFiveMembers();
 
         momentumService.recomputeMomentum("h-nocarpool");
@@ -667,7 +672,7 @@ class MomentumServiceImplTest {
         assertThat(hangout.getConfirmedBy()).isEqualTo("user-789");
         assertThat(hangout.getConfirmedAt()).isNotNull();
         verify(hangoutRepository).save(any(Hangout.class));
-        verify(pointerUpdateService, atLeastOnce()).updatePointerWithRetry(
+        verify(pointerUpdateService, atLeastOnce()).patchPointers(
                 any(), any(), any(), eq("momentum"));
     }
 
@@ -867,7 +872,7 @@ class MomentumServiceImplTest {
 
         InterestLevel going = interestLevel("GOING", Instant.now());
         HangoutDetailData detail = detailData(List.of(going));
-        when(hangoutRepository.getHangoutDetailData("h-notif1")).thenReturn(detail);
+        when(hangoutRepository.getHangoutDetailData(eq("h-notif1"), eq(MOMENTUM_SECTIONS))).thenReturn(detail);
         mockFiveMembers();
 
         when(adaptiveNotificationService.shouldSendNotification(
@@ -895,7 +900,7 @@ class MomentumServiceImplTest {
 
         InterestLevel going = interestLevel("GOING", Instant.now());
         HangoutDetailData detail = detailData(List.of(going));
-        when(hangoutRepository.getHangoutDetailData("h-notif2")).thenReturn(detail);
+        when(hangoutRepository.getHangoutDetailData(eq("h-notif2"), eq(MOMENTUM_SECTIONS))).thenReturn(detail);
         mockFiveMembers();
 
         when(adaptiveNotificationService.shouldSendNotification(
@@ -915,7 +920,7 @@ class MomentumServiceImplTest {
         when(hangoutRepository.findHangoutById("h-notif3")).thenReturn(Optional.of(hangout));
 
         HangoutDetailData detail = detailData(List.of());
-        when(hangoutRepository.getHangoutDetailData("h-notif3")).thenReturn(detail);
+        when(hangoutRepository.getHangoutDetailData(eq("h-notif3"), eq(MOMENTUM_SECTIONS))).thenReturn(detail);
         mockFiveMembers();
 
         momentumService.recomputeMomentum("h-notif3");
@@ -936,7 +941,7 @@ class MomentumServiceImplTest {
                 .withAttendance(List.of())
                 .withParticipations(List.of(purchase))
                 .build();
-        when(hangoutRepository.getHangoutDetailData("h-notif4")).thenReturn(detail);
+        when(hangoutRepository.getHangoutDetailData(eq("h-notif4"), eq(MOMENTUM_SECTIONS))).thenReturn(detail);
 
         when(adaptiveNotificationService.shouldSendNotification(
                 eq("group-1"),
@@ -986,7 +991,7 @@ class MomentumServiceImplTest {
 
         InterestLevel going = interestLevel("GOING", Instant.now());
         HangoutDetailData detail = detailData(List.of(going));
-        when(hangoutRepository.getHangoutDetailData("h-notif6")).thenReturn(detail);
+        when(hangoutRepository.getHangoutDetailData(eq("h-notif6"), eq(MOMENTUM_SECTIONS))).thenReturn(detail);
         mockFiveMembers();
 
         when(adaptiveNotificationService.shouldSendNotification(any(), any(), any(), any()))
@@ -1020,7 +1025,7 @@ class MomentumServiceImplTest {
                 interestLevel("INTERESTED", Instant.now().minusSeconds(5 * 86400)),
                 interestLevel("INTERESTED", Instant.now().minusSeconds(5 * 86400))
         );
-        when(hangoutRepository.getHangoutDetailData("h-int-noconf")).thenReturn(detailData(attendance));
+        when(hangoutRepository.getHangoutDetailData(eq("h-int-noconf"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(attendance));
         mockFiveMembers(); // threshold = 2, threshold*2 = 4
 
         momentumService.recomputeMomentum("h-int-noconf");
@@ -1042,7 +1047,7 @@ class MomentumServiceImplTest {
                 interestLevel("GOING", Instant.now().minusSeconds(5 * 86400)),
                 interestLevel("GOING", Instant.now().minusSeconds(5 * 86400))
         );
-        when(hangoutRepository.getHangoutDetailData("h-going-conf")).thenReturn(detailData(attendance));
+        when(hangoutRepository.getHangoutDetailData(eq("h-going-conf"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(attendance));
         mockFiveMembers();
 
         momentumService.recomputeMomentum("h-going-conf");
@@ -1063,7 +1068,7 @@ class MomentumServiceImplTest {
                 interestLevel("INTERESTED", Instant.now().minusSeconds(5 * 86400)),
                 interestLevel("INTERESTED", Instant.now().minusSeconds(5 * 86400))
         );
-        when(hangoutRepository.getHangoutDetailData("h-int-gaining")).thenReturn(detailData(attendance));
+        when(hangoutRepository.getHangoutDetailData(eq("h-int-gaining"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(attendance));
         mockFiveMembers(); // threshold = 2
 
         momentumService.recomputeMomentum("h-int-gaining");
@@ -1088,7 +1093,7 @@ class MomentumServiceImplTest {
                 interestLevel("INTERESTED", Instant.now().minusSeconds(5 * 86400)),
                 interestLevel("INTERESTED", Instant.now().minusSeconds(5 * 86400))
         );
-        when(hangoutRepository.getHangoutDetailData("h-mixed")).thenReturn(detailData(attendance));
+        when(hangoutRepository.getHangoutDetailData(eq("h-mixed"), eq(MOMENTUM_SECTIONS))).thenReturn(detailData(attendance));
         mockFiveMembers();
 
         momentumService.recomputeMomentum("h-mixed");
@@ -1111,7 +1116,7 @@ class MomentumServiceImplTest {
                 .withAttendance(List.of())
                 .withParticipations(List.of(purchase))
                 .build();
-        when(hangoutRepository.getHangoutDetailData("h-tp-actor")).thenReturn(detail);
+        when(hangoutRepository.getHangoutDetailData(eq("h-tp-actor"), eq(MOMENTUM_SECTIONS))).thenReturn(detail);
 
         when(userService.getUserSummary(purchaserId))
                 .thenReturn(Optional.of(new UserSummaryDTO(purchaserId, "Brian", null)));
@@ -1142,7 +1147,7 @@ class MomentumServiceImplTest {
                 .withAttendance(List.of())
                 .withParticipations(List.of(purchase))
                 .build();
-        when(hangoutRepository.getHangoutDetailData("h-tp-anon")).thenReturn(detail);
+        when(hangoutRepository.getHangoutDetailData(eq("h-tp-anon"), eq(MOMENTUM_SECTIONS))).thenReturn(detail);
 
         // No userService stub — returns Optional.empty() by default for Optional returns.
         when(adaptiveNotificationService.shouldSendNotification(
@@ -21,13 +21,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -62,6 +66,19 @@ class NotificationServiceImplIdeaTest {
     @BeforeEach
     void setUp() {
         lenient().when(meterRegistry.counter(anyString(), any(String[].class))).thenReturn(counter);
+        // Bulk device lookups resolve through the per-user stubs; users whose lookup throws
+        // are left out, as DeviceService.getActiveDevicesForUsers does
+        lenient().when(deviceService.getActiveDevicesForUsers(anyCollection())).thenAnswer(invocation -> {
+            Map<UUID, List<Device>> devicesByUser = new HashMap<>();
+            for (UUID userId : invocation.<Collection<UUID>>getArgument(0)) {
+                try {
+                    devicesByUser.put(userId, deviceService.getActiveDevicesForUser(userId));
+                } catch (RuntimeException e) {
+                    // lookup failed - recipient skipped
+                }
+            }
+            return devicesByUser;
+        });
     }
 
     private GroupMembership createMembership(String userId) {
@@ -9,20 +9,26 @@ import com.bbthechange.inviter.repository.HangoutRepository;
 import com.bbthechange.inviter.service.DeviceService;
 import com.bbthechange.inviter.service.FcmNotificationService;
 import com.bbthechange.inviter.service.NotificationTextGenerator;
+import com.bbthechange.inviter.service.PushDeliveryResult;
+import com.bbthechange.inviter.service.PushMessage;
 import com.bbthechange.inviter.service.PushNotificationService;
 import com.bbthechange.inviter.service.UserService;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -59,6 +65,9 @@ class NotificationServiceImplTest {
     @Mock(lenient = true)
     private Counter mockCounter;
 
+    @Mock(lenient = true)
+    private Timer mockTimer;
+
     @InjectMocks
     private NotificationServiceImpl notificationService;
 
@@ -91,6 +100,51 @@ class NotificationServiceImplTest {
         testMember2 = new User();
         testMember2.setId(UUID.fromString("00000000-0000-0000-0000-000000000003"));
         testMember2.setDisplayName("Member Two");
+
+        // Bulk senders accept every token by default
+        when(pushNotificationService.sendBulk(any(), anyList())).thenAnswer(invocation ->
+            CompletableFuture.completedFuture(new PushDeliveryResult(invocation.<List<String>>getArgument(1).size(), 0)));
+        when(fcmNotificationService.sendBulk(any(), anyList())).thenAnswer(invocation ->
+            new PushDeliveryResult(invocation.<List<String>>getArgument(1).size(), 0));
+        when(meterRegistry.counter(anyString(), any(String[].class))).thenReturn(mockCounter);
+        when(meterRegistry.timer(anyString(), any(String[].class))).thenReturn(mockTimer);
+        // Bulk device lookups resolve through the per-user stubs; users whose lookup throws
+        // are left out, as DeviceService.getActiveDevicesForUsers does
+        lenient().when(deviceService.getActiveDevicesForUsers(anyCollection())).thenAnswer(invocation -> {
+            Map<UUID, List<Device>> devicesByUser = new HashMap<>();
+            for (UUID userId : invocation.<Collection<UUID>>getArgument(0)) {
+                try {
+                    devicesByUser.put(userId, deviceService.getActiveDevicesForUser(userId));
+                } catch (RuntimeException e) {
+                    // lookup failed - recipient skipped
+                }
+            }
+            return devicesByUser;
+        });
+    }
+
+    /**
+     * Verify a single APNs bulk send to exactly the given tokens (in any order) and return its message.
+     */
+    @SuppressWarnings("unchecked")
+    private PushMessage verifyApnsBulk(String... tokens) {
+        ArgumentCaptor<PushMessage> message = ArgumentCaptor.forClass(PushMessage.class);
+        ArgumentCaptor<List<String>> sentTokens = ArgumentCaptor.forClass(List.class);
+        verify(pushNotificationService).sendBulk(message.capture(), sentTokens.capture());
+        assertThat(sentTokens.getValue()).containsExactlyInAnyOrder(tokens);
+        return message.getValue();
+    }
+
+    /**
+     * Verify a single FCM bulk send to exactly the given tokens (in any order) and return its message.
+     */
+    @SuppressWarnings("unchecked")
+    private PushMessage verifyFcmBulk(String... tokens) {
+        ArgumentCaptor<PushMessage> message = ArgumentCaptor.forClass(PushMessage.class);
+        ArgumentCaptor<List<String>> sentTokens = ArgumentCaptor.forClass(List.class);
+        verify(fcmNotificationService).sendBulk(message.capture(), sentTokens.capture());
+        assertThat(sentTokens.getValue()).containsExactlyInAnyOrder(tokens);
+        return message.getValue();
     }
 
     @Test
@@ -128,22 +182,20 @@ class NotificationServiceImplTest {
         // When
         notificationService.notifyNewHangout(testHangout, creatorId, "Creator Name");
 
-        // Then: Should send notification only once (deduplication)
-        verify(pushNotificationService, times(1)).sendNewHangoutNotification(
-            eq("token-123"),
-            eq(hangoutId),
-            eq(groupAId),
-            eq("Test Hangout"),
-            anyString(),
-            eq("Creator Name")
-        );
+        // Then: Device appears once in a single bulk send (deduplication)
+        PushMessage message = verifyApnsBulk("token-123");
+        assertThat(message.getType()).isEqualTo("new_hangout");
+        assertThat(message.getData())
+            .containsEntry("hangoutId", hangoutId)
+            .containsEntry("groupId", groupAId);
+        verify(deviceService, times(1)).getActiveDevicesForUsers(Set.of(UUID.fromString(userId)));
+        verify(deviceService, times(1)).getActiveDevicesForUser(UUID.fromString(userId));
     }
 
     @Test
     void notifyNewHangout_ExcludesCreator() {
         // Given: Creator is a member of the group
         String creatorId = "00000000-0000-0000-0000-000000000001";
-        String hangoutId = "00000000-0000-0000-0000-000000000100";
         String groupId = "00000000-0000-0000-0000-000000000201";
         List<String> groupIds = Arrays.asList(groupId);
 
@@ -165,23 +217,15 @@ class NotificationServiceImplTest {
         notificationService.notifyNewHangout(testHangout, creatorId, "Creator Name");
 
         // Then: Should only send to member, not creator
-        verify(pushNotificationService, times(1)).sendNewHangoutNotification(
-            eq("token-member"),
-            anyString(),
-            anyString(),
-            anyString(),
-            anyString(),
-            anyString()
-        );
+        verifyApnsBulk("token-member");
         verify(deviceService, never()).getActiveDevicesForUser(UUID.fromString(creatorId));
     }
 
     @Test
-    void notifyNewHangout_WithMultipleDevices_SendsToAllDevices() {
+    void notifyNewHangout_WithMultipleDevices_SendsToAllDevicesInOneBatch() {
         // Given: User has multiple iOS devices
         String userId = "00000000-0000-0000-0000-000000000002";
         String creatorId = "00000000-0000-0000-0000-000000000001";
-        String hangoutId = "00000000-0000-0000-0000-000000000100";
         String groupId = "00000000-0000-0000-0000-000000000201";
         List<String> groupIds = Arrays.asList(groupId);
 
@@ -190,6 +234,8 @@ class NotificationServiceImplTest {
         GroupMembership membership = new GroupMembership(groupId, userId, "Test Group");
         when(groupRepository.findMembersByGroupId(groupId)).thenReturn(Arrays.asList(membership));
         when(groupRepository.findById(groupId)).thenReturn(Optional.of(testGroup));
+        when(textGenerator.getNewHangoutBody("Creator Name", "Test Hangout", "Test Group"))
+            .thenReturn("Creator Name created Test Hangout in Test Group");
 
         // User has 3 devices
         Device device1 = new Device("token-1", UUID.fromString(userId), Device.Platform.IOS);
@@ -201,22 +247,17 @@ class NotificationServiceImplTest {
         // When
         notificationService.notifyNewHangout(testHangout, creatorId, "Creator Name");
 
-        // Then: Should send to all 3 devices
-        verify(pushNotificationService, times(3)).sendNewHangoutNotification(
-            anyString(),
-            eq(hangoutId),
-            eq(groupId),
-            eq("Test Hangout"),
-            eq("Test Group"),
-            eq("Creator Name")
-        );
+        // Then: One bulk send covering all 3 devices, body built once
+        PushMessage message = verifyApnsBulk("token-1", "token-2", "token-3");
+        assertThat(message.getTitle()).isEqualTo(NotificationTextGenerator.NEW_HANGOUT_TITLE);
+        assertThat(message.getBody()).isEqualTo("Creator Name created Test Hangout in Test Group");
+        verify(fcmNotificationService, never()).sendBulk(any(), anyList());
     }
 
     @Test
     void notifyNewHangout_WithNoGroups_DoesNothing() {
         // Given: Empty group list
         String creatorId = "00000000-0000-0000-0000-000000000001";
-        String hangoutId = "00000000-0000-0000-0000-000000000100";
 
         testHangout.setAssociatedGroups(Arrays.asList());
 
@@ -225,16 +266,13 @@ class NotificationServiceImplTest {
 
         // Then: Should not query anything or send notifications
         verify(groupRepository, never()).findMembersByGroupId(anyString());
-        verify(pushNotificationService, never()).sendNewHangoutNotification(
-            anyString(), anyString(), anyString(), anyString(), anyString(), anyString()
-        );
+        verify(pushNotificationService, never()).sendBulk(any(), anyList());
     }
 
     @Test
     void notifyNewHangout_WithNullGroups_DoesNothing() {
         // Given: Null group list
         String creatorId = "00000000-0000-0000-0000-000000000001";
-        String hangoutId = "00000000-0000-0000-0000-000000000100";
 
         testHangout.setAssociatedGroups(null);
 
@@ -243,9 +281,7 @@ class NotificationServiceImplTest {
 
         // Then: Should not query anything or send notifications
         verify(groupRepository, never()).findMembersByGroupId(anyString());
-        verify(pushNotificationService, never()).sendNewHangoutNotification(
-            anyString(), anyString(), anyString(), anyString(), anyString(), anyString()
-        );
+        verify(pushNotificationService, never()).sendBulk(any(), anyList());
     }
 
     @Test
@@ -253,7 +289,6 @@ class NotificationServiceImplTest {
         // Given: User has no devices
         String userId = "00000000-0000-0000-0000-000000000002";
         String creatorId = "00000000-0000-0000-0000-000000000001";
-        String hangoutId = "00000000-0000-0000-0000-000000000100";
         String groupId = "00000000-0000-0000-0000-000000000201";
         List<String> groupIds = Arrays.asList(groupId);
 
@@ -270,9 +305,8 @@ class NotificationServiceImplTest {
         notificationService.notifyNewHangout(testHangout, creatorId, "Creator Name");
 
         // Then: Should not crash, just log and continue
-        verify(pushNotificationService, never()).sendNewHangoutNotification(
-            anyString(), anyString(), anyString(), anyString(), anyString(), anyString()
-        );
+        verify(pushNotificationService, never()).sendBulk(any(), anyList());
+        verify(fcmNotificationService, never()).sendBulk(any(), anyList());
     }
 
     @Test
@@ -280,7 +314,6 @@ class NotificationServiceImplTest {
         // Given: One group doesn't exist
         String userId = "00000000-0000-0000-0000-000000000002";
         String creatorId = "00000000-0000-0000-0000-000000000001";
-        String hangoutId = "00000000-0000-0000-0000-000000000100";
         String groupId = "00000000-0000-0000-0000-000000000201";
         String nonExistentGroupId = "00000000-0000-0000-0000-000000000299";
         List<String> groupIds = Arrays.asList(groupId, nonExistentGroupId);
@@ -301,16 +334,13 @@ class NotificationServiceImplTest {
         notificationService.notifyNewHangout(testHangout, creatorId, "Creator Name");
 
         // Then: Should still send notification for the valid group
-        verify(pushNotificationService, times(1)).sendNewHangoutNotification(
-            anyString(), anyString(), anyString(), anyString(), anyString(), anyString()
-        );
+        verifyApnsBulk("token-123");
     }
 
     @Test
-    void notifyNewHangout_WhenPushNotificationFails_ContinuesWithOtherUsers() {
-        // Given: Multiple users, one fails
+    void notifyNewHangout_WhenDeviceLookupFails_ContinuesWithOtherUsers() {
+        // Given: Multiple users, device lookup fails for one
         String creatorId = "00000000-0000-0000-0000-000000000001";
-        String hangoutId = "00000000-0000-0000-0000-000000000100";
         String groupId = "00000000-0000-0000-0000-000000000201";
         List<String> groupIds = Arrays.asList(groupId);
 
@@ -323,24 +353,47 @@ class NotificationServiceImplTest {
 
         when(groupRepository.findById(groupId)).thenReturn(Optional.of(testGroup));
 
-        Device device1 = new Device("token-1", UUID.fromString("00000000-0000-0000-0000-000000000002"), Device.Platform.IOS);
         Device device2 = new Device("token-2", UUID.fromString("00000000-0000-0000-0000-000000000003"), Device.Platform.IOS);
-        when(deviceService.getActiveDevicesForUser(UUID.fromString("00000000-0000-0000-0000-000000000002"))).thenReturn(Arrays.asList(device1));
+        when(deviceService.getActiveDevicesForUser(UUID.fromString("00000000-0000-0000-0000-000000000002")))
+            .thenThrow(new RuntimeException("Device lookup failed"));
         when(deviceService.getActiveDevicesForUser(UUID.fromString("00000000-0000-0000-0000-000000000003"))).thenReturn(Arrays.asList(device2));
 
-        // First notification fails, second succeeds
-        doThrow(new RuntimeException("Push notification failed"))
-            .when(pushNotificationService).sendNewHangoutNotification(
-                eq("token-1"), anyString(), anyString(), anyString(), anyString(), anyString()
-            );
-
         // When
         notificationService.notifyNewHangout(testHangout, creatorId, "Creator Name");
 
         // Then: Should still send to second user
-        verify(pushNotificationService, times(2)).sendNewHangoutNotification(
-            anyString(), anyString(), anyString(), anyString(), anyString(), anyString()
-        );
+        verifyApnsBulk("token-2");
+    }
+
+    @Test
+    void notifyNewHangout_WhenApnsBulkFails_StillSendsViaFcm() {
+        // Given: One iOS user and one Android user, APNs bulk send throws
+        String creatorId = "00000000-0000-0000-0000-000000000001";
+        String groupId = "00000000-0000-0000-0000-000000000201";
+        testHangout.setAssociatedGroups(List.of(groupId));
+
+        GroupMembership membership1 = new GroupMembership(groupId, "00000000-0000-0000-0000-000000000002", "Test Group");
+        GroupMembership membership2 = new GroupMembership(groupId, "00000000-0000-0000-0000-000000000003", "Test Group");
+        when(groupRepository.findMembersByGroupId(groupId)).thenReturn(Arrays.asList(membership1, membership2));
+        when(groupRepository.findById(groupId)).thenReturn(Optional.of(testGroup));
+
+        Device iosDevice = new Device("ios-token", UUID.fromString("00000000-0000-0000-0000-000000000002"), Device.Platform.IOS);
+        Device androidDevice = new Device("android-token", UUID.fromString("00000000-0000-0000-0000-000000000003"), Device.Platform.ANDROID);
+        when(deviceService.getActiveDevicesForUser(UUID.fromString("00000000-0000-0000-0000-000000000002"))).thenReturn(List.of(iosDevice));
+        when(deviceService.getActiveDevicesForUser(UUID.fromString("00000000-0000-0000-0000-000000000003"))).thenReturn(List.of(androidDevice));
+
+        when(pushNotificationService.sendBulk(any(), anyList()))
+            .thenReturn(CompletableFuture.failedFuture(new RuntimeException("APNs unavailable")));
+
+        // When
+        notificationService.notifyNewHangout(testHangout, creatorId, "Creator Name");
+
+        // Then: Android delivery unaffected, failure counted for iOS
+        verifyFcmBulk("android-token");
+        verify(meterRegistry).counter("push_fanout_total",
+            "type", "new_hangout", "platform", "ios", "status", "failure");
+        verify(meterRegistry).counter("push_fanout_total",
+            "type", "new_hangout", "platform", "android", "status", "success");
     }
 
     @Test
@@ -366,60 +419,46 @@ class NotificationServiceImplTest {
         notificationService.notifyNewHangout(testHangout, creatorId, "Creator Name");
 
         // Then: Should send via FCM, not APNs
-        verify(fcmNotificationService, times(1)).sendNewHangoutNotification(
-            eq("android-token-123"),
-            eq(hangoutId),
-            eq(groupId),
-            eq("Test Hangout"),
-            eq("Test Group"),
-            eq("Creator Name")
-        );
-        verify(pushNotificationService, never()).sendNewHangoutNotification(
-            anyString(), anyString(), anyString(), anyString(), anyString(), anyString()
-        );
+        PushMessage message = verifyFcmBulk("android-token-123");
+        assertThat(message.getData())
+            .containsEntry("type", "new_hangout")
+            .containsEntry("hangoutId", hangoutId)
+            .containsEntry("groupId", groupId);
+        verify(pushNotificationService, never()).sendBulk(any(), anyList());
     }
 
     @Test
     void notifyNewHangout_WithMixedDevices_SendsToBothPlatforms() {
-        // Given: User has both iOS and Android devices
+        // Given: Users with iOS and Android devices
         String userId = "00000000-0000-0000-0000-000000000002";
+        String otherUserId = "00000000-0000-0000-0000-000000000003";
         String creatorId = "00000000-0000-0000-0000-000000000001";
-        String hangoutId = "00000000-0000-0000-0000-000000000100";
         String groupId = "00000000-0000-0000-0000-000000000201";
         List<String> groupIds = Arrays.asList(groupId);
 
         testHangout.setAssociatedGroups(groupIds);
 
         GroupMembership membership = new GroupMembership(groupId, userId, "Test Group");
-        when(groupRepository.findMembersByGroupId(groupId)).thenReturn(Arrays.asList(membership));
+        GroupMembership otherMembership = new GroupMembership(groupId, otherUserId, "Test Group");
+        when(groupRepository.findMembersByGroupId(groupId)).thenReturn(Arrays.asList(membership, otherMembership));
         when(groupRepository.findById(groupId)).thenReturn(Optional.of(testGroup));
 
-        // User has both iOS and Android devices
         Device iosDevice = new Device("ios-token-123", UUID.fromString(userId), Device.Platform.IOS);
         Device androidDevice = new Device("android-token-456", UUID.fromString(userId), Device.Platform.ANDROID);
+        Device otherIosDevice = new Device("ios-token-789", UUID.fromString(otherUserId), Device.Platform.IOS);
         when(deviceService.getActiveDevicesForUser(UUID.fromString(userId)))
             .thenReturn(Arrays.asList(iosDevice, androidDevice));
+        when(deviceService.getActiveDevicesForUser(UUID.fromString(otherUserId)))
+            .thenReturn(Arrays.asList(otherIosDevice));
 
         // When
         notificationService.notifyNewHangout(testHangout, creatorId, "Creator Name");
 
-        // Then: Should send to both platforms
-        verify(pushNotificationService, times(1)).sendNewHangoutNotification(
-            eq("ios-token-123"),
-            eq(hangoutId),
-            eq(groupId),
-            eq("Test Hangout"),
-            eq("Test Group"),
-            eq("Creator Name")
-        );
-        verify(fcmNotificationService, times(1)).sendNewHangoutNotification(
-            eq("android-token-456"),
-            eq(hangoutId),
-            eq(groupId),
-            eq("Test Hangout"),
-            eq("Test Group"),
-            eq("Creator Name")
-        );
+        // Then: One bulk send per platform, sharing the same message
+        PushMessage iosMessage = verifyApnsBulk("ios-token-123", "ios-token-789");
+        PushMessage androidMessage = verifyFcmBulk("android-token-456");
+        assertThat(androidMessage).isSameAs(iosMessage);
+        verify(meterRegistry).timer("push_fanout_duration", "type", "new_hangout");
     }
 
     // ================= Group Member Added Notification Tests =================
@@ -643,11 +682,13 @@ class NotificationServiceImplTest {
             notificationService.notifyHangoutUpdated(HANGOUT_ID, HANGOUT_TITLE, groupIds,
                 "time", UPDATER_USER_ID, interestedUserIds, null);
 
-            // Then: notifications sent to both users
-            verify(pushNotificationService).sendHangoutUpdatedNotification(
-                eq("ios-token-user1"), eq(HANGOUT_ID), eq(GROUP_ID), eq(HANGOUT_TITLE), eq("time"), isNull());
-            verify(pushNotificationService).sendHangoutUpdatedNotification(
-                eq("ios-token-user2"), eq(HANGOUT_ID), eq(GROUP_ID), eq(HANGOUT_TITLE), eq("time"), isNull());
+            // Then: one bulk send reaches both users
+            PushMessage message = verifyApnsBulk("ios-token-user1", "ios-token-user2");
+            assertThat(message.getType()).isEqualTo("hangout_updated");
+            assertThat(message.getData())
+                .containsEntry("hangoutId", HANGOUT_ID)
+                .containsEntry("groupId", GROUP_ID)
+                .containsEntry("changeType", "time");
         }
 
         @Test
@@ -656,7 +697,6 @@ class NotificationServiceImplTest {
             Set<String> interestedUserIds = new HashSet<>(Set.of(UPDATER_USER_ID, USER_1_ID));
             List<String> groupIds = List.of(GROUP_ID);
 
-            Device updaterDevice = createDevice("ios-token-updater", Device.Platform.IOS);
             Device userDevice = createDevice("ios-token-user1", Device.Platform.IOS);
 
             when(deviceService.getActiveDevicesForUser(UUID.fromString(USER_1_ID)))
@@ -666,9 +706,8 @@ class NotificationServiceImplTest {
             notificationService.notifyHangoutUpdated(HANGOUT_ID, HANGOUT_TITLE, groupIds,
                 "time", UPDATER_USER_ID, interestedUserIds, null);
 
-            // Then: only 1 notification sent (to the other user, not the updater)
-            verify(pushNotificationService, times(1)).sendHangoutUpdatedNotification(
-                eq("ios-token-user1"), eq(HANGOUT_ID), eq(GROUP_ID), eq(HANGOUT_TITLE), eq("time"), isNull());
+            // Then: only the other user's device is sent to, not the updater's
+            verifyApnsBulk("ios-token-user1");
             verify(deviceService, never()).getActiveDevicesForUser(UUID.fromString(UPDATER_USER_ID));
         }
 
@@ -683,10 +722,8 @@ class NotificationServiceImplTest {
                 "time", UPDATER_USER_ID, interestedUserIds, null);
 
             // Then: no calls to notification services
-            verify(pushNotificationService, never()).sendHangoutUpdatedNotification(
-                anyString(), anyString(), anyString(), anyString(), anyString(), any());
-            verify(fcmNotificationService, never()).sendHangoutUpdatedNotification(
-                anyString(), anyString(), anyString(), anyString(), anyString(), any());
+            verify(pushNotificationService, never()).sendBulk(any(), anyList());
+            verify(fcmNotificationService, never()).sendBulk(any(), anyList());
             verify(deviceService, never()).getActiveDevicesForUser(any());
         }
 
@@ -702,8 +739,7 @@ class NotificationServiceImplTest {
 
             // Then: no calls to device service
             verify(deviceService, never()).getActiveDevicesForUser(any());
-            verify(pushNotificationService, never()).sendHangoutUpdatedNotification(
-                anyString(), anyString(), anyString(), anyString(), anyString(), any());
+            verify(pushNotificationService, never()).sendBulk(any(), anyList());
         }
 
         @Test
@@ -750,44 +786,38 @@ class NotificationServiceImplTest {
 
             when(deviceService.getActiveDevicesForUser(UUID.fromString(USER_1_ID)))
                 .thenReturn(List.of(iosDevice, androidDevice));
+            when(textGenerator.getHangoutUpdatedBody(HANGOUT_TITLE, "location", "Central Park"))
+                .thenReturn("Test Hangout moved to Central Park");
 
             // When
             notificationService.notifyHangoutUpdated(HANGOUT_ID, HANGOUT_TITLE, groupIds,
                 "location", UPDATER_USER_ID, interestedUserIds, "Central Park");
 
-            // Then: both platforms receive notifications with location name
-            verify(pushNotificationService).sendHangoutUpdatedNotification(
-                eq("ios-token"), eq(HANGOUT_ID), eq(GROUP_ID), eq(HANGOUT_TITLE), eq("location"), eq("Central Park"));
-            verify(fcmNotificationService).sendHangoutUpdatedNotification(
-                eq("android-token"), eq(HANGOUT_ID), eq(GROUP_ID), eq(HANGOUT_TITLE), eq("location"), eq("Central Park"));
+            // Then: both platforms receive the body built with the location name
+            PushMessage iosMessage = verifyApnsBulk("ios-token");
+            verifyFcmBulk("android-token");
+            assertThat(iosMessage.getBody()).isEqualTo("Test Hangout moved to Central Park");
         }
 
         @Test
-        void notifyHangoutUpdated_WhenDeviceFails_ContinuesToNextUser() {
-            // Given: 2 users, first user's device throws exception
+        void notifyHangoutUpdated_WhenDeviceLookupFails_ContinuesToNextUser() {
+            // Given: 2 users, first user's device lookup throws exception
             Set<String> interestedUserIds = new HashSet<>(Set.of(USER_1_ID, USER_2_ID));
             List<String> groupIds = List.of(GROUP_ID);
 
-            Device device1 = createDevice("ios-token-fail", Device.Platform.IOS);
             Device device2 = createDevice("ios-token-success", Device.Platform.IOS);
 
             when(deviceService.getActiveDevicesForUser(UUID.fromString(USER_1_ID)))
-                .thenReturn(List.of(device1));
+                .thenThrow(new RuntimeException("DynamoDB error"));
             when(deviceService.getActiveDevicesForUser(UUID.fromString(USER_2_ID)))
                 .thenReturn(List.of(device2));
 
-            // First device throws exception
-            doThrow(new RuntimeException("APNS error"))
-                .when(pushNotificationService).sendHangoutUpdatedNotification(
-                    eq("ios-token-fail"), anyString(), anyString(), anyString(), anyString(), any());
-
             // When
             notificationService.notifyHangoutUpdated(HANGOUT_ID, HANGOUT_TITLE, groupIds,
                 "time", UPDATER_USER_ID, interestedUserIds, null);
 
             // Then: second user still receives notification, no exception propagated
-            verify(pushNotificationService).sendHangoutUpdatedNotification(
-                eq("ios-token-success"), eq(HANGOUT_ID), eq(GROUP_ID), eq(HANGOUT_TITLE), eq("time"), isNull());
+            verifyApnsBulk("ios-token-success");
         }
 
         @Test
@@ -808,9 +838,9 @@ class NotificationServiceImplTest {
             notificationService.notifyHangoutUpdated(HANGOUT_ID, HANGOUT_TITLE, groupIds,
                 "time_and_location", UPDATER_USER_ID, interestedUserIds, "Coffee Shop");
 
-            // Then: second user still receives notification with location
-            verify(pushNotificationService).sendHangoutUpdatedNotification(
-                eq("ios-token-user2"), eq(HANGOUT_ID), eq(GROUP_ID), eq(HANGOUT_TITLE), eq("time_and_location"), eq("Coffee Shop"));
+            // Then: second user still receives notification
+            PushMessage message = verifyApnsBulk("ios-token-user2");
+            assertThat(message.getData()).containsEntry("changeType", "time_and_location");
         }
     }
 
@@ -1397,10 +1427,11 @@ class NotificationServiceImplTest {
                     DRIVER_USER_ID, DRIVER_NAME, needsRideUserIds);
 
             // Then
-            verify(pushNotificationService).sendCarpoolNewCarNotification(
-                eq("ios-token-1"), eq(HANGOUT_ID), eq(GROUP_ID), eq(HANGOUT_TITLE), eq(DRIVER_NAME));
-            verify(pushNotificationService).sendCarpoolNewCarNotification(
-                eq("ios-token-2"), eq(HANGOUT_ID), eq(GROUP_ID), eq(HANGOUT_TITLE), eq(DRIVER_NAME));
+            PushMessage message = verifyApnsBulk("ios-token-1", "ios-token-2");
+            assertThat(message.getType()).isEqualTo("carpool_new_car");
+            assertThat(message.getData())
+                .containsEntry("hangoutId", HANGOUT_ID)
+                .containsEntry("groupId", GROUP_ID);
         }
 
         @Test
@@ -1419,8 +1450,7 @@ class NotificationServiceImplTest {
 
             // Then: driver not notified
             verify(deviceService, never()).getActiveDevicesForUser(UUID.fromString(DRIVER_USER_ID));
-            verify(pushNotificationService, times(1)).sendCarpoolNewCarNotification(
-                anyString(), anyString(), anyString(), anyString(), anyString());
+            verifyApnsBulk("ios-token-1");
         }
 
         @Test
@@ -1463,19 +1493,33 @@ class NotificationServiceImplTest {
                     DRIVER_USER_ID, DRIVER_NAME, needsRideUserIds);
 
             // Then
-            verify(pushNotificationService).sendCarpoolNewCarNotification(
-                eq("ios-token"), eq(HANGOUT_ID), eq(GROUP_ID), eq(HANGOUT_TITLE), eq(DRIVER_NAME));
-            verify(fcmNotificationService).sendCarpoolNewCarNotification(
-                eq("android-token"), eq(HANGOUT_ID), eq(GROUP_ID), eq(HANGOUT_TITLE), eq(DRIVER_NAME));
+            verifyApnsBulk("ios-token");
+            verifyFcmBulk("android-token");
+        }
+
+        @Test
+        void notifyCarpoolNewCar_WithoutGroups_OmitsGroupId() {
+            // Given: hangout has no associated groups
+            Device device1 = createDevice("ios-token-1", Device.Platform.IOS);
+            when(deviceService.getActiveDevicesForUser(UUID.fromString(USER_1_ID)))
+                .thenReturn(List.of(device1));
+
+            // When
+            notificationService.notifyCarpoolNewCar(HANGOUT_ID, HANGOUT_TITLE, null,
+                    DRIVER_USER_ID, DRIVER_NAME, List.of(USER_1_ID));
+
+            // Then
+            PushMessage message = verifyApnsBulk("ios-token-1");
+            assertThat(message.getData()).doesNotContainKey("groupId");
         }
 
         @Test
-        void notifyCarpoolNewCar_WhenDeviceFails_ContinuesToNextUser() {
+        void notifyCarpoolNewCar_WhenFcmBulkFails_StillSendsViaApns() {
             // Given
             List<String> groupIds = List.of(GROUP_ID);
             List<String> needsRideUserIds = List.of(USER_1_ID, USER_2_ID);
 
-            Device device1 = createDevice("ios-token-fail", Device.Platform.IOS);
+            Device device1 = createDevice("android-token-fail", Device.Platform.ANDROID);
             Device device2 = createDevice("ios-token-success", Device.Platform.IOS);
 
             when(deviceService.getActiveDevicesForUser(UUID.fromString(USER_1_ID)))
@@ -1483,17 +1527,15 @@ class NotificationServiceImplTest {
             when(deviceService.getActiveDevicesForUser(UUID.fromString(USER_2_ID)))
                 .thenReturn(List.of(device2));
 
-            doThrow(new RuntimeException("APNS error"))
-                .when(pushNotificationService).sendCarpoolNewCarNotification(
-                    eq("ios-token-fail"), anyString(), anyString(), anyString(), anyString());
+            when(fcmNotificationService.sendBulk(any(), anyList()))
+                .thenThrow(new RuntimeException("FCM error"));
 
             // When
             notificationService.notifyCarpoolNewCar(HANGOUT_ID, HANGOUT_TITLE, groupIds,
                     DRIVER_USER_ID, DRIVER_NAME, needsRideUserIds);
 
-            // Then: second user still receives notification
-            verify(pushNotificationService).sendCarpoolNewCarNotification(
-                eq("ios-token-success"), eq(HANGOUT_ID), eq(GROUP_ID), eq(HANGOUT_TITLE), eq(DRIVER_NAME));
+            // Then: iOS user still receives notification
+            verifyApnsBulk("ios-token-success");
         }
     }
 
@@ -1586,4 +1628,52 @@ class NotificationServiceImplTest {
                 eq("ios-token-123"), eq(HANGOUT_ID), isNull(), eq(HANGOUT_TITLE), eq(DRIVER_NAME));
         }
     }
-}
\ No newline at end of file
+
+    // ================= Momentum Change Notification Tests =================
+
+    @Nested
+    class NotifyMomentumChangeTests {
+
+        private static final String HANGOUT_ID = "00000000-0000-0000-0000-000000000100";
+        private static final String GROUP_ID = "00000000-0000-0000-0000-000000000201";
+        private static final String USER_1_ID = "00000000-0000-0000-0000-000000000002";
+        private static final String USER_2_ID = "00000000-0000-0000-0000-000000000003";
+
+        @Test
+        void notifyMomentumChange_SendsOneBulkPerPlatformAndCountsDeliveries() {
+            // Given
+            when(groupRepository.findMembersByGroupId(GROUP_ID)).thenReturn(List.of(
+                new GroupMembership(GROUP_ID, USER_1_ID, "Test Group"),
+                new GroupMembership(GROUP_ID, USER_2_ID, "Test Group")));
+            when(deviceService.getActiveDevicesForUser(UUID.fromString(USER_1_ID)))
+                .thenReturn(List.of(new Device("ios-token", UUID.fromString(USER_1_ID), Device.Platform.IOS)));
+            when(deviceService.getActiveDevicesForUser(UUID.fromString(USER_2_ID)))
+                .thenReturn(List.of(new Device("android-token", UUID.fromString(USER_2_ID), Device.Platform.ANDROID)));
+
+            // When
+            notificationService.notifyMomentumChange(HANGOUT_ID, "Test Hangout", GROUP_ID,
+                Set.of(GROUP_ID), "It's happening!", "confirmed");
+
+            // Then
+            PushMessage message = verifyApnsBulk("ios-token");
+            verifyFcmBulk("android-token");
+            assertThat(message.getType()).isEqualTo("momentum_change");
+            assertThat(message.getBody()).isEqualTo("It's happening!");
+            verify(meterRegistry).counter("momentum_notification_total",
+                "status", "success", "signal_type", "confirmed");
+            verify(mockCounter, atLeastOnce()).increment(2.0);
+        }
+
+        @Test
+        void notifyMomentumChange_WithNoGroups_DoesNothing() {
+            // When
+            notificationService.notifyMomentumChange(HANGOUT_ID, "Test Hangout", GROUP_ID,
+                Set.of(), "It's happening!", "confirmed");
+
+            // Then
+            verifyNoInteractions(deviceService);
+            verifyNoInteractions(pushNotificationService);
+            verifyNoInteractions(fcmNotificationService);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.bbthechange.inviter.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointerDenormalizerTest {
+
+    private static final String HANGOUT_ID = "12345678-1234-1234-1234-123456789012";
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void schedule_WithZeroWindow_RunsInline() {
+        // Given
+        PointerDenormalizer denormalizer = new PointerDenormalizer(meterRegistry, 0, 1);
+        AtomicInteger runs = new AtomicInteger();
+
+        // When
+        denormalizer.schedule(HANGOUT_ID, "polls", runs::incrementAndGet);
+
+        // Then
+        assertThat(runs).hasValue(1);
+        assertThat(rebuilds("polls", "success")).isEqualTo(1.0);
+    }
+
+    @Test
+    void schedule_BurstWithinWindow_RunsLatestTaskOnce() throws Exception {
+        // Given
+        PointerDenormalizer denormalizer = new PointerDenormalizer(meterRegistry, 200, 1);
+        List<Integer> ran = new CopyOnWriteArrayList<>();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            int vote = i;
+            denormalizer.schedule(HANGOUT_ID, "polls", () -> ran.add(vote));
+        }
+        denormalizer.shutdown();
+
+        // Then
+        assertThat(ran).containsExactly(9);
+        assertThat(meterRegistry.counter("pointer_denormalizer_requests_total", "type", "polls").count())
+                .isEqualTo(10.0);
+        assertThat(rebuilds("polls", "success")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("pointer_denormalizer_lag").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void schedule_DifferentTypesForSameHangout_RunSeparately() throws Exception {
+        // Given
+        PointerDenormalizer denormalizer = new PointerDenormalizer(meterRegistry, 50, 1);
+        AtomicInteger polls = new AtomicInteger();
+        AtomicInteger carpool = new AtomicInteger();
+
+        // When
+        denormalizer.schedule(HANGOUT_ID, "polls", polls::incrementAndGet);
+        denormalizer.schedule(HANGOUT_ID, "carpool", carpool::incrementAndGet);
+        denormalizer.shutdown();
+
+        // Then
+        assertThat(polls).hasValue(1);
+        assertThat(carpool).hasValue(1);
+    }
+
+    @Test
+    void schedule_WhenRebuildFails_RetriesUntilItSucceeds() throws Exception {
+        // Given
+        PointerDenormalizer denormalizer = new PointerDenormalizer(meterRegistry, 20, 1);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        denormalizer.schedule(HANGOUT_ID, "interest", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("throttled");
+            }
+        });
+        denormalizer.shutdown();
+
+        // Then
+        assertThat(attempts).hasValue(2);
+        assertThat(rebuilds("interest", "error")).isEqualTo(1.0);
+        assertThat(rebuilds("interest", "success")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("pointer_denormalizer_queue_depth").gauge().value()).isZero();
+    }
+
+    @Test
+    void stop_DrainsQueuedRebuildsBeforeTimestampServiceShutsDown() {
+        // Given
+        PointerDenormalizer denormalizer = new PointerDenormalizer(meterRegistry, 200, 1);
+        AtomicInteger runs = new AtomicInteger();
+        denormalizer.start();
+        denormalizer.schedule(HANGOUT_ID, "interest", runs::incrementAndGet);
+
+        // When
+        denormalizer.stop();
+
+        // Then - drained in the lifecycle stop, which precedes every @PreDestroy flush
+        assertThat(runs).hasValue(1);
+        assertThat(denormalizer.isRunning()).isFalse();
+        assertThat(denormalizer.getPhase()).isLessThan(SmartLifecycle.DEFAULT_PHASE - 2048);
+    }
+
+    private double rebuilds(String type, String status) {
+        return meterRegistry.counter("pointer_denormalizer_rebuilds_total", "type", type, "status", status).count();
+    }
+}
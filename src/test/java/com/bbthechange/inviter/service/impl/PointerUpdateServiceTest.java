@@ -3,7 +3,9 @@ package com.bbthechange.inviter.service.impl;
 import com.bbthechange.inviter.model.Hangout;
 import com.bbthechange.inviter.model.HangoutPointer;
 import com.bbthechange.inviter.repository.GroupRepository;
+import com.bbthechange.inviter.service.GroupFeedSnapshotCache;
 import com.bbthechange.inviter.testutil.HangoutPointerTestBuilder;
+import com.bbthechange.inviter.util.HangoutPointerPatch;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,8 +14,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
@@ -30,6 +34,12 @@ class PointerUpdateServiceTest {
     @Mock
     private GroupRepository groupRepository;
 
+    @Mock
+    private Executor fanOutExecutor;
+
+    @Mock
+    private GroupFeedSnapshotCache groupFeedSnapshotCache;
+
     @InjectMocks
     private PointerUpdateService pointerUpdateService;
 
@@ -47,6 +57,12 @@ class PointerUpdateServiceTest {
             .forHangout(hangoutId)
             .withTitle("Test Hangout")
             .build();
+
+        // Fan-out work runs inline on the calling thread
+        lenient().doAnswer(inv -> {
+            ((Runnable) inv.getArgument(0)).run();
+            return null;
+        }).when(fanOutExecutor).execute(any(Runnable.class));
     }
 
     // ============================================================================
@@ -73,6 +89,37 @@ class PointerUpdateServiceTest {
         assertThat(pointer.getTitle()).isEqualTo("Updated Title");
     }
 
+    @Test
+    void updatePointerWithRetry_WithSuccess_PatchesFeedSnapshots() {
+        // Given
+        when(groupRepository.findHangoutPointer(groupId, hangoutId))
+            .thenReturn(Optional.of(pointer));
+
+        // When
+        pointerUpdateService.updatePointerWithRetry(groupId, hangoutId,
+            p -> p.setTitle("Updated Title"),
+            "test update");
+
+        // Then
+        verify(groupFeedSnapshotCache).applyPointerUpdate(pointer);
+    }
+
+    @Test
+    void updatePointerWithRetry_WhenSaveFails_DoesNotPatchFeedSnapshots() {
+        // Given
+        when(groupRepository.findHangoutPointer(groupId, hangoutId))
+            .thenReturn(Optional.of(pointer));
+        doThrow(new RuntimeException("boom")).when(groupRepository).saveHangoutPointer(any(HangoutPointer.class));
+
+        // When
+        pointerUpdateService.updatePointerWithRetry(groupId, hangoutId,
+            p -> p.setTitle("Updated Title"),
+            "test update");
+
+        // Then
+        verifyNoInteractions(groupFeedSnapshotCache);
+    }
+
     @Test
     void updatePointerWithRetry_WithUpdateFunction_ShouldApplyUpdatesCorrectly() {
         // Given
@@ -573,4 +620,74 @@ class PointerUpdateServiceTest {
         hangout.setEndTimestamp(1700007200L);
         return hangout;
     }
+
+    // ============================================================================
+    // FIELD-LEVEL PATCH TESTS
+    // ============================================================================
+
+    @Test
+    void patchPointers_WithMultipleGroups_PatchesEachGroupWithoutReading() {
+        // Given
+        String otherGroupId = UUID.randomUUID().toString();
+        HangoutPointerPatch patch = HangoutPointerPatch.interestLevels(List.of());
+        when(groupRepository.patchHangoutPointer(anyString(), eq(hangoutId), eq(patch))).thenReturn(true);
+
+        // When
+        pointerUpdateService.patchPointers(List.of(groupId, otherGroupId), hangoutId, patch, "interest levels");
+
+        // Then
+        verify(groupRepository).patchHangoutPointer(groupId, hangoutId, patch);
+        verify(groupRepository).patchHangoutPointer(otherGroupId, hangoutId, patch);
+        verify(groupRepository, never()).findHangoutPointer(anyString(), anyString());
+        verify(groupRepository, never()).saveHangoutPointer(any());
+        verify(fanOutExecutor, times(2)).execute(any(Runnable.class));
+        verify(groupFeedSnapshotCache).applyPatch(groupId, hangoutId, patch);
+        verify(groupFeedSnapshotCache).applyPatch(otherGroupId, hangoutId, patch);
+    }
+
+    @Test
+    void patchPointers_WithSingleGroup_RunsOnCallingThread() {
+        // Given
+        HangoutPointerPatch patch = HangoutPointerPatch.interestLevels(List.of());
+        when(groupRepository.patchHangoutPointer(groupId, hangoutId, patch)).thenReturn(true);
+
+        // When
+        pointerUpdateService.patchPointers(List.of(groupId), hangoutId, patch, "interest levels");
+
+        // Then
+        verify(groupRepository).patchHangoutPointer(groupId, hangoutId, patch);
+        verifyNoInteractions(fanOutExecutor);
+    }
+
+    @Test
+    void patchPointers_WhenOneGroupFails_StillPatchesOthers() {
+        // Given
+        String otherGroupId = UUID.randomUUID().toString();
+        HangoutPointerPatch patch = HangoutPointerPatch.interestLevels(List.of());
+        when(groupRepository.patchHangoutPointer(groupId, hangoutId, patch))
+            .thenThrow(new RuntimeException("throttled"));
+        when(groupRepository.patchHangoutPointer(otherGroupId, hangoutId, patch)).thenReturn(true);
+
+        // When
+        assertThatCode(() -> pointerUpdateService.patchPointers(
+            List.of(groupId, otherGroupId), hangoutId, patch, "interest levels"))
+            .doesNotThrowAnyException();
+
+        // Then
+        verify(groupRepository).patchHangoutPointer(otherGroupId, hangoutId, patch);
+        verify(groupFeedSnapshotCache, never()).applyPatch(eq(groupId), any(), any());
+    }
+
+    @Test
+    void patchPointers_WhenPointerMissing_DoesNotTouchSnapshots() {
+        // Given
+        HangoutPointerPatch patch = HangoutPointerPatch.interestLevels(List.of());
+        when(groupRepository.patchHangoutPointer(groupId, hangoutId, patch)).thenReturn(false);
+
+        // When
+        pointerUpdateService.patchPointers(List.of(groupId), hangoutId, patch, "interest levels");
+
+        // Then
+        verifyNoInteractions(groupFeedSnapshotCache);
+    }
 }
@@ -14,6 +14,7 @@ import com.bbthechange.inviter.testutil.HangoutPointerTestBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -42,6 +43,9 @@ class PollServiceImplTest {
     @Mock
     private PointerUpdateService pointerUpdateService;
 
+    @Mock
+    private PointerDenormalizer pointerDenormalizer;
+
     @Mock
     private GroupTimestampService groupTimestampService;
 
@@ -70,10 +74,25 @@ class PollServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        // Debounced pointer rebuilds run inline so tests can verify the resulting writes
+        lenient().doAnswer(inv -> {
+            ((Runnable) inv.getArgument(2)).run();
+            return null;
+        }).when(pointerDenormalizer).schedule(anyString(), anyString(), any(Runnable.class));
+
         eventId = UUID.randomUUID().toString();
         pollId = UUID.randomUUID().toString();
         userId = UUID.randomUUID().toString();
         optionId = UUID.randomUUID().toString();
+
+        // Batch summary lookups answer from the per-user stubs, leaving out users not found
+        lenient().when(userService.getUserSummaries(anyCollection())).thenAnswer(invocation -> {
+            Map<UUID, UserSummaryDTO> summaries = new HashMap<>();
+            for (UUID userId : invocation.<Collection<UUID>>getArgument(0)) {
+                userService.getUserSummary(userId).ifPresent(summary -> summaries.put(userId, summary));
+            }
+            return summaries;
+        });
     }
 
     @Test
@@ -127,26 +146,23 @@ class PollServiceImplTest {
         request.setVoteType("YES");
 
         Hangout hangout = new Hangout();
-        // Hangout ID is handled differently - using eventId as string in tests
-        HangoutDetailData hangoutData = HangoutDetailData.builder().withHangout(hangout).build();
-
         Poll poll = new Poll(eventId, "Test Poll", "Description", false);
-        PollOption option = new PollOption(eventId, pollId, "Option Text");
-        List<BaseItem> pollData = Arrays.asList(poll, option);
 
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(hangoutData);
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
         when(authorizationService.canUserViewHangout(userId, hangout)).thenReturn(true);
-        when(hangoutRepository.getSpecificPollData(eventId, pollId)).thenReturn(pollData);
-        when(hangoutRepository.saveVote(any(Vote.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(hangoutRepository.findPollById(eventId, pollId)).thenReturn(Optional.of(poll));
+        when(hangoutRepository.findUserVotes(eventId, pollId, userId)).thenReturn(List.of());
+        when(hangoutRepository.castVote(any(Vote.class), anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         Vote result = pollService.voteOnPoll(eventId, pollId, request, userId);
 
-        // Then
+        // Then - no partition reads on the vote path
         assertThat(result).isNotNull();
         assertThat(result.getOptionId()).isEqualTo(optionId);
-        verify(hangoutRepository).saveVote(any(Vote.class));
-        verify(hangoutRepository, never()).deleteVote(anyString(), anyString(), anyString(), anyString());
+        verify(hangoutRepository).castVote(any(Vote.class), eq(List.of()));
+        verify(hangoutRepository, never()).getHangoutDetailData(anyString());
+        verify(hangoutRepository, never()).getSpecificPollData(anyString(), anyString());
     }
 
     @Test
@@ -158,25 +174,24 @@ class PollServiceImplTest {
         request.setVoteType("YES");
 
         Hangout hangout = new Hangout();
-        // Hangout ID is handled differently - using eventId as string in tests
-        HangoutDetailData hangoutData = HangoutDetailData.builder().withHangout(hangout).build();
-
         Poll poll = new Poll(eventId, "Test Poll", "Description", false);
         Vote existingVote = new Vote(eventId, pollId, oldOptionId, userId, "YES");
-        List<BaseItem> pollData = Arrays.asList(poll, existingVote);
 
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(hangoutData);
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
         when(authorizationService.canUserViewHangout(userId, hangout)).thenReturn(true);
-        when(hangoutRepository.getSpecificPollData(eventId, pollId)).thenReturn(pollData);
-        when(hangoutRepository.saveVote(any(Vote.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(hangoutRepository.findPollById(eventId, pollId)).thenReturn(Optional.of(poll));
+        when(hangoutRepository.findUserVotes(eventId, pollId, userId)).thenReturn(List.of(existingVote));
+        when(hangoutRepository.castVote(any(Vote.class), anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         Vote result = pollService.voteOnPoll(eventId, pollId, request, userId);
 
-        // Then
+        // Then - old vote is replaced in the same transaction
         assertThat(result).isNotNull();
-        verify(hangoutRepository).deleteVote(eventId, pollId, userId, oldOptionId);
-        verify(hangoutRepository).saveVote(any(Vote.class));
+        ArgumentCaptor<Vote> voteCaptor = ArgumentCaptor.forClass(Vote.class);
+        verify(hangoutRepository).castVote(voteCaptor.capture(), eq(List.of(existingVote)));
+        assertThat(voteCaptor.getValue().getOptionId()).isEqualTo(optionId);
+        verify(hangoutRepository, never()).deleteVote(anyString(), anyString(), anyString(), anyString());
     }
 
     @Test
@@ -187,46 +202,60 @@ class PollServiceImplTest {
         request.setVoteType("YES");
 
         Hangout hangout = new Hangout();
-        // Hangout ID is handled differently - using eventId as string in tests
-        HangoutDetailData hangoutData = HangoutDetailData.builder().withHangout(hangout).build();
-
         Poll poll = new Poll(eventId, "Test Poll", "Description", true);
         String otherOptionId = UUID.randomUUID().toString();
         Vote existingVote = new Vote(eventId, pollId, otherOptionId, userId, "YES");
-        List<BaseItem> pollData = Arrays.asList(poll, existingVote);
 
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(hangoutData);
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
         when(authorizationService.canUserViewHangout(userId, hangout)).thenReturn(true);
-        when(hangoutRepository.getSpecificPollData(eventId, pollId)).thenReturn(pollData);
-        when(hangoutRepository.saveVote(any(Vote.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(hangoutRepository.findPollById(eventId, pollId)).thenReturn(Optional.of(poll));
+        when(hangoutRepository.findUserVotes(eventId, pollId, userId)).thenReturn(List.of(existingVote));
+        when(hangoutRepository.castVote(any(Vote.class), anyList())).thenAnswer(invocation -> invocation.getArgument(0));
 
         // When
         Vote result = pollService.voteOnPoll(eventId, pollId, request, userId);
 
-        // Then
+        // Then - existing vote is kept
         assertThat(result).isNotNull();
-        verify(hangoutRepository, never()).deleteVote(anyString(), anyString(), anyString(), anyString());
-        verify(hangoutRepository).saveVote(any(Vote.class));
+        verify(hangoutRepository).castVote(any(Vote.class), eq(List.of()));
+    }
+
+    @Test
+    void voteOnPoll_WithUnknownPoll_ThrowsIllegalArgumentException() {
+        // Given
+        VoteRequest request = new VoteRequest();
+        request.setOptionId(optionId);
+        request.setVoteType("YES");
+
+        Hangout hangout = new Hangout();
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
+        when(authorizationService.canUserViewHangout(userId, hangout)).thenReturn(true);
+        when(hangoutRepository.findPollById(eventId, pollId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> pollService.voteOnPoll(eventId, pollId, request, userId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Poll not found");
+        verify(hangoutRepository, never()).castVote(any(), any());
     }
 
     @Test
     void getEventPolls_WithValidUser_ReturnsTransformedPolls() {
         // Given
         Hangout hangout = new Hangout();
-        // Hangout ID is handled differently - using eventId as string in tests
-        HangoutDetailData hangoutData = HangoutDetailData.builder().withHangout(hangout).build();
 
         Poll poll = new Poll(eventId, "Test Poll", "Description", false);
         PollOption option1 = new PollOption(eventId, poll.getPollId(), "Option 1");
         PollOption option2 = new PollOption(eventId, poll.getPollId(), "Option 2");
+        option1.setVoteCount(1L);
+        option2.setVoteCount(1L);
         Vote vote1 = new Vote(eventId, poll.getPollId(), option1.getOptionId(), userId, "YES");
-        Vote vote2 = new Vote(eventId, poll.getPollId(), option2.getOptionId(), UUID.randomUUID().toString(), "YES");
 
-        List<BaseItem> pollData = Arrays.asList(poll, option1, option2, vote1, vote2);
-
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(hangoutData);
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
         when(authorizationService.canUserViewHangout(userId, hangout)).thenReturn(true);
-        when(hangoutRepository.getAllPollData(eventId)).thenReturn(pollData);
+        when(hangoutRepository.getPollsAndOptions(eventId)).thenReturn(Arrays.asList(poll, option1, option2));
+        when(hangoutRepository.findUserVotesOnOptions(eventId, userId, List.of(option1, option2)))
+                .thenReturn(List.of(vote1));
 
         // When
         List<PollWithOptionsDTO> result = pollService.getEventPolls(eventId, userId);
@@ -234,7 +263,39 @@ class PollServiceImplTest {
         // Then
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getOptions()).hasSize(2);
+        assertThat(result.get(0).getOptions()).extracting(PollOptionDTO::isUserVoted).containsExactly(true, false);
         assertThat(result.get(0).getTotalVotes()).isEqualTo(2);
+        verify(hangoutRepository, never()).getAllPollData(any());
+        verify(hangoutRepository, never()).getHangoutDetailData(any());
+        verify(hangoutRepository, never()).countVotes(any(), any(), any());
+        verify(hangoutRepository, never()).findUserVotes(any(), any(), any());
+    }
+
+    @Test
+    void getEventPolls_WithSeveralPolls_LooksUpUserVotesOnce() {
+        // Given
+        Hangout hangout = new Hangout();
+
+        Poll first = new Poll(eventId, "First", null, false);
+        Poll second = new Poll(eventId, "Second", null, false);
+        PollOption firstOption = new PollOption(eventId, first.getPollId(), "A");
+        PollOption secondOption = new PollOption(eventId, second.getPollId(), "B");
+        Vote vote = new Vote(eventId, second.getPollId(), secondOption.getOptionId(), userId, "YES");
+
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
+        when(authorizationService.canUserViewHangout(userId, hangout)).thenReturn(true);
+        when(hangoutRepository.getPollsAndOptions(eventId))
+                .thenReturn(Arrays.asList(first, firstOption, second, secondOption));
+        when(hangoutRepository.findUserVotesOnOptions(eq(eventId), eq(userId), any())).thenReturn(List.of(vote));
+
+        // When
+        List<PollWithOptionsDTO> result = pollService.getEventPolls(eventId, userId);
+
+        // Then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getOptions()).extracting(PollOptionDTO::isUserVoted).containsExactly(false);
+        assertThat(result.get(1).getOptions()).extracting(PollOptionDTO::isUserVoted).containsExactly(true);
+        verify(hangoutRepository, times(1)).findUserVotesOnOptions(eq(eventId), eq(userId), any());
     }
 
     @Test
@@ -306,13 +367,45 @@ class PollServiceImplTest {
                 .hasMessage("Poll option not found");
     }
 
+    @Test
+    void getEventPolls_UsesSeededCountersAndCountsUnseededOptionsWithoutWriting() {
+        // Given
+        Hangout hangout = new Hangout();
+
+        Poll poll = new Poll(eventId, "Test Poll", "Description", false);
+        PollOption counted = new PollOption(eventId, poll.getPollId(), "Counted");
+        counted.setVoteCount(5L);
+        PollOption legacy = new PollOption(eventId, poll.getPollId(), "Legacy");
+        legacy.setVoteCount(null);
+        legacy.setCountInitialized(null);
+        Vote legacyVote = new Vote(eventId, poll.getPollId(), legacy.getOptionId(), userId, "YES");
+
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
+        when(authorizationService.canUserViewHangout(userId, hangout)).thenReturn(true);
+        when(hangoutRepository.getPollsAndOptions(eventId)).thenReturn(Arrays.asList(poll, counted, legacy));
+        when(hangoutRepository.countVotes(eventId, poll.getPollId(), Set.of(legacy.getOptionId())))
+                .thenReturn(Map.of(legacy.getOptionId(), 1L));
+        when(hangoutRepository.findUserVotesOnOptions(eventId, userId, List.of(counted, legacy)))
+                .thenReturn(List.of(legacyVote));
+
+        // When
+        List<PollWithOptionsDTO> result = pollService.getEventPolls(eventId, userId);
+
+        // Then
+        List<PollOptionDTO> options = result.get(0).getOptions();
+        assertThat(options).extracting(PollOptionDTO::getVoteCount).containsExactly(5, 1);
+        assertThat(options).extracting(PollOptionDTO::isUserVoted).containsExactly(false, true);
+        assertThat(result.get(0).getTotalVotes()).isEqualTo(6);
+        // The read leaves the legacy option untouched; counters are only seeded by vote writes
+        assertThat(legacy.getVoteCount()).isNull();
+    }
+
     @Test
     void getEventPolls_WhenUserCannotView_ThrowsUnauthorizedException() {
         // Given
         Hangout hangout = new Hangout();
-        HangoutDetailData hangoutData = HangoutDetailData.builder().withHangout(hangout).build();
 
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(hangoutData);
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
         when(authorizationService.canUserViewHangout(userId, hangout)).thenReturn(false);
 
         // When & Then
@@ -371,9 +464,8 @@ class PollServiceImplTest {
         request.setVoteType("YES");
 
         Hangout hangout = new Hangout();
-        HangoutDetailData hangoutData = HangoutDetailData.builder().withHangout(hangout).build();
 
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(hangoutData);
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
         when(authorizationService.canUserViewHangout(userId, hangout)).thenReturn(false);
 
         // When & Then
@@ -385,9 +477,8 @@ class PollServiceImplTest {
     void removeVote_WhenUserCannotView_ThrowsUnauthorizedException() {
         // Given
         Hangout hangout = new Hangout();
-        HangoutDetailData hangoutData = HangoutDetailData.builder().withHangout(hangout).build();
 
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(hangoutData);
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
         when(authorizationService.canUserViewHangout(userId, hangout)).thenReturn(false);
 
         // When & Then
@@ -399,22 +490,17 @@ class PollServiceImplTest {
     void removeVote_WithValidRequest_DeletesVote() {
         // Given
         Hangout hangout = new Hangout();
-        // Hangout ID is handled differently - using eventId as string in tests
-        HangoutDetailData hangoutData = HangoutDetailData.builder().withHangout(hangout).build();
-
-        Poll poll = new Poll(eventId, "Test Poll", "Description", false);
         Vote existingVote = new Vote(eventId, pollId, optionId, userId, "YES");
-        List<BaseItem> pollData = Arrays.asList(poll, existingVote);
 
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(hangoutData);
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
         when(authorizationService.canUserViewHangout(userId, hangout)).thenReturn(true);
-        when(hangoutRepository.getSpecificPollData(eventId, pollId)).thenReturn(pollData);
+        when(hangoutRepository.findUserVotes(eventId, pollId, userId)).thenReturn(List.of(existingVote));
 
         // When
         pollService.removeVote(eventId, pollId, null, userId);
 
         // Then
-        verify(hangoutRepository).deleteVote(eventId, pollId, userId, optionId);
+        verify(hangoutRepository).retractVotes(List.of(existingVote));
     }
 
     // ==================== Pointer Synchronization Tests ====================
@@ -465,8 +551,9 @@ class PollServiceImplTest {
         assertThat(result).isNotNull();
         verify(hangoutRepository).savePoll(any(Poll.class));
         verify(hangoutRepository, times(3)).savePollOption(any(PollOption.class));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId1), eq(eventId), any(), eq("poll data"));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId2), eq(eventId), any(), eq("poll data"));
+        verify(pointerUpdateService).patchPointers(
+            argThat(groups -> groups.size() == 2 && groups.containsAll(List.of(groupId1, groupId2))),
+            eq(eventId), any(), eq("poll data"));
     }
 
     @Test
@@ -496,7 +583,7 @@ class PollServiceImplTest {
         assertThat(result).isNotNull();
         verify(hangoutRepository).savePoll(any(Poll.class));
         verify(hangoutRepository, times(2)).savePollOption(any(PollOption.class));
-        verify(pointerUpdateService, never()).updatePointerWithRetry(anyString(), anyString(), any(), anyString());
+        verify(pointerUpdateService, never()).patchPointers(any(), any(), any(), any());
     }
 
     @Test
@@ -510,25 +597,18 @@ class PollServiceImplTest {
 
         Hangout hangout = new Hangout();
         hangout.setAssociatedGroups(Arrays.asList(groupId));
-        HangoutDetailData hangoutData = HangoutDetailData.builder().withHangout(hangout).build();
 
         Poll poll = new Poll(eventId, "Test Poll", "Description", true);
         PollOption option = new PollOption(eventId, pollId, "Option Text");
         option.setOptionId(optionId);
-        List<BaseItem> specificPollData = Arrays.asList(poll, option);
 
         Vote newVote = new Vote(eventId, pollId, optionId, userId, "YES");
         List<BaseItem> allPollData = Arrays.asList(poll, option, newVote);
 
-        HangoutPointer pointer = HangoutPointerTestBuilder.aPointer()
-            .forGroup(groupId)
-            .forHangout(eventId)
-            .build();
-
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(hangoutData);
         when(authorizationService.canUserViewHangout(userId, hangout)).thenReturn(true);
-        when(hangoutRepository.getSpecificPollData(eventId, pollId)).thenReturn(specificPollData);
-        when(hangoutRepository.saveVote(any(Vote.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(hangoutRepository.findPollById(eventId, pollId)).thenReturn(Optional.of(poll));
+        when(hangoutRepository.findUserVotes(eventId, pollId, userId)).thenReturn(List.of());
+        when(hangoutRepository.castVote(any(Vote.class), anyList())).thenAnswer(invocation -> invocation.getArgument(0));
         when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
         when(hangoutRepository.getAllPollData(eventId)).thenReturn(allPollData);
 
@@ -537,8 +617,8 @@ class PollServiceImplTest {
 
         // Then
         assertThat(result).isNotNull();
-        verify(hangoutRepository).saveVote(any(Vote.class));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId), eq(eventId), any(), eq("poll data"));
+        verify(hangoutRepository).castVote(any(Vote.class), anyList());
+        verify(pointerUpdateService).patchPointers(eq(List.of(groupId)), eq(eventId), any(), eq("poll data"));
     }
 
     @Test
@@ -552,17 +632,13 @@ class PollServiceImplTest {
 
         Hangout hangout = new Hangout();
         hangout.setAssociatedGroups(Arrays.asList(groupId));
-        HangoutDetailData hangoutData = HangoutDetailData.builder().withHangout(hangout).build();
 
         Poll poll = new Poll(eventId, "Test Poll", "Description", true);
-        PollOption option = new PollOption(eventId, pollId, "Option Text");
-        option.setOptionId(optionId);
-        List<BaseItem> pollData = Arrays.asList(poll, option);
 
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(hangoutData);
         when(authorizationService.canUserViewHangout(userId, hangout)).thenReturn(true);
-        when(hangoutRepository.getSpecificPollData(eventId, pollId)).thenReturn(pollData);
-        when(hangoutRepository.saveVote(any(Vote.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(hangoutRepository.findPollById(eventId, pollId)).thenReturn(Optional.of(poll));
+        when(hangoutRepository.findUserVotes(eventId, pollId, userId)).thenReturn(List.of());
+        when(hangoutRepository.castVote(any(Vote.class), anyList())).thenAnswer(invocation -> invocation.getArgument(0));
         when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
 
         // When
@@ -570,8 +646,8 @@ class PollServiceImplTest {
 
         // Then
         assertThat(result).isNotNull();
-        verify(hangoutRepository).saveVote(any(Vote.class));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId), eq(eventId), any(), eq("poll data"));
+        verify(hangoutRepository).castVote(any(Vote.class), anyList());
+        verify(pointerUpdateService).patchPointers(eq(List.of(groupId)), eq(eventId), any(), eq("poll data"));
     }
 
     @Test
@@ -582,27 +658,15 @@ class PollServiceImplTest {
 
         Hangout hangout = new Hangout();
         hangout.setAssociatedGroups(Arrays.asList(groupId1, groupId2));
-        HangoutDetailData hangoutData = HangoutDetailData.builder().withHangout(hangout).build();
 
         Poll poll = new Poll(eventId, "Test Poll", "Description", false);
         Vote existingVote = new Vote(eventId, pollId, optionId, userId, "YES");
-        List<BaseItem> specificPollData = Arrays.asList(poll, existingVote);
 
         // After vote removal
         List<BaseItem> allPollData = Arrays.asList(poll);
 
-        HangoutPointer pointer1 = HangoutPointerTestBuilder.aPointer()
-            .forGroup(groupId1)
-            .forHangout(eventId)
-            .build();
-        HangoutPointer pointer2 = HangoutPointerTestBuilder.aPointer()
-            .forGroup(groupId2)
-            .forHangout(eventId)
-            .build();
-
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(hangoutData);
         when(authorizationService.canUserViewHangout(userId, hangout)).thenReturn(true);
-        when(hangoutRepository.getSpecificPollData(eventId, pollId)).thenReturn(specificPollData);
+        when(hangoutRepository.findUserVotes(eventId, pollId, userId)).thenReturn(List.of(existingVote));
         when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
         when(hangoutRepository.getAllPollData(eventId)).thenReturn(allPollData);
 
@@ -610,9 +674,10 @@ class PollServiceImplTest {
         pollService.removeVote(eventId, pollId, optionId, userId);
 
         // Then
-        verify(hangoutRepository).deleteVote(eventId, pollId, userId, optionId);
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId1), eq(eventId), any(), eq("poll data"));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId2), eq(eventId), any(), eq("poll data"));
+        verify(hangoutRepository).retractVotes(List.of(existingVote));
+        verify(pointerUpdateService).patchPointers(
+            argThat(groups -> groups.size() == 2 && groups.containsAll(List.of(groupId1, groupId2))),
+            eq(eventId), any(), eq("poll data"));
     }
 
     @Test
@@ -622,21 +687,20 @@ class PollServiceImplTest {
 
         Hangout hangout = new Hangout();
         hangout.setAssociatedGroups(Arrays.asList(groupId));
-        HangoutDetailData hangoutData = HangoutDetailData.builder().withHangout(hangout).build();
 
-        Poll poll = new Poll(eventId, "Test Poll", "Description", false);
-        List<BaseItem> pollData = Arrays.asList(poll);
+        // The user only voted for a different option
+        Vote otherVote = new Vote(eventId, pollId, UUID.randomUUID().toString(), userId, "YES");
 
-        when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(hangoutData);
+        when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(hangout));
         when(authorizationService.canUserViewHangout(userId, hangout)).thenReturn(true);
-        when(hangoutRepository.getSpecificPollData(eventId, pollId)).thenReturn(pollData);
+        when(hangoutRepository.findUserVotes(eventId, pollId, userId)).thenReturn(List.of(otherVote));
 
         // When
         pollService.removeVote(eventId, pollId, optionId, userId);
 
         // Then
-        verify(hangoutRepository, never()).deleteVote(anyString(), anyString(), anyString(), anyString());
-        verify(pointerUpdateService, never()).updatePointerWithRetry(anyString(), anyString(), any(), anyString());
+        verify(hangoutRepository, never()).retractVotes(anyList());
+        verify(pointerUpdateService, never()).patchPointers(any(), any(), any(), any());
     }
 
     @Test
@@ -677,9 +741,9 @@ class PollServiceImplTest {
 
         // Then
         verify(hangoutRepository).deletePoll(eventId, pollId);
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId1), eq(eventId), any(), eq("poll data"));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId2), eq(eventId), any(), eq("poll data"));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId3), eq(eventId), any(), eq("poll data"));
+        verify(pointerUpdateService).patchPointers(
+            argThat(groups -> groups.size() == 3 && groups.containsAll(List.of(groupId1, groupId2, groupId3))),
+            eq(eventId), any(), eq("poll data"));
     }
 
     @Test
@@ -718,7 +782,7 @@ class PollServiceImplTest {
         // Then
         assertThat(result).isNotNull();
         verify(hangoutRepository).savePollOption(any(PollOption.class));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId), eq(eventId), any(), eq("poll data"));
+        verify(pointerUpdateService).patchPointers(eq(List.of(groupId)), eq(eventId), any(), eq("poll data"));
     }
 
     @Test
@@ -761,8 +825,9 @@ class PollServiceImplTest {
 
         // Then
         verify(hangoutRepository).deletePollOptionTransaction(eventId, pollId, optionId);
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId1), eq(eventId), any(), eq("poll data"));
-        verify(pointerUpdateService).updatePointerWithRetry(eq(groupId2), eq(eventId), any(), eq("poll data"));
+        verify(pointerUpdateService).patchPointers(
+            argThat(groups -> groups.size() == 2 && groups.containsAll(List.of(groupId1, groupId2))),
+            eq(eventId), any(), eq("poll data"));
     }
 
     // ============================================================================
@@ -814,8 +879,9 @@ class PollServiceImplTest {
             pollService.createPoll(eventId, request, userId);
 
             // Then - verify that PointerUpdateService is called for both groups
-            verify(pointerUpdateService).updatePointerWithRetry(eq(groupId1), eq(eventId), any(), eq("poll data"));
-            verify(pointerUpdateService).updatePointerWithRetry(eq(groupId2), eq(eventId), any(), eq("poll data"));
+            verify(pointerUpdateService).patchPointers(
+                argThat(groups -> groups.size() == 2 && groups.containsAll(List.of(groupId1, groupId2))),
+                eq(eventId), any(), eq("poll data"));
 
             // Note: Retry behavior is now tested in PointerUpdateServiceTest, not here.
         }
@@ -862,8 +928,9 @@ class PollServiceImplTest {
             pollService.createPoll(eventId, request, userId);
 
             // Then - verify that PointerUpdateService is called for both groups
-            verify(pointerUpdateService).updatePointerWithRetry(eq(groupId1), eq(eventId), any(), eq("poll data"));
-            verify(pointerUpdateService).updatePointerWithRetry(eq(groupId2), eq(eventId), any(), eq("poll data"));
+            verify(pointerUpdateService).patchPointers(
+                argThat(groups -> groups.size() == 2 && groups.containsAll(List.of(groupId1, groupId2))),
+                eq(eventId), any(), eq("poll data"));
 
             // Note: Retry behavior with conflicts is now tested in PointerUpdateServiceTest.
         }
@@ -905,7 +972,7 @@ class PollServiceImplTest {
             pollService.createPoll(eventId, request, userId);
 
             // Then - verify that PointerUpdateService is called
-            verify(pointerUpdateService).updatePointerWithRetry(eq(groupId), eq(eventId), any(), eq("poll data"));
+            verify(pointerUpdateService).patchPointers(eq(List.of(groupId)), eq(eventId), any(), eq("poll data"));
 
             // Note: Max retry behavior is now tested in PointerUpdateServiceTest.
         }
@@ -1070,22 +1137,20 @@ class PollServiceImplTest {
             request.setVoteType("YES");
 
             Hangout h = new Hangout();
-            HangoutDetailData hd = HangoutDetailData.builder().withHangout(h).build();
 
             Poll poll = new Poll(eventId, "t", null, true);
             poll.setPollId(pollId);
             Vote existing = new Vote(eventId, pollId, optionId, userId, "YES");
 
-            when(hangoutRepository.getHangoutDetailData(eventId)).thenReturn(hd);
+            when(hangoutRepository.findHangoutById(eventId)).thenReturn(Optional.of(h));
             when(authorizationService.canUserViewHangout(userId, h)).thenReturn(true);
-            when(hangoutRepository.getSpecificPollData(eventId, pollId))
-                .thenReturn(java.util.List.of(poll, existing));
+            when(hangoutRepository.findPollById(eventId, pollId)).thenReturn(Optional.of(poll));
+            when(hangoutRepository.findUserVotes(eventId, pollId, userId)).thenReturn(java.util.List.of(existing));
 
             Vote result = pollService.voteOnPoll(eventId, pollId, request, userId);
 
             assertThat(result).isSameAs(existing);
-            verify(hangoutRepository, never()).saveVote(any());
-            verify(hangoutRepository, never()).deleteVote(any(), any(), any(), any());
+            verify(hangoutRepository, never()).castVote(any(), any());
         }
     }
 
@@ -1124,6 +1189,7 @@ class PollServiceImplTest {
             poll.setPollId(pollId);
             PollOption option = new PollOption(eventId, pollId, "Lasagna");
             option.setOptionId(optionId);
+            option.setVoteCount(1L);
             String voterId = UUID.randomUUID().toString();
             Vote vote = new Vote(eventId, pollId, optionId, voterId, "YES");
 
@@ -17,7 +17,9 @@ import com.bbthechange.inviter.repository.SeasonRepository;
 import com.bbthechange.inviter.service.GroupTimestampService;
 import com.bbthechange.inviter.service.NotificationService;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -64,11 +66,19 @@ class WatchPartyBackgroundServiceImplTest {
     @Mock
     private Counter counter;
 
+    @Mock
+    private Timer timer;
+
+    @Mock
+    private DistributionSummary summary;
+
     private WatchPartyBackgroundServiceImpl service;
 
     @BeforeEach
     void setUp() {
         when(meterRegistry.counter(anyString(), any(String[].class))).thenReturn(counter);
+        lenient().when(meterRegistry.timer(anyString())).thenReturn(timer);
+        lenient().when(meterRegistry.summary(anyString())).thenReturn(summary);
         service = new WatchPartyBackgroundServiceImpl(
                 eventSeriesRepository,
                 hangoutRepository,
@@ -77,7 +87,8 @@ class WatchPartyBackgroundServiceImplTest {
                 groupTimestampService,
                 notificationService,
                 meterRegistry,
-                pointerUpdateService
+                pointerUpdateService,
+                Runnable::run
         );
     }
 
@@ -106,8 +117,7 @@ class WatchPartyBackgroundServiceImplTest {
 
         // Then
         ArgumentCaptor<HangoutPointer> pointerCaptor = ArgumentCaptor.forClass(HangoutPointer.class);
-        verify(hangoutRepository).save(any(Hangout.class));
-        verify(groupRepository).saveHangoutPointer(pointerCaptor.capture());
+        verify(hangoutRepository).createHangoutIfAbsent(any(Hangout.class), pointerCaptor.capture());
         verify(eventSeriesRepository).save(any(EventSeries.class));
         verify(groupTimestampService).updateGroupTimestamps(anyList());
         verify(meterRegistry).counter("watchparty_background_total", "action", "new_episode", "status", "success");
@@ -136,7 +146,7 @@ class WatchPartyBackgroundServiceImplTest {
         service.processNewEpisode(message);
 
         // Then
-        verify(hangoutRepository, never()).save(any(Hangout.class));
+        verify(hangoutRepository, never()).createHangoutIfAbsent(any(Hangout.class), any(HangoutPointer.class));
     }
 
     @Test
@@ -152,7 +162,7 @@ class WatchPartyBackgroundServiceImplTest {
         service.processNewEpisode(message);
 
         // Then
-        verify(hangoutRepository, never()).save(any(Hangout.class));
+        verify(hangoutRepository, never()).createHangoutIfAbsent(any(Hangout.class), any(HangoutPointer.class));
         verify(meterRegistry).counter("watchparty_background_total", "action", "new_episode", "status", "no_series");
     }
 
@@ -191,7 +201,7 @@ class WatchPartyBackgroundServiceImplTest {
 
         // Then - Verify the Hangout created has timeInput populated with ISO-8601 strings
         ArgumentCaptor<Hangout> hangoutCaptor = ArgumentCaptor.forClass(Hangout.class);
-        verify(hangoutRepository).save(hangoutCaptor.capture());
+        verify(hangoutRepository).createHangoutIfAbsent(hangoutCaptor.capture(), any(HangoutPointer.class));
 
         Hangout savedHangout = hangoutCaptor.getValue();
         assertNotNull(savedHangout.getTimeInput(), "Hangout should have timeInput set");
@@ -205,6 +215,77 @@ class WatchPartyBackgroundServiceImplTest {
                 "endTime should be ISO-8601 format");
     }
 
+    @Test
+    void processNewEpisode_WhenEpisodeAlreadyAddedToSeries_SkipsWithoutWriting() {
+        // Given - a redelivered message for a series that was already processed
+        EpisodeData episode = new EpisodeData(456, "Pilot", 1705363200L);
+        NewEpisodeMessage message = new NewEpisodeMessage("TVMAZE#SHOW#123|SEASON#1", episode);
+
+        EventSeries series = new EventSeries("Test Show Season 1", null, "c8c3f5d4-5e8b-4c2a-a9f2-b3c2d1e4f5a6");
+        series.setHangoutIds(new ArrayList<>(List.of(
+                WatchPartyBackgroundServiceImpl.episodeHangoutId(series.getSeriesId(), 456))));
+
+        when(eventSeriesRepository.findAllByExternalIdAndSource("123", "TVMAZE"))
+                .thenReturn(List.of(series));
+
+        // When
+        service.processNewEpisode(message);
+
+        // Then
+        verify(hangoutRepository, never()).createHangoutIfAbsent(any(), any());
+        verify(eventSeriesRepository, never()).save(any(EventSeries.class));
+        verify(groupTimestampService, never()).updateGroupTimestamps(anyList());
+        verify(meterRegistry).counter("watchparty_new_episode_series_total", "status", "skipped");
+    }
+
+    @Test
+    void processNewEpisode_WhenOneSeriesFails_OthersStillCreatedAndFailureCounted() {
+        // Given
+        EpisodeData episode = new EpisodeData(456, "Pilot", 1705363200L);
+        episode.setRuntime(60);
+        NewEpisodeMessage message = new NewEpisodeMessage("TVMAZE#SHOW#123|SEASON#1", episode);
+
+        EventSeries healthy = new EventSeries("Show", null, "c8c3f5d4-5e8b-4c2a-a9f2-b3c2d1e4f5a6");
+        healthy.setHangoutIds(new ArrayList<>());
+        EventSeries broken = new EventSeries("Show", null, "d9d4a6e5-6f9c-4d3b-b0a3-c4d3e2f5a6b7");
+        broken.setHangoutIds(new ArrayList<>());
+
+        when(eventSeriesRepository.findAllByExternalIdAndSource("123", "TVMAZE"))
+                .thenReturn(List.of(healthy, broken));
+        when(hangoutRepository.createHangoutIfAbsent(any(Hangout.class), any(HangoutPointer.class)))
+                .thenAnswer(invocation -> {
+                    Hangout hangout = invocation.getArgument(0);
+                    if (hangout.getSeriesId().equals(broken.getSeriesId())) {
+                        throw new RuntimeException("Throttled");
+                    }
+                    return true;
+                });
+        when(eventSeriesRepository.findById(broken.getSeriesId())).thenReturn(Optional.of(broken));
+
+        // When
+        service.processNewEpisode(message);
+
+        // Then - the broken series is retried, the healthy one is kept
+        verify(hangoutRepository, times(4)).createHangoutIfAbsent(any(Hangout.class), any(HangoutPointer.class));
+        verify(eventSeriesRepository).save(healthy);
+        verify(eventSeriesRepository, never()).save(broken);
+        verify(groupTimestampService).updateGroupTimestamps(List.of("c8c3f5d4-5e8b-4c2a-a9f2-b3c2d1e4f5a6"));
+        verify(meterRegistry).counter("watchparty_new_episode_series_total", "status", "failed");
+        verify(meterRegistry).counter("watchparty_background_total", "action", "new_episode", "status", "partial_failure");
+    }
+
+    @Test
+    void processNewEpisode_HangoutIdIsStablePerSeriesAndEpisode() {
+        // Given
+        String seriesId = "e1e2e3e4-0000-4000-8000-000000000001";
+
+        // When/Then
+        assertEquals(WatchPartyBackgroundServiceImpl.episodeHangoutId(seriesId, 456),
+                WatchPartyBackgroundServiceImpl.episodeHangoutId(seriesId, 456));
+        assertNotEquals(WatchPartyBackgroundServiceImpl.episodeHangoutId(seriesId, 456),
+                WatchPartyBackgroundServiceImpl.episodeHangoutId(seriesId, 457));
+    }
+
     // ============================================================================
     // processUpdateTitle Tests
     // ============================================================================
@@ -516,14 +597,13 @@ class WatchPartyBackgroundServiceImplTest {
 
         // Then - Hangout is saved but timeInput is null (graceful fallback)
         ArgumentCaptor<Hangout> hangoutCaptor = ArgumentCaptor.forClass(Hangout.class);
-        verify(hangoutRepository).save(hangoutCaptor.capture());
+        ArgumentCaptor<HangoutPointer> pointerCaptor = ArgumentCaptor.forClass(HangoutPointer.class);
+        verify(hangoutRepository).createHangoutIfAbsent(hangoutCaptor.capture(), pointerCaptor.capture());
 
         Hangout savedHangout = hangoutCaptor.getValue();
         assertNull(savedHangout.getTimeInput(), "Hangout timeInput should be null when timezone is null");
 
         // Verify HangoutPointer's timeInput is also null
-        ArgumentCaptor<HangoutPointer> pointerCaptor = ArgumentCaptor.forClass(HangoutPointer.class);
-        verify(groupRepository).saveHangoutPointer(pointerCaptor.capture());
 
         HangoutPointer savedPointer = pointerCaptor.getValue();
         assertNull(savedPointer.getTimeInput(), "HangoutPointer timeInput should be null when timezone is null");
@@ -551,10 +631,8 @@ class WatchPartyBackgroundServiceImplTest {
 
         // Then - Verify gsi1sk is a valid numeric string (not "null")
         ArgumentCaptor<Hangout> hangoutCaptor = ArgumentCaptor.forClass(Hangout.class);
-        verify(hangoutRepository).save(hangoutCaptor.capture());
-
         ArgumentCaptor<HangoutPointer> pointerCaptor = ArgumentCaptor.forClass(HangoutPointer.class);
-        verify(groupRepository).saveHangoutPointer(pointerCaptor.capture());
+        verify(hangoutRepository).createHangoutIfAbsent(hangoutCaptor.capture(), pointerCaptor.capture());
 
         Hangout savedHangout = hangoutCaptor.getValue();
         HangoutPointer savedPointer = pointerCaptor.getValue();
@@ -93,6 +93,8 @@ class HangoutDataTransformerTest {
         Vote vote2 = new Vote(hangoutId, pollId, option1Id, user2Id, "YES");
         Vote vote3 = new Vote(hangoutId, pollId, option1Id, user3Id, "YES");
         Vote vote4 = new Vote(hangoutId, pollId, option2Id, user4Id, "YES");
+        option1.setVoteCount(3L);
+        option2.setVoteCount(1L);
 
         List<Poll> polls = List.of(poll);
         List<PollOption> options = List.of(option1, option2);
@@ -147,6 +149,8 @@ class HangoutDataTransformerTest {
         Vote vote1 = new Vote(hangoutId, pollId, option1Id, userId, "YES");
         Vote vote2 = new Vote(hangoutId, pollId, option1Id, UUID.randomUUID().toString(), "YES");
         Vote vote3 = new Vote(hangoutId, pollId, option2Id, UUID.randomUUID().toString(), "YES");
+        option1.setVoteCount(2L);
+        option2.setVoteCount(1L);
 
         List<PollWithOptionsDTO> result = HangoutDataTransformer.transformPollData(
                 List.of(poll), List.of(option1, option2), List.of(vote1, vote2, vote3),
@@ -196,6 +200,9 @@ class HangoutDataTransformerTest {
         Vote vote1 = new Vote(hangoutId, poll1Id, opt1Id, userId, "YES");
         Vote vote2 = new Vote(hangoutId, poll2Id, opt3Id, userId, "YES");
         Vote vote3 = new Vote(hangoutId, poll2Id, opt4Id, userId, "YES");
+        poll1Option1.setVoteCount(1L);
+        poll2Option1.setVoteCount(1L);
+        poll2Option2.setVoteCount(1L);
 
         List<Poll> polls = List.of(poll1, poll2);
         List<PollOption> options = List.of(poll1Option1, poll1Option2, poll2Option1, poll2Option2);
@@ -288,6 +295,36 @@ class HangoutDataTransformerTest {
         assertThat(option2DTO.isUserVoted()).isFalse(); // Requesting user did not vote here
     }
 
+    @Test
+    void transformPollData_WithCounters_PrefersSeededCounterAndCountsVotesForUnseededOptions() {
+        // Given
+        String hangoutId = UUID.randomUUID().toString();
+        String userId = UUID.randomUUID().toString();
+
+        Poll poll = new Poll(hangoutId, "What time?", "Select a time", false);
+        String pollId = poll.getPollId();
+
+        PollOption counted = new PollOption(hangoutId, pollId, "8:00 AM");
+        counted.setVoteCount(7L);
+        // Unseeded counter holding only deltas written since counting began
+        PollOption legacy = new PollOption(hangoutId, pollId, "9:00 AM");
+        legacy.setVoteCount(-1L);
+        legacy.setCountInitialized(null);
+
+        Vote countedVote = new Vote(hangoutId, pollId, counted.getOptionId(), userId, "YES");
+        Vote legacyVote = new Vote(hangoutId, pollId, legacy.getOptionId(), UUID.randomUUID().toString(), "YES");
+
+        // When
+        List<PollWithOptionsDTO> result = HangoutDataTransformer.transformPollData(
+                List.of(poll), List.of(counted, legacy), List.of(countedVote, legacyVote), userId, false);
+
+        // Then
+        PollWithOptionsDTO dto = result.get(0);
+        assertThat(dto.getOptions()).extracting(PollOptionDTO::getVoteCount).containsExactly(7, 1);
+        assertThat(dto.getOptions()).extracting(PollOptionDTO::isUserVoted).containsExactly(true, false);
+        assertThat(dto.getTotalVotes()).isEqualTo(8);
+    }
+
     // ============================================================================
     // transformCarpoolData() tests
     // ============================================================================
@@ -0,0 +1,114 @@
+package com.bbthechange.inviter.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HotPartitionTrackerTest {
+
+    private Clock clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = mock(Clock.class);
+        when(clock.millis()).thenReturn(600_000L);
+    }
+
+    @Test
+    void snapshot_RanksKeysByConsumedCapacity() {
+        // Given
+        HotPartitionTracker tracker = new HotPartitionTracker(clock, 10, 60, 0.5, 0);
+        tracker.record("GROUP#g1", 4.0, 6.0);
+        tracker.record("EVENT#h1", 2.0, 0);
+        tracker.record("GROUP#g1", 0, 10.0);
+
+        // When
+        HotPartitionTracker.Snapshot snapshot = tracker.snapshot(5);
+
+        // Then
+        assertThat(snapshot.readUnits()).isEqualTo(6.0);
+        assertThat(snapshot.writeUnits()).isEqualTo(16.0);
+        assertThat(snapshot.keys()).extracting(HotPartitionTracker.HotKey::partitionKey)
+                .containsExactly("GROUP#g1", "EVENT#h1");
+        assertThat(snapshot.keys().get(0).writeUnits()).isEqualTo(16.0);
+        assertThat(snapshot.keys().get(0).share()).isEqualTo(20.0 / 22.0);
+    }
+
+    @Test
+    void record_BeyondCapacity_KeepsSketchBoundedAndHeavyKeysTracked() {
+        // Given
+        HotPartitionTracker tracker = new HotPartitionTracker(clock, 3, 60, 0.5, 0);
+        tracker.record("GROUP#hot", 100.0, 0);
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            tracker.record("EVENT#h" + i, 1.0, 0);
+        }
+
+        // Then
+        HotPartitionTracker.Snapshot snapshot = tracker.snapshot(10);
+        assertThat(snapshot.keys()).hasSize(3);
+        assertThat(snapshot.keys().get(0).partitionKey()).isEqualTo("GROUP#hot");
+        assertThat(snapshot.keys().get(0).errorUnits()).isZero();
+        assertThat(snapshot.readUnits()).isEqualTo(150.0);
+    }
+
+    @Test
+    void record_FromManyThreadsWithStripedSketch_LosesNoCapacity() throws Exception {
+        // Given - enough capacity for several stripes, recorded concurrently
+        HotPartitionTracker tracker = new HotPartitionTracker(clock, 200, 60, 0.5, 0);
+        tracker.record("GROUP#hot", 100.0, 0);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> writers = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < 8; t++) {
+            writers.add(executor.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    tracker.record("GROUP#hot", 1.0, 0);
+                    tracker.record("EVENT#h" + (i % 500), 0, 1.0);
+                }
+            }));
+        }
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        executor.shutdown();
+
+        // Then
+        HotPartitionTracker.Snapshot snapshot = tracker.snapshot(1);
+        assertThat(snapshot.readUnits()).isEqualTo(8100.0);
+        assertThat(snapshot.writeUnits()).isEqualTo(8000.0);
+        assertThat(snapshot.keys().get(0).partitionKey()).isEqualTo("GROUP#hot");
+        assertThat(snapshot.keys().get(0).readUnits()).isEqualTo(8100.0);
+        assertThat(snapshot.keys().get(0).errorUnits()).isZero();
+    }
+
+    @Test
+    void snapshot_DropsCapacityOlderThanWindow() {
+        // Given
+        HotPartitionTracker tracker = new HotPartitionTracker(clock, 10, 60, 0.5, 0);
+        tracker.record("GROUP#g1", 5.0, 0);
+
+        // When
+        when(clock.millis()).thenReturn(600_000L + 61_000L);
+        tracker.record("GROUP#g2", 1.0, 0);
+
+        // Then
+        HotPartitionTracker.Snapshot snapshot = tracker.snapshot(10);
+        assertThat(snapshot.windowSeconds()).isEqualTo(60);
+        assertThat(snapshot.keys()).extracting(HotPartitionTracker.HotKey::partitionKey)
+                .containsExactly("GROUP#g2");
+        assertThat(snapshot.readUnits()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,229 @@
+package com.bbthechange.inviter.util;
+
+import com.bbthechange.inviter.model.Group;
+import com.bbthechange.inviter.model.Hangout;
+import com.bbthechange.inviter.model.HangoutPointer;
+import com.bbthechange.inviter.model.InterestLevel;
+import com.bbthechange.inviter.model.PollOption;
+import com.bbthechange.inviter.model.SeriesPointer;
+import com.bbthechange.inviter.model.Vote;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks each hand-wired schema against the bean schema it replaces, on items with every
+ * property populated (nested documents included), so a property added to an entity but not
+ * to {@link InviterTableSchemas} fails here.
+ */
+class InviterTableSchemasTest {
+
+    private static final int MAX_DEPTH = 3;
+
+    @ParameterizedTest
+    @ValueSource(classes = {Vote.class, InterestLevel.class, PollOption.class, Hangout.class,
+            HangoutPointer.class, SeriesPointer.class})
+    void forClass_WithHotEntityType_ShouldReturnStaticSchema(Class<?> type) {
+        // When/Then
+        assertThat(InviterTableSchemas.forClass(type)).isInstanceOf(StaticTableSchema.class);
+    }
+
+    @Test
+    void forClass_WithOtherType_ShouldReuseOneBeanSchema() {
+        // When
+        TableSchema<?> first = InviterTableSchemas.forClass(Group.class);
+        TableSchema<?> second = InviterTableSchemas.forClass(Group.class);
+
+        // Then
+        assertThat(first).isNotInstanceOf(StaticTableSchema.class).isSameAs(second);
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {Vote.class, InterestLevel.class, PollOption.class, Hangout.class,
+            HangoutPointer.class, SeriesPointer.class})
+    void staticSchema_ShouldDeclareBeanAttributesInBeanOrder(Class<?> type) {
+        // Given
+        TableSchema<?> bean = TableSchema.fromBean(type);
+
+        // When
+        TableSchema<?> fast = InviterTableSchemas.forClass(type);
+
+        // Then - order matters: setters that touch() overwrite updatedAt if applied after it
+        assertThat(fast.attributeNames()).containsExactlyElementsOf(bean.attributeNames());
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {Vote.class, InterestLevel.class, PollOption.class, Hangout.class,
+            HangoutPointer.class, SeriesPointer.class})
+    void staticSchema_ShouldDeclareBeanKeysIndexesAndVersion(Class<?> type) {
+        // Given
+        TableMetadata bean = TableSchema.fromBean(type).tableMetadata();
+
+        // When
+        TableMetadata fast = InviterTableSchemas.forClass(type).tableMetadata();
+
+        // Then
+        assertThat(fast.primaryPartitionKey()).isEqualTo(bean.primaryPartitionKey());
+        assertThat(fast.primarySortKey()).isEqualTo(bean.primarySortKey());
+        assertThat(indexes(fast)).isEqualTo(indexes(bean));
+        assertThat(fast.customMetadata()).isEqualTo(bean.customMetadata());
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {Vote.class, InterestLevel.class, PollOption.class, Hangout.class,
+            HangoutPointer.class, SeriesPointer.class})
+    void itemToMap_ShouldMatchBeanSchema(Class<?> type) throws Exception {
+        assertItemToMapMatches(type);
+    }
+
+    @ParameterizedTest
+    @ValueSource(classes = {Vote.class, InterestLevel.class, PollOption.class, Hangout.class,
+            HangoutPointer.class, SeriesPointer.class})
+    void mapToItem_ShouldMatchBeanSchema(Class<?> type) throws Exception {
+        assertMapToItemMatches(type);
+    }
+
+    private static <T> void assertItemToMapMatches(Class<T> type) throws Exception {
+        // Given
+        TableSchema<T> bean = TableSchema.fromBean(type);
+        T item = populated(type, 0);
+
+        // When
+        TableSchema<T> fast = InviterTableSchemas.forClass(type);
+
+        // Then
+        assertThat(fast.itemToMap(item, false)).isEqualTo(bean.itemToMap(item, false));
+        assertThat(fast.itemToMap(item, true)).isEqualTo(bean.itemToMap(item, true));
+    }
+
+    private static <T> void assertMapToItemMatches(Class<T> type) throws Exception {
+        // Given
+        TableSchema<T> bean = TableSchema.fromBean(type);
+        Map<String, AttributeValue> stored = bean.itemToMap(populated(type, 0), true);
+
+        // When
+        T viaStatic = InviterTableSchemas.forClass(type).mapToItem(stored);
+        T viaBean = bean.mapToItem(stored);
+
+        // Then - setters stamp updatedAt with the time of the read under both schemas
+        assertThat(withoutUpdatedAt(bean.itemToMap(viaStatic, true)))
+                .isEqualTo(withoutUpdatedAt(bean.itemToMap(viaBean, true)));
+    }
+
+    private static Set<String> indexes(TableMetadata metadata) {
+        return metadata.indices().stream()
+                .map(index -> index.name()
+                        + ":" + index.partitionKey().map(key -> key.name()).orElse("")
+                        + ":" + index.sortKey().map(key -> key.name()).orElse(""))
+                .collect(Collectors.toSet());
+    }
+
+    private static Map<String, AttributeValue> withoutUpdatedAt(Map<String, AttributeValue> item) {
+        Map<String, AttributeValue> copy = new HashMap<>();
+        item.forEach((name, value) -> {
+            if (!"updatedAt".equals(name)) {
+                copy.put(name, withoutUpdatedAt(value));
+            }
+        });
+        return copy;
+    }
+
+    private static AttributeValue withoutUpdatedAt(AttributeValue value) {
+        if (value.hasM()) {
+            return AttributeValue.builder().m(withoutUpdatedAt(value.m())).build();
+        }
+        if (value.hasL()) {
+            return AttributeValue.builder()
+                    .l(value.l().stream().map(InviterTableSchemasTest::withoutUpdatedAt).toList())
+                    .build();
+        }
+        return value;
+    }
+
+    /**
+     * An instance with every bean property set to a distinct non-null value.
+     */
+    private static <T> T populated(Class<T> type, int depth) throws Exception {
+        T item = type.getDeclaredConstructor().newInstance();
+        for (Method setter : type.getMethods()) {
+            if (!setter.getName().startsWith("set") || setter.getParameterCount() != 1
+                    || Modifier.isStatic(setter.getModifiers()) || !hasGetter(type, setter.getName().substring(3))) {
+                continue;
+            }
+            Object value = sample(setter.getGenericParameterTypes()[0], setter.getName().substring(3), depth);
+            if (value != null) {
+                setter.invoke(item, value);
+            }
+        }
+        return item;
+    }
+
+    private static boolean hasGetter(Class<?> type, String property) {
+        for (Method method : type.getMethods()) {
+            if (method.getParameterCount() == 0
+                    && (method.getName().equals("get" + property) || method.getName().equals("is" + property))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object sample(Type type, String property, int depth) throws Exception {
+        if (type instanceof ParameterizedType parameterized && parameterized.getRawType() == List.class) {
+            Type element = parameterized.getActualTypeArguments()[0];
+            Object first = sample(element, property + "1", depth);
+            Object second = sample(element, property + "2", depth);
+            if (first == null || second == null) {
+                return null;
+            }
+            List<Object> list = new ArrayList<>();
+            list.add(first);
+            list.add(second);
+            return list;
+        }
+        if (!(type instanceof Class<?> cls)) {
+            return null;
+        }
+        if (cls == String.class) {
+            return property + "-value";
+        } else if (cls == Long.class || cls == long.class) {
+            return 1_700_000_000_000L + property.length();
+        } else if (cls == Integer.class || cls == int.class) {
+            return property.length();
+        } else if (cls == Boolean.class || cls == boolean.class) {
+            return true;
+        } else if (cls == BigDecimal.class) {
+            return new BigDecimal("12.50");
+        } else if (cls == Instant.class) {
+            return Instant.ofEpochMilli(1_700_000_000_000L + property.length());
+        } else if (cls == LocalDateTime.class) {
+            return LocalDateTime.of(2026, 3, 14, 19, property.length() % 60);
+        } else if (cls.isEnum()) {
+            return cls.getEnumConstants()[property.length() % cls.getEnumConstants().length];
+        } else if (cls.isAnnotationPresent(DynamoDbBean.class) && depth < MAX_DEPTH) {
+            return populated(cls, depth + 1);
+        }
+        return null;
+    }
+}
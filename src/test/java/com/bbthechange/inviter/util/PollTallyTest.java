@@ -0,0 +1,78 @@
+package com.bbthechange.inviter.util;
+
+import com.bbthechange.inviter.model.Vote;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PollTallyTest {
+
+    private static final String EVENT_ID = "00000000-0000-0000-0000-0000000000aa";
+    private static final String USER_ID = "11111111-1111-1111-1111-111111111111";
+    private static final String OTHER_USER_ID = "22222222-2222-2222-2222-222222222222";
+    private static final String POLL_1 = "33333333-3333-3333-3333-333333333331";
+    private static final String POLL_2 = "33333333-3333-3333-3333-333333333332";
+    private static final String OPTION_1 = "44444444-4444-4444-4444-444444444441";
+    private static final String OPTION_2 = "44444444-4444-4444-4444-444444444442";
+    private static final String MISSING = "55555555-5555-5555-5555-555555555555";
+
+    @Test
+    void of_WithVotesAcrossPolls_ShouldCountPerPollAndOption() {
+        // Given - option IDs repeat across polls but must be tallied separately
+        List<Vote> votes = List.of(
+                vote(POLL_1, OPTION_1, USER_ID),
+                vote(POLL_1, OPTION_1, OTHER_USER_ID),
+                vote(POLL_1, OPTION_2, OTHER_USER_ID),
+                vote(POLL_2, OPTION_1, OTHER_USER_ID));
+
+        // When
+        PollTally tally = PollTally.of(votes, USER_ID, false);
+
+        // Then
+        assertThat(tally.totalVotes(POLL_1)).isEqualTo(3);
+        assertThat(tally.totalVotes(POLL_2)).isEqualTo(1);
+        assertThat(tally.voteCount(POLL_1, OPTION_1)).isEqualTo(2);
+        assertThat(tally.voteCount(POLL_1, OPTION_2)).isEqualTo(1);
+        assertThat(tally.voteCount(POLL_2, OPTION_1)).isEqualTo(1);
+        assertThat(tally.userVoted(POLL_1, OPTION_1)).isTrue();
+        assertThat(tally.userVoted(POLL_1, OPTION_2)).isFalse();
+        assertThat(tally.userVoted(POLL_2, OPTION_1)).isFalse();
+    }
+
+    @Test
+    void votes_WhenKept_ShouldReturnOptionVotesInOrder() {
+        // Given
+        Vote first = vote(POLL_1, OPTION_1, OTHER_USER_ID);
+        Vote other = vote(POLL_1, OPTION_2, USER_ID);
+        Vote second = vote(POLL_1, OPTION_1, USER_ID);
+
+        // When
+        PollTally kept = PollTally.of(List.of(first, other, second), USER_ID, true);
+        PollTally countsOnly = PollTally.of(List.of(first, other, second), USER_ID, false);
+
+        // Then
+        assertThat(kept.votes(POLL_1, OPTION_1)).containsExactly(first, second);
+        assertThat(countsOnly.votes(POLL_1, OPTION_1)).isEmpty();
+        assertThat(countsOnly.voteCount(POLL_1, OPTION_1)).isEqualTo(2);
+    }
+
+    @Test
+    void of_WithNoVotesOrUnknownIds_ShouldReturnZeroes() {
+        // Given
+        PollTally tally = PollTally.of(List.of(vote(POLL_1, OPTION_1, USER_ID)), null, true);
+
+        // When/Then
+        assertThat(tally.userVoted(POLL_1, OPTION_1)).isFalse();
+        assertThat(tally.voteCount(POLL_1, MISSING)).isZero();
+        assertThat(tally.totalVotes(MISSING)).isZero();
+        assertThat(tally.votes(MISSING, OPTION_1)).isEmpty();
+        assertThat(PollTally.of(List.of(), USER_ID, true)).isSameAs(PollTally.empty());
+        assertThat(PollTally.of(null, USER_ID, true).totalVotes(POLL_1)).isZero();
+    }
+
+    private static Vote vote(String pollId, String optionId, String userId) {
+        return new Vote(EVENT_ID, pollId, optionId, userId, "YES");
+    }
+}
@@ -0,0 +1,112 @@
+package com.bbthechange.inviter.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestReadCacheTest {
+
+    private static final String PK = "EVENT#hangout-1";
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        RequestReadCache.end();
+    }
+
+    private String load() {
+        return "value-" + loads.incrementAndGet();
+    }
+
+    @Test
+    void getOrLoad_WithoutScope_AlwaysLoads() {
+        // When
+        String first = RequestReadCache.getOrLoad("op", PK, this::load);
+        String second = RequestReadCache.getOrLoad("op", PK, this::load);
+
+        // Then
+        assertThat(first).isEqualTo("value-1");
+        assertThat(second).isEqualTo("value-2");
+        assertThat(RequestReadCache.readsSaved()).isZero();
+    }
+
+    @Test
+    void getOrLoad_WithinScope_ReusesFirstReadAndCountsSavedCalls() {
+        // Given
+        RequestReadCache.begin();
+
+        // When
+        String first = RequestReadCache.getOrLoad("op", PK, this::load);
+        String second = RequestReadCache.getOrLoad("op", PK, this::load);
+        String third = RequestReadCache.getOrLoad("op", PK, this::load);
+
+        // Then
+        assertThat(first).isEqualTo("value-1");
+        assertThat(second).isSameAs(first);
+        assertThat(third).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        assertThat(RequestReadCache.end()).isEqualTo(2);
+    }
+
+    @Test
+    void getOrLoad_DifferentOperationOrPartition_LoadsSeparately() {
+        // Given
+        RequestReadCache.begin();
+
+        // When
+        RequestReadCache.getOrLoad("op", PK, this::load);
+        RequestReadCache.getOrLoad("other-op", PK, this::load);
+        RequestReadCache.getOrLoad("op", "EVENT#hangout-2", this::load);
+
+        // Then
+        assertThat(loads).hasValue(3);
+        assertThat(RequestReadCache.readsSaved()).isZero();
+    }
+
+    @Test
+    void invalidatePartition_ForcesReload() {
+        // Given
+        RequestReadCache.begin();
+        RequestReadCache.getOrLoad("op", PK, this::load);
+
+        // When
+        RequestReadCache.invalidatePartition(PK);
+        String reloaded = RequestReadCache.getOrLoad("op", PK, this::load);
+
+        // Then
+        assertThat(reloaded).isEqualTo("value-2");
+        assertThat(RequestReadCache.readsSaved()).isZero();
+    }
+
+    @Test
+    void getOrLoad_WhenLoaderFails_DoesNotCacheFailure() {
+        // Given
+        RequestReadCache.begin();
+
+        // When / Then
+        assertThatThrownBy(() -> RequestReadCache.getOrLoad("op", PK, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(RequestReadCache.<String>getOrLoad("op", PK, this::load)).isEqualTo("value-1");
+    }
+
+    @Test
+    void begin_WhenScopeAlreadyOpen_KeepsOuterScope() {
+        // Given
+        assertThat(RequestReadCache.begin()).isTrue();
+        RequestReadCache.getOrLoad("op", PK, this::load);
+
+        // When
+        boolean nested = RequestReadCache.begin();
+        RequestReadCache.getOrLoad("op", PK, this::load);
+
+        // Then
+        assertThat(nested).isFalse();
+        assertThat(loads).hasValue(1);
+    }
+}
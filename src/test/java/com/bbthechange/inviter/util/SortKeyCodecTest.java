@@ -0,0 +1,73 @@
+package com.bbthechange.inviter.util;
+
+import com.bbthechange.inviter.util.SortKeyCodec.Type;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SortKeyCodecTest {
+
+    private static final String POLL_ID = "11111111-1111-1111-1111-111111111111";
+    private static final String USER_ID = "22222222-2222-2222-2222-222222222222";
+    private static final String OPTION_ID = "33333333-3333-3333-3333-333333333333";
+
+    @Test
+    void decode_WithEachKeyLayout_ShouldClassifyByStructure() {
+        // When/Then
+        assertThat(SortKeyCodec.typeOf("METADATA")).isEqualTo(Type.METADATA);
+        assertThat(SortKeyCodec.typeOf(InviterKeyFactory.getPollSk(POLL_ID))).isEqualTo(Type.POLL);
+        assertThat(SortKeyCodec.typeOf(InviterKeyFactory.getPollOptionSk(POLL_ID, OPTION_ID))).isEqualTo(Type.POLL_OPTION);
+        assertThat(SortKeyCodec.typeOf(InviterKeyFactory.getVoteSk(POLL_ID, USER_ID, OPTION_ID))).isEqualTo(Type.VOTE);
+        assertThat(SortKeyCodec.typeOf(InviterKeyFactory.getCarSk(USER_ID))).isEqualTo(Type.CAR);
+        assertThat(SortKeyCodec.typeOf(InviterKeyFactory.getCarRiderSk(USER_ID, POLL_ID))).isEqualTo(Type.CAR_RIDER);
+        assertThat(SortKeyCodec.typeOf(InviterKeyFactory.getNeedsRideSk(USER_ID))).isEqualTo(Type.NEEDS_RIDE);
+        assertThat(SortKeyCodec.typeOf(InviterKeyFactory.getAttendanceSk(USER_ID))).isEqualTo(Type.ATTENDANCE);
+        assertThat(SortKeyCodec.typeOf(InviterKeyFactory.getInviteSk(USER_ID))).isEqualTo(Type.INVITE);
+        assertThat(SortKeyCodec.typeOf(InviterKeyFactory.getHangoutSk(USER_ID))).isEqualTo(Type.HANGOUT_POINTER);
+        assertThat(SortKeyCodec.typeOf(InviterKeyFactory.getSeriesSk(USER_ID))).isEqualTo(Type.SERIES_POINTER);
+        assertThat(SortKeyCodec.typeOf(InviterKeyFactory.getAttributeSk(USER_ID))).isEqualTo(Type.ATTRIBUTE);
+        assertThat(SortKeyCodec.typeOf(InviterKeyFactory.getUserSk(USER_ID))).isEqualTo(Type.GROUP_MEMBERSHIP);
+        assertThat(SortKeyCodec.typeOf(InviterKeyFactory.getIdeaListSk(POLL_ID))).isEqualTo(Type.IDEA_LIST);
+        assertThat(SortKeyCodec.typeOf(InviterKeyFactory.getIdeaListMemberSk(POLL_ID, USER_ID))).isEqualTo(Type.IDEA_LIST_MEMBER);
+        assertThat(SortKeyCodec.typeOf(InviterKeyFactory.getPlaceSk(USER_ID))).isEqualTo(Type.PLACE);
+        assertThat(SortKeyCodec.typeOf(InviterKeyFactory.getParticipationSk(USER_ID))).isEqualTo(Type.PARTICIPATION);
+        assertThat(SortKeyCodec.typeOf(InviterKeyFactory.getReservationOfferSk(USER_ID))).isEqualTo(Type.RESERVATION_OFFER);
+        assertThat(SortKeyCodec.typeOf(InviterKeyFactory.getSeasonSk(3))).isEqualTo(Type.SEASON);
+    }
+
+    @Test
+    void decode_WithVoteKey_ShouldLocateAllThreeIds() {
+        // Given
+        String sk = InviterKeyFactory.getVoteSk(POLL_ID, USER_ID, OPTION_ID);
+
+        // When
+        long descriptor = SortKeyCodec.decode(sk);
+
+        // Then
+        assertThat(SortKeyCodec.id(sk, descriptor, 0)).isEqualTo(POLL_ID);
+        assertThat(SortKeyCodec.id(sk, descriptor, 1)).isEqualTo(USER_ID);
+        assertThat(SortKeyCodec.id(sk, descriptor, 2)).isEqualTo(OPTION_ID);
+        assertThat(SortKeyCodec.idOffset(SortKeyCodec.decode(InviterKeyFactory.getPollSk(POLL_ID)), 1)).isEqualTo(-1);
+    }
+
+    @Test
+    void decode_WithUnrecognisedKeys_ShouldReturnUnknown() {
+        // When/Then
+        assertThat(SortKeyCodec.typeOf(null)).isEqualTo(Type.UNKNOWN);
+        assertThat(SortKeyCodec.typeOf("")).isEqualTo(Type.UNKNOWN);
+        assertThat(SortKeyCodec.typeOf("NOTIFICATION_TRACKER")).isEqualTo(Type.UNKNOWN);
+        assertThat(SortKeyCodec.typeOf("SOME_ATTRIBUTE#abc")).isEqualTo(Type.UNKNOWN);
+        assertThat(SortKeyCodec.typeOf("POLL#abc#COMMENT#def")).isEqualTo(Type.UNKNOWN);
+        assertThat(SortKeyCodec.typeOf("CAR#abc#IDEA#def")).isEqualTo(Type.UNKNOWN);
+    }
+
+    @Test
+    void isUuid_ShouldMatchPreviousRegexRules() {
+        // When/Then
+        assertThat(InviterKeyFactory.isUuid(POLL_ID)).isTrue();
+        assertThat(InviterKeyFactory.isUuid("ABCDEF12-3456-7890-abcd-ef1234567890")).isTrue();
+        assertThat(InviterKeyFactory.isUuid("12345678-1234-1234-1234-12345678901z")).isFalse();
+        assertThat(InviterKeyFactory.isUuid("123456781234-1234-1234-123456789012-")).isFalse();
+        assertThat(InviterKeyFactory.isUuid("12345678-1234-1234-1234-1234567890")).isFalse();
+    }
+}